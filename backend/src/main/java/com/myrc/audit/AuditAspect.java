@@ -6,15 +6,20 @@
 package com.myrc.audit;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.myrc.cache.NameCache;
 import com.myrc.dto.ErrorResponse;
 import com.myrc.model.AuditEvent;
-import com.myrc.repository.FiscalYearRepository;
-import com.myrc.repository.ResponsibilityCentreRepository;
 import com.myrc.service.AuditService;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -30,9 +35,9 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.security.Principal;
 
 /**
  * AOP aspect that intercepts methods annotated with {@link Audited}
@@ -48,6 +53,12 @@ import java.security.Principal;
  *   <li>Updates the audit event outcome to SUCCESS or FAILURE</li>
  * </ol>
  *
+ * <p>Parameter metadata (which argument is the RC ID, the FY ID, the request
+ * body, ...) is computed once per controller method and cached, as are the
+ * reflective name/ID accessors per DTO class. RC and FY names come from the
+ * shared {@link NameCache}, so a typical audited call does no extra queries
+ * besides the audit insert/update.</p>
+ *
  * @author myRC Team
  * @version 1.0.0
  * @since 2026-02-10
@@ -58,19 +69,29 @@ public class AuditAspect {
 
   private static final Logger logger = LoggerFactory.getLogger(AuditAspect.class);
 
+  /** Maximum length of the serialized parameters column. */
+  private static final int MAX_PARAMETERS_LENGTH = 10000;
+
   private final AuditService auditService;
-  private final ResponsibilityCentreRepository rcRepository;
-  private final FiscalYearRepository fiscalYearRepository;
-  private final ObjectMapper objectMapper;
+  private final NameCache nameCache;
+  private final ObjectWriter parametersWriter;
+
+  /** Per-method parameter roles, computed on first invocation. */
+  private final Map<Method, ParameterMeta[]> parameterMetadata = new ConcurrentHashMap<>();
+
+  /** Per-class accessors used to derive an entity name from a DTO. */
+  private final Map<Class<?>, List<Function<Object, Object>>> nameAccessors =
+      new ConcurrentHashMap<>();
+
+  /** Per-class getId() accessor, empty when the class has none. */
+  private final Map<Class<?>, Optional<Method>> idAccessors = new ConcurrentHashMap<>();
 
-  public AuditAspect(AuditService auditService,
-      ResponsibilityCentreRepository rcRepository,
-      FiscalYearRepository fiscalYearRepository) {
+  public AuditAspect(AuditService auditService, NameCache nameCache,
+      ObjectMapper objectMapper) {
     this.auditService = auditService;
-    this.rcRepository = rcRepository;
-    this.fiscalYearRepository = fiscalYearRepository;
-    this.objectMapper = new ObjectMapper();
-    this.objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    this.nameCache = nameCache;
+    this.parametersWriter = objectMapper.writer()
+        .without(SerializationFeature.FAIL_ON_EMPTY_BEANS);
   }
 
   /**
@@ -90,100 +111,68 @@ public class AuditAspect {
 
     // Extract path variables and parameters from method arguments
     MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-    Parameter[] parameters = signature.getMethod().getParameters();
+    ParameterMeta[] parameters = parameterMetadata.computeIfAbsent(
+        signature.getMethod(), AuditAspect::describeParameters);
     Object[] args = joinPoint.getArgs();
 
     Long rcId = null;
     Long fiscalYearId = null;
     Long entityId = null;
     String entityName = null;
-    String rcName = null;
-    String fyName = null;
     Map<String, Object> paramMap = new LinkedHashMap<>();
 
     for (int i = 0; i < parameters.length; i++) {
       Object arg = args[i];
       if (arg == null) continue;
 
-      String paramName = parameters[i].getName();
-
-      // Extract path variables
-      PathVariable pathVar = parameters[i].getAnnotation(PathVariable.class);
-      if (pathVar != null) {
-        String varName = pathVar.value().isEmpty() ? paramName : pathVar.value();
-        if ("rcId".equals(varName) && arg instanceof Long) {
-          rcId = (Long) arg;
-        } else if (("fyId".equals(varName) || "fiscalYearId".equals(varName)) && arg instanceof Long) {
-          fiscalYearId = (Long) arg;
-        } else if ("id".equals(varName) && arg instanceof Long) {
-          entityId = (Long) arg;
+      ParameterMeta meta = parameters[i];
+      switch (meta.kind()) {
+        case PATH_VARIABLE -> {
+          if (arg instanceof Long value) {
+            switch (meta.role()) {
+              case RC_ID -> rcId = value;
+              case FISCAL_YEAR_ID -> fiscalYearId = value;
+              case ENTITY_ID -> entityId = value;
+              default -> { }
+            }
+          }
+          paramMap.put(meta.name(), arg);
         }
-        paramMap.put(varName, arg);
-        continue;
-      }
-
-      // Extract request body — serialize to JSON, excluding file content
-      RequestBody bodyAnn = parameters[i].getAnnotation(RequestBody.class);
-      if (bodyAnn != null) {
-        try {
+        case REQUEST_BODY -> {
+          // Serialized to JSON below; try to extract entity name from the body
           paramMap.put("requestBody", arg);
-          // Try to extract entity name from the body
           entityName = extractEntityName(arg);
-        } catch (Exception e) {
-          paramMap.put("requestBody", arg.toString());
         }
-        continue;
-      }
-
-      // Handle MultipartFile — record filename only, not content
-      if (arg instanceof MultipartFile file) {
-        paramMap.put(paramName, Map.of(
-            "fileName", file.getOriginalFilename() != null ? file.getOriginalFilename() : "unknown",
-            "contentType", file.getContentType() != null ? file.getContentType() : "unknown",
-            "size", file.getSize()
-        ));
-        if (entityName == null) {
-          entityName = file.getOriginalFilename();
+        case OTHER -> {
+          // Handle MultipartFile — record filename only, not content
+          if (arg instanceof MultipartFile file) {
+            paramMap.put(meta.name(), Map.of(
+                "fileName", file.getOriginalFilename() != null ? file.getOriginalFilename() : "unknown",
+                "contentType", file.getContentType() != null ? file.getContentType() : "unknown",
+                "size", file.getSize()
+            ));
+            if (entityName == null) {
+              entityName = file.getOriginalFilename();
+            }
+          }
+          // Authentication/Principal and other arguments are not recorded
         }
-        continue;
-      }
-
-      // Skip Authentication/Principal objects
-      if (arg instanceof Principal || arg instanceof org.springframework.security.core.Authentication) {
-        continue;
+        default -> { }
       }
     }
 
-    // Resolve RC name from ID
-    if (rcId != null) {
-      try {
-        rcName = rcRepository.findById(rcId)
-            .map(rc -> rc.getName())
-            .orElse(null);
-      } catch (Exception e) {
-        logger.debug("Could not resolve RC name for rcId {}: {}", rcId, e.getMessage());
-      }
-    }
-
-    // Resolve fiscal year name from ID
-    if (fiscalYearId != null) {
-      try {
-        fyName = fiscalYearRepository.findById(fiscalYearId)
-            .map(fy -> fy.getName())
-            .orElse(null);
-      } catch (Exception e) {
-        logger.debug("Could not resolve FY name for fiscalYearId {}: {}", fiscalYearId, e.getMessage());
-      }
-    }
+    // Resolve RC and fiscal year names from the shared cache
+    String rcName = nameCache.getRcName(rcId);
+    String fyName = nameCache.getFiscalYearName(fiscalYearId);
 
     // Serialize parameters to JSON
     String parametersJson = null;
     try {
       if (!paramMap.isEmpty()) {
-        parametersJson = objectMapper.writeValueAsString(paramMap);
+        parametersJson = parametersWriter.writeValueAsString(paramMap);
         // Truncate if too long
-        if (parametersJson.length() > 10000) {
-          parametersJson = parametersJson.substring(0, 10000) + "...(truncated)";
+        if (parametersJson.length() > MAX_PARAMETERS_LENGTH) {
+          parametersJson = parametersJson.substring(0, MAX_PARAMETERS_LENGTH) + "...(truncated)";
         }
       }
     } catch (Exception e) {
@@ -284,43 +273,20 @@ public class AuditAspect {
   }
 
   /**
-   * Try to extract a name field from a request body object via reflection.
-   * Tries getName(), then getDescription(), then the raw name field.
+   * Try to extract a name from a request body object via reflection.
+   * Tries getName(), then getDescription(), then getCode(), then the raw name field.
+   * The accessors available on each class are resolved once and cached.
    */
   private String extractEntityName(Object body) {
     if (body == null) return null;
-    // Try getName() method first
-    try {
-      var method = body.getClass().getMethod("getName");
-      Object name = method.invoke(body);
-      if (name != null) return name.toString();
-    } catch (Exception ignored) {
-      // Method not found, continue to next attempt
-    }
-    // Try getDescription() method (e.g., ProcurementItem)
-    try {
-      var method = body.getClass().getMethod("getDescription");
-      Object desc = method.invoke(body);
-      if (desc != null) return desc.toString();
-    } catch (Exception ignored) {
-      // Method not found, continue to next attempt
-    }
-    // Try getCode() method (e.g., Money/FundingType)
-    try {
-      var method = body.getClass().getMethod("getCode");
-      Object code = method.invoke(body);
-      if (code != null) return code.toString();
-    } catch (Exception ignored) {
-      // Method not found, continue to next attempt
-    }
-    // Try name field directly
-    try {
-      var field = body.getClass().getDeclaredField("name");
-      field.setAccessible(true);
-      Object name = field.get(body);
-      if (name != null) return name.toString();
-    } catch (Exception ignored) {
-      // Field not found
+    for (Function<Object, Object> accessor
+        : nameAccessors.computeIfAbsent(body.getClass(), AuditAspect::resolveNameAccessors)) {
+      try {
+        Object name = accessor.apply(body);
+        if (name != null) return name.toString();
+      } catch (Exception ignored) {
+        // Accessor failed, continue to next attempt
+      }
     }
     return null;
   }
@@ -333,16 +299,21 @@ public class AuditAspect {
     if (result instanceof ResponseEntity<?> response) {
       Object body = response.getBody();
       if (body != null) {
+        Optional<Method> getter = idAccessors.computeIfAbsent(body.getClass(),
+            type -> findMethod(type, "getId"));
+        if (getter.isEmpty()) {
+          // Not all responses have getId()
+          return null;
+        }
         try {
-          var method = body.getClass().getMethod("getId");
-          Object id = method.invoke(body);
+          Object id = getter.get().invoke(body);
           if (id instanceof Long) {
             return (Long) id;
           } else if (id instanceof Number) {
             return ((Number) id).longValue();
           }
         } catch (Exception ignored) {
-          // Not all responses have getId()
+          // Getter threw; treat as no ID
         }
       }
     }
@@ -362,4 +333,93 @@ public class AuditAspect {
     }
     return null;
   }
+
+  /**
+   * Describe each parameter of an audited controller method. Called once
+   * per method; the result is cached in {@link #parameterMetadata}.
+   */
+  private static ParameterMeta[] describeParameters(Method method) {
+    Parameter[] parameters = method.getParameters();
+    ParameterMeta[] metas = new ParameterMeta[parameters.length];
+    for (int i = 0; i < parameters.length; i++) {
+      Parameter parameter = parameters[i];
+      String paramName = parameter.getName();
+
+      PathVariable pathVar = parameter.getAnnotation(PathVariable.class);
+      if (pathVar != null) {
+        String varName = !pathVar.value().isEmpty() ? pathVar.value()
+            : !pathVar.name().isEmpty() ? pathVar.name() : paramName;
+        ParameterRole role = switch (varName) {
+          case "rcId" -> ParameterRole.RC_ID;
+          case "fyId", "fiscalYearId" -> ParameterRole.FISCAL_YEAR_ID;
+          case "id" -> ParameterRole.ENTITY_ID;
+          default -> ParameterRole.NONE;
+        };
+        metas[i] = new ParameterMeta(ParameterKind.PATH_VARIABLE, varName, role);
+      } else if (parameter.isAnnotationPresent(RequestBody.class)) {
+        metas[i] = new ParameterMeta(ParameterKind.REQUEST_BODY, paramName, ParameterRole.NONE);
+      } else {
+        metas[i] = new ParameterMeta(ParameterKind.OTHER, paramName, ParameterRole.NONE);
+      }
+    }
+    return metas;
+  }
+
+  /**
+   * Resolve, in priority order, the accessors that can yield a display name
+   * for instances of the given class.
+   */
+  private static List<Function<Object, Object>> resolveNameAccessors(Class<?> type) {
+    List<Function<Object, Object>> accessors = new ArrayList<>();
+    for (String getterName : List.of("getName", "getDescription", "getCode")) {
+      findMethod(type, getterName).ifPresent(getter -> accessors.add(target -> {
+        try {
+          return getter.invoke(target);
+        } catch (ReflectiveOperationException e) {
+          return null;
+        }
+      }));
+    }
+    try {
+      Field field = type.getDeclaredField("name");
+      field.setAccessible(true);
+      accessors.add(target -> {
+        try {
+          return field.get(target);
+        } catch (IllegalAccessException e) {
+          return null;
+        }
+      });
+    } catch (Exception ignored) {
+      // Field not found or not accessible
+    }
+    return List.copyOf(accessors);
+  }
+
+  private static Optional<Method> findMethod(Class<?> type, String name) {
+    try {
+      return Optional.of(type.getMethod(name));
+    } catch (NoSuchMethodException e) {
+      return Optional.empty();
+    }
+  }
+
+  /** How an audited method parameter is recorded. */
+  private enum ParameterKind {
+    PATH_VARIABLE,
+    REQUEST_BODY,
+    OTHER
+  }
+
+  /** Which audit event field a path variable feeds, if any. */
+  private enum ParameterRole {
+    RC_ID,
+    FISCAL_YEAR_ID,
+    ENTITY_ID,
+    NONE
+  }
+
+  /** Precomputed description of one controller method parameter. */
+  private record ParameterMeta(ParameterKind kind, String name, ParameterRole role) {
+  }
 }
@@ -0,0 +1,316 @@
+/*
+ * myRC - Cache Invalidation Bus
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import com.myrc.config.CacheProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Propagates cache invalidations within this replica and to every other replica.
+ *
+ * <p>Caches register a handler per region (for example {@code fy-state}).
+ * {@link #invalidate(String, Object)} runs the local handlers immediately and
+ * again after the surrounding transaction commits, and sends
+ * {@code pg_notify(channel, 'node/region:key')} on the current connection.
+ * PostgreSQL delivers the notification only when that transaction commits, so
+ * peers never evict ahead of the data change. {@link #publish(String, Object)}
+ * only notifies the peers, for caches that are already correct locally.</p>
+ *
+ * <p>Each replica keeps one dedicated connection (outside the pool) that
+ * {@code LISTEN}s on the channel. Whenever that connection is (re)established
+ * every region is cleared, since notifications sent while disconnected are lost.
+ * On non-PostgreSQL datasources (H2 in tests) only local invalidation happens.</p>
+ *
+ * <p>Other components that need cross-replica notifications subscribe their
+ * own channel with {@link #listen(String, Consumer, Runnable)} and share that
+ * connection instead of opening one each.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class CacheInvalidationBus {
+
+  private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+  /** Key meaning "drop every entry of the region". */
+  public static final String CLEAR_ALL = "*";
+
+  private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+  private final CacheProperties cacheProperties;
+  private final DataSourceProperties dataSourceProperties;
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Map<String, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+  private final Map<String, ChannelListener> channels = new ConcurrentHashMap<>();
+
+  /** Identifies this replica so it can ignore its own notifications. */
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private volatile boolean clustered;
+  private volatile boolean listening;
+  private volatile Thread listenerThread;
+
+  /** Callbacks of a channel on the shared LISTEN connection. */
+  private record ChannelListener(Consumer<String> onNotification, Runnable onListen) {
+  }
+
+  public CacheInvalidationBus(CacheProperties cacheProperties,
+      DataSourceProperties dataSourceProperties, JdbcTemplate jdbcTemplate) {
+    this.cacheProperties = cacheProperties;
+    this.dataSourceProperties = dataSourceProperties;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Listen on the invalidation channel when cluster invalidation is enabled
+   * and the datasource is PostgreSQL.
+   */
+  @PostConstruct
+  public void start() {
+    CacheProperties.Invalidation config = cacheProperties.getInvalidation();
+    if (!config.isEnabled()) {
+      logger.info("Cluster cache invalidation disabled by configuration");
+      return;
+    }
+    if (!supportsListen()) {
+      logger.info("Cluster cache invalidation requires PostgreSQL; using local invalidation only");
+      return;
+    }
+    listen(config.getChannel(), this::dispatchPayload, this::clearAllRegions);
+    clustered = true;
+    logger.info("Cluster cache invalidation listening on channel '{}'", config.getChannel());
+  }
+
+  /**
+   * Stop the LISTEN thread.
+   */
+  @PreDestroy
+  public void stop() {
+    clustered = false;
+    listening = false;
+    Thread thread = listenerThread;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  /**
+   * Register a handler for a cache region. The handler receives the key that
+   * was invalidated, or {@link #CLEAR_ALL}.
+   *
+   * @param region the cache region name
+   * @param handler the eviction handler
+   */
+  public void register(String region, Consumer<String> handler) {
+    handlers.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(handler);
+  }
+
+  /**
+   * Whether the datasource supports LISTEN/NOTIFY, i.e. is PostgreSQL.
+   *
+   * @return true when {@link #listen(String, Consumer, Runnable)} can be used
+   */
+  public boolean supportsListen() {
+    String url = dataSourceProperties.determineUrl();
+    return url != null && url.startsWith("jdbc:postgresql:");
+  }
+
+  /**
+   * LISTEN on a channel over this replica's notification connection, starting
+   * it if needed. {@code onListen} runs on the listener thread each time the
+   * channel is (re)subscribed, so callers can catch up on notifications sent
+   * while nobody was listening; {@code onNotification} receives each payload.
+   * Both must be cheap, as every channel shares the thread.
+   *
+   * @param channel the channel name
+   * @param onNotification called with the payload of every notification
+   * @param onListen called whenever the LISTEN takes effect
+   * @throws IllegalStateException if the channel name is invalid or the
+   *     datasource is not PostgreSQL
+   */
+  public synchronized void listen(String channel, Consumer<String> onNotification,
+      Runnable onListen) {
+    if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+      throw new IllegalStateException("Invalid notification channel: " + channel);
+    }
+    if (!supportsListen()) {
+      throw new IllegalStateException("LISTEN/NOTIFY requires PostgreSQL");
+    }
+    channels.put(channel, new ChannelListener(onNotification, onListen));
+    if (listenerThread == null) {
+      listening = true;
+      listenerThread = new Thread(this::runListener, "notification-listener");
+      listenerThread.setDaemon(true);
+      listenerThread.start();
+    }
+  }
+
+  /**
+   * Invalidate a key on this replica now and after commit, and on every other
+   * replica once the current transaction commits.
+   *
+   * @param region the cache region name
+   * @param key the key to invalidate (its string form is used)
+   */
+  public void invalidate(String region, Object key) {
+    String keyString = String.valueOf(key);
+    dispatch(region, keyString);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          dispatch(region, keyString);
+        }
+      });
+    }
+    publish(region, keyString);
+  }
+
+  /**
+   * Invalidate a key on every other replica once the current transaction
+   * commits (immediately when there is no transaction). Local caches are not
+   * touched.
+   *
+   * @param region the cache region name
+   * @param key the key to invalidate (its string form is used)
+   */
+  public void publish(String region, Object key) {
+    if (!clustered) {
+      return;
+    }
+    try {
+      jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+          cacheProperties.getInvalidation().getChannel(), nodeId + "/" + region + ":" + key);
+    } catch (Exception e) {
+      logger.warn("Could not publish cache invalidation {}:{}: {}", region, key, e.getMessage());
+    }
+  }
+
+  /**
+   * Whether invalidations are propagated to other replicas.
+   *
+   * @return true when LISTEN/NOTIFY is active
+   */
+  public boolean isClustered() {
+    return clustered;
+  }
+
+  private void dispatch(String region, String key) {
+    List<Consumer<String>> regionHandlers = handlers.get(region);
+    if (regionHandlers == null) {
+      return;
+    }
+    for (Consumer<String> handler : regionHandlers) {
+      try {
+        handler.accept(key);
+      } catch (Exception e) {
+        logger.warn("Cache invalidation handler for region {} failed: {}", region, e.getMessage());
+      }
+    }
+  }
+
+  private void dispatchPayload(String payload) {
+    int originEnd = payload != null ? payload.indexOf('/') : -1;
+    if (originEnd <= 0 || payload.startsWith(nodeId + "/")) {
+      return; // malformed, or our own notification
+    }
+    int separator = payload.indexOf(':', originEnd);
+    if (separator <= originEnd + 1) {
+      return;
+    }
+    dispatch(payload.substring(originEnd + 1, separator), payload.substring(separator + 1));
+  }
+
+  private void clearAllRegions() {
+    for (String region : handlers.keySet()) {
+      dispatch(region, CLEAR_ALL);
+    }
+  }
+
+  private void runListener() {
+    CacheProperties.Invalidation config = cacheProperties.getInvalidation();
+    while (listening) {
+      try (Connection connection = DriverManager.getConnection(
+          dataSourceProperties.determineUrl(),
+          dataSourceProperties.determineUsername(),
+          dataSourceProperties.determinePassword())) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        Set<String> subscribed = new HashSet<>();
+
+        while (listening) {
+          // Channels added since the last poll; all of them after a reconnect
+          for (Map.Entry<String, ChannelListener> entry : channels.entrySet()) {
+            if (subscribed.add(entry.getKey())) {
+              try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + entry.getKey());
+              }
+              // Anything sent while we were not listening is lost
+              runSafely(entry.getKey(), entry.getValue().onListen());
+            }
+          }
+          PGNotification[] notifications =
+              pgConnection.getNotifications((int) config.getPollTimeoutMs());
+          if (notifications == null) {
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            ChannelListener listener = channels.get(notification.getName());
+            if (listener != null) {
+              runSafely(notification.getName(),
+                  () -> listener.onNotification().accept(notification.getParameter()));
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (!listening) {
+          break;
+        }
+        logger.warn("Notification listener lost its connection: {}", e.getMessage());
+        try {
+          Thread.sleep(config.getReconnectDelayMs());
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+  }
+
+  private static void runSafely(String channel, Runnable callback) {
+    try {
+      callback.run();
+    } catch (RuntimeException e) {
+      logger.warn("Notification handler for channel {} failed: {}", channel, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * myRC - Second-Level Cache Regions
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import com.myrc.model.Category;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.Money;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingCategory;
+import jakarta.persistence.Table;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Names of the Hibernate second-level cache regions used for reference data.
+ *
+ * <p>Each cacheable entity is identified by a short key (as used under
+ * {@code app.cache.second-level.entities} in application.yml) and has one
+ * entity region and one query-results region for its fiscal-year scoped
+ * finders.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public final class CacheRegions {
+
+  public static final String MONEY = "money";
+  public static final String CATEGORY = "category";
+  public static final String SPENDING_CATEGORY = "spending-category";
+  public static final String FISCAL_YEAR = "fiscal-year";
+  public static final String RESPONSIBILITY_CENTRE = "responsibility-centre";
+
+  private static final String ENTITY_PREFIX = "myrc.entity.";
+  private static final String QUERY_PREFIX = "myrc.query.";
+
+  public static final String MONEY_QUERY = QUERY_PREFIX + MONEY;
+  public static final String CATEGORY_QUERY = QUERY_PREFIX + CATEGORY;
+  public static final String SPENDING_CATEGORY_QUERY = QUERY_PREFIX + SPENDING_CATEGORY;
+  public static final String FISCAL_YEAR_QUERY = QUERY_PREFIX + FISCAL_YEAR;
+
+  /** Hint name that marks a Spring Data query as cacheable. */
+  public static final String HINT_CACHEABLE = "org.hibernate.cacheable";
+
+  /** Hint name that selects the query-results region. */
+  public static final String HINT_CACHE_REGION = "org.hibernate.cacheRegion";
+
+  /** Cacheable entities by key, in declaration order. */
+  public static final Map<String, Class<?>> ENTITIES;
+
+  static {
+    Map<String, Class<?>> entities = new LinkedHashMap<>();
+    entities.put(MONEY, Money.class);
+    entities.put(CATEGORY, Category.class);
+    entities.put(SPENDING_CATEGORY, SpendingCategory.class);
+    entities.put(FISCAL_YEAR, FiscalYear.class);
+    entities.put(RESPONSIBILITY_CENTRE, ResponsibilityCentre.class);
+    ENTITIES = Collections.unmodifiableMap(entities);
+  }
+
+  private CacheRegions() {
+  }
+
+  /**
+   * Entity region name for a cache key.
+   *
+   * @param key the entity key (e.g. {@code money})
+   * @return the region name
+   */
+  public static String entityRegion(String key) {
+    return ENTITY_PREFIX + key;
+  }
+
+  /**
+   * Query-results region name for a cache key.
+   *
+   * @param key the entity key (e.g. {@code money})
+   * @return the region name
+   */
+  public static String queryRegion(String key) {
+    return QUERY_PREFIX + key;
+  }
+
+  /**
+   * Find the cache key of an entity by its Hibernate entity name (FQCN).
+   *
+   * @param entityName the entity name
+   * @return the cache key, or null if the entity is not a reference-data entity
+   */
+  public static String keyForEntityName(String entityName) {
+    for (Map.Entry<String, Class<?>> entry : ENTITIES.entrySet()) {
+      if (entry.getValue().getName().equals(entityName)) {
+        return entry.getKey();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Find the cache key of the entity mapped to a table.
+   *
+   * @param table the table name
+   * @return the cache key, or null if no reference-data entity uses the table
+   */
+  public static String keyForTable(String table) {
+    for (Map.Entry<String, Class<?>> entry : ENTITIES.entrySet()) {
+      Table mapping = entry.getValue().getAnnotation(Table.class);
+      if (mapping != null && mapping.name().equalsIgnoreCase(table)) {
+        return entry.getKey();
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * myRC - Fiscal Year State
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+/**
+ * Minimal, immutable view of a fiscal year used by request guards.
+ *
+ * @param fiscalYearId the fiscal year ID
+ * @param active whether the fiscal year accepts changes
+ * @param rcId the owning responsibility centre ID
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public record FiscalYearState(Long fiscalYearId, Boolean active, Long rcId) {
+
+  /**
+   * Whether the fiscal year is active (writable).
+   *
+   * @return true if active
+   */
+  public boolean isActive() {
+    return Boolean.TRUE.equals(active);
+  }
+}
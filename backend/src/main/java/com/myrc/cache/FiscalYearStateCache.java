@@ -0,0 +1,100 @@
+/*
+ * myRC - Fiscal Year State Cache
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import com.myrc.repository.FiscalYearRepository;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory map of fiscal year ID to {@link FiscalYearState} (active flag and RC).
+ *
+ * <p>Entries are loaded lazily with a single scalar query and then served from
+ * memory, so guards such as the inactive-fiscal-year interceptor cost no database
+ * round trip on the write path. Anything that changes the active flag or removes
+ * a fiscal year must call {@link #evict(Long)}; the eviction is propagated to the
+ * other replicas through the {@link CacheInvalidationBus}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class FiscalYearStateCache {
+
+  /** Invalidation region for fiscal year state. */
+  public static final String REGION = "fy-state";
+
+  /** Safety net for missed invalidations. */
+  static final Duration TTL = Duration.ofMinutes(10);
+
+  /** Upper bound on cached entries; the map is simply cleared when exceeded. */
+  static final int MAX_ENTRIES = 10_000;
+
+  private final FiscalYearRepository fiscalYearRepository;
+  private final CacheInvalidationBus invalidationBus;
+
+  private final Map<Long, Entry> states = new ConcurrentHashMap<>();
+
+  public FiscalYearStateCache(FiscalYearRepository fiscalYearRepository,
+      CacheInvalidationBus invalidationBus) {
+    this.fiscalYearRepository = fiscalYearRepository;
+    this.invalidationBus = invalidationBus;
+    invalidationBus.register(REGION, this::onInvalidation);
+  }
+
+  /**
+   * Get the state of a fiscal year, loading it on first use.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @return the state, or empty if the fiscal year does not exist
+   */
+  public Optional<FiscalYearState> get(Long fiscalYearId) {
+    if (fiscalYearId == null) {
+      return Optional.empty();
+    }
+    long now = System.nanoTime();
+    Entry entry = states.get(fiscalYearId);
+    if (entry != null && now - entry.loadedAt() < TTL.toNanos()) {
+      return Optional.of(entry.state());
+    }
+    Optional<FiscalYearState> state = fiscalYearRepository.findStateById(fiscalYearId);
+    if (state.isPresent()) {
+      if (states.size() >= MAX_ENTRIES) {
+        states.clear();
+      }
+      states.put(fiscalYearId, new Entry(state.get(), now));
+    } else {
+      states.remove(fiscalYearId);
+    }
+    return state;
+  }
+
+  /**
+   * Invalidate the state of a fiscal year on every replica.
+   *
+   * @param fiscalYearId the fiscal year ID
+   */
+  public void evict(Long fiscalYearId) {
+    if (fiscalYearId != null) {
+      invalidationBus.invalidate(REGION, fiscalYearId);
+    }
+  }
+
+  private void onInvalidation(String key) {
+    if (CacheInvalidationBus.CLEAR_ALL.equals(key)) {
+      states.clear();
+    } else {
+      states.remove(Long.valueOf(key));
+    }
+  }
+
+  private record Entry(FiscalYearState state, long loadedAt) {
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * myRC - Fiscal Year Totals Cache
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import com.myrc.config.PortfolioProperties;
+import com.myrc.dto.PortfolioDTO.FiscalYearTotals;
+import com.myrc.sync.ChangeStreamHub;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory map of fiscal year ID to the portfolio totals of the fiscal year.
+ *
+ * <p>An entry is evicted when the fiscal year's change feed advances. The
+ * {@link ChangeStreamHub} reports every committed change on this replica and
+ * every change announced by another replica, including bulk revaluations, so
+ * no separate invalidation message is needed. Changes without a feed entry
+ * (monies, categories) are picked up when the entry expires after
+ * {@code app.portfolio.cache-ttl-seconds}.</p>
+ *
+ * <p>Totals are computed outside the cache's lock. To keep a computation
+ * that started before a change from storing its stale result afterwards, a
+ * caller takes a {@link #generation(Long)} before querying and passes it to
+ * {@link #put}; the value is dropped if the fiscal year was evicted in
+ * between. The generation cannot tell a lagging read replica from current
+ * data, so callers must compute cached totals on the primary.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class FiscalYearTotalsCache {
+
+  /** Upper bound on cached entries; the map is simply cleared when exceeded. */
+  static final int MAX_ENTRIES = 10_000;
+
+  private final long ttlNanos;
+
+  private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+  public FiscalYearTotalsCache(PortfolioProperties properties, ChangeStreamHub changeStreamHub) {
+    this.ttlNanos = properties.getCacheTtlSeconds() * 1_000_000_000L;
+    changeStreamHub.addChangeListener(this::evict);
+  }
+
+  /**
+   * Get the cached totals of a fiscal year.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @return the totals, or empty if not cached or expired
+   */
+  public Optional<FiscalYearTotals> get(Long fiscalYearId) {
+    Entry entry = entries.get(fiscalYearId);
+    if (entry == null || System.nanoTime() - entry.loadedAt() >= ttlNanos) {
+      return Optional.empty();
+    }
+    return Optional.of(entry.totals());
+  }
+
+  /**
+   * The eviction count of a fiscal year, to be taken before its totals are
+   * computed.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @return the current generation
+   */
+  public long generation(Long fiscalYearId) {
+    return generations.getOrDefault(fiscalYearId, 0L);
+  }
+
+  /**
+   * Cache the totals of a fiscal year unless it changed since
+   * {@code generation} was taken.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param totals the computed totals
+   * @param generation the generation taken before computing them
+   */
+  public void put(Long fiscalYearId, FiscalYearTotals totals, long generation) {
+    if (entries.size() >= MAX_ENTRIES) {
+      entries.clear();
+    }
+    entries.compute(fiscalYearId, (id, existing) ->
+        generation(id) == generation ? new Entry(totals, System.nanoTime()) : existing);
+  }
+
+  /**
+   * Drop the totals of a fiscal year on this replica.
+   *
+   * @param fiscalYearId the fiscal year ID
+   */
+  public void evict(Long fiscalYearId) {
+    if (fiscalYearId == null) {
+      return;
+    }
+    entries.compute(fiscalYearId, (id, existing) -> {
+      generations.merge(id, 1L, Long::sum);
+      return null;
+    });
+  }
+
+  private record Entry(FiscalYearTotals totals, long loadedAt) {
+  }
+}
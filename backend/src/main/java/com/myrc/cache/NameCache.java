@@ -0,0 +1,154 @@
+/*
+ * myRC - RC / Fiscal Year Name Cache
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Small in-memory cache of Responsibility Centre and Fiscal Year display names.
+ *
+ * <p>Audit events, log lines and similar cross-cutting code only need the
+ * name of an RC or FY, not the entity graph. Names are loaded with a scalar
+ * query on first use and kept for a bounded time. Services that rename or
+ * delete an RC/FY must call {@link #evictRc(Long)} or
+ * {@link #evictFiscalYear(Long)}; evictions go through the
+ * {@link CacheInvalidationBus}, so they are repeated after commit and reach
+ * the other replicas. The TTL is a safety net for missed notifications.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class NameCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(NameCache.class);
+
+  /** Invalidation region for RC names. */
+  public static final String RC_REGION = "rc-name";
+
+  /** Invalidation region for fiscal year names. */
+  public static final String FY_REGION = "fy-name";
+
+  /** How long a resolved name is trusted before it is re-read. */
+  static final Duration TTL = Duration.ofMinutes(5);
+
+  /** Upper bound per map; the map is simply cleared when exceeded. */
+  static final int MAX_ENTRIES = 10_000;
+
+  private final ResponsibilityCentreRepository rcRepository;
+  private final FiscalYearRepository fiscalYearRepository;
+  private final CacheInvalidationBus invalidationBus;
+
+  private final Map<Long, Entry> rcNames = new ConcurrentHashMap<>();
+  private final Map<Long, Entry> fyNames = new ConcurrentHashMap<>();
+
+  public NameCache(ResponsibilityCentreRepository rcRepository,
+      FiscalYearRepository fiscalYearRepository, CacheInvalidationBus invalidationBus) {
+    this.rcRepository = rcRepository;
+    this.fiscalYearRepository = fiscalYearRepository;
+    this.invalidationBus = invalidationBus;
+    invalidationBus.register(RC_REGION, key -> onInvalidation(rcNames, key));
+    invalidationBus.register(FY_REGION, key -> onInvalidation(fyNames, key));
+  }
+
+  /**
+   * Resolve the name of a responsibility centre.
+   *
+   * @param rcId the RC ID (may be null)
+   * @return the RC name, or null if the RC does not exist or cannot be read
+   */
+  public String getRcName(Long rcId) {
+    return resolve(rcNames, rcId, rcRepository::findNameById, "RC");
+  }
+
+  /**
+   * Resolve the name of a fiscal year.
+   *
+   * @param fiscalYearId the fiscal year ID (may be null)
+   * @return the fiscal year name, or null if it does not exist or cannot be read
+   */
+  public String getFiscalYearName(Long fiscalYearId) {
+    return resolve(fyNames, fiscalYearId, fiscalYearRepository::findNameById, "FY");
+  }
+
+  /**
+   * Forget the cached name of an RC after it has been renamed or deleted.
+   *
+   * @param rcId the RC ID
+   */
+  public void evictRc(Long rcId) {
+    if (rcId != null) {
+      invalidationBus.invalidate(RC_REGION, rcId);
+    }
+  }
+
+  /**
+   * Forget the cached name of a fiscal year after it has been renamed or deleted.
+   *
+   * @param fiscalYearId the fiscal year ID
+   */
+  public void evictFiscalYear(Long fiscalYearId) {
+    if (fiscalYearId != null) {
+      invalidationBus.invalidate(FY_REGION, fiscalYearId);
+    }
+  }
+
+  /**
+   * Drop every cached name.
+   */
+  public void clear() {
+    rcNames.clear();
+    fyNames.clear();
+  }
+
+  private String resolve(Map<Long, Entry> cache, Long id,
+      Function<Long, Optional<String>> loader, String kind) {
+    if (id == null) {
+      return null;
+    }
+    long now = System.nanoTime();
+    Entry entry = cache.get(id);
+    if (entry != null && now - entry.loadedAt() < TTL.toNanos()) {
+      return entry.name();
+    }
+    try {
+      Optional<String> name = loader.apply(id);
+      if (name.isEmpty()) {
+        cache.remove(id);
+        return null;
+      }
+      if (cache.size() >= MAX_ENTRIES) {
+        cache.clear();
+      }
+      cache.put(id, new Entry(name.get(), now));
+      return name.get();
+    } catch (Exception e) {
+      logger.debug("Could not resolve {} name for id {}: {}", kind, id, e.getMessage());
+      return null;
+    }
+  }
+
+  private static void onInvalidation(Map<Long, Entry> cache, String key) {
+    if (CacheInvalidationBus.CLEAR_ALL.equals(key)) {
+      cache.clear();
+    } else {
+      cache.remove(Long.valueOf(key));
+    }
+  }
+
+  private record Entry(String name, long loadedAt) {
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * myRC - RC Access Change Listener
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import com.myrc.model.RCAccess;
+import com.myrc.model.ResponsibilityCentre;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks an RC stale in the {@link RCAccessMatrix} whenever an
+ * {@link RCAccess} row or the {@link ResponsibilityCentre} itself is
+ * inserted, updated or deleted through the entity manager.
+ *
+ * <p>The services evict explicitly as well, because JPQL bulk deletes of
+ * access rows bypass entity events; this listener covers every other writer,
+ * such as the startup data initializer.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class RCAccessChangeListener
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  private final transient EntityManagerFactory entityManagerFactory;
+  private final transient RCAccessMatrix accessMatrix;
+
+  public RCAccessChangeListener(EntityManagerFactory entityManagerFactory,
+      RCAccessMatrix accessMatrix) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.accessMatrix = accessMatrix;
+  }
+
+  /**
+   * Register with Hibernate's event system.
+   */
+  @PostConstruct
+  public void register() {
+    EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+        .getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_INSERT, this);
+    registry.appendListeners(EventType.POST_UPDATE, this);
+    registry.appendListeners(EventType.POST_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    evict(event.getEntity());
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    evict(event.getEntity());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    evict(event.getEntity());
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  private void evict(Object entity) {
+    if (entity instanceof RCAccess access && access.getResponsibilityCentre() != null) {
+      accessMatrix.evictRc(access.getResponsibilityCentre().getId());
+    } else if (entity instanceof ResponsibilityCentre rc) {
+      accessMatrix.evictRc(rc.getId());
+    }
+  }
+}
@@ -0,0 +1,395 @@
+/*
+ * myRC - RC Access Matrix
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import com.myrc.config.ReplicaProperties;
+import com.myrc.model.RCAccess.AccessLevel;
+import com.myrc.repository.RCAccessRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory principal → RC → highest access level map, covering RC
+ * ownership and every {@code rc_access} grant.
+ *
+ * <p>A principal is a username, a group DN or a distribution list
+ * identifier; grants linked to a local user count under the user's username
+ * as well as their principal identifier. A caller's principal set is the
+ * username plus its group DNs, so "every RC this user can see" and "the
+ * levels on these N RCs" are answered from memory with no query per RC.</p>
+ *
+ * <p>The matrix is built with two scalar queries on first use. Entity writes
+ * are caught by {@link RCAccessChangeListener}; anything that changes access
+ * with a bulk JPQL statement must call {@link #evictRc(Long)}. The RC is marked stale
+ * on every replica through the {@link CacheInvalidationBus} and only that
+ * RC's rows are re-read on the next lookup. A full rebuild after
+ * {@link #TTL} is a safety net for missed notifications; it runs on a
+ * background thread while lookups keep using the previous matrix.</p>
+ *
+ * <p>Loads must read the primary: a lagging replica could hand back a grant
+ * that was just revoked, and the matrix would keep it until the TTL. They
+ * join the caller's transaction, so they never wait for a second connection
+ * from the pool the caller already draws on. Only a read-only caller with
+ * read replicas enabled, which may hold a replica connection, loads in a new
+ * read-write transaction, taking a connection from the primary's pool.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class RCAccessMatrix {
+
+  private static final Logger logger = LoggerFactory.getLogger(RCAccessMatrix.class);
+
+  /** Invalidation region for RC access; keys are RC IDs. */
+  public static final String REGION = "rc-access";
+
+  /** Safety net for missed invalidations. */
+  static final Duration TTL = Duration.ofMinutes(10);
+
+  private final RCAccessRepository accessRepository;
+  private final ResponsibilityCentreRepository rcRepository;
+  private final CacheInvalidationBus invalidationBus;
+  private final TransactionTemplate joinedTransaction;
+  private final TransactionTemplate primaryTransaction;
+  private final boolean replicasEnabled;
+  private final Duration ttl;
+  private final Executor rebuildExecutor;
+
+  /** The current matrix, or null until the next lookup rebuilds it. */
+  private volatile Matrix matrix;
+  private final Set<Long> staleRcs = ConcurrentHashMap.newKeySet();
+  /** Bumped by every clear, so a rebuild that raced one is discarded. */
+  private final AtomicInteger clears = new AtomicInteger();
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+  /** RCs marked stale while a background rebuild is loading, or null. */
+  private volatile Set<Long> rebuildMarks;
+
+  @Autowired
+  public RCAccessMatrix(RCAccessRepository accessRepository,
+      ResponsibilityCentreRepository rcRepository, CacheInvalidationBus invalidationBus,
+      PlatformTransactionManager transactionManager, ReplicaProperties replicaProperties) {
+    this(accessRepository, rcRepository, invalidationBus, transactionManager,
+        replicaProperties.isEnabled(), TTL,
+        task -> Thread.ofVirtual().name("rc-access-matrix-rebuild").start(task));
+  }
+
+  RCAccessMatrix(RCAccessRepository accessRepository,
+      ResponsibilityCentreRepository rcRepository, CacheInvalidationBus invalidationBus,
+      PlatformTransactionManager transactionManager, boolean replicasEnabled, Duration ttl,
+      Executor rebuildExecutor) {
+    this.accessRepository = accessRepository;
+    this.rcRepository = rcRepository;
+    this.invalidationBus = invalidationBus;
+    this.joinedTransaction = new TransactionTemplate(transactionManager);
+    this.joinedTransaction.setReadOnly(false);
+    this.primaryTransaction = new TransactionTemplate(transactionManager);
+    this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.primaryTransaction.setReadOnly(false);
+    this.replicasEnabled = replicasEnabled;
+    this.ttl = ttl;
+    this.rebuildExecutor = rebuildExecutor;
+    invalidationBus.register(REGION, this::onInvalidation);
+  }
+
+  /**
+   * Every RC any of the principals can access, with the highest level.
+   *
+   * @param principals the username and group identifiers
+   * @return RC ID to access level
+   */
+  public Map<Long, AccessLevel> accessFor(Collection<String> principals) {
+    Matrix current = current();
+    Map<Long, AccessLevel> result = new HashMap<>();
+    for (String principal : principals) {
+      Map<Long, AccessLevel> grants = principal != null ? current.byPrincipal.get(principal) : null;
+      if (grants != null) {
+        grants.forEach((rcId, level) -> result.merge(rcId, level, RCAccessMatrix::max));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The highest level the principals hold on each of the given RCs.
+   *
+   * @param rcIds the RC IDs
+   * @param principals the username and group identifiers
+   * @return RC ID to access level, for the RCs with any access
+   */
+  public Map<Long, AccessLevel> levelsFor(Collection<Long> rcIds, Collection<String> principals) {
+    Matrix current = current();
+    Map<Long, AccessLevel> result = new HashMap<>();
+    for (String principal : principals) {
+      Map<Long, AccessLevel> grants = principal != null ? current.byPrincipal.get(principal) : null;
+      if (grants == null) {
+        continue;
+      }
+      for (Long rcId : rcIds) {
+        AccessLevel level = rcId != null ? grants.get(rcId) : null;
+        if (level != null) {
+          result.merge(rcId, level, RCAccessMatrix::max);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The highest level the principals hold on one RC.
+   *
+   * @param rcId the RC ID
+   * @param principals the username and group identifiers
+   * @return the access level, or empty if none (or the RC does not exist)
+   */
+  public Optional<AccessLevel> levelFor(Long rcId, Collection<String> principals) {
+    return Optional.ofNullable(levelsFor(List.of(rcId), principals).get(rcId));
+  }
+
+  /**
+   * Mark an RC's access as changed on every replica.
+   *
+   * @param rcId the RC ID
+   */
+  public void evictRc(Long rcId) {
+    if (rcId == null) {
+      return;
+    }
+    invalidationBus.invalidate(REGION, rcId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      // A lookup inside the transaction may have read uncommitted grants
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status == STATUS_ROLLED_BACK) {
+            staleRcs.add(rcId);
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * Discard the whole matrix on every replica.
+   */
+  public void evictAll() {
+    invalidationBus.invalidate(REGION, CacheInvalidationBus.CLEAR_ALL);
+  }
+
+  private void onInvalidation(String key) {
+    if (CacheInvalidationBus.CLEAR_ALL.equals(key)) {
+      clears.incrementAndGet();
+      matrix = null;
+    } else {
+      Long rcId = Long.valueOf(key);
+      staleRcs.add(rcId);
+      Set<Long> marks = rebuildMarks;
+      if (marks != null) {
+        marks.add(rcId);
+      }
+    }
+  }
+
+  private Matrix current() {
+    Matrix current = matrix;
+    if (current == null || !staleRcs.isEmpty()) {
+      synchronized (this) {
+        current = matrix;
+        if (current == null) {
+          current = rebuild();
+        } else if (!staleRcs.isEmpty()) {
+          refresh(current);
+        }
+      }
+    }
+    if (current.isExpired(ttl)) {
+      scheduleRebuild();
+    }
+    return current;
+  }
+
+  private Matrix rebuild() {
+    int clearsAtStart = clears.get();
+    // Marks arriving from here on are applied by the next lookup
+    staleRcs.clear();
+    Matrix built = load();
+    if (clears.get() == clearsAtStart) {
+      matrix = built;
+    }
+    return built;
+  }
+
+  private void scheduleRebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      rebuildExecutor.execute(this::rebuildInBackground);
+    } catch (RejectedExecutionException e) {
+      rebuilding.set(false);
+    }
+  }
+
+  private void rebuildInBackground() {
+    int clearsAtStart = clears.get();
+    Set<Long> marks = ConcurrentHashMap.newKeySet();
+    rebuildMarks = marks;
+    try {
+      Matrix built = load();
+      synchronized (this) {
+        if (matrix != null && clears.get() == clearsAtStart) {
+          matrix = built;
+          // Lookups may have refreshed these on the old matrix; the load may predate them
+          staleRcs.addAll(marks);
+        }
+      }
+    } catch (RuntimeException e) {
+      logger.warn("Could not rebuild the RC access matrix: {}", e.getMessage());
+    } finally {
+      rebuildMarks = null;
+      rebuilding.set(false);
+    }
+  }
+
+  private Matrix load() {
+    Map<Long, Map<String, AccessLevel>> grants = onPrimary(status ->
+        grantsByRc(rcRepository.findOwnerUsernames(), accessRepository.findAccessMatrixRows()));
+    Matrix built = new Matrix();
+    grants.forEach(built::apply);
+    logger.debug("Built RC access matrix: {} RCs, {} principals",
+        grants.size(), built.byPrincipal.size());
+    return built;
+  }
+
+  private <T> T onPrimary(TransactionCallback<T> callback) {
+    boolean mayBeOnReplica = replicasEnabled
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    return (mayBeOnReplica ? primaryTransaction : joinedTransaction).execute(callback);
+  }
+
+  private void refresh(Matrix current) {
+    List<Long> rcIds = new ArrayList<>();
+    for (Long rcId : staleRcs) {
+      if (staleRcs.remove(rcId)) {
+        rcIds.add(rcId);
+      }
+    }
+    if (rcIds.isEmpty()) {
+      return;
+    }
+    Map<Long, Map<String, AccessLevel>> grants = onPrimary(status -> grantsByRc(
+        rcRepository.findOwnerUsernamesByIdIn(rcIds),
+        accessRepository.findAccessMatrixRowsByRcIds(rcIds)));
+    for (Long rcId : rcIds) {
+      // RCs without rows were deleted: apply an empty set to drop them
+      current.apply(rcId, grants.getOrDefault(rcId, Map.of()));
+    }
+  }
+
+  /**
+   * Fold owner rows [rcId, username] and access rows [rcId, username,
+   * principalIdentifier, level] into the highest level per RC and principal.
+   */
+  private static Map<Long, Map<String, AccessLevel>> grantsByRc(List<Object[]> owners,
+      List<Object[]> accessRows) {
+    Map<Long, Map<String, AccessLevel>> grants = new HashMap<>();
+    for (Object[] row : owners) {
+      grant(grants, (Long) row[0], (String) row[1], AccessLevel.OWNER);
+    }
+    for (Object[] row : accessRows) {
+      Long rcId = (Long) row[0];
+      AccessLevel level = (AccessLevel) row[3];
+      grant(grants, rcId, (String) row[1], level);
+      grant(grants, rcId, (String) row[2], level);
+    }
+    return grants;
+  }
+
+  private static void grant(Map<Long, Map<String, AccessLevel>> grants, Long rcId,
+      String principal, AccessLevel level) {
+    if (principal != null && level != null) {
+      grants.computeIfAbsent(rcId, id -> new HashMap<>()).merge(principal, level, RCAccessMatrix::max);
+    }
+  }
+
+  private static AccessLevel max(AccessLevel a, AccessLevel b) {
+    return rank(a) >= rank(b) ? a : b;
+  }
+
+  private static int rank(AccessLevel level) {
+    return switch (level) {
+      case OWNER -> 3;
+      case READ_WRITE -> 2;
+      case READ_ONLY -> 1;
+    };
+  }
+
+  /**
+   * Principal → RC → level, with the reverse index needed to replace one
+   * RC's entries. Lookups read the concurrent maps without locking; changes
+   * are made under the matrix's lock.
+   */
+  private static final class Matrix {
+
+    private final Map<String, Map<Long, AccessLevel>> byPrincipal = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> principalsByRc = new ConcurrentHashMap<>();
+    private final long builtAt = System.nanoTime();
+
+    boolean isExpired(Duration ttl) {
+      return System.nanoTime() - builtAt >= ttl.toNanos();
+    }
+
+    /**
+     * Replace one RC's entries. New levels are written before removed
+     * principals are dropped, so a lookup never sees a retained grant missing.
+     */
+    void apply(Long rcId, Map<String, AccessLevel> grants) {
+      grants.forEach((principal, level) ->
+          byPrincipal.computeIfAbsent(principal, p -> new ConcurrentHashMap<>()).put(rcId, level));
+      Set<String> previous = principalsByRc.getOrDefault(rcId, Set.of());
+      for (String principal : previous) {
+        if (!grants.containsKey(principal)) {
+          Map<Long, AccessLevel> rcs = byPrincipal.get(principal);
+          if (rcs != null) {
+            rcs.remove(rcId);
+            if (rcs.isEmpty()) {
+              byPrincipal.remove(principal);
+            }
+          }
+        }
+      }
+      if (grants.isEmpty()) {
+        principalsByRc.remove(rcId);
+      } else {
+        principalsByRc.put(rcId, new HashSet<>(grants.keySet()));
+      }
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * myRC - Second-Level Cache Invalidator
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the per-replica Hibernate second-level cache coherent across replicas.
+ *
+ * <p>Hibernate already maintains the local regions. This listener publishes
+ * every insert, update and delete of a cached reference-data entity on the
+ * {@link CacheInvalidationBus}; the notification is sent in the writing
+ * transaction and delivered to peers on commit. Peers evict the entity and
+ * the query-results region of its type.</p>
+ *
+ * <p>Deleting a responsibility centre bulk-deletes its fiscal years, monies
+ * and categories with JPQL, which bypasses entity events, so it clears all
+ * regions on the peers instead. Other bulk writers (JDBC inserts and
+ * set-based updates) report the tables they wrote through
+ * {@link #evictTables}; Hibernate does not see those statements, so the
+ * regions are evicted on this replica as well.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConditionalOnProperty(
+    name = "app.cache.second-level.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class SecondLevelCacheInvalidator
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheInvalidator.class);
+
+  /** Invalidation region used on the bus. */
+  public static final String REGION = "l2";
+
+  private static final char ID_SEPARATOR = '#';
+
+  /** Prefix of keys that name a table written in bulk. */
+  private static final String TABLE_PREFIX = "table:";
+
+  private final transient EntityManagerFactory entityManagerFactory;
+  private final transient CacheInvalidationBus invalidationBus;
+
+  public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory,
+      CacheInvalidationBus invalidationBus) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.invalidationBus = invalidationBus;
+  }
+
+  /**
+   * Register with Hibernate's event system and with the invalidation bus.
+   */
+  @PostConstruct
+  public void register() {
+    SessionFactoryImplementor sessionFactory =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    EventListenerRegistry registry =
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_INSERT, this);
+    registry.appendListeners(EventType.POST_UPDATE, this);
+    registry.appendListeners(EventType.POST_DELETE, this);
+    invalidationBus.register(REGION, this::onInvalidation);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    if (CacheRegions.RESPONSIBILITY_CENTRE.equals(
+        CacheRegions.keyForEntityName(event.getPersister().getEntityName()))) {
+      invalidationBus.publish(REGION, CacheInvalidationBus.CLEAR_ALL);
+      return;
+    }
+    publish(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  /**
+   * Evict the cached entities and query results of tables written with
+   * plain SQL, on this replica now and after commit, and on the others once
+   * the transaction commits. Tables without a cached entity are ignored.
+   *
+   * @param tables the tables written
+   */
+  public void evictTables(String... tables) {
+    for (String table : tables) {
+      if (CacheRegions.keyForTable(table) != null) {
+        invalidationBus.invalidate(REGION, TABLE_PREFIX + table);
+      }
+    }
+  }
+
+  private void publish(EntityPersister persister, Object id) {
+    if (persister.canWriteToCache()) {
+      invalidationBus.publish(REGION, persister.getEntityName() + ID_SEPARATOR + id);
+    }
+  }
+
+  private void onInvalidation(String key) {
+    Cache cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+    if (CacheInvalidationBus.CLEAR_ALL.equals(key)) {
+      cache.evictAllRegions();
+      return;
+    }
+    if (key.startsWith(TABLE_PREFIX)) {
+      evictTable(cache, key.substring(TABLE_PREFIX.length()));
+      return;
+    }
+    int separator = key.lastIndexOf(ID_SEPARATOR);
+    if (separator <= 0) {
+      return;
+    }
+    String entityName = key.substring(0, separator);
+    Long id = Long.valueOf(key.substring(separator + 1));
+    cache.evictEntityData(entityName, id);
+    String cacheKey = CacheRegions.keyForEntityName(entityName);
+    if (cacheKey != null) {
+      cache.evictQueryRegion(CacheRegions.queryRegion(cacheKey));
+    }
+    logger.debug("Evicted {}#{} from the second-level cache", entityName, id);
+  }
+
+  private void evictTable(Cache cache, String table) {
+    String cacheKey = CacheRegions.keyForTable(table);
+    if (cacheKey == null) {
+      return;
+    }
+    cache.evictEntityData(CacheRegions.ENTITIES.get(cacheKey));
+    cache.evictQueryRegion(CacheRegions.queryRegion(cacheKey));
+    logger.debug("Evicted table {} from the second-level cache", table);
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * myRC - Analytics Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for the fiscal year comparison analytics.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the fiscal year comparison analytics.
+ *
+ * <p>Fiscal years have no dates of their own. A fiscal year is taken to
+ * start on the first day of {@code fiscal-year-start-month} of the first
+ * four-digit year in its name ("FY 2025-2026" starts on 2025-04-01 with the
+ * default) and to last twelve months; year-end forecasts are only made for
+ * fiscal years whose name carries a year.</p>
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   analytics:
+ *     fiscal-year-start-month: 4
+ *     max-compared-fiscal-years: 10
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsProperties {
+
+    private int fiscalYearStartMonth = 4;
+    private int maxComparedFiscalYears = 10;
+
+    /**
+     * Month (1-12) in which fiscal years start.
+     *
+     * @return the start month
+     */
+    public int getFiscalYearStartMonth() {
+        return fiscalYearStartMonth;
+    }
+
+    public void setFiscalYearStartMonth(int fiscalYearStartMonth) {
+        this.fiscalYearStartMonth = fiscalYearStartMonth;
+    }
+
+    public int getMaxComparedFiscalYears() {
+        return maxComparedFiscalYears;
+    }
+
+    public void setMaxComparedFiscalYears(int maxComparedFiscalYears) {
+        this.maxComparedFiscalYears = maxComparedFiscalYears;
+    }
+}
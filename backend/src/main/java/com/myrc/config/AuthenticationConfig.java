@@ -12,7 +12,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
@@ -20,7 +22,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Core authentication configuration for the application.
@@ -38,13 +42,24 @@ public class AuthenticationConfig {
     private String allowedOriginsConfig;
 
     /**
-     * Provides password encoding using BCrypt.
+     * Provides password encoding with a {@link DelegatingPasswordEncoder}.
+     * New hashes are prefixed with the encoder id (e.g. {@code {bcrypt}});
+     * unprefixed BCrypt hashes from earlier releases are still matched and
+     * report {@code upgradeEncoding}, so they are re-hashed on next login.
      *
-     * @return configured BCryptPasswordEncoder
+     * @param loginProperties the encoder id and BCrypt strength
+     * @return configured DelegatingPasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(LoginProperties loginProperties) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(loginProperties.getBcryptStrength());
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        DelegatingPasswordEncoder passwordEncoder =
+            new DelegatingPasswordEncoder(loginProperties.getPasswordEncoding(), encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
 
     /**
@@ -114,6 +129,7 @@ public class AuthenticationConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
+        configuration.setExposedHeaders(Arrays.asList("X-Next-Cursor", "Link", "ETag"));
         configuration.setMaxAge(3600L);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,75 @@
+/*
+ * myRC - Binary Encoding Configuration
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Registers CBOR and Smile message converters so large responses can be
+ * requested in a binary JSON encoding via the Accept header.
+ */
+package com.myrc.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary JSON encodings for API responses.
+ *
+ * <p>JSON stays the default. A client that sends
+ * {@code Accept: application/cbor} or {@code Accept: application/x-jackson-smile}
+ * gets the same document model in the binary encoding, which is smaller on the
+ * wire and cheaper to produce for the FY-wide lists and the JSON export. The
+ * request bodies of those endpoints may use the same encodings.</p>
+ *
+ * <p>Both mappers are built from Spring Boot's {@link Jackson2ObjectMapperBuilder},
+ * so dates, modules and {@code spring.jackson.*} settings match the JSON
+ * responses. The beans replace the default converters Spring MVC would
+ * otherwise register with a plain builder.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Configuration
+public class BinaryEncodingConfig {
+
+    /** Media type of Smile-encoded responses. */
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper(builder));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper(builder));
+    }
+
+    /**
+     * Build a CBOR mapper with the application's Jackson settings.
+     *
+     * @param builder a fresh (prototype) object mapper builder
+     * @return the CBOR object mapper
+     */
+    static ObjectMapper cborMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.createXmlMapper(false).factory(new CBORFactory()).build();
+    }
+
+    /**
+     * Build a Smile mapper with the application's Jackson settings.
+     *
+     * @param builder a fresh (prototype) object mapper builder
+     * @return the Smile object mapper
+     */
+    static ObjectMapper smileMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.createXmlMapper(false).factory(new SmileFactory()).build();
+    }
+}
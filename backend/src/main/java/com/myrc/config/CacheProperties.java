@@ -0,0 +1,189 @@
+/*
+ * myRC - Cache Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for the in-memory caches and their
+ * cross-replica invalidation.
+ */
+
+package com.myrc.config;
+
+import com.myrc.cache.CacheRegions;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for application caches.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   cache:
+ *     invalidation:
+ *       enabled: true
+ *       channel: myrc_cache_invalidation
+ *     second-level:
+ *       enabled: true
+ *       entities:
+ *         money:
+ *           enabled: true
+ *           max-entries: 10000
+ *           time-to-live-seconds: 3600
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private Invalidation invalidation = new Invalidation();
+    private SecondLevel secondLevel = new SecondLevel();
+
+    /**
+     * Cross-replica cache invalidation over PostgreSQL LISTEN/NOTIFY.
+     * Only takes effect when the datasource is PostgreSQL.
+     */
+    public static class Invalidation {
+        private boolean enabled = true;
+        private String channel = "myrc_cache_invalidation";
+        private long pollTimeoutMs = 5000;
+        private long reconnectDelayMs = 5000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public void setChannel(String channel) {
+            this.channel = channel;
+        }
+
+        public long getPollTimeoutMs() {
+            return pollTimeoutMs;
+        }
+
+        public void setPollTimeoutMs(long pollTimeoutMs) {
+            this.pollTimeoutMs = pollTimeoutMs;
+        }
+
+        public long getReconnectDelayMs() {
+            return reconnectDelayMs;
+        }
+
+        public void setReconnectDelayMs(long reconnectDelayMs) {
+            this.reconnectDelayMs = reconnectDelayMs;
+        }
+    }
+
+    /**
+     * Hibernate second-level (entity) and query cache for reference data.
+     */
+    public static class SecondLevel {
+        private boolean enabled = true;
+        private boolean queryCache = true;
+        private boolean statistics = true;
+        private Map<String, EntityRegion> entities = defaultEntities();
+
+        private static Map<String, EntityRegion> defaultEntities() {
+            Map<String, EntityRegion> entities = new LinkedHashMap<>();
+            for (String key : CacheRegions.ENTITIES.keySet()) {
+                entities.put(key, new EntityRegion());
+            }
+            return entities;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isQueryCache() {
+            return queryCache;
+        }
+
+        public void setQueryCache(boolean queryCache) {
+            this.queryCache = queryCache;
+        }
+
+        public boolean isStatistics() {
+            return statistics;
+        }
+
+        public void setStatistics(boolean statistics) {
+            this.statistics = statistics;
+        }
+
+        public Map<String, EntityRegion> getEntities() {
+            return entities;
+        }
+
+        public void setEntities(Map<String, EntityRegion> entities) {
+            this.entities = entities;
+        }
+    }
+
+    /**
+     * Per-entity cache toggle and sizing.
+     */
+    public static class EntityRegion {
+        private boolean enabled = true;
+        private long maxEntries = 10000;
+        private long timeToLiveSeconds = 3600;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public long getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(long timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+    }
+
+    public Invalidation getInvalidation() {
+        return invalidation;
+    }
+
+    public void setInvalidation(Invalidation invalidation) {
+        this.invalidation = invalidation;
+    }
+
+    public SecondLevel getSecondLevel() {
+        return secondLevel;
+    }
+
+    public void setSecondLevel(SecondLevel secondLevel) {
+        this.secondLevel = secondLevel;
+    }
+}
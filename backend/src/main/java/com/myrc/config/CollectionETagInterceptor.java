@@ -0,0 +1,185 @@
+/*
+ * myRC - Collection ETag Interceptor
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import com.myrc.cache.FiscalYearState;
+import com.myrc.cache.FiscalYearStateCache;
+import com.myrc.datasource.ReadYourWritesTracker;
+import com.myrc.service.RCPermissionService;
+import com.myrc.sync.CollectionVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Interceptor that answers conditional GETs of fiscal-year scoped list
+ * endpoints ({@code .../fiscal-years/{fyId}/spending-items}, {@code monies},
+ * {@code categories}, ...) without running the controller.
+ *
+ * <p>The weak ETag is derived from the collection's version stamp
+ * ({@link CollectionVersions}), a primary-key lookup, plus the query string.
+ * When it matches {@code If-None-Match} the interceptor replies 304 before
+ * any entity is loaded; otherwise it sets the ETag and lets the controller
+ * build the list.</p>
+ *
+ * <p>The stamp is read on the primary, outside any transaction. With read
+ * replicas enabled the rest of the request is pinned to the primary too, since
+ * a lagging replica could return a body older than the ETag and clients would
+ * keep getting 304s for stale data. Both reads then see the primary and the
+ * stamp is read first, so a write committing in between can only make the
+ * ETag older than the body: one extra full response, never a stale 304.</p>
+ *
+ * <p>The same access check as the list endpoints runs first; users without
+ * access fall through to the controller, which rejects them.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class CollectionETagInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = Logger.getLogger(CollectionETagInterceptor.class.getName());
+
+    private final CollectionVersions collectionVersions;
+    private final FiscalYearStateCache fiscalYearStateCache;
+    private final RCPermissionService permissionService;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+
+    public CollectionETagInterceptor(CollectionVersions collectionVersions,
+                                     FiscalYearStateCache fiscalYearStateCache,
+                                     RCPermissionService permissionService,
+                                     ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        this.collectionVersions = collectionVersions;
+        this.fiscalYearStateCache = fiscalYearStateCache;
+        this.permissionService = permissionService;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) throws Exception {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        String collection = listCollection(request);
+        Long fyId = collection != null ? fiscalYearId(request) : null;
+        if (fyId == null) {
+            return true; // not a fiscal-year scoped list endpoint
+        }
+
+        Optional<FiscalYearState> fy = fiscalYearStateCache.get(fyId);
+        if (fy.isEmpty() || !permissionService.hasAccess(fy.get().rcId(), getUsername())) {
+            return true; // let the controller answer 404/403
+        }
+
+        String etag = etag(collection, collectionVersions.stamp(fyId, collection), request.getQueryString());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // Browsers may store the list but must revalidate before reusing it
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        // JSON, CBOR and Smile bodies share the ETag; keep cached copies apart
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            logger.fine("Not modified: " + request.getRequestURI() + " " + etag);
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return false;
+        }
+        // The body must not come from a replica that is behind the stamp
+        readYourWritesTracker.ifAvailable(ReadYourWritesTracker::pinRequestToPrimary);
+        return true;
+    }
+
+    /**
+     * Build the weak ETag of a list response.
+     *
+     * @param collection the collection path segment
+     * @param stamp the collection's version stamp
+     * @param queryString the request's query string, or null
+     * @return the quoted weak ETag
+     */
+    static String etag(String collection, String stamp, String queryString) {
+        String tag = collection + "-" + stamp;
+        if (queryString != null && !queryString.isEmpty()) {
+            tag += "-" + Integer.toHexString(queryString.hashCode());
+        }
+        return "W/\"" + tag + "\"";
+    }
+
+    /**
+     * Weak comparison of an {@code If-None-Match} header against an ETag.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The collection of a list endpoint, i.e. a handler whose pattern ends in
+     * {@code /fiscal-years/{fyId}/<collection>}.
+     */
+    private String listCollection(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return null;
+        }
+        String path = pattern.toString();
+        int slash = path.lastIndexOf('/');
+        if (slash < 0 || !path.substring(0, slash).endsWith("/fiscal-years/{fyId}")) {
+            return null;
+        }
+        String collection = path.substring(slash + 1);
+        return CollectionVersions.COLLECTIONS.contains(collection) ? collection : null;
+    }
+
+    private Long fiscalYearId(HttpServletRequest request) {
+        Object attribute = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (attribute instanceof Map<?, ?> variables && variables.get("fyId") != null) {
+            try {
+                return Long.valueOf(variables.get("fyId").toString());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private String getUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getName() != null) {
+            return authentication.getName();
+        }
+        return "anonymous";
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * myRC - Exchange Rate Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for the dated exchange-rate table.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for exchange rates and CAD revaluation.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   currency:
+ *     rates:
+ *       import-dir: /var/lib/myrc/rates
+ *       import-poll-ms: 60000
+ *       revalue-cron: "0 15 2 * * *"
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.currency.rates")
+public class ExchangeRateProperties {
+
+    /** Directory polled for rate files; empty disables the poll. */
+    private String importDir = "";
+
+    /** Delay between two polls of the import directory. */
+    private long importPollMs = 60_000;
+
+    /** When open fiscal years are revalued against the latest rates. */
+    private String revalueCron = "0 15 2 * * *";
+
+    /** How long the in-memory rate table is trusted before it is re-read. */
+    private long cacheTtlSeconds = 3600;
+
+    public String getImportDir() {
+        return importDir;
+    }
+
+    public void setImportDir(String importDir) {
+        this.importDir = importDir;
+    }
+
+    public long getImportPollMs() {
+        return importPollMs;
+    }
+
+    public void setImportPollMs(long importPollMs) {
+        this.importPollMs = importPollMs;
+    }
+
+    public String getRevalueCron() {
+        return revalueCron;
+    }
+
+    public void setRevalueCron(String revalueCron) {
+        this.revalueCron = revalueCron;
+    }
+
+    public long getCacheTtlSeconds() {
+        return cacheTtlSeconds;
+    }
+
+    public void setCacheTtlSeconds(long cacheTtlSeconds) {
+        this.cacheTtlSeconds = cacheTtlSeconds;
+    }
+}
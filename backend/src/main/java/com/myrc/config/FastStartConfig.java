@@ -0,0 +1,79 @@
+/*
+ * myRC - Fast Start Configuration
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Defers creation of rarely used beans under the fast-start profile.
+ */
+
+package com.myrc.config;
+
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Marks the beans listed under {@code app.startup.lazy-beans} as lazy when
+ * the {@code fast-start} profile is active.
+ *
+ * <p>Global lazy initialization would also defer scheduled jobs, cache
+ * listeners and the change feed recorder, which must run from startup, so
+ * only named beans are deferred: controllers (and services used by nothing
+ * else) behind rarely used screens such as audit, export/import and
+ * directory search. Request mappings are still registered at startup; the
+ * bean is created on its first request.</p>
+ *
+ * <p>Example configuration in application-fast-start.yml:
+ * <pre>
+ * app:
+ *   startup:
+ *     lazy-beans:
+ *       - AuditController
+ *       - ExportImportController
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    private static final Logger logger = Logger.getLogger(FastStartConfig.class.getName());
+
+    /**
+     * Static so it runs before other bean definitions are instantiated.
+     *
+     * @param environment the environment holding {@code app.startup.lazy-beans}
+     * @return the post-processor
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        Set<String> lazyBeans = Set.copyOf(Binder.get(environment)
+                .bind("app.startup.lazy-beans", Bindable.listOf(String.class))
+                .orElse(List.of()));
+        return beanFactory -> {
+            int deferred = 0;
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String className = definition.getBeanClassName();
+                if (className != null
+                        && lazyBeans.contains(ClassUtils.getShortName(className))) {
+                    definition.setLazyInit(true);
+                    deferred++;
+                }
+            }
+            logger.info("Fast start: " + deferred + " beans initialized on first use");
+        };
+    }
+}
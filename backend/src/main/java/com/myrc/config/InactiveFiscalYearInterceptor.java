@@ -6,16 +6,18 @@
 package com.myrc.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myrc.cache.FiscalYearState;
+import com.myrc.cache.FiscalYearStateCache;
 import com.myrc.dto.ErrorResponse;
-import com.myrc.model.FiscalYear;
-import com.myrc.repository.FiscalYearRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -30,6 +32,10 @@ import java.util.regex.Pattern;
  * <p>The toggle-active endpoint itself is exempted so that an owner can
  * re-activate an inactive fiscal year.</p>
  *
+ * <p>The fiscal year ID is taken from the matched URI template variables
+ * and its active flag from the {@link FiscalYearStateCache}, so the guard
+ * normally costs no database round trip.</p>
+ *
  * @author myRC Team
  * @version 1.0.0
  * @since 2026-02-09
@@ -42,19 +48,19 @@ public class InactiveFiscalYearInterceptor implements HandlerInterceptor {
     private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
 
     /**
-     * Matches URLs like:
+     * Fallback for handlers without URI template variables. Matches URLs like:
      *   /responsibility-centres/{rcId}/fiscal-years/{fyId}/...
      *   /fiscal-years/{fyId}/...
      */
     private static final Pattern FY_ID_PATTERN = Pattern.compile(
             "/fiscal-years/(\\d+)(?:/|$)");
 
-    private final FiscalYearRepository fiscalYearRepository;
+    private final FiscalYearStateCache fiscalYearStateCache;
     private final ObjectMapper objectMapper;
 
-    public InactiveFiscalYearInterceptor(FiscalYearRepository fiscalYearRepository,
+    public InactiveFiscalYearInterceptor(FiscalYearStateCache fiscalYearStateCache,
                                           ObjectMapper objectMapper) {
-        this.fiscalYearRepository = fiscalYearRepository;
+        this.fiscalYearStateCache = fiscalYearStateCache;
         this.objectMapper = objectMapper;
     }
 
@@ -76,22 +82,21 @@ public class InactiveFiscalYearInterceptor implements HandlerInterceptor {
         }
 
         // Extract the fiscal year ID from the URL
-        Matcher matcher = FY_ID_PATTERN.matcher(uri);
-        if (!matcher.find()) {
+        Long fyId = extractFiscalYearId(request, uri);
+        if (fyId == null) {
             return true; // URL is not FY-scoped
         }
 
-        Long fyId = Long.parseLong(matcher.group(1));
-        Optional<FiscalYear> fyOpt = fiscalYearRepository.findById(fyId);
+        Optional<FiscalYearState> fyOpt = fiscalYearStateCache.get(fyId);
 
         if (fyOpt.isEmpty()) {
             return true; // Let the controller handle 404
         }
 
-        FiscalYear fy = fyOpt.get();
-        if (!fy.getActive()) {
+        FiscalYearState fy = fyOpt.get();
+        if (!fy.isActive()) {
             logger.warning("Blocked write operation on inactive fiscal year " + fyId
-                    + " (" + fy.getName() + "): " + method + " " + uri);
+                    + " (RC " + fy.rcId() + "): " + method + " " + uri);
 
             response.setStatus(HttpStatus.FORBIDDEN.value());
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
@@ -102,4 +107,31 @@ public class InactiveFiscalYearInterceptor implements HandlerInterceptor {
 
         return true;
     }
+
+    /**
+     * Resolve the fiscal year ID from the handler's URI template variables,
+     * falling back to matching the raw URI.
+     */
+    private Long extractFiscalYearId(HttpServletRequest request, String uri) {
+        Object attribute = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (attribute instanceof Map<?, ?> variables) {
+            Object value = variables.get("fyId");
+            if (value == null) {
+                value = variables.get("fiscalYearId");
+            }
+            if (value != null) {
+                try {
+                    return Long.valueOf(value.toString());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+            if (!variables.isEmpty()) {
+                return null;
+            }
+        }
+
+        Matcher matcher = FY_ID_PATTERN.matcher(uri);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : null;
+    }
 }
@@ -34,6 +34,8 @@ import java.util.Map;
  *       user-search-filter: "(uid={0})"
  *       group-search-base: ou=groups
  *       group-search-filter: "(member={0})"
+ *       nested-groups: ITERATIVE
+ *       membership-cache-ttl-seconds: 300
  *       manager-dn: cn=admin,dc=example,dc=com
  *       manager-password: admin_password
  *       attributes:
@@ -111,6 +113,29 @@ public class LdapProperties {
      */
     private String groupObjectClass = "(|(objectClass=groupOfNames)(objectClass=groupOfUniqueNames)(objectClass=Group)(objectClass=posixGroup))";
 
+    /**
+     * How nested groups are expanded when resolving a user's groups.
+     * NONE returns direct memberships only.
+     */
+    private NestedGroupMode nestedGroups = NestedGroupMode.NONE;
+
+    /**
+     * Maximum nesting levels followed in ITERATIVE mode.
+     */
+    private int nestedGroupMaxDepth = 5;
+
+    /**
+     * Seconds a user's resolved group memberships are reused across logins.
+     * Group changes in the directory take effect after at most this long.
+     * 0 disables the cache.
+     */
+    private int membershipCacheTtlSeconds = 300;
+
+    /**
+     * Maximum number of users held in the membership cache.
+     */
+    private int membershipCacheMaxEntries = 10000;
+
     /**
      * Search base for distribution lists, relative to base-dn.
      */
@@ -163,6 +188,24 @@ public class LdapProperties {
      */
     private List<GroupMapping> groupMappings = new ArrayList<>();
 
+    /**
+     * Nested group expansion strategies.
+     */
+    public enum NestedGroupMode {
+        /** Direct group memberships only. */
+        NONE,
+        /**
+         * Active Directory LDAP_MATCHING_RULE_IN_CHAIN: the server returns all
+         * transitive groups in one search.
+         */
+        IN_CHAIN,
+        /**
+         * Follow parent groups one level per search, for servers without the
+         * in-chain matching rule (OpenLDAP, 389 DS).
+         */
+        ITERATIVE
+    }
+
     /**
      * SSL/TLS configuration for LDAP connections.
      */
@@ -563,4 +606,36 @@ public class LdapProperties {
     public void setGroupMappings(List<GroupMapping> groupMappings) {
         this.groupMappings = groupMappings;
     }
+
+    public NestedGroupMode getNestedGroups() {
+        return nestedGroups;
+    }
+
+    public void setNestedGroups(NestedGroupMode nestedGroups) {
+        this.nestedGroups = nestedGroups;
+    }
+
+    public int getNestedGroupMaxDepth() {
+        return nestedGroupMaxDepth;
+    }
+
+    public void setNestedGroupMaxDepth(int nestedGroupMaxDepth) {
+        this.nestedGroupMaxDepth = nestedGroupMaxDepth;
+    }
+
+    public int getMembershipCacheTtlSeconds() {
+        return membershipCacheTtlSeconds;
+    }
+
+    public void setMembershipCacheTtlSeconds(int membershipCacheTtlSeconds) {
+        this.membershipCacheTtlSeconds = membershipCacheTtlSeconds;
+    }
+
+    public int getMembershipCacheMaxEntries() {
+        return membershipCacheMaxEntries;
+    }
+
+    public void setMembershipCacheMaxEntries(int membershipCacheMaxEntries) {
+        this.membershipCacheMaxEntries = membershipCacheMaxEntries;
+    }
 }
@@ -15,6 +15,7 @@ import org.springframework.ldap.core.DirContextOperations;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.ldap.DefaultSpringSecurityContextSource;
+import org.springframework.security.ldap.SpringSecurityLdapTemplate;
 import org.springframework.security.ldap.authentication.BindAuthenticator;
 import org.springframework.security.ldap.authentication.LdapAuthenticationProvider;
 import org.springframework.security.ldap.search.FilterBasedLdapUserSearch;
@@ -22,11 +23,18 @@ import org.springframework.security.ldap.userdetails.DefaultLdapAuthoritiesPopul
 import org.springframework.security.ldap.userdetails.LdapAuthoritiesPopulator;
 import org.springframework.security.ldap.userdetails.LdapUserDetailsMapper;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -196,16 +204,42 @@ public class LdapSecurityConfig {
      * group-based access records.
      * </p>
      * <p>
-     * Group DNs are captured by overriding {@link #getGroupMembershipRoles} to
-     * extract the {@code spring.security.ldap.dn} key from each search result,
-     * rather than relying on the {@code memberOf} user attribute which may not
-     * be returned by all LDAP servers.
+     * Group DNs and names come from a single group search: each result carries
+     * the {@code spring.security.ldap.dn} key and the group name attribute, so
+     * the ROLE_xxx authorities are built from the same results instead of
+     * searching again in the superclass. The {@code memberOf} user attribute is
+     * used as a fallback because not all LDAP servers return it.
+     * </p>
+     * <p>
+     * Nested groups are expanded according to
+     * {@link LdapProperties#getNestedGroups()}, and the resolved groups are
+     * cached per user DN for {@link LdapProperties#getMembershipCacheTtlSeconds()}
+     * so repeated logins only cost the bind.
      * </p>
      */
     public static class GroupMappingLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopulator {
 
+        /**
+         * Active Directory LDAP_MATCHING_RULE_IN_CHAIN: matches every group the
+         * user belongs to, directly or through nested groups.
+         */
+        static final String IN_CHAIN_GROUP_SEARCH_FILTER = "(member:1.2.840.113556.1.4.1941:={0})";
+
+        /**
+         * Maximum groups whose parents are looked up in one search during
+         * iterative expansion, to keep the OR filter a reasonable size.
+         */
+        static final int NESTED_GROUP_BATCH_SIZE = 50;
+
+        private static final Pattern FILTER_ARGUMENT = Pattern.compile("\\{([01])\\}");
+
         private final LdapProperties ldapProperties;
 
+        /**
+         * Resolved groups (DN to name) keyed by lower-cased user DN.
+         */
+        private final Map<String, CachedMembership> membershipCache = new ConcurrentHashMap<>();
+
         /**
          * Thread-local storage for group DNs discovered during the group membership
          * search. Populated by {@link #getGroupMembershipRoles} and consumed by
@@ -222,49 +256,152 @@ public class LdapSecurityConfig {
         }
 
         /**
-         * Overrides the default group membership search to capture full group DNs
-         * from the search results. The DNs are stored in a thread-local set and
-         * later consumed by {@link #getAdditionalRoles} to create
+         * Resolves the user's groups with one group search (plus nested-group
+         * expansion, if enabled) and builds the ROLE_xxx authorities from the
+         * group names. The group DNs are stored in a thread-local set and later
+         * consumed by {@link #getAdditionalRoles} to create
          * {@code LDAP_GROUP_DN_xxx} authorities.
          *
          * @param userDn   the user's distinguished name
          * @param username the user's login name
-         * @return the set of role authorities from the standard group search
+         * @return the set of role authorities, one per group
          */
         @Override
         public Set<GrantedAuthority> getGroupMembershipRoles(String userDn, String username) {
+            Set<String> groupDns = discoveredGroupDns.get();
             // Clear any leftover state from a previous invocation on this thread
-            discoveredGroupDns.get().clear();
+            groupDns.clear();
+
+            Set<GrantedAuthority> roles = new HashSet<>();
+            for (Map.Entry<String, String> group : resolveGroups(userDn, username).entrySet()) {
+                groupDns.add(group.getKey());
+                logger.debug("Discovered group DN for user {}: {}", username, group.getKey());
+                String name = group.getValue();
+                if (name != null) {
+                    roles.add(new SimpleGrantedAuthority(
+                        getRolePrefix() + (isConvertToUpperCase() ? name.toUpperCase(Locale.ROOT) : name)));
+                }
+            }
+            return roles;
+        }
 
-            // Perform the standard group search
+        /**
+         * Discards all cached group memberships, e.g. after a bulk group change
+         * in the directory.
+         */
+        public void clearMembershipCache() {
+            membershipCache.clear();
+        }
+
+        /**
+         * Returns the user's groups as group DN to group name (null when the
+         * group has no name attribute), from the cache while it is fresh.
+         *
+         * @param userDn   the user's distinguished name
+         * @param username the user's login name
+         * @return the user's direct and, if enabled, nested groups
+         */
+        Map<String, String> resolveGroups(String userDn, String username) {
+            long ttlNanos = TimeUnit.SECONDS.toNanos(ldapProperties.getMembershipCacheTtlSeconds());
+            String key = userDn.toLowerCase(Locale.ROOT);
+            if (ttlNanos > 0) {
+                CachedMembership cached = membershipCache.get(key);
+                if (cached != null && System.nanoTime() - cached.loadedAt() < ttlNanos) {
+                    logger.debug("Using cached group membership for user {}", username);
+                    return cached.groups();
+                }
+            }
+
+            Map<String, String> groups = Collections.unmodifiableMap(searchGroups(userDn, username));
+            if (ttlNanos > 0) {
+                if (membershipCache.size() >= ldapProperties.getMembershipCacheMaxEntries()) {
+                    membershipCache.clear();
+                }
+                membershipCache.put(key, new CachedMembership(groups, System.nanoTime()));
+            }
+            return groups;
+        }
+
+        private Map<String, String> searchGroups(String userDn, String username) {
+            Map<String, String> groups = new LinkedHashMap<>();
             String base = getGroupSearchBase();
-            if (base != null) {
-                try {
-                    org.springframework.security.ldap.SpringSecurityLdapTemplate template = getLdapTemplate();
-                    Set<java.util.Map<String, java.util.List<String>>> userRoles =
-                        template.searchForMultipleAttributeValues(
-                            base,
-                            getGroupSearchFilter(),
-                            new String[]{userDn, username},
-                            new String[]{getGroupRoleAttribute()});
-
-                    for (java.util.Map<String, java.util.List<String>> role : userRoles) {
-                        java.util.List<String> dns = role.get(
-                            org.springframework.security.ldap.SpringSecurityLdapTemplate.DN_KEY);
-                        if (dns != null) {
-                            for (String dn : dns) {
-                                discoveredGroupDns.get().add(dn);
-                                logger.debug("Discovered group DN for user {}: {}", username, dn);
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.warn("Error capturing group DNs for user {}: {}", username, e.getMessage());
+            if (base == null) {
+                return groups;
+            }
+
+            LdapProperties.NestedGroupMode mode = ldapProperties.getNestedGroups();
+            String filter = mode == LdapProperties.NestedGroupMode.IN_CHAIN
+                ? IN_CHAIN_GROUP_SEARCH_FILTER
+                : getGroupSearchFilter();
+            List<String> level = addGroups(
+                getLdapTemplate().searchForMultipleAttributeValues(
+                    base, filter, new String[]{userDn, username}, new String[]{getGroupRoleAttribute()}),
+                groups);
+
+            if (mode == LdapProperties.NestedGroupMode.ITERATIVE) {
+                int depth = 0;
+                while (!level.isEmpty() && depth < ldapProperties.getNestedGroupMaxDepth()) {
+                    level = searchParentGroups(base, level, groups);
+                    depth++;
+                }
+                if (!level.isEmpty()) {
+                    logger.warn("Nested groups of user {} exceed depth {}; deeper groups ignored",
+                        username, ldapProperties.getNestedGroupMaxDepth());
+                }
+            }
+            return groups;
+        }
+
+        /**
+         * Finds the groups that have any of the given groups as a member, using
+         * the configured group search filter with each group's DN and name in
+         * place of the user's, OR-ed together in batches.
+         *
+         * @return the DNs of parent groups not seen before
+         */
+        private List<String> searchParentGroups(String base, List<String> childDns, Map<String, String> groups) {
+            List<String> parents = new ArrayList<>();
+            for (int from = 0; from < childDns.size(); from += NESTED_GROUP_BATCH_SIZE) {
+                List<String> batch = childDns.subList(from, Math.min(from + NESTED_GROUP_BATCH_SIZE, childDns.size()));
+                StringBuilder filter = new StringBuilder("(|");
+                List<String> arguments = new ArrayList<>();
+                for (String childDn : batch) {
+                    int offset = arguments.size();
+                    arguments.add(childDn);
+                    arguments.add(groups.get(childDn) != null ? groups.get(childDn) : "");
+                    filter.append(FILTER_ARGUMENT.matcher(getGroupSearchFilter())
+                        .replaceAll(m -> "{" + (offset + Integer.parseInt(m.group(1))) + "}"));
                 }
+                filter.append(')');
+                parents.addAll(addGroups(
+                    getLdapTemplate().searchForMultipleAttributeValues(
+                        base, filter.toString(), arguments.toArray(new String[0]),
+                        new String[]{getGroupRoleAttribute()}),
+                    groups));
             }
+            return parents;
+        }
+
+        /**
+         * Adds search results to the group map.
+         *
+         * @return the DNs that were not already present
+         */
+        private List<String> addGroups(Set<Map<String, List<String>>> results, Map<String, String> groups) {
+            List<String> added = new ArrayList<>();
+            for (Map<String, List<String>> result : results) {
+                List<String> dns = result.get(SpringSecurityLdapTemplate.DN_KEY);
+                if (dns == null || dns.isEmpty() || groups.containsKey(dns.get(0))) {
+                    continue;
+                }
+                List<String> names = result.get(getGroupRoleAttribute());
+                groups.put(dns.get(0), names == null || names.isEmpty() ? null : names.get(0));
+                added.add(dns.get(0));
+            }
+            return added;
+        }
 
-            // Delegate to super for standard role authority creation
-            return super.getGroupMembershipRoles(userDn, username);
+        private record CachedMembership(Map<String, String> groups, long loadedAt) {
         }
 
         /**
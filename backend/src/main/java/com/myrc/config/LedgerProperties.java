@@ -0,0 +1,57 @@
+/*
+ * myRC - Ledger Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for the allocation ledger reconciliation.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the allocation ledger.
+ *
+ * <p>The reconciliation job compares the running totals of every fiscal
+ * year with sums over the allocation tables. With {@code repair} enabled a
+ * fiscal year that differs has its items re-posted to the ledger and its
+ * totals rebuilt; otherwise the differences are only logged.</p>
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   ledger:
+ *     reconcile-cron: "0 45 2 * * *"
+ *     repair: true
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.ledger")
+public class LedgerProperties {
+
+    private String reconcileCron = "0 45 2 * * *";
+
+    private boolean repair = true;
+
+    public String getReconcileCron() {
+        return reconcileCron;
+    }
+
+    public void setReconcileCron(String reconcileCron) {
+        this.reconcileCron = reconcileCron;
+    }
+
+    public boolean isRepair() {
+        return repair;
+    }
+
+    public void setRepair(boolean repair) {
+        this.repair = repair;
+    }
+}
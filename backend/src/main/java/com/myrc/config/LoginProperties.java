@@ -0,0 +1,114 @@
+/*
+ * myRC - Login Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for app-account password hashing and login processing.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for app-account logins.
+ *
+ * <p>Password checks run on a small fixed pool ({@code verify-threads}, by
+ * default half the cores) with a bounded queue, so a login storm cannot
+ * take every request thread or CPU. When the queue is full, or a check
+ * waits longer than {@code verify-timeout-ms}, the login is answered with
+ * 429 instead of queueing further. Login bookkeeping (last login, failed
+ * attempts, lockout) is written in batches every {@code flush-interval-ms}.</p>
+ *
+ * <p>New and upgraded hashes use {@code password-encoding} ({@code bcrypt}
+ * or {@code pbkdf2}) at {@code bcrypt-strength}. Existing hashes, including
+ * unprefixed BCrypt hashes from earlier releases, keep working and are
+ * re-hashed on the user's next successful login.</p>
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   security:
+ *     login:
+ *       password-encoding: bcrypt
+ *       bcrypt-strength: 10
+ *       verify-threads: 0
+ *       verify-queue-capacity: 200
+ *       verify-timeout-ms: 5000
+ *       flush-interval-ms: 1000
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security.login")
+public class LoginProperties {
+
+    private String passwordEncoding = "bcrypt";
+    private int bcryptStrength = 10;
+    private int verifyThreads = 0;
+    private int verifyQueueCapacity = 200;
+    private long verifyTimeoutMs = 5000;
+    private long flushIntervalMs = 1000;
+
+    /**
+     * Encoder id for new hashes: {@code bcrypt} or {@code pbkdf2}.
+     *
+     * @return the encoding id
+     */
+    public String getPasswordEncoding() {
+        return passwordEncoding;
+    }
+
+    public void setPasswordEncoding(String passwordEncoding) {
+        this.passwordEncoding = passwordEncoding;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    /**
+     * Password verification threads; 0 uses half the available processors.
+     *
+     * @return the number of threads
+     */
+    public int getVerifyThreads() {
+        return verifyThreads;
+    }
+
+    public void setVerifyThreads(int verifyThreads) {
+        this.verifyThreads = verifyThreads;
+    }
+
+    public int getVerifyQueueCapacity() {
+        return verifyQueueCapacity;
+    }
+
+    public void setVerifyQueueCapacity(int verifyQueueCapacity) {
+        this.verifyQueueCapacity = verifyQueueCapacity;
+    }
+
+    public long getVerifyTimeoutMs() {
+        return verifyTimeoutMs;
+    }
+
+    public void setVerifyTimeoutMs(long verifyTimeoutMs) {
+        this.verifyTimeoutMs = verifyTimeoutMs;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * myRC - Portfolio Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for the cross-RC portfolio dashboard.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the portfolio dashboard.
+ *
+ * <p>The totals of each RC are aggregated by a task on a fixed pool of
+ * {@code aggregation-threads} threads with a queue of {@code queue-capacity}
+ * tasks, so one user with hundreds of RCs cannot take every database
+ * connection. RCs not finished within {@code time-budget-ms} are reported as
+ * incomplete; their tasks keep running and fill the cache for the next
+ * request. Fiscal year totals are cached for {@code cache-ttl-seconds} and
+ * evicted as soon as the fiscal year changes.</p>
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   portfolio:
+ *     aggregation-threads: 4
+ *     queue-capacity: 500
+ *     time-budget-ms: 3000
+ *     cache-ttl-seconds: 300
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.portfolio")
+public class PortfolioProperties {
+
+    private int aggregationThreads = 4;
+    private int queueCapacity = 500;
+    private long timeBudgetMs = 3000;
+    private long cacheTtlSeconds = 300;
+
+    /**
+     * Threads running per-RC aggregation queries, shared by all requests.
+     *
+     * @return the number of threads
+     */
+    public int getAggregationThreads() {
+        return aggregationThreads;
+    }
+
+    public void setAggregationThreads(int aggregationThreads) {
+        this.aggregationThreads = aggregationThreads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getTimeBudgetMs() {
+        return timeBudgetMs;
+    }
+
+    public void setTimeBudgetMs(long timeBudgetMs) {
+        this.timeBudgetMs = timeBudgetMs;
+    }
+
+    public long getCacheTtlSeconds() {
+        return cacheTtlSeconds;
+    }
+
+    public void setCacheTtlSeconds(long cacheTtlSeconds) {
+        this.cacheTtlSeconds = cacheTtlSeconds;
+    }
+}
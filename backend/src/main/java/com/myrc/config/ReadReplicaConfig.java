@@ -0,0 +1,162 @@
+/*
+ * myRC - Read Replica Configuration
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import com.myrc.datasource.ReadYourWritesFilter;
+import com.myrc.datasource.ReadYourWritesTracker;
+import com.myrc.datasource.Replica;
+import com.myrc.datasource.ReplicaHealthIndicator;
+import com.myrc.datasource.ReplicaHealthMonitor;
+import com.myrc.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.session.jdbc.config.annotation.SpringSessionDataSource;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+/**
+ * Routes {@code @Transactional(readOnly = true)} work to PostgreSQL read
+ * replicas.
+ *
+ * <p>The application-wide {@link DataSource} becomes a lazy proxy around a
+ * {@link ReplicaRoutingDataSource}; writes, Flyway and anything outside a
+ * transaction still use the primary pool. Spring Session is pinned to the
+ * primary pool directly so that session bookkeeping never counts as a user
+ * write for read-your-writes purposes. Hibernate is switched to release its
+ * connection after each transaction so that, with open-in-view, every
+ * transaction in a request is routed on its own.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final Logger logger = Logger.getLogger(ReadReplicaConfig.class.getName());
+
+    /**
+     * Connection pool to the primary, configured from {@code spring.datasource.*}.
+     */
+    @Bean(name = "primaryDataSource")
+    @SpringSessionDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (dataSource.getPoolName() == null) {
+            dataSource.setPoolName("primary");
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties replicaProperties) {
+        return new ReadYourWritesTracker(Duration.ofSeconds(replicaProperties.getStickyWindowSeconds()));
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+            ReplicaProperties replicaProperties, DataSourceProperties dataSourceProperties,
+            ReadYourWritesTracker readYourWritesTracker) {
+        List<Replica> replicas = new ArrayList<>();
+        int index = 0;
+        for (ReplicaProperties.Node node : replicaProperties.getNodes()) {
+            if (node.getUrl() == null || node.getUrl().isBlank()) {
+                index++;
+                continue;
+            }
+            String name = node.getName() != null ? node.getName() : "replica-" + index;
+            replicas.add(new Replica(name, createReplicaPool(name, node, replicaProperties,
+                    dataSourceProperties)));
+            index++;
+        }
+        logger.info("Read replica routing enabled with " + replicas.size() + " replica(s)");
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+    }
+
+    /**
+     * The application-wide data source. Connections are only fetched from the
+     * routing data source at the first statement, by which time the
+     * transaction's read-only flag is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaHealthMonitor replicaHealthMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+            ReplicaProperties replicaProperties) {
+        return new ReplicaHealthMonitor(replicaRoutingDataSource.getReplicas(),
+                replicaProperties.getMaxLagSeconds(),
+                replicaProperties.getHealthCheckIntervalMs(),
+                replicaProperties.getHealthCheckTimeoutSeconds());
+    }
+
+    @Bean
+    public ReplicaHealthIndicator replicasHealthIndicator(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaHealthIndicator(replicaRoutingDataSource);
+    }
+
+    /**
+     * Loads the read-your-writes deadline from the session; ordered just
+     * after the Spring Session filter so the session is resolvable.
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            ReadYourWritesTracker readYourWritesTracker) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesTracker));
+        registration.setOrder(SessionRepositoryFilter.DEFAULT_ORDER + 1);
+        return registration;
+    }
+
+    /**
+     * Release JDBC connections at transaction end instead of holding them for
+     * the whole Hibernate session.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static HikariDataSource createReplicaPool(String name, ReplicaProperties.Node node,
+            ReplicaProperties replicaProperties, DataSourceProperties dataSourceProperties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica-" + name);
+        config.setJdbcUrl(node.getUrl());
+        config.setUsername(node.getUsername() != null
+                ? node.getUsername() : dataSourceProperties.determineUsername());
+        config.setPassword(node.getPassword() != null
+                ? node.getPassword() : dataSourceProperties.determinePassword());
+        config.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        config.setReadOnly(true);
+        // Do not fail startup when a replica is down; the health monitor keeps it out of rotation.
+        config.setInitializationFailTimeout(-1);
+        config.setConnectionTimeout(Math.max(250, replicaProperties.getHealthCheckTimeoutSeconds() * 1000L));
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * myRC - Read Replica Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for routing read-only transactions to
+ * PostgreSQL streaming replicas.
+ */
+
+package com.myrc.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for read replicas.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   datasource:
+ *     replicas:
+ *       enabled: true
+ *       max-lag-seconds: 5
+ *       nodes:
+ *         - name: replica-0
+ *           url: jdbc:postgresql://postgres-replica:5432/myrc
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+    private long maxLagSeconds = 5;
+    private long healthCheckIntervalMs = 5000;
+    private int healthCheckTimeoutSeconds = 2;
+    private long stickyWindowSeconds = 10;
+    private int maximumPoolSize = 10;
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * A single replica. Username and password default to the primary's.
+     */
+    public static class Node {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxLagSeconds() {
+        return maxLagSeconds;
+    }
+
+    public void setMaxLagSeconds(long maxLagSeconds) {
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public long getHealthCheckIntervalMs() {
+        return healthCheckIntervalMs;
+    }
+
+    public void setHealthCheckIntervalMs(long healthCheckIntervalMs) {
+        this.healthCheckIntervalMs = healthCheckIntervalMs;
+    }
+
+    public int getHealthCheckTimeoutSeconds() {
+        return healthCheckTimeoutSeconds;
+    }
+
+    public void setHealthCheckTimeoutSeconds(int healthCheckTimeoutSeconds) {
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+    }
+
+    public long getStickyWindowSeconds() {
+        return stickyWindowSeconds;
+    }
+
+    public void setStickyWindowSeconds(long stickyWindowSeconds) {
+        this.stickyWindowSeconds = stickyWindowSeconds;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+}
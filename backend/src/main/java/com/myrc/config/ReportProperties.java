@@ -0,0 +1,47 @@
+/*
+ * myRC - Report Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for streamed fiscal year reports.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for fiscal year report exports.
+ *
+ * <p>Reports are read through a forward-only cursor that fetches
+ * {@code fetch-size} rows per round trip, so memory use is bounded by the
+ * fetch size rather than the size of the report. A larger fetch size
+ * means fewer round trips for large reports at the cost of memory per
+ * export in flight.</p>
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   reports:
+ *     fetch-size: 1000
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.reports")
+public class ReportProperties {
+
+    private int fetchSize = 1000;
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * myRC - Scheduling Configuration
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Enables Spring's scheduled task support for background maintenance jobs.
+ */
+
+package com.myrc.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods such as the change feed pruner.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,121 @@
+/*
+ * myRC - Second-Level Cache Configuration
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.myrc.cache.CacheRegions;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level and query cache for reference data (monies,
+ * categories, spending categories, fiscal years and RCs).
+ *
+ * <p>Regions live in a local Caffeine-backed JCache manager on each replica.
+ * Entities are made cacheable through {@code hibernate.classcache.*}
+ * settings rather than annotations, so each one can be switched off under
+ * {@code app.cache.second-level.entities}. Cross-replica invalidation is
+ * handled by {@link com.myrc.cache.SecondLevelCacheInvalidator}; hit/miss
+ * counters are exposed through Hibernate statistics as the
+ * {@code hibernate.second.level.cache.*} and {@code hibernate.query.cache.*}
+ * Micrometer metrics.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(
+    name = "app.cache.second-level.enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class SecondLevelCacheConfig {
+
+  private static final Logger logger = Logger.getLogger(SecondLevelCacheConfig.class.getName());
+
+  private static final String CLASS_CACHE_PREFIX = "hibernate.classcache.";
+
+  /** Query-result regions are short-lived; entity changes elsewhere evict them anyway. */
+  private static final long QUERY_REGION_TTL_SECONDS = 600;
+
+  /**
+   * Local JCache manager holding one region per cacheable entity and query.
+   */
+  @Bean(destroyMethod = "close")
+  public CacheManager secondLevelCacheManager(CacheProperties cacheProperties) {
+    CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+        .getCacheManager();
+    for (Map.Entry<String, CacheProperties.EntityRegion> entry
+        : cacheProperties.getSecondLevel().getEntities().entrySet()) {
+      CacheProperties.EntityRegion region = entry.getValue();
+      if (!region.isEnabled() || !CacheRegions.ENTITIES.containsKey(entry.getKey())) {
+        continue;
+      }
+      createRegion(cacheManager, CacheRegions.entityRegion(entry.getKey()),
+          region.getMaxEntries(), region.getTimeToLiveSeconds());
+      createRegion(cacheManager, CacheRegions.queryRegion(entry.getKey()),
+          region.getMaxEntries(), Math.min(region.getTimeToLiveSeconds(), QUERY_REGION_TTL_SECONDS));
+    }
+    return cacheManager;
+  }
+
+  /**
+   * Hibernate settings enabling the JCache region factory and marking the
+   * enabled reference-data entities as read-write cacheable.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+      CacheProperties cacheProperties, CacheManager secondLevelCacheManager) {
+    CacheProperties.SecondLevel config = cacheProperties.getSecondLevel();
+    return hibernateProperties -> {
+      hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+      hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, config.isQueryCache());
+      hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+      hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+      hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+      hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, config.isStatistics());
+
+      for (Map.Entry<String, CacheProperties.EntityRegion> entry : config.getEntities().entrySet()) {
+        Class<?> entityClass = CacheRegions.ENTITIES.get(entry.getKey());
+        if (entityClass == null) {
+          logger.warning("Unknown second-level cache entity '" + entry.getKey() + "' (ignored)");
+          continue;
+        }
+        if (entry.getValue().isEnabled()) {
+          hibernateProperties.put(CLASS_CACHE_PREFIX + entityClass.getName(),
+              "read-write," + CacheRegions.entityRegion(entry.getKey()));
+        }
+      }
+      logger.info("Second-level cache enabled: queryCache=" + config.isQueryCache()
+          + ", entities=" + config.getEntities().entrySet().stream()
+              .filter(e -> e.getValue().isEnabled()).map(Map.Entry::getKey).toList());
+    };
+  }
+
+  private static void createRegion(CacheManager cacheManager, String name, long maxEntries,
+      long timeToLiveSeconds) {
+    if (cacheManager.getCache(name) != null) {
+      return;
+    }
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(OptionalLong.of(maxEntries));
+    configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(timeToLiveSeconds)));
+    configuration.setStatisticsEnabled(true);
+    cacheManager.createCache(name, configuration);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * myRC - Session Store Configuration
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import com.myrc.session.ExpiredSessionCleaner;
+import com.myrc.session.LowWriteSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.logging.Logger;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+
+/**
+ * Reduces the database writes of the JDBC session store (see
+ * {@link SessionStoreProperties}).
+ *
+ * <ul>
+ *   <li>the {@link JdbcIndexedSessionRepository} created by Spring Boot is
+ *       wrapped in a {@link LowWriteSessionRepository}, which skips writes of
+ *       unchanged attributes and coalesces last-access updates</li>
+ *   <li>Spring Session's own expired-session cleanup is turned off in favour
+ *       of the batched {@link ExpiredSessionCleaner}</li>
+ * </ul>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnClass(JdbcIndexedSessionRepository.class)
+@ConditionalOnProperty(name = "app.session.store.enabled", havingValue = "true", matchIfMissing = true)
+public class SessionStoreConfig {
+
+    private static final Logger logger = Logger.getLogger(SessionStoreConfig.class.getName());
+
+    /**
+     * Disables the built-in cleanup before the repository schedules it, and
+     * wraps the initialized repository.
+     */
+    @Bean
+    public static BeanPostProcessor lowWriteSessionRepositoryPostProcessor(
+            ObjectProvider<SessionStoreProperties> sessionStoreProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof JdbcIndexedSessionRepository repository) {
+                    repository.setCleanupCron(Scheduled.CRON_DISABLED);
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!(bean instanceof JdbcIndexedSessionRepository repository)) {
+                    return bean;
+                }
+                SessionStoreProperties properties = sessionStoreProperties.getIfAvailable(SessionStoreProperties::new);
+                logger.info("Session store: last-access writes coalesced over "
+                        + properties.getTouchWindowSeconds() + "s, unchanged attributes not rewritten");
+                return LowWriteSessionRepository.wrap(repository,
+                        Duration.ofSeconds(properties.getTouchWindowSeconds()),
+                        meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+            }
+        };
+    }
+
+    /**
+     * Batched replacement for Spring Session's expired-session cleanup.
+     *
+     * @param jdbcTemplate the template for the session tables
+     * @param properties the session store properties
+     * @param tableName the session table name
+     * @param meterRegistry the registry for the cleanup counter
+     * @return the cleaner
+     */
+    @Bean
+    public ExpiredSessionCleaner expiredSessionCleaner(JdbcTemplate jdbcTemplate,
+            SessionStoreProperties properties,
+            @Value("${spring.session.jdbc.table-name:SPRING_SESSION}") String tableName,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ExpiredSessionCleaner(jdbcTemplate, tableName, properties.getCleanupBatchSize(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
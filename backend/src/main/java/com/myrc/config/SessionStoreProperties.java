@@ -0,0 +1,88 @@
+/*
+ * myRC - Session Store Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for the write-reducing JDBC session store.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the JDBC session store layer (see
+ * {@link SessionStoreConfig}).
+ *
+ * <p>{@code touch-window-seconds} trades inactivity-timeout precision for
+ * fewer writes: a session whose only change is a new last-access time is
+ * written at most once per window, so it may expire up to one window earlier
+ * than {@code spring.session.timeout} after its last request.</p>
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   session:
+ *     store:
+ *       enabled: true
+ *       touch-window-seconds: 60
+ *       cleanup-cron: "0 * * * * *"
+ *       cleanup-batch-size: 500
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.session.store")
+public class SessionStoreProperties {
+
+    private boolean enabled = true;
+    private long touchWindowSeconds = 60;
+    private String cleanupCron = "0 * * * * *";
+    private int cleanupBatchSize = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Minimum interval between writes of a session's last-access time alone.
+     *
+     * @return the window in seconds; 0 writes on every request
+     */
+    public long getTouchWindowSeconds() {
+        return touchWindowSeconds;
+    }
+
+    public void setTouchWindowSeconds(long touchWindowSeconds) {
+        this.touchWindowSeconds = touchWindowSeconds;
+    }
+
+    public String getCleanupCron() {
+        return cleanupCron;
+    }
+
+    public void setCleanupCron(String cleanupCron) {
+        this.cleanupCron = cleanupCron;
+    }
+
+    /**
+     * Expired sessions deleted per statement by the cleanup job.
+     *
+     * @return the batch size
+     */
+    public int getCleanupBatchSize() {
+        return cleanupBatchSize;
+    }
+
+    public void setCleanupBatchSize(int cleanupBatchSize) {
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+}
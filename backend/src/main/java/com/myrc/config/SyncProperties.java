@@ -0,0 +1,131 @@
+/*
+ * myRC - Sync Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for the fiscal year change feed.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for delta sync.
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   sync:
+ *     max-changes: 500
+ *     retention-days: 30
+ *     prune-cron: "0 30 3 * * *"
+ *     push:
+ *       enabled: true
+ *       channel: myrc_fy_changes
+ *       emitter-timeout-ms: 1800000
+ *       heartbeat-ms: 25000
+ *       max-subscribers: 2000
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.sync")
+public class SyncProperties {
+
+    /** Above this many changed items a full reload is cheaper than a delta. */
+    private int maxChanges = 500;
+
+    /** Days change entries are kept; older watermarks require a full reload. */
+    private int retentionDays = 30;
+
+    private String pruneCron = "0 30 3 * * *";
+
+    private final Push push = new Push();
+
+    public int getMaxChanges() {
+        return maxChanges;
+    }
+
+    public void setMaxChanges(int maxChanges) {
+        this.maxChanges = maxChanges;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    public String getPruneCron() {
+        return pruneCron;
+    }
+
+    public void setPruneCron(String pruneCron) {
+        this.pruneCron = pruneCron;
+    }
+
+    public Push getPush() {
+        return push;
+    }
+
+    /**
+     * Server-Sent Events push of change notifications.
+     */
+    public static class Push {
+        private boolean enabled = true;
+        private String channel = "myrc_fy_changes";
+        /** Clients reconnect (with Last-Event-ID) after this long. */
+        private long emitterTimeoutMs = 1_800_000;
+        /** Keep-alive interval; must stay below proxy read timeouts. */
+        private long heartbeatMs = 25_000;
+        /** Open streams per replica before new subscriptions get 503. */
+        private int maxSubscribers = 2000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public void setChannel(String channel) {
+            this.channel = channel;
+        }
+
+        public long getEmitterTimeoutMs() {
+            return emitterTimeoutMs;
+        }
+
+        public void setEmitterTimeoutMs(long emitterTimeoutMs) {
+            this.emitterTimeoutMs = emitterTimeoutMs;
+        }
+
+        public long getHeartbeatMs() {
+            return heartbeatMs;
+        }
+
+        public void setHeartbeatMs(long heartbeatMs) {
+            this.heartbeatMs = heartbeatMs;
+        }
+
+        public int getMaxSubscribers() {
+            return maxSubscribers;
+        }
+
+        public void setMaxSubscribers(int maxSubscribers) {
+            this.maxSubscribers = maxSubscribers;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * myRC - Synthetic Data Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for the synthetic large-scale dataset generator.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the synthetic dataset generator, which runs
+ * with the {@code synthetic} profile.
+ *
+ * <p>The generator creates {@code responsibility-centres} RCs with
+ * {@code fiscal-years} consecutive fiscal years each. The item counts are
+ * per fiscal year of an average RC; each RC is scaled by a random size
+ * factor so that small and large RCs are both represented. The defaults
+ * produce about 1.2 million rows.</p>
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   synthetic:
+ *     owner: admin
+ *     responsibility-centres: 20
+ *     fiscal-years: 3
+ *     spending-items: 1500
+ *     batch-size: 1000
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.synthetic")
+public class SyntheticDataProperties {
+
+    /** Username of the owner of the generated RCs; must exist. */
+    private String owner = "admin";
+
+    private int responsibilityCentres = 20;
+
+    private int fiscalYears = 3;
+
+    /** Start year of the first generated fiscal year. */
+    private int firstFiscalYear = 2023;
+
+    /** Monies per fiscal year, the default A-Base included. */
+    private int monies = 4;
+
+    private int fundingItems = 150;
+
+    private int spendingItems = 1500;
+
+    private int procurementItems = 300;
+
+    private int trainingItems = 150;
+
+    private int travelItems = 150;
+
+    private int auditEvents = 3000;
+
+    /** Share of quotes and invoices that get a dummy attachment. */
+    private double attachmentRatio = 0.1;
+
+    private int attachmentBytes = 2048;
+
+    /** Rows per JDBC batch. */
+    private int batchSize = 1000;
+
+    /** Random seed; the same seed and settings generate the same data. */
+    private long seed = 42L;
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public int getResponsibilityCentres() {
+        return responsibilityCentres;
+    }
+
+    public void setResponsibilityCentres(int responsibilityCentres) {
+        this.responsibilityCentres = responsibilityCentres;
+    }
+
+    public int getFiscalYears() {
+        return fiscalYears;
+    }
+
+    public void setFiscalYears(int fiscalYears) {
+        this.fiscalYears = fiscalYears;
+    }
+
+    public int getFirstFiscalYear() {
+        return firstFiscalYear;
+    }
+
+    public void setFirstFiscalYear(int firstFiscalYear) {
+        this.firstFiscalYear = firstFiscalYear;
+    }
+
+    public int getMonies() {
+        return monies;
+    }
+
+    public void setMonies(int monies) {
+        this.monies = monies;
+    }
+
+    public int getFundingItems() {
+        return fundingItems;
+    }
+
+    public void setFundingItems(int fundingItems) {
+        this.fundingItems = fundingItems;
+    }
+
+    public int getSpendingItems() {
+        return spendingItems;
+    }
+
+    public void setSpendingItems(int spendingItems) {
+        this.spendingItems = spendingItems;
+    }
+
+    public int getProcurementItems() {
+        return procurementItems;
+    }
+
+    public void setProcurementItems(int procurementItems) {
+        this.procurementItems = procurementItems;
+    }
+
+    public int getTrainingItems() {
+        return trainingItems;
+    }
+
+    public void setTrainingItems(int trainingItems) {
+        this.trainingItems = trainingItems;
+    }
+
+    public int getTravelItems() {
+        return travelItems;
+    }
+
+    public void setTravelItems(int travelItems) {
+        this.travelItems = travelItems;
+    }
+
+    public int getAuditEvents() {
+        return auditEvents;
+    }
+
+    public void setAuditEvents(int auditEvents) {
+        this.auditEvents = auditEvents;
+    }
+
+    public double getAttachmentRatio() {
+        return attachmentRatio;
+    }
+
+    public void setAttachmentRatio(double attachmentRatio) {
+        this.attachmentRatio = attachmentRatio;
+    }
+
+    public int getAttachmentBytes() {
+        return attachmentBytes;
+    }
+
+    public void setAttachmentBytes(int attachmentBytes) {
+        this.attachmentBytes = attachmentBytes;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
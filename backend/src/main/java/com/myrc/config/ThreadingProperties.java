@@ -0,0 +1,101 @@
+/*
+ * myRC - Threading Configuration Properties
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Configuration properties for the virtual-thread request execution mode.
+ */
+
+package com.myrc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for virtual-thread mode. They only take effect
+ * when {@code spring.threads.virtual.enabled=true}.
+ *
+ * <p>With platform threads, Tomcat's {@code max-threads} implicitly limits how
+ * many requests can wait on the connection pool. Virtual threads remove that
+ * limit, so database access is instead bounded by a semaphore holding
+ * {@code connection-permits} permits. Size it to the Hikari pool (the default)
+ * and size the pool itself to what PostgreSQL can serve, roughly
+ * {@code cores * 2 + spindles} per replica divided by the number of backend
+ * replicas, not to the number of concurrent requests.</p>
+ *
+ * <p>Example configuration in application.yml:
+ * <pre>
+ * app:
+ *   threads:
+ *     connection-permits: 0
+ *     connection-permit-timeout-ms: 30000
+ *     pinning-monitor:
+ *       enabled: true
+ *       threshold-ms: 20
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@ConfigurationProperties(prefix = "app.threads")
+public class ThreadingProperties {
+
+    private int connectionPermits = 0;
+    private long connectionPermitTimeoutMs = 30000;
+    private PinningMonitor pinningMonitor = new PinningMonitor();
+
+    /**
+     * JFR-based detection of virtual threads pinned to their carrier.
+     */
+    public static class PinningMonitor {
+        private boolean enabled = true;
+        private long thresholdMs = 20;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getThresholdMs() {
+            return thresholdMs;
+        }
+
+        public void setThresholdMs(long thresholdMs) {
+            this.thresholdMs = thresholdMs;
+        }
+    }
+
+    /**
+     * Concurrent database connections allowed; 0 uses the Hikari pool size.
+     *
+     * @return the number of permits
+     */
+    public int getConnectionPermits() {
+        return connectionPermits;
+    }
+
+    public void setConnectionPermits(int connectionPermits) {
+        this.connectionPermits = connectionPermits;
+    }
+
+    public long getConnectionPermitTimeoutMs() {
+        return connectionPermitTimeoutMs;
+    }
+
+    public void setConnectionPermitTimeoutMs(long connectionPermitTimeoutMs) {
+        this.connectionPermitTimeoutMs = connectionPermitTimeoutMs;
+    }
+
+    public PinningMonitor getPinningMonitor() {
+        return pinningMonitor;
+    }
+
+    public void setPinningMonitor(PinningMonitor pinningMonitor) {
+        this.pinningMonitor = pinningMonitor;
+    }
+}
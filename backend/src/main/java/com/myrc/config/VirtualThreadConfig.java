@@ -0,0 +1,115 @@
+/*
+ * myRC - Virtual Thread Configuration
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import com.myrc.datasource.ConnectionPermitDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Virtual-thread request execution mode, active when
+ * {@code spring.threads.virtual.enabled=true}.
+ *
+ * <p>Spring Boot itself moves Tomcat request handling, the
+ * {@code applicationTaskExecutor} used by {@code @Async} and the task
+ * scheduler onto virtual threads. This configuration adds what the
+ * application needs on top of that:
+ * <ul>
+ *   <li>a semaphore bounding concurrent connection checkouts, since the
+ *       servlet thread pool no longer does (see {@link ThreadingProperties})</li>
+ *   <li>a virtual-thread executor that lets directory searches query LDAP
+ *       concurrently with the database</li>
+ *   <li>a JFR monitor reporting virtual threads pinned to their carrier</li>
+ * </ul>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger logger = Logger.getLogger(VirtualThreadConfig.class.getName());
+
+    private static final int DEFAULT_CONNECTION_PERMITS = 10;
+
+    /**
+     * Wraps the application {@code dataSource} in a {@link ConnectionPermitDataSource}.
+     */
+    @Bean
+    public static BeanPostProcessor connectionPermitPostProcessor(
+            ObjectProvider<ThreadingProperties> threadingProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ConnectionPermitDataSource) {
+                    return bean;
+                }
+                ThreadingProperties properties = threadingProperties.getIfAvailable(ThreadingProperties::new);
+                int permits = resolvePermits(properties, dataSource);
+                ConnectionPermitDataSource limited = new ConnectionPermitDataSource(dataSource, permits,
+                        properties.getConnectionPermitTimeoutMs());
+                MeterRegistry registry = meterRegistry.getIfAvailable();
+                if (registry != null) {
+                    Gauge.builder("myrc.db.connection.permits.available", limited,
+                            ConnectionPermitDataSource::getAvailablePermits).register(registry);
+                    Gauge.builder("myrc.db.connection.permits.waiting", limited,
+                            ConnectionPermitDataSource::getWaitingThreads).register(registry);
+                }
+                logger.info("Virtual threads enabled: limiting database access to " + permits
+                        + " concurrent connections");
+                return limited;
+            }
+        };
+    }
+
+    /**
+     * Executor used by directory searches to query LDAP alongside the database.
+     */
+    @Bean(name = "directoryLookupExecutor", destroyMethod = "shutdown")
+    public ExecutorService directoryLookupExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("directory-lookup-", 0).factory());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "app.threads.pinning-monitor.enabled", havingValue = "true",
+            matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(ThreadingProperties threadingProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new VirtualThreadPinningMonitor(
+                Duration.ofMillis(threadingProperties.getPinningMonitor().getThresholdMs()),
+                meterRegistry.getIfAvailable());
+    }
+
+    static int resolvePermits(ThreadingProperties properties, DataSource dataSource) {
+        if (properties.getConnectionPermits() > 0) {
+            return properties.getConnectionPermits();
+        }
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        if (hikari != null && hikari.getMaximumPoolSize() > 0) {
+            return hikari.getMaximumPoolSize();
+        }
+        return DEFAULT_CONNECTION_PERMITS;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * myRC - Virtual Thread Pinning Monitor
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Logs virtual threads that stay pinned to their carrier thread, using the
+ * JFR {@code jdk.VirtualThreadPinned} event.
+ *
+ * <p>Since JDK 24, blocking inside {@code synchronized} no longer pins, but
+ * blocking under a native frame or during class initialisation still does,
+ * and a pinned virtual thread holds a carrier for the whole blocking call.
+ * Each pinning longer than the threshold is logged once per call site with
+ * the top of its stack and counted in {@code myrc.virtual.threads.pinned}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = Logger.getLogger(VirtualThreadPinningMonitor.class.getName());
+
+    static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 12;
+
+    private static final int MAX_REPORTED_SITES = 1000;
+
+    private final Duration threshold;
+    private final Counter counter;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.counter = meterRegistry != null
+                ? Counter.builder("myrc.virtual.threads.pinned")
+                        .description("Virtual threads pinned to their carrier longer than the threshold")
+                        .register(meterRegistry)
+                : null;
+    }
+
+    public void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+            stream.onEvent(EVENT_NAME, this::onPinned);
+            stream.startAsync();
+            logger.info("Virtual thread pinning monitor started (threshold " + threshold.toMillis() + "ms)");
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Unable to start virtual thread pinning monitor", e);
+            stream = null;
+        }
+    }
+
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * Total pinning events observed since startup.
+     *
+     * @return the number of pinning events
+     */
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        if (counter != null) {
+            counter.increment();
+        }
+        String frames = event.getStackTrace() == null ? "<no stack trace>"
+                : event.getStackTrace().getFrames().stream()
+                        .limit(LOGGED_FRAMES)
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .collect(Collectors.joining("\n    at ", "    at ", ""));
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(frames)) {
+            String reason = event.hasField("pinnedReason") ? event.getString("pinnedReason") : "unknown";
+            logger.warning("Virtual thread pinned for " + event.getDuration().toMillis()
+                    + "ms (reason: " + reason + ")\n" + frames);
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -5,13 +5,20 @@
  */
 package com.myrc.config;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Web MVC configuration for custom interceptors.
  *
+ * <p>Registers the open-in-view interceptor itself ({@code spring.jpa.open-in-view}
+ * is off) so change streams can be excluded: an SSE request stays open for up
+ * to the emitter timeout, and the entity manager bound to it would hold a
+ * pooled connection all that time.</p>
+ *
  * @author myRC Team
  * @version 1.0.0
  * @since 2026-02-09
@@ -19,18 +26,36 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    /** Server-Sent Events change streams, served without an open entity manager. */
+    static final String CHANGE_STREAM_PATTERN = "/responsibility-centres/*/fiscal-years/*/changes/stream";
+
     private final InactiveFiscalYearInterceptor inactiveFiscalYearInterceptor;
+    private final CollectionETagInterceptor collectionETagInterceptor;
+    private final EntityManagerFactory entityManagerFactory;
 
-    public WebMvcConfig(InactiveFiscalYearInterceptor inactiveFiscalYearInterceptor) {
+    public WebMvcConfig(InactiveFiscalYearInterceptor inactiveFiscalYearInterceptor,
+                        CollectionETagInterceptor collectionETagInterceptor,
+                        EntityManagerFactory entityManagerFactory) {
         this.inactiveFiscalYearInterceptor = inactiveFiscalYearInterceptor;
+        this.collectionETagInterceptor = collectionETagInterceptor;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor openEntityManagerInView = new OpenEntityManagerInViewInterceptor();
+        openEntityManagerInView.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(openEntityManagerInView)
+                .excludePathPatterns(CHANGE_STREAM_PATTERN);
         registry.addInterceptor(inactiveFiscalYearInterceptor)
                 .addPathPatterns(
                         "/responsibility-centres/*/fiscal-years/**",
                         "/fiscal-years/**"
                 );
+        registry.addInterceptor(collectionETagInterceptor)
+                .addPathPatterns(
+                        "/responsibility-centres/*/fiscal-years/*/*",
+                        "/fiscal-years/*/*"
+                );
     }
 }
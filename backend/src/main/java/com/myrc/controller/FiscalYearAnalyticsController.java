@@ -0,0 +1,77 @@
+/*
+ * myRC - Fiscal Year Analytics REST Controller
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.controller;
+
+import com.myrc.dto.FiscalYearComparisonDTO;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.service.FiscalYearAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.logging.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for comparing the fiscal years of an RC.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/responsibility-centres/{rcId}/analytics")
+@Tag(name = "Fiscal Year Analytics", description = "APIs for comparing fiscal years and forecasting spending")
+public class FiscalYearAnalyticsController {
+
+  private static final Logger logger = Logger.getLogger(FiscalYearAnalyticsController.class.getName());
+  private final FiscalYearAnalyticsService analyticsService;
+
+  public FiscalYearAnalyticsController(FiscalYearAnalyticsService analyticsService) {
+    this.analyticsService = analyticsService;
+  }
+
+  @GetMapping("/comparison")
+  @Operation(summary = "Compare fiscal years of an RC",
+      description = "Returns funding and spending per category (matched by name) and per money "
+          + "(matched by code) for each fiscal year with its change from the previous one, "
+          + "monthly burn from invoice and event dates, and year-end forecasts.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Comparison retrieved successfully"),
+      @ApiResponse(responseCode = "400", description = "Too few or too many fiscal years"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied or fiscal year not in the RC"),
+      @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<FiscalYearComparisonDTO> compare(
+      @PathVariable Long rcId,
+      @Parameter(description = "Fiscal year IDs, comma-separated, in display order")
+      @RequestParam List<Long> fiscalYearIds,
+      Authentication authentication) {
+    if (authentication == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+    logger.fine("GET /responsibility-centres/" + rcId + "/analytics/comparison - user: "
+        + authentication.getName());
+    try {
+      return ResponseEntity.ok(analyticsService.compare(rcId, fiscalYearIds, authentication.getName()));
+    } catch (InvalidListQueryException e) {
+      logger.warning("Invalid fiscal year comparison: " + e.getMessage());
+      return ResponseEntity.badRequest().build();
+    } catch (IllegalArgumentException e) {
+      logger.warning("Access denied for fiscal year comparison: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (Exception e) {
+      logger.severe("Failed to compare fiscal years: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * myRC - Fiscal Year Change REST Controller
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.controller;
+
+import com.myrc.dto.FiscalYearChangesDTO;
+import com.myrc.service.FiscalYearChangeService;
+import com.myrc.sync.ChangeStreamHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.logging.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for fiscal year delta sync.
+ *
+ * <p>Clients keep the {@code version} of their last response and pass it back
+ * as {@code since}; the response then only contains the items created,
+ * updated or deleted in between. When {@code resyncRequired} is set the client
+ * must reload the full collections and continue from the returned version.</p>
+ *
+ * <p>Clients that want to learn about changes without polling open
+ * {@code /changes/stream}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/responsibility-centres/{rcId}/fiscal-years/{fyId}/changes")
+@Tag(name = "Fiscal Year Sync", description = "APIs for incremental synchronisation of fiscal year data")
+public class FiscalYearChangeController {
+
+  private static final Logger logger = Logger.getLogger(FiscalYearChangeController.class.getName());
+  private final FiscalYearChangeService changeService;
+  private final ChangeStreamHub changeStreamHub;
+
+  public FiscalYearChangeController(FiscalYearChangeService changeService,
+      ChangeStreamHub changeStreamHub) {
+    this.changeService = changeService;
+    this.changeStreamHub = changeStreamHub;
+  }
+
+  @GetMapping
+  @Operation(summary = "Get the items changed since a version")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied"),
+      @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<FiscalYearChangesDTO> getChanges(
+      @PathVariable Long rcId,
+      @PathVariable Long fyId,
+      @Parameter(description = "Version returned by the previous sync; omit for an initial load")
+      @RequestParam(required = false) Long since,
+      Authentication authentication) {
+    String username = getUsername(authentication);
+    logger.fine("GET /responsibility-centres/" + rcId + "/fiscal-years/" + fyId +
+        "/changes?since=" + since + " - user: " + username);
+    try {
+      return ResponseEntity.ok(changeService.getChangesSince(fyId, since, username));
+    } catch (IllegalArgumentException e) {
+      logger.warning("Access denied for fiscal year changes: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (Exception e) {
+      logger.severe("Failed to fetch fiscal year changes: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "Stream change notifications for a fiscal year (Server-Sent Events)",
+      description = "Sends a 'change' event (entity type, id, version) per committed change, "
+          + "with the change sequence as event ID. Reconnecting clients send Last-Event-ID "
+          + "to receive what they missed, or get a 'resync' event if it is no longer retained.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Stream opened"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied"),
+      @ApiResponse(responseCode = "503", description = "Too many open streams")
+  })
+  public ResponseEntity<SseEmitter> streamChanges(
+      @PathVariable Long rcId,
+      @PathVariable Long fyId,
+      @Parameter(description = "Version to replay from when not reconnecting")
+      @RequestParam(required = false) Long since,
+      @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+      Authentication authentication) {
+    String username = getUsername(authentication);
+    try {
+      changeService.verifyAccess(fyId, username);
+      SseEmitter emitter = changeStreamHub.subscribe(fyId, lastEventId != null ? lastEventId : since);
+      return ResponseEntity.ok()
+          .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+          .header("X-Accel-Buffering", "no")
+          .body(emitter);
+    } catch (IllegalArgumentException e) {
+      logger.warning("Access denied for fiscal year change stream: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (IllegalStateException e) {
+      logger.warning("Fiscal year change stream refused: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    } catch (Exception e) {
+      logger.severe("Failed to open fiscal year change stream: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  private String getUsername(Authentication authentication) {
+    if (authentication != null && authentication.getName() != null) {
+      return authentication.getName();
+    }
+    return "anonymous";
+  }
+}
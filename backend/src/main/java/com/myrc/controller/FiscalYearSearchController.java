@@ -0,0 +1,89 @@
+/*
+ * myRC - Fiscal Year Search REST Controller
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.controller;
+
+import com.myrc.dto.SearchResultsDTO;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.service.FiscalYearSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.logging.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for searching across the items of a fiscal year.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/responsibility-centres/{rcId}/fiscal-years/{fyId}/search")
+@Tag(name = "Fiscal Year Search", description = "APIs for searching across fiscal year items")
+public class FiscalYearSearchController {
+
+  private static final Logger logger = Logger.getLogger(FiscalYearSearchController.class.getName());
+  private final FiscalYearSearchService searchService;
+
+  public FiscalYearSearchController(FiscalYearSearchService searchService) {
+    this.searchService = searchService;
+  }
+
+  @GetMapping
+  @Operation(summary = "Search the items of a fiscal year",
+      description = "Searches names, descriptions, vendors, PR/PO/contract and reference numbers, "
+          + "quotes, invoices, training participants and travellers of the fiscal year's active "
+          + "procurement, spending, funding, training and travel items. Results are ranked by "
+          + "match quality and carry an HTML snippet with the term wrapped in <mark>.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid term, type or page"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied"),
+      @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<SearchResultsDTO> search(
+      @PathVariable Long rcId,
+      @PathVariable Long fyId,
+      @Parameter(description = "Search term, 2 to 100 characters")
+      @RequestParam("q") String query,
+      @Parameter(description = "Comma-separated item types: procurement, spending, funding, training, travel")
+      @RequestParam(required = false) String types,
+      @Parameter(description = "Zero-based page number")
+      @RequestParam(defaultValue = "0") int page,
+      @Parameter(description = "Page size (max 100)")
+      @RequestParam(defaultValue = "20") int size,
+      Authentication authentication) {
+    String username = getUsername(authentication);
+    logger.fine("GET /responsibility-centres/" + rcId + "/fiscal-years/" + fyId
+        + "/search - user: " + username);
+    try {
+      return ResponseEntity.ok(searchService.search(fyId, query, types, page, size, username));
+    } catch (InvalidListQueryException e) {
+      logger.warning("Invalid fiscal year search: " + e.getMessage());
+      return ResponseEntity.badRequest().build();
+    } catch (IllegalArgumentException e) {
+      logger.warning("Access denied for fiscal year search: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (Exception e) {
+      logger.severe("Failed to search fiscal year: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  private String getUsername(Authentication authentication) {
+    if (authentication != null && authentication.getName() != null) {
+      return authentication.getName();
+    }
+    return "anonymous";
+  }
+}
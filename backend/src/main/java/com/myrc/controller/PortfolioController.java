@@ -0,0 +1,67 @@
+/*
+ * myRC - Portfolio REST Controller
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.controller;
+
+import com.myrc.config.LdapSecurityConfig;
+import com.myrc.dto.PortfolioDTO;
+import com.myrc.service.PortfolioService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.logging.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for the cross-RC portfolio dashboard.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/portfolio")
+@Tag(name = "Portfolio", description = "Totals across all RCs and fiscal years of the current user")
+public class PortfolioController {
+
+  private static final Logger logger = Logger.getLogger(PortfolioController.class.getName());
+  private final PortfolioService portfolioService;
+
+  public PortfolioController(PortfolioService portfolioService) {
+    this.portfolioService = portfolioService;
+  }
+
+  /**
+   * Get the funding, spending, training, travel and committed procurement
+   * totals of every RC and fiscal year the current user can access.
+   */
+  @GetMapping
+  @Operation(summary = "Get portfolio totals",
+      description = "Returns totals by money type for every fiscal year of every RC the current user "
+          + "can access. RCs not aggregated within the time budget are listed in incompleteRcIds.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Portfolio retrieved successfully"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized")
+  })
+  public ResponseEntity<PortfolioDTO> getPortfolio(Authentication authentication) {
+    if (authentication == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    PortfolioDTO portfolio = portfolioService.getPortfolio(authentication.getName(),
+        LdapSecurityConfig.extractGroupDns(authentication));
+    if (!portfolio.isComplete()) {
+      logger.info("Portfolio for " + authentication.getName() + " returned without "
+          + portfolio.getIncompleteRcIds().size() + " RCs");
+    }
+    return ResponseEntity.ok(portfolio);
+  }
+}
@@ -14,17 +14,23 @@ package com.myrc.controller;
 
 import com.myrc.audit.Audited;
 import com.myrc.dto.ErrorResponse;
+import com.myrc.dto.ItemListQuery;
 import com.myrc.dto.ProcurementItemDTO;
 import com.myrc.dto.ProcurementQuoteDTO;
 import com.myrc.dto.ProcurementQuoteFileDTO;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.KeysetPage;
 import com.myrc.service.ProcurementItemService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
@@ -34,6 +40,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * REST Controller for Procurement Item management.
@@ -60,20 +67,27 @@ public class ProcurementItemController {
     // ==========================
 
     /**
-     * Get all procurement items for a fiscal year.
+     * Get the procurement items for a fiscal year. Without paging, sorting or
+     * the additional filters, all active items are returned as before; with
+     * any of them, one keyset page is returned and the next page's cursor is
+     * sent in the {@code X-Next-Cursor} and {@code Link} headers.
      *
      * @param rcId the responsibility centre ID
      * @param fyId the fiscal year ID
      * @param status optional status to filter by
      * @param search optional search term
+     * @param query optional paging, sort and filter parameters
      * @param authentication the authentication principal
      * @return list of procurement items
      */
     @GetMapping
     @Operation(summary = "Get all procurement items for a fiscal year",
-            description = "Retrieves all procurement items for a fiscal year, optionally filtered by status or search term.")
+            description = "Retrieves all procurement items for a fiscal year, optionally filtered by status or search term. "
+                    + "Passing limit, cursor, sort, direction or any other filter returns one page sorted on the server; "
+                    + "the next page's cursor is returned in the X-Next-Cursor header.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Procurement items retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid sort, cursor or filter"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Access denied to this RC"),
             @ApiResponse(responseCode = "404", description = "Fiscal year not found"),
@@ -84,12 +98,20 @@ public class ProcurementItemController {
             @PathVariable Long fyId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String search,
+            @ParameterObject ItemListQuery query,
             Authentication authentication) {
         String username = getUsername(authentication);
         logger.info("GET /responsibility-centres/" + rcId + "/fiscal-years/" + fyId +
                 "/procurement-items - Fetching procurement items for user: " + username);
 
         try {
+            if (query.isListQuery() || query.getCategoryId() != null) {
+                query.setStatus(status);
+                query.setSearch(search);
+                KeysetPage<ProcurementItemDTO> page =
+                        procurementItemService.getProcurementItemsPage(fyId, query, username);
+                return pageResponse(page);
+            }
             List<ProcurementItemDTO> items;
             if (search != null && !search.trim().isEmpty()) {
                 items = procurementItemService.searchProcurementItems(fyId, search.trim(), username);
@@ -99,6 +121,9 @@ public class ProcurementItemController {
                 items = procurementItemService.getProcurementItemsByFiscalYearId(fyId, username);
             }
             return ResponseEntity.ok(items);
+        } catch (InvalidListQueryException e) {
+            logger.warning("Invalid procurement item list query: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (IllegalArgumentException e) {
             logger.warning("Access denied for procurement items: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
@@ -108,6 +133,61 @@ public class ProcurementItemController {
         }
     }
 
+    /**
+     * Get one page of the procurement items for a fiscal year as slim rows
+     * holding only the columns named in {@code fields}. The rows are read as
+     * scalars, without loading items, quotes or linked spending items.
+     *
+     * @param rcId the responsibility centre ID
+     * @param fyId the fiscal year ID
+     * @param fields comma-separated column names
+     * @param status optional status to filter by
+     * @param search optional search term
+     * @param query optional paging, sort and filter parameters
+     * @param authentication the authentication principal
+     * @return list of rows
+     */
+    @GetMapping(params = "fields")
+    @Operation(summary = "Get selected columns of the procurement items for a fiscal year",
+            description = "Returns one page of rows containing id and the requested columns, named as in the full item. "
+                    + "Paging, sorting and filters work as for the full list; the next page's cursor is returned "
+                    + "in the X-Next-Cursor header.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Procurement item rows retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid field, sort, cursor or filter"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Access denied to this RC"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<Map<String, Object>>> getProcurementItemRows(
+            @PathVariable Long rcId,
+            @PathVariable Long fyId,
+            @Parameter(description = "Comma-separated columns, e.g. name,purchaseRequisition,vendor,amount,trackingStatus")
+            @RequestParam String fields,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String search,
+            @ParameterObject ItemListQuery query,
+            Authentication authentication) {
+        String username = getUsername(authentication);
+        logger.info("GET /responsibility-centres/" + rcId + "/fiscal-years/" + fyId +
+                "/procurement-items?fields=" + fields + " - Fetching procurement item rows for user: " + username);
+
+        try {
+            query.setStatus(status);
+            query.setSearch(search);
+            return pageResponse(procurementItemService.getProcurementItemRows(fyId, query, fields, username));
+        } catch (InvalidListQueryException e) {
+            logger.warning("Invalid procurement item list query: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalArgumentException e) {
+            logger.warning("Access denied for procurement items: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (Exception e) {
+            logger.severe("Failed to fetch procurement item rows: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * Get a specific procurement item by ID.
      *
@@ -968,6 +1048,21 @@ public class ProcurementItemController {
     // Helper Methods & Records
     // ==========================
 
+    /**
+     * Respond with a page of items, linking to the next page if there is one.
+     */
+    private <T> ResponseEntity<List<T>> pageResponse(KeysetPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .build().toUriString();
+            response.header("X-Next-Cursor", page.nextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.items());
+    }
+
     /**
      * Get the username from the authentication principal.
      *
@@ -8,6 +8,7 @@ package com.myrc.controller;
 import com.myrc.audit.Audited;
 import com.myrc.config.LdapSecurityConfig;
 import com.myrc.dto.RCAccessDTO;
+import com.myrc.dto.RCAccessLevelDTO;
 import com.myrc.model.RCAccess.AccessLevel;
 import com.myrc.model.RCAccess.PrincipalType;
 import com.myrc.service.RCPermissionService;
@@ -16,7 +17,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -37,6 +42,10 @@ import org.springframework.web.bind.annotation.*;
 public class RCPermissionController {
 
   private static final Logger logger = Logger.getLogger(RCPermissionController.class.getName());
+
+  /** Largest number of RCs accepted by one evaluate request. */
+  static final int MAX_EVALUATE_RC_IDS = 1000;
+
   private final RCPermissionService permissionService;
 
   public RCPermissionController(RCPermissionService permissionService) {
@@ -264,6 +273,64 @@ public class RCPermissionController {
     return ResponseEntity.ok(canEdit);
   }
 
+  /**
+   * Get every RC the current user can access, with the effective level.
+   */
+  @GetMapping("/mine")
+  @Operation(summary = "Get my RC access",
+      description = "Lists every RC the current user owns or has been granted access to, "
+          + "directly or through a group, with the highest access level on each.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Access levels retrieved successfully"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized")
+  })
+  public ResponseEntity<List<RCAccessLevelDTO>> getMyAccess(Authentication authentication) {
+    if (authentication == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    Map<Long, AccessLevel> levels = permissionService.getAccessibleRCs(authentication.getName(),
+        LdapSecurityConfig.extractGroupDns(authentication));
+    return ResponseEntity.ok(toAccessLevels(levels.keySet(), levels));
+  }
+
+  /**
+   * Evaluate the current user's access on several RCs in one request.
+   */
+  @GetMapping("/evaluate")
+  @Operation(summary = "Evaluate RC access",
+      description = "Returns the current user's access level on each of the given RCs. "
+          + "RCs without access are returned with a null level.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Access levels evaluated successfully"),
+      @ApiResponse(responseCode = "400", description = "Too many RC IDs"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized")
+  })
+  public ResponseEntity<?> evaluateAccess(
+      @Parameter(description = "RC IDs, comma-separated") @RequestParam List<Long> rcIds,
+      Authentication authentication) {
+    if (authentication == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+    if (rcIds.size() > MAX_EVALUATE_RC_IDS) {
+      return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+          .body("At most " + MAX_EVALUATE_RC_IDS + " RC IDs can be evaluated at once");
+    }
+
+    Set<Long> distinct = new LinkedHashSet<>(rcIds);
+    Map<Long, AccessLevel> levels = permissionService.getEffectiveAccessLevels(distinct,
+        authentication.getName(), LdapSecurityConfig.extractGroupDns(authentication));
+    return ResponseEntity.ok(toAccessLevels(distinct, levels));
+  }
+
+  private static List<RCAccessLevelDTO> toAccessLevels(Collection<Long> rcIds,
+      Map<Long, AccessLevel> levels) {
+    return rcIds.stream()
+        .sorted()
+        .map(rcId -> new RCAccessLevelDTO(rcId, levels.get(rcId)))
+        .toList();
+  }
+
   /**
    * Relinquish ownership of an RC.
    * Transfers the RC's owner to the next explicit OWNER user and grants the
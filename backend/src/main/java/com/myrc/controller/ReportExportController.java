@@ -0,0 +1,94 @@
+/*
+ * myRC - Report Export REST Controller
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.controller;
+
+import com.myrc.report.ReportExport;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.service.ReportExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.logging.Logger;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST Controller for downloading fiscal year lists as CSV or XLSX reports.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/responsibility-centres/{rcId}/fiscal-years/{fyId}/reports")
+@Tag(name = "Reports", description = "APIs for exporting fiscal year lists as spreadsheets")
+public class ReportExportController {
+
+  private static final Logger logger = Logger.getLogger(ReportExportController.class.getName());
+  private final ReportExportService reportExportService;
+
+  public ReportExportController(ReportExportService reportExportService) {
+    this.reportExportService = reportExportService;
+  }
+
+  @GetMapping("/{report}")
+  @Operation(summary = "Export a fiscal year list",
+      description = "Streams one of funding-items, spending-items, procurement-items, "
+          + "procurement-events, training-items or travel-items as a CSV or XLSX download, "
+          + "one row per allocation, invoice, quote, event, participant or traveller.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Report streamed"),
+      @ApiResponse(responseCode = "400", description = "Unknown report or format"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied or fiscal year not in the RC"),
+      @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<StreamingResponseBody> export(
+      @PathVariable Long rcId,
+      @PathVariable Long fyId,
+      @Parameter(description = "Report name, e.g. spending-items")
+      @PathVariable String report,
+      @Parameter(description = "File format: csv (default) or xlsx")
+      @RequestParam(required = false) String format,
+      Authentication authentication) {
+    if (authentication == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+    logger.fine("GET /responsibility-centres/" + rcId + "/fiscal-years/" + fyId + "/reports/"
+        + report + " - user: " + authentication.getName());
+    ReportExport export;
+    try {
+      export = reportExportService.prepare(rcId, fyId, report, format, authentication.getName());
+    } catch (InvalidListQueryException e) {
+      logger.warning("Invalid report request: " + e.getMessage());
+      return ResponseEntity.badRequest().build();
+    } catch (IllegalArgumentException e) {
+      logger.warning("Access denied for report: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (Exception e) {
+      logger.severe("Failed to prepare report: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+
+    // Rows are written after the headers are sent; a failure from here on
+    // can only abort the download
+    StreamingResponseBody body = out -> reportExportService.write(export, out);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(export.format().getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(export.fileName()).build().toString())
+        .header(HttpHeaders.CACHE_CONTROL, "no-store")
+        .body(body);
+  }
+}
@@ -14,20 +14,28 @@ package com.myrc.controller;
 
 import com.myrc.audit.Audited;
 import com.myrc.dto.ErrorResponse;
+import com.myrc.dto.ItemListQuery;
 import com.myrc.dto.SpendingItemDTO;
 import com.myrc.dto.SpendingMoneyAllocationDTO;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.KeysetPage;
 import com.myrc.service.SpendingItemService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * REST Controller for Spending Item management.
@@ -50,19 +58,26 @@ public class SpendingItemController {
   }
 
   /**
-   * Get all spending items for a fiscal year.
+   * Get the spending items for a fiscal year. Without paging, sorting or the
+   * additional filters, all items are returned as before; with any of them,
+   * one keyset page is returned and the next page's cursor is sent in the
+   * {@code X-Next-Cursor} and {@code Link} headers.
    *
    * @param rcId the responsibility centre ID
    * @param fyId the fiscal year ID
    * @param categoryId optional category ID to filter by
+   * @param query optional paging, sort and filter parameters
    * @param authentication the authentication principal
    * @return list of spending items
    */
   @GetMapping
   @Operation(summary = "Get all spending items for a fiscal year",
-      description = "Retrieves all spending items for a fiscal year, optionally filtered by category.")
+      description = "Retrieves all spending items for a fiscal year, optionally filtered by category. "
+          + "Passing limit, cursor, sort, direction or any other filter returns one page sorted on the server; "
+          + "the next page's cursor is returned in the X-Next-Cursor header.")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Spending items retrieved successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid sort, cursor or filter"),
       @ApiResponse(responseCode = "401", description = "Unauthorized"),
       @ApiResponse(responseCode = "403", description = "Access denied to this RC"),
       @ApiResponse(responseCode = "404", description = "Fiscal year not found"),
@@ -72,12 +87,17 @@ public class SpendingItemController {
       @PathVariable Long rcId,
       @PathVariable Long fyId,
       @RequestParam(required = false) Long categoryId,
+      @ParameterObject ItemListQuery query,
       Authentication authentication) {
     String username = getUsername(authentication);
     logger.info("GET /responsibility-centres/" + rcId + "/fiscal-years/" + fyId + 
         "/spending-items - Fetching spending items for user: " + username);
 
     try {
+      if (query.isListQuery() || query.getStatus() != null || query.getSearch() != null) {
+        query.setCategoryId(categoryId);
+        return pageResponse(spendingItemService.getSpendingItemsPage(fyId, query, username));
+      }
       List<SpendingItemDTO> items;
       if (categoryId != null) {
         items = spendingItemService.getSpendingItemsByFiscalYearIdAndCategoryId(fyId, categoryId, username);
@@ -85,6 +105,9 @@ public class SpendingItemController {
         items = spendingItemService.getSpendingItemsByFiscalYearId(fyId, username);
       }
       return ResponseEntity.ok(items);
+    } catch (InvalidListQueryException e) {
+      logger.warning("Invalid spending item list query: " + e.getMessage());
+      return ResponseEntity.badRequest().build();
     } catch (IllegalArgumentException e) {
       logger.warning("Access denied for spending items: " + e.getMessage());
       return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
@@ -94,6 +117,58 @@ public class SpendingItemController {
     }
   }
 
+  /**
+   * Get one page of the spending items for a fiscal year as slim rows holding
+   * only the columns named in {@code fields}. The rows are read as scalars,
+   * without loading items, allocations, invoices or events.
+   *
+   * @param rcId the responsibility centre ID
+   * @param fyId the fiscal year ID
+   * @param fields comma-separated column names
+   * @param categoryId optional category ID to filter by
+   * @param query optional paging, sort and filter parameters
+   * @param authentication the authentication principal
+   * @return list of rows
+   */
+  @GetMapping(params = "fields")
+  @Operation(summary = "Get selected columns of the spending items for a fiscal year",
+      description = "Returns one page of rows containing id and the requested columns, named as in the full item. "
+          + "Paging, sorting and filters work as for the full list; the next page's cursor is returned "
+          + "in the X-Next-Cursor header.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Spending item rows retrieved successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid field, sort, cursor or filter"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied to this RC"),
+      @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  public ResponseEntity<List<Map<String, Object>>> getSpendingItemRows(
+      @PathVariable Long rcId,
+      @PathVariable Long fyId,
+      @Parameter(description = "Comma-separated columns, e.g. name,vendor,amount,currency,status,invoiceTotalCad")
+      @RequestParam String fields,
+      @RequestParam(required = false) Long categoryId,
+      @ParameterObject ItemListQuery query,
+      Authentication authentication) {
+    String username = getUsername(authentication);
+    logger.info("GET /responsibility-centres/" + rcId + "/fiscal-years/" + fyId +
+        "/spending-items?fields=" + fields + " - Fetching spending item rows for user: " + username);
+
+    try {
+      query.setCategoryId(categoryId);
+      return pageResponse(spendingItemService.getSpendingItemRows(fyId, query, fields, username));
+    } catch (InvalidListQueryException e) {
+      logger.warning("Invalid spending item list query: " + e.getMessage());
+      return ResponseEntity.badRequest().build();
+    } catch (IllegalArgumentException e) {
+      logger.warning("Access denied for spending items: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (Exception e) {
+      logger.severe("Failed to fetch spending item rows: " + e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
   /**
    * Get a specific spending item by ID.
    *
@@ -407,6 +482,21 @@ public class SpendingItemController {
     }
   }
 
+  /**
+   * Respond with a page of items, linking to the next page if there is one.
+   */
+  private <T> ResponseEntity<List<T>> pageResponse(KeysetPage<T> page) {
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (page.nextCursor() != null) {
+      String next = ServletUriComponentsBuilder.fromCurrentRequest()
+          .replaceQueryParam("cursor", page.nextCursor())
+          .build().toUriString();
+      response.header("X-Next-Cursor", page.nextCursor())
+          .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+    }
+    return response.body(page.items());
+  }
+
   /**
    * Extract username from authentication.
    */
@@ -20,12 +20,20 @@ import com.myrc.dto.CreateUserRequest;
 import com.myrc.dto.ErrorResponse;
 import com.myrc.dto.UpdateUserRequest;
 import com.myrc.dto.UserDTO;
+import com.myrc.dto.UserListQuery;
+import com.myrc.dto.UserStatsDTO;
+import com.myrc.dto.UserSummaryDTO;
+import com.myrc.login.LoginThrottledException;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.KeysetPage;
 import com.myrc.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -33,6 +41,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.ldap.authentication.LdapAuthenticationProvider;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
@@ -91,15 +100,52 @@ public class UserController {
      * 
      * @return list of all users
      */
-    @GetMapping
-    @Operation(summary = "Get all users", description = "Retrieves a list of all registered users")
-    @ApiResponse(responseCode = "200", description = "List of users retrieved successfully")
     public ResponseEntity<List<UserDTO>> getAllUsers() {
         logger.info("GET /users - Retrieving all users");
         List<UserDTO> users = userService.getAllUsers();
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * Get users. Without paging or filter parameters, all users are returned
+     * as full records as before; with any of them, one page of user summaries
+     * ordered by username is returned and the next page's cursor is sent in
+     * the {@code X-Next-Cursor} and {@code Link} headers.
+     * 
+     * @param query optional paging and filter parameters
+     * @return list of users or user summaries
+     */
+    @GetMapping
+    @Operation(summary = "Get users",
+        description = "Retrieves all registered users. Passing limit, cursor, direction, provider, enabled, "
+            + "locked or search returns one page of user summaries ordered by username; "
+            + "the next page's cursor is returned in the X-Next-Cursor header.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "List of users retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or filter")
+    })
+    public ResponseEntity<?> getUsers(@ParameterObject UserListQuery query) {
+        if (!query.isListQuery()) {
+            return getAllUsers();
+        }
+        logger.info("GET /users - Retrieving a page of users");
+        try {
+            KeysetPage<UserSummaryDTO> page = userService.getUserSummaries(query);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .build().toUriString();
+                response.header("X-Next-Cursor", page.nextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            }
+            return response.body(page.items());
+        } catch (InvalidListQueryException e) {
+            logger.warning("Invalid user list query: " + e.getMessage());
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     /**
      * Get the current authenticated user
      * 
@@ -425,7 +471,8 @@ public class UserController {
     @Operation(summary = "Authenticate user", description = "Authenticates a user with username and password")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User authenticated successfully"),
-        @ApiResponse(responseCode = "401", description = "Authentication failed - invalid credentials or locked account")
+        @ApiResponse(responseCode = "401", description = "Authentication failed - invalid credentials or locked account"),
+        @ApiResponse(responseCode = "429", description = "Too many logins in progress - retry after the indicated delay")
     })
     public ResponseEntity<UserDTO> authenticate(
             @Parameter(description = "Username", required = true)
@@ -434,7 +481,15 @@ public class UserController {
             @RequestParam String password,
             HttpServletRequest request,
             HttpServletResponse response) {
-        Optional<UserDTO> user = userService.authenticate(username, password);
+        Optional<UserDTO> user;
+        try {
+            user = userService.authenticate(username, password);
+        } catch (LoginThrottledException e) {
+            logger.warning("Authentication throttled for user: " + username + " (" + e.getMessage() + ")");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+        }
         if (user.isPresent()) {
             // Create/access session
             HttpSession session = request.getSession(true);
@@ -555,28 +610,14 @@ public class UserController {
     /**
      * Get user statistics
      * 
-     * @return statistics map
+     * @return user counts by status and provider
      */
     @GetMapping("/stats")
     @Operation(summary = "Get user statistics", description = "Retrieves user management statistics")
     @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
-    public ResponseEntity<java.util.Map<String, Object>> getStats() {
+    public ResponseEntity<UserStatsDTO> getStats() {
         logger.info("GET /users/stats - Getting user statistics");
-        List<UserDTO> allUsers = userService.getAllUsers();
-        long totalUsers = allUsers.size();
-        long localUsers = userService.getUserCountByProvider("LOCAL");
-        long ldapUsers = userService.getUserCountByProvider("LDAP");
-        long oauth2Users = userService.getUserCountByProvider("OAUTH2");
-        long enabledUsers = userService.getEnabledUsers().size();
-
-        return ResponseEntity.ok(java.util.Map.of(
-            "totalUsers", totalUsers,
-            "enabledUsers", enabledUsers,
-            "disabledUsers", totalUsers - enabledUsers,
-            "localUsers", localUsers,
-            "ldapUsers", ldapUsers,
-            "oauth2Users", oauth2Users
-        ));
+        return ResponseEntity.ok(userService.getUserStats());
     }
 
     /**
@@ -0,0 +1,109 @@
+/*
+ * myRC - Currency Converter
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Central CAD conversion used when amounts are written.
+ */
+package com.myrc.currency;
+
+import com.myrc.model.Currency;
+import com.myrc.model.SpendingInvoice;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.SpendingMoneyAllocation;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts foreign amounts to CAD when they are written, so reads and
+ * aggregations use the stored {@code *_cad} columns instead of redoing the
+ * arithmetic.
+ *
+ * <p>The rate is resolved in this order: CAD is 1; a rate entered on the
+ * record wins; otherwise the dated {@code exchange_rates} table, read through
+ * {@link ExchangeRateCache}, supplies the rate in effect on the record's date
+ * (today when it has none). Without a
+ * rate the CAD amount is left null, and readers fall back to the raw amount
+ * as before.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class CurrencyConverter {
+
+  private final ExchangeRateCache exchangeRateCache;
+
+  public CurrencyConverter(ExchangeRateCache exchangeRateCache) {
+    this.exchangeRateCache = exchangeRateCache;
+  }
+
+  /**
+   * Resolve the rate to apply to an amount.
+   *
+   * @param currency the amount's currency (null means CAD)
+   * @param explicitRate the rate entered on the record, may be null
+   * @param asOf the date the rate should be in effect on, null for today
+   * @return the rate, empty when a foreign currency has no rate
+   */
+  public Optional<BigDecimal> resolveRate(Currency currency, BigDecimal explicitRate, LocalDate asOf) {
+    if (currency == null || currency == Currency.CAD) {
+      return Optional.of(BigDecimal.ONE);
+    }
+    if (explicitRate != null) {
+      return Optional.of(explicitRate);
+    }
+    LocalDate date = asOf != null ? asOf : LocalDate.now();
+    return exchangeRateCache.rateOn(currency, date);
+  }
+
+  /**
+   * Convert an amount to CAD, rounded to the cent.
+   *
+   * @param amount the amount, may be null
+   * @param currency the amount's currency (null means CAD)
+   * @param explicitRate the rate entered on the record, may be null
+   * @param asOf the date the rate should be in effect on, null for today
+   * @return the CAD amount, or null when the amount is null or no rate is known
+   */
+  public BigDecimal toCad(BigDecimal amount, Currency currency, BigDecimal explicitRate, LocalDate asOf) {
+    if (amount == null) {
+      return null;
+    }
+    Currency from = currency != null ? currency : Currency.CAD;
+    return resolveRate(from, explicitRate, asOf)
+        .map(rate -> from.toCad(amount, rate))
+        .orElse(null);
+  }
+
+  /**
+   * Store the CAD amount of an invoice, using the rate in effect on the date
+   * it was received.
+   *
+   * @param invoice the invoice to update
+   */
+  public void applyTo(SpendingInvoice invoice) {
+    invoice.setAmountCad(toCad(invoice.getAmount(), invoice.getCurrency(),
+        invoice.getExchangeRate(), invoice.getDateReceived()));
+  }
+
+  /**
+   * Store the CAD amounts of a spending item's money allocations, which are
+   * entered in the item's currency. Call after the allocations or the item's
+   * currency or rate change.
+   *
+   * @param spendingItem the spending item whose allocations to update
+   */
+  public void applyTo(SpendingItem spendingItem) {
+    Currency currency = spendingItem.getCurrency() != null ? spendingItem.getCurrency() : Currency.CAD;
+    BigDecimal rate = resolveRate(currency, spendingItem.getExchangeRate(), null).orElse(null);
+    for (SpendingMoneyAllocation allocation : spendingItem.getMoneyAllocations()) {
+      allocation.setCapAmountCad(currency.toCad(allocation.getCapAmount(), rate));
+      allocation.setOmAmountCad(currency.toCad(allocation.getOmAmount(), rate));
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * myRC - Exchange Rate Cache
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.currency;
+
+import com.myrc.cache.CacheInvalidationBus;
+import com.myrc.config.ExchangeRateProperties;
+import com.myrc.model.Currency;
+import com.myrc.model.ExchangeRate;
+import com.myrc.repository.ExchangeRateRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory copy of the {@code exchange_rates} table for rate lookups.
+ *
+ * <p>The table is small (one row per currency per published day) and read
+ * on every foreign-currency write, so it is loaded whole into an immutable
+ * snapshot of {@code currency -> (effective date -> rate)} and lookups are a
+ * floor search without a query. Writers replace the snapshot rather than
+ * mutate it; loading new rates calls {@link #invalidate()}, which goes
+ * through the {@link CacheInvalidationBus} so every replica reloads. The TTL
+ * is a safety net for missed notifications.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class ExchangeRateCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(ExchangeRateCache.class);
+
+  /** Invalidation region for the rate table. */
+  public static final String REGION = "exchange-rates";
+
+  private final ExchangeRateRepository exchangeRateRepository;
+  private final ExchangeRateProperties properties;
+  private final CacheInvalidationBus invalidationBus;
+
+  private volatile Snapshot snapshot;
+
+  public ExchangeRateCache(ExchangeRateRepository exchangeRateRepository,
+      ExchangeRateProperties properties, CacheInvalidationBus invalidationBus) {
+    this.exchangeRateRepository = exchangeRateRepository;
+    this.properties = properties;
+    this.invalidationBus = invalidationBus;
+    invalidationBus.register(REGION, key -> snapshot = null);
+  }
+
+  /**
+   * Find the rate of a currency in effect on a date, i.e. the latest rate
+   * whose effective date is on or before it.
+   *
+   * @param currency the currency
+   * @param date the date
+   * @return the rate in effect, if any
+   */
+  public Optional<BigDecimal> rateOn(Currency currency, LocalDate date) {
+    if (currency == null || date == null) {
+      return Optional.empty();
+    }
+    NavigableMap<LocalDate, BigDecimal> rates = current().rates().get(currency);
+    if (rates == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(rates.floorEntry(date)).map(Map.Entry::getValue);
+  }
+
+  /**
+   * The latest known rate of each currency.
+   *
+   * @return latest rate entry per currency, in currency order
+   */
+  public Map<Currency, Map.Entry<LocalDate, BigDecimal>> latest() {
+    Map<Currency, Map.Entry<LocalDate, BigDecimal>> latest = new EnumMap<>(Currency.class);
+    current().rates().forEach((currency, rates) -> latest.put(currency, rates.lastEntry()));
+    return latest;
+  }
+
+  /**
+   * Drop the snapshot on this and every other replica, after the rates have
+   * been written.
+   */
+  public void invalidate() {
+    invalidationBus.invalidate(REGION, CacheInvalidationBus.CLEAR_ALL);
+  }
+
+  private Snapshot current() {
+    Snapshot current = snapshot;
+    long now = System.nanoTime();
+    if (current != null && now - current.loadedAt() < properties.getCacheTtlSeconds() * 1_000_000_000L) {
+      return current;
+    }
+    Map<Currency, NavigableMap<LocalDate, BigDecimal>> rates = new EnumMap<>(Currency.class);
+    for (ExchangeRate rate : exchangeRateRepository.findAll()) {
+      rates.computeIfAbsent(rate.getCurrency(), c -> new TreeMap<>())
+          .put(rate.getEffectiveDate(), rate.getRate());
+    }
+    rates.replaceAll((currency, byDate) -> Collections.unmodifiableNavigableMap(byDate));
+    Snapshot loaded = new Snapshot(Collections.unmodifiableMap(rates), now);
+    logger.debug("Loaded exchange rates for {} currencies", rates.size());
+    snapshot = loaded;
+    return loaded;
+  }
+
+  private record Snapshot(Map<Currency, NavigableMap<LocalDate, BigDecimal>> rates, long loadedAt) {
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * myRC - Exchange Rate Import Watcher
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.currency;
+
+import com.myrc.config.ExchangeRateProperties;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds {@code *.csv} files dropped into {@code app.currency.rates.import-dir}
+ * to the {@link ExchangeRateLoader}, for sites that receive rates offline.
+ *
+ * <p>Files are taken in name order, so date-stamped names load oldest first.
+ * A file is claimed by renaming it to {@code .processing}; when several
+ * replicas share the directory only the one whose rename succeeds loads it.
+ * Afterwards it is renamed to {@code .loaded}, or to {@code .failed} with
+ * the reason in the log, and never picked up again.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class ExchangeRateImportWatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(ExchangeRateImportWatcher.class);
+
+  static final String PROCESSING = ".processing";
+  static final String LOADED = ".loaded";
+  static final String FAILED = ".failed";
+
+  /** Longest source name the {@code exchange_rates} table stores. */
+  private static final int MAX_SOURCE_LENGTH = 100;
+
+  private final ExchangeRateLoader loader;
+  private final ExchangeRateProperties properties;
+
+  public ExchangeRateImportWatcher(ExchangeRateLoader loader, ExchangeRateProperties properties) {
+    this.loader = loader;
+    this.properties = properties;
+  }
+
+  /**
+   * Load every pending file of the import directory.
+   */
+  @Scheduled(fixedDelayString = "${app.currency.rates.import-poll-ms:60000}")
+  public void poll() {
+    String importDir = properties.getImportDir();
+    if (importDir == null || importDir.isBlank()) {
+      return;
+    }
+    Path directory = Path.of(importDir);
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.csv")) {
+      stream.forEach(files::add);
+    } catch (NoSuchFileException e) {
+      logger.warn("Exchange rate import directory {} does not exist", directory);
+      return;
+    } catch (IOException e) {
+      logger.warn("Could not list exchange rate import directory {}: {}", directory, e.getMessage());
+      return;
+    }
+    files.sort(null);
+    for (Path file : files) {
+      Path claimed = claim(file);
+      if (claimed != null) {
+        process(file.getFileName().toString(), claimed);
+      }
+    }
+  }
+
+  private void process(String name, Path claimed) {
+    String suffix;
+    try (Reader reader = Files.newBufferedReader(claimed, StandardCharsets.UTF_8)) {
+      loader.load(reader, sourceName(name));
+      suffix = LOADED;
+    } catch (IOException | RuntimeException e) {
+      logger.error("Could not load exchange rates from {}: {}", name, e.getMessage());
+      suffix = FAILED;
+    }
+    try {
+      Files.move(claimed, claimed.resolveSibling(name + suffix), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      logger.warn("Could not rename {} after import: {}", claimed, e.getMessage());
+    }
+  }
+
+  /**
+   * Rename a file to its {@code .processing} name.
+   *
+   * @return the claimed path, or null if another replica got there first
+   */
+  private Path claim(Path file) {
+    Path claimed = file.resolveSibling(file.getFileName() + PROCESSING);
+    try {
+      return Files.move(file, claimed, StandardCopyOption.ATOMIC_MOVE);
+    } catch (NoSuchFileException | FileAlreadyExistsException e) {
+      return null;
+    } catch (AtomicMoveNotSupportedException e) {
+      try {
+        return Files.move(file, claimed);
+      } catch (IOException retry) {
+        return null;
+      }
+    } catch (IOException e) {
+      logger.warn("Could not claim exchange rate file {}: {}", file, e.getMessage());
+      return null;
+    }
+  }
+
+  static String sourceName(String fileName) {
+    String source = "file:" + fileName;
+    return source.length() > MAX_SOURCE_LENGTH ? source.substring(0, MAX_SOURCE_LENGTH) : source;
+  }
+}
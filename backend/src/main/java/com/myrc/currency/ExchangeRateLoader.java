@@ -0,0 +1,187 @@
+/*
+ * myRC - Exchange Rate Loader
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.currency;
+
+import com.myrc.model.Currency;
+import com.myrc.model.ExchangeRate;
+import com.myrc.repository.ExchangeRateRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads exchange rates from a CSV feed and revalues the open fiscal years.
+ *
+ * <p>The feed has one {@code currency,effective_date,rate} line per rate,
+ * e.g. {@code USD,2026-10-16,1.372500}: an ISO 4217 code other than CAD, an
+ * ISO date and the CAD value of one unit. Blank lines, {@code #} comments and
+ * a header line are ignored. A rate already stored for the same currency and
+ * date is replaced. A file with any invalid line is rejected as a whole, so
+ * a truncated or malformed feed never leaves a partial rate table.</p>
+ *
+ * <p>Rates and revalued amounts are committed together; the rate cache of
+ * every replica is dropped after commit.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class ExchangeRateLoader {
+
+  private static final Logger logger = LoggerFactory.getLogger(ExchangeRateLoader.class);
+
+  /** Errors listed in the rejection message before the rest are summarised. */
+  static final int MAX_REPORTED_ERRORS = 20;
+
+  /**
+   * Outcome of loading a feed.
+   *
+   * @param inserted rates for new currency/date pairs
+   * @param updated existing rates whose value changed
+   * @param unchanged existing rates with the same value
+   * @param revalued stored CAD amounts changed by the revaluation
+   */
+  public record Loaded(int inserted, int updated, int unchanged, int revalued) {
+  }
+
+  private final ExchangeRateRepository exchangeRateRepository;
+  private final ExchangeRateCache exchangeRateCache;
+  private final ExchangeRateRevaluation revaluation;
+
+  public ExchangeRateLoader(ExchangeRateRepository exchangeRateRepository,
+      ExchangeRateCache exchangeRateCache, ExchangeRateRevaluation revaluation) {
+    this.exchangeRateRepository = exchangeRateRepository;
+    this.exchangeRateCache = exchangeRateCache;
+    this.revaluation = revaluation;
+  }
+
+  /**
+   * Load a feed.
+   *
+   * @param reader the CSV content
+   * @param source recorded on each rate, e.g. the file name
+   * @return the outcome
+   * @throws IOException if the feed cannot be read
+   * @throws IllegalArgumentException if any line is invalid; nothing is stored
+   */
+  @Transactional
+  public Loaded load(Reader reader, String source) throws IOException {
+    List<ExchangeRate> rates = parse(reader, source);
+    int inserted = 0;
+    int updated = 0;
+    for (ExchangeRate rate : rates) {
+      ExchangeRate existing = exchangeRateRepository
+          .findByCurrencyAndEffectiveDate(rate.getCurrency(), rate.getEffectiveDate())
+          .orElse(null);
+      if (existing == null) {
+        exchangeRateRepository.save(rate);
+        inserted++;
+      } else if (existing.getRate().compareTo(rate.getRate()) != 0) {
+        existing.setRate(rate.getRate());
+        existing.setSource(source);
+        updated++;
+      }
+    }
+    int unchanged = rates.size() - inserted - updated;
+    int revalued = 0;
+    if (inserted > 0 || updated > 0) {
+      exchangeRateCache.invalidate();
+      revalued = revaluation.revalueOpenFiscalYears().stream()
+          .mapToInt(ExchangeRateRevaluation.Result::total)
+          .sum();
+    }
+    logger.info("Loaded exchange rates from {}: {} new, {} changed, {} unchanged; {} amounts revalued",
+        source, inserted, updated, unchanged, revalued);
+    return new Loaded(inserted, updated, unchanged, revalued);
+  }
+
+  /**
+   * Parse and validate a feed.
+   *
+   * @param reader the CSV content
+   * @param source recorded on each rate
+   * @return the rates, in file order
+   * @throws IOException if the feed cannot be read
+   * @throws IllegalArgumentException listing the invalid lines, if any
+   */
+  static List<ExchangeRate> parse(Reader reader, String source) throws IOException {
+    List<ExchangeRate> rates = new ArrayList<>();
+    List<String> errors = new ArrayList<>();
+    Set<String> seen = new HashSet<>();
+    BufferedReader lines = new BufferedReader(reader);
+    String line;
+    int lineNumber = 0;
+    boolean first = true;
+    while ((line = lines.readLine()) != null) {
+      lineNumber++;
+      String trimmed = line.strip();
+      if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+        continue;
+      }
+      if (first && trimmed.toLowerCase().startsWith("currency")) {
+        first = false;
+        continue;
+      }
+      first = false;
+      String[] fields = trimmed.split(",", -1);
+      if (fields.length != 3) {
+        errors.add("line " + lineNumber + ": expected currency,effective_date,rate");
+        continue;
+      }
+      Currency currency = Currency.fromCode(fields[0].strip());
+      if (currency == null || currency == Currency.CAD) {
+        errors.add("line " + lineNumber + ": unsupported currency '" + fields[0].strip() + "'");
+        continue;
+      }
+      LocalDate effectiveDate;
+      BigDecimal rate;
+      try {
+        effectiveDate = LocalDate.parse(fields[1].strip());
+      } catch (DateTimeParseException e) {
+        errors.add("line " + lineNumber + ": invalid date '" + fields[1].strip() + "'");
+        continue;
+      }
+      try {
+        rate = new BigDecimal(fields[2].strip()).setScale(6, RoundingMode.HALF_UP);
+      } catch (NumberFormatException e) {
+        errors.add("line " + lineNumber + ": invalid rate '" + fields[2].strip() + "'");
+        continue;
+      }
+      if (rate.signum() <= 0) {
+        errors.add("line " + lineNumber + ": rate must be greater than zero");
+        continue;
+      }
+      if (!seen.add(currency.name() + "/" + effectiveDate)) {
+        errors.add("line " + lineNumber + ": duplicate rate for " + currency.name() + " on "
+            + effectiveDate);
+        continue;
+      }
+      rates.add(new ExchangeRate(currency, effectiveDate, rate, source));
+    }
+    if (!errors.isEmpty()) {
+      List<String> reported = errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS));
+      String more = errors.size() > reported.size()
+          ? "; and " + (errors.size() - reported.size()) + " more"
+          : "";
+      throw new IllegalArgumentException(
+          "Invalid exchange rate file: " + String.join("; ", reported) + more);
+    }
+    return rates;
+  }
+}
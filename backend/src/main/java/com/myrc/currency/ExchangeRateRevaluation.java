@@ -0,0 +1,261 @@
+/*
+ * myRC - Exchange Rate Revaluation
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.currency;
+
+import com.myrc.cache.SecondLevelCacheInvalidator;
+import com.myrc.ledger.AllocationLedgerRecorder;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.AllocationLedgerEntry.Reason;
+import com.myrc.model.ChangeEntityType;
+import com.myrc.model.Currency;
+import com.myrc.sync.ChangeFeedRecorder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recomputes the stored CAD amounts of a fiscal year's open items after
+ * exchange rates change.
+ *
+ * <p>Only amounts without a manually entered rate follow the rate table; an
+ * entered rate always wins (see {@link CurrencyConverter}). Amounts are
+ * revalued with set-based {@code UPDATE}s (invoices in one statement, the
+ * others one per currency) instead of loading and saving entities, and only
+ * rows whose CAD amount actually changes are written:</p>
+ * <ul>
+ *   <li>invoices of planned or committed spending items, at the rate in
+ *       effect on the date received;</li>
+ *   <li>money allocations of those spending items, at today's rate;</li>
+ *   <li>final and quoted prices of active procurement items that are not
+ *       completed, at today's rate.</li>
+ * </ul>
+ *
+ * <p>Bulk statements bypass entity events, so the changed items are
+ * reported to the change feed explicitly, spending items with revalued
+ * allocations are re-posted to the allocation ledger, the updated tables
+ * are reported to the second-level cache, and the rows' versions are
+ * bumped so stale edits fail their optimistic lock check.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class ExchangeRateRevaluation {
+
+  private static final Logger logger = LoggerFactory.getLogger(ExchangeRateRevaluation.class);
+
+  /**
+   * Outcome of revaluing one fiscal year.
+   *
+   * @param fiscalYearId the fiscal year
+   * @param invoices invoices whose CAD amount changed
+   * @param allocations spending money allocations whose CAD amounts changed
+   * @param procurementPrices procurement final/quoted prices whose CAD amount changed
+   */
+  public record Result(Long fiscalYearId, int invoices, int allocations, int procurementPrices) {
+
+    public int total() {
+      return invoices + allocations + procurementPrices;
+    }
+  }
+
+  static final String OPEN_FISCAL_YEARS_SQL =
+      "SELECT id FROM fiscal_years WHERE active = TRUE ORDER BY id";
+
+  /** Latest rate on or before :today for each currency. */
+  static final String CURRENT_RATES_SQL =
+      "SELECT r.currency, r.rate FROM exchange_rates r WHERE r.effective_date = "
+          + "(SELECT MAX(l.effective_date) FROM exchange_rates l "
+          + "WHERE l.currency = r.currency AND l.effective_date <= :today)";
+
+  private static final String OPEN_SPENDING_ITEMS =
+      "SELECT si.id FROM spending_items si WHERE si.fiscal_year_id = :fiscalYearId "
+          + "AND si.active = TRUE AND si.status IN ('PLANNING', 'COMMITTED')";
+
+  /** CAD amount of invoice {@code v} at the rate in effect when it was received. */
+  private static final String INVOICE_CAD =
+      "ROUND(v.amount * (SELECT r.rate FROM exchange_rates r WHERE r.currency = v.currency "
+          + "AND r.effective_date <= COALESCE(v.date_received, :today) "
+          + "ORDER BY r.effective_date DESC LIMIT 1), 2)";
+
+  private static final String INVOICE_WHERE =
+      "v.active = TRUE AND v.currency <> 'CAD' AND v.exchange_rate IS NULL "
+          + "AND v.spending_item_id IN (" + OPEN_SPENDING_ITEMS + ") "
+          + "AND " + INVOICE_CAD + " IS NOT NULL "
+          + "AND (v.amount_cad IS NULL OR v.amount_cad <> " + INVOICE_CAD + ")";
+
+  static final String INVOICE_ITEMS_SQL =
+      "SELECT DISTINCT v.spending_item_id FROM spending_invoices v WHERE " + INVOICE_WHERE;
+
+  static final String INVOICE_UPDATE_SQL =
+      "UPDATE spending_invoices v SET amount_cad = " + INVOICE_CAD
+          + ", version = v.version + 1 WHERE " + INVOICE_WHERE;
+
+  private static final String ALLOCATION_WHERE =
+      "a.spending_item_id IN (" + OPEN_SPENDING_ITEMS
+          + " AND si.currency = :currency AND si.exchange_rate IS NULL) "
+          + "AND (a.cap_amount_cad IS NULL OR a.cap_amount_cad <> ROUND(a.cap_amount * :rate, 2) "
+          + "OR a.om_amount_cad IS NULL OR a.om_amount_cad <> ROUND(a.om_amount * :rate, 2))";
+
+  static final String ALLOCATION_ITEMS_SQL =
+      "SELECT DISTINCT a.spending_item_id FROM spending_money_allocations a WHERE "
+          + ALLOCATION_WHERE;
+
+  static final String ALLOCATION_UPDATE_SQL =
+      "UPDATE spending_money_allocations a SET cap_amount_cad = ROUND(a.cap_amount * :rate, 2), "
+          + "om_amount_cad = ROUND(a.om_amount * :rate, 2), version = a.version + 1 WHERE "
+          + ALLOCATION_WHERE;
+
+  /** Procurement prices, by column prefix. */
+  static final List<String> PROCUREMENT_PRICES = List.of("final_price", "quoted_price");
+
+  /** Tables the revaluation updates. */
+  static final String[] REVALUED_TABLES =
+      {"spending_invoices", "spending_money_allocations", "procurement_items"};
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final ChangeFeedRecorder changeFeedRecorder;
+  private final AllocationLedgerRecorder ledgerRecorder;
+  private final ObjectProvider<SecondLevelCacheInvalidator> secondLevelCache;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  public ExchangeRateRevaluation(NamedParameterJdbcTemplate jdbcTemplate,
+      ChangeFeedRecorder changeFeedRecorder, AllocationLedgerRecorder ledgerRecorder,
+      ObjectProvider<SecondLevelCacheInvalidator> secondLevelCache) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.changeFeedRecorder = changeFeedRecorder;
+    this.ledgerRecorder = ledgerRecorder;
+    this.secondLevelCache = secondLevelCache;
+  }
+
+  /**
+   * Revalue the open items of one fiscal year against the current rate table.
+   *
+   * @param fiscalYearId the fiscal year
+   * @return the number of amounts changed per kind
+   */
+  @Transactional
+  public Result revalue(Long fiscalYearId) {
+    return revalue(fiscalYearId, currentRates(LocalDate.now()), LocalDate.now());
+  }
+
+  /**
+   * Revalue every active fiscal year, in one transaction. Runs daily so
+   * amounts follow rates that became effective since the last load.
+   *
+   * @return the outcome per fiscal year
+   */
+  @Scheduled(cron = "${app.currency.rates.revalue-cron:0 15 2 * * *}")
+  @Transactional
+  public List<Result> revalueOpenFiscalYears() {
+    LocalDate today = LocalDate.now();
+    Map<Currency, BigDecimal> rates = currentRates(today);
+    List<Result> results = new ArrayList<>();
+    for (Long fiscalYearId : jdbcTemplate.queryForList(OPEN_FISCAL_YEARS_SQL,
+        new MapSqlParameterSource(), Long.class)) {
+      results.add(revalue(fiscalYearId, rates, today));
+    }
+    return results;
+  }
+
+  private Result revalue(Long fiscalYearId, Map<Currency, BigDecimal> rates, LocalDate today) {
+    // Pending entity changes must reach the rows before they are recomputed
+    entityManager.flush();
+
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("fiscalYearId", fiscalYearId)
+        .addValue("today", today);
+
+    Set<Long> spendingItems = new TreeSet<>(
+        jdbcTemplate.queryForList(INVOICE_ITEMS_SQL, params, Long.class));
+    int invoices = jdbcTemplate.update(INVOICE_UPDATE_SQL, params);
+
+    int allocations = 0;
+    int procurementPrices = 0;
+    Set<Long> revaluedAllocationItems = new TreeSet<>();
+    Set<Long> procurementItems = new TreeSet<>();
+    for (Map.Entry<Currency, BigDecimal> rate : rates.entrySet()) {
+      MapSqlParameterSource rateParams = new MapSqlParameterSource(params.getValues())
+          .addValue("currency", rate.getKey().name())
+          .addValue("rate", rate.getValue());
+      revaluedAllocationItems.addAll(
+          jdbcTemplate.queryForList(ALLOCATION_ITEMS_SQL, rateParams, Long.class));
+      allocations += jdbcTemplate.update(ALLOCATION_UPDATE_SQL, rateParams);
+      for (String price : PROCUREMENT_PRICES) {
+        procurementItems.addAll(
+            jdbcTemplate.queryForList(procurementItemsSql(price), rateParams, Long.class));
+        procurementPrices += jdbcTemplate.update(procurementUpdateSql(price), rateParams);
+      }
+    }
+    spendingItems.addAll(revaluedAllocationItems);
+
+    changeFeedRecorder.recordBulkUpdate(entityManager, fiscalYearId,
+        ChangeEntityType.SPENDING_ITEM, spendingItems);
+    ledgerRecorder.recordBulkUpdate(entityManager, AllocationKind.SPENDING,
+        revaluedAllocationItems, Reason.REVALUATION);
+    changeFeedRecorder.recordBulkUpdate(entityManager, fiscalYearId,
+        ChangeEntityType.PROCUREMENT_ITEM, procurementItems);
+
+    Result result = new Result(fiscalYearId, invoices, allocations, procurementPrices);
+    if (result.total() > 0) {
+      secondLevelCache.ifAvailable(cache -> cache.evictTables(REVALUED_TABLES));
+      logger.info("Revalued fiscal year {}: {} invoices, {} allocations, {} procurement prices",
+          fiscalYearId, invoices, allocations, procurementPrices);
+    }
+    return result;
+  }
+
+  /**
+   * Rates in effect on a date, read from the table rather than the cache so
+   * a revaluation never uses rates older than the rows it writes.
+   */
+  private Map<Currency, BigDecimal> currentRates(LocalDate today) {
+    Map<Currency, BigDecimal> rates = new TreeMap<>();
+    jdbcTemplate.query(CURRENT_RATES_SQL, new MapSqlParameterSource("today", today), rs -> {
+      Currency currency = Currency.fromCode(rs.getString(1));
+      if (currency != null && currency != Currency.CAD) {
+        rates.put(currency, rs.getBigDecimal(2));
+      }
+    });
+    return rates;
+  }
+
+  static String procurementItemsSql(String price) {
+    return "SELECT p.id FROM procurement_items p WHERE " + procurementWhere(price);
+  }
+
+  static String procurementUpdateSql(String price) {
+    return "UPDATE procurement_items p SET " + price + "_cad = ROUND(p." + price + " * :rate, 2), "
+        + "version = p.version + 1 WHERE " + procurementWhere(price);
+  }
+
+  private static String procurementWhere(String price) {
+    return "p.fiscal_year_id = :fiscalYearId AND p.active = TRUE "
+        + "AND COALESCE(p.procurement_completed, FALSE) = FALSE "
+        + "AND p." + price + "_currency = :currency AND p." + price + "_exchange_rate IS NULL "
+        + "AND p." + price + " IS NOT NULL "
+        + "AND (p." + price + "_cad IS NULL OR p." + price + "_cad <> ROUND(p." + price
+        + " * :rate, 2))";
+  }
+}
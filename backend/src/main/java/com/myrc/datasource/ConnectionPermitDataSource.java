@@ -0,0 +1,152 @@
+/*
+ * myRC - Connection Permit DataSource
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Bounds the number of connections checked out concurrently with a fair
+ * semaphore, releasing the permit when the connection is closed.
+ *
+ * <p>Used in virtual-thread mode, where request concurrency is no longer
+ * capped by the servlet thread pool. Excess callers park on the semaphore
+ * (cheap for virtual threads) and fail with the same
+ * {@link SQLTransientConnectionException} Hikari raises on pool timeout when
+ * no permit becomes available in time.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class ConnectionPermitDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final int maxPermits;
+  private final long timeoutMillis;
+
+  public ConnectionPermitDataSource(DataSource targetDataSource, int maxPermits, long timeoutMillis) {
+    super(targetDataSource);
+    if (maxPermits < 1) {
+      throw new IllegalArgumentException("Connection permits must be positive: " + maxPermits);
+    }
+    this.permits = new Semaphore(maxPermits, true);
+    this.maxPermits = maxPermits;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return wrap(obtainTargetDataSource().getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return wrap(obtainTargetDataSource().getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  public int getMaxPermits() {
+    return maxPermits;
+  }
+
+  public int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  /**
+   * Threads currently waiting for a permit.
+   *
+   * @return the estimated number of waiting threads
+   */
+  public int getWaitingThreads() {
+    return permits.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new SQLTransientConnectionException("Connection permit not available after "
+            + timeoutMillis + "ms (" + maxPermits + " permits, " + getWaitingThreads() + " waiting)");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+    }
+  }
+
+  private Connection wrap(Connection connection) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+        new Class<?>[] {Connection.class}, new PermitReleasingHandler(connection));
+  }
+
+  private final class PermitReleasingHandler implements InvocationHandler {
+
+    private final Connection target;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    PermitReleasingHandler(Connection target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "unwrap":
+          if (((Class<?>) args[0]).isInstance(proxy)) {
+            return proxy;
+          }
+          break;
+        case "isWrapperFor":
+          if (((Class<?>) args[0]).isInstance(proxy)) {
+            return true;
+          }
+          break;
+        case "close":
+          try {
+            target.close();
+          } finally {
+            if (released.compareAndSet(false, true)) {
+              permits.release();
+            }
+          }
+          return null;
+        default:
+          break;
+      }
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    }
+  }
+}
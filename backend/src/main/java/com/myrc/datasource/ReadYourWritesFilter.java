@@ -0,0 +1,43 @@
+/*
+ * myRC - Read-Your-Writes Filter
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Binds the session's read-your-writes deadline to the request thread.
+ *
+ * <p>Must run after the Spring Session repository filter so that
+ * {@code getSession(false)} resolves the JDBC-backed session.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  private final ReadYourWritesTracker tracker;
+
+  public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+    this.tracker = tracker;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    tracker.begin(request);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      tracker.end();
+    }
+  }
+}
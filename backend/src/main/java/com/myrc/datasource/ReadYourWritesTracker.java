@@ -0,0 +1,107 @@
+/*
+ * myRC - Read-Your-Writes Tracker
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import java.time.Duration;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Keeps a session on the primary for a short window after it commits a write.
+ *
+ * <p>Replicas may lag the primary by up to the configured maximum, so a user
+ * who saves a record and immediately reloads the list could otherwise see the
+ * old data. The deadline is kept in the HTTP session so it survives across
+ * requests (and replicas of the backend, via Spring Session), and mirrored
+ * into a thread-local for the current request so routing does not touch the
+ * session on every connection checkout.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class ReadYourWritesTracker {
+
+  /** Session attribute holding the epoch millis until which reads stay on the primary. */
+  public static final String SESSION_ATTRIBUTE = "myrc.readPrimaryUntil";
+
+  private final ThreadLocal<Long> primaryUntil = new ThreadLocal<>();
+  private final long windowMillis;
+
+  public ReadYourWritesTracker(Duration window) {
+    this.windowMillis = window.toMillis();
+  }
+
+  /**
+   * Load the deadline stored in the session into the current thread.
+   *
+   * @param request the incoming request
+   */
+  public void begin(HttpServletRequest request) {
+    HttpSession session = request.getSession(false);
+    if (session == null) {
+      return;
+    }
+    Object value = session.getAttribute(SESSION_ATTRIBUTE);
+    if (value instanceof Long until && until > System.currentTimeMillis()) {
+      primaryUntil.set(until);
+    }
+  }
+
+  /**
+   * Forget the deadline for the current thread at the end of a request.
+   */
+  public void end() {
+    primaryUntil.remove();
+  }
+
+  /**
+   * Record that the current request committed a write.
+   */
+  public void markWritten() {
+    long until = System.currentTimeMillis() + windowMillis;
+    primaryUntil.set(until);
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes instanceof ServletRequestAttributes servletAttributes) {
+      HttpSession session = servletAttributes.getRequest().getSession(false);
+      if (session != null) {
+        try {
+          session.setAttribute(SESSION_ATTRIBUTE, until);
+        } catch (IllegalStateException e) {
+          // Session invalidated by the same request (e.g. logout); nothing to keep.
+        }
+      }
+    }
+  }
+
+  /**
+   * Keep the rest of the current request on the primary, without extending
+   * the session's window.
+   */
+  public void pinRequestToPrimary() {
+    primaryUntil.set(Long.MAX_VALUE);
+  }
+
+  /**
+   * Whether reads on this thread must currently go to the primary.
+   *
+   * @return true while inside the read-your-writes window
+   */
+  public boolean isPinnedToPrimary() {
+    Long until = primaryUntil.get();
+    if (until == null) {
+      return false;
+    }
+    if (until <= System.currentTimeMillis()) {
+      primaryUntil.remove();
+      return false;
+    }
+    return true;
+  }
+}
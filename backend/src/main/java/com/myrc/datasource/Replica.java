@@ -0,0 +1,69 @@
+/*
+ * myRC - Read Replica
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * A PostgreSQL read replica and its last observed health.
+ *
+ * <p>Health and lag are written by {@link ReplicaHealthMonitor} and read on
+ * every routing decision, so they are kept in volatile fields.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class Replica {
+
+  private final String name;
+  private final DataSource dataSource;
+
+  private volatile boolean healthy;
+  private volatile double lagSeconds = -1;
+  private volatile String lastError;
+
+  public Replica(String name, DataSource dataSource) {
+    this.name = name;
+    this.dataSource = dataSource;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  /**
+   * Whether the replica answered the last health check within the lag bound.
+   *
+   * @return true if reads may be routed to this replica
+   */
+  public boolean isHealthy() {
+    return healthy;
+  }
+
+  /**
+   * Replication lag in seconds at the last check, or -1 if unknown.
+   *
+   * @return the lag in seconds
+   */
+  public double getLagSeconds() {
+    return lagSeconds;
+  }
+
+  public String getLastError() {
+    return lastError;
+  }
+
+  void markChecked(boolean healthy, double lagSeconds, String lastError) {
+    this.healthy = healthy;
+    this.lagSeconds = lagSeconds;
+    this.lastError = lastError;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * myRC - Replica Health Indicator
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports replica lag and health under {@code /actuator/health}.
+ *
+ * <p>Always reports UP: a lagging or unreachable replica only means reads are
+ * served by the primary, which must not take the backend out of rotation.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class ReplicaHealthIndicator implements HealthIndicator {
+
+  private final ReplicaRoutingDataSource routingDataSource;
+
+  public ReplicaHealthIndicator(ReplicaRoutingDataSource routingDataSource) {
+    this.routingDataSource = routingDataSource;
+  }
+
+  @Override
+  public Health health() {
+    Health.Builder builder = Health.up();
+    for (Replica replica : routingDataSource.getReplicas()) {
+      Map<String, Object> details = new LinkedHashMap<>();
+      details.put("healthy", replica.isHealthy());
+      details.put("lagSeconds", replica.getLagSeconds());
+      if (replica.getLastError() != null) {
+        details.put("error", replica.getLastError());
+      }
+      builder.withDetail(replica.getName(), details);
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * myRC - Replica Health Monitor
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically measures replication lag on every replica and marks replicas
+ * that are unreachable or behind the configured bound as unhealthy, which
+ * makes {@link ReplicaRoutingDataSource} fall back to the primary.
+ *
+ * <p>Lag is reported as zero when the replica has replayed everything it
+ * received; otherwise it is the age of the last replayed transaction. A
+ * server that is not in recovery (e.g. a promoted replica) reports zero.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class ReplicaHealthMonitor {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+  static final String LAG_QUERY =
+      "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+          + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+          + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+  private final List<Replica> replicas;
+  private final double maxLagSeconds;
+  private final long intervalMs;
+  private final int timeoutSeconds;
+  private ScheduledExecutorService executor;
+
+  public ReplicaHealthMonitor(List<Replica> replicas, double maxLagSeconds, long intervalMs,
+      int timeoutSeconds) {
+    this.replicas = List.copyOf(replicas);
+    this.maxLagSeconds = maxLagSeconds;
+    this.intervalMs = intervalMs;
+    this.timeoutSeconds = timeoutSeconds;
+  }
+
+  /**
+   * Run a first check synchronously so replicas are usable as soon as the
+   * context is up, then schedule the periodic checks.
+   */
+  public void start() {
+    checkAll();
+    executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "replica-health-monitor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleWithFixedDelay(this::checkAll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  public void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Check every replica once.
+   */
+  public void checkAll() {
+    for (Replica replica : replicas) {
+      check(replica);
+    }
+  }
+
+  void check(Replica replica) {
+    boolean wasHealthy = replica.isHealthy();
+    try (Connection connection = replica.getDataSource().getConnection();
+         Statement statement = connection.createStatement()) {
+      statement.setQueryTimeout(timeoutSeconds);
+      double lag;
+      try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+        lag = rs.next() ? rs.getDouble(1) : 0;
+      }
+      boolean healthy = lag <= maxLagSeconds;
+      replica.markChecked(healthy, lag, healthy ? null : "Replication lag " + lag + "s");
+      if (healthy != wasHealthy) {
+        if (healthy) {
+          logger.info("Replica {} is healthy (lag {}s), routing reads to it", replica.getName(), lag);
+        } else {
+          logger.warn("Replica {} lags {}s (max {}s), routing reads to primary",
+              replica.getName(), lag, maxLagSeconds);
+        }
+      }
+    } catch (Exception e) {
+      replica.markChecked(false, -1, e.getMessage());
+      if (wasHealthy) {
+        logger.warn("Replica {} is unreachable, routing reads to primary: {}",
+            replica.getName(), e.getMessage());
+      }
+    }
+  }
+}
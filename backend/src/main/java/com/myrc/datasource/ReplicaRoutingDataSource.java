@@ -0,0 +1,152 @@
+/*
+ * myRC - Replica Routing DataSource
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.datasource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to a healthy replica and everything else to
+ * the primary.
+ *
+ * <p>The lookup key is resolved when a connection is first requested, so this
+ * data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * JPA obtains its connection before the transaction's read-only flag is
+ * published, and the lazy proxy defers the real checkout to the first
+ * statement. A read-only transaction falls back to the primary when no
+ * replica is healthy or when the session wrote within the read-your-writes
+ * window.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  /** Lookup key of the primary data source. */
+  public static final String PRIMARY = "primary";
+
+  private static final Object WRITE_MARKER = new Object();
+
+  private final List<Replica> replicas;
+  private final ReadYourWritesTracker tracker;
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas,
+      ReadYourWritesTracker tracker) {
+    this.replicas = List.copyOf(replicas);
+    this.tracker = tracker;
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    for (Replica replica : this.replicas) {
+      if (PRIMARY.equals(replica.getName()) || targets.containsKey(replica.getName())) {
+        throw new IllegalArgumentException("Duplicate replica name: " + replica.getName());
+      }
+      targets.put(replica.getName(), replica.getDataSource());
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+  }
+
+  public List<Replica> getReplicas() {
+    return replicas;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      return PRIMARY;
+    }
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      registerWriteCallback();
+      return PRIMARY;
+    }
+    if (tracker != null && tracker.isPinnedToPrimary()) {
+      return PRIMARY;
+    }
+    Replica replica = nextHealthyReplica();
+    return replica != null ? replica.getName() : PRIMARY;
+  }
+
+  /**
+   * Pick the next healthy replica in round-robin order.
+   *
+   * @return a healthy replica, or null if none is available
+   */
+  Replica nextHealthyReplica() {
+    int size = replicas.size();
+    if (size == 0) {
+      return null;
+    }
+    int start = Math.floorMod(next.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Replica candidate = replicas.get((start + i) % size);
+      if (candidate.isHealthy()) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Healthy replica names, for diagnostics.
+   *
+   * @return names of replicas currently accepting reads
+   */
+  public List<String> healthyReplicaNames() {
+    List<String> names = new ArrayList<>();
+    for (Replica replica : replicas) {
+      if (replica.isHealthy()) {
+        names.add(replica.getName());
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Close the replica pools owned by this data source.
+   */
+  public void close() {
+    for (Replica replica : replicas) {
+      if (replica.getDataSource() instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          logger.warn("Failed to close replica pool " + replica.getName(), e);
+        }
+      }
+    }
+  }
+
+  private void registerWriteCallback() {
+    if (tracker == null
+        || !TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+      return;
+    }
+    TransactionSynchronizationManager.bindResource(WRITE_MARKER, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        tracker.markWritten();
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+      }
+    });
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * myRC - Fiscal Year Change Event DTO
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Data Transfer Object for change notifications pushed over Server-Sent Events.
+ */
+
+package com.myrc.dto;
+
+/**
+ * One committed change, as pushed to fiscal year stream subscribers.
+ *
+ * <p>Only identifies the item; clients refetch it (or call the changes
+ * endpoint with their last {@code seq}) when they need its content.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class FiscalYearChangeEventDTO {
+
+    private Long seq;
+    private String collection;
+    private String entityType;
+    private Long id;
+    private Long version;
+    private String changeType;
+
+    public FiscalYearChangeEventDTO() {}
+
+    public FiscalYearChangeEventDTO(Long seq, String collection, String entityType, Long id,
+            Long version, String changeType) {
+        this.seq = seq;
+        this.collection = collection;
+        this.entityType = entityType;
+        this.id = id;
+        this.version = version;
+        this.changeType = changeType;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public void setCollection(String collection) {
+        this.collection = collection;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(String changeType) {
+        this.changeType = changeType;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * myRC - Fiscal Year Changes DTO
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Data Transfer Object for the fiscal year delta-sync change feed.
+ */
+
+package com.myrc.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes to a fiscal year's collections since a client watermark.
+ *
+ * <p>A client stores {@code version} and passes it back as {@code since} on
+ * the next call. When {@code resyncRequired} is true the client must reload
+ * the collections in full (after reading {@code version}) instead of
+ * applying {@code changes}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class FiscalYearChangesDTO {
+
+    private Long fiscalYearId;
+    private Long since;
+    private Long version;
+    private boolean resyncRequired;
+    private Map<String, CollectionChanges> changes = new LinkedHashMap<>();
+
+    /**
+     * Changes within one collection, keyed by its path segment
+     * (e.g. {@code funding-items}).
+     */
+    public static class CollectionChanges {
+        private List<Object> upserted = new ArrayList<>();
+        private List<Long> deleted = new ArrayList<>();
+
+        public List<Object> getUpserted() {
+            return upserted;
+        }
+
+        public void setUpserted(List<Object> upserted) {
+            this.upserted = upserted;
+        }
+
+        public List<Long> getDeleted() {
+            return deleted;
+        }
+
+        public void setDeleted(List<Long> deleted) {
+            this.deleted = deleted;
+        }
+    }
+
+    public FiscalYearChangesDTO() {}
+
+    public FiscalYearChangesDTO(Long fiscalYearId, Long since, Long version, boolean resyncRequired) {
+        this.fiscalYearId = fiscalYearId;
+        this.since = since;
+        this.version = version;
+        this.resyncRequired = resyncRequired;
+    }
+
+    public Long getFiscalYearId() {
+        return fiscalYearId;
+    }
+
+    public void setFiscalYearId(Long fiscalYearId) {
+        this.fiscalYearId = fiscalYearId;
+    }
+
+    public Long getSince() {
+        return since;
+    }
+
+    public void setSince(Long since) {
+        this.since = since;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+
+    public Map<String, CollectionChanges> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(Map<String, CollectionChanges> changes) {
+        this.changes = changes;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * myRC - Fiscal Year Comparison DTO
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Data Transfer Object for the fiscal year comparison analytics.
+ */
+
+package com.myrc.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Comparison of two or more fiscal years of an RC.
+ *
+ * <p>Fiscal years are listed in the requested order and every delta is the
+ * change from the previous fiscal year in that order (null for the first).
+ * Categories are matched across fiscal years by name, ignoring case, and
+ * monies by code, so the copies made when a fiscal year is cloned line up
+ * with their originals.</p>
+ *
+ * <p>Spending and burn amounts are in CAD where a converted amount is
+ * stored; funding allocations are summed as entered.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class FiscalYearComparisonDTO {
+
+    private Long rcId;
+    private List<FiscalYearSummary> fiscalYears = new ArrayList<>();
+    private List<ComparisonRow> categories = new ArrayList<>();
+    private List<ComparisonRow> monies = new ArrayList<>();
+
+    /**
+     * Totals, monthly burn and year-end forecast of one fiscal year.
+     *
+     * <p>A month's burn is the sum of the invoices received in it, plus the
+     * allocations of spending items without invoices whose first Section 34
+     * or credit card cleared event falls in it. The forecast extends the
+     * average burn of the elapsed months to the end of the fiscal year; it
+     * is null when the fiscal year's period is unknown or has not started,
+     * and equals the actual burn once the period is over.</p>
+     */
+    public static class FiscalYearSummary {
+        private Long fiscalYearId;
+        private String fiscalYearName;
+        private LocalDate periodStart;
+        private LocalDate periodEnd;
+        private BigDecimal funding = BigDecimal.ZERO;
+        private BigDecimal spending = BigDecimal.ZERO;
+        private BigDecimal fundingDelta;
+        private BigDecimal spendingDelta;
+        private BigDecimal burned = BigDecimal.ZERO;
+        private List<MonthlyBurn> monthlyBurn = new ArrayList<>();
+        private int monthsElapsed;
+        private BigDecimal averageMonthlyBurn;
+        private BigDecimal forecastYearEnd;
+        private BigDecimal forecastBalance;
+
+        public FiscalYearSummary() {}
+
+        public FiscalYearSummary(Long fiscalYearId, String fiscalYearName) {
+            this.fiscalYearId = fiscalYearId;
+            this.fiscalYearName = fiscalYearName;
+        }
+
+        public Long getFiscalYearId() { return fiscalYearId; }
+        public void setFiscalYearId(Long fiscalYearId) { this.fiscalYearId = fiscalYearId; }
+        public String getFiscalYearName() { return fiscalYearName; }
+        public void setFiscalYearName(String fiscalYearName) { this.fiscalYearName = fiscalYearName; }
+        public LocalDate getPeriodStart() { return periodStart; }
+        public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+        public LocalDate getPeriodEnd() { return periodEnd; }
+        public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+        public BigDecimal getFunding() { return funding; }
+        public void setFunding(BigDecimal funding) { this.funding = funding; }
+        public BigDecimal getSpending() { return spending; }
+        public void setSpending(BigDecimal spending) { this.spending = spending; }
+        public BigDecimal getFundingDelta() { return fundingDelta; }
+        public void setFundingDelta(BigDecimal fundingDelta) { this.fundingDelta = fundingDelta; }
+        public BigDecimal getSpendingDelta() { return spendingDelta; }
+        public void setSpendingDelta(BigDecimal spendingDelta) { this.spendingDelta = spendingDelta; }
+        public BigDecimal getBurned() { return burned; }
+        public void setBurned(BigDecimal burned) { this.burned = burned; }
+        public List<MonthlyBurn> getMonthlyBurn() { return monthlyBurn; }
+        public void setMonthlyBurn(List<MonthlyBurn> monthlyBurn) { this.monthlyBurn = monthlyBurn; }
+        public int getMonthsElapsed() { return monthsElapsed; }
+        public void setMonthsElapsed(int monthsElapsed) { this.monthsElapsed = monthsElapsed; }
+        public BigDecimal getAverageMonthlyBurn() { return averageMonthlyBurn; }
+        public void setAverageMonthlyBurn(BigDecimal averageMonthlyBurn) { this.averageMonthlyBurn = averageMonthlyBurn; }
+        public BigDecimal getForecastYearEnd() { return forecastYearEnd; }
+        public void setForecastYearEnd(BigDecimal forecastYearEnd) { this.forecastYearEnd = forecastYearEnd; }
+        public BigDecimal getForecastBalance() { return forecastBalance; }
+        public void setForecastBalance(BigDecimal forecastBalance) { this.forecastBalance = forecastBalance; }
+    }
+
+    /**
+     * Burn of one calendar month, with the running total of the fiscal year.
+     */
+    public static class MonthlyBurn {
+        private String month;
+        private BigDecimal invoiced = BigDecimal.ZERO;
+        private BigDecimal fromEvents = BigDecimal.ZERO;
+        private BigDecimal total = BigDecimal.ZERO;
+        private BigDecimal cumulative = BigDecimal.ZERO;
+
+        public MonthlyBurn() {}
+
+        public MonthlyBurn(String month) {
+            this.month = month;
+        }
+
+        /** The month as {@code yyyy-MM}. */
+        public String getMonth() { return month; }
+        public void setMonth(String month) { this.month = month; }
+        public BigDecimal getInvoiced() { return invoiced; }
+        public void setInvoiced(BigDecimal invoiced) { this.invoiced = invoiced; }
+        public BigDecimal getFromEvents() { return fromEvents; }
+        public void setFromEvents(BigDecimal fromEvents) { this.fromEvents = fromEvents; }
+        public BigDecimal getTotal() { return total; }
+        public void setTotal(BigDecimal total) { this.total = total; }
+        public BigDecimal getCumulative() { return cumulative; }
+        public void setCumulative(BigDecimal cumulative) { this.cumulative = cumulative; }
+    }
+
+    /**
+     * One category or money matched across the compared fiscal years.
+     */
+    public static class ComparisonRow {
+        private String key;
+        private String label;
+        private List<ComparisonValue> values = new ArrayList<>();
+
+        public ComparisonRow() {}
+
+        public ComparisonRow(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+
+        /** Lower-case category name or upper-case money code; empty for uncategorized. */
+        public String getKey() { return key; }
+        public void setKey(String key) { this.key = key; }
+        public String getLabel() { return label; }
+        public void setLabel(String label) { this.label = label; }
+        public List<ComparisonValue> getValues() { return values; }
+        public void setValues(List<ComparisonValue> values) { this.values = values; }
+    }
+
+    /**
+     * A row's amounts in one fiscal year; zero when the fiscal year has no
+     * matching category or money.
+     */
+    public static class ComparisonValue {
+        private Long fiscalYearId;
+        private BigDecimal funding = BigDecimal.ZERO;
+        private BigDecimal spending = BigDecimal.ZERO;
+        private BigDecimal fundingDelta;
+        private BigDecimal spendingDelta;
+
+        public ComparisonValue() {}
+
+        public ComparisonValue(Long fiscalYearId) {
+            this.fiscalYearId = fiscalYearId;
+        }
+
+        public Long getFiscalYearId() { return fiscalYearId; }
+        public void setFiscalYearId(Long fiscalYearId) { this.fiscalYearId = fiscalYearId; }
+        public BigDecimal getFunding() { return funding; }
+        public void setFunding(BigDecimal funding) { this.funding = funding; }
+        public BigDecimal getSpending() { return spending; }
+        public void setSpending(BigDecimal spending) { this.spending = spending; }
+        public BigDecimal getFundingDelta() { return fundingDelta; }
+        public void setFundingDelta(BigDecimal fundingDelta) { this.fundingDelta = fundingDelta; }
+        public BigDecimal getSpendingDelta() { return spendingDelta; }
+        public void setSpendingDelta(BigDecimal spendingDelta) { this.spendingDelta = spendingDelta; }
+    }
+
+    public Long getRcId() { return rcId; }
+    public void setRcId(Long rcId) { this.rcId = rcId; }
+    public List<FiscalYearSummary> getFiscalYears() { return fiscalYears; }
+    public void setFiscalYears(List<FiscalYearSummary> fiscalYears) { this.fiscalYears = fiscalYears; }
+    public List<ComparisonRow> getCategories() { return categories; }
+    public void setCategories(List<ComparisonRow> categories) { this.categories = categories; }
+    public List<ComparisonRow> getMonies() { return monies; }
+    public void setMonies(List<ComparisonRow> monies) { this.monies = monies; }
+}
@@ -0,0 +1,234 @@
+/*
+ * myRC - Item List Query
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Query parameters for paged, sorted and filtered item lists.
+ */
+
+package com.myrc.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Cursor pagination, sort and filter parameters of the procurement and
+ * spending item lists, bound from the query string.
+ *
+ * <p>The first page is requested with {@code limit} (and optionally
+ * {@code sort}/{@code direction} and filters); each following page by
+ * passing the {@code X-Next-Cursor} response header back as {@code cursor}
+ * together with the same sort and filters. The response body stays a plain
+ * JSON array.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class ItemListQuery {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    @Schema(description = "Column to sort by, e.g. name, vendor, amount, createdAt")
+    private String sort;
+
+    @Schema(description = "Sort direction", allowableValues = {"asc", "desc"})
+    private String direction;
+
+    @Schema(description = "Opaque cursor from the previous page's X-Next-Cursor header")
+    private String cursor;
+
+    @Schema(description = "Page size (default 50, max 500)")
+    private Integer limit;
+
+    private String status;
+    private String trackingStatus;
+    private Long categoryId;
+
+    @Schema(description = "Case-insensitive substring of the vendor")
+    private String vendor;
+
+    private String search;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+
+    @Schema(description = "Earliest creation date (inclusive)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;
+
+    @Schema(description = "Latest creation date (inclusive)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;
+
+    /**
+     * Whether any parameter beyond the original {@code status}, {@code search}
+     * and {@code categoryId} filters was given. Requests without them keep the
+     * original unpaged behaviour.
+     *
+     * @return true if the request uses paging, sorting or the new filters
+     */
+    public boolean isListQuery() {
+        return sort != null || direction != null || cursor != null || limit != null
+                || trackingStatus != null || vendor != null || minAmount != null
+                || maxAmount != null || fromDate != null || toDate != null;
+    }
+
+    /**
+     * Split a comma-separated {@code fields} parameter.
+     *
+     * @param fields the parameter value, may be null
+     * @return the trimmed, non-empty names in order, without duplicates
+     */
+    public static Set<String> parseFields(String fields) {
+        Set<String> names = new LinkedHashSet<>();
+        if (fields != null) {
+            for (String name : fields.split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Whether the sort is descending.
+     *
+     * @return true for {@code direction=desc}
+     * @throws IllegalArgumentException for an unknown direction
+     */
+    public boolean isDescending() {
+        if (direction == null || direction.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (direction.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Invalid sort direction: " + direction);
+    }
+
+    /**
+     * The page size, defaulted and bounded.
+     *
+     * @return the effective limit
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public int getEffectiveLimit() {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Invalid limit: " + limit);
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public void setDirection(String direction) {
+        this.direction = direction;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getTrackingStatus() {
+        return trackingStatus;
+    }
+
+    public void setTrackingStatus(String trackingStatus) {
+        this.trackingStatus = trackingStatus;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getVendor() {
+        return vendor;
+    }
+
+    public void setVendor(String vendor) {
+        this.vendor = vendor;
+    }
+
+    public String getSearch() {
+        return search;
+    }
+
+    public void setSearch(String search) {
+        this.search = search;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+}
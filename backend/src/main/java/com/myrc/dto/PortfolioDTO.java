@@ -0,0 +1,166 @@
+/*
+ * myRC - Portfolio DTO
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Data Transfer Object for the cross-RC portfolio dashboard.
+ */
+
+package com.myrc.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Funding, spending, training, travel and committed procurement totals for
+ * every RC and fiscal year the caller can access.
+ *
+ * <p>When some RCs could not be aggregated within the request's time budget,
+ * {@code complete} is false, their IDs are listed in {@code incompleteRcIds}
+ * and their fiscal years carry no {@code totals}; repeating the request
+ * usually fills them in from the cache.</p>
+ *
+ * <p>Spending and procurement amounts are in CAD where a converted amount is
+ * stored; funding, training and travel allocations are summed as entered.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class PortfolioDTO {
+
+    private List<RcPortfolio> responsibilityCentres = new ArrayList<>();
+    private boolean complete = true;
+    private List<Long> incompleteRcIds = new ArrayList<>();
+
+    /**
+     * One RC with the caller's access level and its fiscal years.
+     */
+    public static class RcPortfolio {
+        private Long rcId;
+        private String rcName;
+        private String accessLevel;
+        private List<FiscalYearPortfolio> fiscalYears = new ArrayList<>();
+
+        public RcPortfolio() {}
+
+        public RcPortfolio(Long rcId, String rcName, String accessLevel) {
+            this.rcId = rcId;
+            this.rcName = rcName;
+            this.accessLevel = accessLevel;
+        }
+
+        public Long getRcId() { return rcId; }
+        public void setRcId(Long rcId) { this.rcId = rcId; }
+        public String getRcName() { return rcName; }
+        public void setRcName(String rcName) { this.rcName = rcName; }
+        public String getAccessLevel() { return accessLevel; }
+        public void setAccessLevel(String accessLevel) { this.accessLevel = accessLevel; }
+        public List<FiscalYearPortfolio> getFiscalYears() { return fiscalYears; }
+        public void setFiscalYears(List<FiscalYearPortfolio> fiscalYears) { this.fiscalYears = fiscalYears; }
+    }
+
+    /**
+     * One fiscal year and its totals (null when not aggregated in time).
+     */
+    public static class FiscalYearPortfolio {
+        private Long fiscalYearId;
+        private String fiscalYearName;
+        private Boolean active;
+        private FiscalYearTotals totals;
+
+        public FiscalYearPortfolio() {}
+
+        public FiscalYearPortfolio(Long fiscalYearId, String fiscalYearName, Boolean active) {
+            this.fiscalYearId = fiscalYearId;
+            this.fiscalYearName = fiscalYearName;
+            this.active = active;
+        }
+
+        public Long getFiscalYearId() { return fiscalYearId; }
+        public void setFiscalYearId(Long fiscalYearId) { this.fiscalYearId = fiscalYearId; }
+        public String getFiscalYearName() { return fiscalYearName; }
+        public void setFiscalYearName(String fiscalYearName) { this.fiscalYearName = fiscalYearName; }
+        public Boolean getActive() { return active; }
+        public void setActive(Boolean active) { this.active = active; }
+        public FiscalYearTotals getTotals() { return totals; }
+        public void setTotals(FiscalYearTotals totals) { this.totals = totals; }
+    }
+
+    /**
+     * Totals of one fiscal year, overall and per money type. Instances are
+     * shared through the cache and must not be modified once built.
+     */
+    public static class FiscalYearTotals {
+        private BigDecimal funding = BigDecimal.ZERO;
+        private BigDecimal spending = BigDecimal.ZERO;
+        private BigDecimal training = BigDecimal.ZERO;
+        private BigDecimal travel = BigDecimal.ZERO;
+        private BigDecimal procurementCommitted = BigDecimal.ZERO;
+        private List<MoneyTotals> monies = new ArrayList<>();
+
+        public BigDecimal getFunding() { return funding; }
+        public void setFunding(BigDecimal funding) { this.funding = funding; }
+        public BigDecimal getSpending() { return spending; }
+        public void setSpending(BigDecimal spending) { this.spending = spending; }
+        public BigDecimal getTraining() { return training; }
+        public void setTraining(BigDecimal training) { this.training = training; }
+        public BigDecimal getTravel() { return travel; }
+        public void setTravel(BigDecimal travel) { this.travel = travel; }
+        public BigDecimal getProcurementCommitted() { return procurementCommitted; }
+        public void setProcurementCommitted(BigDecimal procurementCommitted) { this.procurementCommitted = procurementCommitted; }
+        public List<MoneyTotals> getMonies() { return monies; }
+        public void setMonies(List<MoneyTotals> monies) { this.monies = monies; }
+    }
+
+    /**
+     * Totals of one money type within a fiscal year. Training and travel are
+     * OM-only.
+     */
+    public static class MoneyTotals {
+        private Long moneyId;
+        private String code;
+        private String name;
+        private BigDecimal fundingCap = BigDecimal.ZERO;
+        private BigDecimal fundingOm = BigDecimal.ZERO;
+        private BigDecimal spendingCap = BigDecimal.ZERO;
+        private BigDecimal spendingOm = BigDecimal.ZERO;
+        private BigDecimal training = BigDecimal.ZERO;
+        private BigDecimal travel = BigDecimal.ZERO;
+
+        public MoneyTotals() {}
+
+        public MoneyTotals(Long moneyId, String code, String name) {
+            this.moneyId = moneyId;
+            this.code = code;
+            this.name = name;
+        }
+
+        public Long getMoneyId() { return moneyId; }
+        public void setMoneyId(Long moneyId) { this.moneyId = moneyId; }
+        public String getCode() { return code; }
+        public void setCode(String code) { this.code = code; }
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public BigDecimal getFundingCap() { return fundingCap; }
+        public void setFundingCap(BigDecimal fundingCap) { this.fundingCap = fundingCap; }
+        public BigDecimal getFundingOm() { return fundingOm; }
+        public void setFundingOm(BigDecimal fundingOm) { this.fundingOm = fundingOm; }
+        public BigDecimal getSpendingCap() { return spendingCap; }
+        public void setSpendingCap(BigDecimal spendingCap) { this.spendingCap = spendingCap; }
+        public BigDecimal getSpendingOm() { return spendingOm; }
+        public void setSpendingOm(BigDecimal spendingOm) { this.spendingOm = spendingOm; }
+        public BigDecimal getTraining() { return training; }
+        public void setTraining(BigDecimal training) { this.training = training; }
+        public BigDecimal getTravel() { return travel; }
+        public void setTravel(BigDecimal travel) { this.travel = travel; }
+    }
+
+    public List<RcPortfolio> getResponsibilityCentres() { return responsibilityCentres; }
+    public void setResponsibilityCentres(List<RcPortfolio> responsibilityCentres) { this.responsibilityCentres = responsibilityCentres; }
+    public boolean isComplete() { return complete; }
+    public void setComplete(boolean complete) { this.complete = complete; }
+    public List<Long> getIncompleteRcIds() { return incompleteRcIds; }
+    public void setIncompleteRcIds(List<Long> incompleteRcIds) { this.incompleteRcIds = incompleteRcIds; }
+}
@@ -0,0 +1,42 @@
+/*
+ * myRC - RC Access Level DTO
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+
+package com.myrc.dto;
+
+import com.myrc.model.RCAccess.AccessLevel;
+
+/**
+ * The current user's effective access level on one RC, as returned by the
+ * batch permission endpoints.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class RCAccessLevelDTO {
+    private Long rcId;
+    private String accessLevel;
+    private boolean canEdit;
+    private boolean canManage;
+
+    public RCAccessLevelDTO() {}
+
+    public RCAccessLevelDTO(Long rcId, AccessLevel accessLevel) {
+        this.rcId = rcId;
+        this.accessLevel = accessLevel != null ? accessLevel.name() : null;
+        this.canEdit = accessLevel == AccessLevel.OWNER || accessLevel == AccessLevel.READ_WRITE;
+        this.canManage = accessLevel == AccessLevel.OWNER;
+    }
+
+    public Long getRcId() { return rcId; }
+    public void setRcId(Long rcId) { this.rcId = rcId; }
+    public String getAccessLevel() { return accessLevel; }
+    public void setAccessLevel(String accessLevel) { this.accessLevel = accessLevel; }
+    public boolean isCanEdit() { return canEdit; }
+    public void setCanEdit(boolean canEdit) { this.canEdit = canEdit; }
+    public boolean isCanManage() { return canManage; }
+    public void setCanManage(boolean canManage) { this.canManage = canManage; }
+}
@@ -0,0 +1,91 @@
+/*
+ * myRC - Search Result DTO
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Data Transfer Object for one fiscal year search hit.
+ */
+
+package com.myrc.dto;
+
+/**
+ * One item matching a fiscal year search.
+ *
+ * <p>{@code type} is the item list the hit belongs to (procurement, spending,
+ * funding, training or travel) and {@code id} the item's ID within it.
+ * {@code field} names the best-matching field, and {@code snippet} is that
+ * field's value as escaped HTML with the term wrapped in {@code <mark>}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class SearchResultDTO {
+
+    private String type;
+    private Long id;
+    private String title;
+    private String field;
+    private String snippet;
+    private double score;
+
+    public SearchResultDTO() {}
+
+    public SearchResultDTO(String type, Long id, String title, String field, String snippet,
+            double score) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.field = field;
+        this.snippet = snippet;
+        this.score = score;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
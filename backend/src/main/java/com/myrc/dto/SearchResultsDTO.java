@@ -0,0 +1,79 @@
+/*
+ * myRC - Search Results DTO
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Data Transfer Object for a page of fiscal year search hits.
+ */
+
+package com.myrc.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of fiscal year search hits, best first.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class SearchResultsDTO {
+
+    private String query;
+    private int page;
+    private int size;
+    private long total;
+    private List<SearchResultDTO> results = new ArrayList<>();
+
+    public SearchResultsDTO() {}
+
+    public SearchResultsDTO(String query, int page, int size, long total,
+            List<SearchResultDTO> results) {
+        this.query = query;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+        this.results = results;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<SearchResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<SearchResultDTO> results) {
+        this.results = results;
+    }
+}
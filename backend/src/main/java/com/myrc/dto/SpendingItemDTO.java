@@ -164,17 +164,11 @@ public class SpendingItemDTO {
       dto.setInvoiceCount(0);
       dto.setInvoiceTotalCad(BigDecimal.ZERO);
     }
-    // Calculate money allocation total in CAD
+    // Money allocation total in CAD, from the CAD amounts stored at write time
     BigDecimal moneyAllocationTotal = BigDecimal.ZERO;
     if (spendingItem.getMoneyAllocations() != null) {
       for (var alloc : spendingItem.getMoneyAllocations()) {
-        BigDecimal cap = alloc.getCapAmount() != null ? alloc.getCapAmount() : BigDecimal.ZERO;
-        BigDecimal om = alloc.getOmAmount() != null ? alloc.getOmAmount() : BigDecimal.ZERO;
-        moneyAllocationTotal = moneyAllocationTotal.add(cap).add(om);
-      }
-      // Convert to CAD if foreign currency
-      if (spendingItem.getCurrency() != com.myrc.model.Currency.CAD && spendingItem.getExchangeRate() != null) {
-        moneyAllocationTotal = moneyAllocationTotal.multiply(spendingItem.getExchangeRate());
+        moneyAllocationTotal = moneyAllocationTotal.add(alloc.getTotalAmountCad());
       }
     }
     dto.setMoneyAllocationTotalCad(moneyAllocationTotal);
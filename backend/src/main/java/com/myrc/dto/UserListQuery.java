@@ -0,0 +1,149 @@
+/*
+ * myRC - User List Query
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Query parameters for the paged and filtered user list.
+ */
+
+package com.myrc.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Cursor pagination and filter parameters of {@code GET /users}, bound from
+ * the query string.
+ *
+ * <p>Users are listed by username. The first page is requested with
+ * {@code limit} and optionally a direction and filters; each following page
+ * by passing the {@code X-Next-Cursor} response header back as
+ * {@code cursor} together with the same direction and filters.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class UserListQuery {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    @Schema(description = "Sort direction of the username", allowableValues = {"asc", "desc"})
+    private String direction;
+
+    @Schema(description = "Opaque cursor from the previous page's X-Next-Cursor header")
+    private String cursor;
+
+    @Schema(description = "Page size (default 50, max 500)")
+    private Integer limit;
+
+    @Schema(description = "Authentication provider", allowableValues = {"LOCAL", "LDAP", "OAUTH2"})
+    private String provider;
+
+    private Boolean enabled;
+
+    @Schema(description = "Whether the account is locked")
+    private Boolean locked;
+
+    @Schema(description = "Case-insensitive substring of the username, email or full name")
+    private String search;
+
+    /**
+     * Whether any paging or filter parameter was given. Requests without
+     * them keep the original unpaged list of full user records.
+     *
+     * @return true if the request asks for a page
+     */
+    public boolean isListQuery() {
+        return direction != null || cursor != null || limit != null || provider != null
+                || enabled != null || locked != null || search != null;
+    }
+
+    /**
+     * Whether the sort is descending.
+     *
+     * @return true for {@code direction=desc}
+     * @throws IllegalArgumentException for an unknown direction
+     */
+    public boolean isDescending() {
+        if (direction == null || direction.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (direction.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Invalid sort direction: " + direction);
+    }
+
+    /**
+     * The page size, defaulted and bounded.
+     *
+     * @return the effective limit
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public int getEffectiveLimit() {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Invalid limit: " + limit);
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public void setDirection(String direction) {
+        this.direction = direction;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Boolean getLocked() {
+        return locked;
+    }
+
+    public void setLocked(Boolean locked) {
+        this.locked = locked;
+    }
+
+    public String getSearch() {
+        return search;
+    }
+
+    public void setSearch(String search) {
+        this.search = search;
+    }
+}
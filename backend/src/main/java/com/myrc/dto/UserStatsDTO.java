@@ -0,0 +1,39 @@
+/*
+ * myRC - User Stats DTO
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+
+package com.myrc.dto;
+
+/**
+ * User counts for the admin dashboard, computed by one grouped query.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class UserStatsDTO {
+    private long totalUsers;
+    private long enabledUsers;
+    private long disabledUsers;
+    private long lockedUsers;
+    private long localUsers;
+    private long ldapUsers;
+    private long oauth2Users;
+
+    public long getTotalUsers() { return totalUsers; }
+    public void setTotalUsers(long totalUsers) { this.totalUsers = totalUsers; }
+    public long getEnabledUsers() { return enabledUsers; }
+    public void setEnabledUsers(long enabledUsers) { this.enabledUsers = enabledUsers; }
+    public long getDisabledUsers() { return disabledUsers; }
+    public void setDisabledUsers(long disabledUsers) { this.disabledUsers = disabledUsers; }
+    public long getLockedUsers() { return lockedUsers; }
+    public void setLockedUsers(long lockedUsers) { this.lockedUsers = lockedUsers; }
+    public long getLocalUsers() { return localUsers; }
+    public void setLocalUsers(long localUsers) { this.localUsers = localUsers; }
+    public long getLdapUsers() { return ldapUsers; }
+    public void setLdapUsers(long ldapUsers) { this.ldapUsers = ldapUsers; }
+    public long getOauth2Users() { return oauth2Users; }
+    public void setOauth2Users(long oauth2Users) { this.oauth2Users = oauth2Users; }
+}
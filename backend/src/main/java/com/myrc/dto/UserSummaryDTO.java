@@ -0,0 +1,74 @@
+/*
+ * myRC - User Summary DTO
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+
+package com.myrc.dto;
+
+import com.myrc.model.User;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The columns of a user shown in the admin user list, selected as scalars
+ * so that listing users never loads the entity.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class UserSummaryDTO {
+    private Long id;
+    private String username;
+    private String email;
+    private String fullName;
+    private String authProvider;
+    private Boolean enabled;
+    private Boolean accountLocked;
+    private Set<String> roles = new TreeSet<>();
+    private LocalDateTime lastLoginAt;
+    private LocalDateTime createdAt;
+
+    public UserSummaryDTO() {}
+
+    /**
+     * Constructor used by the list query's projection; roles are filled in
+     * separately.
+     */
+    public UserSummaryDTO(Long id, String username, String email, String fullName,
+                          User.AuthProvider authProvider, Boolean enabled, Boolean accountLocked,
+                          LocalDateTime lastLoginAt, LocalDateTime createdAt) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.fullName = fullName;
+        this.authProvider = authProvider != null ? authProvider.name() : null;
+        this.enabled = enabled;
+        this.accountLocked = accountLocked;
+        this.lastLoginAt = lastLoginAt;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public String getFullName() { return fullName; }
+    public void setFullName(String fullName) { this.fullName = fullName; }
+    public String getAuthProvider() { return authProvider; }
+    public void setAuthProvider(String authProvider) { this.authProvider = authProvider; }
+    public Boolean getEnabled() { return enabled; }
+    public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+    public Boolean getAccountLocked() { return accountLocked; }
+    public void setAccountLocked(Boolean accountLocked) { this.accountLocked = accountLocked; }
+    public Set<String> getRoles() { return roles; }
+    public void setRoles(Set<String> roles) { this.roles = roles; }
+    public LocalDateTime getLastLoginAt() { return lastLoginAt; }
+    public void setLastLoginAt(LocalDateTime lastLoginAt) { this.lastLoginAt = lastLoginAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -56,7 +56,11 @@ import com.myrc.service.MoneyService;
 import com.myrc.service.CategoryService;
 import com.myrc.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -70,13 +74,32 @@ import java.util.logging.Logger;
  * Initializes default application data on startup.
  * Creates a default admin user if no users exist in the database.
  * Skips initialization in test profile.
+ *
+ * <p>Once the seed has been applied its version is recorded in the
+ * {@code app_initialization} table, and later boots only read that row.
+ * Bump {@link #SEED_VERSION} when the seeded data changes, or set
+ * {@code app.init.force=true} to re-run the checks once (for example after
+ * deleting the admin user).</p>
  */
 @Component
 @org.springframework.context.annotation.Profile("!test")
+@Order(0)
 public class DataInitializer implements ApplicationRunner {
 
     private static final Logger logger = Logger.getLogger(DataInitializer.class.getName());
 
+    /** Marker row of this seed in app_initialization. */
+    static final String SEED_MARKER = "default-data";
+
+    /** Version of the default users and Demo RC content. */
+    static final int SEED_VERSION = 1;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.init.force:false}")
+    private boolean forceInitialization;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -139,8 +162,52 @@ public class DataInitializer implements ApplicationRunner {
 
     @Override
     public void run(org.springframework.boot.ApplicationArguments args) throws Exception {
+        if (!forceInitialization && isSeedApplied()) {
+            logger.info("Default data version " + SEED_VERSION + " already applied, skipping initialization");
+            return;
+        }
         initializeDefaultUsers();
         initializeDemoRC();
+        recordSeedIfComplete();
+    }
+
+    /**
+     * Check the marker row; a missing table (schema not managed by Flyway)
+     * counts as not applied.
+     */
+    private boolean isSeedApplied() {
+        try {
+            List<Integer> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM app_initialization WHERE name = ?", Integer.class, SEED_MARKER);
+            return !versions.isEmpty() && versions.get(0) >= SEED_VERSION;
+        } catch (DataAccessException e) {
+            logger.fine(() -> "Initialization marker not readable: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Record the marker, but only when the seed actually completed, so a
+     * failed step is retried on the next boot.
+     */
+    private void recordSeedIfComplete() {
+        User adminUser = userRepository.findByUsername("admin").orElse(null);
+        if (adminUser == null || rcRepository.findByNameAndOwner("Demo", adminUser).isEmpty()) {
+            logger.warning("Default data incomplete, initialization will run again on next startup");
+            return;
+        }
+        try {
+            int updated = jdbcTemplate.update(
+                "UPDATE app_initialization SET version = ?, completed_at = CURRENT_TIMESTAMP WHERE name = ?",
+                SEED_VERSION, SEED_MARKER);
+            if (updated == 0) {
+                jdbcTemplate.update(
+                    "INSERT INTO app_initialization (name, version) VALUES (?, ?)",
+                    SEED_MARKER, SEED_VERSION);
+            }
+        } catch (DataAccessException e) {
+            logger.warning(() -> "Failed to record initialization marker: " + e.getMessage());
+        }
     }
 
     private void initializeDefaultUsers() {
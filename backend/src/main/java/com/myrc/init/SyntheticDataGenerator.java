@@ -0,0 +1,702 @@
+/*
+ * myRC - Synthetic Data Generator
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.init;
+
+import com.myrc.cache.SecondLevelCacheInvalidator;
+import com.myrc.config.SyntheticDataProperties;
+import com.myrc.ledger.AllocationLedgerWriter;
+import com.myrc.model.Currency;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FundingSource;
+import com.myrc.model.ProcurementEvent;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.ProcurementQuote;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingEvent;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.TrainingItem;
+import com.myrc.model.TrainingParticipant;
+import com.myrc.model.TravelItem;
+import com.myrc.model.TravelTraveller;
+import com.myrc.model.User;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.UserRepository;
+import com.myrc.service.CategoryService;
+import com.myrc.service.MoneyService;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generates a large synthetic dataset for reproducing production-scale
+ * performance locally. Runs on startup with the {@code synthetic} profile,
+ * after {@link DataInitializer} has created the default users.
+ *
+ * <p>Each RC gets consecutive fiscal years with monies and the default
+ * categories, funding, spending, procurement, training and travel items
+ * with money allocations, invoices, quotes, events, participants,
+ * travellers, dummy attachments and audit events. Amounts are log-normal,
+ * statuses are skewed towards the early stages and each RC is scaled by a
+ * random size factor, all from a fixed seed.</p>
+ *
+ * <p>RCs and fiscal years are created through JPA like any other; the bulk
+ * rows are written with batched JDBC inserts, one transaction per fiscal
+ * year that also creates the fiscal year itself. Those inserts bypass
+ * entity events, so each fiscal year's ledger entries and totals are posted
+ * in one set-based pass with {@link AllocationLedgerWriter#open} before its
+ * transaction commits. Fiscal years that already exist are skipped, and
+ * each is generated from its own seed, so an interrupted run resumes with
+ * the first missing fiscal year and produces the same data.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+@Profile("synthetic")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger logger = Logger.getLogger(SyntheticDataGenerator.class.getName());
+
+    static final String RC_NAME_FORMAT = "Synthetic RC %03d";
+
+    private static final String CREATED_BY = "synthetic";
+    private static final String NOW = "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP";
+
+    static final String MONEY_SQL =
+        "INSERT INTO monies (code, name, description, is_default, fiscal_year_id, display_order, "
+            + "active, created_at, updated_at, version) VALUES (?, ?, ?, FALSE, ?, ?, TRUE, " + NOW + ", 0)";
+    static final String FUNDING_SQL =
+        "INSERT INTO funding_items (name, description, source, comments, currency, exchange_rate, "
+            + "fiscal_year_id, category_id, created_at, updated_at, version, active) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, " + NOW + ", 0, TRUE)";
+    static final String FUNDING_ALLOCATION_SQL =
+        "INSERT INTO money_allocations (funding_item_id, money_id, cap_amount, om_amount, "
+            + "created_at, updated_at, version) VALUES (?, ?, ?, ?, " + NOW + ", 0)";
+    static final String PROCUREMENT_SQL =
+        "INSERT INTO procurement_items (purchase_requisition, purchase_order, name, description, "
+            + "preferred_vendor, contract_number, final_price, final_price_currency, final_price_cad, "
+            + "quoted_price, quoted_price_currency, quoted_price_cad, procurement_completed, "
+            + "procurement_completed_date, tracking_status, procurement_type, fiscal_year_id, "
+            + "category_id, created_at, updated_at, version, active) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + NOW + ", 0, TRUE)";
+    static final String QUOTE_SQL =
+        "INSERT INTO procurement_quotes (vendor_name, quote_reference, amount, amount_cap, amount_om, "
+            + "currency, exchange_rate, amount_cap_cad, amount_om_cad, received_date, expiry_date, "
+            + "status, selected, procurement_item_id, created_by, created_at, updated_at, version, "
+            + "active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + NOW + ", 0, TRUE)";
+    static final String QUOTE_FILE_SQL =
+        "INSERT INTO procurement_quote_files (quote_id, file_name, content_type, file_size, content, "
+            + "description, created_at, updated_at, active) VALUES (?, ?, ?, ?, ?, ?, " + NOW + ", TRUE)";
+    static final String PROCUREMENT_EVENT_SQL =
+        "INSERT INTO procurement_events (procurement_item_id, event_type, event_date, comment, "
+            + "old_status, new_status, created_by, created_at, updated_at, version, active) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, " + NOW + ", 0, TRUE)";
+    static final String SPENDING_SQL =
+        "INSERT INTO spending_items (name, description, vendor, reference_number, amount, eco_amount, "
+            + "status, currency, exchange_rate, category_id, fiscal_year_id, procurement_item_id, "
+            + "created_at, updated_at, version, active) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + NOW + ", 0, TRUE)";
+    static final String SPENDING_ALLOCATION_SQL =
+        "INSERT INTO spending_money_allocations (spending_item_id, money_id, cap_amount, om_amount, "
+            + "cap_amount_cad, om_amount_cad, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, " + NOW + ", 0)";
+    static final String INVOICE_SQL =
+        "INSERT INTO spending_invoices (spending_item_id, date_received, date_processed, comments, "
+            + "amount, currency, exchange_rate, amount_cad, created_by, created_at, updated_at, "
+            + "version, active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, " + NOW + ", 0, TRUE)";
+    static final String INVOICE_FILE_SQL =
+        "INSERT INTO spending_invoice_files (invoice_id, file_name, content_type, file_size, content, "
+            + "description, created_at, updated_at, active) VALUES (?, ?, ?, ?, ?, ?, " + NOW + ", TRUE)";
+    static final String SPENDING_EVENT_SQL =
+        "INSERT INTO spending_events (spending_item_id, event_type, event_date, comment, created_by, "
+            + "created_at, updated_at, version, active) VALUES (?, ?, ?, ?, ?, " + NOW + ", 0, TRUE)";
+    static final String TRAINING_SQL =
+        "INSERT INTO training_items (name, description, provider, status, training_type, format, "
+            + "start_date, end_date, location, fiscal_year_id, created_at, updated_at, version, active) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + NOW + ", 0, TRUE)";
+    static final String PARTICIPANT_SQL =
+        "INSERT INTO training_participants (training_item_id, name, eco, status, estimated_cost, "
+            + "final_cost, estimated_currency, final_currency, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 'CAD', 'CAD', " + NOW + ", 0)";
+    static final String TRAINING_ALLOCATION_SQL =
+        "INSERT INTO training_money_allocations (training_item_id, money_id, om_amount, created_at, "
+            + "updated_at, version) VALUES (?, ?, ?, " + NOW + ", 0)";
+    static final String TRAVEL_SQL =
+        "INSERT INTO travel_items (name, description, emap, destination, purpose, status, travel_type, "
+            + "departure_date, return_date, fiscal_year_id, created_at, updated_at, version, active) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + NOW + ", 0, TRUE)";
+    static final String TRAVELLER_SQL =
+        "INSERT INTO travel_travellers (travel_item_id, name, taac, estimated_cost, final_cost, "
+            + "approval_status, estimated_currency, final_currency, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 'CAD', 'CAD', " + NOW + ", 0)";
+    static final String TRAVEL_ALLOCATION_SQL =
+        "INSERT INTO travel_money_allocations (travel_item_id, money_id, om_amount, created_at, "
+            + "updated_at, version) VALUES (?, ?, ?, " + NOW + ", 0)";
+    static final String AUDIT_SQL =
+        "INSERT INTO audit_events (username, action, entity_type, entity_id, entity_name, rc_id, "
+            + "rc_name, fiscal_year_id, fiscal_year_name, http_method, endpoint, outcome, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[][] MONIES = {
+        {"OA", "Operating Allotment"}, {"WCF", "Working Capital Fund"}, {"GF", "Grant Funding"},
+        {"CF", "Carry Forward"}, {"SI", "Strategic Initiatives"}, {"RF", "Revolving Fund"},
+        {"TB", "Treasury Board Submission"}, {"PF", "Project Funding"}
+    };
+    private static final String[] VENDORS = {
+        "Northwind Supply", "Maple Systems", "Contoso Canada", "Fabrikam Ltd", "Tailspin Hardware",
+        "Adatum Consulting", "Litware Inc", "Proseware", "Wide World Importers", "Blue Yonder Labs"
+    };
+    private static final String[] GOODS = {
+        "Laptops", "Monitors", "Servers", "Licences", "Furniture", "Consulting", "Cloud Credits",
+        "Network Switches", "Lab Equipment", "Printing", "Software Support", "Storage Arrays"
+    };
+    private static final String[] PLACES = {
+        "Ottawa", "Toronto", "Montreal", "Vancouver", "Halifax", "Winnipeg", "Calgary", "Washington",
+        "London", "Brussels"
+    };
+    private static final String[] PEOPLE = {
+        "Alex Martin", "Sam Tremblay", "Jordan Roy", "Taylor Wong", "Casey Singh", "Morgan Gagnon",
+        "Riley Smith", "Jamie Lee", "Avery Brown", "Quinn Leblanc"
+    };
+    private static final String[][] AUDIT_ACTIONS = {
+        {"CREATE_SPENDING_ITEM", "SPENDING_ITEM", "POST"}, {"UPDATE_SPENDING_ITEM", "SPENDING_ITEM", "PUT"},
+        {"CREATE_FUNDING_ITEM", "FUNDING_ITEM", "POST"}, {"UPDATE_FUNDING_ITEM", "FUNDING_ITEM", "PUT"},
+        {"CREATE_PROCUREMENT_ITEM", "PROCUREMENT_ITEM", "POST"},
+        {"UPDATE_PROCUREMENT_ITEM", "PROCUREMENT_ITEM", "PUT"},
+        {"CREATE_MONEY", "MONEY", "POST"}, {"UPDATE_MONEY", "MONEY", "PUT"}
+    };
+    private static final Currency[] FOREIGN = {Currency.USD, Currency.EUR, Currency.GBP};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final ResponsibilityCentreRepository rcRepository;
+    private final FiscalYearRepository fiscalYearRepository;
+    private final MoneyService moneyService;
+    private final CategoryService categoryService;
+    private final AllocationLedgerWriter ledgerWriter;
+    private final SyntheticDataProperties properties;
+    private final ObjectProvider<SecondLevelCacheInvalidator> secondLevelCache;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  UserRepository userRepository,
+                                  ResponsibilityCentreRepository rcRepository,
+                                  FiscalYearRepository fiscalYearRepository,
+                                  MoneyService moneyService,
+                                  CategoryService categoryService,
+                                  AllocationLedgerWriter ledgerWriter,
+                                  SyntheticDataProperties properties,
+                                  ObjectProvider<SecondLevelCacheInvalidator> secondLevelCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.rcRepository = rcRepository;
+        this.fiscalYearRepository = fiscalYearRepository;
+        this.moneyService = moneyService;
+        this.categoryService = categoryService;
+        this.ledgerWriter = ledgerWriter;
+        this.properties = properties;
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generate();
+    }
+
+    /**
+     * Generate the configured RCs and fiscal years that do not exist yet.
+     *
+     * @return the number of rows inserted
+     */
+    public long generate() {
+        User owner = userRepository.findByUsername(properties.getOwner()).orElse(null);
+        if (owner == null) {
+            logger.warning("Synthetic data owner '" + properties.getOwner() + "' not found, skipping generation");
+            return 0;
+        }
+        long started = System.nanoTime();
+        long rows = 0;
+        for (int index = 1; index <= properties.getResponsibilityCentres(); index++) {
+            String name = String.format(RC_NAME_FORMAT, index);
+            rows += generateRc(name, owner, properties.getSeed() * 1_000_003L + index);
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        logger.info(String.format("Generated %,d synthetic rows in %.1f s (%,.0f rows/s)",
+            rows, seconds, seconds > 0 ? rows / seconds : 0));
+        return rows;
+    }
+
+    private long generateRc(String name, User owner, long seed) {
+        long rows = 0;
+        ResponsibilityCentre existing = rcRepository.findByNameAndOwner(name, owner).orElse(null);
+        Set<String> existingYears = new HashSet<>();
+        if (existing != null) {
+            fiscalYearRepository.findByResponsibilityCentreOrderByNameAsc(existing)
+                .forEach(fy -> existingYears.add(fy.getName()));
+        } else {
+            existing = transactionTemplate.execute(status -> rcRepository.save(
+                new ResponsibilityCentre(name, "Synthetic dataset for performance testing", owner)));
+            rows++;
+        }
+        ResponsibilityCentre rc = existing;
+        // Log-normal size: most RCs near the configured counts, a few much larger
+        double size = Math.min(4.0, Math.max(0.25, Math.exp(0.6 * new Random(seed).nextGaussian())));
+        for (int year = 0; year < properties.getFiscalYears(); year++) {
+            int startYear = properties.getFirstFiscalYear() + year;
+            if (existingYears.contains(fiscalYearName(startYear))) {
+                continue;
+            }
+            Random random = new Random(seed * 31 + startYear);
+            rows += transactionTemplate.execute(status -> new FiscalYearLoad(rc, startYear, size, random).run());
+        }
+        if (rows == 0) {
+            logger.info(name + " already exists, skipping");
+        } else {
+            logger.info(String.format("Generated %s (size %.2f): %,d rows", name, size, rows));
+        }
+        return rows;
+    }
+
+    static String fiscalYearName(int startYear) {
+        return "FY " + startYear + "-" + (startYear + 1);
+    }
+
+    /**
+     * Inserts in JDBC batches of the configured size, with explicit SQL types
+     * so that nulls need no parameter metadata lookups.
+     */
+    private final class Batch {
+
+        private final String sql;
+        private final int[] types;
+        private final List<Object[]> rows;
+        private long count;
+
+        Batch(String sql, int... types) {
+            this.sql = sql;
+            this.types = types;
+            this.rows = new ArrayList<>(properties.getBatchSize());
+        }
+
+        void add(Object... values) {
+            rows.add(values);
+            if (rows.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        long flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows, types);
+                count += rows.size();
+                rows.clear();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * One fiscal year's data, generated in the calling transaction. Parent
+     * rows are flushed before their children and their IDs read back in
+     * insertion order; nothing else writes to a fiscal year being generated.
+     */
+    private final class FiscalYearLoad {
+
+        private final ResponsibilityCentre rc;
+        private final int startYear;
+        private final double size;
+        private final Random random;
+        private final LocalDate start;
+        private FiscalYear fiscalYear;
+        private List<Long> moneyIds;
+        private List<Long> categoryIds;
+        private long rows;
+
+        FiscalYearLoad(ResponsibilityCentre rc, int startYear, double size, Random random) {
+            this.rc = rc;
+            this.startYear = startYear;
+            this.size = size;
+            this.random = random;
+            this.start = LocalDate.of(startYear, 4, 1);
+        }
+
+        long run() {
+            fiscalYear = fiscalYearRepository.save(new FiscalYear(
+                fiscalYearName(startYear), "Synthetic fiscal year", rc));
+            moneyService.ensureDefaultMoneyExists(fiscalYear.getId());
+            categoryService.initializeDefaultCategories(fiscalYear.getId());
+            fiscalYearRepository.flush();
+            rows = 1;
+            addMonies();
+            categoryIds = ids("SELECT id FROM categories WHERE fiscal_year_id = ? ORDER BY id");
+            if (categoryIds.isEmpty()) {
+                throw new IllegalStateException("No categories in fiscal year " + fiscalYear.getId());
+            }
+
+            addFunding();
+            List<Long> procurementIds = addProcurement();
+            List<Long> spendingIds = addSpending(procurementIds);
+            addTraining();
+            addTravel();
+            addAuditEvents(spendingIds);
+            rows += jdbcTemplate.execute((ConnectionCallback<Integer>) connection ->
+                ledgerWriter.open(connection, fiscalYear.getId()));
+            // Monies are cached reference data, and the inserts bypassed Hibernate
+            secondLevelCache.ifAvailable(cache -> cache.evictTables("monies", AllocationLedgerWriter.TOTALS_TABLE));
+            return rows;
+        }
+
+        private void addMonies() {
+            Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT code FROM monies WHERE fiscal_year_id = ?", String.class, fiscalYear.getId()));
+            Batch monies = new Batch(MONEY_SQL, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+                Types.INTEGER);
+            for (int i = 0; i < Math.min(properties.getMonies() - 1, MONIES.length); i++) {
+                if (!existing.contains(MONIES[i][0])) {
+                    monies.add(MONIES[i][0], MONIES[i][1], "Synthetic money", fiscalYear.getId(), i + 1);
+                }
+            }
+            rows += monies.flush();
+            moneyIds = ids("SELECT id FROM monies WHERE fiscal_year_id = ? ORDER BY id");
+        }
+
+        private void addFunding() {
+            Batch items = new Batch(FUNDING_SQL, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.VARCHAR, Types.NUMERIC, Types.BIGINT, Types.BIGINT);
+            int count = scaled(properties.getFundingItems());
+            List<BigDecimal> totals = new ArrayList<>(count);
+            for (int n = 1; n <= count; n++) {
+                BigDecimal total = amount(11.5, 1.0);
+                totals.add(total);
+                items.add(String.format("Funding %05d %s", n, pick(GOODS)), "Synthetic funding item",
+                    pick(FundingSource.values()).name(), random.nextInt(4) == 0 ? "Carried over" : null,
+                    Currency.CAD.name(), null, fiscalYear.getId(),
+                    random.nextBoolean() ? pick(categoryIds) : null);
+            }
+            rows += items.flush();
+
+            Batch allocations = new Batch(FUNDING_ALLOCATION_SQL, Types.BIGINT, Types.BIGINT,
+                Types.NUMERIC, Types.NUMERIC);
+            List<Long> itemIds = itemIds("funding_items");
+            for (int i = 0; i < itemIds.size(); i++) {
+                List<Long> monies = someMonies();
+                BigDecimal share = divide(totals.get(i), monies.size());
+                for (Long moneyId : monies) {
+                    BigDecimal cap = random.nextInt(3) == 0 ? part(share) : BigDecimal.ZERO.setScale(2);
+                    allocations.add(itemIds.get(i), moneyId, cap, share.subtract(cap));
+                }
+            }
+            rows += allocations.flush();
+        }
+
+        private List<Long> addProcurement() {
+            Batch items = new Batch(PROCUREMENT_SQL, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC, Types.VARCHAR, Types.NUMERIC,
+                Types.NUMERIC, Types.VARCHAR, Types.NUMERIC, Types.BOOLEAN, Types.DATE, Types.VARCHAR,
+                Types.VARCHAR, Types.BIGINT, Types.BIGINT);
+            int count = scaled(properties.getProcurementItems());
+            List<Integer> stages = new ArrayList<>(count);
+            List<BigDecimal> prices = new ArrayList<>(count);
+            for (int n = 1; n <= count; n++) {
+                ProcurementItem.TrackingStatus tracking = skewed(ProcurementItem.TrackingStatus.values());
+                boolean completed = tracking == ProcurementItem.TrackingStatus.COMPLETED;
+                BigDecimal quoted = amount(10.0, 1.2);
+                BigDecimal price = completed ? part(quoted) : null;
+                stages.add(1 + random.nextInt(ProcurementEvent.EventType.values().length));
+                prices.add(quoted);
+                items.add(String.format("PR-%d-%05d", startYear, n), completed ? "PO-" + startYear + "-" + n : null,
+                    pick(GOODS) + " procurement " + n, "Synthetic procurement item", pick(VENDORS),
+                    completed ? "C-" + startYear + "-" + n : null, price, completed ? "CAD" : null, price,
+                    quoted, "CAD", quoted, completed, completed ? date() : null, tracking.name(),
+                    pick(ProcurementItem.ProcurementType.values()).name(), fiscalYear.getId(),
+                    random.nextInt(4) == 0 ? null : pick(categoryIds));
+            }
+            rows += items.flush();
+            List<Long> itemIds = itemIds("procurement_items");
+
+            Batch quotes = new Batch(QUOTE_SQL, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC, Types.NUMERIC,
+                Types.NUMERIC, Types.VARCHAR, Types.NUMERIC, Types.NUMERIC, Types.NUMERIC, Types.DATE,
+                Types.DATE, Types.VARCHAR, Types.BOOLEAN, Types.BIGINT, Types.VARCHAR);
+            Batch events = new Batch(PROCUREMENT_EVENT_SQL, Types.BIGINT, Types.VARCHAR, Types.DATE,
+                Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR);
+            ProcurementEvent.EventType[] eventTypes = ProcurementEvent.EventType.values();
+            ProcurementItem.TrackingStatus[] statuses = ProcurementItem.TrackingStatus.values();
+            for (int i = 0; i < itemIds.size(); i++) {
+                Long itemId = itemIds.get(i);
+                int quoteCount = random.nextInt(5);
+                int selected = quoteCount > 0 ? random.nextInt(quoteCount) : -1;
+                for (int q = 0; q < quoteCount; q++) {
+                    BigDecimal amount = part(prices.get(i).multiply(BigDecimal.valueOf(1.3)));
+                    BigDecimal cap = random.nextBoolean() ? part(amount) : BigDecimal.ZERO.setScale(2);
+                    BigDecimal om = amount.subtract(cap);
+                    LocalDate received = date();
+                    ProcurementQuote.Status status = q == selected ? ProcurementQuote.Status.SELECTED
+                        : skewed(ProcurementQuote.Status.values());
+                    quotes.add(pick(VENDORS), "Q-" + itemId + "-" + (q + 1), amount, cap, om, "CAD", null,
+                        cap, om, received, received.plusDays(60), status.name(), q == selected, itemId,
+                        CREATED_BY);
+                }
+                LocalDate eventDate = date();
+                String previous = null;
+                for (int e = 0; e < stages.get(i); e++) {
+                    String next = statuses[Math.min(e, statuses.length - 2)].name();
+                    events.add(itemId, eventTypes[e].name(), eventDate, "Synthetic " + eventTypes[e].name()
+                        .toLowerCase().replace('_', ' '), previous, next, CREATED_BY);
+                    previous = next;
+                    eventDate = eventDate.plusDays(1 + random.nextInt(20));
+                }
+            }
+            rows += quotes.flush() + events.flush();
+            addAttachments(QUOTE_FILE_SQL, "SELECT q.id FROM procurement_quotes q "
+                + "JOIN procurement_items p ON p.id = q.procurement_item_id "
+                + "WHERE p.fiscal_year_id = ? ORDER BY q.id", "quote");
+            return itemIds;
+        }
+
+        private List<Long> addSpending(List<Long> procurementIds) {
+            Batch items = new Batch(SPENDING_SQL, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.NUMERIC, Types.NUMERIC, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC,
+                Types.BIGINT, Types.BIGINT, Types.BIGINT);
+            int count = scaled(properties.getSpendingItems());
+            List<BigDecimal> amounts = new ArrayList<>(count);
+            List<BigDecimal> rates = new ArrayList<>(count);
+            List<Currency> currencies = new ArrayList<>(count);
+            for (int n = 1; n <= count; n++) {
+                BigDecimal amount = amount(8.5, 1.3);
+                Currency currency = random.nextInt(10) == 0 ? pick(FOREIGN) : Currency.CAD;
+                BigDecimal rate = currency == Currency.CAD ? null
+                    : BigDecimal.valueOf(1.2 + random.nextDouble() * 0.6).setScale(6, RoundingMode.HALF_UP);
+                amounts.add(amount);
+                rates.add(rate);
+                currencies.add(currency);
+                Long procurementId = !procurementIds.isEmpty() && random.nextInt(5) == 0
+                    ? pick(procurementIds) : null;
+                items.add(String.format("Spending %05d %s", n, pick(GOODS)), "Synthetic spending item",
+                    pick(VENDORS), "REF-" + startYear + "-" + n, amount,
+                    random.nextInt(3) == 0 ? part(amount) : null, skewed(SpendingItem.Status.values()).name(),
+                    currency.name(), rate, pick(categoryIds), fiscalYear.getId(), procurementId);
+            }
+            rows += items.flush();
+            List<Long> itemIds = itemIds("spending_items");
+
+            Batch allocations = new Batch(SPENDING_ALLOCATION_SQL, Types.BIGINT, Types.BIGINT,
+                Types.NUMERIC, Types.NUMERIC, Types.NUMERIC, Types.NUMERIC);
+            Batch invoices = new Batch(INVOICE_SQL, Types.BIGINT, Types.DATE, Types.DATE, Types.VARCHAR,
+                Types.NUMERIC, Types.VARCHAR, Types.NUMERIC, Types.NUMERIC, Types.VARCHAR);
+            Batch events = new Batch(SPENDING_EVENT_SQL, Types.BIGINT, Types.VARCHAR, Types.DATE,
+                Types.VARCHAR, Types.VARCHAR);
+            SpendingEvent.EventType[] eventTypes = SpendingEvent.EventType.values();
+            for (int i = 0; i < itemIds.size(); i++) {
+                Long itemId = itemIds.get(i);
+                BigDecimal amount = amounts.get(i);
+                BigDecimal rate = rates.get(i);
+                List<Long> monies = someMonies();
+                BigDecimal share = divide(amount, monies.size());
+                for (Long moneyId : monies) {
+                    BigDecimal cap = random.nextInt(4) == 0 ? part(share) : BigDecimal.ZERO.setScale(2);
+                    BigDecimal om = share.subtract(cap);
+                    allocations.add(itemId, moneyId, cap, om, cad(cap, rate), cad(om, rate));
+                }
+                int invoiceCount = random.nextInt(4);
+                BigDecimal invoiced = divide(amount, Math.max(1, invoiceCount));
+                for (int v = 0; v < invoiceCount; v++) {
+                    LocalDate received = date();
+                    invoices.add(itemId, received, random.nextInt(5) == 0 ? null : received.plusDays(random.nextInt(30)),
+                        null, invoiced, currencies.get(i).name(), rate, cad(invoiced, rate), CREATED_BY);
+                }
+                LocalDate eventDate = date();
+                int eventCount = random.nextInt(4);
+                for (int e = 0; e < eventCount; e++) {
+                    events.add(itemId, eventTypes[Math.min(e * 2, eventTypes.length - 1)].name(), eventDate,
+                        null, CREATED_BY);
+                    eventDate = eventDate.plusDays(1 + random.nextInt(15));
+                }
+            }
+            rows += allocations.flush() + invoices.flush() + events.flush();
+            addAttachments(INVOICE_FILE_SQL, "SELECT v.id FROM spending_invoices v "
+                + "JOIN spending_items s ON s.id = v.spending_item_id "
+                + "WHERE s.fiscal_year_id = ? ORDER BY v.id", "invoice");
+            return itemIds;
+        }
+
+        private void addTraining() {
+            Batch items = new Batch(TRAINING_SQL, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DATE, Types.DATE, Types.VARCHAR,
+                Types.BIGINT);
+            int count = scaled(properties.getTrainingItems());
+            for (int n = 1; n <= count; n++) {
+                LocalDate startDate = date();
+                items.add(String.format("Training %05d", n), "Synthetic training item", pick(VENDORS),
+                    skewed(TrainingItem.Status.values()).name(), pick(TrainingItem.TrainingType.values()).name(),
+                    pick(TrainingItem.TrainingFormat.values()).name(), startDate,
+                    startDate.plusDays(random.nextInt(5)), pick(PLACES), fiscalYear.getId());
+            }
+            rows += items.flush();
+
+            Batch participants = new Batch(PARTICIPANT_SQL, Types.BIGINT, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.NUMERIC, Types.NUMERIC);
+            Batch allocations = new Batch(TRAINING_ALLOCATION_SQL, Types.BIGINT, Types.BIGINT, Types.NUMERIC);
+            for (Long itemId : itemIds("training_items")) {
+                int participantCount = 1 + random.nextInt(6);
+                BigDecimal total = BigDecimal.ZERO;
+                for (int p = 0; p < participantCount; p++) {
+                    BigDecimal estimated = amount(7.5, 0.6);
+                    total = total.add(estimated);
+                    participants.add(itemId, pick(PEOPLE), random.nextBoolean() ? "ECO-" + itemId : null,
+                        skewed(TrainingParticipant.ParticipantStatus.values()).name(), estimated,
+                        random.nextBoolean() ? part(estimated) : null);
+                }
+                allocations.add(itemId, pick(moneyIds), total);
+            }
+            rows += participants.flush() + allocations.flush();
+        }
+
+        private void addTravel() {
+            Batch items = new Batch(TRAVEL_SQL, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DATE, Types.DATE, Types.BIGINT);
+            int count = scaled(properties.getTravelItems());
+            for (int n = 1; n <= count; n++) {
+                LocalDate departure = date();
+                items.add(String.format("Travel %05d", n), "Synthetic travel item", "EMAP-" + startYear + "-" + n,
+                    pick(PLACES), "Conference attendance", skewed(TravelItem.Status.values()).name(),
+                    pick(TravelItem.TravelType.values()).name(), departure,
+                    departure.plusDays(1 + random.nextInt(7)), fiscalYear.getId());
+            }
+            rows += items.flush();
+
+            Batch travellers = new Batch(TRAVELLER_SQL, Types.BIGINT, Types.VARCHAR, Types.VARCHAR,
+                Types.NUMERIC, Types.NUMERIC, Types.VARCHAR);
+            Batch allocations = new Batch(TRAVEL_ALLOCATION_SQL, Types.BIGINT, Types.BIGINT, Types.NUMERIC);
+            for (Long itemId : itemIds("travel_items")) {
+                int travellerCount = 1 + random.nextInt(4);
+                BigDecimal total = BigDecimal.ZERO;
+                for (int t = 0; t < travellerCount; t++) {
+                    BigDecimal estimated = amount(7.8, 0.5);
+                    total = total.add(estimated);
+                    travellers.add(itemId, pick(PEOPLE), random.nextBoolean() ? "TAAC-" + itemId : null,
+                        estimated, random.nextBoolean() ? part(estimated) : null,
+                        skewed(TravelTraveller.ApprovalStatus.values()).name());
+                }
+                allocations.add(itemId, pick(moneyIds), total);
+            }
+            rows += travellers.flush() + allocations.flush();
+        }
+
+        private void addAuditEvents(List<Long> spendingIds) {
+            Batch events = new Batch(AUDIT_SQL, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+                Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP);
+            String endpoint = "/responsibility-centres/" + rc.getId() + "/fiscal-years/" + fiscalYear.getId();
+            for (int n = 0; n < scaled(properties.getAuditEvents()); n++) {
+                String[] action = AUDIT_ACTIONS[random.nextInt(AUDIT_ACTIONS.length)];
+                Long entityId = spendingIds.isEmpty() ? null : pick(spendingIds);
+                Timestamp at = Timestamp.valueOf(date().atStartOfDay().plusSeconds(random.nextInt(86_400)));
+                events.add(pick(PEOPLE).toLowerCase().replace(' ', '.'), action[0], action[1], entityId,
+                    action[1].toLowerCase() + " " + entityId, rc.getId(), rc.getName(), fiscalYear.getId(),
+                    fiscalYear.getName(), action[2], endpoint, random.nextInt(50) == 0 ? "FAILURE" : "SUCCESS",
+                    at);
+            }
+            rows += events.flush();
+        }
+
+        /**
+         * Attach a dummy PDF-like file to a share of the parents returned by
+         * the query.
+         */
+        private void addAttachments(String sql, String parentsSql, String label) {
+            Batch files = new Batch(sql, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+                Types.VARBINARY, Types.VARCHAR);
+            byte[] content = new byte[properties.getAttachmentBytes()];
+            for (Long parentId : ids(parentsSql)) {
+                if (random.nextDouble() < properties.getAttachmentRatio()) {
+                    random.nextBytes(content);
+                    files.add(parentId, label + "-" + parentId + ".pdf", "application/pdf",
+                        (long) content.length, content.clone(), "Synthetic attachment");
+                }
+            }
+            rows += files.flush();
+        }
+
+        private List<Long> itemIds(String table) {
+            return ids("SELECT id FROM " + table + " WHERE fiscal_year_id = ? ORDER BY id");
+        }
+
+        private List<Long> ids(String sql) {
+            return jdbcTemplate.queryForList(sql, Long.class, fiscalYear.getId());
+        }
+
+        private int scaled(int count) {
+            return (int) Math.round(count * size);
+        }
+
+        /** One to three distinct monies. */
+        private List<Long> someMonies() {
+            List<Long> monies = new ArrayList<>(moneyIds);
+            Collections.shuffle(monies, random);
+            return monies.subList(0, 1 + random.nextInt(Math.min(3, monies.size())));
+        }
+
+        private LocalDate date() {
+            return start.plusDays(random.nextInt(365));
+        }
+
+        /** Log-normal amount with median e^mu. */
+        private BigDecimal amount(double mu, double sigma) {
+            return BigDecimal.valueOf(Math.exp(mu + sigma * random.nextGaussian())).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        /** A random part, 50-100%, of an amount. */
+        private BigDecimal part(BigDecimal amount) {
+            return amount.multiply(BigDecimal.valueOf(0.5 + random.nextDouble() / 2)).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        private <T> T pick(T[] values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        private <T> T pick(List<T> values) {
+            return values.get(random.nextInt(values.size()));
+        }
+
+        /** Pick with the first values most likely, like item statuses in a live fiscal year. */
+        private <T> T skewed(T[] values) {
+            return values[(int) (values.length * Math.pow(random.nextDouble(), 2))];
+        }
+    }
+
+    private static BigDecimal divide(BigDecimal amount, int parts) {
+        return amount.divide(BigDecimal.valueOf(parts), 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal cad(BigDecimal amount, BigDecimal rate) {
+        return rate == null ? amount : amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+    }
+}
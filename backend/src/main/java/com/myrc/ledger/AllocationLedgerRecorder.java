@@ -0,0 +1,257 @@
+/*
+ * myRC - Allocation Ledger Recorder
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.ledger;
+
+import com.myrc.cache.SecondLevelCacheInvalidator;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.AllocationLedgerEntry.Reason;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FundingItem;
+import com.myrc.model.Money;
+import com.myrc.model.MoneyAllocation;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.SpendingMoneyAllocation;
+import com.myrc.model.TrainingItem;
+import com.myrc.model.TrainingMoneyAllocation;
+import com.myrc.model.TravelItem;
+import com.myrc.model.TravelMoneyAllocation;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the allocation ledger and running totals in step with the money
+ * allocations of funding, spending, training and travel items.
+ *
+ * <p>Every path that changes allocations (the item services'
+ * {@code updateMoneyAllocations}, item deletes, activation toggles,
+ * fiscal year copies) goes through Hibernate, so the affected items are
+ * collected here per session while it flushes and written by a
+ * before-completion process, after the final flush and inside the same
+ * transaction, by {@link AllocationLedgerWriter}. The ledger and totals
+ * therefore commit or roll back with the allocations themselves.</p>
+ *
+ * <p>Inserting an item without allocations changes no total, so only
+ * allocation events and item updates that touch {@code active} or
+ * {@code category} are collected.</p>
+ *
+ * <p>JPQL and JDBC bulk statements bypass entity events. Those that delete
+ * whole fiscal years, RCs or monies need no entries, since the ledger rows
+ * are removed with them by cascade; set-based updates of live allocations
+ * (such as CAD revaluation) report their items through
+ * {@link #recordBulkUpdate}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class AllocationLedgerRecorder
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  private static final Logger log = LoggerFactory.getLogger(AllocationLedgerRecorder.class);
+
+  /** Item properties that move an item's allocations between totals. */
+  static final Set<String> TOTAL_PROPERTIES = Set.of("active", "category");
+
+  private final transient EntityManagerFactory entityManagerFactory;
+  private final transient AllocationLedgerWriter writer;
+  private final transient ObjectProvider<SecondLevelCacheInvalidator> secondLevelCache;
+
+  /** Pending items per open session; weak so abandoned sessions are not retained. */
+  private final transient Map<EventSource, PendingAllocations> pending =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  public AllocationLedgerRecorder(EntityManagerFactory entityManagerFactory,
+      AllocationLedgerWriter writer, ObjectProvider<SecondLevelCacheInvalidator> secondLevelCache) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.writer = writer;
+    this.secondLevelCache = secondLevelCache;
+  }
+
+  /**
+   * Register with Hibernate's event system.
+   */
+  @PostConstruct
+  public void register() {
+    SessionFactoryImplementor sessionFactory =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    EventListenerRegistry registry =
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_INSERT, this);
+    registry.appendListeners(EventType.POST_UPDATE, this);
+    registry.appendListeners(EventType.POST_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    recordAllocation(event.getSession(), event.getEntity());
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    Object entity = event.getEntity();
+    if (isItem(entity)) {
+      if (touchesTotals(event)) {
+        recordItem(event.getSession(), entity);
+      }
+      return;
+    }
+    recordAllocation(event.getSession(), entity);
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    Object entity = event.getEntity();
+    if (entity instanceof FiscalYear fiscalYear) {
+      pendingFor(event.getSession()).purge(fiscalYear.getId());
+      return;
+    }
+    if (entity instanceof Money money) {
+      pendingFor(event.getSession()).deleteMoney(money.getId());
+      return;
+    }
+    if (isItem(entity)) {
+      recordItem(event.getSession(), entity);
+      return;
+    }
+    recordAllocation(event.getSession(), entity);
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  /**
+   * Record items whose allocations were changed by a bulk statement in the
+   * current transaction. Their ledger entries are written with the
+   * transaction's other changes before it commits.
+   *
+   * @param entityManager the transaction's entity manager
+   * @param kind the item type
+   * @param itemIds the changed items
+   * @param reason why the allocations changed
+   */
+  public void recordBulkUpdate(EntityManager entityManager, AllocationKind kind,
+      Collection<Long> itemIds, Reason reason) {
+    if (itemIds.isEmpty()) {
+      return;
+    }
+    PendingAllocations allocations = pendingFor(entityManager.unwrap(EventSource.class));
+    itemIds.forEach(itemId -> allocations.add(kind, itemId, reason));
+  }
+
+  /**
+   * Rebuild a fiscal year's totals from its ledger when the current
+   * transaction commits, after any items recorded in it are written. The
+   * rebuild replaces the rows with plain SQL, so the table is reported to
+   * the second-level cache.
+   *
+   * @param entityManager the transaction's entity manager
+   * @param fiscalYearId the fiscal year
+   */
+  public void rebuildTotals(EntityManager entityManager, Long fiscalYearId) {
+    pendingFor(entityManager.unwrap(EventSource.class)).rebuild(fiscalYearId);
+    secondLevelCache.ifAvailable(cache -> cache.evictTables(AllocationLedgerWriter.TOTALS_TABLE));
+  }
+
+  private static boolean isItem(Object entity) {
+    return entity instanceof FundingItem || entity instanceof SpendingItem
+        || entity instanceof TrainingItem || entity instanceof TravelItem;
+  }
+
+  /**
+   * Whether an item update changed a property that decides which totals
+   * its allocations count towards. Without dirty-tracking information (e.g.
+   * a merged detached item) the item is assumed to have changed.
+   */
+  private static boolean touchesTotals(PostUpdateEvent event) {
+    int[] dirty = event.getDirtyProperties();
+    if (dirty == null) {
+      return true;
+    }
+    String[] names = event.getPersister().getPropertyNames();
+    for (int index : dirty) {
+      if (TOTAL_PROPERTIES.contains(names[index])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void recordItem(EventSource session, Object item) {
+    if (item instanceof FundingItem funding) {
+      pendingFor(session).add(AllocationKind.FUNDING, funding.getId(), Reason.ALLOCATION);
+    } else if (item instanceof SpendingItem spending) {
+      pendingFor(session).add(AllocationKind.SPENDING, spending.getId(), Reason.ALLOCATION);
+    } else if (item instanceof TrainingItem training) {
+      pendingFor(session).add(AllocationKind.TRAINING, training.getId(), Reason.ALLOCATION);
+    } else if (item instanceof TravelItem travel) {
+      pendingFor(session).add(AllocationKind.TRAVEL, travel.getId(), Reason.ALLOCATION);
+    }
+  }
+
+  private void recordAllocation(EventSource session, Object entity) {
+    Object item = null;
+    if (entity instanceof MoneyAllocation allocation) {
+      item = allocation.getFundingItem();
+    } else if (entity instanceof SpendingMoneyAllocation allocation) {
+      item = allocation.getSpendingItem();
+    } else if (entity instanceof TrainingMoneyAllocation allocation) {
+      item = allocation.getTrainingItem();
+    } else if (entity instanceof TravelMoneyAllocation allocation) {
+      item = allocation.getTravelItem();
+    }
+    if (item != null) {
+      recordItem(session, item);
+    }
+  }
+
+  private PendingAllocations pendingFor(EventSource session) {
+    PendingAllocations allocations = pending.get(session);
+    if (allocations == null) {
+      PendingAllocations created = new PendingAllocations();
+      pending.put(session, created);
+      session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s -> {
+        pending.remove(session);
+        if (!created.isEmpty()) {
+          s.doWork(connection -> {
+            int entries = writer.write(connection, created);
+            log.debug("Appended {} allocation ledger entries for {} items",
+                entries, created.getItems().size());
+          });
+        }
+      });
+      session.getActionQueue().registerProcess(
+          (AfterTransactionCompletionProcess) (success, s) -> pending.remove(session));
+      allocations = created;
+    }
+    return allocations;
+  }
+}
@@ -0,0 +1,365 @@
+/*
+ * myRC - Allocation Ledger Writer
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.ledger;
+
+import com.myrc.ledger.PendingAllocations.Item;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.AllocationLedgerEntry.Reason;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brings the allocation ledger and running totals in line with the current
+ * allocations of a transaction's changed items.
+ *
+ * <p>For each item, in ascending (kind, ID) order, the item row is locked
+ * and its current contribution (its allocations, if it is active, under its
+ * current fiscal year and category) is compared with the sum of its ledger
+ * rows. The differences are appended to {@code allocation_ledger} and added
+ * to {@code allocation_totals}. The item lock serializes writers of the same
+ * item, so the ledger sum read is never stale; totals rows are then updated
+ * in one global key order so concurrent writers cannot deadlock on them.</p>
+ *
+ * <p>Runs on the JDBC connection of the writing transaction, from Hibernate's
+ * before-completion phase.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class AllocationLedgerWriter {
+
+  static final String PREVIOUS_SQL =
+      "SELECT fiscal_year_id, money_id, category_id, SUM(cap_delta), SUM(om_delta) "
+          + "FROM allocation_ledger WHERE kind = ? AND item_id = ? "
+          + "GROUP BY fiscal_year_id, money_id, category_id";
+  static final String INSERT_ENTRY_SQL =
+      "INSERT INTO allocation_ledger (fiscal_year_id, kind, item_id, money_id, category_id, "
+          + "cap_delta, om_delta, reason, recorded_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  static final String ADD_TOTAL_SQL =
+      "UPDATE allocation_totals SET cap_total = cap_total + ?, om_total = om_total + ?, "
+          + "updated_at = ? WHERE fiscal_year_id = ? AND kind = ? AND money_id = ? "
+          + "AND category_id = ?";
+  static final String CREATE_TOTAL_SQL =
+      "INSERT INTO allocation_totals (fiscal_year_id, kind, money_id, category_id, cap_total, "
+          + "om_total, updated_at) VALUES (?, ?, ?, ?, 0, 0, ?)";
+  /** Table of the running totals, replaced wholesale by a rebuild. */
+  public static final String TOTALS_TABLE = "allocation_totals";
+  /** SQLSTATE of a unique violation, in PostgreSQL and H2 alike. */
+  static final String UNIQUE_VIOLATION = "23505";
+  static final String DELETE_TOTALS_SQL = "DELETE FROM allocation_totals WHERE fiscal_year_id = ?";
+  static final String REBUILD_TOTALS_SQL =
+      "INSERT INTO allocation_totals (fiscal_year_id, kind, money_id, category_id, cap_total, "
+          + "om_total, updated_at) SELECT fiscal_year_id, kind, money_id, category_id, "
+          + "SUM(cap_delta), SUM(om_delta), ? FROM allocation_ledger WHERE fiscal_year_id = ? "
+          + "GROUP BY fiscal_year_id, kind, money_id, category_id";
+
+  /**
+   * Opening entries of a fiscal year's active items, per kind, with the same
+   * rules as {@link #allocationsSql}; parameters are the recorded time and
+   * the fiscal year.
+   */
+  static String openingSql(AllocationKind kind) {
+    String insert = "INSERT INTO allocation_ledger (fiscal_year_id, kind, item_id, money_id, "
+        + "category_id, cap_delta, om_delta, reason, recorded_at) ";
+    String opening = "'" + Reason.OPENING.name() + "', ?";
+    return insert + switch (kind) {
+      case FUNDING -> "SELECT i.fiscal_year_id, 'FUNDING', i.id, a.money_id, "
+          + "COALESCE(i.category_id, 0), a.cap_amount, a.om_amount, " + opening
+          + " FROM money_allocations a JOIN funding_items i ON i.id = a.funding_item_id "
+          + "WHERE i.fiscal_year_id = ? AND i.active = TRUE "
+          + "AND (a.cap_amount <> 0 OR a.om_amount <> 0)";
+      case SPENDING -> "SELECT i.fiscal_year_id, 'SPENDING', i.id, a.money_id, i.category_id, "
+          + "COALESCE(a.cap_amount_cad, a.cap_amount), COALESCE(a.om_amount_cad, a.om_amount), "
+          + opening + " FROM spending_money_allocations a "
+          + "JOIN spending_items i ON i.id = a.spending_item_id "
+          + "WHERE i.fiscal_year_id = ? AND i.active = TRUE "
+          + "AND (COALESCE(a.cap_amount_cad, a.cap_amount) <> 0 "
+          + "OR COALESCE(a.om_amount_cad, a.om_amount) <> 0)";
+      case TRAINING -> "SELECT i.fiscal_year_id, 'TRAINING', i.id, a.money_id, 0, 0, a.om_amount, "
+          + opening + " FROM training_money_allocations a "
+          + "JOIN training_items i ON i.id = a.training_item_id "
+          + "WHERE i.fiscal_year_id = ? AND i.active = TRUE AND a.om_amount <> 0";
+      case TRAVEL -> "SELECT i.fiscal_year_id, 'TRAVEL', i.id, a.money_id, 0, 0, a.om_amount, "
+          + opening + " FROM travel_money_allocations a "
+          + "JOIN travel_items i ON i.id = a.travel_item_id "
+          + "WHERE i.fiscal_year_id = ? AND i.active = TRUE AND a.om_amount <> 0";
+    };
+  }
+
+  /**
+   * Ledger and totals key below the item level.
+   *
+   * @param fiscalYearId the fiscal year
+   * @param kind the item type
+   * @param moneyId the money
+   * @param categoryId the category, 0 for none
+   */
+  record Key(Long fiscalYearId, AllocationKind kind, Long moneyId, Long categoryId)
+      implements Comparable<Key> {
+
+    @Override
+    public int compareTo(Key other) {
+      int result = fiscalYearId.compareTo(other.fiscalYearId);
+      if (result == 0) {
+        result = kind.compareTo(other.kind);
+      }
+      if (result == 0) {
+        result = moneyId.compareTo(other.moneyId);
+      }
+      return result != 0 ? result : categoryId.compareTo(other.categoryId);
+    }
+  }
+
+  /**
+   * CAP and O&amp;M amounts.
+   *
+   * @param cap the CAP amount
+   * @param om the O&amp;M amount
+   */
+  record Amounts(BigDecimal cap, BigDecimal om) {
+
+    Amounts plus(Amounts other) {
+      return new Amounts(cap.add(other.cap), om.add(other.om));
+    }
+
+    Amounts negate() {
+      return new Amounts(cap.negate(), om.negate());
+    }
+
+    boolean isZero() {
+      return cap.signum() == 0 && om.signum() == 0;
+    }
+  }
+
+  /**
+   * Item row of a kind, locked, as [fiscal_year_id, category_id, active].
+   */
+  static String itemSql(AllocationKind kind) {
+    return switch (kind) {
+      case FUNDING ->
+          "SELECT fiscal_year_id, category_id, active FROM funding_items WHERE id = ? FOR UPDATE";
+      case SPENDING ->
+          "SELECT fiscal_year_id, category_id, active FROM spending_items WHERE id = ? FOR UPDATE";
+      case TRAINING -> "SELECT fiscal_year_id, CAST(NULL AS BIGINT), active FROM training_items "
+          + "WHERE id = ? FOR UPDATE";
+      case TRAVEL -> "SELECT fiscal_year_id, CAST(NULL AS BIGINT), active FROM travel_items "
+          + "WHERE id = ? FOR UPDATE";
+    };
+  }
+
+  /**
+   * Allocations of an item of a kind, as [money_id, cap, om]. Spending
+   * amounts are in CAD where the converted amount is stored.
+   */
+  static String allocationsSql(AllocationKind kind) {
+    return switch (kind) {
+      case FUNDING -> "SELECT money_id, cap_amount, om_amount FROM money_allocations "
+          + "WHERE funding_item_id = ?";
+      case SPENDING -> "SELECT money_id, COALESCE(cap_amount_cad, cap_amount), "
+          + "COALESCE(om_amount_cad, om_amount) FROM spending_money_allocations "
+          + "WHERE spending_item_id = ?";
+      case TRAINING -> "SELECT money_id, 0, om_amount FROM training_money_allocations "
+          + "WHERE training_item_id = ?";
+      case TRAVEL -> "SELECT money_id, 0, om_amount FROM travel_money_allocations "
+          + "WHERE travel_item_id = ?";
+    };
+  }
+
+  /**
+   * Write the ledger entries and totals for the collected items.
+   *
+   * @param connection the transaction's connection
+   * @param pending the collected items
+   * @return number of ledger entries appended
+   * @throws SQLException on database errors, which roll the transaction back
+   */
+  public int write(Connection connection, PendingAllocations pending) throws SQLException {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    Map<Key, Amounts> totals = new TreeMap<>();
+    int entries = 0;
+    try (PreparedStatement insert = connection.prepareStatement(INSERT_ENTRY_SQL)) {
+      for (Map.Entry<Item, Reason> item : pending.getItems().entrySet()) {
+        Map<Key, Amounts> deltas = deltas(connection, item.getKey());
+        for (Map.Entry<Key, Amounts> delta : deltas.entrySet()) {
+          Key key = delta.getKey();
+          Amounts amounts = delta.getValue();
+          if (amounts.isZero() || pending.getPurgedFiscalYears().contains(key.fiscalYearId())
+              || pending.getDeletedMonies().contains(key.moneyId())) {
+            continue;
+          }
+          insert.setLong(1, key.fiscalYearId());
+          insert.setString(2, key.kind().name());
+          insert.setLong(3, item.getKey().itemId());
+          insert.setLong(4, key.moneyId());
+          insert.setLong(5, key.categoryId());
+          insert.setBigDecimal(6, amounts.cap());
+          insert.setBigDecimal(7, amounts.om());
+          insert.setString(8, item.getValue().name());
+          insert.setTimestamp(9, now);
+          insert.addBatch();
+          totals.merge(key, amounts, Amounts::plus);
+          entries++;
+        }
+      }
+      if (entries > 0) {
+        insert.executeBatch();
+      }
+    }
+    for (Map.Entry<Key, Amounts> total : totals.entrySet()) {
+      if (!pending.getRebuiltFiscalYears().contains(total.getKey().fiscalYearId())) {
+        addTotal(connection, total.getKey(), total.getValue(), now);
+      }
+    }
+    for (Long fiscalYearId : pending.getRebuiltFiscalYears()) {
+      if (!pending.getPurgedFiscalYears().contains(fiscalYearId)) {
+        rebuildTotals(connection, fiscalYearId, now);
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * Post opening entries for every allocation of a fiscal year and build its
+   * totals, with one set-based statement per kind instead of per-item
+   * differences. Only for fiscal years whose allocations were loaded in
+   * bulk, bypassing entity events, and that have no ledger rows yet, as in
+   * migration V14.
+   *
+   * @param connection the transaction's connection
+   * @param fiscalYearId the fiscal year
+   * @return number of ledger entries appended
+   * @throws SQLException on database errors, which roll the transaction back
+   */
+  public int open(Connection connection, Long fiscalYearId) throws SQLException {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    int entries = 0;
+    for (AllocationKind kind : AllocationKind.values()) {
+      try (PreparedStatement opening = connection.prepareStatement(openingSql(kind))) {
+        opening.setTimestamp(1, now);
+        opening.setLong(2, fiscalYearId);
+        entries += opening.executeUpdate();
+      }
+    }
+    rebuildTotals(connection, fiscalYearId, now);
+    return entries;
+  }
+
+  /**
+   * Lock an item and compute what its ledger lacks: its current
+   * contribution minus the sum of its ledger rows, per key.
+   */
+  Map<Key, Amounts> deltas(Connection connection, Item item) throws SQLException {
+    Map<Key, Amounts> deltas = new LinkedHashMap<>();
+    AllocationKind kind = item.kind();
+    try (PreparedStatement query = connection.prepareStatement(itemSql(kind))) {
+      query.setLong(1, item.itemId());
+      try (ResultSet rs = query.executeQuery()) {
+        // A deleted or inactive item contributes nothing
+        if (rs.next() && rs.getBoolean(3)) {
+          long fiscalYearId = rs.getLong(1);
+          long categoryId = rs.getLong(2);
+          try (PreparedStatement allocations = connection.prepareStatement(allocationsSql(kind))) {
+            allocations.setLong(1, item.itemId());
+            try (ResultSet allocation = allocations.executeQuery()) {
+              while (allocation.next()) {
+                deltas.merge(new Key(fiscalYearId, kind, allocation.getLong(1), categoryId),
+                    amounts(allocation.getBigDecimal(2), allocation.getBigDecimal(3)),
+                    Amounts::plus);
+              }
+            }
+          }
+        }
+      }
+    }
+    try (PreparedStatement query = connection.prepareStatement(PREVIOUS_SQL)) {
+      query.setString(1, kind.name());
+      query.setLong(2, item.itemId());
+      try (ResultSet rs = query.executeQuery()) {
+        while (rs.next()) {
+          deltas.merge(new Key(rs.getLong(1), kind, rs.getLong(2), rs.getLong(3)),
+              amounts(rs.getBigDecimal(4), rs.getBigDecimal(5)).negate(), Amounts::plus);
+        }
+      }
+    }
+    return deltas;
+  }
+
+  private void addTotal(Connection connection, Key key, Amounts amounts, Timestamp now)
+      throws SQLException {
+    if (add(connection, key, amounts, now) == 0) {
+      createTotal(connection, key, now);
+      add(connection, key, amounts, now);
+    }
+  }
+
+  /**
+   * Insert a zero totals row. Two writers may both find the row missing;
+   * the second insert waits for the first and then fails with a unique
+   * violation on {@code uk_allocation_totals_key}, which is rolled back to
+   * a savepoint so the transaction survives and adds to the committed row.
+   */
+  private void createTotal(Connection connection, Key key, Timestamp now) throws SQLException {
+    Savepoint savepoint = connection.setSavepoint();
+    try (PreparedStatement create = connection.prepareStatement(CREATE_TOTAL_SQL)) {
+      create.setLong(1, key.fiscalYearId());
+      create.setString(2, key.kind().name());
+      create.setLong(3, key.moneyId());
+      create.setLong(4, key.categoryId());
+      create.setTimestamp(5, now);
+      create.executeUpdate();
+    } catch (SQLException e) {
+      if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+        throw e;
+      }
+      connection.rollback(savepoint);
+      return;
+    }
+    connection.releaseSavepoint(savepoint);
+  }
+
+  private int add(Connection connection, Key key, Amounts amounts, Timestamp now)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(ADD_TOTAL_SQL)) {
+      statement.setBigDecimal(1, amounts.cap());
+      statement.setBigDecimal(2, amounts.om());
+      statement.setTimestamp(3, now);
+      statement.setLong(4, key.fiscalYearId());
+      statement.setString(5, key.kind().name());
+      statement.setLong(6, key.moneyId());
+      statement.setLong(7, key.categoryId());
+      return statement.executeUpdate();
+    }
+  }
+
+  private void rebuildTotals(Connection connection, Long fiscalYearId, Timestamp now)
+      throws SQLException {
+    try (PreparedStatement delete = connection.prepareStatement(DELETE_TOTALS_SQL)) {
+      delete.setLong(1, fiscalYearId);
+      delete.executeUpdate();
+    }
+    try (PreparedStatement rebuild = connection.prepareStatement(REBUILD_TOTALS_SQL)) {
+      rebuild.setTimestamp(1, now);
+      rebuild.setLong(2, fiscalYearId);
+      rebuild.executeUpdate();
+    }
+  }
+
+  private static Amounts amounts(BigDecimal cap, BigDecimal om) {
+    return new Amounts(cap != null ? cap : BigDecimal.ZERO, om != null ? om : BigDecimal.ZERO);
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * myRC - Allocation Reconciliation Job
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.ledger;
+
+import com.myrc.config.LedgerProperties;
+import com.myrc.ledger.AllocationLedgerWriter.Amounts;
+import com.myrc.ledger.AllocationLedgerWriter.Key;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.AllocationLedgerEntry.Reason;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checks the running allocation totals against sums over the allocation
+ * tables.
+ *
+ * <p>The totals are only ever changed by {@link AllocationLedgerWriter}, so
+ * a difference means an allocation was changed by a path that bypasses
+ * entity events without reporting it (a manual fix in the database, a new
+ * bulk statement). With repair enabled, every item of an affected fiscal
+ * year is re-posted to the ledger with reason
+ * {@link Reason#RECONCILIATION} and the fiscal year's totals are rebuilt
+ * from the ledger when the transaction commits.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class AllocationReconciliationJob {
+
+  private static final Logger logger = LoggerFactory.getLogger(AllocationReconciliationJob.class);
+
+  /**
+   * Outcome of reconciling one fiscal year.
+   *
+   * @param fiscalYearId the fiscal year
+   * @param mismatches totals rows that differ from the allocation tables
+   * @param repaired whether a repair was scheduled for commit
+   */
+  public record Result(Long fiscalYearId, int mismatches, boolean repaired) {
+  }
+
+  static final String FISCAL_YEARS_SQL = "SELECT id FROM fiscal_years ORDER BY id";
+
+  static final String TOTALS_SQL =
+      "SELECT kind, money_id, category_id, cap_total, om_total FROM allocation_totals "
+          + "WHERE fiscal_year_id = :fiscalYearId";
+
+  /**
+   * Sums over the allocation table of a kind, as [money_id, category_id,
+   * cap, om], with the same rules as {@link AllocationLedgerWriter}: active
+   * items only, category 0 for none, spending in CAD where stored.
+   */
+  static String expectedSql(AllocationKind kind) {
+    return switch (kind) {
+      case FUNDING -> "SELECT a.money_id, COALESCE(i.category_id, 0), SUM(a.cap_amount), "
+          + "SUM(a.om_amount) FROM money_allocations a "
+          + "JOIN funding_items i ON i.id = a.funding_item_id "
+          + "WHERE i.fiscal_year_id = :fiscalYearId AND i.active = TRUE "
+          + "GROUP BY a.money_id, COALESCE(i.category_id, 0)";
+      case SPENDING -> "SELECT a.money_id, i.category_id, "
+          + "SUM(COALESCE(a.cap_amount_cad, a.cap_amount)), "
+          + "SUM(COALESCE(a.om_amount_cad, a.om_amount)) FROM spending_money_allocations a "
+          + "JOIN spending_items i ON i.id = a.spending_item_id "
+          + "WHERE i.fiscal_year_id = :fiscalYearId AND i.active = TRUE "
+          + "GROUP BY a.money_id, i.category_id";
+      case TRAINING -> "SELECT a.money_id, 0, 0, SUM(a.om_amount) "
+          + "FROM training_money_allocations a JOIN training_items i ON i.id = a.training_item_id "
+          + "WHERE i.fiscal_year_id = :fiscalYearId AND i.active = TRUE GROUP BY a.money_id";
+      case TRAVEL -> "SELECT a.money_id, 0, 0, SUM(a.om_amount) "
+          + "FROM travel_money_allocations a JOIN travel_items i ON i.id = a.travel_item_id "
+          + "WHERE i.fiscal_year_id = :fiscalYearId AND i.active = TRUE GROUP BY a.money_id";
+    };
+  }
+
+  /**
+   * Items of a kind that the ledger may have to correct: the fiscal year's
+   * current items and any deleted ones still holding a ledger balance.
+   */
+  static String itemsSql(AllocationKind kind) {
+    String items = switch (kind) {
+      case FUNDING -> "funding_items";
+      case SPENDING -> "spending_items";
+      case TRAINING -> "training_items";
+      case TRAVEL -> "travel_items";
+    };
+    return "SELECT id FROM " + items + " WHERE fiscal_year_id = :fiscalYearId UNION "
+        + "SELECT item_id FROM allocation_ledger WHERE fiscal_year_id = :fiscalYearId "
+        + "AND kind = :kind";
+  }
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final AllocationLedgerRecorder recorder;
+  private final LedgerProperties properties;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  public AllocationReconciliationJob(NamedParameterJdbcTemplate jdbcTemplate,
+      AllocationLedgerRecorder recorder, LedgerProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.recorder = recorder;
+    this.properties = properties;
+  }
+
+  /**
+   * Reconcile every fiscal year, in one transaction.
+   *
+   * @return the outcome per fiscal year
+   */
+  @Scheduled(cron = "${app.ledger.reconcile-cron:0 45 2 * * *}")
+  @Transactional
+  public List<Result> reconcileAll() {
+    List<Result> results = new ArrayList<>();
+    int mismatched = 0;
+    for (Long fiscalYearId : jdbcTemplate.queryForList(FISCAL_YEARS_SQL,
+        new MapSqlParameterSource(), Long.class)) {
+      Result result = reconcile(fiscalYearId, properties.isRepair());
+      if (result.mismatches() > 0) {
+        mismatched++;
+      }
+      results.add(result);
+    }
+    logger.info("Reconciled allocation totals of {} fiscal years, {} with differences",
+        results.size(), mismatched);
+    return results;
+  }
+
+  /**
+   * Reconcile one fiscal year.
+   *
+   * @param fiscalYearId the fiscal year
+   * @return the outcome
+   */
+  @Transactional
+  public Result reconcile(Long fiscalYearId) {
+    return reconcile(fiscalYearId, properties.isRepair());
+  }
+
+  private Result reconcile(Long fiscalYearId, boolean repair) {
+    // Pending entity changes must reach the rows before they are compared
+    entityManager.flush();
+    MapSqlParameterSource params = new MapSqlParameterSource("fiscalYearId", fiscalYearId);
+
+    Map<Key, Amounts> expected = new HashMap<>();
+    for (AllocationKind kind : AllocationKind.values()) {
+      jdbcTemplate.query(expectedSql(kind), params, rs -> {
+        expected.put(new Key(fiscalYearId, kind, rs.getLong(1), rs.getLong(2)),
+            amounts(rs.getBigDecimal(3), rs.getBigDecimal(4)));
+      });
+    }
+    Map<Key, Amounts> actual = new HashMap<>();
+    jdbcTemplate.query(TOTALS_SQL, params, rs -> {
+      actual.put(new Key(fiscalYearId, AllocationKind.valueOf(rs.getString(1)), rs.getLong(2),
+          rs.getLong(3)), amounts(rs.getBigDecimal(4), rs.getBigDecimal(5)));
+    });
+
+    Set<Key> keys = new TreeSet<>(expected.keySet());
+    keys.addAll(actual.keySet());
+    int mismatches = 0;
+    for (Key key : keys) {
+      Amounts want = expected.getOrDefault(key, amounts(null, null));
+      Amounts have = actual.getOrDefault(key, amounts(null, null));
+      if (!want.plus(have.negate()).isZero()) {
+        mismatches++;
+        logger.warn("Allocation total of fiscal year {} {} money {} category {} is {}/{} "
+                + "but allocations sum to {}/{}", fiscalYearId, key.kind(), key.moneyId(),
+            key.categoryId(), have.cap(), have.om(), want.cap(), want.om());
+      }
+    }
+    if (mismatches == 0 || !repair) {
+      return new Result(fiscalYearId, mismatches, false);
+    }
+
+    for (AllocationKind kind : AllocationKind.values()) {
+      Set<Long> items = new HashSet<>(jdbcTemplate.queryForList(itemsSql(kind),
+          new MapSqlParameterSource(params.getValues()).addValue("kind", kind.name()), Long.class));
+      recorder.recordBulkUpdate(entityManager, kind, items, Reason.RECONCILIATION);
+    }
+    recorder.rebuildTotals(entityManager, fiscalYearId);
+    logger.warn("Re-posting the allocations of fiscal year {} after {} differing totals",
+        fiscalYearId, mismatches);
+    return new Result(fiscalYearId, mismatches, true);
+  }
+
+  private static Amounts amounts(BigDecimal cap, BigDecimal om) {
+    return new Amounts(cap != null ? cap : BigDecimal.ZERO, om != null ? om : BigDecimal.ZERO);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * myRC - Pending Allocations
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.ledger;
+
+import com.myrc.model.AllocationKind;
+import com.myrc.model.AllocationLedgerEntry.Reason;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Items whose allocations one transaction may have changed, collected for
+ * {@link AllocationLedgerWriter}.
+ *
+ * <p>Only the item is recorded, not the change: the writer compares the
+ * item's allocations at commit time with what the ledger holds for it, so
+ * any number of edits to an item collapse to one comparison. Fiscal years
+ * and monies deleted in the same transaction are tracked so their rows,
+ * removed by cascade, are not written again.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class PendingAllocations {
+
+  /**
+   * An item to compare with the ledger.
+   *
+   * @param kind the item type
+   * @param itemId the item
+   */
+  public record Item(AllocationKind kind, Long itemId) implements Comparable<Item> {
+
+    @Override
+    public int compareTo(Item other) {
+      int byKind = kind.compareTo(other.kind);
+      return byKind != 0 ? byKind : itemId.compareTo(other.itemId);
+    }
+  }
+
+  private final Map<Item, Reason> items = new TreeMap<>();
+  private final Set<Long> purgedFiscalYears = new LinkedHashSet<>();
+  private final Set<Long> deletedMonies = new LinkedHashSet<>();
+  private final Set<Long> rebuiltFiscalYears = new LinkedHashSet<>();
+
+  /**
+   * Add an item. A more specific reason than {@link Reason#ALLOCATION}
+   * is kept.
+   *
+   * @param kind the item type
+   * @param itemId the item
+   * @param reason why it is compared
+   */
+  public void add(AllocationKind kind, Long itemId, Reason reason) {
+    if (itemId != null) {
+      items.merge(new Item(kind, itemId), reason,
+          (previous, next) -> next == Reason.ALLOCATION ? previous : next);
+    }
+  }
+
+  /**
+   * Record that a fiscal year was deleted.
+   *
+   * @param fiscalYearId the deleted fiscal year
+   */
+  public void purge(Long fiscalYearId) {
+    if (fiscalYearId != null) {
+      purgedFiscalYears.add(fiscalYearId);
+    }
+  }
+
+  /**
+   * Record that a money was deleted.
+   *
+   * @param moneyId the deleted money
+   */
+  public void deleteMoney(Long moneyId) {
+    if (moneyId != null) {
+      deletedMonies.add(moneyId);
+    }
+  }
+
+  /**
+   * Request that a fiscal year's totals be rebuilt from its ledger once
+   * the items have been written.
+   *
+   * @param fiscalYearId the fiscal year
+   */
+  public void rebuild(Long fiscalYearId) {
+    if (fiscalYearId != null) {
+      rebuiltFiscalYears.add(fiscalYearId);
+    }
+  }
+
+  public boolean isEmpty() {
+    return items.isEmpty() && rebuiltFiscalYears.isEmpty();
+  }
+
+  /**
+   * Items in ascending (kind, ID) order, so concurrent transactions lock
+   * the item rows in the same order.
+   *
+   * @return item to reason
+   */
+  public Map<Item, Reason> getItems() {
+    return items;
+  }
+
+  public Set<Long> getPurgedFiscalYears() {
+    return purgedFiscalYears;
+  }
+
+  public Set<Long> getDeletedMonies() {
+    return deletedMonies;
+  }
+
+  public Set<Long> getRebuiltFiscalYears() {
+    return rebuiltFiscalYears;
+  }
+}
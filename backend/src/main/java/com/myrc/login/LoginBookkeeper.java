@@ -0,0 +1,189 @@
+/*
+ * myRC - Login Bookkeeper
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.login;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects login outcomes in memory and writes them to {@code users} in
+ * batches, off the request thread.
+ *
+ * <p>Per user only the net effect is kept: the time of the last successful
+ * login, the failed attempts since then, and a pending password re-hash. A
+ * login storm therefore costs one batched statement per kind and flush
+ * instead of one read and one row update per login. Lockout stays exact on
+ * this replica: {@link #effectiveFailedAttempts} adds the failures not yet
+ * written to the stored count.</p>
+ *
+ * <p>Updates bump the optimistic-lock version, as the entity save they
+ * replace did. Re-hashes only apply if the stored hash is still the one
+ * that was verified, so a concurrent password change wins.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class LoginBookkeeper {
+
+  private static final Logger log = LoggerFactory.getLogger(LoginBookkeeper.class);
+
+  /** Failed attempts that lock an account. */
+  public static final int MAX_FAILED_ATTEMPTS = 5;
+  /** How long a locked account stays locked. */
+  public static final int LOCKOUT_DURATION_MINUTES = 30;
+
+  private static final String SUCCESS_SQL = "UPDATE users SET last_login_at = ?, "
+      + "failed_login_attempts = 0, account_locked = FALSE, updated_at = ?, version = version + 1 "
+      + "WHERE id = ?";
+  private static final String FAILURE_SQL = "UPDATE users SET "
+      + "failed_login_attempts = failed_login_attempts + ?, "
+      + "account_locked = CASE WHEN failed_login_attempts + ? >= ? THEN TRUE ELSE account_locked END, "
+      + "account_locked_until = CASE WHEN failed_login_attempts + ? >= ? THEN ? "
+      + "ELSE account_locked_until END, "
+      + "updated_at = ?, version = version + 1 WHERE id = ?";
+  private static final String REHASH_SQL = "UPDATE users SET password_hash = ?, updated_at = ?, "
+      + "version = version + 1 WHERE id = ? AND password_hash = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Map<Long, PendingLogin> pending = new ConcurrentHashMap<>();
+
+  public LoginBookkeeper(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void recordSuccessfulLogin(Long userId) {
+    LocalDateTime now = LocalDateTime.now();
+    pending.merge(userId, new PendingLogin(now, 0, null, null),
+        (current, next) -> new PendingLogin(now, 0, current.verifiedHash(), current.newHash()));
+  }
+
+  public void recordFailedLoginAttempt(Long userId) {
+    pending.merge(userId, new PendingLogin(null, 1, null, null),
+        (current, next) -> new PendingLogin(current.lastSuccessAt(), current.failures() + 1,
+            current.verifiedHash(), current.newHash()));
+  }
+
+  /**
+   * Queues a password hash upgrade.
+   *
+   * @param userId the user
+   * @param verifiedHash the stored hash the password was checked against
+   * @param newHash the hash from the current encoder
+   */
+  public void recordRehash(Long userId, String verifiedHash, String newHash) {
+    pending.merge(userId, new PendingLogin(null, 0, verifiedHash, newHash),
+        (current, next) -> new PendingLogin(current.lastSuccessAt(), current.failures(),
+            verifiedHash, newHash));
+  }
+
+  /**
+   * Failed attempts including those not yet written: a pending successful
+   * login resets the stored count.
+   *
+   * @param userId the user
+   * @param storedAttempts the count read from the database
+   * @return the count the next flush will leave
+   */
+  public int effectiveFailedAttempts(Long userId, int storedAttempts) {
+    PendingLogin login = pending.get(userId);
+    if (login == null) {
+      return storedAttempts;
+    }
+    return (login.lastSuccessAt() != null ? 0 : storedAttempts) + login.failures();
+  }
+
+  /**
+   * Writes all pending login outcomes.
+   *
+   * @return the number of users written
+   */
+  @Scheduled(fixedDelayString = "${app.security.login.flush-interval-ms:1000}")
+  public int flush() {
+    if (pending.isEmpty()) {
+      return 0;
+    }
+    Map<Long, PendingLogin> batch = new HashMap<>();
+    for (Long userId : pending.keySet()) {
+      PendingLogin login = pending.remove(userId);
+      if (login != null) {
+        batch.put(userId, login);
+      }
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime lockedUntil = now.plusMinutes(LOCKOUT_DURATION_MINUTES);
+    List<Object[]> successes = new ArrayList<>();
+    List<Object[]> failures = new ArrayList<>();
+    List<Object[]> rehashes = new ArrayList<>();
+    batch.forEach((userId, login) -> {
+      if (login.lastSuccessAt() != null) {
+        successes.add(new Object[] {login.lastSuccessAt(), now, userId});
+      }
+      if (login.failures() > 0) {
+        failures.add(new Object[] {login.failures(), login.failures(), MAX_FAILED_ATTEMPTS,
+            login.failures(), MAX_FAILED_ATTEMPTS, lockedUntil, now, userId});
+      }
+      if (login.newHash() != null) {
+        rehashes.add(new Object[] {login.newHash(), now, userId, login.verifiedHash()});
+      }
+    });
+
+    try {
+      // Successes first: failures recorded after a success count from zero
+      if (!successes.isEmpty()) {
+        jdbcTemplate.batchUpdate(SUCCESS_SQL, successes);
+      }
+      if (!failures.isEmpty()) {
+        jdbcTemplate.batchUpdate(FAILURE_SQL, failures);
+      }
+      if (!rehashes.isEmpty()) {
+        jdbcTemplate.batchUpdate(REHASH_SQL, rehashes);
+      }
+    } catch (DataAccessException e) {
+      log.warn("Login bookkeeping for {} users not written, retrying: {}", batch.size(), e.getMessage());
+      batch.forEach((userId, login) -> pending.merge(userId, login, PendingLogin::after));
+      return 0;
+    }
+    log.debug("Wrote login bookkeeping for {} users", batch.size());
+    return batch.size();
+  }
+
+  @PreDestroy
+  void flushOnShutdown() {
+    flush();
+  }
+
+  /**
+   * Net login outcome of one user since the last flush.
+   */
+  record PendingLogin(LocalDateTime lastSuccessAt, int failures, String verifiedHash, String newHash) {
+
+    /** Combines an unwritten earlier outcome with this later one. */
+    static PendingLogin after(PendingLogin later, PendingLogin earlier) {
+      if (later.lastSuccessAt() != null) {
+        return new PendingLogin(later.lastSuccessAt(), later.failures(),
+            later.newHash() != null ? later.verifiedHash() : earlier.verifiedHash(),
+            later.newHash() != null ? later.newHash() : earlier.newHash());
+      }
+      return new PendingLogin(earlier.lastSuccessAt(), earlier.failures() + later.failures(),
+          later.newHash() != null ? later.verifiedHash() : earlier.verifiedHash(),
+          later.newHash() != null ? later.newHash() : earlier.newHash());
+    }
+  }
+}
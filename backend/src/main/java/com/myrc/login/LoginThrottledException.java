@@ -0,0 +1,22 @@
+/*
+ * myRC - Login Throttled Exception
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.login;
+
+/**
+ * Thrown when a password cannot be verified now because the verification
+ * pool is saturated. Controllers answer 429 so the client retries later,
+ * which is distinct from the 401 of wrong credentials.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class LoginThrottledException extends RuntimeException {
+
+  public LoginThrottledException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * myRC - Password Verifier
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.login;
+
+import com.myrc.config.LoginProperties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs password hash work on a fixed pool of platform threads with a bounded
+ * queue.
+ *
+ * <p>A BCrypt check costs tens of milliseconds of CPU. Run on request
+ * threads, a login storm occupies every core and starves unrelated
+ * requests; on virtual threads it also pins carriers. Here at most
+ * {@code verify-threads} hashes are computed at once and excess logins are
+ * rejected with {@link LoginThrottledException} once the queue is full or
+ * the wait exceeds {@code verify-timeout-ms}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(PasswordVerifier.class);
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMillis;
+
+  public PasswordVerifier(PasswordEncoder passwordEncoder, LoginProperties properties) {
+    this.passwordEncoder = passwordEncoder;
+    this.timeoutMillis = properties.getVerifyTimeoutMs();
+    int threads = properties.getVerifyThreads() > 0
+        ? properties.getVerifyThreads()
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.getVerifyQueueCapacity()),
+        Thread.ofPlatform().name("password-verify-", 0).daemon(true).factory());
+  }
+
+  /**
+   * Checks a raw password against a stored hash on the verification pool.
+   *
+   * @param rawPassword the password entered
+   * @param encodedPassword the stored hash (may be null)
+   * @return true if the password matches
+   * @throws LoginThrottledException if the pool is saturated
+   */
+  public boolean matches(String rawPassword, String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    Future<Boolean> check;
+    try {
+      check = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    } catch (RejectedExecutionException e) {
+      throw new LoginThrottledException("Password verification queue is full");
+    }
+    try {
+      return check.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      check.cancel(true);
+      throw new LoginThrottledException("Password verification timed out");
+    } catch (InterruptedException e) {
+      check.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new LoginThrottledException("Password verification interrupted");
+    } catch (ExecutionException e) {
+      // Unknown encoder id or malformed hash: treat as a mismatch, like BCrypt does
+      log.warn("Password hash could not be checked: {}", e.getCause().getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Whether a stored hash should be replaced by one from the current encoder.
+   *
+   * @param encodedPassword the stored hash
+   * @return true if it uses another algorithm or a lower strength
+   */
+  public boolean needsRehash(String encodedPassword) {
+    return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * Hashes a password with the current encoder in the background. Skipped
+   * while the pool is more than half busy; the upgrade then happens on a
+   * later login.
+   *
+   * @param rawPassword the verified password
+   * @param onEncoded receives the new hash
+   */
+  public void rehashInBackground(String rawPassword, Consumer<String> onEncoded) {
+    if (executor.getQueue().remainingCapacity() < executor.getQueue().size()) {
+      return;
+    }
+    try {
+      executor.execute(() -> onEncoded.accept(passwordEncoder.encode(rawPassword)));
+    } catch (RejectedExecutionException e) {
+      log.debug("Password re-hash skipped, verification pool busy");
+    }
+  }
+
+  /**
+   * Checks running or queued.
+   */
+  int inFlight() {
+    return executor.getActiveCount() + executor.getQueue().size();
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
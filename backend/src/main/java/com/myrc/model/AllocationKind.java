@@ -0,0 +1,27 @@
+/*
+ * myRC - Allocation Kind
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Item types whose money allocations are kept in the allocation ledger.
+ */
+package com.myrc.model;
+
+/**
+ * Item types whose money allocations are kept in the allocation ledger.
+ *
+ * <p>Funding and spending allocations carry CAP and O&amp;M amounts;
+ * training and travel allocations are O&amp;M only.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public enum AllocationKind {
+
+  FUNDING,
+  SPENDING,
+  TRAINING,
+  TRAVEL
+}
@@ -0,0 +1,134 @@
+/*
+ * myRC - Allocation Ledger Entry Entity
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * One append-only change to an item's money allocation.
+ */
+package com.myrc.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Entity recording the change of one item's allocation to one money.
+ *
+ * <p>Rows are appended by {@link com.myrc.ledger.AllocationLedgerRecorder}
+ * in the writing transaction and never updated: the sum of an item's rows
+ * per (fiscal year, money, category) is what the item currently contributes
+ * to {@link AllocationTotal}. Deactivating, deleting or recategorizing an
+ * item appends the reversing rows. Amounts of spending allocations are in
+ * CAD where the converted amount is stored.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "allocation_ledger",
+    indexes = {
+        @Index(name = "idx_allocation_ledger_kind_item", columnList = "kind, item_id"),
+        @Index(name = "idx_allocation_ledger_fy", columnList = "fiscal_year_id"),
+        @Index(name = "idx_allocation_ledger_money", columnList = "money_id")
+    })
+public class AllocationLedgerEntry {
+
+  /**
+   * Why an entry was appended.
+   */
+  public enum Reason {
+    /** Opening balance written when the ledger was introduced. */
+    OPENING,
+    /** An allocation or its item was created, edited, deactivated or deleted. */
+    ALLOCATION,
+    /** Stored CAD amounts were recomputed after exchange rates changed. */
+    REVALUATION,
+    /** Drift found by the reconciliation job was corrected. */
+    RECONCILIATION
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "fiscal_year_id", nullable = false)
+  private Long fiscalYearId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private AllocationKind kind;
+
+  @Column(name = "item_id", nullable = false)
+  private Long itemId;
+
+  @Column(name = "money_id", nullable = false)
+  private Long moneyId;
+
+  /** Category of the item, 0 when it has none. */
+  @Column(name = "category_id", nullable = false)
+  private Long categoryId;
+
+  @Column(name = "cap_delta", nullable = false, precision = 15, scale = 2)
+  private BigDecimal capDelta;
+
+  @Column(name = "om_delta", nullable = false, precision = 15, scale = 2)
+  private BigDecimal omDelta;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private Reason reason;
+
+  @Column(name = "recorded_at", nullable = false)
+  private LocalDateTime recordedAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getFiscalYearId() {
+    return fiscalYearId;
+  }
+
+  public AllocationKind getKind() {
+    return kind;
+  }
+
+  public Long getItemId() {
+    return itemId;
+  }
+
+  public Long getMoneyId() {
+    return moneyId;
+  }
+
+  public Long getCategoryId() {
+    return categoryId;
+  }
+
+  public BigDecimal getCapDelta() {
+    return capDelta;
+  }
+
+  public BigDecimal getOmDelta() {
+    return omDelta;
+  }
+
+  public Reason getReason() {
+    return reason;
+  }
+
+  public LocalDateTime getRecordedAt() {
+    return recordedAt;
+  }
+}
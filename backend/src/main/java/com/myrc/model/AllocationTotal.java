@@ -0,0 +1,103 @@
+/*
+ * myRC - Allocation Total Entity
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Running allocation total per fiscal year, kind, money and category.
+ */
+package com.myrc.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Running total of the allocations of active items of one kind to one
+ * money, per fiscal year and item category.
+ *
+ * <p>Maintained together with {@link AllocationLedgerEntry} in the writing
+ * transaction, so summary views read a handful of rows instead of summing
+ * the allocation tables. Rows that drop to zero are kept.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "allocation_totals",
+    uniqueConstraints = @UniqueConstraint(
+        columnNames = {"fiscal_year_id", "kind", "money_id", "category_id"},
+        name = "uk_allocation_totals_key"),
+    indexes = @Index(name = "idx_allocation_totals_money", columnList = "money_id"))
+public class AllocationTotal {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "fiscal_year_id", nullable = false)
+  private Long fiscalYearId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private AllocationKind kind;
+
+  @Column(name = "money_id", nullable = false)
+  private Long moneyId;
+
+  /** Category of the items, 0 for items without one. */
+  @Column(name = "category_id", nullable = false)
+  private Long categoryId;
+
+  @Column(name = "cap_total", nullable = false, precision = 15, scale = 2)
+  private BigDecimal capTotal;
+
+  @Column(name = "om_total", nullable = false, precision = 15, scale = 2)
+  private BigDecimal omTotal;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getFiscalYearId() {
+    return fiscalYearId;
+  }
+
+  public AllocationKind getKind() {
+    return kind;
+  }
+
+  public Long getMoneyId() {
+    return moneyId;
+  }
+
+  public Long getCategoryId() {
+    return categoryId;
+  }
+
+  public BigDecimal getCapTotal() {
+    return capTotal;
+  }
+
+  public BigDecimal getOmTotal() {
+    return omTotal;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+}
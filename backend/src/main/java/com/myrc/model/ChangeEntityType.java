@@ -0,0 +1,41 @@
+/*
+ * myRC - Change Entity Type
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Fiscal-year scoped collections tracked by the change feed.
+ */
+package com.myrc.model;
+
+/**
+ * Fiscal-year scoped collections whose changes are recorded in the
+ * change feed.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public enum ChangeEntityType {
+
+  FUNDING_ITEM("funding-items"),
+  SPENDING_ITEM("spending-items"),
+  PROCUREMENT_ITEM("procurement-items"),
+  TRAINING_ITEM("training-items"),
+  TRAVEL_ITEM("travel-items");
+
+  private final String collection;
+
+  ChangeEntityType(String collection) {
+    this.collection = collection;
+  }
+
+  /**
+   * The collection path segment under {@code /fiscal-years/{fyId}/}.
+   *
+   * @return the collection name, e.g. {@code funding-items}
+   */
+  public String getCollection() {
+    return collection;
+  }
+}
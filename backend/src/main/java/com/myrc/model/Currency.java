@@ -13,6 +13,9 @@
  */
 package com.myrc.model;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 /**
  * Enumeration of supported currencies in the application.
  * Each currency has a code, name, and symbol for display purposes.
@@ -53,6 +56,11 @@ public enum Currency {
      */
     EUR("EUR", "Euro", "€");
 
+    /**
+     * Scale of stored CAD amounts (NUMERIC(15,2) columns).
+     */
+    public static final int CAD_SCALE = 2;
+
     private final String code;
     private final String name;
     private final String symbol;
@@ -97,6 +105,29 @@ public enum Currency {
         return symbol;
     }
 
+    /**
+     * Converts an amount in this currency to CAD, rounded to the cent.
+     * This is the single place where the amount &times; rate rule lives;
+     * CAD amounts pass through unchanged.
+     *
+     * @param amount       the amount in this currency, may be null
+     * @param exchangeRate CAD per unit of this currency; ignored for CAD
+     * @return the CAD amount, or null when the amount is null or a foreign
+     *         amount has no rate
+     */
+    public BigDecimal toCad(BigDecimal amount, BigDecimal exchangeRate) {
+        if (amount == null) {
+            return null;
+        }
+        if (this == CAD) {
+            return amount.setScale(CAD_SCALE, RoundingMode.HALF_UP);
+        }
+        if (exchangeRate == null) {
+            return null;
+        }
+        return amount.multiply(exchangeRate).setScale(CAD_SCALE, RoundingMode.HALF_UP);
+    }
+
     /**
      * Finds a Currency by its code.
      *
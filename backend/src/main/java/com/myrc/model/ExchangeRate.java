@@ -0,0 +1,118 @@
+/*
+ * myRC - Exchange Rate Entity
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Dated CAD exchange rate of a currency.
+ */
+package com.myrc.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * CAD exchange rate of a currency, effective from a date until the next
+ * rate of the same currency.
+ *
+ * <p>Used when an invoice, allocation or price in a foreign currency has no
+ * manually entered rate. A manually entered rate always wins.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "exchange_rates", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"currency", "effective_date"}, name = "uk_exchange_rates_currency_date")
+})
+public class ExchangeRate {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 3)
+  private Currency currency;
+
+  @Column(name = "effective_date", nullable = false)
+  private LocalDate effectiveDate;
+
+  /**
+   * CAD per unit of the currency.
+   */
+  @Column(nullable = false, precision = 15, scale = 6)
+  private BigDecimal rate;
+
+  /**
+   * Where the rate came from (e.g. a file name or "manual").
+   */
+  @Column(length = 100)
+  private String source;
+
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  public ExchangeRate() {
+  }
+
+  public ExchangeRate(Currency currency, LocalDate effectiveDate, BigDecimal rate, String source) {
+    this.currency = currency;
+    this.effectiveDate = effectiveDate;
+    this.rate = rate;
+    this.source = source;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Currency getCurrency() {
+    return currency;
+  }
+
+  public void setCurrency(Currency currency) {
+    this.currency = currency;
+  }
+
+  public LocalDate getEffectiveDate() {
+    return effectiveDate;
+  }
+
+  public void setEffectiveDate(LocalDate effectiveDate) {
+    this.effectiveDate = effectiveDate;
+  }
+
+  public BigDecimal getRate() {
+    return rate;
+  }
+
+  public void setRate(BigDecimal rate) {
+    this.rate = rate;
+  }
+
+  public String getSource() {
+    return source;
+  }
+
+  public void setSource(String source) {
+    this.source = source;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+}
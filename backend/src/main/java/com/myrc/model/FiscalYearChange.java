@@ -0,0 +1,142 @@
+/*
+ * myRC - Fiscal Year Change Entity
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * One entry in the per-fiscal-year change feed.
+ */
+package com.myrc.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Entity recording that an entity in a fiscal-year scoped collection was
+ * created, updated or deleted.
+ *
+ * <p>Rows are appended by {@link com.myrc.sync.ChangeFeedRecorder} in the
+ * writing transaction; {@code seq} is the fiscal year's change sequence at
+ * that point and serves as the client watermark.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "fy_changes",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"fiscal_year_id", "seq"},
+        name = "uk_fy_changes_fy_seq"),
+    indexes = {
+        @Index(name = "idx_fy_changes_fy_type_seq", columnList = "fiscal_year_id, entity_type, seq"),
+        @Index(name = "idx_fy_changes_changed_at", columnList = "changed_at")
+    })
+public class FiscalYearChange {
+
+  /**
+   * Kind of change as seen by a client holding a copy of the collection.
+   */
+  public enum ChangeType {
+    /** Created or updated; the client should (re)load the entity. */
+    UPSERT,
+    /** Deleted or soft-deleted; the client should drop the entity. */
+    DELETE
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "fiscal_year_id", nullable = false)
+  private Long fiscalYearId;
+
+  @Column(nullable = false)
+  private Long seq;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "entity_type", nullable = false, length = 32)
+  private ChangeEntityType entityType;
+
+  @Column(name = "entity_id", nullable = false)
+  private Long entityId;
+
+  @Column(name = "entity_version")
+  private Long entityVersion;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "change_type", nullable = false, length = 16)
+  private ChangeType changeType;
+
+  @Column(name = "changed_at", nullable = false)
+  private LocalDateTime changedAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getFiscalYearId() {
+    return fiscalYearId;
+  }
+
+  public void setFiscalYearId(Long fiscalYearId) {
+    this.fiscalYearId = fiscalYearId;
+  }
+
+  public Long getSeq() {
+    return seq;
+  }
+
+  public void setSeq(Long seq) {
+    this.seq = seq;
+  }
+
+  public ChangeEntityType getEntityType() {
+    return entityType;
+  }
+
+  public void setEntityType(ChangeEntityType entityType) {
+    this.entityType = entityType;
+  }
+
+  public Long getEntityId() {
+    return entityId;
+  }
+
+  public void setEntityId(Long entityId) {
+    this.entityId = entityId;
+  }
+
+  public Long getEntityVersion() {
+    return entityVersion;
+  }
+
+  public void setEntityVersion(Long entityVersion) {
+    this.entityVersion = entityVersion;
+  }
+
+  public ChangeType getChangeType() {
+    return changeType;
+  }
+
+  public void setChangeType(ChangeType changeType) {
+    this.changeType = changeType;
+  }
+
+  public LocalDateTime getChangedAt() {
+    return changedAt;
+  }
+
+  public void setChangedAt(LocalDateTime changedAt) {
+    this.changedAt = changedAt;
+  }
+}
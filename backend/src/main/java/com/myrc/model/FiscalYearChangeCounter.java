@@ -0,0 +1,61 @@
+/*
+ * myRC - Fiscal Year Change Counter Entity
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Monotonic change sequence of a fiscal year.
+ */
+package com.myrc.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Current change sequence of a fiscal year.
+ *
+ * <p>{@code lastSeq} is the watermark handed to clients. {@code prunedSeq} is
+ * the highest sequence removed by retention; a client whose watermark is
+ * older must reload the fiscal year in full.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "fy_change_counters")
+public class FiscalYearChangeCounter {
+
+  @Id
+  @Column(name = "fiscal_year_id")
+  private Long fiscalYearId;
+
+  @Column(name = "last_seq", nullable = false)
+  private Long lastSeq = 0L;
+
+  @Column(name = "pruned_seq", nullable = false)
+  private Long prunedSeq = 0L;
+
+  public FiscalYearChangeCounter() {
+  }
+
+  public FiscalYearChangeCounter(Long fiscalYearId, Long lastSeq, Long prunedSeq) {
+    this.fiscalYearId = fiscalYearId;
+    this.lastSeq = lastSeq;
+    this.prunedSeq = prunedSeq;
+  }
+
+  public Long getFiscalYearId() {
+    return fiscalYearId;
+  }
+
+  public Long getLastSeq() {
+    return lastSeq;
+  }
+
+  public Long getPrunedSeq() {
+    return prunedSeq;
+  }
+}
@@ -30,6 +30,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
@@ -132,16 +133,30 @@ public class SpendingInvoice {
     // Helper methods
 
     /**
-     * Get the amount in CAD, applying exchange rate if necessary.
+     * Get the amount in CAD: the stored CAD amount, else the amount converted
+     * at the invoice's rate, else the raw amount when no rate is known.
      */
     public BigDecimal getAmountInCAD() {
+        if (amountCad != null) {
+            return amountCad;
+        }
         if (amount == null) {
             return BigDecimal.ZERO;
         }
-        if (currency == Currency.CAD || exchangeRate == null) {
-            return amount;
+        BigDecimal converted = (currency != null ? currency : Currency.CAD).toCad(amount, exchangeRate);
+        return converted != null ? converted : amount;
+    }
+
+    /**
+     * Fill in the CAD amount of invoices written without going through
+     * {@link com.myrc.currency.CurrencyConverter} (clone, import, seed data),
+     * using the invoice's own rate.
+     */
+    @PrePersist
+    void fillAmountCad() {
+        if (amountCad == null && amount != null) {
+            amountCad = (currency != null ? currency : Currency.CAD).toCad(amount, exchangeRate);
         }
-        return amount.multiply(exchangeRate);
     }
 
     /**
@@ -417,10 +417,8 @@ public class SpendingItem {
     if (amount == null) {
       return BigDecimal.ZERO;
     }
-    if (currency == Currency.CAD || exchangeRate == null) {
-      return amount;
-    }
-    return amount.multiply(exchangeRate);
+    BigDecimal cad = (currency != null ? currency : Currency.CAD).toCad(amount, exchangeRate);
+    return cad != null ? cad : amount;
   }
 
   /**
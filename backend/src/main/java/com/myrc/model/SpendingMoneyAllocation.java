@@ -27,6 +27,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
@@ -72,6 +73,19 @@ public class SpendingMoneyAllocation {
   @Column(name = "om_amount", nullable = false, precision = 15, scale = 2)
   private BigDecimal omAmount = BigDecimal.ZERO;
 
+  /**
+   * CAP amount in CAD, stored when the allocation or the spending item's
+   * currency/rate changes. Null when the item's currency has no rate.
+   */
+  @Column(name = "cap_amount_cad", precision = 15, scale = 2)
+  private BigDecimal capAmountCad;
+
+  /**
+   * OM amount in CAD, stored alongside {@link #capAmountCad}.
+   */
+  @Column(name = "om_amount_cad", precision = 15, scale = 2)
+  private BigDecimal omAmountCad;
+
   @CreationTimestamp
   @Column(nullable = false, updatable = false)
   private LocalDateTime createdAt;
@@ -162,6 +176,22 @@ public class SpendingMoneyAllocation {
     this.omAmount = omAmount != null ? omAmount : BigDecimal.ZERO;
   }
 
+  public BigDecimal getCapAmountCad() {
+    return capAmountCad;
+  }
+
+  public void setCapAmountCad(BigDecimal capAmountCad) {
+    this.capAmountCad = capAmountCad;
+  }
+
+  public BigDecimal getOmAmountCad() {
+    return omAmountCad;
+  }
+
+  public void setOmAmountCad(BigDecimal omAmountCad) {
+    this.omAmountCad = omAmountCad;
+  }
+
   public LocalDateTime getCreatedAt() {
     return createdAt;
   }
@@ -207,6 +237,37 @@ public class SpendingMoneyAllocation {
     return cap.add(om);
   }
 
+  /**
+   * Gets the total amount (CAP + OM) in CAD. Uses the stored CAD amounts and
+   * falls back to the raw amounts when no rate was known.
+   *
+   * @return the total allocation amount in CAD
+   */
+  public BigDecimal getTotalAmountCad() {
+    BigDecimal cap = capAmountCad != null ? capAmountCad : (capAmount != null ? capAmount : BigDecimal.ZERO);
+    BigDecimal om = omAmountCad != null ? omAmountCad : (omAmount != null ? omAmount : BigDecimal.ZERO);
+    return cap.add(om);
+  }
+
+  /**
+   * Fill in the CAD amounts of allocations written without going through
+   * {@link com.myrc.currency.CurrencyConverter} (import, seed data),
+   * using the spending item's own rate.
+   */
+  @PrePersist
+  void fillCadAmounts() {
+    if (spendingItem == null || (capAmountCad != null && omAmountCad != null)) {
+      return;
+    }
+    Currency currency = spendingItem.getCurrency() != null ? spendingItem.getCurrency() : Currency.CAD;
+    if (capAmountCad == null) {
+      capAmountCad = currency.toCad(capAmount, spendingItem.getExchangeRate());
+    }
+    if (omAmountCad == null) {
+      omAmountCad = currency.toCad(omAmount, spendingItem.getExchangeRate());
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -159,8 +159,8 @@ public class TrainingParticipant {
    */
   public BigDecimal getEstimatedCostInCAD() {
     if (estimatedCost == null) return BigDecimal.ZERO;
-    if (estimatedCurrency == Currency.CAD || estimatedExchangeRate == null) return estimatedCost;
-    return estimatedCost.multiply(estimatedExchangeRate);
+    BigDecimal cad = (estimatedCurrency != null ? estimatedCurrency : Currency.CAD).toCad(estimatedCost, estimatedExchangeRate);
+    return cad != null ? cad : estimatedCost;
   }
 
   /**
@@ -168,8 +168,8 @@ public class TrainingParticipant {
    */
   public BigDecimal getFinalCostInCAD() {
     if (finalCost == null) return BigDecimal.ZERO;
-    if (finalCurrency == Currency.CAD || finalExchangeRate == null) return finalCost;
-    return finalCost.multiply(finalExchangeRate);
+    BigDecimal cad = (finalCurrency != null ? finalCurrency : Currency.CAD).toCad(finalCost, finalExchangeRate);
+    return cad != null ? cad : finalCost;
   }
 
   @Override
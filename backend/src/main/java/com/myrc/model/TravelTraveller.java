@@ -157,8 +157,8 @@ public class TravelTraveller {
    */
   public BigDecimal getEstimatedCostInCAD() {
     if (estimatedCost == null) return BigDecimal.ZERO;
-    if (estimatedCurrency == Currency.CAD || estimatedExchangeRate == null) return estimatedCost;
-    return estimatedCost.multiply(estimatedExchangeRate);
+    BigDecimal cad = (estimatedCurrency != null ? estimatedCurrency : Currency.CAD).toCad(estimatedCost, estimatedExchangeRate);
+    return cad != null ? cad : estimatedCost;
   }
 
   /**
@@ -166,8 +166,8 @@ public class TravelTraveller {
    */
   public BigDecimal getFinalCostInCAD() {
     if (finalCost == null) return BigDecimal.ZERO;
-    if (finalCurrency == Currency.CAD || finalExchangeRate == null) return finalCost;
-    return finalCost.multiply(finalExchangeRate);
+    BigDecimal cad = (finalCurrency != null ? finalCurrency : Currency.CAD).toCad(finalCost, finalExchangeRate);
+    return cad != null ? cad : finalCost;
   }
 
   @Override
@@ -0,0 +1,119 @@
+/*
+ * myRC - CSV Tabular Writer
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes reports as RFC 4180 CSV in UTF-8.
+ *
+ * <p>The file starts with a byte order mark so that Excel opens it as
+ * UTF-8, and lines end with CRLF. Fields containing a delimiter, quote or
+ * line break are quoted. Text that a spreadsheet would evaluate as a
+ * formula (starting with {@code = + - @}, tab or carriage return) is
+ * prefixed with an apostrophe, so item names and comments cannot inject
+ * formulas into the recipient's workbook.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class CsvTabularWriter implements TabularWriter {
+
+  private static final char BOM = '\uFEFF';
+  private static final String LINE_END = "\r\n";
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  private final Writer writer;
+  private List<ReportColumn> columns;
+
+  public CsvTabularWriter(OutputStream out) {
+    this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+  }
+
+  @Override
+  public void start(String title, List<ReportColumn> columns) throws IOException {
+    this.columns = columns;
+    writer.write(BOM);
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writeText(columns.get(i).header());
+    }
+    writer.write(LINE_END);
+  }
+
+  @Override
+  public void row(Object[] values) throws IOException {
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      Object value = values[i];
+      if (value == null) {
+        continue;
+      }
+      switch (columns.get(i).type()) {
+        case TEXT -> writeText(neutralize(value.toString()));
+        case NUMBER -> writer.write(((BigDecimal) value).toPlainString());
+        case TIMESTAMP -> writer.write(TIMESTAMP.format((LocalDateTime) value));
+        default -> writer.write(value.toString());
+      }
+    }
+    writer.write(LINE_END);
+  }
+
+  @Override
+  public void finish() throws IOException {
+    writer.flush();
+  }
+
+  private void writeText(String text) throws IOException {
+    if (!needsQuotes(text)) {
+      writer.write(text);
+      return;
+    }
+    writer.write('"');
+    writer.write(text.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  static boolean needsQuotes(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Prefix text that spreadsheets would read as a formula.
+   */
+  static String neutralize(String text) {
+    if (text.isEmpty()) {
+      return text;
+    }
+    char first = text.charAt(0);
+    if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t'
+        || first == '\r') {
+      return "'" + text;
+    }
+    return text;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * myRC - Report Column
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.report;
+
+/**
+ * A column of a tabular report: its header and how its values are read
+ * from the result set and written to the file.
+ *
+ * @param header the column header
+ * @param type the value type
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public record ReportColumn(String header, Type type) {
+
+  /**
+   * Value types. Text is written as-is, numbers unformatted (full scale),
+   * dates and timestamps in ISO form in CSV and as date cells in XLSX.
+   */
+  public enum Type {
+    TEXT,
+    NUMBER,
+    DATE,
+    TIMESTAMP,
+    BOOLEAN
+  }
+
+  static ReportColumn text(String header) {
+    return new ReportColumn(header, Type.TEXT);
+  }
+
+  static ReportColumn number(String header) {
+    return new ReportColumn(header, Type.NUMBER);
+  }
+
+  static ReportColumn date(String header) {
+    return new ReportColumn(header, Type.DATE);
+  }
+
+  static ReportColumn timestamp(String header) {
+    return new ReportColumn(header, Type.TIMESTAMP);
+  }
+
+  static ReportColumn bool(String header) {
+    return new ReportColumn(header, Type.BOOLEAN);
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * myRC - Report Export
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.report;
+
+/**
+ * A validated report request, ready to be streamed.
+ *
+ * @param fiscalYearId the fiscal year reported on
+ * @param type the report
+ * @param format the file format
+ * @param fileName the download file name, with extension
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public record ReportExport(Long fiscalYearId, ReportType type, ReportFormat format, String fileName) {
+}
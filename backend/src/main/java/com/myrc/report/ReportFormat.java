@@ -0,0 +1,66 @@
+/*
+ * myRC - Report Format
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.report;
+
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * File formats reports can be exported in.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public enum ReportFormat {
+
+  CSV("text/csv;charset=UTF-8", "csv"),
+  XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+  private final String contentType;
+  private final String extension;
+
+  ReportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  /**
+   * Create a writer of this format over a stream.
+   *
+   * @param out the stream; not closed by the writer
+   * @return the writer
+   */
+  public TabularWriter open(OutputStream out) {
+    return switch (this) {
+      case CSV -> new CsvTabularWriter(out);
+      case XLSX -> new XlsxTabularWriter(out);
+    };
+  }
+
+  /**
+   * Look up a format by its extension.
+   *
+   * @param extension the extension, e.g. {@code xlsx}
+   * @return the format, or null if there is none by that name
+   */
+  public static ReportFormat fromExtension(String extension) {
+    for (ReportFormat format : values()) {
+      if (format.extension.equals(extension.toLowerCase(Locale.ROOT))) {
+        return format;
+      }
+    }
+    return null;
+  }
+}
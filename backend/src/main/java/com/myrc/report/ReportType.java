@@ -0,0 +1,176 @@
+/*
+ * myRC - Report Type
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.report;
+
+import static com.myrc.report.ReportColumn.bool;
+import static com.myrc.report.ReportColumn.date;
+import static com.myrc.report.ReportColumn.number;
+import static com.myrc.report.ReportColumn.text;
+import static com.myrc.report.ReportColumn.timestamp;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The fiscal year lists that can be exported as reports.
+ *
+ * <p>Each report is one flat query over a fiscal year's active items,
+ * joined to their children so that a spreadsheet can filter and pivot
+ * without lookups: one row per money allocation for funding, per invoice
+ * for spending, per quote for procurement, per participant for training
+ * and per traveller for travel, plus a row per procurement status event.
+ * Items without children still get one row, with empty child columns.</p>
+ *
+ * <p>The query selects exactly the report's columns, in order, and takes
+ * the fiscal year ID as its only parameter. Rows are ordered by the item's
+ * display key and ID, so an item's rows are adjacent.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public enum ReportType {
+
+  FUNDING_ITEMS("Funding",
+      "SELECT fi.id, fi.name, fi.description, c.name, fi.source, fi.currency, fi.exchange_rate, "
+          + "m.code, a.cap_amount, a.om_amount, fi.comments, fi.created_at, fi.updated_at "
+          + "FROM funding_items fi "
+          + "LEFT JOIN categories c ON c.id = fi.category_id "
+          + "LEFT JOIN money_allocations a ON a.funding_item_id = fi.id "
+          + "LEFT JOIN monies m ON m.id = a.money_id "
+          + "WHERE fi.fiscal_year_id = ? AND fi.active = TRUE "
+          + "ORDER BY fi.name, fi.id, m.code",
+      List.of(number("Item ID"), text("Name"), text("Description"), text("Category"),
+          text("Source"), text("Currency"), number("Exchange Rate"), text("Money"),
+          number("CAP"), number("O&M"), text("Comments"), timestamp("Created"),
+          timestamp("Updated"))),
+
+  SPENDING_ITEMS("Spending",
+      "SELECT si.id, si.name, si.description, c.name, si.vendor, si.reference_number, si.status, "
+          + "si.currency, si.exchange_rate, si.amount, si.eco_amount, inv.id, inv.date_received, "
+          + "inv.date_processed, inv.amount, inv.currency, inv.exchange_rate, inv.amount_cad, "
+          + "inv.comments "
+          + "FROM spending_items si "
+          + "LEFT JOIN categories c ON c.id = si.category_id "
+          + "LEFT JOIN spending_invoices inv ON inv.spending_item_id = si.id AND inv.active = TRUE "
+          + "WHERE si.fiscal_year_id = ? AND si.active = TRUE "
+          + "ORDER BY si.name, si.id, inv.date_received, inv.id",
+      List.of(number("Item ID"), text("Name"), text("Description"), text("Category"),
+          text("Vendor"), text("Reference Number"), text("Status"), text("Currency"),
+          number("Exchange Rate"), number("Amount"), number("ECO Amount"), number("Invoice ID"),
+          date("Invoice Received"), date("Invoice Processed"), number("Invoice Amount"),
+          text("Invoice Currency"), number("Invoice Exchange Rate"), number("Invoice Amount CAD"),
+          text("Invoice Comments"))),
+
+  PROCUREMENT_ITEMS("Procurement",
+      "SELECT p.id, p.purchase_requisition, p.purchase_order, p.name, c.name, p.preferred_vendor, "
+          + "p.contract_number, p.tracking_status, p.procurement_type, p.procurement_completed, "
+          + "p.final_price, p.final_price_currency, p.final_price_cad, q.id, q.vendor_name, "
+          + "q.quote_reference, q.status, q.selected, q.amount, q.amount_cap, q.amount_om, "
+          + "q.currency, q.amount_cap_cad, q.amount_om_cad, q.received_date, q.expiry_date "
+          + "FROM procurement_items p "
+          + "LEFT JOIN categories c ON c.id = p.category_id "
+          + "LEFT JOIN procurement_quotes q ON q.procurement_item_id = p.id AND q.active = TRUE "
+          + "WHERE p.fiscal_year_id = ? AND p.active = TRUE "
+          + "ORDER BY p.purchase_requisition, p.id, q.id",
+      List.of(number("Item ID"), text("PR"), text("PO"), text("Name"), text("Category"),
+          text("Vendor"), text("Contract Number"), text("Tracking Status"),
+          text("Procurement Type"), bool("Completed"), number("Final Price"),
+          text("Final Price Currency"), number("Final Price CAD"), number("Quote ID"),
+          text("Quote Vendor"), text("Quote Reference"), text("Quote Status"),
+          bool("Quote Selected"), number("Quote Amount"), number("Quote CAP"), number("Quote O&M"),
+          text("Quote Currency"), number("Quote CAP CAD"), number("Quote O&M CAD"),
+          date("Quote Received"), date("Quote Expiry"))),
+
+  PROCUREMENT_EVENTS("Procurement History",
+      "SELECT p.id, p.purchase_requisition, p.name, e.id, e.event_date, e.event_type, "
+          + "e.old_status, e.new_status, e.comment, e.created_by, e.created_at "
+          + "FROM procurement_items p "
+          + "JOIN procurement_events e ON e.procurement_item_id = p.id AND e.active = TRUE "
+          + "WHERE p.fiscal_year_id = ? AND p.active = TRUE "
+          + "ORDER BY p.purchase_requisition, p.id, e.event_date, e.id",
+      List.of(number("Item ID"), text("PR"), text("Name"), number("Event ID"), date("Event Date"),
+          text("Event Type"), text("Old Status"), text("New Status"), text("Comment"),
+          text("Created By"), timestamp("Created"))),
+
+  TRAINING_ITEMS("Training",
+      "SELECT t.id, t.name, t.provider, t.status, t.training_type, t.format, t.start_date, "
+          + "t.end_date, t.location, tp.id, tp.name, tp.eco, tp.status, tp.estimated_cost, "
+          + "tp.estimated_currency, tp.final_cost, tp.final_currency "
+          + "FROM training_items t "
+          + "LEFT JOIN training_participants tp ON tp.training_item_id = t.id "
+          + "WHERE t.fiscal_year_id = ? AND t.active = TRUE "
+          + "ORDER BY t.name, t.id, tp.name, tp.id",
+      List.of(number("Item ID"), text("Name"), text("Provider"), text("Status"),
+          text("Training Type"), text("Format"), date("Start Date"), date("End Date"),
+          text("Location"), number("Participant ID"), text("Participant"), text("ECO"),
+          text("Participant Status"), number("Estimated Cost"), text("Estimated Currency"),
+          number("Final Cost"), text("Final Currency"))),
+
+  TRAVEL_ITEMS("Travel",
+      "SELECT t.id, t.name, t.emap, t.destination, t.purpose, t.status, t.travel_type, "
+          + "t.departure_date, t.return_date, tt.id, tt.name, tt.taac, tt.approval_status, "
+          + "tt.estimated_cost, tt.estimated_currency, tt.final_cost, tt.final_currency "
+          + "FROM travel_items t "
+          + "LEFT JOIN travel_travellers tt ON tt.travel_item_id = t.id "
+          + "WHERE t.fiscal_year_id = ? AND t.active = TRUE "
+          + "ORDER BY t.name, t.id, tt.name, tt.id",
+      List.of(number("Item ID"), text("Name"), text("EMAP"), text("Destination"),
+          text("Purpose"), text("Status"), text("Travel Type"), date("Departure Date"),
+          date("Return Date"), number("Traveller ID"), text("Traveller"), text("TAAC"),
+          text("Approval Status"), number("Estimated Cost"), text("Estimated Currency"),
+          number("Final Cost"), text("Final Currency")));
+
+  private final String title;
+  private final String sql;
+  private final List<ReportColumn> columns;
+
+  ReportType(String title, String sql, List<ReportColumn> columns) {
+    this.title = title;
+    this.sql = sql;
+    this.columns = columns;
+  }
+
+  /**
+   * Human-readable name, used as the XLSX sheet name.
+   */
+  public String getTitle() {
+    return title;
+  }
+
+  /**
+   * Query returning the report rows; its only parameter is the fiscal year ID.
+   */
+  public String getSql() {
+    return sql;
+  }
+
+  public List<ReportColumn> getColumns() {
+    return columns;
+  }
+
+  /**
+   * URL form of the report name, e.g. {@code procurement-events}.
+   */
+  public String getPath() {
+    return name().toLowerCase(Locale.ROOT).replace('_', '-');
+  }
+
+  /**
+   * Look up a report by its URL form.
+   *
+   * @param path the report name, e.g. {@code spending-items}
+   * @return the report, or null if there is none by that name
+   */
+  public static ReportType fromPath(String path) {
+    for (ReportType type : values()) {
+      if (type.getPath().equalsIgnoreCase(path)) {
+        return type;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * myRC - Tabular Writer
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.report;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes report rows to a file format as they arrive.
+ *
+ * <p>Implementations hold no rows: each row is encoded and handed to the
+ * underlying stream before the next is read, so memory use does not grow
+ * with the size of the report. {@link #finish()} completes the file but
+ * does not close the stream, which belongs to the caller.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public interface TabularWriter {
+
+  /**
+   * Begin the file and write the header row.
+   *
+   * @param title the report title (sheet name where the format has one)
+   * @param columns the report columns
+   * @throws IOException if the stream fails
+   */
+  void start(String title, List<ReportColumn> columns) throws IOException;
+
+  /**
+   * Write one row.
+   *
+   * @param values one value per column, null for empty cells; text as
+   *     {@link String}, numbers as {@link java.math.BigDecimal}, dates as
+   *     {@link java.time.LocalDate}, timestamps as
+   *     {@link java.time.LocalDateTime} and booleans as {@link Boolean}
+   * @throws IOException if the stream fails
+   */
+  void row(Object[] values) throws IOException;
+
+  /**
+   * Complete the file and flush it to the stream.
+   *
+   * @throws IOException if the stream fails
+   */
+  void finish() throws IOException;
+}
@@ -0,0 +1,276 @@
+/*
+ * myRC - XLSX Tabular Writer
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes reports as a single-sheet Office Open XML workbook.
+ *
+ * <p>The package parts are written directly rather than through a
+ * spreadsheet library: the fixed parts (content types, relationships,
+ * workbook and styles) are small constants, and the worksheet is streamed
+ * into the ZIP entry row by row with inline strings, so there is no shared
+ * string table or in-memory model to grow with the report. Numbers are
+ * number cells; dates and timestamps are serial date cells with a date
+ * style. The header row is bold and frozen.</p>
+ *
+ * <p>A worksheet holds at most {@value #MAX_ROWS} rows; larger reports
+ * should be exported as CSV.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class XlsxTabularWriter implements TabularWriter {
+
+  /** Rows per worksheet, header included, that spreadsheet applications accept. */
+  public static final int MAX_ROWS = 1_048_576;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int MAX_SHEET_NAME = 31;
+  private static final LocalDate EPOCH = LocalDate.of(1899, 12, 30);
+  private static final double SECONDS_PER_DAY = 86_400d;
+
+  // Cell style indexes into cellXfs below
+  private static final int STYLE_DATE = 1;
+  private static final int STYLE_TIMESTAMP = 2;
+  private static final int STYLE_HEADER = 3;
+
+  private static final String XML_DECLARATION =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+  private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+  static final String CONTENT_TYPES = XML_DECLARATION
+      + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+      + "<Default Extension=\"rels\" "
+      + "ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+      + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+      + "<Override PartName=\"/xl/workbook.xml\" "
+      + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>"
+      + "<Override PartName=\"/xl/worksheets/sheet1.xml\" "
+      + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+      + "<Override PartName=\"/xl/styles.xml\" "
+      + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>"
+      + "</Types>";
+
+  static final String ROOT_RELS = XML_DECLARATION
+      + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+      + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/"
+      + "relationships/officeDocument\" Target=\"xl/workbook.xml\"/>"
+      + "</Relationships>";
+
+  static final String WORKBOOK_RELS = XML_DECLARATION
+      + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+      + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/"
+      + "relationships/worksheet\" Target=\"worksheets/sheet1.xml\"/>"
+      + "<Relationship Id=\"rId2\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/"
+      + "relationships/styles\" Target=\"styles.xml\"/>"
+      + "</Relationships>";
+
+  static final String STYLES = XML_DECLARATION
+      + "<styleSheet xmlns=\"" + MAIN_NS + "\">"
+      + "<numFmts count=\"2\">"
+      + "<numFmt numFmtId=\"164\" formatCode=\"yyyy-mm-dd\"/>"
+      + "<numFmt numFmtId=\"165\" formatCode=\"yyyy-mm-dd hh:mm:ss\"/>"
+      + "</numFmts>"
+      + "<fonts count=\"2\">"
+      + "<font><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+      + "<font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+      + "</fonts>"
+      + "<fills count=\"2\">"
+      + "<fill><patternFill patternType=\"none\"/></fill>"
+      + "<fill><patternFill patternType=\"gray125\"/></fill>"
+      + "</fills>"
+      + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+      + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/>"
+      + "</cellStyleXfs>"
+      + "<cellXfs count=\"4\">"
+      + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+      + "<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" "
+      + "applyNumberFormat=\"1\"/>"
+      + "<xf numFmtId=\"165\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" "
+      + "applyNumberFormat=\"1\"/>"
+      + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/>"
+      + "</cellXfs>"
+      + "</styleSheet>";
+
+  private static final String SHEET_START = XML_DECLARATION
+      + "<worksheet xmlns=\"" + MAIN_NS + "\">"
+      + "<sheetViews><sheetView workbookViewId=\"0\">"
+      + "<pane ySplit=\"1\" topLeftCell=\"A2\" activePane=\"bottomLeft\" state=\"frozen\"/>"
+      + "</sheetView></sheetViews>"
+      + "<sheetData>";
+
+  private static final String SHEET_END = "</sheetData></worksheet>";
+
+  private final ZipOutputStream zip;
+  private final Writer writer;
+  private List<ReportColumn> columns;
+  private int rowNumber;
+
+  public XlsxTabularWriter(OutputStream out) {
+    this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+    this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+  }
+
+  @Override
+  public void start(String title, List<ReportColumn> columns) throws IOException {
+    this.columns = columns;
+    writePart("[Content_Types].xml", CONTENT_TYPES);
+    writePart("_rels/.rels", ROOT_RELS);
+    writePart("xl/workbook.xml", workbook(title));
+    writePart("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+    writePart("xl/styles.xml", STYLES);
+
+    zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+    writer.write(SHEET_START);
+    startRow();
+    for (ReportColumn column : columns) {
+      writer.write("<c s=\"" + STYLE_HEADER + "\" t=\"inlineStr\"><is><t>");
+      writeEscaped(column.header());
+      writer.write("</t></is></c>");
+    }
+    writer.write("</row>");
+  }
+
+  @Override
+  public void row(Object[] values) throws IOException {
+    if (rowNumber >= MAX_ROWS) {
+      throw new IOException("Report exceeds the " + MAX_ROWS + " rows of a worksheet");
+    }
+    startRow();
+    for (int i = 0; i < columns.size(); i++) {
+      writeCell(columns.get(i).type(), values[i]);
+    }
+    writer.write("</row>");
+  }
+
+  @Override
+  public void finish() throws IOException {
+    writer.write(SHEET_END);
+    writer.flush();
+    zip.closeEntry();
+    zip.finish();
+    zip.flush();
+  }
+
+  private void startRow() throws IOException {
+    rowNumber++;
+    writer.write("<row r=\"");
+    writer.write(Integer.toString(rowNumber));
+    writer.write("\">");
+  }
+
+  /**
+   * Write one cell. Cells carry no reference, so every column gets a cell,
+   * empty ones included, to keep later cells in their columns.
+   */
+  private void writeCell(ReportColumn.Type type, Object value) throws IOException {
+    if (value == null) {
+      writer.write("<c/>");
+      return;
+    }
+    switch (type) {
+      case NUMBER -> {
+        writer.write("<c><v>");
+        writer.write(((BigDecimal) value).toPlainString());
+        writer.write("</v></c>");
+      }
+      case DATE -> {
+        writer.write("<c s=\"" + STYLE_DATE + "\"><v>");
+        writer.write(Long.toString(serial((LocalDate) value)));
+        writer.write("</v></c>");
+      }
+      case TIMESTAMP -> {
+        writer.write("<c s=\"" + STYLE_TIMESTAMP + "\"><v>");
+        writer.write(Double.toString(serial((LocalDateTime) value)));
+        writer.write("</v></c>");
+      }
+      case BOOLEAN -> writer.write((Boolean) value ? "<c t=\"b\"><v>1</v></c>" : "<c t=\"b\"><v>0</v></c>");
+      default -> {
+        writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        writeEscaped(value.toString());
+        writer.write("</t></is></c>");
+      }
+    }
+  }
+
+  private void writePart(String name, String content) throws IOException {
+    zip.putNextEntry(new ZipEntry(name));
+    writer.write(content);
+    writer.flush();
+    zip.closeEntry();
+  }
+
+  static String workbook(String title) {
+    StringBuilder xml = new StringBuilder(XML_DECLARATION)
+        .append("<workbook xmlns=\"").append(MAIN_NS).append("\" ")
+        .append("xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">")
+        .append("<sheets><sheet name=\"");
+    escape(sheetName(title), xml);
+    return xml.append("\" sheetId=\"1\" r:id=\"rId1\"/></sheets></workbook>").toString();
+  }
+
+  /**
+   * A valid sheet name: at most 31 characters, none of {@code []:*?/\}.
+   */
+  static String sheetName(String title) {
+    String name = title == null ? "" : title.replaceAll("[\\[\\]:*?/\\\\]", " ").trim();
+    if (name.isEmpty()) {
+      return "Report";
+    }
+    return name.length() > MAX_SHEET_NAME ? name.substring(0, MAX_SHEET_NAME) : name;
+  }
+
+  static long serial(LocalDate date) {
+    return ChronoUnit.DAYS.between(EPOCH, date);
+  }
+
+  static double serial(LocalDateTime timestamp) {
+    return serial(timestamp.toLocalDate()) + timestamp.toLocalTime().toSecondOfDay() / SECONDS_PER_DAY;
+  }
+
+  private void writeEscaped(String text) throws IOException {
+    StringBuilder escaped = new StringBuilder(text.length() + 16);
+    escape(text, escaped);
+    writer.write(escaped.toString());
+  }
+
+  /**
+   * Escape text for XML content and attributes, dropping characters XML
+   * cannot represent (control characters other than tab and line breaks).
+   */
+  static void escape(String text, StringBuilder out) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '&' -> out.append("&amp;");
+        case '<' -> out.append("&lt;");
+        case '>' -> out.append("&gt;");
+        case '"' -> out.append("&quot;");
+        case '\t', '\n', '\r' -> out.append(c);
+        default -> {
+          if (c >= 0x20 && c != 0xFFFE && c != 0xFFFF) {
+            out.append(c);
+          }
+        }
+      }
+    }
+  }
+}
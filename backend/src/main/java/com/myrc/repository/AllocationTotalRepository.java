@@ -0,0 +1,58 @@
+/*
+ * myRC - Allocation Total Repository
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Spring Data JPA Repository for running allocation totals.
+ */
+package com.myrc.repository;
+
+import com.myrc.model.AllocationTotal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for AllocationTotal entity operations.
+ *
+ * <p>The rows are written by {@link com.myrc.ledger.AllocationLedgerWriter};
+ * this repository only reads them. Each fiscal year has one row per kind,
+ * money and category in use, so these queries touch a few rows per fiscal
+ * year however many items it has.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface AllocationTotalRepository extends JpaRepository<AllocationTotal, Long> {
+
+  /**
+   * Allocation totals of active items per fiscal year, kind and money, as
+   * scalar rows.
+   *
+   * @param fiscalYearIds the fiscal year IDs
+   * @return rows of [fiscalYearId, kind, moneyId, capTotal, omTotal]
+   */
+  @Query("SELECT t.fiscalYearId, t.kind, t.moneyId, SUM(t.capTotal), SUM(t.omTotal) "
+      + "FROM AllocationTotal t WHERE t.fiscalYearId IN :fiscalYearIds "
+      + "GROUP BY t.fiscalYearId, t.kind, t.moneyId")
+  List<Object[]> sumByFiscalYearKindAndMoney(@Param("fiscalYearIds") Collection<Long> fiscalYearIds);
+
+  /**
+   * Allocation totals of active items per fiscal year, kind and category
+   * name, as scalar rows. Items without a category have a null name.
+   *
+   * @param fiscalYearIds the fiscal year IDs
+   * @return rows of [fiscalYearId, kind, categoryName, capTotal, omTotal]
+   */
+  @Query("SELECT t.fiscalYearId, t.kind, c.name, SUM(t.capTotal), SUM(t.omTotal) "
+      + "FROM AllocationTotal t LEFT JOIN Category c ON c.id = t.categoryId "
+      + "WHERE t.fiscalYearId IN :fiscalYearIds "
+      + "GROUP BY t.fiscalYearId, t.kind, c.name")
+  List<Object[]> sumByFiscalYearKindAndCategory(@Param("fiscalYearIds") Collection<Long> fiscalYearIds);
+}
@@ -0,0 +1,36 @@
+/*
+ * myRC - Exchange Rate Repository
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Spring Data JPA Repository for dated exchange rates.
+ */
+package com.myrc.repository;
+
+import com.myrc.model.Currency;
+import com.myrc.model.ExchangeRate;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for ExchangeRate entity operations.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long> {
+
+  /**
+   * Find the rate published for a currency on exactly this date.
+   *
+   * @param currency the currency
+   * @param effectiveDate the effective date
+   * @return the rate row, if any
+   */
+  Optional<ExchangeRate> findByCurrencyAndEffectiveDate(Currency currency, LocalDate effectiveDate);
+}
@@ -0,0 +1,54 @@
+/*
+ * myRC - Fiscal Year Change Counter Repository
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Spring Data JPA Repository for fiscal year change sequences.
+ */
+package com.myrc.repository;
+
+import com.myrc.model.FiscalYearChangeCounter;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for FiscalYearChangeCounter entity operations.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface FiscalYearChangeCounterRepository
+    extends JpaRepository<FiscalYearChangeCounter, Long> {
+
+  /**
+   * Record, per fiscal year, the highest sequence about to be pruned.
+   * Must run before the matching {@code deleteOlderThan}.
+   *
+   * @param cutoff the retention cutoff
+   * @return number of counters updated
+   */
+  @Modifying
+  @Query("UPDATE FiscalYearChangeCounter c SET c.prunedSeq = "
+      + "(SELECT MAX(ch.seq) FROM FiscalYearChange ch "
+      + "WHERE ch.fiscalYearId = c.fiscalYearId AND ch.changedAt < :cutoff) "
+      + "WHERE EXISTS (SELECT 1 FROM FiscalYearChange ch2 "
+      + "WHERE ch2.fiscalYearId = c.fiscalYearId AND ch2.changedAt < :cutoff)")
+  int advancePrunedSeq(@Param("cutoff") LocalDateTime cutoff);
+
+  /**
+   * Delete counters of fiscal years that no longer exist.
+   *
+   * @return number of rows deleted
+   */
+  @Modifying
+  @Query("DELETE FROM FiscalYearChangeCounter c WHERE NOT EXISTS "
+      + "(SELECT 1 FROM FiscalYear fy WHERE fy.id = c.fiscalYearId)")
+  int deleteOrphans();
+}
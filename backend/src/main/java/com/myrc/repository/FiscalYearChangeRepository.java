@@ -0,0 +1,62 @@
+/*
+ * myRC - Fiscal Year Change Repository
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Spring Data JPA Repository for the fiscal year change feed.
+ */
+package com.myrc.repository;
+
+import com.myrc.model.FiscalYearChange;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for FiscalYearChange entity operations.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface FiscalYearChangeRepository extends JpaRepository<FiscalYearChange, Long> {
+
+  /**
+   * Find the changes of a fiscal year in a sequence window, oldest first.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param afterSeq exclusive lower bound (the client watermark)
+   * @param upToSeq inclusive upper bound
+   * @return changes ordered by sequence
+   */
+  @Query("SELECT c FROM FiscalYearChange c WHERE c.fiscalYearId = :fiscalYearId "
+      + "AND c.seq > :afterSeq AND c.seq <= :upToSeq ORDER BY c.seq ASC")
+  List<FiscalYearChange> findInWindow(@Param("fiscalYearId") Long fiscalYearId,
+      @Param("afterSeq") Long afterSeq, @Param("upToSeq") Long upToSeq);
+
+  /**
+   * Delete changes recorded before a cutoff.
+   *
+   * @param cutoff the retention cutoff
+   * @return number of rows deleted
+   */
+  @Modifying
+  @Query("DELETE FROM FiscalYearChange c WHERE c.changedAt < :cutoff")
+  int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+  /**
+   * Delete changes of fiscal years that no longer exist.
+   *
+   * @return number of rows deleted
+   */
+  @Modifying
+  @Query("DELETE FROM FiscalYearChange c WHERE NOT EXISTS "
+      + "(SELECT 1 FROM FiscalYear fy WHERE fy.id = c.fiscalYearId)")
+  int deleteOrphans();
+}
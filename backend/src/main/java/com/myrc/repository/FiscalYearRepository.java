@@ -8,12 +8,16 @@ package com.myrc.repository;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.myrc.cache.CacheRegions;
+import com.myrc.cache.FiscalYearState;
 import com.myrc.model.FiscalYear;
 import com.myrc.model.ResponsibilityCentre;
 
@@ -41,6 +45,10 @@ public interface FiscalYearRepository extends JpaRepository<FiscalYear, Long> {
    * @param rcId the responsibility centre ID
    * @return list of fiscal years
    */
+  @QueryHints({
+      @QueryHint(name = CacheRegions.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = CacheRegions.HINT_CACHE_REGION, value = CacheRegions.FISCAL_YEAR_QUERY)
+  })
   @Query("SELECT fy FROM FiscalYear fy WHERE fy.responsibilityCentre.id = :rcId ORDER BY fy.name ASC")
   List<FiscalYear> findByResponsibilityCentreId(@Param("rcId") Long rcId);
 
@@ -70,6 +78,25 @@ public interface FiscalYearRepository extends JpaRepository<FiscalYear, Long> {
    */
   Optional<FiscalYear> findByNameAndResponsibilityCentre(String name, ResponsibilityCentre responsibilityCentre);
 
+  /**
+   * Find only the name of a fiscal year, without loading the entity graph.
+   *
+   * @param id the fiscal year ID
+   * @return optional fiscal year name
+   */
+  @Query("SELECT fy.name FROM FiscalYear fy WHERE fy.id = :id")
+  Optional<String> findNameById(@Param("id") Long id);
+
+  /**
+   * Find the active flag and owning RC of a fiscal year, without loading the entity graph.
+   *
+   * @param id the fiscal year ID
+   * @return optional fiscal year state
+   */
+  @Query("SELECT new com.myrc.cache.FiscalYearState(fy.id, fy.active, fy.responsibilityCentre.id) "
+      + "FROM FiscalYear fy WHERE fy.id = :id")
+  Optional<FiscalYearState> findStateById(@Param("id") Long id);
+
   /**
    * Delete all fiscal years for a specific responsibility centre.
    *
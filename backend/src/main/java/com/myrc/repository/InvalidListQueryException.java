@@ -0,0 +1,29 @@
+/*
+ * myRC - Invalid List Query Exception
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.repository;
+
+/**
+ * Thrown when a list request has an unknown sort column, an invalid cursor or
+ * invalid filter values.
+ *
+ * <p>Extends {@link IllegalArgumentException} like the rest of the service
+ * layer's validation errors, but lets controllers answer 400 instead of the
+ * 403 they use for access errors.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class InvalidListQueryException extends IllegalArgumentException {
+
+    public InvalidListQueryException(String message) {
+        super(message);
+    }
+
+    public InvalidListQueryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * myRC - Keyset Page
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.repository;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated query.
+ *
+ * @param items the rows of this page, in sort order
+ * @param nextCursor cursor of the following page, or null on the last page
+ * @param <T> the entity type
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+}
@@ -0,0 +1,325 @@
+/*
+ * myRC - Keyset Query Support
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.repository;
+
+import com.myrc.dto.ItemListQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+/**
+ * Keyset ("seek") pagination over a fiscal year's items with a dynamic sort
+ * column and filters, built with the Criteria API.
+ *
+ * <p>Rows are ordered by the sort column and then by ID, and each page
+ * continues strictly after the last row of the previous one, so deep pages
+ * cost the same as the first and concurrent inserts never shift rows between
+ * pages. Null values of nullable columns sort last in both directions.</p>
+ *
+ * <p>The cursor is an opaque, URL-safe encoding of the sort column,
+ * direction, last ID and last sort value; a cursor is rejected if it is used
+ * with a different sort.</p>
+ *
+ * <p>Pages can be loaded as entities or, for table views that only show a
+ * few columns, as rows of named scalar columns that never load an entity or
+ * its associations.</p>
+ *
+ * @param <T> the entity type
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public abstract class KeysetQuerySupport<T> {
+
+    /**
+     * A sortable column.
+     *
+     * @param expression the criteria expression to sort on
+     * @param value reads the column's value from a loaded entity
+     * @param type the Java type of the value (String, BigDecimal, LocalDate or LocalDateTime)
+     * @param nullable whether the column can be null
+     * @param <T> the entity type
+     */
+    protected record SortField<T>(BiFunction<CriteriaBuilder, Root<T>, Expression<?>> expression,
+                                  Function<T, Object> value, Class<?> type, boolean nullable) {
+    }
+
+    /**
+     * A column of the projected rows.
+     *
+     * @param <T> the entity type
+     */
+    @FunctionalInterface
+    protected interface Column<T> {
+
+        /**
+         * The criteria expression selecting the column; subqueries are created from {@code cq}.
+         */
+        Expression<?> select(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root);
+    }
+
+    /**
+     * The sort column, direction and size of a page, and the expressions its
+     * query orders by.
+     */
+    private record Plan(String sortKey, boolean descending, int limit, Expression<?> sortExpression) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Class<T> entityClass;
+    private final Map<String, SortField<T>> sortFields;
+    private final String defaultSort;
+    private final Map<String, Column<T>> columns;
+
+    protected KeysetQuerySupport(Class<T> entityClass, Map<String, SortField<T>> sortFields,
+                                 String defaultSort, Map<String, Column<T>> columns) {
+        this.entityClass = entityClass;
+        this.sortFields = sortFields;
+        this.defaultSort = defaultSort;
+        this.columns = columns;
+    }
+
+    /**
+     * Add the fiscal year restriction and the query's filters.
+     *
+     * @throws IllegalArgumentException for invalid filter values
+     */
+    protected abstract void addFilters(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root,
+                                       Long fiscalYearId, ItemListQuery query,
+                                       List<Predicate> predicates);
+
+    protected abstract Long idOf(T entity);
+
+    /**
+     * Load one page.
+     *
+     * @param fiscalYearId the fiscal year ID
+     * @param query sort, cursor, limit and filters
+     * @return the page and the cursor of the next one
+     * @throws InvalidListQueryException for an unknown sort column, an invalid
+     *         cursor or invalid filter values
+     */
+    public KeysetPage<T> findPage(Long fiscalYearId, ItemListQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> cq = cb.createQuery(entityClass);
+        Root<T> root = cq.from(entityClass);
+        Plan plan = plan(cb, cq, root, fiscalYearId, query);
+        cq.select(root);
+
+        List<T> rows = entityManager.createQuery(cq).setMaxResults(plan.limit() + 1).getResultList();
+        if (rows.size() <= plan.limit()) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> page = new ArrayList<>(rows.subList(0, plan.limit()));
+        T last = page.get(plan.limit() - 1);
+        SortField<T> field = sortFields.get(plan.sortKey());
+        String next = new Cursor(plan.sortKey(), plan.descending(), idOf(last),
+                field.value().apply(last)).encode();
+        return new KeysetPage<>(page, next);
+    }
+
+    /**
+     * Load one page of projected rows holding only the requested columns
+     * (and {@code id}), selected as scalars so no entity is loaded.
+     *
+     * @param fiscalYearId the fiscal year ID
+     * @param query sort, cursor, limit and filters
+     * @param fields the column names
+     * @return the page of rows, keyed by column name in request order, and the cursor of the next page
+     * @throws InvalidListQueryException for an unknown column or sort column,
+     *         an invalid cursor or invalid filter values
+     */
+    public KeysetPage<Map<String, Object>> findRows(Long fiscalYearId, ItemListQuery query,
+                                                    Collection<String> fields) {
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String name : fields) {
+            if (!columns.containsKey(name)) {
+                throw new InvalidListQueryException("Invalid field: " + name
+                        + " (allowed: " + String.join(", ", columns.keySet()) + ")");
+            }
+            names.add(name);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<T> root = cq.from(entityClass);
+        Plan plan = plan(cb, cq, root, fiscalYearId, query);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(plan.sortExpression());
+        for (String name : names) {
+            selections.add(columns.get(name).select(cb, cq, root));
+        }
+        cq.multiselect(selections);
+
+        List<Tuple> tuples = entityManager.createQuery(cq).setMaxResults(plan.limit() + 1).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(Math.min(tuples.size(), plan.limit()));
+        for (Tuple tuple : tuples.subList(0, Math.min(tuples.size(), plan.limit()))) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            int index = 1;
+            for (String name : names) {
+                Object value = tuple.get(index++);
+                row.put(name, value instanceof Enum<?> constant ? constant.name() : value);
+            }
+            rows.add(row);
+        }
+        if (tuples.size() <= plan.limit()) {
+            return new KeysetPage<>(rows, null);
+        }
+        Tuple last = tuples.get(plan.limit() - 1);
+        Long lastId = (Long) rows.get(plan.limit() - 1).get("id");
+        String next = new Cursor(plan.sortKey(), plan.descending(), lastId, last.get(0)).encode();
+        return new KeysetPage<>(rows, next);
+    }
+
+    /**
+     * The names of the columns {@link #findRows} can select.
+     *
+     * @return the column names
+     */
+    public Set<String> getColumnNames() {
+        return columns.keySet();
+    }
+
+    /**
+     * Resolve the sort, apply filters and cursor, and order the query.
+     */
+    private Plan plan(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<T> root, Long fiscalYearId,
+                      ItemListQuery query) {
+        String sortKey = query.getSort() != null ? query.getSort() : defaultSort;
+        SortField<T> field = sortFields.get(sortKey);
+        if (field == null) {
+            throw new InvalidListQueryException("Invalid sort column: " + sortKey
+                    + " (allowed: " + String.join(", ", sortFields.keySet()) + ")");
+        }
+        Expression<?> sortExpression = field.expression().apply(cb, root);
+        Path<Long> id = root.get("id");
+
+        boolean descending;
+        int limit;
+        List<Predicate> predicates = new ArrayList<>();
+        try {
+            descending = query.isDescending();
+            limit = query.getEffectiveLimit();
+            addFilters(cb, cq, root, fiscalYearId, query, predicates);
+            if (query.getCursor() != null) {
+                Cursor cursor = Cursor.decode(query.getCursor(), sortKey, descending, field.type());
+                predicates.add(after(cb, sortExpression, id, field.nullable(), descending, cursor));
+            }
+        } catch (InvalidListQueryException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidListQueryException(e.getMessage(), e);
+        }
+
+        List<Order> order = new ArrayList<>();
+        if (field.nullable()) {
+            // NULLS LAST rather than a computed flag, so the (DESC) NULLS LAST indexes can serve it
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            order.add(descending ? hcb.desc(sortExpression, false) : hcb.asc(sortExpression, false));
+        } else {
+            order.add(descending ? cb.desc(sortExpression) : cb.asc(sortExpression));
+        }
+        order.add(descending ? cb.desc(id) : cb.asc(id));
+        cq.where(predicates.toArray(Predicate[]::new)).orderBy(order);
+        return new Plan(sortKey, descending, limit, sortExpression);
+    }
+
+    /**
+     * Rows strictly after the cursor in (value nulls last, id) order.
+     */
+    private static Predicate after(CriteriaBuilder cb, Expression<?> value, Path<Long> id,
+                                   boolean nullable, boolean descending, Cursor cursor) {
+        Predicate idAfter = descending ? cb.lessThan(id, cursor.id()) : cb.greaterThan(id, cursor.id());
+        if (cursor.value() == null) {
+            return cb.and(cb.isNull(value), idAfter);
+        }
+        Predicate valueAfter = compare(cb, value, cursor.value(), !descending);
+        Predicate sameValue = cb.and(cb.equal(value, cursor.value()), idAfter);
+        return nullable
+                ? cb.or(valueAfter, sameValue, cb.isNull(value))
+                : cb.or(valueAfter, sameValue);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate compare(CriteriaBuilder cb, Expression<?> expression, Object value,
+                                     boolean greater) {
+        Expression<Comparable> comparable = (Expression<Comparable>) expression;
+        return greater
+                ? cb.greaterThan(comparable, (Comparable) value)
+                : cb.lessThan(comparable, (Comparable) value);
+    }
+
+    /**
+     * Position after the last row of a page.
+     */
+    record Cursor(String sort, boolean descending, Long id, Object value) {
+
+        String encode() {
+            String raw = sort + "|" + (descending ? "d" : "a") + "|" + id + "|"
+                    + (value == null ? "-" : "v" + format(value));
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String encoded, String sort, boolean descending, Class<?> type) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 4);
+                if (parts.length != 4 || !parts[0].equals(sort)
+                        || !parts[1].equals(descending ? "d" : "a")) {
+                    throw new IllegalArgumentException("Cursor does not match the requested sort");
+                }
+                Object value = parts[3].equals("-") ? null : parse(parts[3].substring(1), type);
+                return new Cursor(sort, descending, Long.valueOf(parts[2]), value);
+            } catch (IllegalArgumentException | java.time.DateTimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + e.getMessage(), e);
+            }
+        }
+
+        private static String format(Object value) {
+            return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        }
+
+        private static Object parse(String value, Class<?> type) {
+            if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            }
+            if (type == LocalDate.class) {
+                return LocalDate.parse(value);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            }
+            return value;
+        }
+    }
+}
@@ -12,15 +12,19 @@
  */
 package com.myrc.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.myrc.cache.CacheRegions;
 import com.myrc.model.FiscalYear;
 import com.myrc.model.Money;
 
@@ -48,6 +52,10 @@ public interface MoneyRepository extends JpaRepository<Money, Long> {
    * @param fiscalYearId the fiscal year ID
    * @return list of monies ordered by display order then code
    */
+  @QueryHints({
+      @QueryHint(name = CacheRegions.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = CacheRegions.HINT_CACHE_REGION, value = CacheRegions.MONEY_QUERY)
+  })
   @Query("SELECT m FROM Money m WHERE m.fiscalYear.id = :fyId ORDER BY m.displayOrder ASC, m.code ASC")
   List<Money> findByFiscalYearId(@Param("fyId") Long fiscalYearId);
 
@@ -121,4 +129,14 @@ public interface MoneyRepository extends JpaRepository<Money, Long> {
   @Modifying
   @Query("DELETE FROM Money m WHERE m.fiscalYear.id = :fiscalYearId")
   void deleteByFiscalYearId(@Param("fiscalYearId") Long fiscalYearId);
+
+  /**
+   * Find the monies of several fiscal years in display order, as scalar rows.
+   *
+   * @param fiscalYearIds the fiscal year IDs
+   * @return rows of [fiscalYearId, moneyId, code, name]
+   */
+  @Query("SELECT m.fiscalYear.id, m.id, m.code, m.name FROM Money m "
+      + "WHERE m.fiscalYear.id IN :fiscalYearIds ORDER BY m.displayOrder ASC, m.code ASC")
+  List<Object[]> findSummaryRowsByFiscalYearIdIn(@Param("fiscalYearIds") Collection<Long> fiscalYearIds);
 }
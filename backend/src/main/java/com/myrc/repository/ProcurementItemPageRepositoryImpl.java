@@ -0,0 +1,229 @@
+/*
+ * myRC - Procurement Item Page Repository Implementation
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.repository;
+
+import com.myrc.dto.ItemListQuery;
+import com.myrc.model.ProcurementEvent;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.ProcurementQuote;
+import com.myrc.search.SearchDialect;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria-based implementation of {@link ProcurementItemPageRepository}.
+ *
+ * <p>{@code amount} is the CAD final price, falling back to the CAD quoted
+ * price, as shown in the list. {@code status} is the most recent status
+ * event (DRAFT when there is none), matched with a correlated
+ * {@code NOT EXISTS} on a newer status event.</p>
+ *
+ * <p>Projected rows offer the item's own columns under their DTO names,
+ * plus {@code amount}, {@code fiscalYearId}, {@code categoryId},
+ * {@code categoryName} and {@code quoteCount} (active quotes).</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class ProcurementItemPageRepositoryImpl extends KeysetQuerySupport<ProcurementItem>
+        implements ProcurementItemPageRepository {
+
+    private static final Map<String, SortField<ProcurementItem>> SORT_FIELDS = new LinkedHashMap<>();
+
+    static {
+        SORT_FIELDS.put("purchaseRequisition", new SortField<>((cb, root) -> root.get("purchaseRequisition"),
+                ProcurementItem::getPurchaseRequisition, String.class, true));
+        SORT_FIELDS.put("purchaseOrder", new SortField<>((cb, root) -> root.get("purchaseOrder"),
+                ProcurementItem::getPurchaseOrder, String.class, true));
+        SORT_FIELDS.put("name", new SortField<>((cb, root) -> root.get("name"),
+                ProcurementItem::getName, String.class, false));
+        SORT_FIELDS.put("vendor", new SortField<>((cb, root) -> root.get("vendor"),
+                ProcurementItem::getVendor, String.class, true));
+        SORT_FIELDS.put("category", new SortField<>(
+                (cb, root) -> root.join("category", JoinType.LEFT).get("name"),
+                item -> item.getCategory() != null ? item.getCategory().getName() : null,
+                String.class, true));
+        SORT_FIELDS.put("trackingStatus", new SortField<>(
+                (cb, root) -> root.get("trackingStatus").as(String.class),
+                item -> item.getTrackingStatus() != null ? item.getTrackingStatus().name() : null,
+                String.class, true));
+        SORT_FIELDS.put("procurementType", new SortField<>(
+                (cb, root) -> root.get("procurementType").as(String.class),
+                item -> item.getProcurementType() != null ? item.getProcurementType().name() : null,
+                String.class, true));
+        SORT_FIELDS.put("amount", new SortField<>(ProcurementItemPageRepositoryImpl::amount,
+                item -> item.getFinalPriceCad() != null ? item.getFinalPriceCad() : item.getQuotedPriceCad(),
+                BigDecimal.class, true));
+        SORT_FIELDS.put("finalPriceCad", new SortField<>((cb, root) -> root.get("finalPriceCad"),
+                ProcurementItem::getFinalPriceCad, BigDecimal.class, true));
+        SORT_FIELDS.put("quotedPriceCad", new SortField<>((cb, root) -> root.get("quotedPriceCad"),
+                ProcurementItem::getQuotedPriceCad, BigDecimal.class, true));
+        SORT_FIELDS.put("contractStartDate", new SortField<>((cb, root) -> root.get("contractStartDate"),
+                ProcurementItem::getContractStartDate, LocalDate.class, true));
+        SORT_FIELDS.put("contractEndDate", new SortField<>((cb, root) -> root.get("contractEndDate"),
+                ProcurementItem::getContractEndDate, LocalDate.class, true));
+        SORT_FIELDS.put("createdAt", new SortField<>((cb, root) -> root.get("createdAt"),
+                ProcurementItem::getCreatedAt, LocalDateTime.class, false));
+        SORT_FIELDS.put("updatedAt", new SortField<>((cb, root) -> root.get("updatedAt"),
+                ProcurementItem::getUpdatedAt, LocalDateTime.class, false));
+    }
+
+    private static final Map<String, Column<ProcurementItem>> COLUMNS = new LinkedHashMap<>();
+
+    static {
+        for (String attribute : List.of("id", "purchaseRequisition", "purchaseOrder", "name", "description",
+                "vendor", "contractNumber", "contractStartDate", "contractEndDate", "finalPrice",
+                "finalPriceCurrency", "finalPriceExchangeRate", "finalPriceCad", "quotedPrice",
+                "quotedPriceCurrency", "quotedPriceExchangeRate", "quotedPriceCad", "procurementCompleted",
+                "procurementCompletedDate", "trackingStatus", "procurementType", "createdAt", "updatedAt",
+                "version", "active")) {
+            COLUMNS.put(attribute, (cb, cq, root) -> root.get(attribute));
+        }
+        COLUMNS.put("amount", (cb, cq, root) -> amount(cb, root));
+        COLUMNS.put("fiscalYearId", (cb, cq, root) -> root.get("fiscalYear").get("id"));
+        COLUMNS.put("categoryId", (cb, cq, root) -> root.join("category", JoinType.LEFT).get("id"));
+        COLUMNS.put("categoryName", (cb, cq, root) -> root.join("category", JoinType.LEFT).get("name"));
+        COLUMNS.put("quoteCount", ProcurementItemPageRepositoryImpl::activeQuoteCount);
+    }
+
+    public ProcurementItemPageRepositoryImpl() {
+        super(ProcurementItem.class, SORT_FIELDS, "purchaseRequisition", COLUMNS);
+    }
+
+    @Override
+    protected void addFilters(CriteriaBuilder cb, CriteriaQuery<?> cq,
+                              Root<ProcurementItem> root, Long fiscalYearId, ItemListQuery query,
+                              List<Predicate> predicates) {
+        predicates.add(cb.equal(root.get("fiscalYear").get("id"), fiscalYearId));
+        predicates.add(cb.isTrue(root.<Boolean>get("active")));
+
+        if (hasText(query.getStatus())) {
+            predicates.add(currentStatusIs(cb, cq, root, parseStatus(query.getStatus())));
+        }
+        if (hasText(query.getTrackingStatus())) {
+            try {
+                predicates.add(cb.equal(root.get("trackingStatus"),
+                        ProcurementItem.TrackingStatus.valueOf(query.getTrackingStatus().trim().toUpperCase())));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid tracking status: " + query.getTrackingStatus());
+            }
+        }
+        if (query.getCategoryId() != null) {
+            predicates.add(cb.equal(root.get("category").get("id"), query.getCategoryId()));
+        }
+        if (hasText(query.getVendor())) {
+            predicates.add(like(cb, root.get("vendor"), contains(query.getVendor())));
+        }
+        if (hasText(query.getSearch())) {
+            String pattern = contains(query.getSearch());
+            predicates.add(cb.or(
+                    like(cb, root.get("name"), pattern),
+                    like(cb, root.get("purchaseRequisition"), pattern),
+                    like(cb, root.get("purchaseOrder"), pattern)));
+        }
+        if (query.getMinAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(amount(cb, root), query.getMinAmount()));
+        }
+        if (query.getMaxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(amount(cb, root), query.getMaxAmount()));
+        }
+        if (query.getFromDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"), query.getFromDate().atStartOfDay()));
+        }
+        if (query.getToDate() != null) {
+            predicates.add(cb.lessThan(root.<LocalDateTime>get("createdAt"), query.getToDate().plusDays(1).atStartOfDay()));
+        }
+    }
+
+    @Override
+    protected Long idOf(ProcurementItem entity) {
+        return entity.getId();
+    }
+
+    private static Expression<BigDecimal> amount(CriteriaBuilder cb, Root<ProcurementItem> root) {
+        return cb.coalesce(root.<BigDecimal>get("finalPriceCad"), root.<BigDecimal>get("quotedPriceCad"));
+    }
+
+    private static Expression<Long> activeQuoteCount(CriteriaBuilder cb, CriteriaQuery<?> cq,
+                                                     Root<ProcurementItem> root) {
+        Subquery<Long> count = cq.subquery(Long.class);
+        Root<ProcurementQuote> quote = count.from(ProcurementQuote.class);
+        count.select(cb.count(quote)).where(
+                cb.equal(quote.get("procurementItem"), root),
+                cb.isTrue(quote.<Boolean>get("active")));
+        return count;
+    }
+
+    /**
+     * The item's latest active status event has {@code status}, or, for
+     * DRAFT, the item has no status event at all.
+     */
+    private static Predicate currentStatusIs(CriteriaBuilder cb, CriteriaQuery<?> cq,
+                                             Root<ProcurementItem> root, ProcurementItem.Status status) {
+        Subquery<Long> latest = cq.subquery(Long.class);
+        Root<ProcurementEvent> event = latest.from(ProcurementEvent.class);
+        Subquery<Long> newer = latest.subquery(Long.class);
+        Root<ProcurementEvent> other = newer.from(ProcurementEvent.class);
+        newer.select(other.<Long>get("id")).where(
+                cb.equal(other.get("procurementItem"), event.get("procurementItem")),
+                cb.isTrue(other.<Boolean>get("active")),
+                cb.isNotNull(other.get("newStatus")),
+                cb.or(
+                        cb.greaterThan(other.<LocalDate>get("eventDate"), event.<LocalDate>get("eventDate")),
+                        cb.and(
+                                cb.equal(other.get("eventDate"), event.get("eventDate")),
+                                cb.greaterThan(other.<LocalDateTime>get("createdAt"), event.<LocalDateTime>get("createdAt")))));
+        latest.select(event.<Long>get("id")).where(
+                cb.equal(event.get("procurementItem"), root),
+                cb.isTrue(event.<Boolean>get("active")),
+                cb.equal(event.get("newStatus"), status.name()),
+                cb.not(cb.exists(newer)));
+        Predicate hasStatus = cb.exists(latest);
+        if (status != ProcurementItem.Status.DRAFT) {
+            return hasStatus;
+        }
+
+        Subquery<Long> any = cq.subquery(Long.class);
+        Root<ProcurementEvent> anyEvent = any.from(ProcurementEvent.class);
+        any.select(anyEvent.<Long>get("id")).where(
+                cb.equal(anyEvent.get("procurementItem"), root),
+                cb.isTrue(anyEvent.<Boolean>get("active")),
+                cb.isNotNull(anyEvent.get("newStatus")));
+        return cb.or(hasStatus, cb.not(cb.exists(any)));
+    }
+
+    private static ProcurementItem.Status parseStatus(String status) {
+        try {
+            return ProcurementItem.Status.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static Predicate like(CriteriaBuilder cb, Expression<String> column, String pattern) {
+        return cb.like(cb.lower(column), pattern, SearchDialect.LIKE_ESCAPE);
+    }
+
+    private static String contains(String value) {
+        return "%" + SearchDialect.escapeLike(value.trim().toLowerCase()) + "%";
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,7 +32,8 @@ import java.util.Optional;
  * @since 2026-01-28
  */
 @Repository
-public interface ProcurementItemRepository extends JpaRepository<ProcurementItem, Long> {
+public interface ProcurementItemRepository extends JpaRepository<ProcurementItem, Long>,
+        ProcurementItemPageRepository {
 
     /**
      * Find all procurement items for a fiscal year ordered by PR number.
@@ -127,4 +129,19 @@ public interface ProcurementItemRepository extends JpaRepository<ProcurementItem
     @Modifying
     @Query("DELETE FROM ProcurementItem pi WHERE pi.fiscalYear.id = :fiscalYearId")
     void deleteByFiscalYearId(@Param("fiscalYearId") Long fiscalYearId);
+
+    /**
+     * Sum the committed price of active, non-cancelled procurement items per
+     * fiscal year, as scalar rows. The final price is used when set, otherwise
+     * the quoted price, both in CAD.
+     *
+     * @param fiscalYearIds the fiscal year IDs
+     * @return rows of [fiscalYearId, committedTotal]
+     */
+    @Query("SELECT p.fiscalYear.id, SUM(COALESCE(p.finalPriceCad, p.quotedPriceCad, 0)) "
+            + "FROM ProcurementItem p WHERE p.fiscalYear.id IN :fiscalYearIds AND p.active = true "
+            + "AND (p.trackingStatus IS NULL "
+            + "OR p.trackingStatus <> com.myrc.model.ProcurementItem.TrackingStatus.CANCELLED) "
+            + "GROUP BY p.fiscalYear.id")
+    List<Object[]> sumCommittedByFiscalYear(@Param("fiscalYearIds") Collection<Long> fiscalYearIds);
 }
@@ -10,6 +10,7 @@ import com.myrc.model.RCAccess.AccessLevel;
 import com.myrc.model.RCAccess.PrincipalType;
 import com.myrc.model.ResponsibilityCentre;
 import com.myrc.model.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -170,4 +171,23 @@ public interface RCAccessRepository extends JpaRepository<RCAccess, Long> {
    */
   @Query("SELECT a FROM RCAccess a WHERE a.responsibilityCentre = :rc AND a.accessLevel = 'OWNER'")
   List<RCAccess> findOwnersByRC(@Param("rc") ResponsibilityCentre rc);
+
+  /**
+   * Find every access record as scalar rows, without loading entities.
+   *
+   * @return rows of [rcId, linked user's username or null, principalIdentifier, accessLevel]
+   */
+  @Query("SELECT a.responsibilityCentre.id, u.username, a.principalIdentifier, a.accessLevel "
+      + "FROM RCAccess a LEFT JOIN a.user u")
+  List<Object[]> findAccessMatrixRows();
+
+  /**
+   * Find the access records of the given responsibility centres as scalar rows.
+   *
+   * @param rcIds the responsibility centre IDs
+   * @return rows of [rcId, linked user's username or null, principalIdentifier, accessLevel]
+   */
+  @Query("SELECT a.responsibilityCentre.id, u.username, a.principalIdentifier, a.accessLevel "
+      + "FROM RCAccess a LEFT JOIN a.user u WHERE a.responsibilityCentre.id IN :rcIds")
+  List<Object[]> findAccessMatrixRowsByRcIds(@Param("rcIds") Collection<Long> rcIds);
 }
@@ -7,9 +7,12 @@ package com.myrc.repository;
 
 import com.myrc.model.ResponsibilityCentre;
 import com.myrc.model.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -83,4 +86,43 @@ public interface ResponsibilityCentreRepository extends JpaRepository<Responsibi
    * @return list of active responsibility centres owned by the user
    */
   List<ResponsibilityCentre> findByOwnerAndActive(User owner, Boolean active);
+
+  /**
+   * Find only the name of a responsibility centre, without loading the entity graph.
+   *
+   * @param id the responsibility centre ID
+   * @return optional RC name
+   */
+  @Query("SELECT rc.name FROM ResponsibilityCentre rc WHERE rc.id = :id")
+  Optional<String> findNameById(@Param("id") Long id);
+
+  /**
+   * Find the owner username of every responsibility centre, as scalar rows.
+   *
+   * @return rows of [rcId, ownerUsername]
+   */
+  @Query("SELECT rc.id, o.username FROM ResponsibilityCentre rc JOIN rc.owner o")
+  List<Object[]> findOwnerUsernames();
+
+  /**
+   * Find the owner usernames of the given responsibility centres, as scalar rows.
+   *
+   * @param ids the responsibility centre IDs
+   * @return rows of [rcId, ownerUsername]
+   */
+  @Query("SELECT rc.id, o.username FROM ResponsibilityCentre rc JOIN rc.owner o WHERE rc.id IN :ids")
+  List<Object[]> findOwnerUsernamesByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Find the given responsibility centres with their fiscal years, as scalar
+   * rows ordered by RC name and fiscal year name. An RC without fiscal years
+   * has one row with null fiscal year columns.
+   *
+   * @param ids the responsibility centre IDs
+   * @return rows of [rcId, rcName, fiscalYearId, fiscalYearName, fiscalYearActive]
+   */
+  @Query("SELECT rc.id, rc.name, fy.id, fy.name, fy.active FROM ResponsibilityCentre rc "
+      + "LEFT JOIN FiscalYear fy ON fy.responsibilityCentre = rc "
+      + "WHERE rc.id IN :ids ORDER BY rc.name ASC, fy.name ASC")
+  List<Object[]> findFiscalYearRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
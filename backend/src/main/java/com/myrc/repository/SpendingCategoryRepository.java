@@ -12,11 +12,14 @@
  */
 package com.myrc.repository;
 
+import com.myrc.cache.CacheRegions;
 import com.myrc.model.FiscalYear;
 import com.myrc.model.SpendingCategory;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -39,6 +42,10 @@ public interface SpendingCategoryRepository extends JpaRepository<SpendingCatego
    * @param fiscalYearId the fiscal year ID
    * @return list of categories
    */
+  @QueryHints({
+      @QueryHint(name = CacheRegions.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = CacheRegions.HINT_CACHE_REGION, value = CacheRegions.SPENDING_CATEGORY_QUERY)
+  })
   @Query("SELECT c FROM SpendingCategory c WHERE c.fiscalYear.id = :fiscalYearId " +
          "ORDER BY c.displayOrder ASC, c.name ASC")
   List<SpendingCategory> findByFiscalYearIdOrderByDisplayOrderAscNameAsc(@Param("fiscalYearId") Long fiscalYearId);
@@ -49,6 +56,10 @@ public interface SpendingCategoryRepository extends JpaRepository<SpendingCatego
    * @param fiscalYearId the fiscal year ID
    * @return list of active categories
    */
+  @QueryHints({
+      @QueryHint(name = CacheRegions.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = CacheRegions.HINT_CACHE_REGION, value = CacheRegions.SPENDING_CATEGORY_QUERY)
+  })
   @Query("SELECT c FROM SpendingCategory c WHERE c.fiscalYear.id = :fiscalYearId AND c.active = true " +
          "ORDER BY c.displayOrder ASC, c.name ASC")
   List<SpendingCategory> findActiveCategoriesByFiscalYearId(@Param("fiscalYearId") Long fiscalYearId);
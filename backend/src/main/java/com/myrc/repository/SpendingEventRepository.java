@@ -12,6 +12,7 @@
  */
 package com.myrc.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.myrc.model.SpendingEvent;
+import com.myrc.model.SpendingEvent.EventType;
 import com.myrc.model.SpendingItem;
 
 /**
@@ -89,4 +91,27 @@ public interface SpendingEventRepository extends JpaRepository<SpendingEvent, Lo
     @Modifying
     @Query("DELETE FROM SpendingEvent e WHERE e.spendingItem.id = :spendingItemId")
     void deleteBySpendingItemId(@Param("spendingItemId") Long spendingItemId);
+
+    /**
+     * Sum the allocations of active spending items without active invoices
+     * per fiscal year and month of the item's first active event of one of
+     * {@code eventTypes}, in CAD where the converted amount is stored, as
+     * scalar rows. Items with invoices are dated by their invoices instead.
+     *
+     * @param fiscalYearIds the fiscal year IDs
+     * @param eventTypes the event types that mark the spending as incurred
+     * @return rows of [fiscalYearId, year, month, total]
+     */
+    @Query("SELECT si.fiscalYear.id, YEAR(e.eventDate), MONTH(e.eventDate), " +
+           "SUM(COALESCE(a.capAmountCad, a.capAmount) + COALESCE(a.omAmountCad, a.omAmount)) " +
+           "FROM SpendingEvent e JOIN e.spendingItem si JOIN SpendingMoneyAllocation a ON a.spendingItem = si " +
+           "WHERE si.fiscalYear.id IN :fiscalYearIds AND si.active = true " +
+           "AND e.active = true AND e.eventType IN :eventTypes " +
+           "AND NOT EXISTS (SELECT o.id FROM SpendingEvent o WHERE o.spendingItem = si AND o.active = true " +
+           "AND o.eventType IN :eventTypes " +
+           "AND (o.eventDate < e.eventDate OR (o.eventDate = e.eventDate AND o.id < e.id))) " +
+           "AND NOT EXISTS (SELECT i.id FROM SpendingInvoice i WHERE i.spendingItem = si AND i.active = true) " +
+           "GROUP BY si.fiscalYear.id, YEAR(e.eventDate), MONTH(e.eventDate)")
+    List<Object[]> sumUninvoicedByFiscalYearAndMonth(@Param("fiscalYearIds") Collection<Long> fiscalYearIds,
+                                                     @Param("eventTypes") Collection<EventType> eventTypes);
 }
@@ -15,6 +15,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,4 +53,22 @@ public interface SpendingInvoiceRepository extends JpaRepository<SpendingInvoice
      * Find all invoices for a spending item (including inactive).
      */
     List<SpendingInvoice> findBySpendingItem(SpendingItem spendingItem);
+
+    /**
+     * Sum the active invoices of active spending items per fiscal year and
+     * month, in CAD where the converted amount is stored, as scalar rows. An
+     * invoice is dated by its received date, else its processed date;
+     * undated invoices are left out.
+     *
+     * @param fiscalYearIds the fiscal year IDs
+     * @return rows of [fiscalYearId, year, month, total]
+     */
+    @Query("SELECT si.fiscalYear.id, YEAR(COALESCE(i.dateReceived, i.dateProcessed)), " +
+           "MONTH(COALESCE(i.dateReceived, i.dateProcessed)), SUM(COALESCE(i.amountCad, i.amount)) " +
+           "FROM SpendingInvoice i JOIN i.spendingItem si " +
+           "WHERE si.fiscalYear.id IN :fiscalYearIds AND si.active = true AND i.active = true " +
+           "AND COALESCE(i.dateReceived, i.dateProcessed) IS NOT NULL " +
+           "GROUP BY si.fiscalYear.id, YEAR(COALESCE(i.dateReceived, i.dateProcessed)), " +
+           "MONTH(COALESCE(i.dateReceived, i.dateProcessed))")
+    List<Object[]> sumByFiscalYearAndMonth(@Param("fiscalYearIds") Collection<Long> fiscalYearIds);
 }
@@ -0,0 +1,43 @@
+/*
+ * myRC - Spending Item Page Repository
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.repository;
+
+import com.myrc.dto.ItemListQuery;
+import com.myrc.model.SpendingItem;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Keyset-paginated, sorted and filtered access to a fiscal year's spending
+ * items.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public interface SpendingItemPageRepository {
+
+  /**
+   * Load one page of spending items.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param query sort, cursor, limit and filters
+   * @return the page and the cursor of the next one
+   * @throws InvalidListQueryException for invalid sort, cursor or filter values
+   */
+  KeysetPage<SpendingItem> findPage(Long fiscalYearId, ItemListQuery query);
+
+  /**
+   * Load one page of projected rows with only the requested columns.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param query sort, cursor, limit and filters
+   * @param fields the column names; {@code id} is always included
+   * @return the page of rows and the cursor of the next one
+   * @throws InvalidListQueryException for unknown columns or invalid sort, cursor or filter values
+   */
+  KeysetPage<Map<String, Object>> findRows(Long fiscalYearId, ItemListQuery query, Collection<String> fields);
+}
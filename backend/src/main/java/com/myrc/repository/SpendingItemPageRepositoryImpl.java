@@ -0,0 +1,191 @@
+/*
+ * myRC - Spending Item Page Repository Implementation
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.repository;
+
+import com.myrc.dto.ItemListQuery;
+import com.myrc.model.Currency;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.SpendingInvoice;
+import com.myrc.model.SpendingItem;
+import com.myrc.search.SearchDialect;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria-based implementation of {@link SpendingItemPageRepository}.
+ *
+ * <p>{@code amount} filters and sorts on the item's amount in its own
+ * currency; {@code trackingStatus} matches the linked procurement item's
+ * tracking status.</p>
+ *
+ * <p>Projected rows offer the item's own columns under their DTO names,
+ * plus {@code fiscalYearId}, {@code categoryId}, {@code categoryName}, the
+ * linked procurement item's {@code procurementItemId},
+ * {@code procurementItemName} and {@code procurementTrackingStatus}, and
+ * {@code invoiceCount} and {@code invoiceTotalCad} over active invoices.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class SpendingItemPageRepositoryImpl extends KeysetQuerySupport<SpendingItem>
+    implements SpendingItemPageRepository {
+
+  private static final Map<String, SortField<SpendingItem>> SORT_FIELDS = new LinkedHashMap<>();
+
+  static {
+    SORT_FIELDS.put("name", new SortField<>((cb, root) -> root.get("name"),
+        SpendingItem::getName, String.class, false));
+    SORT_FIELDS.put("vendor", new SortField<>((cb, root) -> root.get("vendor"),
+        SpendingItem::getVendor, String.class, true));
+    SORT_FIELDS.put("referenceNumber", new SortField<>((cb, root) -> root.get("referenceNumber"),
+        SpendingItem::getReferenceNumber, String.class, true));
+    SORT_FIELDS.put("category", new SortField<>(
+        (cb, root) -> root.join("category", JoinType.LEFT).get("name"),
+        item -> item.getCategory() != null ? item.getCategory().getName() : null,
+        String.class, true));
+    SORT_FIELDS.put("status", new SortField<>((cb, root) -> root.get("status").as(String.class),
+        item -> item.getStatus() != null ? item.getStatus().name() : null, String.class, false));
+    SORT_FIELDS.put("amount", new SortField<>((cb, root) -> root.get("amount"),
+        SpendingItem::getAmount, BigDecimal.class, true));
+    SORT_FIELDS.put("currency", new SortField<>((cb, root) -> root.get("currency").as(String.class),
+        item -> item.getCurrency() != null ? item.getCurrency().name() : null, String.class, false));
+    SORT_FIELDS.put("createdAt", new SortField<>((cb, root) -> root.get("createdAt"),
+        SpendingItem::getCreatedAt, LocalDateTime.class, false));
+    SORT_FIELDS.put("updatedAt", new SortField<>((cb, root) -> root.get("updatedAt"),
+        SpendingItem::getUpdatedAt, LocalDateTime.class, false));
+  }
+
+  private static final Map<String, Column<SpendingItem>> COLUMNS = new LinkedHashMap<>();
+
+  static {
+    for (String attribute : List.of("id", "name", "description", "vendor", "referenceNumber", "amount",
+        "ecoAmount", "status", "currency", "exchangeRate", "createdAt", "updatedAt", "version", "active")) {
+      COLUMNS.put(attribute, (cb, cq, root) -> root.get(attribute));
+    }
+    COLUMNS.put("fiscalYearId", (cb, cq, root) -> root.get("fiscalYear").get("id"));
+    COLUMNS.put("categoryId", (cb, cq, root) -> root.join("category", JoinType.LEFT).get("id"));
+    COLUMNS.put("categoryName", (cb, cq, root) -> root.join("category", JoinType.LEFT).get("name"));
+    COLUMNS.put("procurementItemId",
+        (cb, cq, root) -> root.join("procurementItem", JoinType.LEFT).get("id"));
+    COLUMNS.put("procurementItemName",
+        (cb, cq, root) -> root.join("procurementItem", JoinType.LEFT).get("name"));
+    COLUMNS.put("procurementTrackingStatus",
+        (cb, cq, root) -> root.join("procurementItem", JoinType.LEFT).get("trackingStatus"));
+    COLUMNS.put("invoiceCount", SpendingItemPageRepositoryImpl::activeInvoiceCount);
+    COLUMNS.put("invoiceTotalCad", SpendingItemPageRepositoryImpl::activeInvoiceTotalCad);
+  }
+
+  public SpendingItemPageRepositoryImpl() {
+    super(SpendingItem.class, SORT_FIELDS, "name", COLUMNS);
+  }
+
+  @Override
+  protected void addFilters(CriteriaBuilder cb, CriteriaQuery<?> cq,
+      Root<SpendingItem> root, Long fiscalYearId, ItemListQuery query,
+      List<Predicate> predicates) {
+    predicates.add(cb.equal(root.get("fiscalYear").get("id"), fiscalYearId));
+
+    if (hasText(query.getStatus())) {
+      try {
+        predicates.add(cb.equal(root.get("status"),
+            SpendingItem.Status.valueOf(query.getStatus().trim().toUpperCase())));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Invalid status: " + query.getStatus());
+      }
+    }
+    if (hasText(query.getTrackingStatus())) {
+      try {
+        predicates.add(cb.equal(
+            root.join("procurementItem", JoinType.LEFT).get("trackingStatus"),
+            ProcurementItem.TrackingStatus.valueOf(query.getTrackingStatus().trim().toUpperCase())));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Invalid tracking status: " + query.getTrackingStatus());
+      }
+    }
+    if (query.getCategoryId() != null) {
+      predicates.add(cb.equal(root.get("category").get("id"), query.getCategoryId()));
+    }
+    if (hasText(query.getVendor())) {
+      predicates.add(like(cb, root.get("vendor"), contains(query.getVendor())));
+    }
+    if (hasText(query.getSearch())) {
+      String pattern = contains(query.getSearch());
+      predicates.add(cb.or(
+          like(cb, root.get("name"), pattern),
+          like(cb, root.get("vendor"), pattern),
+          like(cb, root.get("referenceNumber"), pattern)));
+    }
+    if (query.getMinAmount() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(root.<BigDecimal>get("amount"), query.getMinAmount()));
+    }
+    if (query.getMaxAmount() != null) {
+      predicates.add(cb.lessThanOrEqualTo(root.<BigDecimal>get("amount"), query.getMaxAmount()));
+    }
+    if (query.getFromDate() != null) {
+      predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"),
+          query.getFromDate().atStartOfDay()));
+    }
+    if (query.getToDate() != null) {
+      predicates.add(cb.lessThan(root.<LocalDateTime>get("createdAt"),
+          query.getToDate().plusDays(1).atStartOfDay()));
+    }
+  }
+
+  @Override
+  protected Long idOf(SpendingItem entity) {
+    return entity.getId();
+  }
+
+  private static Expression<Long> activeInvoiceCount(CriteriaBuilder cb, CriteriaQuery<?> cq,
+      Root<SpendingItem> root) {
+    Subquery<Long> count = cq.subquery(Long.class);
+    Root<SpendingInvoice> invoice = count.from(SpendingInvoice.class);
+    count.select(cb.count(invoice)).where(
+        cb.equal(invoice.get("spendingItem"), root),
+        cb.isTrue(invoice.<Boolean>get("active")));
+    return count;
+  }
+
+  /**
+   * Sum of the active invoices in CAD, from the CAD amount stored at write
+   * time and, as {@link SpendingInvoice#getAmountInCAD()} does, the raw
+   * amount when no rate was known.
+   */
+  private static Expression<BigDecimal> activeInvoiceTotalCad(CriteriaBuilder cb, CriteriaQuery<?> cq,
+      Root<SpendingItem> root) {
+    Subquery<BigDecimal> total = cq.subquery(BigDecimal.class);
+    Root<SpendingInvoice> invoice = total.from(SpendingInvoice.class);
+    Expression<BigDecimal> inCad = cb.coalesce(invoice.<BigDecimal>get("amountCad"),
+        invoice.<BigDecimal>get("amount"));
+    total.select(cb.coalesce(cb.sum(inCad), BigDecimal.ZERO)).where(
+        cb.equal(invoice.get("spendingItem"), root),
+        cb.isTrue(invoice.<Boolean>get("active")));
+    return total;
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  private static Predicate like(CriteriaBuilder cb, Expression<String> column, String pattern) {
+    return cb.like(cb.lower(column), pattern, SearchDialect.LIKE_ESCAPE);
+  }
+
+  private static String contains(String value) {
+    return "%" + SearchDialect.escapeLike(value.trim().toLowerCase()) + "%";
+  }
+}
@@ -33,7 +33,8 @@ import java.util.Optional;
  * @since 2026-01-26
  */
 @Repository
-public interface SpendingItemRepository extends JpaRepository<SpendingItem, Long> {
+public interface SpendingItemRepository extends JpaRepository<SpendingItem, Long>,
+    SpendingItemPageRepository {
 
   /**
    * Find all spending items for a fiscal year ordered by category then name.
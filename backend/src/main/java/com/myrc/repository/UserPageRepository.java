@@ -0,0 +1,28 @@
+/*
+ * myRC - User Page Repository
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.repository;
+
+import com.myrc.dto.UserListQuery;
+import com.myrc.dto.UserSummaryDTO;
+
+/**
+ * Keyset-paginated and filtered access to user summaries.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public interface UserPageRepository {
+
+  /**
+   * Load one page of user summaries ordered by username.
+   *
+   * @param query direction, cursor, limit and filters
+   * @return the page and the cursor of the next one
+   * @throws InvalidListQueryException for an invalid cursor or filter values
+   */
+  KeysetPage<UserSummaryDTO> findSummaries(UserListQuery query);
+}
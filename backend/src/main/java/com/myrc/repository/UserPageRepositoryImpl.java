@@ -0,0 +1,139 @@
+/*
+ * myRC - User Page Repository Implementation
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.repository;
+
+import com.myrc.dto.UserListQuery;
+import com.myrc.dto.UserSummaryDTO;
+import com.myrc.model.User;
+import com.myrc.search.SearchDialect;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Criteria-based implementation of {@link UserPageRepository}.
+ *
+ * <p>Rows are selected as {@link UserSummaryDTO} constructor projections,
+ * so the eagerly fetched roles collection of {@link User} is not loaded per
+ * row; the roles of a page are read afterwards in one query. Usernames are
+ * unique, so the username alone is the keyset and the cursor uses the same
+ * encoding as the item lists.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class UserPageRepositoryImpl implements UserPageRepository {
+
+  private static final String SORT_KEY = "username";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public KeysetPage<UserSummaryDTO> findSummaries(UserListQuery query) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<UserSummaryDTO> cq = cb.createQuery(UserSummaryDTO.class);
+    Root<User> root = cq.from(User.class);
+    Path<String> username = root.get("username");
+
+    boolean descending;
+    int limit;
+    List<Predicate> predicates = new ArrayList<>();
+    try {
+      descending = query.isDescending();
+      limit = query.getEffectiveLimit();
+      addFilters(cb, root, query, predicates);
+      if (query.getCursor() != null) {
+        KeysetQuerySupport.Cursor cursor = KeysetQuerySupport.Cursor.decode(
+            query.getCursor(), SORT_KEY, descending, String.class);
+        String last = (String) cursor.value();
+        if (last == null) {
+          throw new IllegalArgumentException("Invalid cursor: missing username");
+        }
+        predicates.add(descending ? cb.lessThan(username, last) : cb.greaterThan(username, last));
+      }
+    } catch (InvalidListQueryException e) {
+      throw e;
+    } catch (IllegalArgumentException e) {
+      throw new InvalidListQueryException(e.getMessage(), e);
+    }
+
+    cq.select(cb.construct(UserSummaryDTO.class,
+            root.get("id"), username, root.get("email"), root.get("fullName"),
+            root.get("authProvider"), root.get("enabled"), root.get("accountLocked"),
+            root.get("lastLoginAt"), root.get("createdAt")))
+        .where(predicates.toArray(Predicate[]::new))
+        .orderBy(descending ? cb.desc(username) : cb.asc(username));
+
+    List<UserSummaryDTO> rows = entityManager.createQuery(cq).setMaxResults(limit + 1).getResultList();
+    List<UserSummaryDTO> page = rows.size() > limit ? new ArrayList<>(rows.subList(0, limit)) : rows;
+    loadRoles(page);
+    if (rows.size() <= limit) {
+      return new KeysetPage<>(page, null);
+    }
+    UserSummaryDTO last = page.get(limit - 1);
+    String next = new KeysetQuerySupport.Cursor(SORT_KEY, descending, last.getId(), last.getUsername())
+        .encode();
+    return new KeysetPage<>(page, next);
+  }
+
+  private static void addFilters(CriteriaBuilder cb, Root<User> root, UserListQuery query,
+      List<Predicate> predicates) {
+    if (hasText(query.getProvider())) {
+      try {
+        predicates.add(cb.equal(root.get("authProvider"),
+            User.AuthProvider.valueOf(query.getProvider().trim().toUpperCase())));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Invalid provider: " + query.getProvider());
+      }
+    }
+    if (query.getEnabled() != null) {
+      predicates.add(cb.equal(root.get("enabled"), query.getEnabled()));
+    }
+    if (query.getLocked() != null) {
+      predicates.add(cb.equal(root.get("accountLocked"), query.getLocked()));
+    }
+    if (hasText(query.getSearch())) {
+      String pattern = "%" + SearchDialect.escapeLike(query.getSearch().trim().toLowerCase()) + "%";
+      predicates.add(cb.or(
+          cb.like(cb.lower(root.<String>get("username")), pattern, SearchDialect.LIKE_ESCAPE),
+          cb.like(cb.lower(root.<String>get("email")), pattern, SearchDialect.LIKE_ESCAPE),
+          cb.like(cb.lower(root.<String>get("fullName")), pattern, SearchDialect.LIKE_ESCAPE)));
+    }
+  }
+
+  /**
+   * Fill in the roles of a page's users with a single query.
+   */
+  private void loadRoles(List<UserSummaryDTO> page) {
+    if (page.isEmpty()) {
+      return;
+    }
+    Map<Long, UserSummaryDTO> byId = page.stream()
+        .collect(Collectors.toMap(UserSummaryDTO::getId, Function.identity()));
+    List<Object[]> roles = entityManager.createQuery(
+            "SELECT u.id, r FROM User u JOIN u.roles r WHERE u.id IN :ids", Object[].class)
+        .setParameter("ids", byId.keySet())
+        .getResultList();
+    for (Object[] role : roles) {
+      byId.get((Long) role[0]).getRoles().add((String) role[1]);
+    }
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+}
@@ -25,7 +25,7 @@ import java.util.Optional;
 import java.util.List;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserPageRepository {
 
     /**
      * Find a user by username (case-sensitive)
@@ -145,4 +145,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return count of enabled users
      */
     long countByEnabledTrue();
+
+    /**
+     * Count users per authentication provider, enabled and locked status in
+     * one grouped query
+     * 
+     * @return rows of [authProvider, enabled, accountLocked, count]
+     */
+    @Query("SELECT u.authProvider, u.enabled, u.accountLocked, COUNT(u) FROM User u "
+            + "GROUP BY u.authProvider, u.enabled, u.accountLocked")
+    List<Object[]> aggregateUserCounts();
 }
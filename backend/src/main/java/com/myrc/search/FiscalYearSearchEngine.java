@@ -0,0 +1,220 @@
+/*
+ * myRC - Fiscal Year Search Engine
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.search;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ranked text search across the items of a fiscal year.
+ *
+ * <p>Each searchable column is one {@link Source}; the matching rows of all
+ * requested sources are combined with {@code UNION ALL}, every item keeps
+ * only its best-scoring column, and the items are ranked by score. On
+ * PostgreSQL each source is answered from a {@code pg_trgm} GIN index on
+ * {@code lower(column)} (see V9); elsewhere a plain {@code LIKE} is used.</p>
+ *
+ * <p>Runs in the caller's transaction, so read-only callers are served by a
+ * read replica.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class FiscalYearSearchEngine {
+
+  public static final String PROCUREMENT = "procurement";
+  public static final String SPENDING = "spending";
+  public static final String FUNDING = "funding";
+  public static final String TRAINING = "training";
+  public static final String TRAVEL = "travel";
+
+  /**
+   * A searchable column.
+   *
+   * @param type the item type reported in results
+   * @param field the field name reported in results
+   * @param weight multiplier applied to the column's score
+   * @param from the FROM clause; the item table must be aliased {@code i}
+   * @param column the column expression
+   */
+  record Source(String type, String field, double weight, String from, String column) {
+  }
+
+  /**
+   * An item's best match.
+   *
+   * @param type the item type
+   * @param id the item ID
+   * @param title the item name
+   * @param field the best-matching field
+   * @param text the best-matching field's value
+   * @param score the weighted score
+   */
+  public record Hit(String type, Long id, String title, String field, String text, double score) {
+  }
+
+  /**
+   * One page of hits.
+   *
+   * @param hits the hits, best first
+   * @param total the number of matching items
+   */
+  public record Result(List<Hit> hits, long total) {
+  }
+
+  private static final String PROCUREMENT_ITEMS = "procurement_items i";
+  private static final String SPENDING_ITEMS = "spending_items i";
+  private static final String FUNDING_ITEMS = "funding_items i";
+  private static final String TRAINING_ITEMS = "training_items i";
+  private static final String TRAVEL_ITEMS = "travel_items i";
+
+  static final List<Source> SOURCES = List.of(
+      new Source(PROCUREMENT, "name", 1.0, PROCUREMENT_ITEMS, "i.name"),
+      new Source(PROCUREMENT, "purchaseRequisition", 1.0, PROCUREMENT_ITEMS, "i.purchase_requisition"),
+      new Source(PROCUREMENT, "purchaseOrder", 1.0, PROCUREMENT_ITEMS, "i.purchase_order"),
+      new Source(PROCUREMENT, "contractNumber", 1.0, PROCUREMENT_ITEMS, "i.contract_number"),
+      new Source(PROCUREMENT, "vendor", 0.9, PROCUREMENT_ITEMS, "i.preferred_vendor"),
+      new Source(PROCUREMENT, "description", 0.6, PROCUREMENT_ITEMS, "i.description"),
+      new Source(PROCUREMENT, "quoteVendor", 0.8,
+          "procurement_quotes q JOIN procurement_items i ON i.id = q.procurement_item_id AND q.active = TRUE",
+          "q.vendor_name"),
+      new Source(PROCUREMENT, "quoteReference", 0.9,
+          "procurement_quotes q JOIN procurement_items i ON i.id = q.procurement_item_id AND q.active = TRUE",
+          "q.quote_reference"),
+      new Source(SPENDING, "name", 1.0, SPENDING_ITEMS, "i.name"),
+      new Source(SPENDING, "referenceNumber", 1.0, SPENDING_ITEMS, "i.reference_number"),
+      new Source(SPENDING, "vendor", 0.9, SPENDING_ITEMS, "i.vendor"),
+      new Source(SPENDING, "description", 0.6, SPENDING_ITEMS, "i.description"),
+      new Source(SPENDING, "invoice", 0.7,
+          "spending_invoices v JOIN spending_items i ON i.id = v.spending_item_id AND v.active = TRUE",
+          "v.comments"),
+      new Source(FUNDING, "name", 1.0, FUNDING_ITEMS, "i.name"),
+      new Source(FUNDING, "description", 0.6, FUNDING_ITEMS, "i.description"),
+      new Source(FUNDING, "comments", 0.6, FUNDING_ITEMS, "i.comments"),
+      new Source(TRAINING, "name", 1.0, TRAINING_ITEMS, "i.name"),
+      new Source(TRAINING, "provider", 0.9, TRAINING_ITEMS, "i.provider"),
+      new Source(TRAINING, "location", 0.7, TRAINING_ITEMS, "i.location"),
+      new Source(TRAINING, "description", 0.6, TRAINING_ITEMS, "i.description"),
+      new Source(TRAINING, "participant", 0.8,
+          "training_participants p JOIN training_items i ON i.id = p.training_item_id", "p.name"),
+      new Source(TRAVEL, "name", 1.0, TRAVEL_ITEMS, "i.name"),
+      new Source(TRAVEL, "emap", 1.0, TRAVEL_ITEMS, "i.emap"),
+      new Source(TRAVEL, "destination", 0.8, TRAVEL_ITEMS, "i.destination"),
+      new Source(TRAVEL, "purpose", 0.6, TRAVEL_ITEMS, "i.purpose"),
+      new Source(TRAVEL, "description", 0.6, TRAVEL_ITEMS, "i.description"),
+      new Source(TRAVEL, "traveller", 0.8,
+          "travel_travellers t JOIN travel_items i ON i.id = t.travel_item_id", "t.name"),
+      new Source(TRAVEL, "taac", 1.0,
+          "travel_travellers t JOIN travel_items i ON i.id = t.travel_item_id", "t.taac"));
+
+  /** The searchable item types, in catalogue order. */
+  public static final Set<String> TYPES = SOURCES.stream()
+      .map(Source::type)
+      .collect(Collectors.toCollection(LinkedHashSet::new));
+
+  private static final Logger logger = LoggerFactory.getLogger(FiscalYearSearchEngine.class);
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final DataSourceProperties dataSourceProperties;
+  private SearchDialect dialect = SearchDialect.GENERIC;
+
+  public FiscalYearSearchEngine(NamedParameterJdbcTemplate jdbcTemplate,
+      DataSourceProperties dataSourceProperties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSourceProperties = dataSourceProperties;
+  }
+
+  /**
+   * Use trigram matching when the datasource is PostgreSQL.
+   */
+  @PostConstruct
+  public void init() {
+    String url = dataSourceProperties.determineUrl();
+    dialect = url != null && url.startsWith("jdbc:postgresql:")
+        ? SearchDialect.POSTGRES : SearchDialect.GENERIC;
+    logger.info("Fiscal year search using {} matching", dialect);
+  }
+
+  /**
+   * Search the active items of a fiscal year.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param term the search term, at least two characters
+   * @param types the item types to search, all if empty
+   * @param offset the number of hits to skip
+   * @param limit the maximum number of hits
+   * @return the page of hits and the total number of matching items
+   */
+  public Result search(Long fiscalYearId, String term, Collection<String> types, int offset, int limit) {
+    String lowered = term.toLowerCase(Locale.ROOT);
+    String escaped = SearchDialect.escapeLike(lowered);
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("fy", fiscalYearId)
+        .addValue("term", lowered)
+        .addValue("pattern", "%" + escaped + "%")
+        .addValue("prefix", escaped + "%")
+        .addValue("limit", limit)
+        .addValue("offset", offset);
+
+    String hits = hitsSql(types);
+    String sql = "WITH hits AS (" + hits + "), "
+        + "ranked AS (SELECT item_type, item_id, title, field, match_text, score, "
+        + "ROW_NUMBER() OVER (PARTITION BY item_type, item_id ORDER BY score DESC, field) AS rn "
+        + "FROM hits) "
+        + "SELECT item_type, item_id, title, field, match_text, score, COUNT(*) OVER () AS total "
+        + "FROM ranked WHERE rn = 1 "
+        + "ORDER BY score DESC, title, item_type, item_id "
+        + "LIMIT :limit OFFSET :offset";
+
+    long[] total = {0};
+    List<Hit> page = jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+      total[0] = rs.getLong("total");
+      return new Hit(rs.getString("item_type"), rs.getLong("item_id"), rs.getString("title"),
+          rs.getString("field"), rs.getString("match_text"), rs.getDouble("score"));
+    });
+    if (page.isEmpty() && offset > 0) {
+      // Past the last page the window count has no row to ride on
+      Long count = jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM (SELECT DISTINCT item_type, item_id FROM (" + hits + ") h) c",
+          params, Long.class);
+      total[0] = count != null ? count : 0;
+    }
+    return new Result(page, total[0]);
+  }
+
+  SearchDialect getDialect() {
+    return dialect;
+  }
+
+  private String hitsSql(Collection<String> types) {
+    List<String> selects = new ArrayList<>();
+    for (Source source : SOURCES) {
+      if (!types.isEmpty() && !types.contains(source.type())) {
+        continue;
+      }
+      selects.add("SELECT '" + source.type() + "' AS item_type, i.id AS item_id, i.name AS title, '"
+          + source.field() + "' AS field, " + source.column() + " AS match_text, "
+          + dialect.score(source.column()) + " * " + source.weight() + " AS score "
+          + "FROM " + source.from() + " "
+          + "WHERE i.fiscal_year_id = :fy AND i.active = TRUE AND " + dialect.match(source.column()));
+    }
+    return String.join(" UNION ALL ", selects);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * myRC - Search Dialect
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.search;
+
+/**
+ * SQL for matching and scoring one searchable column.
+ *
+ * <p>Both dialects bind {@code :term} (the lower-cased search term),
+ * {@code :pattern} ({@code %term%}) and {@code :prefix} ({@code term%}),
+ * with {@code %}, {@code _} and {@code \} escaped. Scores are in [0, 1]:
+ * 1 for an exact match, 0.95 for a prefix match and 0.9 for a substring
+ * match.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public enum SearchDialect {
+
+  /**
+   * PostgreSQL with {@code pg_trgm}. Substring matches and fuzzy word
+   * matches ({@code <%}, word similarity above
+   * {@code pg_trgm.word_similarity_threshold}) are both answered from the
+   * GIN trigram index on {@code lower(column)}; fuzzy matches score their
+   * word similarity, scaled below substring matches.
+   */
+  POSTGRES {
+    @Override
+    String match(String column) {
+      return "(lower(" + column + ") LIKE :pattern ESCAPE '\\' OR :term <% lower(" + column + "))";
+    }
+
+    @Override
+    String score(String column) {
+      return "GREATEST(" + exactScore("lower(" + column + ")") + ", CAST(word_similarity(:term, lower("
+          + column + ")) AS DOUBLE PRECISION) * 0.85)";
+    }
+  },
+
+  /**
+   * Any other database (H2 in tests): case-insensitive substring matching
+   * without an index and without fuzzy matches.
+   */
+  GENERIC {
+    @Override
+    String match(String column) {
+      return "LOWER(" + column + ") LIKE :pattern ESCAPE '\\'";
+    }
+
+    @Override
+    String score(String column) {
+      return exactScore("LOWER(" + column + ")");
+    }
+  };
+
+  /**
+   * A predicate that is true when the column matches the term.
+   */
+  abstract String match(String column);
+
+  /**
+   * A DOUBLE expression scoring how well a matching column matches the term.
+   */
+  abstract String score(String column);
+
+  /** Escape character of the patterns built by {@link #escapeLike}. */
+  public static final char LIKE_ESCAPE = '\\';
+
+  private static String exactScore(String lowered) {
+    return "CAST(CASE WHEN " + lowered + " = :term THEN 1.0"
+        + " WHEN " + lowered + " LIKE :prefix ESCAPE '\\' THEN 0.95"
+        + " WHEN " + lowered + " LIKE :pattern ESCAPE '\\' THEN 0.9"
+        + " ELSE 0 END AS DOUBLE PRECISION)";
+  }
+
+  /**
+   * Escape LIKE wildcards in a search term, for a LIKE with
+   * {@link #LIKE_ESCAPE} as its escape character.
+   *
+   * @param term the term
+   * @return the term with {@code %}, {@code _} and {@code \} escaped
+   */
+  public static String escapeLike(String term) {
+    return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
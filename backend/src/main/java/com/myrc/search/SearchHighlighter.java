@@ -0,0 +1,97 @@
+/*
+ * myRC - Search Highlighter
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.search;
+
+/**
+ * Builds result snippets with the search term highlighted.
+ *
+ * <p>The snippet is HTML: the text is escaped and every case-insensitive
+ * occurrence of the term is wrapped in {@code <mark>}, so clients can insert
+ * it as markup without further escaping. Long text is cut to a window around
+ * the first occurrence, with an ellipsis on the cut sides. Fuzzy matches,
+ * which contain no exact occurrence, show the start of the text.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public final class SearchHighlighter {
+
+  /** Default snippet length in characters, before escaping. */
+  public static final int DEFAULT_WIDTH = 160;
+
+  private static final String ELLIPSIS = "…";
+
+  private SearchHighlighter() {
+  }
+
+  /**
+   * Highlight a term in a text.
+   *
+   * @param text the matched text, may be null
+   * @param term the search term
+   * @param width the maximum number of text characters in the snippet
+   * @return the HTML snippet, empty for null text
+   */
+  public static String highlight(String text, String term, int width) {
+    if (text == null || text.isEmpty()) {
+      return "";
+    }
+    int first = indexOfIgnoreCase(text, term, 0);
+    int start = 0;
+    if (first >= 0 && text.length() > width) {
+      start = Math.max(0, first - Math.max(0, (width - term.length()) / 2));
+    }
+    int end = Math.min(text.length(), start + width);
+    start = Math.max(0, end - width);
+
+    StringBuilder out = new StringBuilder();
+    if (start > 0) {
+      out.append(ELLIPSIS);
+    }
+    int position = start;
+    int match = first >= 0 ? indexOfIgnoreCase(text, term, start) : -1;
+    while (match >= 0 && match + term.length() <= end) {
+      escape(text, position, match, out);
+      out.append("<mark>");
+      escape(text, match, match + term.length(), out);
+      out.append("</mark>");
+      position = match + term.length();
+      match = indexOfIgnoreCase(text, term, position);
+    }
+    escape(text, position, end, out);
+    if (end < text.length()) {
+      out.append(ELLIPSIS);
+    }
+    return out.toString();
+  }
+
+  private static int indexOfIgnoreCase(String text, String term, int from) {
+    if (term.isEmpty()) {
+      return -1;
+    }
+    for (int i = from; i + term.length() <= text.length(); i++) {
+      if (text.regionMatches(true, i, term, 0, term.length())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static void escape(String text, int from, int to, StringBuilder out) {
+    for (int i = from; i < to; i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '&' -> out.append("&amp;");
+        case '<' -> out.append("&lt;");
+        case '>' -> out.append("&gt;");
+        case '"' -> out.append("&quot;");
+        case '\'' -> out.append("&#39;");
+        default -> out.append(c);
+      }
+    }
+  }
+}
@@ -11,6 +11,7 @@ import com.myrc.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.ldap.core.ContextSource;
 import org.springframework.stereotype.Service;
 
@@ -25,6 +26,8 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +47,7 @@ public class DirectorySearchServiceImpl implements DirectorySearchService {
     private final UserRepository userRepository;
     private final LdapProperties ldapProperties;
     private final ContextSource ldapContextSource;
+    private final Executor directoryLookupExecutor;
 
     /**
      * Constructor with optional LDAP context source injection.
@@ -51,14 +55,18 @@ public class DirectorySearchServiceImpl implements DirectorySearchService {
      * @param userRepository the user repository
      * @param ldapProperties the LDAP properties
      * @param ldapContextSource the LDAP context source (null when LDAP is disabled)
+     * @param directoryLookupExecutor executor for running the LDAP user search
+     *        alongside the database search (null to search sequentially)
      */
     public DirectorySearchServiceImpl(
             UserRepository userRepository,
             LdapProperties ldapProperties,
-            @Autowired(required = false) ContextSource ldapContextSource) {
+            @Autowired(required = false) ContextSource ldapContextSource,
+            @Autowired(required = false) @Qualifier("directoryLookupExecutor") Executor directoryLookupExecutor) {
         this.userRepository = userRepository;
         this.ldapProperties = ldapProperties;
         this.ldapContextSource = ldapContextSource;
+        this.directoryLookupExecutor = directoryLookupExecutor;
     }
 
     @Override
@@ -70,11 +78,23 @@ public class DirectorySearchServiceImpl implements DirectorySearchService {
         String normalizedQuery = query.trim().toLowerCase();
         Map<String, DirectorySearchService.SearchResult> results = new LinkedHashMap<>();
 
+        // Start the LDAP search first so it overlaps with the database query
+        CompletableFuture<Map<String, DirectorySearchService.SearchResult>> ldapSearch = null;
+        if (isLdapEnabled() && directoryLookupExecutor != null) {
+            ldapSearch = CompletableFuture.supplyAsync(() -> {
+                Map<String, DirectorySearchService.SearchResult> ldapResults = new LinkedHashMap<>();
+                searchLdapUsers(normalizedQuery, ldapResults);
+                return ldapResults;
+            }, directoryLookupExecutor);
+        }
+
         // Search application database users (empty query returns all)
         searchAppUsers(normalizedQuery, results);
 
-        // Search LDAP users if enabled
-        if (isLdapEnabled()) {
+        // Search LDAP users if enabled; application users take precedence
+        if (ldapSearch != null) {
+            ldapSearch.join().forEach(results::putIfAbsent);
+        } else if (isLdapEnabled()) {
             searchLdapUsers(normalizedQuery, results);
         }
 
@@ -0,0 +1,36 @@
+/*
+ * myRC - Fiscal Year Analytics Service Interface
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import com.myrc.dto.FiscalYearComparisonDTO;
+import com.myrc.repository.InvalidListQueryException;
+import java.util.List;
+
+/**
+ * Service interface for comparing the fiscal years of an RC.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public interface FiscalYearAnalyticsService {
+
+  /**
+   * Compare fiscal years of an RC: funding and spending totals per category
+   * and money with their change from the previous fiscal year, monthly burn
+   * and year-end forecasts.
+   *
+   * @param rcId the responsibility centre ID
+   * @param fiscalYearIds the fiscal years to compare, in display order
+   * @param username the requesting user's username
+   * @return the comparison
+   * @throws InvalidListQueryException if fewer than two or more than the
+   *         configured maximum of distinct fiscal years are given
+   * @throws IllegalArgumentException if a fiscal year is not found in the RC
+   *         or access is denied
+   */
+  FiscalYearComparisonDTO compare(Long rcId, List<Long> fiscalYearIds, String username);
+}
@@ -0,0 +1,299 @@
+/*
+ * myRC - Fiscal Year Analytics Service Implementation
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import com.myrc.config.AnalyticsProperties;
+import com.myrc.dto.FiscalYearComparisonDTO;
+import com.myrc.dto.FiscalYearComparisonDTO.ComparisonRow;
+import com.myrc.dto.FiscalYearComparisonDTO.ComparisonValue;
+import com.myrc.dto.FiscalYearComparisonDTO.FiscalYearSummary;
+import com.myrc.dto.FiscalYearComparisonDTO.MonthlyBurn;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.SpendingEvent;
+import com.myrc.repository.AllocationTotalRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.SpendingEventRepository;
+import com.myrc.repository.SpendingInvoiceRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of FiscalYearAnalyticsService.
+ *
+ * <p>All amounts come from grouped queries over the compared fiscal years
+ * at once: funding and spending per money and per category name from the
+ * running totals kept by the allocation ledger, and burn per calendar month
+ * from invoice dates and spending event dates. No item is loaded; the
+ * service only matches the grouped rows across fiscal years and derives
+ * deltas, running totals and forecasts from them.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Service
+@Transactional(readOnly = true)
+public class FiscalYearAnalyticsServiceImpl implements FiscalYearAnalyticsService {
+
+  /** Events that date the spending of an item without invoices. */
+  static final List<SpendingEvent.EventType> SPENT_EVENTS = List.of(
+      SpendingEvent.EventType.SECTION_34_PROVIDED, SpendingEvent.EventType.CREDIT_CARD_CLEARED);
+
+  private static final int MONTHS_PER_YEAR = 12;
+  private static final Pattern NAME_YEAR = Pattern.compile("(?<!\\d)((?:19|20)\\d{2})(?!\\d)");
+  private static final Comparator<String> CATEGORY_ORDER =
+      Comparator.comparing(String::isEmpty).thenComparing(Comparator.naturalOrder());
+
+  private final FiscalYearRepository fiscalYearRepository;
+  private final RCPermissionService permissionService;
+  private final MoneyRepository moneyRepository;
+  private final AllocationTotalRepository allocationTotalRepository;
+  private final SpendingInvoiceRepository invoiceRepository;
+  private final SpendingEventRepository spendingEventRepository;
+  private final AnalyticsProperties properties;
+
+  public FiscalYearAnalyticsServiceImpl(FiscalYearRepository fiscalYearRepository,
+      RCPermissionService permissionService,
+      MoneyRepository moneyRepository,
+      AllocationTotalRepository allocationTotalRepository,
+      SpendingInvoiceRepository invoiceRepository,
+      SpendingEventRepository spendingEventRepository,
+      AnalyticsProperties properties) {
+    this.fiscalYearRepository = fiscalYearRepository;
+    this.permissionService = permissionService;
+    this.moneyRepository = moneyRepository;
+    this.allocationTotalRepository = allocationTotalRepository;
+    this.invoiceRepository = invoiceRepository;
+    this.spendingEventRepository = spendingEventRepository;
+    this.properties = properties;
+  }
+
+  @Override
+  public FiscalYearComparisonDTO compare(Long rcId, List<Long> fiscalYearIds, String username) {
+    List<Long> ids = fiscalYearIds == null ? List.of()
+        : fiscalYearIds.stream().filter(Objects::nonNull).distinct().toList();
+    int max = properties.getMaxComparedFiscalYears();
+    if (ids.size() < 2 || ids.size() > max) {
+      throw new InvalidListQueryException("Between 2 and " + max + " fiscal years must be compared");
+    }
+    if (!permissionService.hasAccess(rcId, username)) {
+      throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+    }
+
+    Map<Long, FiscalYear> rcFiscalYears = new HashMap<>();
+    fiscalYearRepository.findByResponsibilityCentreId(rcId).forEach(fy -> rcFiscalYears.put(fy.getId(), fy));
+    Map<Long, FiscalYearSummary> summaries = new LinkedHashMap<>();
+    for (Long id : ids) {
+      FiscalYear fy = rcFiscalYears.get(id);
+      if (fy == null) {
+        throw new IllegalArgumentException("Fiscal Year not found: " + id);
+      }
+      FiscalYearSummary summary = new FiscalYearSummary(id, fy.getName());
+      LocalDate start = periodStart(fy.getName(), properties.getFiscalYearStartMonth());
+      if (start != null) {
+        summary.setPeriodStart(start);
+        summary.setPeriodEnd(start.plusYears(1).minusDays(1));
+      }
+      summaries.put(id, summary);
+    }
+
+    FiscalYearComparisonDTO comparison = new FiscalYearComparisonDTO();
+    comparison.setRcId(rcId);
+    comparison.setFiscalYears(new ArrayList<>(summaries.values()));
+    comparison.setMonies(compareMonies(ids, summaries));
+    comparison.setCategories(compareCategories(ids));
+    addBurn(ids, summaries);
+
+    FiscalYearSummary previous = null;
+    LocalDate today = LocalDate.now();
+    for (FiscalYearSummary summary : summaries.values()) {
+      if (previous != null) {
+        summary.setFundingDelta(summary.getFunding().subtract(previous.getFunding()));
+        summary.setSpendingDelta(summary.getSpending().subtract(previous.getSpending()));
+      }
+      forecast(summary, today);
+      previous = summary;
+    }
+    return comparison;
+  }
+
+  /**
+   * Funding and spending per money code; also fills the fiscal year totals.
+   */
+  private List<ComparisonRow> compareMonies(List<Long> ids, Map<Long, FiscalYearSummary> summaries) {
+    Map<Long, String> codes = new HashMap<>();
+    Map<String, ComparisonRow> rows = new LinkedHashMap<>();
+    for (Object[] row : moneyRepository.findSummaryRowsByFiscalYearIdIn(ids)) {
+      String code = ((String) row[2]).trim().toUpperCase(Locale.ROOT);
+      codes.put((Long) row[1], code);
+      rows.computeIfAbsent(code, key -> newRow(key, (String) row[3], ids));
+    }
+    for (Object[] row : allocationTotalRepository.sumByFiscalYearKindAndMoney(ids)) {
+      AllocationKind kind = (AllocationKind) row[1];
+      ComparisonRow money = rows.get(codes.get((Long) row[2]));
+      if (money == null || (kind != AllocationKind.FUNDING && kind != AllocationKind.SPENDING)) {
+        continue;
+      }
+      Long fiscalYearId = (Long) row[0];
+      BigDecimal amount = amount(row[3]).add(amount(row[4]));
+      ComparisonValue value = money.getValues().get(ids.indexOf(fiscalYearId));
+      FiscalYearSummary summary = summaries.get(fiscalYearId);
+      if (kind == AllocationKind.FUNDING) {
+        value.setFunding(value.getFunding().add(amount));
+        summary.setFunding(summary.getFunding().add(amount));
+      } else {
+        value.setSpending(value.getSpending().add(amount));
+        summary.setSpending(summary.getSpending().add(amount));
+      }
+    }
+    return withDeltas(rows.values());
+  }
+
+  /**
+   * Funding and spending per category name, ignoring case; uncategorized
+   * funding last.
+   */
+  private List<ComparisonRow> compareCategories(List<Long> ids) {
+    Map<String, ComparisonRow> rows = new TreeMap<>(CATEGORY_ORDER);
+    for (Object[] row : allocationTotalRepository.sumByFiscalYearKindAndCategory(ids)) {
+      AllocationKind kind = (AllocationKind) row[1];
+      BigDecimal amount = amount(row[3]).add(amount(row[4]));
+      if (kind == AllocationKind.FUNDING) {
+        ComparisonValue value = categoryValue(rows, row, ids);
+        value.setFunding(value.getFunding().add(amount));
+      } else if (kind == AllocationKind.SPENDING) {
+        ComparisonValue value = categoryValue(rows, row, ids);
+        value.setSpending(value.getSpending().add(amount));
+      }
+    }
+    return withDeltas(rows.values());
+  }
+
+  private static ComparisonValue categoryValue(Map<String, ComparisonRow> rows, Object[] row,
+      List<Long> ids) {
+    String name = row[2] != null ? ((String) row[2]).trim() : null;
+    String key = name != null ? name.toLowerCase(Locale.ROOT) : "";
+    return rows.computeIfAbsent(key, k -> newRow(k, name, ids))
+        .getValues().get(ids.indexOf((Long) row[0]));
+  }
+
+  private static ComparisonRow newRow(String key, String label, List<Long> ids) {
+    ComparisonRow row = new ComparisonRow(key, label);
+    ids.forEach(id -> row.getValues().add(new ComparisonValue(id)));
+    return row;
+  }
+
+  private static List<ComparisonRow> withDeltas(Iterable<ComparisonRow> rows) {
+    List<ComparisonRow> result = new ArrayList<>();
+    for (ComparisonRow row : rows) {
+      List<ComparisonValue> values = row.getValues();
+      for (int i = 1; i < values.size(); i++) {
+        ComparisonValue value = values.get(i);
+        value.setFundingDelta(value.getFunding().subtract(values.get(i - 1).getFunding()));
+        value.setSpendingDelta(value.getSpending().subtract(values.get(i - 1).getSpending()));
+      }
+      result.add(row);
+    }
+    return result;
+  }
+
+  /**
+   * Monthly burn from invoices and spent events, with running totals.
+   */
+  private void addBurn(List<Long> ids, Map<Long, FiscalYearSummary> summaries) {
+    Map<Long, TreeMap<YearMonth, MonthlyBurn>> months = new HashMap<>();
+    for (Object[] row : invoiceRepository.sumByFiscalYearAndMonth(ids)) {
+      MonthlyBurn burn = month(months, row);
+      burn.setInvoiced(burn.getInvoiced().add(amount(row[3])));
+    }
+    for (Object[] row : spendingEventRepository.sumUninvoicedByFiscalYearAndMonth(ids, SPENT_EVENTS)) {
+      MonthlyBurn burn = month(months, row);
+      burn.setFromEvents(burn.getFromEvents().add(amount(row[3])));
+    }
+    for (FiscalYearSummary summary : summaries.values()) {
+      BigDecimal cumulative = BigDecimal.ZERO;
+      for (MonthlyBurn burn : months.getOrDefault(summary.getFiscalYearId(), new TreeMap<>()).values()) {
+        burn.setTotal(burn.getInvoiced().add(burn.getFromEvents()));
+        cumulative = cumulative.add(burn.getTotal());
+        burn.setCumulative(cumulative);
+        summary.getMonthlyBurn().add(burn);
+      }
+      summary.setBurned(cumulative);
+    }
+  }
+
+  private static MonthlyBurn month(Map<Long, TreeMap<YearMonth, MonthlyBurn>> months, Object[] row) {
+    YearMonth month = YearMonth.of(((Number) row[1]).intValue(), ((Number) row[2]).intValue());
+    return months.computeIfAbsent((Long) row[0], id -> new TreeMap<>())
+        .computeIfAbsent(month, m -> new MonthlyBurn(m.toString()));
+  }
+
+  /**
+   * Fill the elapsed months, average burn and year-end forecast of a fiscal
+   * year as of {@code today}. The current month counts as elapsed.
+   *
+   * @param summary the fiscal year with its period and monthly burn
+   * @param today the reference date
+   */
+  static void forecast(FiscalYearSummary summary, LocalDate today) {
+    if (summary.getPeriodStart() == null || today.isBefore(summary.getPeriodStart())) {
+      return;
+    }
+    YearMonth current = YearMonth.from(today);
+    int elapsed = (int) Math.min(MONTHS_PER_YEAR,
+        YearMonth.from(summary.getPeriodStart()).until(current, ChronoUnit.MONTHS) + 1);
+    BigDecimal burnedToDate = summary.getMonthlyBurn().stream()
+        .filter(burn -> !YearMonth.parse(burn.getMonth()).isAfter(current))
+        .map(MonthlyBurn::getTotal)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    BigDecimal average = burnedToDate.divide(BigDecimal.valueOf(elapsed), 2, RoundingMode.HALF_UP);
+    BigDecimal forecast = elapsed == MONTHS_PER_YEAR ? summary.getBurned()
+        : burnedToDate.add(average.multiply(BigDecimal.valueOf(MONTHS_PER_YEAR - elapsed)));
+    summary.setMonthsElapsed(elapsed);
+    summary.setAverageMonthlyBurn(average);
+    summary.setForecastYearEnd(forecast);
+    summary.setForecastBalance(summary.getFunding().subtract(forecast));
+  }
+
+  /**
+   * The first day of a fiscal year, from the first four-digit year in its
+   * name.
+   *
+   * @param name the fiscal year name, e.g. "FY 2025-2026"
+   * @param startMonth the month fiscal years start in
+   * @return the start date, or null when the name has no year
+   */
+  static LocalDate periodStart(String name, int startMonth) {
+    Matcher matcher = NAME_YEAR.matcher(name != null ? name : "");
+    return matcher.find() ? LocalDate.of(Integer.parseInt(matcher.group(1)), startMonth, 1) : null;
+  }
+
+  private static BigDecimal amount(Object value) {
+    if (value == null) {
+      return BigDecimal.ZERO;
+    }
+    return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+  }
+}
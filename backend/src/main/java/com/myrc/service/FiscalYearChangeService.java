@@ -0,0 +1,51 @@
+/*
+ * myRC - Fiscal Year Change Service Interface
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import com.myrc.dto.FiscalYearChangesDTO;
+
+/**
+ * Service interface for the fiscal year delta-sync change feed.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public interface FiscalYearChangeService {
+
+  /**
+   * Get the items of a fiscal year that were created, updated or deleted
+   * after a watermark.
+   *
+   * <p>Without a watermark (or with one that is no longer covered by the
+   * retained feed) only the current version is returned, flagged
+   * {@code resyncRequired}.</p>
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param since the client's watermark, or null for an initial load
+   * @param username the requesting user's username
+   * @return the changes and the new watermark
+   * @throws IllegalArgumentException if the fiscal year is not found or access is denied
+   */
+  FiscalYearChangesDTO getChangesSince(Long fiscalYearId, Long since, String username);
+
+  /**
+   * Current change sequence of a fiscal year, without an access check.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @return the last sequence number, 0 if nothing was recorded yet
+   */
+  long getCurrentVersion(Long fiscalYearId);
+
+  /**
+   * Check that a user may read a fiscal year's changes.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param username the requesting user's username
+   * @throws IllegalArgumentException if the fiscal year is not found or access is denied
+   */
+  void verifyAccess(Long fiscalYearId, String username);
+}
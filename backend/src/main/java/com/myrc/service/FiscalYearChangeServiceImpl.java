@@ -0,0 +1,166 @@
+/*
+ * myRC - Fiscal Year Change Service Implementation
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import com.myrc.config.SyncProperties;
+import com.myrc.dto.FiscalYearChangesDTO;
+import com.myrc.model.ChangeEntityType;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FiscalYearChange;
+import com.myrc.model.FiscalYearChangeCounter;
+import com.myrc.repository.FiscalYearChangeCounterRepository;
+import com.myrc.repository.FiscalYearChangeRepository;
+import com.myrc.repository.FiscalYearRepository;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of FiscalYearChangeService.
+ *
+ * <p>Reads the sequence window {@code (since, last_seq]} from the change log,
+ * keeps the latest change per item and loads the upserted items through the
+ * owning services so they are mapped exactly as in the list endpoints. Items
+ * that no longer exist (or are no longer listed) by the time they are loaded
+ * are reported as deleted.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Service
+@Transactional(readOnly = true)
+public class FiscalYearChangeServiceImpl implements FiscalYearChangeService {
+
+  private final FiscalYearRepository fiscalYearRepository;
+  private final FiscalYearChangeRepository changeRepository;
+  private final FiscalYearChangeCounterRepository counterRepository;
+  private final RCPermissionService permissionService;
+  private final FundingItemService fundingItemService;
+  private final SpendingItemService spendingItemService;
+  private final ProcurementItemService procurementItemService;
+  private final TrainingItemService trainingItemService;
+  private final TravelItemService travelItemService;
+  private final SyncProperties syncProperties;
+
+  public FiscalYearChangeServiceImpl(FiscalYearRepository fiscalYearRepository,
+      FiscalYearChangeRepository changeRepository,
+      FiscalYearChangeCounterRepository counterRepository,
+      RCPermissionService permissionService,
+      FundingItemService fundingItemService,
+      SpendingItemService spendingItemService,
+      ProcurementItemService procurementItemService,
+      TrainingItemService trainingItemService,
+      TravelItemService travelItemService,
+      SyncProperties syncProperties) {
+    this.fiscalYearRepository = fiscalYearRepository;
+    this.changeRepository = changeRepository;
+    this.counterRepository = counterRepository;
+    this.permissionService = permissionService;
+    this.fundingItemService = fundingItemService;
+    this.spendingItemService = spendingItemService;
+    this.procurementItemService = procurementItemService;
+    this.trainingItemService = trainingItemService;
+    this.travelItemService = travelItemService;
+    this.syncProperties = syncProperties;
+  }
+
+  @Override
+  public FiscalYearChangesDTO getChangesSince(Long fiscalYearId, Long since, String username) {
+    verifyAccess(fiscalYearId, username);
+
+    FiscalYearChangeCounter counter = counterRepository.findById(fiscalYearId)
+        .orElse(new FiscalYearChangeCounter(fiscalYearId, 0L, 0L));
+    long version = counter.getLastSeq();
+
+    // A watermark ahead of this database (lagging replica, restored backup) or
+    // behind the retained feed cannot be served incrementally.
+    if (since == null || since <= 0 || since > version || since < counter.getPrunedSeq()) {
+      return new FiscalYearChangesDTO(fiscalYearId, since, version, true);
+    }
+    FiscalYearChangesDTO result = new FiscalYearChangesDTO(fiscalYearId, since, version, false);
+    if (since == version) {
+      return result;
+    }
+
+    // Latest change per item, grouped by collection
+    Map<ChangeEntityType, Map<Long, FiscalYearChange.ChangeType>> latest =
+        new EnumMap<>(ChangeEntityType.class);
+    int distinct = 0;
+    for (FiscalYearChange change : changeRepository.findInWindow(fiscalYearId, since, version)) {
+      Map<Long, FiscalYearChange.ChangeType> byId =
+          latest.computeIfAbsent(change.getEntityType(), type -> new LinkedHashMap<>());
+      if (byId.put(change.getEntityId(), change.getChangeType()) == null
+          && ++distinct > syncProperties.getMaxChanges()) {
+        result.setResyncRequired(true);
+        return result;
+      }
+    }
+
+    for (Map.Entry<ChangeEntityType, Map<Long, FiscalYearChange.ChangeType>> entry : latest.entrySet()) {
+      FiscalYearChangesDTO.CollectionChanges collection = new FiscalYearChangesDTO.CollectionChanges();
+      List<Long> upsertIds = new ArrayList<>();
+      entry.getValue().forEach((id, type) -> {
+        if (type == FiscalYearChange.ChangeType.DELETE) {
+          collection.getDeleted().add(id);
+        } else {
+          upsertIds.add(id);
+        }
+      });
+      if (!upsertIds.isEmpty()) {
+        Map<Long, Object> items = load(entry.getKey(), fiscalYearId, upsertIds, username);
+        collection.getUpserted().addAll(items.values());
+        for (Long id : upsertIds) {
+          if (!items.containsKey(id)) {
+            collection.getDeleted().add(id);
+          }
+        }
+      }
+      result.getChanges().put(entry.getKey().getCollection(), collection);
+    }
+    return result;
+  }
+
+  @Override
+  public void verifyAccess(Long fiscalYearId, String username) {
+    FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+        .orElseThrow(() -> new IllegalArgumentException("Fiscal Year not found"));
+    if (!permissionService.hasAccess(fy.getResponsibilityCentre().getId(), username)) {
+      throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+    }
+  }
+
+  @Override
+  public long getCurrentVersion(Long fiscalYearId) {
+    return counterRepository.findById(fiscalYearId)
+        .map(FiscalYearChangeCounter::getLastSeq)
+        .orElse(0L);
+  }
+
+  private Map<Long, Object> load(ChangeEntityType type, Long fiscalYearId, List<Long> ids,
+      String username) {
+    Map<Long, Object> byId = new LinkedHashMap<>();
+    switch (type) {
+      case FUNDING_ITEM -> fundingItemService.getFundingItemsByIds(fiscalYearId, ids, username)
+          .forEach(dto -> byId.put(dto.getId(), dto));
+      case SPENDING_ITEM -> spendingItemService.getSpendingItemsByIds(fiscalYearId, ids, username)
+          .forEach(dto -> byId.put(dto.getId(), dto));
+      case PROCUREMENT_ITEM ->
+          procurementItemService.getProcurementItemsByIds(fiscalYearId, ids, username)
+              .forEach(dto -> byId.put(dto.getId(), dto));
+      case TRAINING_ITEM -> trainingItemService.getTrainingItemsByIds(fiscalYearId, ids, username)
+          .forEach(dto -> byId.put(dto.getId(), dto));
+      case TRAVEL_ITEM -> travelItemService.getTravelItemsByIds(fiscalYearId, ids, username)
+          .forEach(dto -> byId.put(dto.getId(), dto));
+      default -> throw new IllegalStateException("Unhandled change entity type: " + type);
+    }
+    return byId;
+  }
+}
@@ -591,6 +591,9 @@ public class FiscalYearCloneServiceImpl implements FiscalYearCloneService {
       clonedAlloc.setMoney(mappedMoney);
       clonedAlloc.setCapAmount(srcAlloc.getCapAmount());
       clonedAlloc.setOmAmount(srcAlloc.getOmAmount());
+      // Keep the source's CAD amounts: a table-rate item has no rate of its own
+      clonedAlloc.setCapAmountCad(srcAlloc.getCapAmountCad());
+      clonedAlloc.setOmAmountCad(srcAlloc.getOmAmountCad());
       spendingMoneyAllocationRepository.save(clonedAlloc);
     }
   }
@@ -0,0 +1,43 @@
+/*
+ * myRC - Fiscal Year Search Service Interface
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import com.myrc.dto.SearchResultsDTO;
+import com.myrc.repository.InvalidListQueryException;
+
+/**
+ * Service interface for searching across all item types of a fiscal year.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public interface FiscalYearSearchService {
+
+  int DEFAULT_PAGE_SIZE = 20;
+  int MAX_PAGE_SIZE = 100;
+  int MIN_TERM_LENGTH = 2;
+  int MAX_TERM_LENGTH = 100;
+
+  /**
+   * Search names, descriptions, vendors, reference numbers, quotes,
+   * invoices, participants and travellers of a fiscal year's active items.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param query the search term
+   * @param types comma-separated item types to search (procurement, spending,
+   *        funding, training, travel), or null for all
+   * @param page the zero-based page number
+   * @param size the page size
+   * @param username the requesting user's username
+   * @return the ranked, highlighted hits of the page
+   * @throws InvalidListQueryException for a too short or too long term, an
+   *         unknown type or an invalid page
+   * @throws IllegalArgumentException if the fiscal year is not found or access is denied
+   */
+  SearchResultsDTO search(Long fiscalYearId, String query, String types, int page, int size,
+      String username);
+}
@@ -0,0 +1,101 @@
+/*
+ * myRC - Fiscal Year Search Service Implementation
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import com.myrc.dto.SearchResultDTO;
+import com.myrc.dto.SearchResultsDTO;
+import com.myrc.model.FiscalYear;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.search.FiscalYearSearchEngine;
+import com.myrc.search.SearchHighlighter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of FiscalYearSearchService.
+ *
+ * <p>Validates the request, checks access to the fiscal year's RC and
+ * highlights the best-matching field of each hit returned by the
+ * {@link FiscalYearSearchEngine}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Service
+@Transactional(readOnly = true)
+public class FiscalYearSearchServiceImpl implements FiscalYearSearchService {
+
+  private final FiscalYearRepository fiscalYearRepository;
+  private final RCPermissionService permissionService;
+  private final FiscalYearSearchEngine searchEngine;
+
+  public FiscalYearSearchServiceImpl(FiscalYearRepository fiscalYearRepository,
+      RCPermissionService permissionService,
+      FiscalYearSearchEngine searchEngine) {
+    this.fiscalYearRepository = fiscalYearRepository;
+    this.permissionService = permissionService;
+    this.searchEngine = searchEngine;
+  }
+
+  @Override
+  public SearchResultsDTO search(Long fiscalYearId, String query, String types, int page, int size,
+      String username) {
+    FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+        .orElseThrow(() -> new IllegalArgumentException("Fiscal Year not found"));
+    if (!permissionService.hasAccess(fy.getResponsibilityCentre().getId(), username)) {
+      throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+    }
+
+    String term = query != null ? query.trim() : "";
+    if (term.length() < MIN_TERM_LENGTH || term.length() > MAX_TERM_LENGTH) {
+      throw new InvalidListQueryException("Search term must be between " + MIN_TERM_LENGTH
+          + " and " + MAX_TERM_LENGTH + " characters");
+    }
+    if (page < 0 || page > Integer.MAX_VALUE / MAX_PAGE_SIZE) {
+      throw new InvalidListQueryException("Invalid page: " + page);
+    }
+    if (size < 1) {
+      throw new InvalidListQueryException("Invalid page size: " + size);
+    }
+    int pageSize = Math.min(size, MAX_PAGE_SIZE);
+    Set<String> typeSet = parseTypes(types);
+
+    FiscalYearSearchEngine.Result result =
+        searchEngine.search(fiscalYearId, term, typeSet, page * pageSize, pageSize);
+    List<SearchResultDTO> results = result.hits().stream()
+        .map(hit -> new SearchResultDTO(hit.type(), hit.id(), hit.title(), hit.field(),
+            SearchHighlighter.highlight(hit.text(), term, SearchHighlighter.DEFAULT_WIDTH),
+            hit.score()))
+        .collect(Collectors.toList());
+    return new SearchResultsDTO(term, page, pageSize, result.total(), results);
+  }
+
+  private static Set<String> parseTypes(String types) {
+    Set<String> parsed = new LinkedHashSet<>();
+    if (types == null || types.isBlank()) {
+      return parsed;
+    }
+    for (String type : types.split(",")) {
+      String normalized = type.trim().toLowerCase(Locale.ROOT);
+      if (normalized.isEmpty()) {
+        continue;
+      }
+      if (!FiscalYearSearchEngine.TYPES.contains(normalized)) {
+        throw new InvalidListQueryException("Invalid type: " + type.trim()
+            + " (allowed: " + String.join(", ", FiscalYearSearchEngine.TYPES) + ")");
+      }
+      parsed.add(normalized);
+    }
+    return parsed;
+  }
+}
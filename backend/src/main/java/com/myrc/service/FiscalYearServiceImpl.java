@@ -5,6 +5,8 @@
  */
 package com.myrc.service;
 
+import com.myrc.cache.FiscalYearStateCache;
+import com.myrc.cache.NameCache;
 import com.myrc.dto.FiscalYearDTO;
 import com.myrc.model.FiscalYear;
 import com.myrc.model.RCAccess;
@@ -42,12 +44,15 @@ public class FiscalYearServiceImpl implements FiscalYearService {
   private final CategoryService categoryService;
   private final RCPermissionService permissionService;
   private final FiscalYearCloneService fiscalYearCloneService;
+  private final NameCache nameCache;
+  private final FiscalYearStateCache fiscalYearStateCache;
 
   public FiscalYearServiceImpl(FiscalYearRepository fiscalYearRepository,
       ResponsibilityCentreRepository rcRepository, RCAccessRepository accessRepository,
       UserRepository userRepository, MoneyService moneyService,
       CategoryService categoryService, RCPermissionService permissionService,
-      FiscalYearCloneService fiscalYearCloneService) {
+      FiscalYearCloneService fiscalYearCloneService, NameCache nameCache,
+      FiscalYearStateCache fiscalYearStateCache) {
     this.fiscalYearRepository = fiscalYearRepository;
     this.rcRepository = rcRepository;
     this.accessRepository = accessRepository;
@@ -56,6 +61,8 @@ public class FiscalYearServiceImpl implements FiscalYearService {
     this.categoryService = categoryService;
     this.permissionService = permissionService;
     this.fiscalYearCloneService = fiscalYearCloneService;
+    this.nameCache = nameCache;
+    this.fiscalYearStateCache = fiscalYearStateCache;
   }
 
   @Override
@@ -169,6 +176,7 @@ public class FiscalYearServiceImpl implements FiscalYearService {
     }
 
     FiscalYear saved = fiscalYearRepository.save(fy);
+    nameCache.evictFiscalYear(fiscalYearId);
     return Optional.of(FiscalYearDTO.fromEntity(saved));
   }
 
@@ -195,6 +203,8 @@ public class FiscalYearServiceImpl implements FiscalYearService {
     }
 
     fiscalYearRepository.delete(fy);
+    nameCache.evictFiscalYear(fiscalYearId);
+    fiscalYearStateCache.evict(fiscalYearId);
   }
 
   @Override
@@ -296,6 +306,7 @@ public class FiscalYearServiceImpl implements FiscalYearService {
     // Toggle the active status
     fy.setActive(!fy.getActive());
     FiscalYear saved = fiscalYearRepository.save(fy);
+    fiscalYearStateCache.evict(fiscalYearId);
     logger.info("Toggled active status for fiscal year '" + fy.getName() + 
         "' to " + (fy.getActive() ? "active" : "inactive") + " by user " + username);
     return Optional.of(FiscalYearDTO.fromEntity(saved));
@@ -336,6 +347,7 @@ public class FiscalYearServiceImpl implements FiscalYearService {
 
     // Perform the deep clone
     FiscalYear clonedFY = fiscalYearCloneService.deepCloneFiscalYear(sourceFY, newName, rc);
+    fiscalYearStateCache.evict(clonedFY.getId());
 
     logger.info("Cloned fiscal year '" + sourceFY.getName() + "' as '" + newName
         + "' in RC '" + rc.getName() + "' by user " + username);
@@ -391,6 +403,7 @@ public class FiscalYearServiceImpl implements FiscalYearService {
 
     // Perform the deep clone to the target RC
     FiscalYear clonedFY = fiscalYearCloneService.deepCloneFiscalYear(sourceFY, newName, targetRC);
+    fiscalYearStateCache.evict(clonedFY.getId());
 
     logger.info("Cloned fiscal year '" + sourceFY.getName() + "' as '" + newName
         + "' from RC '" + sourceFY.getResponsibilityCentre().getName()
@@ -15,6 +15,7 @@ package com.myrc.service;
 import com.myrc.dto.FundingItemDTO;
 import com.myrc.dto.MoneyAllocationDTO;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +37,18 @@ public interface FundingItemService {
    */
   List<FundingItemDTO> getFundingItemsByFiscalYearId(Long fiscalYearId, String username);
 
+  /**
+   * Get specific funding items of a fiscal year, e.g. those listed in the change feed.
+   * IDs that do not exist or belong to another fiscal year are skipped.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param ids the item IDs
+   * @param username the requesting user's username
+   * @return the matching items, mapped as in the fiscal year list
+   * @throws IllegalArgumentException if user doesn't have access
+   */
+  List<FundingItemDTO> getFundingItemsByIds(Long fiscalYearId, Collection<Long> ids, String username);
+
   /**
    * Get a specific funding item by ID.
    *
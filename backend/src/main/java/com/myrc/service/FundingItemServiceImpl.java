@@ -34,6 +34,7 @@ import com.myrc.repository.ResponsibilityCentreRepository;
 import com.myrc.repository.UserRepository;
 import com.myrc.service.RCPermissionService;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -107,6 +108,21 @@ public class FundingItemServiceImpl implements FundingItemService {
         .collect(Collectors.toList());
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public List<FundingItemDTO> getFundingItemsByIds(Long fiscalYearId, Collection<Long> ids, String username) {
+    FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+        .orElseThrow(() -> new IllegalArgumentException("Fiscal Year not found"));
+    if (!hasAccessToRC(fy.getResponsibilityCentre().getId(), username)) {
+      throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+    }
+
+    return fundingItemRepository.findAllById(ids).stream()
+        .filter(fi -> fiscalYearId.equals(fi.getFiscalYear().getId()))
+        .map(FundingItemDTO::fromEntity)
+        .collect(Collectors.toList());
+  }
+
   @Override
   @Transactional(readOnly = true)
   public Optional<FundingItemDTO> getFundingItemById(Long fundingItemId, String username) {
@@ -0,0 +1,31 @@
+/*
+ * myRC - Portfolio Service Interface
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import com.myrc.dto.PortfolioDTO;
+import java.util.List;
+
+/**
+ * Service interface for the cross-RC portfolio dashboard.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public interface PortfolioService {
+
+  /**
+   * Get the totals of every fiscal year of every RC the user can access.
+   *
+   * <p>RCs that cannot be aggregated within the configured time budget are
+   * returned without totals and listed in {@code incompleteRcIds}.</p>
+   *
+   * @param username the requesting user's username
+   * @param groupIdentifiers list of LDAP group DNs the user belongs to (may be empty)
+   * @return the portfolio, RCs ordered by name and fiscal years by name
+   */
+  PortfolioDTO getPortfolio(String username, List<String> groupIdentifiers);
+}
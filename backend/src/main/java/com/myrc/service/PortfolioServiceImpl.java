@@ -0,0 +1,244 @@
+/*
+ * myRC - Portfolio Service Implementation
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import com.myrc.cache.FiscalYearTotalsCache;
+import com.myrc.config.PortfolioProperties;
+import com.myrc.dto.PortfolioDTO;
+import com.myrc.dto.PortfolioDTO.FiscalYearPortfolio;
+import com.myrc.dto.PortfolioDTO.FiscalYearTotals;
+import com.myrc.dto.PortfolioDTO.MoneyTotals;
+import com.myrc.dto.PortfolioDTO.RcPortfolio;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.RCAccess.AccessLevel;
+import com.myrc.repository.AllocationTotalRepository;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.ProcurementItemRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of PortfolioService.
+ *
+ * <p>The accessible RCs come from the permission service's access matrix and
+ * their fiscal years from one scalar query. Fiscal years whose totals are
+ * cached are answered from memory; the others are aggregated per RC, one
+ * task per RC running three queries over all of the RC's missing fiscal
+ * years. Allocation amounts come from the running totals kept by the
+ * allocation ledger, a few rows per fiscal year. A task reads in one
+ * read-write transaction, so with read replicas enabled it is routed to the
+ * primary: a lagging replica could otherwise return totals from before the
+ * change that evicted them, and they would be cached as current. Tasks run
+ * on a fixed pool shared by all requests and the request waits for them
+ * until its time budget is spent. Unfinished tasks are not cancelled once
+ * running, so their results still reach the cache.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Service
+public class PortfolioServiceImpl implements PortfolioService, DisposableBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(PortfolioServiceImpl.class);
+
+  private final RCPermissionService permissionService;
+  private final ResponsibilityCentreRepository rcRepository;
+  private final MoneyRepository moneyRepository;
+  private final AllocationTotalRepository allocationTotalRepository;
+  private final ProcurementItemRepository procurementItemRepository;
+  private final FiscalYearTotalsCache totalsCache;
+  private final TransactionTemplate primaryTransaction;
+  private final long timeBudgetNanos;
+  private final ThreadPoolExecutor executor;
+
+  public PortfolioServiceImpl(RCPermissionService permissionService,
+                              ResponsibilityCentreRepository rcRepository,
+                              MoneyRepository moneyRepository,
+                              AllocationTotalRepository allocationTotalRepository,
+                              ProcurementItemRepository procurementItemRepository,
+                              FiscalYearTotalsCache totalsCache,
+                              PlatformTransactionManager transactionManager,
+                              PortfolioProperties properties) {
+    this.permissionService = permissionService;
+    this.rcRepository = rcRepository;
+    this.moneyRepository = moneyRepository;
+    this.allocationTotalRepository = allocationTotalRepository;
+    this.procurementItemRepository = procurementItemRepository;
+    this.totalsCache = totalsCache;
+    this.primaryTransaction = new TransactionTemplate(transactionManager);
+    this.primaryTransaction.setReadOnly(false);
+    this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(properties.getTimeBudgetMs());
+    int threads = Math.max(1, properties.getAggregationThreads());
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+        Thread.ofPlatform().name("portfolio-", 0).daemon(true).factory());
+  }
+
+  @Override
+  public PortfolioDTO getPortfolio(String username, List<String> groupIdentifiers) {
+    long deadline = System.nanoTime() + timeBudgetNanos;
+    PortfolioDTO portfolio = new PortfolioDTO();
+    Map<Long, AccessLevel> access = permissionService.getAccessibleRCs(username, groupIdentifiers);
+    if (access.isEmpty()) {
+      return portfolio;
+    }
+
+    // RCs in name order, and the fiscal years of each RC whose totals are not cached
+    Map<Long, RcPortfolio> rcs = new LinkedHashMap<>();
+    Map<Long, Map<Long, FiscalYearPortfolio>> missing = new LinkedHashMap<>();
+    for (Object[] row : rcRepository.findFiscalYearRowsByIdIn(access.keySet())) {
+      Long rcId = (Long) row[0];
+      RcPortfolio rc = rcs.computeIfAbsent(rcId,
+          id -> new RcPortfolio(id, (String) row[1], access.get(id).name()));
+      if (row[2] == null) {
+        continue;
+      }
+      Long fiscalYearId = (Long) row[2];
+      FiscalYearPortfolio fiscalYear =
+          new FiscalYearPortfolio(fiscalYearId, (String) row[3], (Boolean) row[4]);
+      totalsCache.get(fiscalYearId).ifPresentOrElse(fiscalYear::setTotals,
+          () -> missing.computeIfAbsent(rcId, id -> new LinkedHashMap<>()).put(fiscalYearId, fiscalYear));
+      rc.getFiscalYears().add(fiscalYear);
+    }
+    portfolio.setResponsibilityCentres(new ArrayList<>(rcs.values()));
+
+    Map<Long, Future<Map<Long, FiscalYearTotals>>> tasks = new LinkedHashMap<>();
+    for (Map.Entry<Long, Map<Long, FiscalYearPortfolio>> entry : missing.entrySet()) {
+      List<Long> fiscalYearIds = new ArrayList<>(entry.getValue().keySet());
+      try {
+        tasks.put(entry.getKey(), executor.submit(() -> aggregate(fiscalYearIds)));
+      } catch (RejectedExecutionException e) {
+        portfolio.getIncompleteRcIds().add(entry.getKey());
+      }
+    }
+    for (Map.Entry<Long, Future<Map<Long, FiscalYearTotals>>> task : tasks.entrySet()) {
+      Long rcId = task.getKey();
+      try {
+        long remaining = Math.max(0L, deadline - System.nanoTime());
+        task.getValue().get(remaining, TimeUnit.NANOSECONDS)
+            .forEach((fiscalYearId, totals) -> missing.get(rcId).get(fiscalYearId).setTotals(totals));
+      } catch (TimeoutException e) {
+        // Not started yet: drop it; already running: let it finish and fill the cache
+        task.getValue().cancel(false);
+        portfolio.getIncompleteRcIds().add(rcId);
+      } catch (ExecutionException e) {
+        logger.warn("Portfolio aggregation failed for RC {}: {}", rcId, e.getCause().getMessage());
+        portfolio.getIncompleteRcIds().add(rcId);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        task.getValue().cancel(false);
+        portfolio.getIncompleteRcIds().add(rcId);
+      }
+    }
+    if (!portfolio.getIncompleteRcIds().isEmpty()) {
+      portfolio.setComplete(false);
+      logger.debug("Portfolio for {} incomplete: {} of {} RCs not aggregated in time",
+          username, portfolio.getIncompleteRcIds().size(), rcs.size());
+    }
+    return portfolio;
+  }
+
+  /**
+   * Compute and cache the totals of a set of fiscal years, read on the
+   * primary.
+   *
+   * @param fiscalYearIds the fiscal year IDs, typically those of one RC
+   * @return fiscal year ID to totals
+   */
+  Map<Long, FiscalYearTotals> aggregate(List<Long> fiscalYearIds) {
+    Map<Long, Long> generations = new HashMap<>();
+    fiscalYearIds.forEach(id -> generations.put(id, totalsCache.generation(id)));
+    Map<Long, FiscalYearTotals> result = primaryTransaction.execute(status -> load(fiscalYearIds));
+    result.forEach((fiscalYearId, totals) ->
+        totalsCache.put(fiscalYearId, totals, generations.get(fiscalYearId)));
+    return result;
+  }
+
+  /**
+   * Compute the totals of a set of fiscal years from their monies, running
+   * allocation totals and committed procurement.
+   */
+  private Map<Long, FiscalYearTotals> load(List<Long> fiscalYearIds) {
+    Map<Long, Map<Long, MoneyTotals>> monies = new HashMap<>();
+    for (Object[] row : moneyRepository.findSummaryRowsByFiscalYearIdIn(fiscalYearIds)) {
+      monies.computeIfAbsent((Long) row[0], id -> new LinkedHashMap<>())
+          .put((Long) row[1], new MoneyTotals((Long) row[1], (String) row[2], (String) row[3]));
+    }
+    for (Object[] row : allocationTotalRepository.sumByFiscalYearKindAndMoney(fiscalYearIds)) {
+      MoneyTotals money = money(monies, (Long) row[0], (Long) row[2]);
+      BigDecimal cap = amount(row[3]);
+      BigDecimal om = amount(row[4]);
+      switch ((AllocationKind) row[1]) {
+        case FUNDING -> {
+          money.setFundingCap(cap);
+          money.setFundingOm(om);
+        }
+        case SPENDING -> {
+          money.setSpendingCap(cap);
+          money.setSpendingOm(om);
+        }
+        case TRAINING -> money.setTraining(om);
+        case TRAVEL -> money.setTravel(om);
+      }
+    }
+    Map<Long, BigDecimal> committed = new HashMap<>();
+    for (Object[] row : procurementItemRepository.sumCommittedByFiscalYear(fiscalYearIds)) {
+      committed.put((Long) row[0], amount(row[1]));
+    }
+
+    Map<Long, FiscalYearTotals> result = new LinkedHashMap<>();
+    for (Long fiscalYearId : fiscalYearIds) {
+      FiscalYearTotals totals = new FiscalYearTotals();
+      for (MoneyTotals money : monies.getOrDefault(fiscalYearId, Map.of()).values()) {
+        totals.getMonies().add(money);
+        totals.setFunding(totals.getFunding().add(money.getFundingCap()).add(money.getFundingOm()));
+        totals.setSpending(totals.getSpending().add(money.getSpendingCap()).add(money.getSpendingOm()));
+        totals.setTraining(totals.getTraining().add(money.getTraining()));
+        totals.setTravel(totals.getTravel().add(money.getTravel()));
+      }
+      totals.setProcurementCommitted(committed.getOrDefault(fiscalYearId, BigDecimal.ZERO));
+      result.put(fiscalYearId, totals);
+    }
+    return result;
+  }
+
+  private static MoneyTotals money(Map<Long, Map<Long, MoneyTotals>> monies, Long fiscalYearId,
+      Long moneyId) {
+    return monies.computeIfAbsent(fiscalYearId, id -> new LinkedHashMap<>())
+        .computeIfAbsent(moneyId, id -> new MoneyTotals(id, null, null));
+  }
+
+  private static BigDecimal amount(Object value) {
+    if (value == null) {
+      return BigDecimal.ZERO;
+    }
+    return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+}
@@ -12,6 +12,8 @@
  */
 package com.myrc.service;
 
+import com.myrc.currency.CurrencyConverter;
+import com.myrc.dto.ItemListQuery;
 import com.myrc.dto.ProcurementItemDTO;
 import com.myrc.dto.ProcurementQuoteDTO;
 import com.myrc.dto.ProcurementQuoteFileDTO;
@@ -29,6 +31,7 @@ import com.myrc.model.SpendingItem;
 import com.myrc.model.User;
 import com.myrc.repository.CategoryRepository;
 import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.KeysetPage;
 import com.myrc.repository.ProcurementEventRepository;
 import com.myrc.repository.ProcurementItemRepository;
 import com.myrc.repository.ProcurementQuoteFileRepository;
@@ -40,7 +43,10 @@ import com.myrc.repository.SpendingItemRepository;
 import com.myrc.repository.UserRepository;
 import com.myrc.service.RCPermissionService;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -87,6 +93,7 @@ public class ProcurementItemServiceImpl implements ProcurementItemService {
     private final SpendingItemRepository spendingItemRepository;
     private final SpendingCategoryRepository spendingCategoryRepository;
     private final RCPermissionService permissionService;
+    private final CurrencyConverter currencyConverter;
 
     public ProcurementItemServiceImpl(ProcurementItemRepository procurementItemRepository,
                                        ProcurementQuoteRepository quoteRepository,
@@ -99,7 +106,8 @@ public class ProcurementItemServiceImpl implements ProcurementItemService {
                                        CategoryRepository categoryRepository,
                                        SpendingItemRepository spendingItemRepository,
                                        SpendingCategoryRepository spendingCategoryRepository,
-                                       RCPermissionService permissionService) {
+                                       RCPermissionService permissionService,
+                                       CurrencyConverter currencyConverter) {
         this.procurementItemRepository = procurementItemRepository;
         this.quoteRepository = quoteRepository;
         this.fileRepository = fileRepository;
@@ -112,6 +120,7 @@ public class ProcurementItemServiceImpl implements ProcurementItemService {
         this.spendingItemRepository = spendingItemRepository;
         this.spendingCategoryRepository = spendingCategoryRepository;
         this.permissionService = permissionService;
+        this.currencyConverter = currencyConverter;
     }
 
     // ==========================
@@ -139,6 +148,49 @@ public class ProcurementItemServiceImpl implements ProcurementItemService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProcurementItemDTO> getProcurementItemsByIds(Long fiscalYearId, Collection<Long> ids, String username) {
+        FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+                .orElseThrow(() -> new IllegalArgumentException("Fiscal Year not found"));
+        if (!hasAccessToRC(fy.getResponsibilityCentre().getId(), username)) {
+            throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+        }
+
+        return procurementItemRepository.findAllById(ids).stream()
+                .filter(item -> fiscalYearId.equals(item.getFiscalYear().getId())
+                        && Boolean.TRUE.equals(item.getActive()))
+                .map(ProcurementItemDTO::fromEntityWithoutQuotes)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProcurementItemDTO> getProcurementItemsPage(Long fiscalYearId, ItemListQuery query, String username) {
+        FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+                .orElseThrow(() -> new IllegalArgumentException("Fiscal Year not found"));
+        if (!hasAccessToRC(fy.getResponsibilityCentre().getId(), username)) {
+            throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+        }
+
+        KeysetPage<ProcurementItem> page = procurementItemRepository.findPage(fiscalYearId, query);
+        return new KeysetPage<>(page.items().stream()
+                .map(ProcurementItemDTO::fromEntityWithoutQuotes)
+                .collect(Collectors.toList()), page.nextCursor());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Map<String, Object>> getProcurementItemRows(Long fiscalYearId, ItemListQuery query, String fields, String username) {
+        FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+                .orElseThrow(() -> new IllegalArgumentException("Fiscal Year not found"));
+        if (!hasAccessToRC(fy.getResponsibilityCentre().getId(), username)) {
+            throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+        }
+
+        return procurementItemRepository.findRows(fiscalYearId, query, ItemListQuery.parseFields(fields));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ProcurementItemDTO> getProcurementItemsByFiscalYearIdAndStatus(Long fiscalYearId, String status, String username) {
@@ -275,18 +327,8 @@ public class ProcurementItemServiceImpl implements ProcurementItemService {
             item.setFinalPriceCurrency(com.myrc.model.Currency.CAD);
         }
         item.setFinalPriceExchangeRate(dto.getFinalPriceExchangeRate());
-        // Auto-compute finalPriceCad from price × exchangeRate
-        if (item.getFinalPrice() != null) {
-            if (item.getFinalPriceCurrency() == com.myrc.model.Currency.CAD) {
-                item.setFinalPriceCad(item.getFinalPrice());
-            } else if (item.getFinalPriceExchangeRate() != null) {
-                item.setFinalPriceCad(item.getFinalPrice().multiply(item.getFinalPriceExchangeRate()));
-            } else {
-                item.setFinalPriceCad(dto.getFinalPriceCad());
-            }
-        } else {
-            item.setFinalPriceCad(null);
-        }
+        item.setFinalPriceCad(priceCad(item.getFinalPrice(), item.getFinalPriceCurrency(),
+                item.getFinalPriceExchangeRate(), dto.getFinalPriceCad()));
 
         // Set quoted price fields
         item.setQuotedPrice(dto.getQuotedPrice());
@@ -300,18 +342,8 @@ public class ProcurementItemServiceImpl implements ProcurementItemService {
             item.setQuotedPriceCurrency(com.myrc.model.Currency.CAD);
         }
         item.setQuotedPriceExchangeRate(dto.getQuotedPriceExchangeRate());
-        // Auto-compute quotedPriceCad from price × exchangeRate
-        if (item.getQuotedPrice() != null) {
-            if (item.getQuotedPriceCurrency() == com.myrc.model.Currency.CAD) {
-                item.setQuotedPriceCad(item.getQuotedPrice());
-            } else if (item.getQuotedPriceExchangeRate() != null) {
-                item.setQuotedPriceCad(item.getQuotedPrice().multiply(item.getQuotedPriceExchangeRate()));
-            } else {
-                item.setQuotedPriceCad(dto.getQuotedPriceCad());
-            }
-        } else {
-            item.setQuotedPriceCad(null);
-        }
+        item.setQuotedPriceCad(priceCad(item.getQuotedPrice(), item.getQuotedPriceCurrency(),
+                item.getQuotedPriceExchangeRate(), dto.getQuotedPriceCad()));
         
         // Set category if provided
         if (dto.getCategoryId() != null) {
@@ -421,16 +453,8 @@ public class ProcurementItemServiceImpl implements ProcurementItemService {
         if (dto.getFinalPriceExchangeRate() != null) {
             item.setFinalPriceExchangeRate(dto.getFinalPriceExchangeRate());
         }
-        // Auto-compute finalPriceCad from price × exchangeRate
-        if (item.getFinalPrice() != null) {
-            if (item.getFinalPriceCurrency() == com.myrc.model.Currency.CAD) {
-                item.setFinalPriceCad(item.getFinalPrice());
-            } else if (item.getFinalPriceExchangeRate() != null) {
-                item.setFinalPriceCad(item.getFinalPrice().multiply(item.getFinalPriceExchangeRate()));
-            }
-        } else {
-            item.setFinalPriceCad(null);
-        }
+        item.setFinalPriceCad(priceCad(item.getFinalPrice(), item.getFinalPriceCurrency(),
+                item.getFinalPriceExchangeRate(), item.getFinalPriceCad()));
 
         // Update quoted price fields
         if (dto.getQuotedPrice() != null) {
@@ -446,16 +470,8 @@ public class ProcurementItemServiceImpl implements ProcurementItemService {
         if (dto.getQuotedPriceExchangeRate() != null) {
             item.setQuotedPriceExchangeRate(dto.getQuotedPriceExchangeRate());
         }
-        // Auto-compute quotedPriceCad from price × exchangeRate
-        if (item.getQuotedPrice() != null) {
-            if (item.getQuotedPriceCurrency() == com.myrc.model.Currency.CAD) {
-                item.setQuotedPriceCad(item.getQuotedPrice());
-            } else if (item.getQuotedPriceExchangeRate() != null) {
-                item.setQuotedPriceCad(item.getQuotedPrice().multiply(item.getQuotedPriceExchangeRate()));
-            }
-        } else {
-            item.setQuotedPriceCad(null);
-        }
+        item.setQuotedPriceCad(priceCad(item.getQuotedPrice(), item.getQuotedPriceCurrency(),
+                item.getQuotedPriceExchangeRate(), item.getQuotedPriceCad()));
         
         // Update category (null removes the category)
         if (dto.getCategoryId() != null) {
@@ -1002,6 +1018,25 @@ public class ProcurementItemServiceImpl implements ProcurementItemService {
     // Access Control Helpers
     // ==========================
 
+    /**
+     * CAD amount of a final or quoted price, stored at write time. Converted
+     * at the entered rate or the dated rate table; when neither gives a rate
+     * the client-supplied (or current) CAD amount is kept.
+     *
+     * @param price the price, may be null
+     * @param currency the price currency
+     * @param rate the entered exchange rate, may be null
+     * @param fallback the CAD amount to keep when no rate is known
+     * @return the CAD amount, or null when there is no price
+     */
+    private BigDecimal priceCad(BigDecimal price, Currency currency, BigDecimal rate, BigDecimal fallback) {
+        if (price == null) {
+            return null;
+        }
+        BigDecimal cad = currencyConverter.toCad(price, currency, rate, null);
+        return cad != null ? cad : fallback;
+    }
+
     /**
      * Check if a user has any access (read or write) to a Responsibility Centre.
      * Delegates to the centralized RCPermissionService which handles
@@ -8,7 +8,9 @@ package com.myrc.service;
 import com.myrc.dto.RCAccessDTO;
 import com.myrc.model.RCAccess.AccessLevel;
 import com.myrc.model.RCAccess.PrincipalType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -95,6 +97,37 @@ public interface RCPermissionService {
    */
   Optional<AccessLevel> getEffectiveAccessLevel(Long rcId, String username, List<String> groupIdentifiers);
 
+  /**
+   * Get every RC a user can access, with the highest access level, in one
+   * lookup. Covers ownership, direct grants and grants to the given groups.
+   *
+   * @param username the username
+   * @param groupIdentifiers list of groups the user belongs to
+   * @return RC ID to access level
+   */
+  Map<Long, AccessLevel> getAccessibleRCs(String username, List<String> groupIdentifiers);
+
+  /**
+   * Get the effective access levels of a user on several RCs in one lookup.
+   *
+   * @param rcIds the RC IDs
+   * @param username the username
+   * @param groupIdentifiers list of groups the user belongs to
+   * @return RC ID to access level, for the RCs the user can access
+   */
+  Map<Long, AccessLevel> getEffectiveAccessLevels(Collection<Long> rcIds, String username,
+                                                  List<String> groupIdentifiers);
+
+  /**
+   * Check if a user can edit content in every one of the given RCs.
+   *
+   * @param rcIds the RC IDs
+   * @param username the username
+   * @param groupIdentifiers list of LDAP group DNs the user belongs to (may be empty)
+   * @return true if user has OWNER or READ_WRITE access to all of them
+   */
+  boolean canEditContentInAll(Collection<Long> rcIds, String username, List<String> groupIdentifiers);
+
   /**
    * Check if a user can edit content (funding, spending, procurement).
    * Takes into account direct access and group membership.
@@ -5,6 +5,7 @@
  */
 package com.myrc.service;
 
+import com.myrc.cache.RCAccessMatrix;
 import com.myrc.config.LdapSecurityConfig;
 import com.myrc.dto.RCAccessDTO;
 import com.myrc.model.RCAccess;
@@ -16,7 +17,9 @@ import com.myrc.repository.RCAccessRepository;
 import com.myrc.repository.ResponsibilityCentreRepository;
 import com.myrc.repository.UserRepository;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -46,17 +49,20 @@ public class RCPermissionServiceImpl implements RCPermissionService {
   private final UserRepository userRepository;
   private final DirectorySearchService directorySearchService;
   private final UserService userService;
+  private final RCAccessMatrix accessMatrix;
 
   public RCPermissionServiceImpl(RCAccessRepository accessRepository,
                                   ResponsibilityCentreRepository rcRepository,
                                   UserRepository userRepository,
                                   DirectorySearchService directorySearchService,
-                                  UserService userService) {
+                                  UserService userService,
+                                  RCAccessMatrix accessMatrix) {
     this.accessRepository = accessRepository;
     this.rcRepository = rcRepository;
     this.userRepository = userRepository;
     this.directorySearchService = directorySearchService;
     this.userService = userService;
+    this.accessMatrix = accessMatrix;
   }
 
   @Override
@@ -150,6 +156,7 @@ public class RCPermissionServiceImpl implements RCPermissionService {
       RCAccess access = new RCAccess(rc, targetUser, accessLevel);
       access.setGrantedBy(grantingUser);
       RCAccess saved = accessRepository.save(access);
+      accessMatrix.evictRc(rcId);
       logger.info("Granted {} access to local user {} on RC {} by {}",
           accessLevel, principalIdentifier, rc.getName(), requestingUsername);
       return RCAccessDTO.fromEntity(saved);
@@ -183,6 +190,7 @@ public class RCPermissionServiceImpl implements RCPermissionService {
     RCAccess access = new RCAccess(rc, match.identifier(), displayName, PrincipalType.USER, accessLevel);
     access.setGrantedBy(grantingUser);
     RCAccess saved = accessRepository.save(access);
+    accessMatrix.evictRc(rcId);
     logger.info("Granted {} access to directory user {} on RC {} by {}",
         accessLevel, principalIdentifier, rc.getName(), requestingUsername);
     return RCAccessDTO.fromEntity(saved);
@@ -231,6 +239,7 @@ public class RCPermissionServiceImpl implements RCPermissionService {
     access.setGrantedBy(grantingUser);
 
     RCAccess saved = accessRepository.save(access);
+    accessMatrix.evictRc(rcId);
     logger.info("Granted {} access to {} {} on RC {} by {}",
         accessLevel, principalType, principalIdentifier, rc.getName(), requestingUsername);
 
@@ -291,6 +300,7 @@ public class RCPermissionServiceImpl implements RCPermissionService {
 
     access.setAccessLevel(newAccessLevel);
     RCAccess saved = accessRepository.save(access);
+    accessMatrix.evictRc(rc.getId());
     logger.info("Updated access {} to {} by {}", accessId, newAccessLevel, requestingUsername);
 
     return RCAccessDTO.fromEntity(saved);
@@ -349,6 +359,7 @@ public class RCPermissionServiceImpl implements RCPermissionService {
     }
 
     accessRepository.deleteAccessById(accessId);
+    accessMatrix.evictRc(rc.getId());
     logger.info("Revoked access {} by {}", accessId, requestingUsername);
   }
 
@@ -365,57 +376,40 @@ public class RCPermissionServiceImpl implements RCPermissionService {
   @Override
   @Transactional(readOnly = true)
   public Optional<AccessLevel> getEffectiveAccessLevel(Long rcId, String username, List<String> groupIdentifiers) {
-    Optional<ResponsibilityCentre> rcOpt = rcRepository.findById(rcId);
-    if (rcOpt.isEmpty()) {
-      return Optional.empty();
-    }
-
-    ResponsibilityCentre rc = rcOpt.get();
-    List<String> identifiers = groupIdentifiers != null ? new ArrayList<>(groupIdentifiers) : new ArrayList<>();
-
-    // Also include the username as an identifier so LDAP USER-type access records
-    // stored by principalIdentifier are matched
-    identifiers.add(username);
-
-    Optional<User> userOpt = userRepository.findByUsername(username);
-    if (userOpt.isPresent()) {
-      User user = userOpt.get();
+    return accessMatrix.levelFor(rcId, principals(username, groupIdentifiers));
+  }
 
-      // Check if user is the original owner (highest priority)
-      if (rc.getOwner().getId().equals(user.getId())) {
-        return Optional.of(AccessLevel.OWNER);
-      }
+  @Override
+  @Transactional(readOnly = true)
+  public Map<Long, AccessLevel> getAccessibleRCs(String username, List<String> groupIdentifiers) {
+    return accessMatrix.accessFor(principals(username, groupIdentifiers));
+  }
 
-      // Get all access records (direct User FK, principalIdentifier, and via groups)
-      List<RCAccess> allAccess = accessRepository.findAllAccessForUserInRC(rc, user, identifiers);
-      if (!allAccess.isEmpty()) {
-        return allAccess.stream()
-            .map(RCAccess::getAccessLevel)
-            .max((a, b) -> Integer.compare(getAccessRank(a), getAccessRank(b)));
-      }
-      return Optional.empty();
-    }
+  @Override
+  @Transactional(readOnly = true)
+  public Map<Long, AccessLevel> getEffectiveAccessLevels(Collection<Long> rcIds, String username,
+                                                         List<String> groupIdentifiers) {
+    return accessMatrix.levelsFor(rcIds, principals(username, groupIdentifiers));
+  }
 
-    // User not in local DB (LDAP user): check by principalIdentifier only
-    List<RCAccess> identifierAccess = accessRepository
-        .findByPrincipalIdentifierIn(identifiers);
-    List<RCAccess> rcAccess = identifierAccess.stream()
-        .filter(a -> a.getResponsibilityCentre().getId().equals(rcId))
-        .collect(Collectors.toList());
-    if (rcAccess.isEmpty()) {
-      return Optional.empty();
-    }
-    return rcAccess.stream()
-        .map(RCAccess::getAccessLevel)
-        .max((a, b) -> Integer.compare(getAccessRank(a), getAccessRank(b)));
+  @Override
+  @Transactional(readOnly = true)
+  public boolean canEditContentInAll(Collection<Long> rcIds, String username,
+                                     List<String> groupIdentifiers) {
+    Map<Long, AccessLevel> levels = getEffectiveAccessLevels(rcIds, username, groupIdentifiers);
+    return rcIds.stream().allMatch(rcId -> {
+      AccessLevel level = levels.get(rcId);
+      return level == AccessLevel.OWNER || level == AccessLevel.READ_WRITE;
+    });
   }
 
-  private int getAccessRank(AccessLevel level) {
-    return switch (level) {
-      case OWNER -> 3;
-      case READ_WRITE -> 2;
-      case READ_ONLY -> 1;
-    };
+  /**
+   * The identifiers a user's access can be granted to: the group DNs and the username.
+   */
+  private static List<String> principals(String username, List<String> groupIdentifiers) {
+    List<String> identifiers = groupIdentifiers != null ? new ArrayList<>(groupIdentifiers) : new ArrayList<>();
+    identifiers.add(username);
+    return identifiers;
   }
 
   @Override
@@ -435,15 +429,15 @@ public class RCPermissionServiceImpl implements RCPermissionService {
   @Override
   @Transactional(readOnly = true)
   public boolean hasAccess(Long rcId, String username) {
-    // Demo RC is accessible to all authenticated users
-    Optional<ResponsibilityCentre> rcOpt = rcRepository.findById(rcId);
-    if (rcOpt.isPresent() && DEMO_RC_NAME.equals(rcOpt.get().getName())) {
+    List<String> groupDns = extractGroupDnsFromSecurityContext();
+    // Granted access is known without loading the RC
+    if (getEffectiveAccessLevel(rcId, username, groupDns).isPresent()) {
       return true;
     }
 
-    List<String> groupDns = extractGroupDnsFromSecurityContext();
-    Optional<AccessLevel> level = getEffectiveAccessLevel(rcId, username, groupDns);
-    return level.isPresent();
+    // Demo RC is accessible to all authenticated users
+    Optional<ResponsibilityCentre> rcOpt = rcRepository.findById(rcId);
+    return rcOpt.isPresent() && DEMO_RC_NAME.equals(rcOpt.get().getName());
   }
 
   @Override
@@ -542,6 +536,7 @@ public class RCPermissionServiceImpl implements RCPermissionService {
     RCAccess formerOwnerAccess = new RCAccess(rc, oldOwner, AccessLevel.READ_WRITE);
     formerOwnerAccess.setGrantedBy(oldOwner);
     accessRepository.save(formerOwnerAccess);
+    accessMatrix.evictRc(rcId);
 
     logger.info("Ownership of RC '{}' transferred from {} to {}",
         rc.getName(), requestingUsername, transferTo.getUsername());
@@ -0,0 +1,51 @@
+/*
+ * myRC - Report Export Service Interface
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import com.myrc.report.ReportExport;
+import com.myrc.repository.InvalidListQueryException;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for streaming fiscal year lists as CSV or XLSX reports.
+ *
+ * <p>Exporting is split in two so that every check happens before the
+ * response is committed: {@link #prepare} validates the request and
+ * {@link #write} streams the rows, typically from the response thread of
+ * a streaming body.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public interface ReportExportService {
+
+  /**
+   * Validate a report request.
+   *
+   * @param rcId the responsibility centre ID
+   * @param fiscalYearId the fiscal year ID
+   * @param report the report name, e.g. {@code spending-items}
+   * @param format the file format, {@code csv} or {@code xlsx}
+   * @param username the requesting user's username
+   * @return the export to stream
+   * @throws InvalidListQueryException if the report or format is unknown
+   * @throws IllegalArgumentException if the fiscal year is not found in the
+   *         RC or access is denied
+   */
+  ReportExport prepare(Long rcId, Long fiscalYearId, String report, String format, String username);
+
+  /**
+   * Stream a report to an output stream, which is left open.
+   *
+   * @param export the export returned by {@link #prepare}
+   * @param out the stream to write to
+   * @return the number of rows written, header excluded
+   * @throws IOException if the stream fails
+   */
+  long write(ReportExport export, OutputStream out) throws IOException;
+}
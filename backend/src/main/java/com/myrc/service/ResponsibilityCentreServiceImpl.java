@@ -5,6 +5,9 @@
  */
 package com.myrc.service;
 
+import com.myrc.cache.FiscalYearStateCache;
+import com.myrc.cache.NameCache;
+import com.myrc.cache.RCAccessMatrix;
 import com.myrc.dto.ResponsibilityCentreDTO;
 import com.myrc.model.FiscalYear;
 import com.myrc.model.FundingItem;
@@ -77,6 +80,9 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
   private final ProcurementEventFileRepository procurementEventFileRepository;
   private final FiscalYearCloneService fiscalYearCloneService;
   private final AuditService auditService;
+  private final NameCache nameCache;
+  private final FiscalYearStateCache fiscalYearStateCache;
+  private final RCAccessMatrix accessMatrix;
 
   public ResponsibilityCentreServiceImpl(
       ResponsibilityCentreRepository rcRepository,
@@ -98,7 +104,10 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
       ProcurementEventRepository procurementEventRepository,
       ProcurementEventFileRepository procurementEventFileRepository,
       FiscalYearCloneService fiscalYearCloneService,
-      AuditService auditService) {
+      AuditService auditService,
+      NameCache nameCache,
+      FiscalYearStateCache fiscalYearStateCache,
+      RCAccessMatrix accessMatrix) {
     this.rcRepository = rcRepository;
     this.accessRepository = accessRepository;
     this.userRepository = userRepository;
@@ -119,6 +128,9 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
     this.procurementEventFileRepository = procurementEventFileRepository;
     this.fiscalYearCloneService = fiscalYearCloneService;
     this.auditService = auditService;
+    this.nameCache = nameCache;
+    this.fiscalYearStateCache = fiscalYearStateCache;
+    this.accessMatrix = accessMatrix;
   }
 
   private static final String DEMO_RC_NAME = "Demo";
@@ -235,6 +247,7 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
 
     ResponsibilityCentre rc = new ResponsibilityCentre(name, description, user);
     ResponsibilityCentre saved = rcRepository.save(rc);
+    accessMatrix.evictRc(saved.getId());
 
     return ResponsibilityCentreDTO.fromEntity(saved, username, "OWNER");
   }
@@ -333,6 +346,7 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
     rc.setName(name);
     rc.setDescription(description);
     ResponsibilityCentre updated = rcRepository.save(rc);
+    nameCache.evictRc(rcId);
 
     return Optional.of(ResponsibilityCentreDTO.fromEntity(updated, username, "OWNER"));
   }
@@ -369,6 +383,8 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
     
     for (FiscalYear fiscalYear : fiscalYears) {
       Long fyId = fiscalYear.getId();
+      nameCache.evictFiscalYear(fyId);
+      fiscalYearStateCache.evict(fyId);
       logger.debug("Deleting data for fiscal year {} (ID: {})", fiscalYear.getName(), fyId);
       
       // Delete spending events, allocations, and spending items first
@@ -424,6 +440,8 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
 
     // Finally, delete the RC itself
     rcRepository.deleteById(rcId);
+    nameCache.evictRc(rcId);
+    accessMatrix.evictRc(rcId);
     logger.info("Successfully deleted responsibility centre {} (ID: {})", rcName, rcId);
     
     return true;
@@ -471,6 +489,7 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
     // Create new access record
     RCAccess access = new RCAccess(rc, grantedTo, level);
     RCAccess saved = accessRepository.save(access);
+    accessMatrix.evictRc(rcId);
 
     return Optional.of(saved);
   }
@@ -502,6 +521,7 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
 
     User revokeFrom = revokeFromOpt.get();
     accessRepository.deleteByResponsibilityCentreAndUser(rc, revokeFrom);
+    accessMatrix.evictRc(rcId);
 
     return true;
   }
@@ -570,6 +590,7 @@ public class ResponsibilityCentreServiceImpl implements ResponsibilityCentreServ
     );
 
     ResponsibilityCentre saved = rcRepository.save(clonedRc);
+    accessMatrix.evictRc(saved.getId());
 
     // Deep-clone all fiscal years and their child data
     List<FiscalYear> sourceFiscalYears = fiscalYearRepository.findByResponsibilityCentreId(sourceRcId);
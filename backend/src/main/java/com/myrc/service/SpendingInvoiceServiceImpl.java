@@ -16,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.myrc.currency.CurrencyConverter;
 import com.myrc.dto.SpendingInvoiceDTO;
 import com.myrc.dto.SpendingInvoiceFileDTO;
 import com.myrc.model.Currency;
@@ -41,15 +42,18 @@ public class SpendingInvoiceServiceImpl implements SpendingInvoiceService {
     private final SpendingInvoiceFileRepository fileRepository;
     private final SpendingItemRepository spendingItemRepository;
     private final RCPermissionService permissionService;
+    private final CurrencyConverter currencyConverter;
 
     public SpendingInvoiceServiceImpl(SpendingInvoiceRepository invoiceRepository,
                                       SpendingInvoiceFileRepository fileRepository,
                                       SpendingItemRepository spendingItemRepository,
-                                      RCPermissionService permissionService) {
+                                      RCPermissionService permissionService,
+                                      CurrencyConverter currencyConverter) {
         this.invoiceRepository = invoiceRepository;
         this.fileRepository = fileRepository;
         this.spendingItemRepository = spendingItemRepository;
         this.permissionService = permissionService;
+        this.currencyConverter = currencyConverter;
     }
 
     @Override
@@ -104,12 +108,8 @@ public class SpendingInvoiceServiceImpl implements SpendingInvoiceService {
         invoice.setCurrency(currency);
         invoice.setExchangeRate(invoiceDTO.getExchangeRate());
 
-        // Calculate CAD amount
-        if (currency == Currency.CAD) {
-            invoice.setAmountCad(invoiceDTO.getAmount());
-        } else if (invoiceDTO.getExchangeRate() != null) {
-            invoice.setAmountCad(invoiceDTO.getAmount().multiply(invoiceDTO.getExchangeRate()));
-        }
+        // Store the CAD amount (entered rate, else the dated rate table)
+        currencyConverter.applyTo(invoice);
 
         invoice.setCreatedBy(username);
         invoice.setModifiedBy(username);
@@ -147,14 +147,8 @@ public class SpendingInvoiceServiceImpl implements SpendingInvoiceService {
         }
         invoice.setExchangeRate(invoiceDTO.getExchangeRate());
 
-        // Recalculate CAD amount
-        if (invoice.getCurrency() == Currency.CAD) {
-            invoice.setAmountCad(invoice.getAmount());
-        } else if (invoice.getExchangeRate() != null) {
-            invoice.setAmountCad(invoice.getAmount().multiply(invoice.getExchangeRate()));
-        } else {
-            invoice.setAmountCad(null);
-        }
+        // Recalculate the stored CAD amount
+        currencyConverter.applyTo(invoice);
 
         invoice.setModifiedBy(username);
 
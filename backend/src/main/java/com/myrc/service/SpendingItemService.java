@@ -12,9 +12,14 @@
  */
 package com.myrc.service;
 
+import com.myrc.dto.ItemListQuery;
 import com.myrc.dto.SpendingItemDTO;
 import com.myrc.dto.SpendingMoneyAllocationDTO;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.KeysetPage;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -36,6 +41,44 @@ public interface SpendingItemService {
    */
   List<SpendingItemDTO> getSpendingItemsByFiscalYearId(Long fiscalYearId, String username);
 
+  /**
+   * Get specific spending items of a fiscal year, e.g. those listed in the change feed.
+   * IDs that do not exist or belong to another fiscal year are skipped.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param ids the item IDs
+   * @param username the requesting user's username
+   * @return the matching items, mapped as in the fiscal year list
+   * @throws IllegalArgumentException if user doesn't have access
+   */
+  List<SpendingItemDTO> getSpendingItemsByIds(Long fiscalYearId, Collection<Long> ids, String username);
+
+  /**
+   * Get one keyset page of the spending items of a fiscal year, sorted and filtered.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param query sort, cursor, limit and filters
+   * @param username the requesting user's username
+   * @return the page of items and the cursor of the next page
+   * @throws IllegalArgumentException if user doesn't have access
+   * @throws InvalidListQueryException for an invalid sort, cursor or filter
+   */
+  KeysetPage<SpendingItemDTO> getSpendingItemsPage(Long fiscalYearId, ItemListQuery query, String username);
+
+  /**
+   * Get one keyset page of the spending items of a fiscal year as slim rows
+   * holding only the requested columns, without loading entities.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param query sort, cursor, limit and filters
+   * @param fields comma-separated column names (DTO property names); {@code id} is always included
+   * @param username the requesting user's username
+   * @return the page of rows and the cursor of the next page
+   * @throws IllegalArgumentException if user doesn't have access
+   * @throws InvalidListQueryException for an unknown column or an invalid sort, cursor or filter
+   */
+  KeysetPage<Map<String, Object>> getSpendingItemRows(Long fiscalYearId, ItemListQuery query, String fields, String username);
+
   /**
    * Get all spending items for a fiscal year filtered by category.
    *
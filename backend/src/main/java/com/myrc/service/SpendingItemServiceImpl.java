@@ -13,7 +13,9 @@
 package com.myrc.service;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -21,6 +23,8 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.myrc.currency.CurrencyConverter;
+import com.myrc.dto.ItemListQuery;
 import com.myrc.dto.SpendingItemDTO;
 import com.myrc.dto.SpendingMoneyAllocationDTO;
 import com.myrc.model.Category;
@@ -34,6 +38,7 @@ import com.myrc.model.SpendingMoneyAllocation;
 import com.myrc.model.User;
 import com.myrc.repository.CategoryRepository;
 import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.KeysetPage;
 import com.myrc.repository.MoneyRepository;
 import com.myrc.repository.ProcurementEventRepository;
 import com.myrc.repository.RCAccessRepository;
@@ -68,6 +73,7 @@ public class SpendingItemServiceImpl implements SpendingItemService {
   private final SpendingEventRepository spendingEventRepository;
   private final ProcurementEventRepository procurementEventRepository;
   private final RCPermissionService permissionService;
+  private final CurrencyConverter currencyConverter;
 
   public SpendingItemServiceImpl(SpendingItemRepository spendingItemRepository,
       CategoryRepository categoryRepository,
@@ -79,7 +85,8 @@ public class SpendingItemServiceImpl implements SpendingItemService {
       SpendingMoneyAllocationRepository allocationRepository,
       SpendingEventRepository spendingEventRepository,
       ProcurementEventRepository procurementEventRepository,
-      RCPermissionService permissionService) {
+      RCPermissionService permissionService,
+      CurrencyConverter currencyConverter) {
     this.spendingItemRepository = spendingItemRepository;
     this.categoryRepository = categoryRepository;
     this.fiscalYearRepository = fiscalYearRepository;
@@ -91,6 +98,7 @@ public class SpendingItemServiceImpl implements SpendingItemService {
     this.spendingEventRepository = spendingEventRepository;
     this.procurementEventRepository = procurementEventRepository;
     this.permissionService = permissionService;
+    this.currencyConverter = currencyConverter;
   }
 
   @Override
@@ -115,6 +123,48 @@ public class SpendingItemServiceImpl implements SpendingItemService {
         .collect(Collectors.toList());
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public List<SpendingItemDTO> getSpendingItemsByIds(Long fiscalYearId, Collection<Long> ids, String username) {
+    FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+        .orElseThrow(() -> new IllegalArgumentException("Fiscal Year not found"));
+    if (!hasAccessToRC(fy.getResponsibilityCentre().getId(), username)) {
+      throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+    }
+
+    return spendingItemRepository.findAllById(ids).stream()
+        .filter(si -> fiscalYearId.equals(si.getFiscalYear().getId()))
+        .map(si -> enrichEventTrackingInfo(SpendingItemDTO.fromEntity(si), si))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public KeysetPage<SpendingItemDTO> getSpendingItemsPage(Long fiscalYearId, ItemListQuery query, String username) {
+    FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+        .orElseThrow(() -> new IllegalArgumentException("Fiscal Year not found"));
+    if (!hasAccessToRC(fy.getResponsibilityCentre().getId(), username)) {
+      throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+    }
+
+    KeysetPage<SpendingItem> page = spendingItemRepository.findPage(fiscalYearId, query);
+    return new KeysetPage<>(page.items().stream()
+        .map(si -> enrichEventTrackingInfo(SpendingItemDTO.fromEntity(si), si))
+        .collect(Collectors.toList()), page.nextCursor());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public KeysetPage<Map<String, Object>> getSpendingItemRows(Long fiscalYearId, ItemListQuery query, String fields, String username) {
+    FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+        .orElseThrow(() -> new IllegalArgumentException("Fiscal Year not found"));
+    if (!hasAccessToRC(fy.getResponsibilityCentre().getId(), username)) {
+      throw new IllegalArgumentException("User does not have access to this Responsibility Centre");
+    }
+
+    return spendingItemRepository.findRows(fiscalYearId, query, ItemListQuery.parseFields(fields));
+  }
+
   @Override
   @Transactional(readOnly = true)
   public List<SpendingItemDTO> getSpendingItemsByFiscalYearIdAndCategoryId(Long fiscalYearId, Long categoryId, String username) {
@@ -282,6 +332,7 @@ public class SpendingItemServiceImpl implements SpendingItemService {
       spendingItem.addMoneyAllocation(allocation);
     }
 
+    currencyConverter.applyTo(spendingItem);
     spendingItemRepository.save(spendingItem);
   }
 
@@ -376,6 +427,10 @@ public class SpendingItemServiceImpl implements SpendingItemService {
       updateMoneyAllocations(si, dto.getMoneyAllocations());
     }
 
+    // Allocations are in the item's currency: restate them in CAD whenever
+    // the amounts, the currency or the rate may have changed
+    currencyConverter.applyTo(si);
+
     SpendingItem saved = spendingItemRepository.save(si);
     logger.info("Updated spending item '" + si.getName() + "' by user " + username);
 
@@ -526,6 +581,7 @@ public class SpendingItemServiceImpl implements SpendingItemService {
     }
 
     updateMoneyAllocations(si, allocations);
+    currencyConverter.applyTo(si);
     SpendingItem saved = spendingItemRepository.save(si);
     logger.info("Updated money allocations for spending item '" + si.getName() + "' by user " + username);
 
@@ -8,6 +8,7 @@ package com.myrc.service;
 import com.myrc.dto.TrainingItemDTO;
 import com.myrc.dto.TrainingMoneyAllocationDTO;
 import com.myrc.dto.TrainingParticipantDTO;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,18 @@ public interface TrainingItemService {
 
   List<TrainingItemDTO> getTrainingItemsByFiscalYearId(Long fiscalYearId, String username);
 
+  /**
+   * Get specific training items of a fiscal year, e.g. those listed in the change feed.
+   * IDs that do not exist or belong to another fiscal year are skipped.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param ids the item IDs
+   * @param username the requesting user's username
+   * @return the matching items, mapped as in the fiscal year list
+   * @throws IllegalArgumentException if user doesn't have access
+   */
+  List<TrainingItemDTO> getTrainingItemsByIds(Long fiscalYearId, Collection<Long> ids, String username);
+
   Optional<TrainingItemDTO> getTrainingItemById(Long trainingItemId, String username);
 
   TrainingItemDTO createTrainingItem(TrainingItemDTO trainingItemDTO, String username);
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -80,6 +81,22 @@ public class TrainingItemServiceImpl implements TrainingItemService {
         .collect(Collectors.toList());
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public List<TrainingItemDTO> getTrainingItemsByIds(Long fiscalYearId, Collection<Long> ids, String username) {
+    FiscalYear fy = fiscalYearRepository.findById(fiscalYearId)
+        .orElseThrow(() -> new IllegalArgumentException("Fiscal year not found: " + fiscalYearId));
+    Long rcId = fy.getResponsibilityCentre().getId();
+    if (!rcPermissionService.hasAccess(rcId, username)) {
+      throw new IllegalArgumentException("Access denied to responsibility centre: " + rcId);
+    }
+
+    return trainingItemRepository.findAllById(ids).stream()
+        .filter(item -> fiscalYearId.equals(item.getFiscalYear().getId()))
+        .map(TrainingItemDTO::fromEntity)
+        .collect(Collectors.toList());
+  }
+
   @Override
   @Transactional(readOnly = true)
   public Optional<TrainingItemDTO> getTrainingItemById(Long trainingItemId, String username) {
@@ -8,6 +8,7 @@ package com.myrc.service;
 import com.myrc.dto.TravelItemDTO;
 import com.myrc.dto.TravelMoneyAllocationDTO;
 import com.myrc.dto.TravelTravellerDTO;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,18 @@ public interface TravelItemService {
 
   List<TravelItemDTO> getTravelItemsByFiscalYearId(Long fiscalYearId, String username);
 
+  /**
+   * Get specific travel items of a fiscal year, e.g. those listed in the change feed.
+   * IDs that do not exist or belong to another fiscal year are skipped.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param ids the item IDs
+   * @param username the requesting user's username
+   * @return the matching items, mapped as in the fiscal year list
+   * @throws IllegalArgumentException if user doesn't have access
+   */
+  List<TravelItemDTO> getTravelItemsByIds(Long fiscalYearId, Collection<Long> ids, String username);
+
   Optional<TravelItemDTO> getTravelItemById(Long travelItemId, String username);
 
   TravelItemDTO createTravelItem(TravelItemDTO travelItemDTO, String username);
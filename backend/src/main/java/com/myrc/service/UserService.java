@@ -19,7 +19,11 @@ import com.myrc.dto.ChangePasswordRequest;
 import com.myrc.dto.CreateUserRequest;
 import com.myrc.dto.UpdateUserRequest;
 import com.myrc.dto.UserDTO;
+import com.myrc.dto.UserListQuery;
+import com.myrc.dto.UserStatsDTO;
+import com.myrc.dto.UserSummaryDTO;
 import com.myrc.model.User;
+import com.myrc.repository.KeysetPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -73,6 +77,15 @@ public interface UserService {
      */
     List<UserDTO> getEnabledUsers();
 
+    /**
+     * Get one page of user summaries, ordered by username
+     * 
+     * @param query direction, cursor, limit and filters
+     * @return the page and the cursor of the next one
+     * @throws com.myrc.repository.InvalidListQueryException for an invalid cursor or filter values
+     */
+    KeysetPage<UserSummaryDTO> getUserSummaries(UserListQuery query);
+
     /**
      * Update user profile
      * 
@@ -116,6 +129,7 @@ public interface UserService {
      * @param username the username
      * @param password the password
      * @return UserDTO if authentication successful
+     * @throws com.myrc.login.LoginThrottledException if too many logins are being verified
      */
     Optional<UserDTO> authenticate(String username, String password);
 
@@ -183,6 +197,13 @@ public interface UserService {
      */
     long getUserCountByProvider(String authProvider);
 
+    /**
+     * Get user counts by provider and status, computed in the database
+     * 
+     * @return the user statistics
+     */
+    UserStatsDTO getUserStats();
+
     /**
      * Create or update an OAuth2 user (upsert)
      * 
@@ -24,13 +24,20 @@ import java.util.stream.Collectors;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.myrc.dto.ChangePasswordRequest;
 import com.myrc.dto.CreateUserRequest;
 import com.myrc.dto.UpdateUserRequest;
 import com.myrc.dto.UserDTO;
+import com.myrc.dto.UserListQuery;
+import com.myrc.dto.UserStatsDTO;
+import com.myrc.dto.UserSummaryDTO;
+import com.myrc.login.LoginBookkeeper;
+import com.myrc.login.PasswordVerifier;
 import com.myrc.model.User;
+import com.myrc.repository.KeysetPage;
 import com.myrc.repository.UserRepository;
 
 @Service
@@ -40,14 +47,19 @@ public class UserServiceImpl implements UserService {
     private static final Logger logger = Logger.getLogger(UserServiceImpl.class.getName());
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginBookkeeper loginBookkeeper;
 
     // Account lockout configuration
-    private static final int MAX_FAILED_ATTEMPTS = 5;
-    private static final int LOCKOUT_DURATION_MINUTES = 30;
+    private static final int MAX_FAILED_ATTEMPTS = LoginBookkeeper.MAX_FAILED_ATTEMPTS;
+    private static final int LOCKOUT_DURATION_MINUTES = LoginBookkeeper.LOCKOUT_DURATION_MINUTES;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           PasswordVerifier passwordVerifier, LoginBookkeeper loginBookkeeper) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.passwordVerifier = passwordVerifier;
+        this.loginBookkeeper = loginBookkeeper;
     }
 
     /**
@@ -164,6 +176,15 @@ public class UserServiceImpl implements UserService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Get one page of user summaries
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<UserSummaryDTO> getUserSummaries(UserListQuery query) {
+        return userRepository.findSummaries(query);
+    }
+
     /**
      * Update user profile
      */
@@ -278,9 +299,21 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Authenticate a user
+     * Authenticate a user.
+     * The password is checked on the bounded verification pool and the login
+     * outcome is written in the background by {@link LoginBookkeeper}, so a
+     * successful login does not update the user row on the request thread.
+     * Hashes from an older encoder or strength are replaced after the check.
+     *
+     * <p>Runs without a transaction of its own: the user is read in the
+     * repository's short transaction and the pooled connection is returned
+     * before the password check, which may wait for a verification thread.
+     * A login burst therefore cannot drain the connection pool.</p>
+     *
+     * @throws com.myrc.login.LoginThrottledException if the verification pool is saturated
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<UserDTO> authenticate(String username, String password) {
 
         Optional<User> userOpt = userRepository.findByUsername(username);
@@ -307,6 +340,13 @@ public class UserServiceImpl implements UserService {
             }
         }
 
+        // Failed attempts not yet written count towards the lockout
+        int storedAttempts = user.getFailedLoginAttempts() == null ? 0 : user.getFailedLoginAttempts();
+        if (loginBookkeeper.effectiveFailedAttempts(user.getId(), storedAttempts) >= MAX_FAILED_ATTEMPTS) {
+            logger.warning("Authentication failed - account locked: {}: " + username);
+            return Optional.empty();
+        }
+
         // Check if account is enabled
         if (!user.getEnabled()) {
             logger.warning("Authentication failed - account disabled: {}: " + username);
@@ -314,17 +354,26 @@ public class UserServiceImpl implements UserService {
         }
 
         // Verify password
-        if (!verifyPassword(user, password)) {
-            recordFailedLoginAttempt(user.getId());
+        String storedHash = user.getPasswordHash();
+        if (!passwordVerifier.matches(password, storedHash)) {
+            loginBookkeeper.recordFailedLoginAttempt(user.getId());
             logger.warning("Authentication failed - invalid password for user: {}: " + username);
             return Optional.empty();
         }
 
         // Successful authentication
-        recordSuccessfulLogin(user.getId());
+        loginBookkeeper.recordSuccessfulLogin(user.getId());
+        if (passwordVerifier.needsRehash(storedHash)) {
+            Long userId = user.getId();
+            passwordVerifier.rehashInBackground(password,
+                newHash -> loginBookkeeper.recordRehash(userId, storedHash, newHash));
+        }
         logger.info("User authenticated successfully: {}: " + username);
 
-        return Optional.of(UserDTO.fromEntity(user));
+        // The entity is left unchanged so no update is flushed if a caller's transaction is joined
+        UserDTO authenticated = UserDTO.fromEntity(user);
+        authenticated.setLastLoginAt(LocalDateTime.now());
+        return Optional.of(authenticated);
     }
 
     /**
@@ -451,6 +500,37 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Get user statistics from one grouped count query
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserStatsDTO getUserStats() {
+        UserStatsDTO stats = new UserStatsDTO();
+        for (Object[] row : userRepository.aggregateUserCounts()) {
+            User.AuthProvider provider = (User.AuthProvider) row[0];
+            boolean enabled = Boolean.TRUE.equals(row[1]);
+            boolean locked = Boolean.TRUE.equals(row[2]);
+            long count = ((Number) row[3]).longValue();
+
+            stats.setTotalUsers(stats.getTotalUsers() + count);
+            if (enabled) {
+                stats.setEnabledUsers(stats.getEnabledUsers() + count);
+            } else {
+                stats.setDisabledUsers(stats.getDisabledUsers() + count);
+            }
+            if (locked) {
+                stats.setLockedUsers(stats.getLockedUsers() + count);
+            }
+            switch (provider) {
+                case LOCAL -> stats.setLocalUsers(stats.getLocalUsers() + count);
+                case LDAP -> stats.setLdapUsers(stats.getLdapUsers() + count);
+                case OAUTH2 -> stats.setOauth2Users(stats.getOauth2Users() + count);
+            }
+        }
+        return stats;
+    }
+
     /**
      * Create or update an OAuth2 user
      */
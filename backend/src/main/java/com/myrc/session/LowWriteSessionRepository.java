@@ -0,0 +1,275 @@
+/*
+ * myRC - Low-Write Session Repository
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.session;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+/**
+ * Session repository decorator that skips writes which would not change
+ * anything a later request reads.
+ *
+ * <p>The JDBC session store updates the {@code SPRING_SESSION} row on every
+ * request because the last-access time always changes, and rewrites an
+ * attribute whenever it is set, even to an equal value. This decorator:
+ * <ul>
+ *   <li>passes a new last-access time to the store at most once per touch
+ *       window, unless the row is written anyway (new session, changed id or
+ *       timeout), in which case the current time rides along</li>
+ *   <li>ignores {@code setAttribute} with a different but equal value, and
+ *       {@code removeAttribute} of an absent attribute; setting the same
+ *       instance again is still written, since it may have been mutated</li>
+ *   <li>skips {@code save} entirely, including its transaction, when nothing
+ *       is pending</li>
+ * </ul>
+ *
+ * <p>Sessions report their real last-access time and expire from it locally;
+ * the stored time lags by at most one window.</p>
+ *
+ * <p>Metrics: {@code myrc.session.writes.per.request} (rows written per
+ * saved request, 0 when skipped) and {@code myrc.session.saves} tagged
+ * {@code result=written|skipped}.</p>
+ *
+ * @param <S> the delegate's session type
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class LowWriteSessionRepository<S extends Session>
+    implements FindByIndexNameSessionRepository<LowWriteSessionRepository.TrackedSession<S>>,
+    DisposableBean {
+
+  private final FindByIndexNameSessionRepository<S> delegate;
+  private final Duration touchWindow;
+  private final DistributionSummary writesPerRequest;
+  private final Counter writtenSaves;
+  private final Counter skippedSaves;
+
+  public LowWriteSessionRepository(FindByIndexNameSessionRepository<S> delegate, Duration touchWindow,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.touchWindow = touchWindow;
+    this.writesPerRequest = DistributionSummary.builder("myrc.session.writes.per.request")
+        .description("Session rows written per saved request")
+        .register(meterRegistry);
+    this.writtenSaves = Counter.builder("myrc.session.saves").tag("result", "written")
+        .register(meterRegistry);
+    this.skippedSaves = Counter.builder("myrc.session.saves").tag("result", "skipped")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Wraps a repository whose session type is not accessible to the caller,
+   * such as {@code JdbcIndexedSessionRepository}.
+   *
+   * @param delegate the repository to decorate
+   * @param touchWindow minimum interval between last-access-only writes
+   * @param meterRegistry registry for the write metrics
+   * @return the decorator
+   */
+  public static LowWriteSessionRepository<?> wrap(FindByIndexNameSessionRepository<?> delegate,
+      Duration touchWindow, MeterRegistry meterRegistry) {
+    return create(delegate, touchWindow, meterRegistry);
+  }
+
+  private static <S extends Session> LowWriteSessionRepository<S> create(
+      FindByIndexNameSessionRepository<S> delegate, Duration touchWindow, MeterRegistry meterRegistry) {
+    return new LowWriteSessionRepository<>(delegate, touchWindow, meterRegistry);
+  }
+
+  @Override
+  public TrackedSession<S> createSession() {
+    return new TrackedSession<>(delegate.createSession(), true, touchWindow);
+  }
+
+  @Override
+  public void save(TrackedSession<S> session) {
+    int writes = session.pendingWrites();
+    if (writes == 0) {
+      skippedSaves.increment();
+    } else {
+      session.flushLastAccessedTime();
+      delegate.save(session.delegate);
+      writtenSaves.increment();
+    }
+    writesPerRequest.record(writes);
+    session.markSaved();
+  }
+
+  @Override
+  public TrackedSession<S> findById(String id) {
+    S session = delegate.findById(id);
+    return session == null ? null : new TrackedSession<>(session, false, touchWindow);
+  }
+
+  @Override
+  public void deleteById(String id) {
+    delegate.deleteById(id);
+  }
+
+  @Override
+  public Map<String, TrackedSession<S>> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+    Map<String, TrackedSession<S>> sessions = new LinkedHashMap<>();
+    delegate.findByIndexNameAndIndexValue(indexName, indexValue)
+        .forEach((id, session) -> sessions.put(id, new TrackedSession<>(session, false, touchWindow)));
+    return sessions;
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    if (delegate instanceof DisposableBean disposable) {
+      disposable.destroy();
+    }
+  }
+
+  /**
+   * Session view that records which changes must reach the store.
+   *
+   * @param <S> the delegate's session type
+   */
+  public static final class TrackedSession<S extends Session> implements Session {
+
+    private final S delegate;
+    private final Duration touchWindow;
+    private boolean isNew;
+    private boolean rowChanged;
+    private final Set<String> changedAttributes = new HashSet<>();
+    private Instant lastAccessedTime;
+    private Instant storedLastAccessedTime;
+
+    TrackedSession(S delegate, boolean isNew, Duration touchWindow) {
+      this.delegate = delegate;
+      this.isNew = isNew;
+      this.touchWindow = touchWindow;
+      this.lastAccessedTime = delegate.getLastAccessedTime();
+      this.storedLastAccessedTime = lastAccessedTime;
+    }
+
+    @Override
+    public String getId() {
+      return delegate.getId();
+    }
+
+    @Override
+    public String changeSessionId() {
+      rowChanged = true;
+      return delegate.changeSessionId();
+    }
+
+    @Override
+    public <T> T getAttribute(String attributeName) {
+      return delegate.getAttribute(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+      return delegate.getAttributeNames();
+    }
+
+    @Override
+    public void setAttribute(String attributeName, Object attributeValue) {
+      if (attributeValue == null) {
+        removeAttribute(attributeName);
+        return;
+      }
+      Object current = delegate.getAttribute(attributeName);
+      if (current != attributeValue && attributeValue.equals(current)) {
+        return;
+      }
+      delegate.setAttribute(attributeName, attributeValue);
+      changedAttributes.add(attributeName);
+    }
+
+    @Override
+    public void removeAttribute(String attributeName) {
+      if (delegate.getAttribute(attributeName) == null) {
+        return;
+      }
+      delegate.removeAttribute(attributeName);
+      changedAttributes.add(attributeName);
+    }
+
+    @Override
+    public Instant getCreationTime() {
+      return delegate.getCreationTime();
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+      this.lastAccessedTime = lastAccessedTime;
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+      return lastAccessedTime;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+      if (!Objects.equals(interval, delegate.getMaxInactiveInterval())) {
+        delegate.setMaxInactiveInterval(interval);
+        rowChanged = true;
+      }
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+      return delegate.getMaxInactiveInterval();
+    }
+
+    @Override
+    public boolean isExpired() {
+      Duration maxInactive = getMaxInactiveInterval();
+      return !maxInactive.isNegative()
+          && Instant.now().minus(maxInactive).isAfter(lastAccessedTime);
+    }
+
+    /**
+     * Whether the next save writes the session row: it is new, its id or
+     * timeout changed, or its stored last-access time is a window old.
+     */
+    boolean sessionRowDue() {
+      return isNew || rowChanged
+          || Duration.between(storedLastAccessedTime, lastAccessedTime).compareTo(touchWindow) >= 0;
+    }
+
+    /**
+     * Rows the next save writes: the session row if due, plus one per
+     * changed attribute.
+     */
+    int pendingWrites() {
+      return (sessionRowDue() ? 1 : 0) + changedAttributes.size();
+    }
+
+    /**
+     * Passes the current last-access time to the store if the session row
+     * is written anyway; otherwise the store keeps the older time.
+     */
+    void flushLastAccessedTime() {
+      if (sessionRowDue()) {
+        delegate.setLastAccessedTime(lastAccessedTime);
+        storedLastAccessedTime = lastAccessedTime;
+      }
+    }
+
+    void markSaved() {
+      isNew = false;
+      rowChanged = false;
+      changedAttributes.clear();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * myRC - Change Feed Pruner
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import com.myrc.config.SyncProperties;
+import com.myrc.repository.FiscalYearChangeCounterRepository;
+import com.myrc.repository.FiscalYearChangeRepository;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Removes change feed entries older than the retention period.
+ *
+ * <p>The pruned watermark of each counter is advanced first so that clients
+ * holding a version inside the removed range are told to resync instead of
+ * silently missing changes.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class ChangeFeedPruner {
+
+  private static final Logger log = LoggerFactory.getLogger(ChangeFeedPruner.class);
+
+  private final FiscalYearChangeRepository changeRepository;
+  private final FiscalYearChangeCounterRepository counterRepository;
+  private final SyncProperties properties;
+
+  public ChangeFeedPruner(FiscalYearChangeRepository changeRepository,
+      FiscalYearChangeCounterRepository counterRepository,
+      SyncProperties properties) {
+    this.changeRepository = changeRepository;
+    this.counterRepository = counterRepository;
+    this.properties = properties;
+  }
+
+  @Scheduled(cron = "${app.sync.prune-cron:0 30 3 * * *}")
+  @Transactional
+  public void prune() {
+    LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getRetentionDays());
+    counterRepository.advancePrunedSeq(cutoff);
+    int removed = changeRepository.deleteOlderThan(cutoff);
+    int orphans = changeRepository.deleteOrphans() + counterRepository.deleteOrphans();
+    if (removed > 0 || orphans > 0) {
+      log.info("Pruned {} change feed entries older than {} ({} orphaned rows)",
+          removed, cutoff, orphans);
+    }
+  }
+}
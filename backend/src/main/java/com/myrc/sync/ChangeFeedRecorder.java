@@ -0,0 +1,325 @@
+/*
+ * myRC - Change Feed Recorder
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import com.myrc.model.Category;
+import com.myrc.model.ChangeEntityType;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FiscalYearChange.ChangeType;
+import com.myrc.model.FundingItem;
+import com.myrc.model.Money;
+import com.myrc.model.MoneyAllocation;
+import com.myrc.model.ProcurementEvent;
+import com.myrc.model.ProcurementEventFile;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.ProcurementQuote;
+import com.myrc.model.ProcurementQuoteFile;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingCategory;
+import com.myrc.model.SpendingEvent;
+import com.myrc.model.SpendingInvoice;
+import com.myrc.model.SpendingInvoiceFile;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.SpendingMoneyAllocation;
+import com.myrc.model.TrainingItem;
+import com.myrc.model.TrainingMoneyAllocation;
+import com.myrc.model.TrainingParticipant;
+import com.myrc.model.TravelItem;
+import com.myrc.model.TravelMoneyAllocation;
+import com.myrc.model.TravelTraveller;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records creates, updates and deletes of fiscal-year scoped items in the
+ * change feed.
+ *
+ * <p>Changes are collected per Hibernate session while it flushes and
+ * written by a before-completion process, i.e. after the final flush and
+ * inside the same transaction, by {@link ChangeFeedWriter}. A change to a
+ * child row (money allocation, participant, quote, invoice, ...) is
+ * recorded as an update of the item that owns it, since that is what the
+ * client's copy of the list contains. Deactivating a procurement item is
+ * recorded as a delete because the list only shows active items.</p>
+ *
+ * <p>The new sequence numbers are announced to other replicas through
+ * {@link ChangeNotificationRelay} in the same transaction and handed to this
+ * replica's {@link ChangeStreamHub} after commit.</p>
+ *
+ * <p>Changes to monies, categories, the fiscal year or its RC have no feed
+ * entry but bump the version stamps of the list responses that include
+ * them (see {@link CollectionVersions}). Conversely every recorded item
+ * change bumps the monies and categories stamps, whose {@code canDelete}
+ * flags depend on the items.</p>
+ *
+ * <p>JPQL and JDBC bulk statements bypass entity events. Those that delete
+ * whole fiscal years or RCs need no entry, since the feed is discarded
+ * anyway; set-based updates of live items (such as CAD revaluation) report
+ * the items they changed through {@link #recordBulkUpdate}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class ChangeFeedRecorder
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  private final transient EntityManagerFactory entityManagerFactory;
+  private final transient ChangeFeedWriter writer;
+  private final transient ChangeNotificationRelay relay;
+  private final transient ChangeStreamHub hub;
+
+  /** Pending changes per open session; weak so abandoned sessions are not retained. */
+  private final transient Map<EventSource, PendingChanges> pending =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  public ChangeFeedRecorder(EntityManagerFactory entityManagerFactory, ChangeFeedWriter writer,
+      ChangeNotificationRelay relay, ChangeStreamHub hub) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.writer = writer;
+    this.relay = relay;
+    this.hub = hub;
+  }
+
+  /**
+   * Register with Hibernate's event system.
+   */
+  @PostConstruct
+  public void register() {
+    SessionFactoryImplementor sessionFactory =
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    EventListenerRegistry registry =
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_INSERT, this);
+    registry.appendListeners(EventType.POST_UPDATE, this);
+    registry.appendListeners(EventType.POST_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    record(event.getSession(), resolve(event.getEntity(), false));
+    touchReferenced(event.getSession(), event.getEntity());
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    Object entity = event.getEntity();
+    if (entity instanceof FiscalYear fiscalYear) {
+      pendingFor(event.getSession()).touch(fiscalYear.getId(), CollectionVersions.FISCAL_YEAR);
+      return;
+    }
+    if (entity instanceof ResponsibilityCentre rc) {
+      pendingFor(event.getSession()).touchResponsibilityCentre(rc.getId());
+      return;
+    }
+    record(event.getSession(), resolve(entity, false));
+    touchReferenced(event.getSession(), entity);
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    if (event.getEntity() instanceof FiscalYear fiscalYear) {
+      pendingFor(event.getSession()).purge(fiscalYear.getId());
+      return;
+    }
+    record(event.getSession(), resolve(event.getEntity(), true));
+    touchReferenced(event.getSession(), event.getEntity());
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  /**
+   * Record items changed by a bulk statement in the current transaction.
+   * The entries are written with the transaction's other changes before it
+   * commits.
+   *
+   * @param entityManager the transaction's entity manager
+   * @param fiscalYearId the fiscal year the items belong to
+   * @param type the item type
+   * @param itemIds the changed items
+   */
+  public void recordBulkUpdate(EntityManager entityManager, Long fiscalYearId,
+      ChangeEntityType type, Collection<Long> itemIds) {
+    if (itemIds.isEmpty()) {
+      return;
+    }
+    PendingChanges changes = pendingFor(entityManager.unwrap(EventSource.class));
+    for (Long itemId : itemIds) {
+      // The item row itself may be unchanged, so there is no new version to report
+      changes.add(new PendingChange(fiscalYearId, type, itemId, null, ChangeType.UPSERT));
+    }
+  }
+
+  private void record(EventSource session, PendingChange change) {
+    if (change != null) {
+      pendingFor(session).add(change);
+    }
+  }
+
+  /**
+   * Touch the collections of a fiscal year's reference data (monies and
+   * categories) and of the item lists that embed it.
+   */
+  private void touchReferenced(EventSource session, Object entity) {
+    String collection;
+    FiscalYear fiscalYear;
+    if (entity instanceof Money money) {
+      collection = CollectionVersions.MONIES;
+      fiscalYear = money.getFiscalYear();
+    } else if (entity instanceof Category category) {
+      collection = CollectionVersions.CATEGORIES;
+      fiscalYear = category.getFiscalYear();
+    } else if (entity instanceof SpendingCategory category) {
+      collection = CollectionVersions.SPENDING_CATEGORIES;
+      fiscalYear = category.getFiscalYear();
+    } else {
+      return;
+    }
+    if (fiscalYear == null) {
+      return;
+    }
+    Long fiscalYearId = fiscalYear.getId();
+    PendingChanges changes = pendingFor(session);
+    changes.touch(fiscalYearId, collection);
+    CollectionVersions.ITEM_COLLECTIONS.forEach(items -> changes.touch(fiscalYearId, items));
+  }
+
+  private PendingChanges pendingFor(EventSource session) {
+    PendingChanges changes = pending.get(session);
+    if (changes == null) {
+      PendingChanges created = new PendingChanges();
+      Map<Long, Long> written = new TreeMap<>();
+      pending.put(session, created);
+      session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s -> {
+        pending.remove(session);
+        if (!created.isEmpty()) {
+          s.doWork(connection -> {
+            written.putAll(writer.write(connection, created));
+            relay.publish(connection, written);
+          });
+        }
+      });
+      session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+        pending.remove(session);
+        if (success) {
+          // Local subscribers; other replicas are reached through the relay's NOTIFY
+          written.forEach(hub::deliver);
+          created.getPurgedFiscalYears().forEach(hub::close);
+        }
+      });
+      changes = created;
+    }
+    return changes;
+  }
+
+  /**
+   * Map a changed entity to the feed entry of the item it belongs to.
+   *
+   * @param entity the inserted, updated or deleted entity
+   * @param deleted whether the entity itself was deleted
+   * @return the change to record, or null if the entity is not tracked
+   */
+  static PendingChange resolve(Object entity, boolean deleted) {
+    if (entity instanceof FundingItem item) {
+      return item(ChangeEntityType.FUNDING_ITEM, item.getId(), item.getVersion(),
+          item.getFiscalYear(), deleted);
+    }
+    if (entity instanceof SpendingItem item) {
+      return item(ChangeEntityType.SPENDING_ITEM, item.getId(), item.getVersion(),
+          item.getFiscalYear(), deleted);
+    }
+    if (entity instanceof ProcurementItem item) {
+      return item(ChangeEntityType.PROCUREMENT_ITEM, item.getId(), item.getVersion(),
+          item.getFiscalYear(), deleted || Boolean.FALSE.equals(item.getActive()));
+    }
+    if (entity instanceof TrainingItem item) {
+      return item(ChangeEntityType.TRAINING_ITEM, item.getId(), item.getVersion(),
+          item.getFiscalYear(), deleted);
+    }
+    if (entity instanceof TravelItem item) {
+      return item(ChangeEntityType.TRAVEL_ITEM, item.getId(), item.getVersion(),
+          item.getFiscalYear(), deleted);
+    }
+    Object parent = parentOf(entity);
+    return parent != null ? resolve(parent, false) : null;
+  }
+
+  private static Object parentOf(Object entity) {
+    if (entity instanceof MoneyAllocation child) {
+      return child.getFundingItem();
+    }
+    if (entity instanceof SpendingMoneyAllocation child) {
+      return child.getSpendingItem();
+    }
+    if (entity instanceof SpendingEvent child) {
+      return child.getSpendingItem();
+    }
+    if (entity instanceof SpendingInvoice child) {
+      return child.getSpendingItem();
+    }
+    if (entity instanceof SpendingInvoiceFile child) {
+      return child.getInvoice();
+    }
+    if (entity instanceof ProcurementQuote child) {
+      return child.getProcurementItem();
+    }
+    if (entity instanceof ProcurementQuoteFile child) {
+      return child.getQuote();
+    }
+    if (entity instanceof ProcurementEvent child) {
+      return child.getProcurementItem();
+    }
+    if (entity instanceof ProcurementEventFile child) {
+      return child.getEvent();
+    }
+    if (entity instanceof TrainingMoneyAllocation child) {
+      return child.getTrainingItem();
+    }
+    if (entity instanceof TrainingParticipant child) {
+      return child.getTrainingItem();
+    }
+    if (entity instanceof TravelMoneyAllocation child) {
+      return child.getTravelItem();
+    }
+    if (entity instanceof TravelTraveller child) {
+      return child.getTravelItem();
+    }
+    return null;
+  }
+
+  private static PendingChange item(ChangeEntityType type, Long id, Long version,
+      FiscalYear fiscalYear, boolean deleted) {
+    if (id == null || fiscalYear == null || fiscalYear.getId() == null) {
+      return null;
+    }
+    return new PendingChange(fiscalYear.getId(), type, id, version,
+        deleted ? ChangeType.DELETE : ChangeType.UPSERT);
+  }
+}
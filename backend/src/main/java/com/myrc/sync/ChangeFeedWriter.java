@@ -0,0 +1,201 @@
+/*
+ * myRC - Change Feed Writer
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends a transaction's changes to {@code fy_changes} and bumps the
+ * version stamps of the collections they touch.
+ *
+ * <p>For each fiscal year the counter row is incremented first, which locks
+ * it until commit: a concurrent writer to the same fiscal year waits, gets
+ * the following sequence numbers and commits after this transaction. A
+ * reader that sees {@code last_seq = N} can therefore rely on every change
+ * up to {@code N} being visible.</p>
+ *
+ * <p>Runs on the JDBC connection of the writing transaction, from Hibernate's
+ * before-completion phase.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class ChangeFeedWriter {
+
+  static final String INCREMENT_SQL =
+      "UPDATE fy_change_counters SET last_seq = last_seq + ? WHERE fiscal_year_id = ?";
+  // Portable (H2 in tests) form of ON CONFLICT DO NOTHING. Counters of existing fiscal years
+  // are seeded by the migration, so only two first writes racing on a new fiscal year can
+  // collide, and the loser is rolled back with a retryable unique violation.
+  static final String CREATE_COUNTER_SQL =
+      "INSERT INTO fy_change_counters (fiscal_year_id, last_seq, pruned_seq) SELECT ?, 0, 0 "
+          + "WHERE NOT EXISTS (SELECT 1 FROM fy_change_counters WHERE fiscal_year_id = ?)";
+  static final String READ_COUNTER_SQL =
+      "SELECT last_seq FROM fy_change_counters WHERE fiscal_year_id = ?";
+  static final String INSERT_CHANGE_SQL =
+      "INSERT INTO fy_changes (fiscal_year_id, seq, entity_type, entity_id, entity_version, "
+          + "change_type, changed_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+  static final String BUMP_COLLECTION_SQL =
+      "UPDATE fy_collection_versions SET version = version + 1 "
+          + "WHERE fiscal_year_id = ? AND collection = ?";
+  static final String CREATE_COLLECTION_SQL =
+      "INSERT INTO fy_collection_versions (fiscal_year_id, collection, version) SELECT ?, ?, 1 "
+          + "WHERE NOT EXISTS (SELECT 1 FROM fy_collection_versions "
+          + "WHERE fiscal_year_id = ? AND collection = ?)";
+  static final String RC_FISCAL_YEARS_SQL =
+      "SELECT id FROM fiscal_years WHERE responsibility_centre_id = ?";
+  static final String PURGE_COLLECTIONS_SQL =
+      "DELETE FROM fy_collection_versions WHERE fiscal_year_id = ?";
+  static final String PURGE_CHANGES_SQL = "DELETE FROM fy_changes WHERE fiscal_year_id = ?";
+  static final String PURGE_COUNTER_SQL = "DELETE FROM fy_change_counters WHERE fiscal_year_id = ?";
+
+  /**
+   * Write the collected changes.
+   *
+   * @param connection the transaction's connection
+   * @param changes the collected changes
+   * @return the new last sequence number of each fiscal year written to
+   * @throws SQLException on database errors, which roll the transaction back
+   */
+  public Map<Long, Long> write(Connection connection, PendingChanges changes) throws SQLException {
+    for (Long fiscalYearId : changes.getPurgedFiscalYears()) {
+      update(connection, PURGE_CHANGES_SQL, fiscalYearId);
+      update(connection, PURGE_COUNTER_SQL, fiscalYearId);
+      update(connection, PURGE_COLLECTIONS_SQL, fiscalYearId);
+    }
+    Map<Long, Long> written = new TreeMap<>();
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (Map.Entry<Long, List<PendingChange>> entry : changes.byFiscalYear().entrySet()) {
+      Long fiscalYearId = entry.getKey();
+      List<PendingChange> fyChanges = entry.getValue();
+      long lastSeq = reserve(connection, fiscalYearId, fyChanges.size());
+      long seq = lastSeq - fyChanges.size();
+      try (PreparedStatement insert = connection.prepareStatement(INSERT_CHANGE_SQL)) {
+        for (PendingChange change : fyChanges) {
+          insert.setLong(1, fiscalYearId);
+          insert.setLong(2, ++seq);
+          insert.setString(3, change.entityType().name());
+          insert.setLong(4, change.entityId());
+          if (change.entityVersion() != null) {
+            insert.setLong(5, change.entityVersion());
+          } else {
+            insert.setNull(5, Types.BIGINT);
+          }
+          insert.setString(6, change.changeType().name());
+          insert.setTimestamp(7, now);
+          insert.addBatch();
+        }
+        insert.executeBatch();
+      }
+      written.put(fiscalYearId, lastSeq);
+    }
+    bumpCollections(connection, changes);
+    return written;
+  }
+
+  /**
+   * Bump the version stamps of every touched collection. Rows are locked in
+   * one global (fiscal year, collection) order, after the counters, so
+   * concurrent writers cannot deadlock on them.
+   */
+  private void bumpCollections(Connection connection, PendingChanges changes)
+      throws SQLException {
+    Map<Long, Set<String>> touched = changes.getTouchedCollections();
+    for (Long rcId : changes.getTouchedResponsibilityCentres()) {
+      try (PreparedStatement query = connection.prepareStatement(RC_FISCAL_YEARS_SQL)) {
+        query.setLong(1, rcId);
+        try (ResultSet rs = query.executeQuery()) {
+          while (rs.next()) {
+            long fiscalYearId = rs.getLong(1);
+            if (!changes.getPurgedFiscalYears().contains(fiscalYearId)) {
+              touched.computeIfAbsent(fiscalYearId, id -> new TreeSet<>())
+                  .add(CollectionVersions.FISCAL_YEAR);
+            }
+          }
+        }
+      }
+    }
+    for (Map.Entry<Long, Set<String>> entry : touched.entrySet()) {
+      for (String collection : entry.getValue()) {
+        if (bump(connection, entry.getKey(), collection) == 0) {
+          try (PreparedStatement create = connection.prepareStatement(CREATE_COLLECTION_SQL)) {
+            create.setLong(1, entry.getKey());
+            create.setString(2, collection);
+            create.setLong(3, entry.getKey());
+            create.setString(4, collection);
+            if (create.executeUpdate() == 0) {
+              bump(connection, entry.getKey(), collection);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private int bump(Connection connection, Long fiscalYearId, String collection)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(BUMP_COLLECTION_SQL)) {
+      statement.setLong(1, fiscalYearId);
+      statement.setString(2, collection);
+      return statement.executeUpdate();
+    }
+  }
+
+  /**
+   * Advance a fiscal year's sequence by {@code count}, creating the counter
+   * on first use.
+   *
+   * @return the new last sequence number
+   */
+  private long reserve(Connection connection, Long fiscalYearId, int count) throws SQLException {
+    if (increment(connection, fiscalYearId, count) == 0) {
+      try (PreparedStatement create = connection.prepareStatement(CREATE_COUNTER_SQL)) {
+        create.setLong(1, fiscalYearId);
+        create.setLong(2, fiscalYearId);
+        create.executeUpdate();
+      }
+      increment(connection, fiscalYearId, count);
+    }
+    try (PreparedStatement read = connection.prepareStatement(READ_COUNTER_SQL)) {
+      read.setLong(1, fiscalYearId);
+      try (ResultSet rs = read.executeQuery()) {
+        if (!rs.next()) {
+          throw new SQLException("Change counter missing for fiscal year " + fiscalYearId);
+        }
+        return rs.getLong(1);
+      }
+    }
+  }
+
+  private int increment(Connection connection, Long fiscalYearId, int count) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(INCREMENT_SQL)) {
+      statement.setLong(1, count);
+      statement.setLong(2, fiscalYearId);
+      return statement.executeUpdate();
+    }
+  }
+
+  private int update(Connection connection, String sql, Long fiscalYearId) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, fiscalYearId);
+      return statement.executeUpdate();
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * myRC - Change Notification Relay
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import com.myrc.cache.CacheInvalidationBus;
+import com.myrc.config.SyncProperties;
+import jakarta.annotation.PostConstruct;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fans change notifications out to every replica through PostgreSQL
+ * LISTEN/NOTIFY.
+ *
+ * <p>{@link #publish(Connection, Map)} runs on the writing transaction's
+ * connection right after the change feed rows are inserted, so PostgreSQL
+ * delivers {@code fiscalYearId:seq} only if and when that transaction
+ * commits. Every replica (including the sender) listens on the
+ * {@link CacheInvalidationBus}'s connection and hands the notification to its
+ * {@link ChangeStreamHub}. Whenever that LISTEN takes effect the hub catches
+ * up from the change feed, since notifications sent while not listening are
+ * lost.</p>
+ *
+ * <p>On non-PostgreSQL datasources (H2 in tests) only the writing replica's
+ * own subscribers are notified, by the change feed recorder.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class ChangeNotificationRelay {
+
+  private static final Logger logger = LoggerFactory.getLogger(ChangeNotificationRelay.class);
+
+  private final SyncProperties syncProperties;
+  private final CacheInvalidationBus bus;
+  private final ChangeStreamHub hub;
+
+  private volatile boolean clustered;
+
+  public ChangeNotificationRelay(SyncProperties syncProperties, CacheInvalidationBus bus,
+      ChangeStreamHub hub) {
+    this.syncProperties = syncProperties;
+    this.bus = bus;
+    this.hub = hub;
+  }
+
+  /**
+   * Listen on the change channel when push is enabled and the datasource is
+   * PostgreSQL.
+   */
+  @PostConstruct
+  public void start() {
+    SyncProperties.Push config = syncProperties.getPush();
+    if (!config.isEnabled()) {
+      logger.info("Fiscal year change push disabled by configuration");
+      return;
+    }
+    if (!bus.supportsListen()) {
+      logger.info("Cross-replica change push requires PostgreSQL; notifying local subscribers only");
+      return;
+    }
+    bus.listen(config.getChannel(), this::dispatchPayload, hub::catchUpAll);
+    clustered = true;
+    logger.info("Fiscal year change push listening on channel '{}'", config.getChannel());
+  }
+
+  /**
+   * Queue a notification per fiscal year on the writing transaction's
+   * connection; PostgreSQL sends them on commit.
+   *
+   * @param connection the writing transaction's connection
+   * @param sequences the new last sequence number per fiscal year
+   * @throws SQLException on database errors, which roll the transaction back
+   */
+  public void publish(Connection connection, Map<Long, Long> sequences) throws SQLException {
+    if (!clustered || sequences.isEmpty()) {
+      return;
+    }
+    try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+      for (Map.Entry<Long, Long> entry : sequences.entrySet()) {
+        statement.setString(1, syncProperties.getPush().getChannel());
+        statement.setString(2, entry.getKey() + ":" + entry.getValue());
+        statement.execute();
+      }
+    }
+  }
+
+  /**
+   * Whether notifications are propagated to other replicas.
+   *
+   * @return true when LISTEN/NOTIFY is active
+   */
+  public boolean isClustered() {
+    return clustered;
+  }
+
+  private void dispatchPayload(String payload) {
+    int separator = payload != null ? payload.indexOf(':') : -1;
+    if (separator <= 0) {
+      return;
+    }
+    try {
+      hub.deliver(Long.valueOf(payload.substring(0, separator)),
+          Long.parseLong(payload.substring(separator + 1)));
+    } catch (NumberFormatException e) {
+      logger.debug("Ignoring malformed change notification '{}'", payload);
+    }
+  }
+}
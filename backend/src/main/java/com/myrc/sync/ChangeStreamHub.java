@@ -0,0 +1,387 @@
+/*
+ * myRC - Change Stream Hub
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import com.myrc.config.SyncProperties;
+import com.myrc.dto.FiscalYearChangeEventDTO;
+import com.myrc.model.ChangeEntityType;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes committed fiscal year changes to Server-Sent Events subscribers.
+ *
+ * <p>The change feed ({@code fy_changes}) is the outbox: a notification only
+ * says "fiscal year F reached sequence N", and the hub reads the rows between
+ * the last sequence it delivered and N before sending them, one event per
+ * row with the sequence as event ID. Notifications therefore only need to be
+ * at-least-once: duplicates and reordering are absorbed by the per fiscal
+ * year watermark, and lost ones are caught up by the heartbeat, which
+ * compares the watermark with the counter.</p>
+ *
+ * <p>Rows are read with plain JDBC outside any transaction, i.e. from the
+ * primary, so a lagging read replica cannot make the hub skip changes.
+ * They are read on a single background thread and queued per subscriber;
+ * each queue is sent by its own virtual thread, so neither writers nor other
+ * subscribers wait for a slow client. A client that falls
+ * {@value #MAX_PENDING_EVENTS} events behind is disconnected and resumes
+ * with {@code Last-Event-ID}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class ChangeStreamHub {
+
+  private static final Logger logger = LoggerFactory.getLogger(ChangeStreamHub.class);
+
+  static final String FETCH_SQL =
+      "SELECT seq, entity_type, entity_id, entity_version, change_type FROM fy_changes "
+          + "WHERE fiscal_year_id = ? AND seq > ? AND seq <= ? ORDER BY seq";
+  static final String COUNTER_SQL =
+      "SELECT last_seq, pruned_seq FROM fy_change_counters WHERE fiscal_year_id = ?";
+
+  /** Events queued for one subscriber before it is dropped as too slow. */
+  static final int MAX_PENDING_EVENTS = 1000;
+
+  /** Queue marker: complete the stream once everything before it is sent. */
+  private static final SseEmitter.SseEventBuilder COMPLETE = SseEmitter.event();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final SyncProperties properties;
+
+  private final Map<Long, Topic> topics = new ConcurrentHashMap<>();
+  private final List<Consumer<Long>> changeListeners = new CopyOnWriteArrayList<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private final ExecutorService deliveryExecutor = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "fy-change-stream");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final ExecutorService sendExecutor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fy-change-send-", 0).factory());
+
+  /** Subscribers of one fiscal year and the last sequence queued for them. */
+  static final class Topic {
+    private final Long fiscalYearId;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long deliveredSeq;
+
+    Topic(Long fiscalYearId, long deliveredSeq) {
+      this.fiscalYearId = fiscalYearId;
+      this.deliveredSeq = deliveredSeq;
+    }
+  }
+
+  /** One open stream and the events waiting to be sent to it, in order. */
+  static final class Subscriber {
+    private final SseEmitter emitter;
+    private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    /** Whether the replay is queued, so live changes may follow; guarded by the topic. */
+    private boolean started;
+    private volatile boolean closed;
+
+    Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+  }
+
+  public ChangeStreamHub(JdbcTemplate jdbcTemplate, SyncProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.properties = properties;
+  }
+
+  /**
+   * Open a change stream for a fiscal year. The caller must have checked
+   * access.
+   *
+   * <p>The first event ({@code ready}) carries the current version. When
+   * {@code lastSeq} is given, the changes after it are replayed first; if
+   * they are no longer retained a {@code resync} event is sent instead.</p>
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param lastSeq the last sequence the client has seen, or null
+   * @return the emitter to return from the controller
+   * @throws IllegalStateException if this replica has too many open streams
+   */
+  public SseEmitter subscribe(Long fiscalYearId, Long lastSeq) {
+    if (subscriberCount.incrementAndGet() > properties.getPush().getMaxSubscribers()) {
+      subscriberCount.decrementAndGet();
+      throw new IllegalStateException("Too many change stream subscribers");
+    }
+    SseEmitter emitter = new SseEmitter(properties.getPush().getEmitterTimeoutMs());
+    Subscriber subscriber = new Subscriber(emitter);
+    long[] counter = readCounter(fiscalYearId);
+    Topic topic = topics.compute(fiscalYearId, (id, existing) -> {
+      Topic t = existing != null ? existing : new Topic(id, counter[0]);
+      t.subscribers.add(subscriber);
+      return t;
+    });
+    Runnable remove = () -> unsubscribe(fiscalYearId, subscriber);
+    emitter.onCompletion(remove);
+    emitter.onTimeout(remove);
+    emitter.onError(e -> remove.run());
+
+    // Live changes are queued only once started, i.e. after the replay
+    synchronized (topic) {
+      long current = topic.deliveredSeq;
+      if (lastSeq != null && (lastSeq < counter[1] || lastSeq > Math.max(current, counter[0])
+          || current - lastSeq >= MAX_PENDING_EVENTS)) {
+        enqueue(topic, subscriber, SseEmitter.event().name("resync").data(current));
+      } else if (lastSeq != null && lastSeq < current) {
+        for (FiscalYearChangeEventDTO event : fetch(fiscalYearId, lastSeq, current)) {
+          enqueue(topic, subscriber, changeEvent(event));
+        }
+      }
+      enqueue(topic, subscriber, SseEmitter.event().name("ready").data(current));
+      subscriber.started = true;
+    }
+    return emitter;
+  }
+
+  /**
+   * Register a callback that receives the ID of every fiscal year whose
+   * committed changes reach this replica, whether written here or announced
+   * by another replica, and of every deleted fiscal year. Callbacks run on
+   * the notifying thread and must be cheap.
+   *
+   * @param listener the callback
+   */
+  public void addChangeListener(Consumer<Long> listener) {
+    changeListeners.add(listener);
+  }
+
+  /**
+   * Schedule delivery of a fiscal year's changes up to {@code seq}. Cheap
+   * when nobody is subscribed to the fiscal year.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param seq the sequence the fiscal year reached
+   */
+  public void deliver(Long fiscalYearId, long seq) {
+    notifyListeners(fiscalYearId);
+    Topic topic = topics.get(fiscalYearId);
+    if (topic == null) {
+      return;
+    }
+    try {
+      deliveryExecutor.execute(() -> catchUp(topic, seq));
+    } catch (RejectedExecutionException e) {
+      logger.debug("Change stream delivery rejected during shutdown");
+    }
+  }
+
+  /**
+   * Tell the subscribers of a deleted fiscal year and close their streams.
+   *
+   * @param fiscalYearId the deleted fiscal year
+   */
+  public void close(Long fiscalYearId) {
+    notifyListeners(fiscalYearId);
+    Topic topic = topics.get(fiscalYearId);
+    if (topic == null) {
+      return;
+    }
+    for (Subscriber subscriber : topic.subscribers) {
+      enqueue(topic, subscriber, SseEmitter.event().name("deleted").data(fiscalYearId));
+      enqueue(topic, subscriber, COMPLETE);
+    }
+  }
+
+  private void notifyListeners(Long fiscalYearId) {
+    for (Consumer<Long> listener : changeListeners) {
+      try {
+        listener.accept(fiscalYearId);
+      } catch (RuntimeException e) {
+        logger.warn("Change listener failed for fiscal year {}: {}", fiscalYearId, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Bring every topic up to date with its counter, e.g. after notifications
+   * may have been missed.
+   */
+  public void catchUpAll() {
+    for (Topic topic : topics.values()) {
+      try {
+        long[] counter = readCounter(topic.fiscalYearId);
+        deliver(topic.fiscalYearId, counter[0]);
+      } catch (Exception e) {
+        logger.warn("Change stream catch-up for fiscal year {} failed: {}",
+            topic.fiscalYearId, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Catch up missed changes and send a keep-alive comment so proxies keep
+   * idle streams open and dead clients are detected.
+   */
+  @Scheduled(fixedDelayString = "${app.sync.push.heartbeat-ms:25000}")
+  public void heartbeat() {
+    if (topics.isEmpty()) {
+      return;
+    }
+    catchUpAll();
+    for (Topic topic : topics.values()) {
+      for (Subscriber subscriber : topic.subscribers) {
+        enqueue(topic, subscriber, SseEmitter.event().comment("keep-alive"));
+      }
+    }
+  }
+
+  /**
+   * Number of open streams on this replica.
+   *
+   * @return the subscriber count
+   */
+  public int getSubscriberCount() {
+    return subscriberCount.get();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    deliveryExecutor.shutdownNow();
+    sendExecutor.shutdownNow();
+    for (Topic topic : topics.values()) {
+      topic.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+  }
+
+  private void catchUp(Topic topic, long upTo) {
+    synchronized (topic) {
+      if (upTo <= topic.deliveredSeq || topic.subscribers.isEmpty()) {
+        return;
+      }
+      List<FiscalYearChangeEventDTO> events;
+      try {
+        events = fetch(topic.fiscalYearId, topic.deliveredSeq, upTo);
+      } catch (Exception e) {
+        logger.warn("Could not read changes of fiscal year {}: {}", topic.fiscalYearId,
+            e.getMessage());
+        return;
+      }
+      for (Subscriber subscriber : topic.subscribers) {
+        if (!subscriber.started) {
+          continue; // its replay, queued later, includes these
+        }
+        for (FiscalYearChangeEventDTO event : events) {
+          enqueue(topic, subscriber, changeEvent(event));
+        }
+      }
+      topic.deliveredSeq = upTo;
+    }
+  }
+
+  private void unsubscribe(Long fiscalYearId, Subscriber subscriber) {
+    topics.computeIfPresent(fiscalYearId, (id, topic) -> {
+      if (topic.subscribers.remove(subscriber)) {
+        subscriberCount.decrementAndGet();
+      }
+      return topic.subscribers.isEmpty() ? null : topic;
+    });
+  }
+
+  private void enqueue(Topic topic, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+    if (subscriber.closed) {
+      return;
+    }
+    if (subscriber.pendingCount.incrementAndGet() > MAX_PENDING_EVENTS) {
+      // Too slow: the client reconnects and replays from its Last-Event-ID
+      subscriber.closed = true;
+      unsubscribe(topic.fiscalYearId, subscriber);
+      subscriber.emitter.complete();
+      return;
+    }
+    subscriber.pending.add(event);
+    if (subscriber.sending.compareAndSet(false, true)) {
+      try {
+        sendExecutor.execute(() -> drain(topic, subscriber));
+      } catch (RejectedExecutionException e) {
+        subscriber.sending.set(false);
+        logger.debug("Change stream send rejected during shutdown");
+      }
+    }
+  }
+
+  private void drain(Topic topic, Subscriber subscriber) {
+    do {
+      SseEmitter.SseEventBuilder event;
+      while ((event = subscriber.pending.poll()) != null) {
+        subscriber.pendingCount.decrementAndGet();
+        if (event == COMPLETE) {
+          subscriber.closed = true;
+          subscriber.emitter.complete();
+          return;
+        }
+        if (!send(topic, subscriber, event)) {
+          return;
+        }
+      }
+      subscriber.sending.set(false);
+      // An event queued after the poll but before the reset has no sender yet
+    } while (!subscriber.pending.isEmpty() && subscriber.sending.compareAndSet(false, true));
+  }
+
+  private boolean send(Topic topic, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+    try {
+      subscriber.emitter.send(event);
+      return true;
+    } catch (IOException | IllegalStateException e) {
+      // Client went away; the completion callback may not fire for a broken pipe
+      subscriber.closed = true;
+      unsubscribe(topic.fiscalYearId, subscriber);
+      subscriber.emitter.completeWithError(e);
+      return false;
+    }
+  }
+
+  private static SseEmitter.SseEventBuilder changeEvent(FiscalYearChangeEventDTO event) {
+    return SseEmitter.event()
+        .id(String.valueOf(event.getSeq()))
+        .name("change")
+        .data(event, MediaType.APPLICATION_JSON);
+  }
+
+  private long[] readCounter(Long fiscalYearId) {
+    List<long[]> rows = jdbcTemplate.query(COUNTER_SQL,
+        (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)}, fiscalYearId);
+    return rows.isEmpty() ? new long[] {0L, 0L} : rows.get(0);
+  }
+
+  private List<FiscalYearChangeEventDTO> fetch(Long fiscalYearId, long afterSeq, long upToSeq) {
+    return jdbcTemplate.query(FETCH_SQL, (rs, rowNum) -> {
+      ChangeEntityType type = ChangeEntityType.valueOf(rs.getString(2));
+      long entityVersion = rs.getLong(4);
+      Long version = rs.wasNull() ? null : entityVersion;
+      return new FiscalYearChangeEventDTO(rs.getLong(1), type.getCollection(), type.name(),
+          rs.getLong(3), version, rs.getString(5));
+    }, fiscalYearId, afterSeq, upToSeq);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * myRC - Collection Versions
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import com.myrc.model.ChangeEntityType;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the version stamps of fiscal-year scoped collections.
+ *
+ * <p>A stamp changes whenever anything that collection's list response is
+ * built from changes: its own rows and their children, the monies and
+ * categories the items reference, and the fiscal year and RC whose names the
+ * items carry. The monies and categories lists also change with any item or
+ * allocation, since those decide whether a money or category can be deleted. Stamps are maintained by {@link ChangeFeedWriter} in
+ * {@code fy_collection_versions}, one row per collection plus a
+ * {@link #FISCAL_YEAR} row per fiscal year.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Component
+public class CollectionVersions {
+
+  public static final String MONIES = "monies";
+  public static final String CATEGORIES = "categories";
+  public static final String SPENDING_CATEGORIES = "spending-categories";
+
+  /** Row bumped for changes that affect every collection of the fiscal year. */
+  public static final String FISCAL_YEAR = "*";
+
+  /**
+   * Collections of fiscal-year reference data. Their {@code canDelete} flags
+   * depend on whether items and allocations use them, so every item change
+   * touches them too.
+   */
+  public static final Set<String> REFERENCE_COLLECTIONS =
+      Set.of(MONIES, CATEGORIES, SPENDING_CATEGORIES);
+
+  /** Collections of item lists, which embed money and category names. */
+  public static final Set<String> ITEM_COLLECTIONS = Arrays.stream(ChangeEntityType.values())
+      .map(ChangeEntityType::getCollection)
+      .collect(Collectors.toCollection(LinkedHashSet::new));
+
+  /** Every collection with a version stamp. */
+  public static final Set<String> COLLECTIONS;
+
+  static {
+    Set<String> all = new LinkedHashSet<>(ITEM_COLLECTIONS);
+    all.addAll(REFERENCE_COLLECTIONS);
+    COLLECTIONS = Set.copyOf(all);
+  }
+
+  static final String READ_SQL =
+      "SELECT collection, version FROM fy_collection_versions "
+          + "WHERE fiscal_year_id = ? AND collection IN (?, '" + FISCAL_YEAR + "')";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public CollectionVersions(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Current stamp of a collection, in the form {@code collectionVersion.fiscalYearVersion}.
+   *
+   * @param fiscalYearId the fiscal year ID
+   * @param collection the collection path segment, e.g. {@code spending-items}
+   * @return the stamp; {@code 0.0} if nothing was changed since stamps were introduced
+   */
+  public String stamp(Long fiscalYearId, String collection) {
+    long[] versions = new long[2];
+    jdbcTemplate.query(READ_SQL, (RowCallbackHandler) rs ->
+        versions[FISCAL_YEAR.equals(rs.getString(1)) ? 1 : 0] = rs.getLong(2),
+        fiscalYearId, collection);
+    return versions[0] + "." + versions[1];
+  }
+}
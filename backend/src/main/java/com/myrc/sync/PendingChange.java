@@ -0,0 +1,26 @@
+/*
+ * myRC - Pending Change
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import com.myrc.model.ChangeEntityType;
+import com.myrc.model.FiscalYearChange.ChangeType;
+
+/**
+ * A change collected during a transaction, before it is given a sequence
+ * number.
+ *
+ * @param fiscalYearId the fiscal year the item belongs to
+ * @param entityType the collection of the item
+ * @param entityId the item ID
+ * @param entityVersion the item's optimistic-locking version, if known
+ * @param changeType upsert or delete
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public record PendingChange(Long fiscalYearId, ChangeEntityType entityType, Long entityId,
+    Long entityVersion, ChangeType changeType) {
+}
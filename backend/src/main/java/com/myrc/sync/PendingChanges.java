@@ -0,0 +1,148 @@
+/*
+ * myRC - Pending Changes
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import com.myrc.model.ChangeEntityType;
+import com.myrc.model.FiscalYearChange.ChangeType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Changes collected by one transaction, one entry per item.
+ *
+ * <p>Several events on the same item (e.g. the item and three of its
+ * allocations) collapse to one entry; a delete is never downgraded to an
+ * upsert. Items of fiscal years deleted in the same transaction are
+ * dropped.</p>
+ *
+ * <p>Also tracks which collections' version stamps must be bumped; see
+ * {@link CollectionVersions}.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+public class PendingChanges {
+
+  private record Key(ChangeEntityType type, Long id) {
+  }
+
+  private final Map<Key, PendingChange> changes = new LinkedHashMap<>();
+  private final Set<Long> purgedFiscalYears = new LinkedHashSet<>();
+  private final Map<Long, Set<String>> touchedCollections = new TreeMap<>();
+  private final Set<Long> touchedResponsibilityCentres = new TreeSet<>();
+
+  /**
+   * Add a change, merging it with any earlier change of the same item.
+   *
+   * @param change the change
+   */
+  public void add(PendingChange change) {
+    touch(change.fiscalYearId(), change.entityType().getCollection());
+    // Items and allocations decide whether monies and categories can be deleted
+    CollectionVersions.REFERENCE_COLLECTIONS.forEach(
+        collection -> touch(change.fiscalYearId(), collection));
+    changes.merge(new Key(change.entityType(), change.entityId()), change, (previous, next) -> {
+      if (previous.changeType() == ChangeType.DELETE) {
+        return previous;
+      }
+      if (next.changeType() == ChangeType.DELETE) {
+        return next;
+      }
+      // Keep the highest version seen; child events may carry a stale parent version
+      long previousVersion = previous.entityVersion() != null ? previous.entityVersion() : -1;
+      long nextVersion = next.entityVersion() != null ? next.entityVersion() : -1;
+      return nextVersion >= previousVersion ? next : previous;
+    });
+  }
+
+  /**
+   * Record that a fiscal year was deleted; its feed is discarded.
+   *
+   * @param fiscalYearId the deleted fiscal year
+   */
+  public void purge(Long fiscalYearId) {
+    if (fiscalYearId != null) {
+      purgedFiscalYears.add(fiscalYearId);
+    }
+  }
+
+  /**
+   * Record that a collection's list response changed without a feed entry,
+   * e.g. because a money it references was renamed.
+   *
+   * @param fiscalYearId the fiscal year
+   * @param collection the collection, or {@link CollectionVersions#FISCAL_YEAR}
+   */
+  public void touch(Long fiscalYearId, String collection) {
+    if (fiscalYearId != null) {
+      touchedCollections.computeIfAbsent(fiscalYearId, id -> new TreeSet<>()).add(collection);
+    }
+  }
+
+  /**
+   * Record that an RC changed; every fiscal year of it is touched at write time.
+   *
+   * @param rcId the responsibility centre
+   */
+  public void touchResponsibilityCentre(Long rcId) {
+    if (rcId != null) {
+      touchedResponsibilityCentres.add(rcId);
+    }
+  }
+
+  public boolean isEmpty() {
+    return changes.isEmpty() && purgedFiscalYears.isEmpty() && touchedCollections.isEmpty()
+        && touchedResponsibilityCentres.isEmpty();
+  }
+
+  /**
+   * Touched collections of surviving fiscal years, in ascending fiscal year
+   * and collection order.
+   *
+   * @return collections per fiscal year
+   */
+  public Map<Long, Set<String>> getTouchedCollections() {
+    Map<Long, Set<String>> surviving = new TreeMap<>(touchedCollections);
+    surviving.keySet().removeAll(purgedFiscalYears);
+    return surviving;
+  }
+
+  public Set<Long> getTouchedResponsibilityCentres() {
+    return touchedResponsibilityCentres;
+  }
+
+  public Set<Long> getPurgedFiscalYears() {
+    return purgedFiscalYears;
+  }
+
+  /**
+   * Changes grouped by fiscal year in ascending ID order, so concurrent
+   * transactions lock the fiscal years' sequences in the same order.
+   *
+   * @return changes of surviving fiscal years
+   */
+  public Map<Long, List<PendingChange>> byFiscalYear() {
+    Map<Long, List<PendingChange>> grouped = new TreeMap<>();
+    for (PendingChange change : changes.values()) {
+      if (!purgedFiscalYears.contains(change.fiscalYearId())) {
+        grouped.computeIfAbsent(change.fiscalYearId(), id -> new ArrayList<>()).add(change);
+      }
+    }
+    return grouped;
+  }
+
+  public Collection<PendingChange> all() {
+    return changes.values();
+  }
+}
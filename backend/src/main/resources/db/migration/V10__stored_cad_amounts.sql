@@ -0,0 +1,37 @@
+-- V10: CAD amounts computed once, at write time, and a dated exchange-rate
+--     table used when a foreign amount has no manually entered rate.
+
+CREATE TABLE IF NOT EXISTS exchange_rates (
+    id BIGSERIAL PRIMARY KEY,
+    currency VARCHAR(3) NOT NULL,
+    effective_date DATE NOT NULL,
+    rate NUMERIC(15,6) NOT NULL CHECK (rate > 0),
+    source VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_exchange_rates_currency_date UNIQUE (currency, effective_date)
+);
+
+-- Spending allocations are entered in the spending item's currency
+ALTER TABLE spending_money_allocations ADD COLUMN IF NOT EXISTS cap_amount_cad NUMERIC(15,2);
+ALTER TABLE spending_money_allocations ADD COLUMN IF NOT EXISTS om_amount_cad NUMERIC(15,2);
+
+UPDATE spending_money_allocations a
+   SET cap_amount_cad = CASE WHEN si.currency = 'CAD' THEN a.cap_amount
+                             ELSE ROUND(a.cap_amount * si.exchange_rate, 2) END,
+       om_amount_cad = CASE WHEN si.currency = 'CAD' THEN a.om_amount
+                            ELSE ROUND(a.om_amount * si.exchange_rate, 2) END
+  FROM spending_items si
+ WHERE si.id = a.spending_item_id
+   AND (si.currency = 'CAD' OR si.exchange_rate IS NOT NULL)
+   AND (a.cap_amount_cad IS NULL OR a.om_amount_cad IS NULL);
+
+-- Invoices already carry amount_cad; fill rows written before it was kept
+UPDATE spending_invoices
+   SET amount_cad = CASE WHEN currency = 'CAD' THEN amount
+                         ELSE ROUND(amount * exchange_rate, 2) END
+ WHERE amount_cad IS NULL
+   AND (currency = 'CAD' OR exchange_rate IS NOT NULL);
+
+-- Invoice totals per spending item read the stored CAD amount from the index
+CREATE INDEX IF NOT EXISTS idx_spending_invoices_item_active_cad
+    ON spending_invoices (spending_item_id, active) INCLUDE (amount_cad, amount);
@@ -0,0 +1,9 @@
+-- V11: Marker rows for one-off startup work. DataInitializer records the
+--     version of the default users / Demo RC seed it applied, so later boots
+--     read one row instead of probing users and the Demo RC.
+
+CREATE TABLE IF NOT EXISTS app_initialization (
+    name VARCHAR(100) PRIMARY KEY,
+    version INTEGER NOT NULL,
+    completed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,19 @@
+-- V12: Indexes for the paged and filtered admin user list. Pages are
+--      ordered by username (already indexed by uk_users_username); the
+--      composite indexes serve the provider and locked filters in the same
+--      order, and the trigram indexes serve the substring search on
+--      username, email and full name.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_provider_username
+    ON users (auth_provider, username);
+CREATE INDEX IF NOT EXISTS idx_users_locked_username
+    ON users (username) WHERE account_locked = TRUE;
+
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm
+    ON users USING gin (lower(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm
+    ON users USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_full_name_trgm
+    ON users USING gin (lower(full_name) gin_trgm_ops);
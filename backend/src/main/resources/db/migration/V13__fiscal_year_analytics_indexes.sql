@@ -0,0 +1,15 @@
+-- V13: Indexes for the fiscal year comparison analytics. Monthly burn is
+--      summed per fiscal year and month from invoice dates, and from the
+--      first Section 34 / credit card event of spending items without
+--      invoices; both are read from the index without visiting the tables.
+
+-- Invoice burn: active invoices of a spending item with their dates and amounts
+CREATE INDEX IF NOT EXISTS idx_spending_invoices_item_dates_cad
+    ON spending_invoices (spending_item_id)
+    INCLUDE (date_received, date_processed, amount_cad, amount)
+    WHERE active = TRUE;
+
+-- Event burn: earliest active event of a type per spending item
+CREATE INDEX IF NOT EXISTS idx_spending_events_item_type_date_id
+    ON spending_events (spending_item_id, event_type, event_date, id)
+    WHERE active = TRUE;
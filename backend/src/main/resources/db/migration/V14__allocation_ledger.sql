@@ -0,0 +1,87 @@
+-- V14: Append-only allocation ledger and running allocation totals.
+--      Every change to the money allocations of funding, spending, training
+--      and travel items is appended to allocation_ledger in the writing
+--      transaction and added to allocation_totals, so summary views read one
+--      row per fiscal year, kind, money and category instead of summing the
+--      allocation tables. category_id is 0 for items without a category.
+
+-- ============================================================
+-- 1. Ledger
+-- ============================================================
+-- No foreign key to the items: entries of deleted items are kept, with the
+-- reversing entry written by the delete.
+CREATE TABLE IF NOT EXISTS allocation_ledger (
+    id BIGSERIAL PRIMARY KEY,
+    fiscal_year_id BIGINT NOT NULL REFERENCES fiscal_years(id) ON DELETE CASCADE,
+    kind VARCHAR(16) NOT NULL,
+    item_id BIGINT NOT NULL,
+    money_id BIGINT NOT NULL REFERENCES monies(id) ON DELETE CASCADE,
+    category_id BIGINT NOT NULL DEFAULT 0,
+    cap_delta NUMERIC(15, 2) NOT NULL,
+    om_delta NUMERIC(15, 2) NOT NULL,
+    reason VARCHAR(16) NOT NULL,
+    recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Balance of one item, read under the item's row lock on every write
+CREATE INDEX IF NOT EXISTS idx_allocation_ledger_kind_item ON allocation_ledger (kind, item_id);
+-- Reconciliation and totals rebuilds
+CREATE INDEX IF NOT EXISTS idx_allocation_ledger_fy ON allocation_ledger (fiscal_year_id);
+CREATE INDEX IF NOT EXISTS idx_allocation_ledger_money ON allocation_ledger (money_id);
+
+-- ============================================================
+-- 2. Running totals
+-- ============================================================
+CREATE TABLE IF NOT EXISTS allocation_totals (
+    id BIGSERIAL PRIMARY KEY,
+    fiscal_year_id BIGINT NOT NULL REFERENCES fiscal_years(id) ON DELETE CASCADE,
+    kind VARCHAR(16) NOT NULL,
+    money_id BIGINT NOT NULL REFERENCES monies(id) ON DELETE CASCADE,
+    category_id BIGINT NOT NULL DEFAULT 0,
+    cap_total NUMERIC(15, 2) NOT NULL DEFAULT 0,
+    om_total NUMERIC(15, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_allocation_totals_key UNIQUE (fiscal_year_id, kind, money_id, category_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_allocation_totals_money ON allocation_totals (money_id);
+
+-- ============================================================
+-- 3. Opening balances of the existing active items
+-- ============================================================
+INSERT INTO allocation_ledger (fiscal_year_id, kind, item_id, money_id, category_id,
+                               cap_delta, om_delta, reason)
+SELECT i.fiscal_year_id, 'FUNDING', i.id, a.money_id, COALESCE(i.category_id, 0),
+       a.cap_amount, a.om_amount, 'OPENING'
+FROM money_allocations a
+JOIN funding_items i ON i.id = a.funding_item_id
+WHERE i.active = TRUE AND (a.cap_amount <> 0 OR a.om_amount <> 0);
+
+INSERT INTO allocation_ledger (fiscal_year_id, kind, item_id, money_id, category_id,
+                               cap_delta, om_delta, reason)
+SELECT i.fiscal_year_id, 'SPENDING', i.id, a.money_id, i.category_id,
+       COALESCE(a.cap_amount_cad, a.cap_amount), COALESCE(a.om_amount_cad, a.om_amount), 'OPENING'
+FROM spending_money_allocations a
+JOIN spending_items i ON i.id = a.spending_item_id
+WHERE i.active = TRUE
+  AND (COALESCE(a.cap_amount_cad, a.cap_amount) <> 0 OR COALESCE(a.om_amount_cad, a.om_amount) <> 0);
+
+INSERT INTO allocation_ledger (fiscal_year_id, kind, item_id, money_id, category_id,
+                               cap_delta, om_delta, reason)
+SELECT i.fiscal_year_id, 'TRAINING', i.id, a.money_id, 0, 0, a.om_amount, 'OPENING'
+FROM training_money_allocations a
+JOIN training_items i ON i.id = a.training_item_id
+WHERE i.active = TRUE AND a.om_amount <> 0;
+
+INSERT INTO allocation_ledger (fiscal_year_id, kind, item_id, money_id, category_id,
+                               cap_delta, om_delta, reason)
+SELECT i.fiscal_year_id, 'TRAVEL', i.id, a.money_id, 0, 0, a.om_amount, 'OPENING'
+FROM travel_money_allocations a
+JOIN travel_items i ON i.id = a.travel_item_id
+WHERE i.active = TRUE AND a.om_amount <> 0;
+
+INSERT INTO allocation_totals (fiscal_year_id, kind, money_id, category_id, cap_total, om_total)
+SELECT fiscal_year_id, kind, money_id, category_id, SUM(cap_delta), SUM(om_delta)
+FROM allocation_ledger
+GROUP BY fiscal_year_id, kind, money_id, category_id
+ON CONFLICT (fiscal_year_id, kind, money_id, category_id) DO NOTHING;
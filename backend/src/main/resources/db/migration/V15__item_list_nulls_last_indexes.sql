@@ -0,0 +1,18 @@
+-- V15: Descending NULLS LAST indexes for the nullable sort columns of the
+--      keyset-paginated item lists. Nullable columns are ordered with NULLS
+--      LAST in both directions. The V8 indexes (ascending, PostgreSQL's
+--      default NULLS LAST) serve ascending pages; a backward scan of them
+--      would yield DESC NULLS FIRST, so descending pages need their own.
+
+-- Procurement items: purchase requisition (default), tracking status and amount
+CREATE INDEX IF NOT EXISTS idx_procurement_items_fy_active_pr_desc_id
+    ON procurement_items (fiscal_year_id, active, purchase_requisition DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_fy_active_tracking_desc_id
+    ON procurement_items (fiscal_year_id, active, tracking_status DESC NULLS LAST, id DESC);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_fy_active_amount_desc_id
+    ON procurement_items (fiscal_year_id, active,
+        COALESCE(final_price_cad, quoted_price_cad) DESC NULLS LAST, id DESC);
+
+-- Spending items: amount
+CREATE INDEX IF NOT EXISTS idx_spending_items_fy_amount_desc_id
+    ON spending_items (fiscal_year_id, amount DESC NULLS LAST, id DESC);
@@ -0,0 +1,40 @@
+-- V6: Per-fiscal-year change feed for delta sync.
+--     fy_change_counters holds a monotonic sequence per fiscal year; the row is
+--     locked by the writing transaction while it appends to fy_changes, so
+--     sequence order matches commit order within a fiscal year.
+
+-- ============================================================
+-- 1. Change sequence per fiscal year
+-- ============================================================
+CREATE TABLE IF NOT EXISTS fy_change_counters (
+    fiscal_year_id BIGINT PRIMARY KEY,
+    last_seq BIGINT NOT NULL DEFAULT 0,
+    -- Highest sequence removed by retention pruning; older watermarks must resync
+    pruned_seq BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO fy_change_counters (fiscal_year_id, last_seq, pruned_seq)
+SELECT id, 0, 0 FROM fiscal_years
+ON CONFLICT (fiscal_year_id) DO NOTHING;
+
+-- ============================================================
+-- 2. Change log
+-- ============================================================
+-- No foreign key to fiscal_years: rows for deleted fiscal years are removed
+-- by the application and by retention pruning.
+CREATE TABLE IF NOT EXISTS fy_changes (
+    id BIGSERIAL PRIMARY KEY,
+    fiscal_year_id BIGINT NOT NULL,
+    seq BIGINT NOT NULL,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    entity_version BIGINT,
+    change_type VARCHAR(16) NOT NULL,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_fy_changes_fy_seq UNIQUE (fiscal_year_id, seq)
+);
+
+-- Per-collection lookups ("what changed in funding-items since N")
+CREATE INDEX IF NOT EXISTS idx_fy_changes_fy_type_seq ON fy_changes (fiscal_year_id, entity_type, seq);
+-- Retention pruning
+CREATE INDEX IF NOT EXISTS idx_fy_changes_changed_at ON fy_changes (changed_at);
@@ -0,0 +1,12 @@
+-- V7: Per-fiscal-year, per-collection version stamps for conditional GETs.
+--     Bumped by the change feed writer in the writing transaction; list
+--     endpoints derive their ETag from the collection's row and the fiscal
+--     year's '*' row (bumped when the fiscal year or its RC changes, since
+--     list items embed their names).
+
+CREATE TABLE IF NOT EXISTS fy_collection_versions (
+    fiscal_year_id BIGINT NOT NULL,
+    collection VARCHAR(48) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (fiscal_year_id, collection)
+);
@@ -0,0 +1,30 @@
+-- V8: Composite indexes for the keyset-paginated procurement and spending
+--     item lists. Each index leads with the fiscal year (and the active flag
+--     for procurement items), follows with the sort column and ends with the
+--     id tie-breaker, so a page is a single index range scan whatever its
+--     depth.
+
+-- Procurement items: default (purchase requisition), creation date,
+-- tracking status and amount (final price, else quoted price, in CAD)
+CREATE INDEX IF NOT EXISTS idx_procurement_items_fy_active_pr_id
+    ON procurement_items (fiscal_year_id, active, purchase_requisition, id);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_fy_active_created_id
+    ON procurement_items (fiscal_year_id, active, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_fy_active_tracking_id
+    ON procurement_items (fiscal_year_id, active, tracking_status, id);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_fy_active_amount_id
+    ON procurement_items (fiscal_year_id, active, COALESCE(final_price_cad, quoted_price_cad), id);
+
+-- Procurement events: newest active status event per item for the status filter
+CREATE INDEX IF NOT EXISTS idx_procurement_events_item_active_date_created
+    ON procurement_events (procurement_item_id, active, event_date DESC, created_at DESC);
+
+-- Spending items: default (name), status, amount and creation date
+CREATE INDEX IF NOT EXISTS idx_spending_items_fy_name_id
+    ON spending_items (fiscal_year_id, name, id);
+CREATE INDEX IF NOT EXISTS idx_spending_items_fy_status_id
+    ON spending_items (fiscal_year_id, status, id);
+CREATE INDEX IF NOT EXISTS idx_spending_items_fy_amount_id
+    ON spending_items (fiscal_year_id, amount, id);
+CREATE INDEX IF NOT EXISTS idx_spending_items_fy_created_id
+    ON spending_items (fiscal_year_id, created_at, id);
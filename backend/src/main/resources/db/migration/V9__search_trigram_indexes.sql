@@ -0,0 +1,72 @@
+-- V9: Trigram indexes for the fiscal year search and the procurement item
+--     search. pg_trgm GIN indexes on lower(column) answer both
+--     lower(column) LIKE '%term%' and the fuzzy word-similarity operator
+--     (term <% lower(column)), which otherwise scan every row.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Procurement items (also used by the existing name/PR/PO search)
+CREATE INDEX IF NOT EXISTS idx_procurement_items_name_trgm
+    ON procurement_items USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_pr_trgm
+    ON procurement_items USING gin (lower(purchase_requisition) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_po_trgm
+    ON procurement_items USING gin (lower(purchase_order) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_contract_trgm
+    ON procurement_items USING gin (lower(contract_number) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_vendor_trgm
+    ON procurement_items USING gin (lower(preferred_vendor) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_procurement_items_description_trgm
+    ON procurement_items USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_procurement_quotes_vendor_trgm
+    ON procurement_quotes USING gin (lower(vendor_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_procurement_quotes_reference_trgm
+    ON procurement_quotes USING gin (lower(quote_reference) gin_trgm_ops);
+
+-- Spending items and invoices
+CREATE INDEX IF NOT EXISTS idx_spending_items_name_trgm
+    ON spending_items USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_spending_items_reference_trgm
+    ON spending_items USING gin (lower(reference_number) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_spending_items_vendor_trgm
+    ON spending_items USING gin (lower(vendor) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_spending_items_description_trgm
+    ON spending_items USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_spending_invoices_comments_trgm
+    ON spending_invoices USING gin (lower(comments) gin_trgm_ops);
+
+-- Funding items
+CREATE INDEX IF NOT EXISTS idx_funding_items_name_trgm
+    ON funding_items USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_funding_items_description_trgm
+    ON funding_items USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_funding_items_comments_trgm
+    ON funding_items USING gin (lower(comments) gin_trgm_ops);
+
+-- Training items and participants
+CREATE INDEX IF NOT EXISTS idx_training_items_name_trgm
+    ON training_items USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_training_items_provider_trgm
+    ON training_items USING gin (lower(provider) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_training_items_location_trgm
+    ON training_items USING gin (lower(location) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_training_items_description_trgm
+    ON training_items USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_training_participants_name_trgm
+    ON training_participants USING gin (lower(name) gin_trgm_ops);
+
+-- Travel items and travellers
+CREATE INDEX IF NOT EXISTS idx_travel_items_name_trgm
+    ON travel_items USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_travel_items_emap_trgm
+    ON travel_items USING gin (lower(emap) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_travel_items_destination_trgm
+    ON travel_items USING gin (lower(destination) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_travel_items_purpose_trgm
+    ON travel_items USING gin (lower(purpose) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_travel_items_description_trgm
+    ON travel_items USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_travel_travellers_name_trgm
+    ON travel_travellers USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_travel_travellers_taac_trgm
+    ON travel_travellers USING gin (lower(taac) gin_trgm_ops);
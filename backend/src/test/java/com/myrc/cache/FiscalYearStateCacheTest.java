@@ -0,0 +1,94 @@
+/*
+ * myRC - Fiscal Year State Cache Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myrc.config.CacheProperties;
+import com.myrc.repository.FiscalYearRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for FiscalYearStateCache.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiscalYearStateCache Tests")
+class FiscalYearStateCacheTest {
+
+  @Mock
+  private FiscalYearRepository fiscalYearRepository;
+
+  private CacheInvalidationBus bus;
+  private FiscalYearStateCache cache;
+
+  @BeforeEach
+  void setUp() {
+    bus = new CacheInvalidationBus(new CacheProperties(), null, null);
+    cache = new FiscalYearStateCache(fiscalYearRepository, bus);
+  }
+
+  @Test
+  @DisplayName("Should query the database only on first access")
+  void testLazyLoad() {
+    when(fiscalYearRepository.findStateById(1L))
+        .thenReturn(Optional.of(new FiscalYearState(1L, true, 10L)));
+
+    assertTrue(cache.get(1L).orElseThrow().isActive());
+    assertTrue(cache.get(1L).orElseThrow().isActive());
+
+    verify(fiscalYearRepository, times(1)).findStateById(1L);
+  }
+
+  @Test
+  @DisplayName("Should reload after the fiscal year is evicted")
+  void testEvict() {
+    when(fiscalYearRepository.findStateById(1L))
+        .thenReturn(Optional.of(new FiscalYearState(1L, true, 10L)),
+            Optional.of(new FiscalYearState(1L, false, 10L)));
+
+    assertTrue(cache.get(1L).orElseThrow().isActive());
+    cache.evict(1L);
+    assertFalse(cache.get(1L).orElseThrow().isActive());
+
+    verify(fiscalYearRepository, times(2)).findStateById(1L);
+  }
+
+  @Test
+  @DisplayName("Should drop every entry on a clear-all invalidation")
+  void testClearAll() {
+    when(fiscalYearRepository.findStateById(1L))
+        .thenReturn(Optional.of(new FiscalYearState(1L, true, 10L)));
+
+    cache.get(1L);
+    bus.invalidate(FiscalYearStateCache.REGION, CacheInvalidationBus.CLEAR_ALL);
+    cache.get(1L);
+
+    verify(fiscalYearRepository, times(2)).findStateById(1L);
+  }
+
+  @Test
+  @DisplayName("Should return empty for unknown fiscal years")
+  void testMissing() {
+    when(fiscalYearRepository.findStateById(5L)).thenReturn(Optional.empty());
+
+    assertTrue(cache.get(5L).isEmpty());
+    assertTrue(cache.get(null).isEmpty());
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * myRC - Fiscal Year Totals Cache Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import com.myrc.config.PortfolioProperties;
+import com.myrc.dto.PortfolioDTO.FiscalYearTotals;
+import com.myrc.sync.ChangeStreamHub;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for FiscalYearTotalsCache.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiscalYearTotalsCache Tests")
+class FiscalYearTotalsCacheTest {
+
+  @Mock
+  private ChangeStreamHub changeStreamHub;
+
+  private PortfolioProperties properties;
+  private FiscalYearTotalsCache cache;
+  private Consumer<Long> changeListener;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    properties = new PortfolioProperties();
+    cache = new FiscalYearTotalsCache(properties, changeStreamHub);
+    ArgumentCaptor<Consumer<Long>> listener = ArgumentCaptor.forClass(Consumer.class);
+    verify(changeStreamHub).addChangeListener(listener.capture());
+    changeListener = listener.getValue();
+  }
+
+  @Test
+  @DisplayName("Should serve stored totals")
+  void testPutAndGet() {
+    FiscalYearTotals totals = new FiscalYearTotals();
+
+    cache.put(5L, totals, cache.generation(5L));
+
+    assertSame(totals, cache.get(5L).orElseThrow());
+    assertFalse(cache.get(6L).isPresent());
+  }
+
+  @Test
+  @DisplayName("Should evict a fiscal year when its change feed advances")
+  void testChangeEvicts() {
+    cache.put(5L, new FiscalYearTotals(), cache.generation(5L));
+    cache.put(6L, new FiscalYearTotals(), cache.generation(6L));
+
+    changeListener.accept(5L);
+
+    assertFalse(cache.get(5L).isPresent());
+    assertTrue(cache.get(6L).isPresent());
+  }
+
+  @Test
+  @DisplayName("Should drop totals computed before an eviction")
+  void testStaleGenerationDropped() {
+    long generation = cache.generation(5L);
+
+    cache.evict(5L);
+    cache.put(5L, new FiscalYearTotals(), generation);
+
+    assertFalse(cache.get(5L).isPresent());
+    cache.put(5L, new FiscalYearTotals(), cache.generation(5L));
+    assertTrue(cache.get(5L).isPresent());
+  }
+
+  @Test
+  @DisplayName("Should treat expired totals as missing")
+  void testExpiry() {
+    properties.setCacheTtlSeconds(0);
+    FiscalYearTotalsCache expiring = new FiscalYearTotalsCache(properties, changeStreamHub);
+
+    expiring.put(5L, new FiscalYearTotals(), expiring.generation(5L));
+
+    assertFalse(expiring.get(5L).isPresent());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * myRC - Name Cache Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myrc.config.CacheProperties;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for NameCache.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NameCache Tests")
+class NameCacheTest {
+
+  @Mock
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Mock
+  private FiscalYearRepository fiscalYearRepository;
+
+  private NameCache nameCache;
+
+  @BeforeEach
+  void setUp() {
+    CacheInvalidationBus bus = new CacheInvalidationBus(new CacheProperties(), null, null);
+    nameCache = new NameCache(rcRepository, fiscalYearRepository, bus);
+  }
+
+  @Test
+  @DisplayName("Should load an RC name once and serve repeats from memory")
+  void testRcNameCached() {
+    when(rcRepository.findNameById(1L)).thenReturn(Optional.of("Finance"));
+
+    assertEquals("Finance", nameCache.getRcName(1L));
+    assertEquals("Finance", nameCache.getRcName(1L));
+
+    verify(rcRepository, times(1)).findNameById(1L);
+  }
+
+  @Test
+  @DisplayName("Should reload a fiscal year name after eviction")
+  void testFiscalYearEviction() {
+    when(fiscalYearRepository.findNameById(2L))
+        .thenReturn(Optional.of("FY 2025-2026"), Optional.of("FY 2026-2027"));
+
+    assertEquals("FY 2025-2026", nameCache.getFiscalYearName(2L));
+    nameCache.evictFiscalYear(2L);
+    assertEquals("FY 2026-2027", nameCache.getFiscalYearName(2L));
+
+    verify(fiscalYearRepository, times(2)).findNameById(2L);
+  }
+
+  @Test
+  @DisplayName("Should return null for null or unknown IDs without caching misses")
+  void testMissingNames() {
+    when(rcRepository.findNameById(9L)).thenReturn(Optional.empty());
+
+    assertNull(nameCache.getRcName(null));
+    assertNull(nameCache.getRcName(9L));
+    assertNull(nameCache.getRcName(9L));
+
+    verify(rcRepository, times(2)).findNameById(9L);
+    verify(fiscalYearRepository, never()).findNameById(9L);
+  }
+
+  @Test
+  @DisplayName("Should return null when the lookup fails")
+  void testLookupFailure() {
+    when(rcRepository.findNameById(3L)).thenThrow(new RuntimeException("db down"));
+
+    assertNull(nameCache.getRcName(3L));
+  }
+}
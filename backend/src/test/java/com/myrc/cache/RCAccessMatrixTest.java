@@ -0,0 +1,238 @@
+/*
+ * myRC - RC Access Matrix Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myrc.config.CacheProperties;
+import com.myrc.config.ReplicaProperties;
+import com.myrc.model.RCAccess.AccessLevel;
+import com.myrc.repository.RCAccessRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for RCAccessMatrix.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RCAccessMatrix Tests")
+class RCAccessMatrixTest {
+
+  private static final String GROUP = "cn=finance,ou=groups,dc=example,dc=com";
+
+  @Mock
+  private RCAccessRepository accessRepository;
+
+  @Mock
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private CacheInvalidationBus bus;
+  private RCAccessMatrix matrix;
+
+  @BeforeEach
+  void setUp() {
+    bus = new CacheInvalidationBus(new CacheProperties(), null, null);
+    matrix = new RCAccessMatrix(accessRepository, rcRepository, bus, transactionManager,
+        new ReplicaProperties());
+  }
+
+  private static List<Object[]> rows(Object[]... rows) {
+    return new ArrayList<>(List.of(rows));
+  }
+
+  @Test
+  @DisplayName("Should combine ownership, user grants and group grants at the highest level")
+  void testAccessForCombinesPrincipals() {
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(new Object[] {1L, "alice"}));
+    when(accessRepository.findAccessMatrixRows()).thenReturn(rows(
+        new Object[] {2L, "bob", null, AccessLevel.READ_ONLY},
+        new Object[] {2L, null, GROUP, AccessLevel.READ_WRITE},
+        new Object[] {3L, null, GROUP, AccessLevel.READ_ONLY},
+        new Object[] {1L, "bob", null, AccessLevel.READ_WRITE}));
+
+    assertEquals(Map.of(1L, AccessLevel.OWNER), matrix.accessFor(List.of("alice")));
+    assertEquals(Map.of(1L, AccessLevel.READ_WRITE, 2L, AccessLevel.READ_WRITE, 3L, AccessLevel.READ_ONLY),
+        matrix.accessFor(List.of(GROUP, "bob")));
+    assertEquals(Map.of(2L, AccessLevel.READ_WRITE),
+        matrix.levelsFor(List.of(2L, 4L), List.of("bob", GROUP)));
+    assertEquals(Optional.empty(), matrix.levelFor(4L, List.of("bob", GROUP)));
+
+    verify(rcRepository, times(1)).findOwnerUsernames();
+    verify(accessRepository, times(1)).findAccessMatrixRows();
+  }
+
+  @Test
+  @DisplayName("Should count a linked grant under the username and the principal identifier")
+  void testLinkedGrantCountsUnderBothNames() {
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows());
+    when(accessRepository.findAccessMatrixRows()).thenReturn(rows(
+        new Object[] {5L, "carol", "CN=Carol,OU=Users", AccessLevel.READ_ONLY}));
+
+    assertEquals(Optional.of(AccessLevel.READ_ONLY), matrix.levelFor(5L, List.of("carol")));
+    assertEquals(Optional.of(AccessLevel.READ_ONLY), matrix.levelFor(5L, List.of("CN=Carol,OU=Users")));
+  }
+
+  @Test
+  @DisplayName("Should re-read only the evicted RC on the next lookup")
+  void testEvictRefreshesOneRc() {
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(
+        new Object[] {1L, "alice"}, new Object[] {2L, "alice"}));
+    when(accessRepository.findAccessMatrixRows()).thenReturn(rows(
+        new Object[] {1L, "bob", null, AccessLevel.READ_ONLY}));
+    assertEquals(Map.of(1L, AccessLevel.READ_ONLY), matrix.accessFor(List.of("bob")));
+
+    when(rcRepository.findOwnerUsernamesByIdIn(List.of(1L))).thenReturn(rows(new Object[] {1L, "alice"}));
+    when(accessRepository.findAccessMatrixRowsByRcIds(List.of(1L))).thenReturn(rows(
+        new Object[] {1L, "bob", null, AccessLevel.READ_WRITE}));
+    matrix.evictRc(1L);
+
+    assertEquals(Map.of(1L, AccessLevel.READ_WRITE), matrix.accessFor(List.of("bob")));
+    assertEquals(Map.of(1L, AccessLevel.OWNER, 2L, AccessLevel.OWNER), matrix.accessFor(List.of("alice")));
+    verify(rcRepository, times(1)).findOwnerUsernames();
+    verify(accessRepository, times(1)).findAccessMatrixRowsByRcIds(anyCollection());
+  }
+
+  @Test
+  @DisplayName("Should drop revoked grants and deleted RCs on refresh")
+  void testEvictRemovesRevokedAccess() {
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(new Object[] {1L, "alice"}));
+    when(accessRepository.findAccessMatrixRows()).thenReturn(rows(
+        new Object[] {1L, null, GROUP, AccessLevel.READ_WRITE}));
+    assertEquals(Map.of(1L, AccessLevel.READ_WRITE), matrix.accessFor(List.of(GROUP)));
+
+    when(rcRepository.findOwnerUsernamesByIdIn(List.of(1L))).thenReturn(rows());
+    when(accessRepository.findAccessMatrixRowsByRcIds(List.of(1L))).thenReturn(rows());
+    matrix.evictRc(1L);
+
+    assertTrue(matrix.accessFor(List.of(GROUP)).isEmpty());
+    assertTrue(matrix.accessFor(List.of("alice")).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should rebuild the whole matrix after a clear")
+  void testEvictAllRebuilds() {
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(new Object[] {1L, "alice"}));
+    when(accessRepository.findAccessMatrixRows()).thenReturn(rows());
+
+    matrix.accessFor(List.of("alice"));
+    matrix.evictAll();
+    matrix.accessFor(List.of("alice"));
+
+    verify(rcRepository, times(2)).findOwnerUsernames();
+    verify(rcRepository, never()).findOwnerUsernamesByIdIn(anyCollection());
+  }
+
+  @Test
+  @DisplayName("Should load in the caller's transaction when there are no read replicas")
+  void testLoadsInCallerTransaction() {
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(new Object[] {1L, "alice"}));
+    when(accessRepository.findAccessMatrixRows()).thenReturn(rows());
+    when(rcRepository.findOwnerUsernamesByIdIn(List.of(1L))).thenReturn(rows(new Object[] {1L, "alice"}));
+    when(accessRepository.findAccessMatrixRowsByRcIds(List.of(1L))).thenReturn(rows());
+
+    matrix.accessFor(List.of("alice"));
+    matrix.evictRc(1L);
+    matrix.accessFor(List.of("alice"));
+
+    ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+    verify(transactionManager, times(2)).getTransaction(definitions.capture());
+    for (TransactionDefinition definition : definitions.getAllValues()) {
+      assertEquals(TransactionDefinition.PROPAGATION_REQUIRED, definition.getPropagationBehavior());
+      assertFalse(definition.isReadOnly());
+    }
+  }
+
+  @Test
+  @DisplayName("Should load read-only callers in a new read-write transaction when replicas are enabled")
+  void testLoadsReadOnlyCallersOnPrimary() {
+    matrix = new RCAccessMatrix(accessRepository, rcRepository, bus, transactionManager, true,
+        RCAccessMatrix.TTL, Runnable::run);
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(new Object[] {1L, "alice"}));
+    when(accessRepository.findAccessMatrixRows()).thenReturn(rows());
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    try {
+      matrix.accessFor(List.of("alice"));
+    } finally {
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+    verify(transactionManager).getTransaction(definition.capture());
+    verify(transactionManager).commit(any());
+    assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+    assertFalse(definition.getValue().isReadOnly());
+  }
+
+  @Test
+  @DisplayName("Should keep serving an expired matrix while it is rebuilt in the background")
+  void testExpiredMatrixRebuiltInBackground() {
+    List<Runnable> rebuilds = new ArrayList<>();
+    matrix = new RCAccessMatrix(accessRepository, rcRepository, bus, transactionManager, false,
+        Duration.ZERO, rebuilds::add);
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(new Object[] {1L, "alice"}));
+    when(accessRepository.findAccessMatrixRows()).thenReturn(rows());
+    assertEquals(Map.of(1L, AccessLevel.OWNER), matrix.accessFor(List.of("alice")));
+
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(new Object[] {2L, "alice"}));
+    assertEquals(Map.of(1L, AccessLevel.OWNER), matrix.accessFor(List.of("alice")));
+    assertEquals(1, rebuilds.size());
+
+    rebuilds.get(0).run();
+
+    assertEquals(Map.of(2L, AccessLevel.OWNER), matrix.accessFor(List.of("alice")));
+    verify(rcRepository, times(2)).findOwnerUsernames();
+  }
+
+  @Test
+  @DisplayName("Should discard a background rebuild that raced a clear")
+  void testBackgroundRebuildDiscardedAfterClear() {
+    List<Runnable> rebuilds = new ArrayList<>();
+    matrix = new RCAccessMatrix(accessRepository, rcRepository, bus, transactionManager, false,
+        Duration.ZERO, rebuilds::add);
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(new Object[] {1L, "alice"}));
+    when(accessRepository.findAccessMatrixRows()).thenReturn(rows());
+    matrix.accessFor(List.of("alice"));
+    when(rcRepository.findOwnerUsernames()).thenAnswer(invocation -> {
+      matrix.evictAll();
+      return rows(new Object[] {2L, "alice"});
+    });
+
+    rebuilds.get(0).run();
+    when(rcRepository.findOwnerUsernames()).thenReturn(rows(new Object[] {3L, "alice"}));
+
+    assertEquals(Map.of(3L, AccessLevel.OWNER), matrix.accessFor(List.of("alice")));
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * myRC - Binary Encoding Configuration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.myrc.dto.SpendingItemDTO;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Unit tests for BinaryEncodingConfig.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@DisplayName("BinaryEncodingConfig Tests")
+class BinaryEncodingConfigTest {
+
+    private final BinaryEncodingConfig config = new BinaryEncodingConfig();
+
+    @Test
+    @DisplayName("Registers converters for application/cbor and application/x-jackson-smile")
+    void registersMediaTypes() {
+        assertTrue(config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder())
+                .getSupportedMediaTypes().contains(MediaType.APPLICATION_CBOR));
+        assertTrue(config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder())
+                .getSupportedMediaTypes().contains(BinaryEncodingConfig.APPLICATION_SMILE));
+    }
+
+    @Test
+    @DisplayName("CBOR round-trips a spending list and is smaller than JSON")
+    void cborRoundTrip() throws Exception {
+        assertRoundTripSmallerThanJson(BinaryEncodingConfig.cborMapper(new Jackson2ObjectMapperBuilder()));
+    }
+
+    @Test
+    @DisplayName("Smile round-trips a spending list and is smaller than JSON")
+    void smileRoundTrip() throws Exception {
+        assertRoundTripSmallerThanJson(BinaryEncodingConfig.smileMapper(new Jackson2ObjectMapperBuilder()));
+    }
+
+    private void assertRoundTripSmallerThanJson(ObjectMapper binary) throws Exception {
+        ObjectMapper json = new Jackson2ObjectMapperBuilder().build();
+        List<SpendingItemDTO> items = sampleItems(50);
+
+        byte[] encoded = binary.writeValueAsBytes(items);
+        byte[] plain = json.writeValueAsBytes(items);
+        assertTrue(encoded.length < plain.length,
+                "binary " + encoded.length + " bytes, JSON " + plain.length + " bytes");
+
+        CollectionType type = binary.getTypeFactory().constructCollectionType(List.class, SpendingItemDTO.class);
+        List<SpendingItemDTO> decoded = binary.readValue(encoded, type);
+        assertEquals(items.size(), decoded.size());
+        SpendingItemDTO first = decoded.get(0);
+        assertEquals(1L, first.getId());
+        assertEquals("Item 1", first.getName());
+        assertEquals(0, new BigDecimal("101.25").compareTo(first.getAmount()));
+        assertEquals(LocalDateTime.of(2026, 4, 1, 9, 30), first.getCreatedAt());
+        assertEquals("Hardware", first.getCategoryName());
+    }
+
+    private List<SpendingItemDTO> sampleItems(int count) {
+        List<SpendingItemDTO> items = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            SpendingItemDTO item = new SpendingItemDTO();
+            item.setId((long) i);
+            item.setName("Item " + i);
+            item.setDescription("Replacement equipment for the operations floor");
+            item.setVendor("Vendor " + (i % 5));
+            item.setAmount(new BigDecimal("100.00").add(new BigDecimal("1.25").multiply(BigDecimal.valueOf(i))));
+            item.setStatus("PLANNING");
+            item.setCurrency("CAD");
+            item.setCategoryId(7L);
+            item.setCategoryName("Hardware");
+            item.setFiscalYearId(3L);
+            item.setCreatedAt(LocalDateTime.of(2026, 4, 1, 9, 30));
+            item.setActive(true);
+            items.add(item);
+        }
+        return items;
+    }
+}
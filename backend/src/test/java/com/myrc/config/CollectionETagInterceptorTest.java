@@ -0,0 +1,157 @@
+/*
+ * myRC - Collection ETag Interceptor Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.myrc.cache.FiscalYearState;
+import com.myrc.cache.FiscalYearStateCache;
+import com.myrc.datasource.ReadYourWritesTracker;
+import com.myrc.service.RCPermissionService;
+import com.myrc.sync.CollectionVersions;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Unit tests for CollectionETagInterceptor.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CollectionETagInterceptor Tests")
+class CollectionETagInterceptorTest {
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
+    @Mock
+    private FiscalYearStateCache fiscalYearStateCache;
+
+    @Mock
+    private RCPermissionService permissionService;
+
+    private ReadYourWritesTracker tracker;
+
+    private CollectionETagInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("readYourWritesTracker", tracker);
+        interceptor = new CollectionETagInterceptor(collectionVersions, fiscalYearStateCache, permissionService,
+                beans.getBeanProvider(ReadYourWritesTracker.class));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("testuser", null));
+        lenient().when(fiscalYearStateCache.get(5L))
+                .thenReturn(Optional.of(new FiscalYearState(5L, true, 1L)));
+        lenient().when(permissionService.hasAccess(1L, "testuser")).thenReturn(true);
+        lenient().when(collectionVersions.stamp(5L, "spending-items")).thenReturn("3.1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        tracker.end();
+    }
+
+    private MockHttpServletRequest listRequest(String collection) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET",
+                "/responsibility-centres/1/fiscal-years/5/" + collection);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                "/responsibility-centres/{rcId}/fiscal-years/{fyId}/" + collection);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                Map.of("rcId", "1", "fyId", "5"));
+        return request;
+    }
+
+    @Test
+    @DisplayName("Sets the ETag and continues when the client has no copy")
+    void setsETag() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(listRequest("spending-items"), response, new Object()));
+        assertEquals("W/\"spending-items-3.1\"", response.getHeader("ETag"));
+        assertEquals("private, no-cache", response.getHeader("Cache-Control"));
+        assertEquals("Accept", response.getHeader("Vary"));
+        assertTrue(tracker.isPinnedToPrimary(), "body must be read on the primary");
+    }
+
+    @Test
+    @DisplayName("Answers 304 when If-None-Match matches")
+    void notModified() throws Exception {
+        MockHttpServletRequest request = listRequest("spending-items");
+        request.addHeader("If-None-Match", "\"other\", W/\"spending-items-3.1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+        assertEquals(304, response.getStatus());
+        assertFalse(tracker.isPinnedToPrimary());
+    }
+
+    @Test
+    @DisplayName("Works without a read-your-writes tracker when replicas are off")
+    void noTracker() throws Exception {
+        interceptor = new CollectionETagInterceptor(collectionVersions, fiscalYearStateCache, permissionService,
+                new StaticListableBeanFactory().getBeanProvider(ReadYourWritesTracker.class));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(listRequest("spending-items"), response, new Object()));
+        assertEquals("W/\"spending-items-3.1\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    @DisplayName("Includes the query string in the ETag")
+    void queryStringChangesETag() {
+        assertNotEquals(CollectionETagInterceptor.etag("monies", "1.0", null),
+                CollectionETagInterceptor.etag("monies", "1.0", "status=ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("Leaves users without access to the controller")
+    void noAccess() throws Exception {
+        when(permissionService.hasAccess(1L, "testuser")).thenReturn(false);
+        MockHttpServletRequest request = listRequest("spending-items");
+        request.addHeader("If-None-Match", "W/\"spending-items-3.1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        assertNull(response.getHeader("ETag"));
+        verifyNoInteractions(collectionVersions);
+    }
+
+    @Test
+    @DisplayName("Ignores single-item endpoints and writes")
+    void ignoresNonListRequests() throws Exception {
+        MockHttpServletRequest item = new MockHttpServletRequest("GET",
+                "/responsibility-centres/1/fiscal-years/5/spending-items/9");
+        item.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                "/responsibility-centres/{rcId}/fiscal-years/{fyId}/spending-items/{id}");
+        MockHttpServletRequest post = listRequest("spending-items");
+        post.setMethod("POST");
+
+        assertTrue(interceptor.preHandle(item, new MockHttpServletResponse(), new Object()));
+        assertTrue(interceptor.preHandle(post, new MockHttpServletResponse(), new Object()));
+        verifyNoInteractions(collectionVersions, permissionService);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * myRC - LDAP Group Resolution Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ldap.core.DirContextAdapter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.ldap.DefaultSpringSecurityContextSource;
+
+/**
+ * Tests for {@link LdapSecurityConfig.GroupMappingLdapAuthoritiesPopulator}
+ * against an embedded directory loaded from {@code ldap-init.ldif}, with a
+ * chain of nested groups added on top:
+ * ticketuser &isin; platform-team &isin; engineering &isin; all-engineering &isin; platform-team.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+class GroupMappingLdapAuthoritiesPopulatorTest {
+
+    private static final String BASE_DN = "dc=myrc,dc=local";
+    private static final String GROUPS_DN = "ou=groups," + BASE_DN;
+
+    private static final AtomicInteger groupSearches = new AtomicInteger();
+    private static InMemoryDirectoryServer server;
+    private static DefaultSpringSecurityContextSource contextSource;
+
+    private LdapProperties properties;
+
+    @BeforeAll
+    static void startDirectory() throws Exception {
+        InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig(BASE_DN);
+        config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+        // The distribution lists in ldap-init.ldif carry mail, outside the standard groupOfNames schema
+        config.setSchema(null);
+        config.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor() {
+            @Override
+            public void processSearchRequest(InMemoryInterceptedSearchRequest request) {
+                if (request.getRequest().getBaseDN().toLowerCase(Locale.ROOT).endsWith(GROUPS_DN)) {
+                    groupSearches.incrementAndGet();
+                }
+            }
+        });
+
+        server = new InMemoryDirectoryServer(config);
+        server.add("dn: " + BASE_DN, "objectClass: top", "objectClass: domain", "dc: myrc");
+        server.importFromLDIF(false, ldifFile());
+        server.add("dn: cn=platform-team," + GROUPS_DN, "objectClass: groupOfNames", "cn: platform-team",
+            "member: uid=ticketuser,ou=users," + BASE_DN,
+            "member: cn=all-engineering," + GROUPS_DN);
+        server.add("dn: cn=engineering," + GROUPS_DN, "objectClass: groupOfNames", "cn: engineering",
+            "member: cn=platform-team," + GROUPS_DN);
+        server.add("dn: cn=all-engineering," + GROUPS_DN, "objectClass: groupOfNames", "cn: all-engineering",
+            "member: cn=engineering," + GROUPS_DN);
+        server.startListening();
+
+        contextSource = new DefaultSpringSecurityContextSource(
+            "ldap://localhost:" + server.getListenPort() + "/" + BASE_DN);
+        contextSource.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopDirectory() {
+        if (server != null) {
+            server.shutDown(true);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties = new LdapProperties();
+        properties.setMembershipCacheTtlSeconds(0);
+        groupSearches.set(0);
+    }
+
+    @Test
+    @DisplayName("Should build role and DN authorities from a single group search")
+    void directGroupsSingleSearch() {
+        Set<String> authorities = authorities(populator(), "ticketuser");
+
+        assertTrue(authorities.containsAll(Set.of(
+            "ROLE_users", "ROLE_staff", "ROLE_platform-team",
+            "LDAP_GROUP_DN_cn=users," + GROUPS_DN,
+            "LDAP_GROUP_DN_cn=staff," + GROUPS_DN,
+            "LDAP_GROUP_DN_cn=platform-team," + GROUPS_DN)));
+        assertFalse(authorities.contains("ROLE_engineering"));
+        assertEquals(1, groupSearches.get());
+    }
+
+    @Test
+    @DisplayName("Should map configured group DNs to application roles")
+    void groupMappings() {
+        LdapProperties.GroupMapping mapping = new LdapProperties.GroupMapping();
+        mapping.setGroupDn("CN=admins," + GROUPS_DN);
+        mapping.setRole("ADMIN");
+        mapping.setAdmin(true);
+        properties.setGroupMappings(List.of(mapping));
+
+        Set<String> authorities = authorities(populator(), "adminuser");
+
+        assertTrue(authorities.containsAll(Set.of("ROLE_ADMIN", "ROLE_admins", "ROLE_managers")));
+        assertFalse(authorities.contains("ROLE_staff"));
+    }
+
+    @Test
+    @DisplayName("Should expand nested groups one level per search and stop at cycles")
+    void iterativeExpansion() {
+        properties.setNestedGroups(LdapProperties.NestedGroupMode.ITERATIVE);
+
+        Set<String> authorities = authorities(populator(), "ticketuser");
+
+        assertTrue(authorities.containsAll(Set.of(
+            "ROLE_platform-team", "ROLE_engineering", "ROLE_all-engineering",
+            "LDAP_GROUP_DN_cn=all-engineering," + GROUPS_DN)));
+        // Direct groups, engineering, all-engineering, then platform-team again (already seen)
+        assertEquals(4, groupSearches.get());
+    }
+
+    @Test
+    @DisplayName("Should not follow nested groups beyond the configured depth")
+    void iterativeExpansionDepthBound() {
+        properties.setNestedGroups(LdapProperties.NestedGroupMode.ITERATIVE);
+        properties.setNestedGroupMaxDepth(1);
+
+        Set<String> authorities = authorities(populator(), "ticketuser");
+
+        assertTrue(authorities.contains("ROLE_engineering"));
+        assertFalse(authorities.contains("ROLE_all-engineering"));
+        assertEquals(2, groupSearches.get());
+    }
+
+    @Test
+    @DisplayName("Should reuse cached memberships until the cache is cleared")
+    void membershipCache() {
+        properties.setMembershipCacheTtlSeconds(300);
+        properties.setNestedGroups(LdapProperties.NestedGroupMode.ITERATIVE);
+        LdapSecurityConfig.GroupMappingLdapAuthoritiesPopulator populator = populator();
+
+        Set<String> first = authorities(populator, "ticketuser");
+        int searches = groupSearches.get();
+        Set<String> second = authorities(populator, "ticketuser");
+
+        assertEquals(first, second);
+        assertEquals(searches, groupSearches.get());
+
+        populator.clearMembershipCache();
+        assertEquals(first, authorities(populator, "ticketuser"));
+        assertEquals(2 * searches, groupSearches.get());
+    }
+
+    private LdapSecurityConfig.GroupMappingLdapAuthoritiesPopulator populator() {
+        return (LdapSecurityConfig.GroupMappingLdapAuthoritiesPopulator)
+            new LdapSecurityConfig(properties).ldapAuthoritiesPopulator(contextSource);
+    }
+
+    private static Set<String> authorities(
+            LdapSecurityConfig.GroupMappingLdapAuthoritiesPopulator populator, String uid) {
+        DirContextAdapter user = new DirContextAdapter("uid=" + uid + ",ou=users," + BASE_DN);
+        return populator.getGrantedAuthorities(user, uid).stream()
+            .map(GrantedAuthority::getAuthority)
+            .collect(Collectors.toSet());
+    }
+
+    private static String ldifFile() {
+        // Tests run from backend/; the LDIF lives at the repository root
+        File file = new File("../ldap-init.ldif");
+        return (file.exists() ? file : new File("ldap-init.ldif")).getPath();
+    }
+}
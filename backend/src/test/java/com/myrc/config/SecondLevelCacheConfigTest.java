@@ -0,0 +1,77 @@
+/*
+ * myRC - Second-Level Cache Configuration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+import com.myrc.cache.CacheRegions;
+import java.util.HashMap;
+import java.util.Map;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SecondLevelCacheConfig.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@DisplayName("SecondLevelCacheConfig Tests")
+class SecondLevelCacheConfigTest {
+
+    private CacheProperties properties;
+    private Map<String, Object> hibernateProperties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        hibernateProperties = new HashMap<>();
+    }
+
+    @Test
+    @DisplayName("All reference-data entities should be cacheable by default")
+    void allEntitiesCachedByDefault() {
+        customize();
+
+        for (Map.Entry<String, Class<?>> entry : CacheRegions.ENTITIES.entrySet()) {
+            assertEquals("read-write," + CacheRegions.entityRegion(entry.getKey()),
+                    hibernateProperties.get("hibernate.classcache." + entry.getValue().getName()));
+        }
+        assertEquals(true, hibernateProperties.get("hibernate.cache.use_second_level_cache"));
+        assertEquals(true, hibernateProperties.get("hibernate.cache.use_query_cache"));
+    }
+
+    @Test
+    @DisplayName("A disabled entity should not be marked cacheable")
+    void disabledEntityNotCached() {
+        properties.getSecondLevel().getEntities().get(CacheRegions.MONEY).setEnabled(false);
+
+        customize();
+
+        assertFalse(hibernateProperties.containsKey("hibernate.classcache.com.myrc.model.Money"));
+    }
+
+    @Test
+    @DisplayName("Query cache toggle should be honoured")
+    void queryCacheToggle() {
+        properties.getSecondLevel().setQueryCache(false);
+
+        customize();
+
+        assertEquals(false, hibernateProperties.get("hibernate.cache.use_query_cache"));
+    }
+
+    private void customize() {
+        new SecondLevelCacheConfig()
+                .secondLevelCacheCustomizer(properties, mock(CacheManager.class))
+                .customize(hibernateProperties);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * myRC - Fiscal Year Change Controller Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.myrc.dto.FiscalYearChangesDTO;
+import com.myrc.service.FiscalYearChangeService;
+import com.myrc.sync.ChangeStreamHub;
+import java.util.Collection;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Unit tests for FiscalYearChangeController.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+class FiscalYearChangeControllerTest {
+
+  @Mock
+  private FiscalYearChangeService changeService;
+
+  @Mock
+  private ChangeStreamHub changeStreamHub;
+
+  private Authentication authentication;
+  private FiscalYearChangeController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller = new FiscalYearChangeController(changeService, changeStreamHub);
+    authentication = new Authentication() {
+      @Override public String getName() { return "testuser"; }
+      @Override public Collection<? extends GrantedAuthority> getAuthorities() { return Collections.emptyList(); }
+      @Override public Object getCredentials() { return null; }
+      @Override public Object getDetails() { return null; }
+      @Override public Object getPrincipal() { return "testuser"; }
+      @Override public boolean isAuthenticated() { return true; }
+      @Override public void setAuthenticated(boolean b) { }
+    };
+  }
+
+  @Test
+  @DisplayName("Returns the changes since the given version")
+  void returnsChanges() {
+    FiscalYearChangesDTO changes = new FiscalYearChangesDTO(1L, 5L, 9L, false);
+    when(changeService.getChangesSince(1L, 5L, "testuser")).thenReturn(changes);
+
+    ResponseEntity<FiscalYearChangesDTO> response = controller.getChanges(1L, 1L, 5L, authentication);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertSame(changes, response.getBody());
+  }
+
+  @Test
+  @DisplayName("Returns 403 when access is denied")
+  void forbidden() {
+    when(changeService.getChangesSince(1L, null, "testuser"))
+        .thenThrow(new IllegalArgumentException("User does not have access"));
+
+    ResponseEntity<FiscalYearChangesDTO> response = controller.getChanges(1L, 1L, null, authentication);
+
+    assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+  }
+
+  @Test
+  @DisplayName("Returns 500 on unexpected errors")
+  void serverError() {
+    when(changeService.getChangesSince(1L, 5L, "testuser")).thenThrow(new RuntimeException("boom"));
+
+    ResponseEntity<FiscalYearChangesDTO> response = controller.getChanges(1L, 1L, 5L, authentication);
+
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+  }
+
+  @Test
+  @DisplayName("Opens a stream resuming from Last-Event-ID")
+  void streamResumesFromLastEventId() {
+    SseEmitter emitter = new SseEmitter();
+    when(changeStreamHub.subscribe(1L, 7L)).thenReturn(emitter);
+
+    ResponseEntity<SseEmitter> response = controller.streamChanges(1L, 1L, 3L, 7L, authentication);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertSame(emitter, response.getBody());
+    assertEquals("no", response.getHeaders().getFirst("X-Accel-Buffering"));
+    verify(changeService).verifyAccess(1L, "testuser");
+  }
+
+  @Test
+  @DisplayName("Refuses the stream without access")
+  void streamForbidden() {
+    doThrow(new IllegalArgumentException("User does not have access"))
+        .when(changeService).verifyAccess(1L, "testuser");
+
+    ResponseEntity<SseEmitter> response = controller.streamChanges(1L, 1L, null, null, authentication);
+
+    assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+    verifyNoInteractions(changeStreamHub);
+  }
+
+  @Test
+  @DisplayName("Returns 503 when the replica has too many streams")
+  void streamUnavailable() {
+    when(changeStreamHub.subscribe(1L, null))
+        .thenThrow(new IllegalStateException("Too many change stream subscribers"));
+
+    ResponseEntity<SseEmitter> response = controller.streamChanges(1L, 1L, null, null, authentication);
+
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+  }
+}
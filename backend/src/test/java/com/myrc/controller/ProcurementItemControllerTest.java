@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.myrc.dto.ItemListQuery;
 import com.myrc.dto.ProcurementItemDTO;
 import com.myrc.dto.ProcurementQuoteDTO;
 import com.myrc.service.ProcurementItemService;
@@ -108,7 +109,7 @@ class ProcurementItemControllerTest {
           .thenReturn(Arrays.asList(testItem));
 
       ResponseEntity<List<ProcurementItemDTO>> response = 
-          controller.getProcurementItems(1L, 1L, null, null, authentication);
+          controller.getProcurementItems(1L, 1L, null, null, new ItemListQuery(), authentication);
 
       assertEquals(HttpStatus.OK, response.getStatusCode());
       assertNotNull(response.getBody());
@@ -122,7 +123,7 @@ class ProcurementItemControllerTest {
           .thenReturn(Arrays.asList(testItem));
 
       ResponseEntity<List<ProcurementItemDTO>> response = 
-          controller.getProcurementItems(1L, 1L, "DRAFT", null, authentication);
+          controller.getProcurementItems(1L, 1L, "DRAFT", null, new ItemListQuery(), authentication);
 
       assertEquals(HttpStatus.OK, response.getStatusCode());
       verify(procurementItemService).getProcurementItemsByFiscalYearIdAndStatus(1L, "DRAFT", "testuser");
@@ -135,7 +136,7 @@ class ProcurementItemControllerTest {
           .thenReturn(Arrays.asList(testItem));
 
       ResponseEntity<List<ProcurementItemDTO>> response = 
-          controller.getProcurementItems(1L, 1L, null, "test", authentication);
+          controller.getProcurementItems(1L, 1L, null, "test", new ItemListQuery(), authentication);
 
       assertEquals(HttpStatus.OK, response.getStatusCode());
       verify(procurementItemService).searchProcurementItems(1L, "test", "testuser");
@@ -148,7 +149,7 @@ class ProcurementItemControllerTest {
           .thenThrow(new IllegalArgumentException("Access denied"));
 
       ResponseEntity<List<ProcurementItemDTO>> response = 
-          controller.getProcurementItems(1L, 1L, null, null, authentication);
+          controller.getProcurementItems(1L, 1L, null, null, new ItemListQuery(), authentication);
 
       assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
     }
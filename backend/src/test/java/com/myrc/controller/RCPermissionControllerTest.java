@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.myrc.dto.RCAccessDTO;
+import com.myrc.dto.RCAccessLevelDTO;
 import com.myrc.model.RCAccess.AccessLevel;
 import com.myrc.model.RCAccess.PrincipalType;
 import com.myrc.service.RCPermissionService;
@@ -22,6 +23,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -591,4 +594,62 @@ class RCPermissionControllerTest {
       assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
     }
   }
+
+  @Nested
+  @DisplayName("Batch access Tests")
+  class BatchAccessTests {
+
+    @Test
+    @DisplayName("Should list the current user's RCs in ID order")
+    void shouldListMyAccess() {
+      when(permissionService.getAccessibleRCs(eq("testuser"), anyList()))
+          .thenReturn(Map.of(3L, AccessLevel.READ_ONLY, 1L, AccessLevel.OWNER));
+
+      ResponseEntity<List<RCAccessLevelDTO>> response = controller.getMyAccess(authentication);
+
+      assertEquals(HttpStatus.OK, response.getStatusCode());
+      List<RCAccessLevelDTO> body = response.getBody();
+      assertEquals(2, body.size());
+      assertEquals(1L, body.get(0).getRcId());
+      assertTrue(body.get(0).isCanManage());
+      assertEquals("READ_ONLY", body.get(1).getAccessLevel());
+      assertFalse(body.get(1).isCanEdit());
+    }
+
+    @Test
+    @DisplayName("Should evaluate each distinct RC once and report RCs without access")
+    @SuppressWarnings("unchecked")
+    void shouldEvaluateRequestedRcs() {
+      when(permissionService.getEffectiveAccessLevels(anyCollection(), eq("testuser"), anyList()))
+          .thenReturn(Map.of(2L, AccessLevel.READ_WRITE));
+
+      ResponseEntity<?> response = controller.evaluateAccess(List.of(2L, 7L, 2L), authentication);
+
+      assertEquals(HttpStatus.OK, response.getStatusCode());
+      List<RCAccessLevelDTO> body = (List<RCAccessLevelDTO>) response.getBody();
+      assertEquals(2, body.size());
+      assertTrue(body.get(0).isCanEdit());
+      assertEquals(7L, body.get(1).getRcId());
+      assertNull(body.get(1).getAccessLevel());
+    }
+
+    @Test
+    @DisplayName("Should reject more RC IDs than the limit")
+    void shouldRejectTooManyRcIds() {
+      List<Long> rcIds = LongStream.rangeClosed(1, RCPermissionController.MAX_EVALUATE_RC_IDS + 1)
+          .boxed().toList();
+
+      ResponseEntity<?> response = controller.evaluateAccess(rcIds, authentication);
+
+      assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+      verifyNoInteractions(permissionService);
+    }
+
+    @Test
+    @DisplayName("Should return 401 when not authenticated")
+    void shouldReturn401WhenNotAuthenticated() {
+      assertEquals(HttpStatus.UNAUTHORIZED, controller.getMyAccess(null).getStatusCode());
+      assertEquals(HttpStatus.UNAUTHORIZED, controller.evaluateAccess(List.of(1L), null).getStatusCode());
+    }
+  }
 }
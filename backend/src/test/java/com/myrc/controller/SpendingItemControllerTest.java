@@ -13,7 +13,9 @@
 package com.myrc.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -22,8 +24,11 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
+import com.myrc.dto.ItemListQuery;
 import com.myrc.dto.SpendingItemDTO;
 import com.myrc.dto.SpendingMoneyAllocationDTO;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.KeysetPage;
 import com.myrc.service.SpendingItemService;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -39,10 +44,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Unit tests for SpendingItemController.
@@ -154,7 +163,8 @@ class SpendingItemControllerTest {
       List<SpendingItemDTO> items = Arrays.asList(gpuPurchase, softwareLicense);
       when(spendingItemService.getSpendingItemsByFiscalYearId(anyLong(), anyString())).thenReturn(items);
 
-      ResponseEntity<List<SpendingItemDTO>> response = controller.getSpendingItems(1L, 1L, null, authentication);
+      ResponseEntity<List<SpendingItemDTO>> response =
+          controller.getSpendingItems(1L, 1L, null, new ItemListQuery(), authentication);
 
       assertEquals(HttpStatus.OK, response.getStatusCode());
       assertNotNull(response.getBody());
@@ -169,7 +179,8 @@ class SpendingItemControllerTest {
       when(spendingItemService.getSpendingItemsByFiscalYearIdAndCategoryId(eq(1L), eq(2L), anyString()))
           .thenReturn(items);
 
-      ResponseEntity<List<SpendingItemDTO>> response = controller.getSpendingItems(1L, 1L, 2L, authentication);
+      ResponseEntity<List<SpendingItemDTO>> response =
+          controller.getSpendingItems(1L, 1L, 2L, new ItemListQuery(), authentication);
 
       assertEquals(HttpStatus.OK, response.getStatusCode());
       assertNotNull(response.getBody());
@@ -183,10 +194,68 @@ class SpendingItemControllerTest {
       when(spendingItemService.getSpendingItemsByFiscalYearId(anyLong(), anyString()))
           .thenThrow(new IllegalArgumentException("Access denied"));
 
-      ResponseEntity<List<SpendingItemDTO>> response = controller.getSpendingItems(1L, 1L, null, authentication);
+      ResponseEntity<List<SpendingItemDTO>> response =
+          controller.getSpendingItems(1L, 1L, null, new ItemListQuery(), authentication);
 
       assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
     }
+
+    @Test
+    @DisplayName("Returns a page with the next cursor when paging is requested")
+    void returnsPageWithNextCursor() {
+      MockHttpServletRequest request = new MockHttpServletRequest("GET",
+          "/api/responsibility-centres/1/fiscal-years/1/spending-items");
+      request.setQueryString("limit=1&sort=amount");
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+      try {
+        ItemListQuery query = new ItemListQuery();
+        query.setLimit(1);
+        query.setSort("amount");
+        when(spendingItemService.getSpendingItemsPage(eq(1L), eq(query), anyString()))
+            .thenReturn(new KeysetPage<>(List.of(gpuPurchase), "abc"));
+
+        ResponseEntity<List<SpendingItemDTO>> response =
+            controller.getSpendingItems(1L, 1L, null, query, authentication);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals("abc", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.LINK).contains("cursor=abc"));
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.LINK).endsWith("rel=\"next\""));
+      } finally {
+        RequestContextHolder.resetRequestAttributes();
+      }
+    }
+
+    @Test
+    @DisplayName("Omits paging headers on the last page")
+    void omitsHeadersOnLastPage() {
+      ItemListQuery query = new ItemListQuery();
+      query.setLimit(10);
+      when(spendingItemService.getSpendingItemsPage(eq(1L), eq(query), anyString()))
+          .thenReturn(new KeysetPage<>(List.of(gpuPurchase, softwareLicense), null));
+
+      ResponseEntity<List<SpendingItemDTO>> response =
+          controller.getSpendingItems(1L, 1L, null, query, authentication);
+
+      assertEquals(HttpStatus.OK, response.getStatusCode());
+      assertEquals(2, response.getBody().size());
+      assertFalse(response.getHeaders().containsKey("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("Returns 400 for an invalid sort, cursor or filter")
+    void returnsBadRequestOnInvalidQuery() {
+      ItemListQuery query = new ItemListQuery();
+      query.setSort("nope");
+      when(spendingItemService.getSpendingItemsPage(eq(1L), eq(query), anyString()))
+          .thenThrow(new InvalidListQueryException("Invalid sort column: nope"));
+
+      ResponseEntity<List<SpendingItemDTO>> response =
+          controller.getSpendingItems(1L, 1L, null, query, authentication);
+
+      assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
   }
 
   @Nested
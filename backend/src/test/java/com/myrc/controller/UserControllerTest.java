@@ -17,6 +17,12 @@ import com.myrc.dto.ChangePasswordRequest;
 import com.myrc.dto.CreateUserRequest;
 import com.myrc.dto.UpdateUserRequest;
 import com.myrc.dto.UserDTO;
+import com.myrc.dto.UserListQuery;
+import com.myrc.dto.UserStatsDTO;
+import com.myrc.dto.UserSummaryDTO;
+import com.myrc.model.User;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.KeysetPage;
 import com.myrc.service.UserService;
 import java.util.Arrays;
 import java.util.Collection;
@@ -30,10 +36,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Unit tests for UserController.
@@ -157,6 +167,79 @@ class UserControllerTest {
       assertNotNull(response.getBody());
       assertTrue(response.getBody().isEmpty());
     }
+
+    @Test
+    @DisplayName("Should return full users when no paging or filter is given")
+    void shouldReturnAllUsersWithoutListQuery() {
+      when(userService.getAllUsers()).thenReturn(Arrays.asList(testUser));
+
+      ResponseEntity<?> response = controller.getUsers(new UserListQuery());
+
+      assertEquals(HttpStatus.OK, response.getStatusCode());
+      assertEquals(List.of(testUser), response.getBody());
+      verify(userService, never()).getUserSummaries(any());
+    }
+
+    @Test
+    @DisplayName("Should return a page of summaries with the next cursor")
+    void shouldReturnPageWithNextCursor() {
+      MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+      request.setQueryString("limit=1&provider=LDAP");
+      RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+      try {
+        UserListQuery query = new UserListQuery();
+        query.setLimit(1);
+        query.setProvider("LDAP");
+        UserSummaryDTO summary = new UserSummaryDTO(1L, "testuser", "test@example.com", "Test User",
+            User.AuthProvider.LDAP, true, false, null, null);
+        when(userService.getUserSummaries(same(query)))
+            .thenReturn(new KeysetPage<>(List.of(summary), "abc"));
+
+        ResponseEntity<?> response = controller.getUsers(query);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(summary), response.getBody());
+        assertEquals("abc", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.LINK).contains("cursor=abc"));
+        verify(userService, never()).getAllUsers();
+      } finally {
+        RequestContextHolder.resetRequestAttributes();
+      }
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an invalid filter")
+    void shouldReturnBadRequestOnInvalidQuery() {
+      UserListQuery query = new UserListQuery();
+      query.setProvider("KERBEROS");
+      when(userService.getUserSummaries(same(query)))
+          .thenThrow(new InvalidListQueryException("Invalid provider: KERBEROS"));
+
+      ResponseEntity<?> response = controller.getUsers(query);
+
+      assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+  }
+
+  @Nested
+  @DisplayName("getStats Tests")
+  class GetStatsTests {
+
+    @Test
+    @DisplayName("Should return the aggregated statistics without listing users")
+    void shouldReturnAggregatedStats() {
+      UserStatsDTO stats = new UserStatsDTO();
+      stats.setTotalUsers(3);
+      stats.setEnabledUsers(2);
+      when(userService.getUserStats()).thenReturn(stats);
+
+      ResponseEntity<UserStatsDTO> response = controller.getStats();
+
+      assertEquals(HttpStatus.OK, response.getStatusCode());
+      assertEquals(3, response.getBody().getTotalUsers());
+      verify(userService, never()).getAllUsers();
+      verify(userService, never()).getEnabledUsers();
+    }
   }
 
   @Nested
@@ -0,0 +1,96 @@
+/*
+ * myRC - Currency Converter Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.myrc.model.Currency;
+import com.myrc.model.Money;
+import com.myrc.model.SpendingInvoice;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.SpendingMoneyAllocation;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for CurrencyConverter.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CurrencyConverter Tests")
+class CurrencyConverterTest {
+
+  @Mock
+  private ExchangeRateCache exchangeRateCache;
+
+  private CurrencyConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    converter = new CurrencyConverter(exchangeRateCache);
+  }
+
+  @Test
+  @DisplayName("An entered rate wins over the rate table")
+  void enteredRateWins() {
+    assertEquals(new BigDecimal("15.00"),
+        converter.toCad(new BigDecimal("10"), Currency.USD, new BigDecimal("1.5"), null));
+    verifyNoInteractions(exchangeRateCache);
+  }
+
+  @Test
+  @DisplayName("Falls back to the rate in effect on the given date")
+  void usesDatedRate() {
+    LocalDate received = LocalDate.of(2026, 5, 4);
+    when(exchangeRateCache.rateOn(Currency.EUR, received))
+        .thenReturn(Optional.of(new BigDecimal("1.480000")));
+
+    SpendingInvoice invoice = new SpendingInvoice(null, new BigDecimal("200.00"), Currency.EUR);
+    invoice.setDateReceived(received);
+    converter.applyTo(invoice);
+
+    assertEquals(new BigDecimal("296.00"), invoice.getAmountCad());
+  }
+
+  @Test
+  @DisplayName("Leaves the CAD amount empty when no rate is known")
+  void noRateLeavesNull() {
+    when(exchangeRateCache.rateOn(any(), any())).thenReturn(Optional.empty());
+
+    assertNull(converter.toCad(new BigDecimal("10"), Currency.GBP, null, null));
+  }
+
+  @Test
+  @DisplayName("Restates a spending item's allocations in CAD")
+  void restatesAllocations() {
+    SpendingItem item = new SpendingItem();
+    item.setCurrency(Currency.USD);
+    item.setExchangeRate(new BigDecimal("1.25"));
+    SpendingMoneyAllocation allocation =
+        new SpendingMoneyAllocation(item, new Money(), new BigDecimal("100.00"), new BigDecimal("40.00"));
+    item.addMoneyAllocation(allocation);
+
+    converter.applyTo(item);
+
+    assertEquals(new BigDecimal("125.00"), allocation.getCapAmountCad());
+    assertEquals(new BigDecimal("50.00"), allocation.getOmAmountCad());
+    assertEquals(new BigDecimal("175.00"), allocation.getTotalAmountCad());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * myRC - Exchange Rate Cache Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.myrc.cache.CacheInvalidationBus;
+import com.myrc.config.CacheProperties;
+import com.myrc.config.ExchangeRateProperties;
+import com.myrc.model.Currency;
+import com.myrc.model.ExchangeRate;
+import com.myrc.repository.ExchangeRateRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for ExchangeRateCache.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExchangeRateCache Tests")
+class ExchangeRateCacheTest {
+
+  @Mock
+  private ExchangeRateRepository exchangeRateRepository;
+
+  private ExchangeRateCache cache;
+
+  @BeforeEach
+  void setUp() {
+    CacheInvalidationBus bus = new CacheInvalidationBus(new CacheProperties(), null, null);
+    cache = new ExchangeRateCache(exchangeRateRepository, new ExchangeRateProperties(), bus);
+  }
+
+  @Test
+  @DisplayName("Returns the latest rate on or before the date from one load")
+  void floorLookup() {
+    when(exchangeRateRepository.findAll()).thenReturn(List.of(
+        new ExchangeRate(Currency.USD, LocalDate.of(2026, 5, 1), new BigDecimal("1.30"), "test"),
+        new ExchangeRate(Currency.USD, LocalDate.of(2026, 6, 1), new BigDecimal("1.40"), "test")));
+
+    assertEquals(Optional.empty(), cache.rateOn(Currency.USD, LocalDate.of(2026, 4, 30)));
+    assertEquals(Optional.of(new BigDecimal("1.30")), cache.rateOn(Currency.USD, LocalDate.of(2026, 5, 31)));
+    assertEquals(Optional.of(new BigDecimal("1.40")), cache.rateOn(Currency.USD, LocalDate.of(2026, 6, 1)));
+    assertTrue(cache.rateOn(Currency.EUR, LocalDate.of(2026, 6, 1)).isEmpty());
+
+    verify(exchangeRateRepository, times(1)).findAll();
+  }
+
+  @Test
+  @DisplayName("Reloads the table after invalidation")
+  void reloadsAfterInvalidation() {
+    when(exchangeRateRepository.findAll())
+        .thenReturn(List.of())
+        .thenReturn(List.of(
+            new ExchangeRate(Currency.GBP, LocalDate.of(2026, 10, 1), new BigDecimal("1.80"), "test")));
+
+    assertTrue(cache.rateOn(Currency.GBP, LocalDate.of(2026, 10, 2)).isEmpty());
+    cache.invalidate();
+    assertEquals(Optional.of(new BigDecimal("1.80")), cache.rateOn(Currency.GBP, LocalDate.of(2026, 10, 2)));
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * myRC - Exchange Rate Loader Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.myrc.model.Currency;
+import com.myrc.model.ExchangeRate;
+import com.myrc.repository.ExchangeRateRepository;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for ExchangeRateLoader.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExchangeRateLoader Tests")
+class ExchangeRateLoaderTest {
+
+  @Mock
+  private ExchangeRateRepository exchangeRateRepository;
+
+  @Mock
+  private ExchangeRateCache exchangeRateCache;
+
+  @Mock
+  private ExchangeRateRevaluation revaluation;
+
+  private ExchangeRateLoader loader;
+
+  @BeforeEach
+  void setUp() {
+    loader = new ExchangeRateLoader(exchangeRateRepository, exchangeRateCache, revaluation);
+  }
+
+  @Test
+  @DisplayName("Parses rates, skipping the header, comments and blank lines")
+  void parsesFeed() throws IOException {
+    String csv = """
+        currency,effective_date,rate
+        # Bank of Canada, daily
+        USD,2026-10-16,1.3725
+
+        eur , 2026-10-16 , 1.6012345
+        """;
+
+    List<ExchangeRate> rates = ExchangeRateLoader.parse(new StringReader(csv), "test");
+
+    assertEquals(2, rates.size());
+    assertEquals(Currency.USD, rates.get(0).getCurrency());
+    assertEquals(LocalDate.of(2026, 10, 16), rates.get(0).getEffectiveDate());
+    assertEquals(new BigDecimal("1.372500"), rates.get(0).getRate());
+    assertEquals(Currency.EUR, rates.get(1).getCurrency());
+    assertEquals(new BigDecimal("1.601235"), rates.get(1).getRate());
+  }
+
+  @Test
+  @DisplayName("Rejects the whole file and lists every invalid line")
+  void rejectsInvalidLines() {
+    String csv = """
+        USD,2026-10-16,1.3725
+        CAD,2026-10-16,1
+        XYZ,2026-10-16,1.2
+        GBP,16/10/2026,1.8
+        EUR,2026-10-16,abc
+        AUD,2026-10-16,0
+        USD,2026-10-16,1.3800
+        NZD,2026-10-16
+        """;
+
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+        () -> ExchangeRateLoader.parse(new StringReader(csv), "test"));
+
+    String message = e.getMessage();
+    assertTrue(message.contains("line 2: unsupported currency 'CAD'"), message);
+    assertTrue(message.contains("line 3: unsupported currency 'XYZ'"), message);
+    assertTrue(message.contains("line 4: invalid date"), message);
+    assertTrue(message.contains("line 5: invalid rate"), message);
+    assertTrue(message.contains("line 6: rate must be greater than zero"), message);
+    assertTrue(message.contains("line 7: duplicate rate for USD"), message);
+    assertTrue(message.contains("line 8: expected"), message);
+  }
+
+  @Test
+  @DisplayName("Stores nothing when the file is invalid")
+  void invalidFileStoresNothing() {
+    assertThrows(IllegalArgumentException.class,
+        () -> loader.load(new StringReader("USD,2026-10-16,1.3\nUSD,bad,1.3\n"), "test"));
+
+    verifyNoInteractions(exchangeRateRepository, exchangeRateCache, revaluation);
+  }
+
+  @Test
+  @DisplayName("Upserts rates, then drops the cache and revalues open fiscal years")
+  void upsertsAndRevalues() throws IOException {
+    ExchangeRate stored = new ExchangeRate(Currency.USD, LocalDate.of(2026, 10, 15),
+        new BigDecimal("1.370000"), "old");
+    when(exchangeRateRepository.findByCurrencyAndEffectiveDate(Currency.USD, LocalDate.of(2026, 10, 15)))
+        .thenReturn(Optional.of(stored));
+    when(exchangeRateRepository.findByCurrencyAndEffectiveDate(Currency.USD, LocalDate.of(2026, 10, 16)))
+        .thenReturn(Optional.empty());
+    when(revaluation.revalueOpenFiscalYears())
+        .thenReturn(List.of(new ExchangeRateRevaluation.Result(1L, 2, 1, 0)));
+
+    ExchangeRateLoader.Loaded loaded = loader.load(
+        new StringReader("USD,2026-10-15,1.3710\nUSD,2026-10-16,1.3725\n"), "feed.csv");
+
+    assertEquals(new ExchangeRateLoader.Loaded(1, 1, 0, 3), loaded);
+    assertEquals(new BigDecimal("1.371000"), stored.getRate());
+    assertEquals("feed.csv", stored.getSource());
+    verify(exchangeRateRepository).save(any(ExchangeRate.class));
+    verify(exchangeRateCache).invalidate();
+  }
+
+  @Test
+  @DisplayName("Skips revaluation when every rate is already stored")
+  void unchangedRatesSkipRevaluation() throws IOException {
+    when(exchangeRateRepository.findByCurrencyAndEffectiveDate(Currency.USD, LocalDate.of(2026, 10, 16)))
+        .thenReturn(Optional.of(new ExchangeRate(Currency.USD, LocalDate.of(2026, 10, 16),
+            new BigDecimal("1.372500"), "old")));
+
+    ExchangeRateLoader.Loaded loaded = loader.load(new StringReader("USD,2026-10-16,1.3725\n"), "test");
+
+    assertEquals(new ExchangeRateLoader.Loaded(0, 0, 1, 0), loaded);
+    verify(exchangeRateCache, never()).invalidate();
+    verify(revaluation, never()).revalueOpenFiscalYears();
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * myRC - Connection Permit DataSource Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for ConnectionPermitDataSource.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionPermitDataSource Tests")
+class ConnectionPermitDataSourceTest {
+
+  @Mock
+  private DataSource target;
+
+  @Mock
+  private Connection connection;
+
+  private ConnectionPermitDataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new ConnectionPermitDataSource(target, 2, 50);
+  }
+
+  @Test
+  @DisplayName("Should hold a permit until the connection is closed")
+  void testPermitReleasedOnClose() throws SQLException {
+    when(target.getConnection()).thenReturn(connection);
+
+    Connection first = dataSource.getConnection();
+    assertEquals(1, dataSource.getAvailablePermits());
+
+    first.close();
+    verify(connection).close();
+    assertEquals(2, dataSource.getAvailablePermits());
+  }
+
+  @Test
+  @DisplayName("Should release a permit only once when closed repeatedly")
+  void testDoubleClose() throws SQLException {
+    when(target.getConnection()).thenReturn(connection);
+
+    Connection first = dataSource.getConnection();
+    first.close();
+    first.close();
+
+    assertEquals(2, dataSource.getAvailablePermits());
+  }
+
+  @Test
+  @DisplayName("Should time out when all permits are in use")
+  void testTimeout() throws SQLException {
+    when(target.getConnection()).thenReturn(connection);
+    dataSource.getConnection();
+    dataSource.getConnection();
+
+    assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+    assertEquals(0, dataSource.getAvailablePermits());
+  }
+
+  @Test
+  @DisplayName("Should return the permit when the pool fails to supply a connection")
+  void testTargetFailure() throws SQLException {
+    when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+    assertThrows(SQLException.class, () -> dataSource.getConnection());
+    assertEquals(2, dataSource.getAvailablePermits());
+  }
+
+  @Test
+  @DisplayName("Should unwrap to the proxy itself")
+  void testUnwrap() throws SQLException {
+    when(target.getConnection()).thenReturn(connection);
+
+    Connection proxy = dataSource.getConnection();
+
+    assertSame(proxy, proxy.unwrap(Connection.class));
+  }
+
+  @Test
+  @DisplayName("Should reject a non-positive permit count")
+  void testInvalidPermits() {
+    assertThrows(IllegalArgumentException.class, () -> new ConnectionPermitDataSource(target, 0, 50));
+  }
+}
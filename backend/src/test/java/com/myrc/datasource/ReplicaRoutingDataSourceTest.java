@@ -0,0 +1,148 @@
+/*
+ * myRC - Replica Routing DataSource Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+  @Mock
+  private DataSource primary;
+
+  @Mock
+  private DataSource replicaDataSource1;
+
+  @Mock
+  private DataSource replicaDataSource2;
+
+  private Replica replica1;
+  private Replica replica2;
+  private ReadYourWritesTracker tracker;
+  private ReplicaRoutingDataSource routing;
+
+  @BeforeEach
+  void setUp() {
+    replica1 = new Replica("replica-0", replicaDataSource1);
+    replica2 = new Replica("replica-1", replicaDataSource2);
+    replica1.markChecked(true, 0, null);
+    replica2.markChecked(true, 0, null);
+    tracker = new ReadYourWritesTracker(Duration.ofSeconds(10));
+    routing = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), tracker);
+    TransactionSynchronizationManager.initSynchronization();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clear();
+    tracker.end();
+  }
+
+  private void beginTransaction(boolean readOnly) {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+  }
+
+  @Test
+  @DisplayName("Should use the primary outside a transaction")
+  void testNoTransaction() {
+    assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+  }
+
+  @Test
+  @DisplayName("Should round-robin read-only transactions across healthy replicas")
+  void testReadOnlyRoundRobin() {
+    beginTransaction(true);
+
+    Object first = routing.determineCurrentLookupKey();
+    Object second = routing.determineCurrentLookupKey();
+
+    assertTrue(List.of("replica-0", "replica-1").contains(first));
+    assertTrue(List.of("replica-0", "replica-1").contains(second));
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  @DisplayName("Should skip unhealthy replicas and fall back to the primary when none are left")
+  void testUnhealthyFallback() {
+    beginTransaction(true);
+    replica1.markChecked(false, 30, "lag");
+
+    assertEquals("replica-1", routing.determineCurrentLookupKey());
+    assertEquals("replica-1", routing.determineCurrentLookupKey());
+
+    replica2.markChecked(false, -1, "down");
+    assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+  }
+
+  @Test
+  @DisplayName("Should keep reads on the primary after a committed write")
+  void testReadYourWrites() {
+    beginTransaction(false);
+    assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    // A second statement in the same transaction must not register another callback
+    routing.determineCurrentLookupKey();
+    assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+    assertTrue(tracker.isPinnedToPrimary());
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+
+    tracker.end();
+    assertTrue(routing.determineCurrentLookupKey().toString().startsWith("replica-"));
+  }
+
+  @Test
+  @DisplayName("Should not pin the session when the write transaction rolls back")
+  void testRollbackDoesNotPin() {
+    beginTransaction(false);
+    routing.determineCurrentLookupKey();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    assertFalse(tracker.isPinnedToPrimary());
+  }
+
+  @Test
+  @DisplayName("Should reject duplicate replica names")
+  void testDuplicateNames() {
+    Replica duplicate = new Replica("replica-0", replicaDataSource2);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReplicaRoutingDataSource(primary, List.of(replica1, duplicate), tracker));
+  }
+}
@@ -0,0 +1,274 @@
+/*
+ * myRC - Allocation Ledger Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.ledger.AllocationLedgerWriter;
+import com.myrc.ledger.AllocationReconciliationJob;
+import com.myrc.ledger.PendingAllocations;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.AllocationLedgerEntry.Reason;
+import com.myrc.model.Category;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FundingItem;
+import com.myrc.model.Money;
+import com.myrc.model.MoneyAllocation;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.SpendingMoneyAllocation;
+import com.myrc.model.TrainingItem;
+import com.myrc.model.TrainingMoneyAllocation;
+import com.myrc.model.User;
+import com.myrc.repository.AllocationTotalRepository;
+import com.myrc.repository.CategoryRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.FundingItemRepository;
+import com.myrc.repository.MoneyAllocationRepository;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.SpendingItemRepository;
+import com.myrc.repository.SpendingMoneyAllocationRepository;
+import com.myrc.repository.TrainingItemRepository;
+import com.myrc.repository.TrainingMoneyAllocationRepository;
+import com.myrc.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the allocation ledger writer and the reconciliation
+ * job.
+ *
+ * <p>The tests roll back, so the recorder's before-completion process never
+ * runs; the writer is called directly on the test transaction's
+ * connection instead. {@link AllocationLedgerRecorderIntegrationTest}
+ * covers the committed service paths.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AllocationLedgerIntegrationTest {
+
+  @Autowired
+  private AllocationLedgerWriter writer;
+
+  @Autowired
+  private AllocationReconciliationJob reconciliationJob;
+
+  @Autowired
+  private AllocationTotalRepository allocationTotalRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private MoneyRepository moneyRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private FundingItemRepository fundingItemRepository;
+
+  @Autowired
+  private MoneyAllocationRepository fundingAllocationRepository;
+
+  @Autowired
+  private SpendingItemRepository spendingItemRepository;
+
+  @Autowired
+  private SpendingMoneyAllocationRepository spendingAllocationRepository;
+
+  @Autowired
+  private TrainingItemRepository trainingItemRepository;
+
+  @Autowired
+  private TrainingMoneyAllocationRepository trainingAllocationRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private FiscalYear fy;
+  private Category hardware;
+  private FundingItem funding;
+  private MoneyAllocation fundingAllocation;
+  private SpendingItem spending;
+  private TrainingItem training;
+  private TrainingMoneyAllocation trainingAllocation;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = String.valueOf(System.nanoTime());
+    User user = new User();
+    user.setUsername("ledgertest" + suffix);
+    user.setPasswordHash("$2a$10$dummyhash");
+    user.setEmail("ledgertest" + suffix + "@example.com");
+    user.setFullName("Ledger Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user = userRepository.save(user);
+
+    ResponsibilityCentre rc = new ResponsibilityCentre();
+    rc.setName("Ledger RC " + suffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+
+    fy = new FiscalYear();
+    fy.setName("FY Ledger " + suffix);
+    fy.setResponsibilityCentre(rc);
+    fy = fiscalYearRepository.save(fy);
+
+    Money money = moneyRepository.save(new Money("LG" + suffix.substring(suffix.length() - 6), "Ledger Money", null, fy));
+    hardware = categoryRepository.save(new Category("Hardware", null, fy));
+
+    funding = fundingItemRepository.save(new FundingItem("Grant", null, fy));
+    fundingAllocation = fundingAllocationRepository.save(
+        new MoneyAllocation(funding, money, new BigDecimal("1000.00"), new BigDecimal("200.00")));
+
+    spending = spendingItemRepository.save(new SpendingItem("Laptops", null, hardware, fy));
+    spendingAllocationRepository.save(
+        new SpendingMoneyAllocation(spending, money, new BigDecimal("100.00"), BigDecimal.ZERO));
+
+    training = trainingItemRepository.save(new TrainingItem("Course", null, TrainingItem.Status.PLANNED, fy));
+    trainingAllocation = trainingAllocationRepository.saveAndFlush(
+        new TrainingMoneyAllocation(training, money, new BigDecimal("30.00")));
+  }
+
+  private PendingAllocations pending(AllocationKind kind, Long itemId, Reason reason) {
+    PendingAllocations pending = new PendingAllocations();
+    pending.add(kind, itemId, reason);
+    return pending;
+  }
+
+  private PendingAllocations allItems() {
+    PendingAllocations pending = pending(AllocationKind.FUNDING, funding.getId(), Reason.ALLOCATION);
+    pending.add(AllocationKind.SPENDING, spending.getId(), Reason.ALLOCATION);
+    pending.add(AllocationKind.TRAINING, training.getId(), Reason.ALLOCATION);
+    return pending;
+  }
+
+  private int write(PendingAllocations pending) {
+    entityManager.flush();
+    return entityManager.unwrap(Session.class)
+        .doReturningWork(connection -> writer.write(connection, pending));
+  }
+
+  private Object[] totalOf(AllocationKind kind) {
+    return allocationTotalRepository.sumByFiscalYearKindAndMoney(List.of(fy.getId())).stream()
+        .filter(row -> row[1] == kind).findFirst().orElseThrow();
+  }
+
+  private int entriesOf(AllocationKind kind, Long itemId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM allocation_ledger WHERE kind = ? AND item_id = ?",
+        Integer.class, kind.name(), itemId);
+  }
+
+  private static void assertAmount(String expected, Object actual) {
+    assertEquals(0, new BigDecimal(expected).compareTo(new BigDecimal(actual.toString())),
+        "expected " + expected + " but was " + actual);
+  }
+
+  @Test
+  @DisplayName("Posts current allocations once and only the difference on later writes")
+  void postsDifferences() {
+    assertEquals(3, write(allItems()));
+    assertAmount("1000.00", totalOf(AllocationKind.FUNDING)[3]);
+    assertAmount("100.00", totalOf(AllocationKind.SPENDING)[3]);
+    assertAmount("30.00", totalOf(AllocationKind.TRAINING)[4]);
+
+    assertEquals(0, write(allItems()));
+
+    fundingAllocation.setCapAmount(new BigDecimal("1500.00"));
+    assertEquals(1, write(pending(AllocationKind.FUNDING, funding.getId(), Reason.ALLOCATION)));
+    assertAmount("1500.00", totalOf(AllocationKind.FUNDING)[3]);
+    assertAmount("200.00", totalOf(AllocationKind.FUNDING)[4]);
+    assertEquals(2, entriesOf(AllocationKind.FUNDING, funding.getId()));
+  }
+
+  @Test
+  @DisplayName("Reverses an inactive item and moves a recategorized one between category totals")
+  void followsActiveAndCategory() {
+    write(allItems());
+
+    funding.setActive(false);
+    write(pending(AllocationKind.FUNDING, funding.getId(), Reason.ALLOCATION));
+    assertAmount("0", totalOf(AllocationKind.FUNDING)[3]);
+    assertAmount("0", totalOf(AllocationKind.FUNDING)[4]);
+
+    funding.setActive(true);
+    funding.setCategory(hardware);
+    write(pending(AllocationKind.FUNDING, funding.getId(), Reason.ALLOCATION));
+
+    List<Object[]> categories = allocationTotalRepository.sumByFiscalYearKindAndCategory(List.of(fy.getId()));
+    Object[] hardwareFunding = categories.stream()
+        .filter(row -> row[1] == AllocationKind.FUNDING && hardware.getName().equals(row[2]))
+        .findFirst().orElseThrow();
+    assertAmount("1000.00", hardwareFunding[3]);
+    Object[] uncategorizedFunding = categories.stream()
+        .filter(row -> row[1] == AllocationKind.FUNDING && row[2] == null)
+        .findFirst().orElseThrow();
+    assertAmount("0", uncategorizedFunding[3]);
+    assertEquals(3, entriesOf(AllocationKind.FUNDING, funding.getId()));
+  }
+
+  @Test
+  @DisplayName("Reverses the balance of a deleted item")
+  void reversesDeletedItem() {
+    write(allItems());
+
+    trainingAllocationRepository.delete(trainingAllocation);
+    trainingItemRepository.delete(training);
+    write(pending(AllocationKind.TRAINING, training.getId(), Reason.ALLOCATION));
+
+    assertAmount("0", totalOf(AllocationKind.TRAINING)[4]);
+    assertEquals(2, entriesOf(AllocationKind.TRAINING, training.getId()));
+  }
+
+  @Test
+  @DisplayName("Reconciliation finds allocations changed behind the ledger's back")
+  void reconciliationFindsDrift() {
+    write(allItems());
+    assertEquals(0, reconciliationJob.reconcile(fy.getId()).mismatches());
+
+    jdbcTemplate.update("UPDATE money_allocations SET cap_amount = 5 WHERE id = ?",
+        fundingAllocation.getId());
+    entityManager.clear();
+
+    AllocationReconciliationJob.Result result = reconciliationJob.reconcile(fy.getId());
+    assertEquals(1, result.mismatches());
+    assertTrue(result.repaired());
+
+    // What the repair writes when the transaction commits
+    PendingAllocations repair = pending(AllocationKind.FUNDING, funding.getId(), Reason.RECONCILIATION);
+    repair.rebuild(fy.getId());
+    write(repair);
+    assertAmount("5.00", totalOf(AllocationKind.FUNDING)[3]);
+    assertEquals(0, reconciliationJob.reconcile(fy.getId()).mismatches());
+  }
+}
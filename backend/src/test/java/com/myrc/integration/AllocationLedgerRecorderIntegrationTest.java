@@ -0,0 +1,254 @@
+/*
+ * myRC - Allocation Ledger Recorder Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.dto.SpendingMoneyAllocationDTO;
+import com.myrc.dto.TrainingMoneyAllocationDTO;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.Category;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.Money;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.TrainingItem;
+import com.myrc.model.User;
+import com.myrc.repository.CategoryRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.ProcurementItemRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.SpendingItemRepository;
+import com.myrc.repository.TrainingItemRepository;
+import com.myrc.repository.UserRepository;
+import com.myrc.service.ProcurementItemService;
+import com.myrc.service.SpendingItemService;
+import com.myrc.service.TrainingItemService;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the allocation ledger recorder, through the item
+ * services' own transactions.
+ *
+ * <p>The ledger is written before commit, so these tests are not
+ * transactional: the fixture is committed up front, every service call
+ * commits, and the fiscal year is removed with plain SQL afterwards.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AllocationLedgerRecorderIntegrationTest {
+
+  /** Tables holding the fixture's rows, in delete order, keyed by fiscal year. */
+  private static final List<String> CLEANUP_SQL = List.of(
+      "DELETE FROM allocation_ledger WHERE fiscal_year_id = ?",
+      "DELETE FROM allocation_totals WHERE fiscal_year_id = ?",
+      "DELETE FROM fy_changes WHERE fiscal_year_id = ?",
+      "DELETE FROM fy_change_counters WHERE fiscal_year_id = ?",
+      "DELETE FROM fy_collection_versions WHERE fiscal_year_id = ?",
+      "DELETE FROM spending_money_allocations WHERE spending_item_id IN "
+          + "(SELECT id FROM spending_items WHERE fiscal_year_id = ?)",
+      "DELETE FROM spending_items WHERE fiscal_year_id = ?",
+      "DELETE FROM training_money_allocations WHERE training_item_id IN "
+          + "(SELECT id FROM training_items WHERE fiscal_year_id = ?)",
+      "DELETE FROM training_items WHERE fiscal_year_id = ?",
+      "DELETE FROM procurement_items WHERE fiscal_year_id = ?",
+      "DELETE FROM categories WHERE fiscal_year_id = ?",
+      "DELETE FROM monies WHERE fiscal_year_id = ?",
+      "DELETE FROM fiscal_years WHERE id = ?");
+
+  @Autowired
+  private SpendingItemService spendingItemService;
+
+  @Autowired
+  private ProcurementItemService procurementItemService;
+
+  @Autowired
+  private TrainingItemService trainingItemService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private MoneyRepository moneyRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private SpendingItemRepository spendingItemRepository;
+
+  @Autowired
+  private ProcurementItemRepository procurementItemRepository;
+
+  @Autowired
+  private TrainingItemRepository trainingItemRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private String username;
+  private Long userId;
+  private Long rcId;
+  private Long fyId;
+  private Long moneyId;
+  private Long spendingId;
+  private Long procurementId;
+  private Long trainingId;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = String.valueOf(System.nanoTime());
+    username = "recordertest" + suffix;
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      User user = new User();
+      user.setUsername(username);
+      user.setPasswordHash("$2a$10$dummyhash");
+      user.setEmail(username + "@example.com");
+      user.setFullName("Recorder Test User");
+      user.setAuthProvider(User.AuthProvider.LOCAL);
+      user = userRepository.save(user);
+      userId = user.getId();
+
+      ResponsibilityCentre rc = new ResponsibilityCentre();
+      rc.setName("Recorder RC " + suffix);
+      rc.setOwner(user);
+      rcId = rcRepository.save(rc).getId();
+
+      FiscalYear fy = new FiscalYear();
+      fy.setName("FY Recorder " + suffix);
+      fy.setResponsibilityCentre(rc);
+      fy = fiscalYearRepository.save(fy);
+      fyId = fy.getId();
+
+      moneyId = moneyRepository.save(
+          new Money("RT" + suffix.substring(suffix.length() - 6), "Recorder Money", null, fy)).getId();
+      Category category = categoryRepository.save(new Category("Hardware", null, fy));
+
+      ProcurementItem procurement = new ProcurementItem();
+      procurement.setName("Servers");
+      procurement.setTrackingStatus(ProcurementItem.TrackingStatus.ON_TRACK);
+      procurement.setActive(true);
+      procurement.setFiscalYear(fy);
+      procurement = procurementItemRepository.save(procurement);
+      procurementId = procurement.getId();
+
+      SpendingItem spending = new SpendingItem("Servers", null, category, fy);
+      spending.setProcurementItem(procurement);
+      spendingId = spendingItemRepository.save(spending).getId();
+
+      trainingId = trainingItemRepository.save(
+          new TrainingItem("Course", null, TrainingItem.Status.PLANNED, fy)).getId();
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    CLEANUP_SQL.forEach(sql -> jdbcTemplate.update(sql, fyId));
+    jdbcTemplate.update("DELETE FROM responsibility_centres WHERE id = ?", rcId);
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+  }
+
+  private static SpendingMoneyAllocationDTO spendingAllocation(Long moneyId, String cap, String om) {
+    SpendingMoneyAllocationDTO allocation = new SpendingMoneyAllocationDTO();
+    allocation.setMoneyId(moneyId);
+    allocation.setCapAmount(new BigDecimal(cap));
+    allocation.setOmAmount(new BigDecimal(om));
+    return allocation;
+  }
+
+  private static TrainingMoneyAllocationDTO trainingAllocation(Long moneyId, String om) {
+    TrainingMoneyAllocationDTO allocation = new TrainingMoneyAllocationDTO();
+    allocation.setMoneyId(moneyId);
+    allocation.setOmAmount(new BigDecimal(om));
+    return allocation;
+  }
+
+  private Map<String, Object> totalOf(AllocationKind kind) {
+    return jdbcTemplate.queryForMap(
+        "SELECT cap_total, om_total FROM allocation_totals "
+            + "WHERE fiscal_year_id = ? AND kind = ? AND money_id = ?",
+        fyId, kind.name(), moneyId);
+  }
+
+  private int entriesOf(AllocationKind kind, Long itemId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM allocation_ledger WHERE kind = ? AND item_id = ?",
+        Integer.class, kind.name(), itemId);
+  }
+
+  private static void assertAmount(String expected, Object actual) {
+    assertEquals(0, new BigDecimal(expected).compareTo(new BigDecimal(actual.toString())),
+        "expected " + expected + " but was " + actual);
+  }
+
+  @Test
+  @DisplayName("Committed allocation updates post their differences to the totals")
+  void allocationUpdatesCommitted() {
+    spendingItemService.updateMoneyAllocations(spendingId,
+        List.of(spendingAllocation(moneyId, "100.00", "20.00")), username);
+    assertAmount("100.00", totalOf(AllocationKind.SPENDING).get("cap_total"));
+    assertAmount("20.00", totalOf(AllocationKind.SPENDING).get("om_total"));
+
+    spendingItemService.updateMoneyAllocations(spendingId,
+        List.of(spendingAllocation(moneyId, "150.00", "20.00")), username);
+    assertAmount("150.00", totalOf(AllocationKind.SPENDING).get("cap_total"));
+    assertAmount("20.00", totalOf(AllocationKind.SPENDING).get("om_total"));
+    assertEquals(2, entriesOf(AllocationKind.SPENDING, spendingId));
+  }
+
+  @Test
+  @DisplayName("Deactivating an item through its procurement item reverses its totals")
+  void deactivationCommitted() {
+    spendingItemService.updateMoneyAllocations(spendingId,
+        List.of(spendingAllocation(moneyId, "100.00", "20.00")), username);
+
+    procurementItemService.deleteProcurementItem(procurementId, username);
+
+    assertAmount("0", totalOf(AllocationKind.SPENDING).get("cap_total"));
+    assertAmount("0", totalOf(AllocationKind.SPENDING).get("om_total"));
+    assertEquals(2, entriesOf(AllocationKind.SPENDING, spendingId));
+  }
+
+  @Test
+  @DisplayName("Deleting an item reverses its totals")
+  void itemDeleteCommitted() {
+    trainingItemService.updateMoneyAllocations(trainingId,
+        List.of(trainingAllocation(moneyId, "75.00")), username);
+    assertAmount("75.00", totalOf(AllocationKind.TRAINING).get("om_total"));
+
+    trainingItemService.deleteTrainingItem(trainingId, username);
+
+    assertAmount("0", totalOf(AllocationKind.TRAINING).get("om_total"));
+    assertEquals(2, entriesOf(AllocationKind.TRAINING, trainingId));
+  }
+}
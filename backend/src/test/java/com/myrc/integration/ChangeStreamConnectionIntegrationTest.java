@@ -0,0 +1,151 @@
+/*
+ * myRC - Change Stream Connection Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.model.FiscalYear;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.User;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.UserRepository;
+import java.io.InputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests that open change streams over HTTP and check they do not
+ * hold on to pooled connections.
+ *
+ * <p>The pool is shrunk to {@value #POOL_SIZE} connections with a short
+ * acquisition timeout, so a stream that kept its connection would make the
+ * later requests fail instead of hang.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.hikari.maximum-pool-size=" + ChangeStreamConnectionIntegrationTest.POOL_SIZE,
+    "spring.datasource.hikari.connection-timeout=2000"
+})
+class ChangeStreamConnectionIntegrationTest {
+
+  static final int POOL_SIZE = 3;
+
+  private static final String PASSWORD = "stream-password";
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final List<InputStream> streams = new ArrayList<>();
+  private HttpClient client;
+  private User user;
+  private Long rcId;
+  private Long fyId;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = String.valueOf(System.nanoTime());
+    user = new User();
+    user.setUsername("stream" + suffix);
+    user.setEmail("stream" + suffix + "@example.com");
+    user.setFullName("Stream Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user.setPasswordHash(new BCryptPasswordEncoder(4).encode(PASSWORD));
+    user = userRepository.save(user);
+
+    ResponsibilityCentre rc = new ResponsibilityCentre();
+    rc.setName("Stream RC " + suffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+    rcId = rc.getId();
+
+    FiscalYear fy = new FiscalYear();
+    fy.setName("FY Stream " + suffix);
+    fy.setResponsibilityCentre(rc);
+    fyId = fiscalYearRepository.save(fy).getId();
+
+    client = HttpClient.newBuilder()
+        .cookieHandler(new CookieManager())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    for (InputStream stream : streams) {
+      stream.close();
+    }
+    jdbcTemplate.update("DELETE FROM fiscal_years WHERE id = ?", fyId);
+    jdbcTemplate.update("DELETE FROM responsibility_centres WHERE id = ?", rcId);
+    jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + "/api" + path);
+  }
+
+  private String changesPath() {
+    return "/responsibility-centres/" + rcId + "/fiscal-years/" + fyId + "/changes";
+  }
+
+  @Test
+  @DisplayName("Open change streams do not keep connections from other requests")
+  void streamsReleaseConnections() throws Exception {
+    HttpResponse<Void> login = client.send(HttpRequest.newBuilder(uri("/users/authenticate?username="
+            + user.getUsername() + "&password=" + PASSWORD))
+        .POST(HttpRequest.BodyPublishers.noBody())
+        .build(), HttpResponse.BodyHandlers.discarding());
+    assertEquals(200, login.statusCode());
+
+    for (int i = 0; i < POOL_SIZE + 2; i++) {
+      HttpResponse<InputStream> stream = client.send(HttpRequest.newBuilder(uri(changesPath() + "/stream"))
+          .header("Accept", "text/event-stream")
+          .timeout(Duration.ofSeconds(10))
+          .build(), HttpResponse.BodyHandlers.ofInputStream());
+      streams.add(stream.body());
+      assertEquals(200, stream.statusCode(), "stream " + i);
+    }
+
+    HttpResponse<String> changes = client.send(HttpRequest.newBuilder(uri(changesPath()))
+        .timeout(Duration.ofSeconds(10))
+        .build(), HttpResponse.BodyHandlers.ofString());
+    assertEquals(200, changes.statusCode());
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * myRC - Exchange Rate Revaluation Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.currency.ExchangeRateRevaluation;
+import com.myrc.model.Category;
+import com.myrc.model.Currency;
+import com.myrc.model.ExchangeRate;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingInvoice;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.User;
+import com.myrc.repository.CategoryRepository;
+import com.myrc.repository.ExchangeRateRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.ProcurementItemRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.SpendingInvoiceRepository;
+import com.myrc.repository.SpendingItemRepository;
+import com.myrc.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the set-based CAD revaluation of a fiscal year.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ExchangeRateRevaluationIntegrationTest {
+
+  @Autowired
+  private ExchangeRateRevaluation revaluation;
+
+  @Autowired
+  private ExchangeRateRepository exchangeRateRepository;
+
+  @Autowired
+  private ProcurementItemRepository procurementItemRepository;
+
+  @Autowired
+  private SpendingItemRepository spendingItemRepository;
+
+  @Autowired
+  private SpendingInvoiceRepository invoiceRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private FiscalYear testFY;
+  private Category category;
+
+  @BeforeEach
+  void setUp() {
+    String uniqueSuffix = String.valueOf(System.nanoTime());
+    User user = new User();
+    user.setUsername("ratetest" + uniqueSuffix);
+    user.setPasswordHash("$2a$10$dummyhash");
+    user.setEmail("ratetest" + uniqueSuffix + "@example.com");
+    user.setFullName("Rate Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user = userRepository.save(user);
+
+    ResponsibilityCentre rc = new ResponsibilityCentre();
+    rc.setName("Rate Test RC " + uniqueSuffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+
+    testFY = new FiscalYear();
+    testFY.setName("FY Rates " + uniqueSuffix);
+    testFY.setResponsibilityCentre(rc);
+    testFY = fiscalYearRepository.save(testFY);
+
+    category = categoryRepository.save(new Category("Hardware", null, testFY));
+
+    exchangeRateRepository.deleteAll();
+    exchangeRateRepository.save(new ExchangeRate(Currency.USD, LocalDate.of(2026, 5, 1),
+        new BigDecimal("1.300000"), "test"));
+    exchangeRateRepository.save(new ExchangeRate(Currency.USD, LocalDate.of(2026, 6, 1),
+        new BigDecimal("1.400000"), "test"));
+  }
+
+  @Test
+  @DisplayName("Revalues invoices at the rate in effect when they were received")
+  void revaluesInvoicesByDateReceived() {
+    SpendingItem spending = spendingItemRepository.save(
+        new SpendingItem("Licences", null, category, testFY));
+    SpendingInvoice may = new SpendingInvoice(spending, new BigDecimal("100.00"), Currency.USD);
+    may.setDateReceived(LocalDate.of(2026, 5, 20));
+    may = invoiceRepository.save(may);
+    SpendingInvoice entered = new SpendingInvoice(spending, new BigDecimal("100.00"), Currency.USD);
+    entered.setDateReceived(LocalDate.of(2026, 5, 20));
+    entered.setExchangeRate(new BigDecimal("1.25"));
+    entered = invoiceRepository.saveAndFlush(entered);
+
+    ExchangeRateRevaluation.Result result = revaluation.revalue(testFY.getId());
+    entityManager.clear();
+
+    assertEquals(1, result.invoices());
+    assertEquals(0, new BigDecimal("130.00").compareTo(
+        invoiceRepository.findById(may.getId()).orElseThrow().getAmountCad()));
+    assertEquals(0, new BigDecimal("125.00").compareTo(
+        invoiceRepository.findById(entered.getId()).orElseThrow().getAmountCad()));
+  }
+
+  @Test
+  @DisplayName("Revalues open procurement prices at today's rate and skips completed items")
+  void revaluesOpenProcurementPrices() {
+    ProcurementItem open = procurementItem("Open");
+    ProcurementItem completed = procurementItem("Completed");
+    completed.setProcurementCompleted(true);
+    procurementItemRepository.saveAndFlush(completed);
+
+    ExchangeRateRevaluation.Result result = revaluation.revalue(testFY.getId());
+    entityManager.clear();
+
+    assertEquals(1, result.procurementPrices());
+    assertEquals(0, new BigDecimal("280.00").compareTo(
+        procurementItemRepository.findById(open.getId()).orElseThrow().getFinalPriceCad()));
+    assertNull(procurementItemRepository.findById(completed.getId()).orElseThrow().getFinalPriceCad());
+  }
+
+  @Test
+  @DisplayName("Writes nothing when the stored amounts are already current")
+  void secondRunIsNoOp() {
+    procurementItem("Open");
+    revaluation.revalue(testFY.getId());
+
+    assertEquals(0, revaluation.revalue(testFY.getId()).total());
+  }
+
+  private ProcurementItem procurementItem(String name) {
+    ProcurementItem item = new ProcurementItem();
+    item.setName(name);
+    item.setPurchaseRequisition("PR-" + name);
+    item.setFinalPrice(new BigDecimal("200.00"));
+    item.setFinalPriceCurrency(Currency.USD);
+    item.setTrackingStatus(ProcurementItem.TrackingStatus.ON_TRACK);
+    item.setCategory(category);
+    item.setFiscalYear(testFY);
+    return procurementItemRepository.saveAndFlush(item);
+  }
+}
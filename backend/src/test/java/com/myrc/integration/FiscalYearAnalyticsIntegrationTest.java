@@ -0,0 +1,216 @@
+/*
+ * myRC - Fiscal Year Analytics Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.ledger.AllocationLedgerWriter;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.Category;
+import com.myrc.model.Currency;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FundingItem;
+import com.myrc.model.Money;
+import com.myrc.model.MoneyAllocation;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingEvent;
+import com.myrc.model.SpendingInvoice;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.SpendingMoneyAllocation;
+import com.myrc.model.User;
+import com.myrc.repository.AllocationTotalRepository;
+import com.myrc.repository.CategoryRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.FundingItemRepository;
+import com.myrc.repository.MoneyAllocationRepository;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.SpendingEventRepository;
+import com.myrc.repository.SpendingInvoiceRepository;
+import com.myrc.repository.SpendingItemRepository;
+import com.myrc.repository.SpendingMoneyAllocationRepository;
+import com.myrc.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the grouped queries behind the fiscal year comparison.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FiscalYearAnalyticsIntegrationTest {
+
+  private static final List<SpendingEvent.EventType> SPENT_EVENTS = List.of(
+      SpendingEvent.EventType.SECTION_34_PROVIDED, SpendingEvent.EventType.CREDIT_CARD_CLEARED);
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private MoneyRepository moneyRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private FundingItemRepository fundingItemRepository;
+
+  @Autowired
+  private MoneyAllocationRepository fundingAllocationRepository;
+
+  @Autowired
+  private SpendingItemRepository spendingItemRepository;
+
+  @Autowired
+  private SpendingMoneyAllocationRepository spendingAllocationRepository;
+
+  @Autowired
+  private SpendingInvoiceRepository invoiceRepository;
+
+  @Autowired
+  private SpendingEventRepository spendingEventRepository;
+
+  @Autowired
+  private AllocationTotalRepository allocationTotalRepository;
+
+  @Autowired
+  private AllocationLedgerWriter ledgerWriter;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private FiscalYear fy;
+  private Category category;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = String.valueOf(System.nanoTime());
+    User user = new User();
+    user.setUsername("analyticstest" + suffix);
+    user.setPasswordHash("$2a$10$dummyhash");
+    user.setEmail("analyticstest" + suffix + "@example.com");
+    user.setFullName("Analytics Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user = userRepository.save(user);
+
+    ResponsibilityCentre rc = new ResponsibilityCentre();
+    rc.setName("Analytics RC " + suffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+
+    fy = new FiscalYear();
+    fy.setName("FY 2024-2025 " + suffix);
+    fy.setResponsibilityCentre(rc);
+    fy = fiscalYearRepository.save(fy);
+
+    Money money = moneyRepository.save(new Money("AN" + suffix.substring(suffix.length() - 6), "Analytics Money", null, fy));
+    category = categoryRepository.save(new Category("Hardware", null, fy));
+
+    FundingItem uncategorized = fundingItemRepository.save(new FundingItem("Grant", null, fy));
+    fundingAllocationRepository.save(new MoneyAllocation(uncategorized, money, new BigDecimal("1000.00"), new BigDecimal("200.00")));
+
+    // Invoiced item: dated by received date, else processed date
+    SpendingItem invoiced = spendingItemRepository.save(new SpendingItem("Laptops", null, category, fy));
+    spendingAllocationRepository.save(new SpendingMoneyAllocation(invoiced, money, new BigDecimal("100.00"), BigDecimal.ZERO));
+    invoiceRepository.save(invoice(invoiced, "40.00", LocalDate.of(2024, 5, 10), LocalDate.of(2024, 6, 1), true));
+    invoiceRepository.save(invoice(invoiced, "25.00", null, LocalDate.of(2024, 6, 2), true));
+    invoiceRepository.save(invoice(invoiced, "99.00", null, null, true));
+    invoiceRepository.save(invoice(invoiced, "500.00", LocalDate.of(2024, 5, 11), null, false));
+    spendingEventRepository.save(new SpendingEvent(invoiced, SpendingEvent.EventType.SECTION_34_PROVIDED,
+        LocalDate.of(2024, 9, 1), null));
+
+    // Item without invoices: dated by its first spent event
+    SpendingItem uninvoiced = spendingItemRepository.save(new SpendingItem("Licences", null, category, fy));
+    spendingAllocationRepository.save(new SpendingMoneyAllocation(uninvoiced, money, new BigDecimal("30.00"), new BigDecimal("50.00")));
+    spendingEventRepository.save(new SpendingEvent(uninvoiced, SpendingEvent.EventType.PENDING,
+        LocalDate.of(2024, 5, 1), null));
+    spendingEventRepository.save(new SpendingEvent(uninvoiced, SpendingEvent.EventType.SECTION_34_PROVIDED,
+        LocalDate.of(2024, 8, 20), null));
+    spendingEventRepository.saveAndFlush(new SpendingEvent(uninvoiced, SpendingEvent.EventType.CREDIT_CARD_CLEARED,
+        LocalDate.of(2024, 7, 15), null));
+  }
+
+  private static SpendingInvoice invoice(SpendingItem item, String amount, LocalDate received,
+      LocalDate processed, boolean active) {
+    SpendingInvoice invoice = new SpendingInvoice(item, new BigDecimal(amount), Currency.CAD);
+    invoice.setDateReceived(received);
+    invoice.setDateProcessed(processed);
+    invoice.setActive(active);
+    return invoice;
+  }
+
+  private static Object[] rowForMonth(List<Object[]> rows, int year, int month) {
+    return rows.stream()
+        .filter(row -> ((Number) row[1]).intValue() == year && ((Number) row[2]).intValue() == month)
+        .findFirst().orElseThrow();
+  }
+
+  private static void assertAmount(String expected, Object actual) {
+    assertEquals(0, new BigDecimal(expected).compareTo(new BigDecimal(actual.toString())),
+        "expected " + expected + " but was " + actual);
+  }
+
+  @Test
+  @DisplayName("Invoice burn should be grouped by month and skip undated or inactive invoices")
+  void invoiceBurnByMonth() {
+    List<Object[]> rows = invoiceRepository.sumByFiscalYearAndMonth(List.of(fy.getId()));
+
+    assertEquals(2, rows.size());
+    assertEquals(fy.getId(), rowForMonth(rows, 2024, 5)[0]);
+    assertAmount("40.00", rowForMonth(rows, 2024, 5)[3]);
+    assertAmount("25.00", rowForMonth(rows, 2024, 6)[3]);
+  }
+
+  @Test
+  @DisplayName("Event burn should date uninvoiced items by their first spent event only")
+  void eventBurnUsesFirstSpentEvent() {
+    List<Object[]> rows = spendingEventRepository.sumUninvoicedByFiscalYearAndMonth(List.of(fy.getId()), SPENT_EVENTS);
+
+    assertEquals(1, rows.size());
+    assertEquals(7, ((Number) rows.get(0)[2]).intValue());
+    assertAmount("80.00", rows.get(0)[3]);
+  }
+
+  @Test
+  @DisplayName("Category totals should carry the category name, null when uncategorized")
+  void categoryTotals() {
+    // The tests roll back, so open the totals the ledger would have committed
+    entityManager.unwrap(Session.class).doReturningWork(connection -> ledgerWriter.open(connection, fy.getId()));
+    List<Object[]> rows = allocationTotalRepository.sumByFiscalYearKindAndCategory(List.of(fy.getId()));
+    List<Object[]> funding = rows.stream().filter(row -> row[1] == AllocationKind.FUNDING).toList();
+    List<Object[]> spending = rows.stream().filter(row -> row[1] == AllocationKind.SPENDING).toList();
+
+    assertEquals(1, funding.size());
+    assertNull(funding.get(0)[2]);
+    assertAmount("1000.00", funding.get(0)[3]);
+    assertAmount("200.00", funding.get(0)[4]);
+    assertEquals(1, spending.size());
+    assertEquals(category.getName(), spending.get(0)[2]);
+    assertAmount("130.00", spending.get(0)[3]);
+    assertAmount("50.00", spending.get(0)[4]);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * myRC - Fiscal Year Clone Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.model.Category;
+import com.myrc.model.Currency;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.Money;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.SpendingMoneyAllocation;
+import com.myrc.model.User;
+import com.myrc.repository.CategoryRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.SpendingItemRepository;
+import com.myrc.repository.SpendingMoneyAllocationRepository;
+import com.myrc.repository.UserRepository;
+import com.myrc.service.FiscalYearCloneService;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the fiscal year deep clone.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FiscalYearCloneIntegrationTest {
+
+  @Autowired
+  private FiscalYearCloneService cloneService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private MoneyRepository moneyRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private SpendingItemRepository spendingItemRepository;
+
+  @Autowired
+  private SpendingMoneyAllocationRepository allocationRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private ResponsibilityCentre rc;
+  private FiscalYear sourceFY;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = String.valueOf(System.nanoTime());
+    User user = new User();
+    user.setUsername("clonetest" + suffix);
+    user.setPasswordHash("$2a$10$dummyhash");
+    user.setEmail("clonetest" + suffix + "@example.com");
+    user.setFullName("Clone Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user = userRepository.save(user);
+
+    rc = new ResponsibilityCentre();
+    rc.setName("Clone Test RC " + suffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+
+    sourceFY = new FiscalYear();
+    sourceFY.setName("FY Clone " + suffix);
+    sourceFY.setResponsibilityCentre(rc);
+    sourceFY = fiscalYearRepository.save(sourceFY);
+  }
+
+  @Test
+  @DisplayName("Copies the CAD amounts of allocations on table-rate foreign-currency items")
+  void clonesTableRateCadAmounts() {
+    Money money = moneyRepository.save(new Money("CL", "Clone Money", null, sourceFY));
+    Category category = categoryRepository.save(new Category("Hardware", null, sourceFY));
+    SpendingItem item = new SpendingItem("Licences", null, category, sourceFY);
+    // No rate of its own: CAD came from the dated exchange_rates table
+    item.setCurrency(Currency.USD);
+    item = spendingItemRepository.save(item);
+    SpendingMoneyAllocation allocation = new SpendingMoneyAllocation(item, money,
+        new BigDecimal("100.00"), new BigDecimal("10.00"));
+    allocation.setCapAmountCad(new BigDecimal("130.00"));
+    allocation.setOmAmountCad(new BigDecimal("13.00"));
+    allocationRepository.saveAndFlush(allocation);
+
+    FiscalYear cloned = cloneService.deepCloneFiscalYear(sourceFY, "FY Clone Copy", rc);
+    entityManager.flush();
+    entityManager.clear();
+
+    List<SpendingItem> clonedItems = spendingItemRepository.findByFiscalYearIdOrderByNameAsc(cloned.getId());
+    assertEquals(1, clonedItems.size());
+    List<SpendingMoneyAllocation> clonedAllocations =
+        allocationRepository.findBySpendingItemId(clonedItems.get(0).getId());
+    assertEquals(1, clonedAllocations.size());
+    assertEquals(0, new BigDecimal("130.00").compareTo(clonedAllocations.get(0).getCapAmountCad()));
+    assertEquals(0, new BigDecimal("13.00").compareTo(clonedAllocations.get(0).getOmAmountCad()));
+  }
+}
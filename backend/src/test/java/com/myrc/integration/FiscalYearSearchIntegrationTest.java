@@ -0,0 +1,160 @@
+/*
+ * myRC - Fiscal Year Search Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FundingItem;
+import com.myrc.model.FundingSource;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.User;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.FundingItemRepository;
+import com.myrc.repository.ProcurementItemRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.UserRepository;
+import com.myrc.search.FiscalYearSearchEngine;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the fiscal year search on H2, which uses the
+ * generic (LIKE) dialect.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FiscalYearSearchIntegrationTest {
+
+  @Autowired
+  private FiscalYearSearchEngine searchEngine;
+
+  @Autowired
+  private FundingItemRepository fundingItemRepository;
+
+  @Autowired
+  private ProcurementItemRepository procurementItemRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private FiscalYear testFY;
+  private FiscalYear otherFY;
+
+  @BeforeEach
+  void setUp() {
+    String uniqueSuffix = String.valueOf(System.nanoTime());
+    User user = new User();
+    user.setUsername("searchtest" + uniqueSuffix);
+    user.setPasswordHash("$2a$10$dummyhash");
+    user.setEmail("searchtest" + uniqueSuffix + "@example.com");
+    user.setFullName("Search Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user = userRepository.save(user);
+
+    ResponsibilityCentre rc = new ResponsibilityCentre();
+    rc.setName("Search Test RC " + uniqueSuffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+
+    testFY = new FiscalYear();
+    testFY.setName("FY Search " + uniqueSuffix);
+    testFY.setResponsibilityCentre(rc);
+    testFY = fiscalYearRepository.save(testFY);
+
+    otherFY = new FiscalYear();
+    otherFY.setName("FY Search Other " + uniqueSuffix);
+    otherFY.setResponsibilityCentre(rc);
+    otherFY = fiscalYearRepository.save(otherFY);
+
+    ProcurementItem laptops = new ProcurementItem();
+    laptops.setName("Laptop refresh");
+    laptops.setPurchaseRequisition("PR-100_7");
+    laptops.setVendor("Dell Canada");
+    laptops.setFiscalYear(testFY);
+    procurementItemRepository.save(laptops);
+
+    ProcurementItem dell = new ProcurementItem();
+    dell.setName("Dell docking stations");
+    dell.setFiscalYear(testFY);
+    procurementItemRepository.save(dell);
+
+    ProcurementItem retired = new ProcurementItem();
+    retired.setName("Dell monitors");
+    retired.setActive(false);
+    retired.setFiscalYear(testFY);
+    procurementItemRepository.save(retired);
+
+    FundingItem funding = new FundingItem();
+    funding.setName("Hardware budget");
+    funding.setDescription("Covers the Dell laptop refresh");
+    funding.setSource(FundingSource.BUSINESS_PLAN);
+    funding.setFiscalYear(testFY);
+    fundingItemRepository.save(funding);
+
+    FundingItem otherYear = new FundingItem();
+    otherYear.setName("Dell support");
+    otherYear.setSource(FundingSource.BUSINESS_PLAN);
+    otherYear.setFiscalYear(otherFY);
+    fundingItemRepository.saveAndFlush(otherYear);
+  }
+
+  @Test
+  @DisplayName("Ranks active items of the fiscal year by their best field")
+  void ranksActiveItemsByBestField() {
+    FiscalYearSearchEngine.Result result = searchEngine.search(testFY.getId(), "DELL", Set.of(), 0, 10);
+
+    assertEquals(3, result.total());
+    assertEquals(3, result.hits().size());
+    FiscalYearSearchEngine.Hit first = result.hits().get(0);
+    assertEquals("procurement", first.type());
+    assertEquals("Dell docking stations", first.title());
+    assertEquals("name", first.field());
+    assertEquals("vendor", result.hits().get(1).field());
+    assertEquals("funding", result.hits().get(2).type());
+    assertEquals("description", result.hits().get(2).field());
+    assertTrue(result.hits().get(0).score() > result.hits().get(1).score());
+    assertTrue(result.hits().get(1).score() > result.hits().get(2).score());
+  }
+
+  @Test
+  @DisplayName("Filters by type, pages and treats wildcards literally")
+  void filtersPagesAndEscapes() {
+    FiscalYearSearchEngine.Result funding = searchEngine.search(testFY.getId(), "dell", Set.of("funding"), 0, 10);
+    assertEquals(1, funding.total());
+    assertEquals("Hardware budget", funding.hits().get(0).title());
+
+    FiscalYearSearchEngine.Result secondPage = searchEngine.search(testFY.getId(), "dell", Set.of(), 2, 2);
+    assertEquals(1, secondPage.hits().size());
+    assertEquals(3, secondPage.total());
+
+    FiscalYearSearchEngine.Result pastEnd = searchEngine.search(testFY.getId(), "dell", Set.of(), 10, 2);
+    assertTrue(pastEnd.hits().isEmpty());
+    assertEquals(3, pastEnd.total());
+
+    assertEquals(1, searchEngine.search(testFY.getId(), "100_7", Set.of(), 0, 10).total());
+    assertEquals(0, searchEngine.search(testFY.getId(), "100%7", Set.of(), 0, 10).total());
+    assertEquals(0, searchEngine.search(testFY.getId(), "1007", Set.of(), 0, 10).total());
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * myRC - Item List Projection Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.dto.ItemListQuery;
+import com.myrc.model.Category;
+import com.myrc.model.Currency;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.ProcurementQuote;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingInvoice;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.User;
+import com.myrc.repository.CategoryRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.KeysetPage;
+import com.myrc.repository.ProcurementItemRepository;
+import com.myrc.repository.ProcurementQuoteRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.SpendingInvoiceRepository;
+import com.myrc.repository.SpendingItemRepository;
+import com.myrc.repository.UserRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for keyset pages and column projections of the
+ * procurement and spending item lists.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ItemListProjectionIntegrationTest {
+
+  @Autowired
+  private ProcurementItemRepository procurementItemRepository;
+
+  @Autowired
+  private ProcurementQuoteRepository quoteRepository;
+
+  @Autowired
+  private SpendingItemRepository spendingItemRepository;
+
+  @Autowired
+  private SpendingInvoiceRepository invoiceRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private FiscalYear testFY;
+
+  @BeforeEach
+  void setUp() {
+    String uniqueSuffix = String.valueOf(System.nanoTime());
+    User user = new User();
+    user.setUsername("projectiontest" + uniqueSuffix);
+    user.setPasswordHash("$2a$10$dummyhash");
+    user.setEmail("projectiontest" + uniqueSuffix + "@example.com");
+    user.setFullName("Projection Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user = userRepository.save(user);
+
+    ResponsibilityCentre rc = new ResponsibilityCentre();
+    rc.setName("Projection Test RC " + uniqueSuffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+
+    testFY = new FiscalYear();
+    testFY.setName("FY Projection " + uniqueSuffix);
+    testFY.setResponsibilityCentre(rc);
+    testFY = fiscalYearRepository.save(testFY);
+
+    Category category = categoryRepository.save(new Category("Hardware", null, testFY));
+
+    for (int i = 1; i <= 3; i++) {
+      ProcurementItem item = new ProcurementItem();
+      item.setName("Item " + i);
+      item.setPurchaseRequisition("PR-" + i);
+      item.setVendor(i == 2 ? null : "Vendor " + i);
+      item.setQuotedPriceCad(new BigDecimal(i * 100));
+      item.setTrackingStatus(ProcurementItem.TrackingStatus.ON_TRACK);
+      item.setCategory(category);
+      item.setFiscalYear(testFY);
+      item = procurementItemRepository.save(item);
+      for (int q = 0; q < i; q++) {
+        quoteRepository.save(new ProcurementQuote("Quote vendor " + q, BigDecimal.TEN, Currency.CAD, item));
+      }
+    }
+
+    SpendingItem spending = spendingItemRepository.save(new SpendingItem("Laptops", null, category, testFY));
+    SpendingInvoice cad = new SpendingInvoice(spending, new BigDecimal("100.00"), Currency.CAD);
+    invoiceRepository.save(cad);
+    SpendingInvoice usd = new SpendingInvoice(spending, new BigDecimal("10.00"), Currency.USD);
+    usd.setExchangeRate(new BigDecimal("1.5"));
+    invoiceRepository.save(usd);
+    SpendingInvoice cancelled = new SpendingInvoice(spending, new BigDecimal("999.00"), Currency.CAD);
+    cancelled.setActive(false);
+    invoiceRepository.saveAndFlush(cancelled);
+  }
+
+  @Test
+  @DisplayName("Projects requested procurement columns page by page")
+  void projectsProcurementColumns() {
+    ItemListQuery query = new ItemListQuery();
+    query.setSort("vendor");
+    query.setLimit(2);
+
+    KeysetPage<Map<String, Object>> first = procurementItemRepository.findRows(testFY.getId(), query,
+        List.of("name", "vendor", "amount", "trackingStatus", "categoryName", "quoteCount"));
+
+    assertEquals(2, first.items().size());
+    Map<String, Object> row = first.items().get(0);
+    assertEquals(List.of("id", "name", "vendor", "amount", "trackingStatus", "categoryName", "quoteCount"),
+        List.copyOf(row.keySet()));
+    assertEquals("Item 1", row.get("name"));
+    assertEquals(0, new BigDecimal("100").compareTo((BigDecimal) row.get("amount")));
+    assertEquals("ON_TRACK", row.get("trackingStatus"));
+    assertEquals("Hardware", row.get("categoryName"));
+    assertEquals(1L, row.get("quoteCount"));
+    assertNotNull(first.nextCursor());
+
+    query.setCursor(first.nextCursor());
+    KeysetPage<Map<String, Object>> second = procurementItemRepository.findRows(testFY.getId(), query,
+        List.of("name", "vendor"));
+
+    assertEquals(1, second.items().size());
+    assertEquals("Item 2", second.items().get(0).get("name"));
+    assertNull(second.items().get(0).get("vendor"));
+    assertNull(second.nextCursor());
+  }
+
+  @Test
+  @DisplayName("Treats LIKE wildcards in the search term literally")
+  void searchEscapesWildcards() {
+    ItemListQuery query = new ItemListQuery();
+    query.setSearch("pr-");
+    assertEquals(3, procurementItemRepository.findRows(testFY.getId(), query, List.of("name")).items().size());
+
+    query.setSearch("pr_");
+    assertTrue(procurementItemRepository.findRows(testFY.getId(), query, List.of("name")).items().isEmpty());
+    query.setSearch("item%1");
+    assertTrue(procurementItemRepository.findRows(testFY.getId(), query, List.of("name")).items().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Sums active spending invoices in CAD")
+  void projectsSpendingInvoiceTotals() {
+    KeysetPage<Map<String, Object>> page = spendingItemRepository.findRows(testFY.getId(), new ItemListQuery(),
+        List.of("name", "status", "currency", "invoiceCount", "invoiceTotalCad"));
+
+    assertEquals(1, page.items().size());
+    Map<String, Object> row = page.items().get(0);
+    assertEquals("PLANNING", row.get("status"));
+    assertEquals("CAD", row.get("currency"));
+    assertEquals(2L, row.get("invoiceCount"));
+    assertEquals(0, new BigDecimal("115.00").compareTo((BigDecimal) row.get("invoiceTotalCad")));
+  }
+
+  @Test
+  @DisplayName("Rejects unknown columns")
+  void rejectsUnknownColumns() {
+    assertThrows(InvalidListQueryException.class, () -> procurementItemRepository.findRows(
+        testFY.getId(), new ItemListQuery(), List.of("name", "quotes")));
+  }
+}
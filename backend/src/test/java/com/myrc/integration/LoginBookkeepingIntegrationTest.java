@@ -0,0 +1,178 @@
+/*
+ * myRC - Login Bookkeeping Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.login.LoginBookkeeper;
+import com.myrc.model.User;
+import com.myrc.repository.UserRepository;
+import com.myrc.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for batched login bookkeeping and password re-hashing.
+ * The scheduled flush is pushed out so each test flushes explicitly inside
+ * its own transaction.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = "app.security.login.flush-interval-ms=3600000")
+class LoginBookkeepingIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoginBookkeeper loginBookkeeper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        user = new User();
+        user.setUsername("login" + suffix);
+        user.setEmail("login" + suffix + "@example.com");
+        user.setAuthProvider(User.AuthProvider.LOCAL);
+        // Unprefixed hash at a low strength, as stored by earlier releases
+        user.setPasswordHash(new BCryptPasswordEncoder(4).encode("secret"));
+        user = userRepository.saveAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("Successful login should be written on flush, not during authenticate")
+    void successfulLoginWrittenOnFlush() {
+        assertTrue(userService.authenticate(user.getUsername(), "secret").isPresent());
+        entityManager.flush();
+        assertNull(lastLoginAt());
+
+        loginBookkeeper.flush();
+
+        assertNotNull(lastLoginAt());
+    }
+
+    @Test
+    @DisplayName("Failed attempts should lock the account before they are written")
+    void pendingFailuresLockAccount() {
+        for (int i = 0; i < LoginBookkeeper.MAX_FAILED_ATTEMPTS; i++) {
+            assertTrue(userService.authenticate(user.getUsername(), "wrong").isEmpty());
+        }
+        assertTrue(userService.authenticate(user.getUsername(), "secret").isEmpty());
+
+        loginBookkeeper.flush();
+
+        assertEquals(LoginBookkeeper.MAX_FAILED_ATTEMPTS, jdbcTemplate.queryForObject(
+            "SELECT failed_login_attempts FROM users WHERE id = ?", Integer.class, user.getId()));
+        assertTrue(jdbcTemplate.queryForObject(
+            "SELECT account_locked FROM users WHERE id = ?", Boolean.class, user.getId()));
+    }
+
+    @Test
+    @DisplayName("A successful login should reset earlier failed attempts")
+    void successResetsFailures() {
+        userService.authenticate(user.getUsername(), "wrong");
+        userService.authenticate(user.getUsername(), "wrong");
+        assertTrue(userService.authenticate(user.getUsername(), "secret").isPresent());
+
+        loginBookkeeper.flush();
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT failed_login_attempts FROM users WHERE id = ?", Integer.class, user.getId()));
+    }
+
+    @Test
+    @DisplayName("A legacy hash should be replaced by the current encoder after login")
+    void legacyHashRehashed() throws InterruptedException {
+        assertTrue(userService.authenticate(user.getUsername(), "secret").isPresent());
+
+        String hash = passwordHash();
+        for (int i = 0; i < 100 && !hash.startsWith("{bcrypt}"); i++) {
+            Thread.sleep(50);
+            loginBookkeeper.flush();
+            hash = passwordHash();
+        }
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$10$"), hash);
+        entityManager.clear();
+        assertTrue(userService.authenticate(user.getUsername(), "secret").isPresent());
+    }
+
+    @Test
+    @DisplayName("A re-hash should not overwrite a password changed in the meantime")
+    void rehashSkippedAfterPasswordChange() {
+        String verified = passwordHash();
+        jdbcTemplate.update("UPDATE users SET password_hash = ? WHERE id = ?", "{bcrypt}changed", user.getId());
+
+        loginBookkeeper.recordRehash(user.getId(), verified, "{bcrypt}rehashed");
+        loginBookkeeper.flush();
+
+        assertEquals("{bcrypt}changed", passwordHash());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Login outside a transaction should check the password of a committed user")
+    void authenticateWithoutTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        String username = "loginnotx" + System.nanoTime();
+        Long userId = transaction.execute(status -> {
+            User committed = new User();
+            committed.setUsername(username);
+            committed.setEmail(username + "@example.com");
+            committed.setAuthProvider(User.AuthProvider.LOCAL);
+            committed.setPasswordHash(new BCryptPasswordEncoder(4).encode("secret"));
+            return userRepository.save(committed).getId();
+        });
+        try {
+            assertTrue(userService.authenticate(username, "secret").isPresent());
+            assertTrue(userService.authenticate(username, "wrong").isEmpty());
+        } finally {
+            loginBookkeeper.flush();
+            transaction.executeWithoutResult(status -> userRepository.deleteById(userId));
+        }
+    }
+
+    private Object lastLoginAt() {
+        return jdbcTemplate.queryForObject(
+            "SELECT last_login_at FROM users WHERE id = ?", Object.class, user.getId());
+    }
+
+    private String passwordHash() {
+        return jdbcTemplate.queryForObject(
+            "SELECT password_hash FROM users WHERE id = ?", String.class, user.getId());
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * myRC - Portfolio Aggregation Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.ledger.AllocationLedgerWriter;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.Category;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FundingItem;
+import com.myrc.model.Money;
+import com.myrc.model.MoneyAllocation;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.SpendingMoneyAllocation;
+import com.myrc.model.TrainingItem;
+import com.myrc.model.TrainingMoneyAllocation;
+import com.myrc.model.TravelItem;
+import com.myrc.model.TravelMoneyAllocation;
+import com.myrc.model.User;
+import com.myrc.repository.AllocationTotalRepository;
+import com.myrc.repository.CategoryRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.FundingItemRepository;
+import com.myrc.repository.MoneyAllocationRepository;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.ProcurementItemRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.SpendingItemRepository;
+import com.myrc.repository.SpendingMoneyAllocationRepository;
+import com.myrc.repository.TrainingItemRepository;
+import com.myrc.repository.TrainingMoneyAllocationRepository;
+import com.myrc.repository.TravelItemRepository;
+import com.myrc.repository.TravelMoneyAllocationRepository;
+import com.myrc.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the grouped queries behind the portfolio dashboard.
+ *
+ * <p>The tests roll back, so the ledger's before-completion process never
+ * runs; the allocation totals are opened directly on the test transaction's
+ * connection instead.</p>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PortfolioAggregationIntegrationTest {
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private MoneyRepository moneyRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private FundingItemRepository fundingItemRepository;
+
+  @Autowired
+  private MoneyAllocationRepository fundingAllocationRepository;
+
+  @Autowired
+  private SpendingItemRepository spendingItemRepository;
+
+  @Autowired
+  private SpendingMoneyAllocationRepository spendingAllocationRepository;
+
+  @Autowired
+  private TrainingItemRepository trainingItemRepository;
+
+  @Autowired
+  private TrainingMoneyAllocationRepository trainingAllocationRepository;
+
+  @Autowired
+  private TravelItemRepository travelItemRepository;
+
+  @Autowired
+  private TravelMoneyAllocationRepository travelAllocationRepository;
+
+  @Autowired
+  private ProcurementItemRepository procurementItemRepository;
+
+  @Autowired
+  private AllocationTotalRepository allocationTotalRepository;
+
+  @Autowired
+  private AllocationLedgerWriter ledgerWriter;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private ResponsibilityCentre rc;
+  private ResponsibilityCentre emptyRc;
+  private FiscalYear fy;
+  private Money money;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = String.valueOf(System.nanoTime());
+    User user = new User();
+    user.setUsername("portfoliotest" + suffix);
+    user.setPasswordHash("$2a$10$dummyhash");
+    user.setEmail("portfoliotest" + suffix + "@example.com");
+    user.setFullName("Portfolio Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user = userRepository.save(user);
+
+    rc = new ResponsibilityCentre();
+    rc.setName("Portfolio RC " + suffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+
+    emptyRc = new ResponsibilityCentre();
+    emptyRc.setName("Portfolio Empty RC " + suffix);
+    emptyRc.setOwner(user);
+    emptyRc = rcRepository.save(emptyRc);
+
+    fy = new FiscalYear();
+    fy.setName("FY Portfolio " + suffix);
+    fy.setResponsibilityCentre(rc);
+    fy = fiscalYearRepository.save(fy);
+
+    money = moneyRepository.save(new Money("PF" + suffix.substring(suffix.length() - 6), "Portfolio Money", null, fy));
+
+    FundingItem funding = fundingItemRepository.save(new FundingItem("Grant", null, fy));
+    fundingAllocationRepository.save(new MoneyAllocation(funding, money, new BigDecimal("1000.00"), new BigDecimal("500.00")));
+    FundingItem inactiveFunding = new FundingItem("Withdrawn", null, fy);
+    inactiveFunding.setActive(false);
+    inactiveFunding = fundingItemRepository.save(inactiveFunding);
+    fundingAllocationRepository.save(new MoneyAllocation(inactiveFunding, money, new BigDecimal("9999.00"), BigDecimal.ZERO));
+
+    Category category = categoryRepository.save(new Category("Hardware", null, fy));
+    SpendingItem spending = spendingItemRepository.save(new SpendingItem("Laptops", null, category, fy));
+    SpendingMoneyAllocation converted = new SpendingMoneyAllocation(spending, money, new BigDecimal("100.00"), BigDecimal.ZERO);
+    converted.setCapAmountCad(new BigDecimal("150.00"));
+    spendingAllocationRepository.save(converted);
+    SpendingItem unconverted = spendingItemRepository.save(new SpendingItem("Desks", null, category, fy));
+    spendingAllocationRepository.save(new SpendingMoneyAllocation(unconverted, money, BigDecimal.ZERO, new BigDecimal("40.00")));
+
+    TrainingItem training = trainingItemRepository.save(new TrainingItem("Course", null, TrainingItem.Status.PLANNED, fy));
+    trainingAllocationRepository.save(new TrainingMoneyAllocation(training, money, new BigDecimal("75.00")));
+    TravelItem travel = travelItemRepository.save(new TravelItem("Conference", null, TravelItem.Status.PLANNED, fy));
+    travelAllocationRepository.save(new TravelMoneyAllocation(travel, money, new BigDecimal("60.00")));
+
+    procurementItemRepository.save(procurement("Quoted", new BigDecimal("200.00"), null, ProcurementItem.TrackingStatus.ON_TRACK, true));
+    procurementItemRepository.save(procurement("Ordered", new BigDecimal("300.00"), new BigDecimal("280.00"), ProcurementItem.TrackingStatus.COMPLETED, true));
+    procurementItemRepository.save(procurement("Cancelled", new BigDecimal("700.00"), null, ProcurementItem.TrackingStatus.CANCELLED, true));
+    procurementItemRepository.saveAndFlush(procurement("Removed", new BigDecimal("800.00"), null, ProcurementItem.TrackingStatus.ON_TRACK, false));
+    entityManager.unwrap(Session.class).doReturningWork(connection -> ledgerWriter.open(connection, fy.getId()));
+  }
+
+  private ProcurementItem procurement(String name, BigDecimal quoted, BigDecimal fin,
+      ProcurementItem.TrackingStatus status, boolean active) {
+    ProcurementItem item = new ProcurementItem();
+    item.setName(name);
+    item.setQuotedPriceCad(quoted);
+    item.setFinalPriceCad(fin);
+    item.setTrackingStatus(status);
+    item.setActive(active);
+    item.setFiscalYear(fy);
+    return item;
+  }
+
+  private Object[] rowForMoney(List<Object[]> rows) {
+    return rows.stream().filter(row -> money.getId().equals(row[1])).findFirst().orElseThrow();
+  }
+
+  private Object[] totalFor(AllocationKind kind) {
+    return allocationTotalRepository.sumByFiscalYearKindAndMoney(List.of(fy.getId())).stream()
+        .filter(row -> row[1] == kind && money.getId().equals(row[2])).findFirst().orElseThrow();
+  }
+
+  private static void assertAmount(String expected, Object actual) {
+    assertEquals(0, new BigDecimal(expected).compareTo(new BigDecimal(actual.toString())),
+        "expected " + expected + " but was " + actual);
+  }
+
+  @Test
+  @DisplayName("RC rows should list fiscal years and keep RCs without any")
+  void rcRowsIncludeEmptyRcs() {
+    List<Object[]> rows = rcRepository.findFiscalYearRowsByIdIn(List.of(rc.getId(), emptyRc.getId()));
+
+    assertEquals(2, rows.size());
+    Object[] withFy = rows.stream().filter(row -> rc.getId().equals(row[0])).findFirst().orElseThrow();
+    assertEquals(fy.getId(), withFy[2]);
+    assertEquals(fy.getName(), withFy[3]);
+    Object[] empty = rows.stream().filter(row -> emptyRc.getId().equals(row[0])).findFirst().orElseThrow();
+    assertNull(empty[2]);
+  }
+
+  @Test
+  @DisplayName("Funding totals should skip inactive funding items")
+  void fundingTotalsSkipInactiveItems() {
+    Object[] row = totalFor(AllocationKind.FUNDING);
+
+    assertEquals(fy.getId(), row[0]);
+    assertAmount("1000.00", row[3]);
+    assertAmount("500.00", row[4]);
+  }
+
+  @Test
+  @DisplayName("Spending totals should prefer CAD amounts when stored")
+  void spendingTotalsPreferCad() {
+    Object[] row = totalFor(AllocationKind.SPENDING);
+
+    assertAmount("150.00", row[3]);
+    assertAmount("40.00", row[4]);
+  }
+
+  @Test
+  @DisplayName("Training and travel totals should be summed per money")
+  void trainingAndTravelTotals() {
+    assertAmount("75.00", totalFor(AllocationKind.TRAINING)[4]);
+    assertAmount("60.00", totalFor(AllocationKind.TRAVEL)[4]);
+  }
+
+  @Test
+  @DisplayName("Committed procurement should use the final price and skip cancelled or removed items")
+  void committedProcurement() {
+    List<Object[]> rows = procurementItemRepository.sumCommittedByFiscalYear(List.of(fy.getId()));
+
+    assertEquals(1, rows.size());
+    assertAmount("480.00", rows.get(0)[1]);
+  }
+
+  @Test
+  @DisplayName("Money rows should carry code and name")
+  void moneyRows() {
+    Object[] row = rowForMoney(moneyRepository.findSummaryRowsByFiscalYearIdIn(List.of(fy.getId())));
+
+    assertEquals(money.getCode(), row[2]);
+    assertEquals("Portfolio Money", row[3]);
+  }
+}
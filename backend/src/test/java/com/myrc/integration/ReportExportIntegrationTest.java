@@ -0,0 +1,254 @@
+/*
+ * myRC - Report Export Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.model.Category;
+import com.myrc.model.Currency;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FundingItem;
+import com.myrc.model.Money;
+import com.myrc.model.MoneyAllocation;
+import com.myrc.model.ProcurementEvent;
+import com.myrc.model.ProcurementItem;
+import com.myrc.model.ProcurementQuote;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.SpendingInvoice;
+import com.myrc.model.SpendingItem;
+import com.myrc.model.TrainingItem;
+import com.myrc.model.TrainingParticipant;
+import com.myrc.model.TravelItem;
+import com.myrc.model.TravelTraveller;
+import com.myrc.model.User;
+import com.myrc.report.ReportExport;
+import com.myrc.report.ReportType;
+import com.myrc.repository.CategoryRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.FundingItemRepository;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.MoneyAllocationRepository;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.ProcurementEventRepository;
+import com.myrc.repository.ProcurementItemRepository;
+import com.myrc.repository.ProcurementQuoteRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.SpendingInvoiceRepository;
+import com.myrc.repository.SpendingItemRepository;
+import com.myrc.repository.TrainingItemRepository;
+import com.myrc.repository.TrainingParticipantRepository;
+import com.myrc.repository.TravelItemRepository;
+import com.myrc.repository.TravelTravellerRepository;
+import com.myrc.repository.UserRepository;
+import com.myrc.service.ReportExportService;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the streamed fiscal year reports.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReportExportIntegrationTest {
+
+  @Autowired
+  private ReportExportService reportExportService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private MoneyRepository moneyRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private FundingItemRepository fundingItemRepository;
+
+  @Autowired
+  private MoneyAllocationRepository fundingAllocationRepository;
+
+  @Autowired
+  private SpendingItemRepository spendingItemRepository;
+
+  @Autowired
+  private SpendingInvoiceRepository invoiceRepository;
+
+  @Autowired
+  private ProcurementItemRepository procurementItemRepository;
+
+  @Autowired
+  private ProcurementQuoteRepository quoteRepository;
+
+  @Autowired
+  private ProcurementEventRepository procurementEventRepository;
+
+  @Autowired
+  private TrainingItemRepository trainingItemRepository;
+
+  @Autowired
+  private TrainingParticipantRepository participantRepository;
+
+  @Autowired
+  private TravelItemRepository travelItemRepository;
+
+  @Autowired
+  private TravelTravellerRepository travellerRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private User user;
+  private ResponsibilityCentre rc;
+  private FiscalYear fy;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = String.valueOf(System.nanoTime());
+    user = new User();
+    user.setUsername("reporttest" + suffix);
+    user.setPasswordHash("$2a$10$dummyhash");
+    user.setEmail("reporttest" + suffix + "@example.com");
+    user.setFullName("Report Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user = userRepository.save(user);
+
+    rc = new ResponsibilityCentre();
+    rc.setName("Report RC " + suffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+
+    fy = new FiscalYear();
+    fy.setName("FY 2025-2026");
+    fy.setResponsibilityCentre(rc);
+    fy = fiscalYearRepository.save(fy);
+
+    Money money = moneyRepository.save(new Money("RP" + suffix.substring(suffix.length() - 6), "Report Money", null, fy));
+    FundingItem funding = fundingItemRepository.save(new FundingItem("Grant", null, fy));
+    fundingAllocationRepository.save(new MoneyAllocation(funding, money, new BigDecimal("1000.00"), new BigDecimal("200.00")));
+    fundingItemRepository.save(new FundingItem("=Unallocated", null, fy));
+
+    Category hardware = categoryRepository.save(new Category("Hardware", null, fy));
+    SpendingItem spending = spendingItemRepository.save(new SpendingItem("Laptops", null, hardware, fy));
+    invoiceRepository.save(invoice(spending, "40.00", LocalDate.of(2025, 5, 10), true));
+    invoiceRepository.save(invoice(spending, "25.00", LocalDate.of(2025, 6, 2), true));
+    invoiceRepository.save(invoice(spending, "99.00", LocalDate.of(2025, 7, 1), false));
+
+    ProcurementItem procurement = procurementItemRepository.save(new ProcurementItem("PR-1", "Servers", fy));
+    quoteRepository.save(new ProcurementQuote("Vendor A", new BigDecimal("5000.00"), Currency.CAD, procurement));
+    procurementEventRepository.save(new ProcurementEvent(procurement, ProcurementEvent.EventType.QUOTE,
+        LocalDate.of(2025, 5, 1), "Quote requested"));
+
+    TrainingItem training = trainingItemRepository.save(new TrainingItem("Course", null, TrainingItem.Status.PLANNED, fy));
+    participantRepository.save(new TrainingParticipant("Alex", training));
+    participantRepository.save(new TrainingParticipant("Sam", training));
+
+    TravelItem travel = travelItemRepository.save(new TravelItem("Conference", null, TravelItem.Status.PLANNED, fy));
+    travellerRepository.save(new TravelTraveller("Alex", travel));
+    entityManager.flush();
+  }
+
+  private static SpendingInvoice invoice(SpendingItem item, String amount, LocalDate received, boolean active) {
+    SpendingInvoice invoice = new SpendingInvoice(item, new BigDecimal(amount), Currency.CAD);
+    invoice.setDateReceived(received);
+    invoice.setActive(active);
+    return invoice;
+  }
+
+  private String csv(ReportType type) throws IOException {
+    ReportExport export = reportExportService.prepare(rc.getId(), fy.getId(), type.getPath(), "csv",
+        user.getUsername());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    reportExportService.write(export, out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  private static List<String> lines(String csv) {
+    return List.of(csv.substring(1).split("\r\n"));
+  }
+
+  @Test
+  @DisplayName("Exports one row per child of each active item, and items without children once")
+  void exportsEveryReport() throws IOException {
+    assertEquals(3, lines(csv(ReportType.FUNDING_ITEMS)).size());
+    assertEquals(3, lines(csv(ReportType.SPENDING_ITEMS)).size());
+    assertEquals(2, lines(csv(ReportType.PROCUREMENT_ITEMS)).size());
+    assertEquals(2, lines(csv(ReportType.PROCUREMENT_EVENTS)).size());
+    assertEquals(3, lines(csv(ReportType.TRAINING_ITEMS)).size());
+    assertEquals(2, lines(csv(ReportType.TRAVEL_ITEMS)).size());
+  }
+
+  @Test
+  @DisplayName("Writes the header and typed values in query order")
+  void writesValues() throws IOException {
+    List<String> funding = lines(csv(ReportType.FUNDING_ITEMS));
+    assertTrue(funding.get(0).startsWith("Item ID,Name,Description,Category,Source"));
+    assertTrue(funding.get(1).contains(",'=Unallocated,"));
+    assertTrue(funding.get(2).contains(",Grant,"));
+    assertTrue(funding.get(2).contains(",1000.00,200.00,"));
+
+    List<String> spending = lines(csv(ReportType.SPENDING_ITEMS));
+    assertTrue(spending.get(1).contains(",2025-05-10,"));
+    assertTrue(spending.get(2).contains(",2025-06-02,"));
+  }
+
+  @Test
+  @DisplayName("Streams XLSX as a ZIP package")
+  void exportsXlsx() throws IOException {
+    ReportExport export = reportExportService.prepare(rc.getId(), fy.getId(), "spending-items", "xlsx",
+        user.getUsername());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    assertEquals(2, reportExportService.write(export, out));
+    assertEquals("FY_2025-2026_spending-items.xlsx", export.fileName());
+    byte[] bytes = out.toByteArray();
+    assertEquals('P', bytes[0]);
+    assertEquals('K', bytes[1]);
+  }
+
+  @Test
+  @DisplayName("Rejects unknown reports and formats, other users and fiscal years of other RCs")
+  void validatesRequests() {
+    assertThrows(InvalidListQueryException.class, () -> reportExportService.prepare(rc.getId(), fy.getId(),
+        "salaries", "csv", user.getUsername()));
+    assertThrows(InvalidListQueryException.class, () -> reportExportService.prepare(rc.getId(), fy.getId(),
+        "funding-items", "pdf", user.getUsername()));
+    assertThrows(IllegalArgumentException.class, () -> reportExportService.prepare(rc.getId(), fy.getId(),
+        "funding-items", "csv", "nobody"));
+
+    ResponsibilityCentre other = new ResponsibilityCentre();
+    other.setName("Other RC " + System.nanoTime());
+    other.setOwner(user);
+    other = rcRepository.save(other);
+    Long otherRcId = other.getId();
+    assertThrows(IllegalArgumentException.class, () -> reportExportService.prepare(otherRcId, fy.getId(),
+        "funding-items", "csv", user.getUsername()));
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * myRC - Second-Level Cache Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.cache.CacheRegions;
+import com.myrc.cache.SecondLevelCacheInvalidator;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.Money;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.User;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for evicting the second-level cache after writes that
+ * bypass Hibernate. The test profile disables the cache, so it is switched
+ * back on here.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.cache.second-level.enabled=true")
+@Transactional
+class SecondLevelCacheIntegrationTest {
+
+  private static final String INSERT_MONEY_SQL =
+      "INSERT INTO monies (code, name, description, is_default, fiscal_year_id, display_order, "
+          + "active, created_at, updated_at, version) "
+          + "VALUES (?, ?, NULL, FALSE, ?, 1, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)";
+
+  @Autowired
+  private SecondLevelCacheInvalidator invalidator;
+
+  @Autowired
+  private MoneyRepository moneyRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private FiscalYear fiscalYear;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = String.valueOf(System.nanoTime());
+    User user = new User();
+    user.setUsername("l2test" + suffix);
+    user.setPasswordHash("$2a$10$dummyhash");
+    user.setEmail("l2test" + suffix + "@example.com");
+    user.setFullName("Cache Test User");
+    user.setAuthProvider(User.AuthProvider.LOCAL);
+    user = userRepository.save(user);
+
+    ResponsibilityCentre rc = new ResponsibilityCentre();
+    rc.setName("Cache Test RC " + suffix);
+    rc.setOwner(user);
+    rc = rcRepository.save(rc);
+
+    fiscalYear = new FiscalYear();
+    fiscalYear.setName("FY Cache " + suffix);
+    fiscalYear.setResponsibilityCentre(rc);
+    fiscalYear = fiscalYearRepository.save(fiscalYear);
+  }
+
+  @Test
+  @DisplayName("Cached money lists see rows inserted with JDBC once the table is evicted")
+  void evictsTableWrittenWithJdbc() {
+    moneyRepository.saveAndFlush(new Money("AA", "Entity Money", null, fiscalYear));
+    assertEquals(1, moneyRepository.findByFiscalYearId(fiscalYear.getId()).size());
+
+    jdbcTemplate.update(INSERT_MONEY_SQL, "BB", "JDBC Money", fiscalYear.getId());
+    invalidator.evictTables("monies");
+
+    assertEquals(2, moneyRepository.findByFiscalYearId(fiscalYear.getId()).size());
+  }
+
+  @Test
+  @DisplayName("Maps tables to the cached entities stored in them")
+  void mapsTablesToCacheKeys() {
+    assertEquals(CacheRegions.MONEY, CacheRegions.keyForTable("monies"));
+    assertEquals(CacheRegions.FISCAL_YEAR, CacheRegions.keyForTable("fiscal_years"));
+    assertNull(CacheRegions.keyForTable("allocation_totals"));
+  }
+}
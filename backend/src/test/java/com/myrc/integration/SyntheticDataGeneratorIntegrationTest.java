@@ -0,0 +1,181 @@
+/*
+ * myRC - Synthetic Data Generator Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.cache.SecondLevelCacheInvalidator;
+import com.myrc.config.SyntheticDataProperties;
+import com.myrc.init.SyntheticDataGenerator;
+import com.myrc.ledger.AllocationLedgerWriter;
+import com.myrc.ledger.AllocationReconciliationJob;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.model.User;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.repository.UserRepository;
+import com.myrc.service.CategoryService;
+import com.myrc.service.MoneyService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the synthetic dataset generator, run with small
+ * counts. The generator's transactions join the test transaction and roll
+ * back with it.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SyntheticDataGeneratorIntegrationTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Autowired
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Autowired
+  private MoneyService moneyService;
+
+  @Autowired
+  private CategoryService categoryService;
+
+  @Autowired
+  private AllocationLedgerWriter ledgerWriter;
+
+  @Autowired
+  private AllocationReconciliationJob reconciliationJob;
+
+  @Autowired
+  private ObjectProvider<SecondLevelCacheInvalidator> secondLevelCache;
+
+  private User owner;
+  private SyntheticDataProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = String.valueOf(System.nanoTime());
+    owner = new User();
+    owner.setUsername("synthetic" + suffix);
+    owner.setPasswordHash("$2a$10$dummyhash");
+    owner.setEmail("synthetic" + suffix + "@example.com");
+    owner.setFullName("Synthetic Test User");
+    owner.setAuthProvider(User.AuthProvider.LOCAL);
+    owner = userRepository.save(owner);
+
+    properties = new SyntheticDataProperties();
+    properties.setOwner(owner.getUsername());
+    properties.setResponsibilityCentres(2);
+    properties.setFiscalYears(2);
+    properties.setFundingItems(5);
+    properties.setSpendingItems(20);
+    properties.setProcurementItems(8);
+    properties.setTrainingItems(4);
+    properties.setTravelItems(4);
+    properties.setAuditEvents(30);
+    properties.setAttachmentRatio(0.5);
+    properties.setAttachmentBytes(64);
+    properties.setBatchSize(7);
+  }
+
+  private SyntheticDataGenerator generator() {
+    return new SyntheticDataGenerator(jdbcTemplate, transactionManager, userRepository, rcRepository,
+        fiscalYearRepository, moneyService, categoryService, ledgerWriter, properties, secondLevelCache);
+  }
+
+  private long count(String table, Long fiscalYearId) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE fiscal_year_id = ?",
+        Long.class, fiscalYearId);
+  }
+
+  @Test
+  @DisplayName("Generates the configured RCs and fiscal years with items and a reconciled ledger")
+  void generatesDataset() {
+    long rows = generator().generate();
+
+    List<ResponsibilityCentre> rcs = rcRepository.findByOwner(owner);
+    assertEquals(2, rcs.size());
+    assertTrue(rows > 100);
+    for (ResponsibilityCentre rc : rcs) {
+      List<FiscalYear> fiscalYears = fiscalYearRepository.findByResponsibilityCentreOrderByNameAsc(rc);
+      assertEquals(2, fiscalYears.size());
+      for (FiscalYear fy : fiscalYears) {
+        assertTrue(count("spending_items", fy.getId()) > 0);
+        assertTrue(count("procurement_items", fy.getId()) > 0);
+        assertEquals(properties.getMonies(), count("monies", fy.getId()));
+        assertTrue(count("allocation_ledger", fy.getId()) > 0);
+        assertEquals(0, reconciliationJob.reconcile(fy.getId()).mismatches());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Skips RCs that already exist")
+  void skipsExistingRcs() {
+    generator().generate();
+
+    assertEquals(0, generator().generate());
+    assertEquals(2, rcRepository.findByOwner(owner).size());
+  }
+
+  @Test
+  @DisplayName("Completes the missing fiscal years of existing RCs")
+  void resumesMissingFiscalYears() {
+    properties.setFiscalYears(1);
+    generator().generate();
+
+    properties.setFiscalYears(2);
+    assertTrue(generator().generate() > 0);
+    int first = properties.getFirstFiscalYear();
+    for (ResponsibilityCentre rc : rcRepository.findByOwner(owner)) {
+      assertEquals(List.of("FY " + first + "-" + (first + 1), "FY " + (first + 1) + "-" + (first + 2)),
+          fiscalYearRepository.findByResponsibilityCentreOrderByNameAsc(rc).stream()
+              .map(FiscalYear::getName).toList());
+    }
+  }
+
+  @Test
+  @DisplayName("Same seed generates the same row count")
+  void isDeterministic() {
+    long first = generator().generate();
+    rcRepository.findByOwner(owner).forEach(rc -> rc.setName(rc.getName() + " old"));
+    rcRepository.flush();
+
+    assertEquals(first, generator().generate());
+  }
+
+  @Test
+  @DisplayName("Skips generation when the owner does not exist")
+  void requiresOwner() {
+    properties.setOwner("nobody" + System.nanoTime());
+
+    assertEquals(0, generator().generate());
+  }
+}
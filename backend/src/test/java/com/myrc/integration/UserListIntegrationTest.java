@@ -0,0 +1,171 @@
+/*
+ * myRC - User List Integration Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.dto.UserListQuery;
+import com.myrc.dto.UserStatsDTO;
+import com.myrc.dto.UserSummaryDTO;
+import com.myrc.model.User;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.KeysetPage;
+import com.myrc.repository.UserRepository;
+import com.myrc.service.UserService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the paged user list and the grouped user statistics.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserListIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String prefix;
+    private UserStatsDTO before;
+
+    @BeforeEach
+    void setUp() {
+        before = userService.getUserStats();
+        prefix = "list" + System.nanoTime() % 1000000 + "_";
+        save("alice", User.AuthProvider.LOCAL, true, false, Set.of("USER", "ADMIN"));
+        save("bob", User.AuthProvider.LDAP, true, false, Set.of("USER"));
+        save("carol", User.AuthProvider.LDAP, false, false, Set.of());
+        save("dave", User.AuthProvider.OAUTH2, true, true, Set.of("USER"));
+        save("erin", User.AuthProvider.LDAP, true, true, Set.of("USER"));
+    }
+
+    private void save(String name, User.AuthProvider provider, boolean enabled, boolean locked,
+                      Set<String> roles) {
+        User user = new User();
+        user.setUsername(prefix + name);
+        user.setEmail(prefix + name + "@example.com");
+        user.setFullName(name.toUpperCase() + " Example");
+        user.setAuthProvider(provider);
+        user.setEnabled(enabled);
+        user.setAccountLocked(locked);
+        user.setRoles(new HashSet<>(roles));
+        userRepository.save(user);
+    }
+
+    @Test
+    @DisplayName("Pages should follow each other by username without gaps or repeats")
+    void pagesCoverAllMatchesInOrder() {
+        UserListQuery query = new UserListQuery();
+        query.setSearch(prefix);
+        query.setLimit(2);
+
+        List<String> usernames = new ArrayList<>();
+        int pages = 0;
+        KeysetPage<UserSummaryDTO> page;
+        do {
+            page = userService.getUserSummaries(query);
+            page.items().forEach(user -> usernames.add(user.getUsername()));
+            query.setCursor(page.nextCursor());
+            pages++;
+        } while (page.nextCursor() != null);
+
+        assertEquals(3, pages);
+        assertEquals(List.of(prefix + "alice", prefix + "bob", prefix + "carol", prefix + "dave",
+            prefix + "erin"), usernames);
+    }
+
+    @Test
+    @DisplayName("Summaries should carry roles loaded for the whole page")
+    void summariesIncludeRoles() {
+        UserListQuery query = new UserListQuery();
+        query.setSearch(prefix + "alice");
+
+        List<UserSummaryDTO> users = userService.getUserSummaries(query).items();
+
+        assertEquals(1, users.size());
+        assertEquals(Set.of("ADMIN", "USER"), users.get(0).getRoles());
+        assertEquals("LOCAL", users.get(0).getAuthProvider());
+    }
+
+    @Test
+    @DisplayName("Provider, enabled and locked filters should combine")
+    void filtersCombine() {
+        UserListQuery query = new UserListQuery();
+        query.setSearch(prefix);
+        query.setProvider("ldap");
+        query.setEnabled(true);
+        query.setDirection("desc");
+
+        List<UserSummaryDTO> users = userService.getUserSummaries(query).items();
+        assertEquals(List.of(prefix + "erin", prefix + "bob"),
+            users.stream().map(UserSummaryDTO::getUsername).toList());
+
+        query.setLocked(false);
+        users = userService.getUserSummaries(query).items();
+        assertEquals(List.of(prefix + "bob"), users.stream().map(UserSummaryDTO::getUsername).toList());
+    }
+
+    @Test
+    @DisplayName("Search should match email and full name case-insensitively")
+    void searchMatchesEmailAndFullName() {
+        UserListQuery query = new UserListQuery();
+        query.setSearch("CAROL example");
+
+        List<UserSummaryDTO> users = userService.getUserSummaries(query).items();
+
+        assertTrue(users.stream().anyMatch(user -> user.getUsername().equals(prefix + "carol")));
+    }
+
+    @Test
+    @DisplayName("Search should treat LIKE wildcards literally")
+    void searchEscapesWildcards() {
+        UserListQuery query = new UserListQuery();
+        query.setSearch(prefix.substring(0, prefix.length() - 1) + "%alice");
+
+        assertTrue(userService.getUserSummaries(query).items().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Unknown provider should be rejected")
+    void unknownProviderRejected() {
+        UserListQuery query = new UserListQuery();
+        query.setProvider("KERBEROS");
+
+        assertThrows(InvalidListQueryException.class, () -> userService.getUserSummaries(query));
+    }
+
+    @Test
+    @DisplayName("Grouped statistics should count by status and provider")
+    void statsCountByStatusAndProvider() {
+        UserStatsDTO after = userService.getUserStats();
+
+        assertEquals(5, after.getTotalUsers() - before.getTotalUsers());
+        assertEquals(4, after.getEnabledUsers() - before.getEnabledUsers());
+        assertEquals(1, after.getDisabledUsers() - before.getDisabledUsers());
+        assertEquals(2, after.getLockedUsers() - before.getLockedUsers());
+        assertEquals(1, after.getLocalUsers() - before.getLocalUsers());
+        assertEquals(3, after.getLdapUsers() - before.getLdapUsers());
+        assertEquals(1, after.getOauth2Users() - before.getOauth2Users());
+        assertEquals(after.getTotalUsers(), after.getEnabledUsers() + after.getDisabledUsers());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * myRC - Password Verifier Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.login;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.myrc.config.LoginProperties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Unit tests for PasswordVerifier.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@DisplayName("PasswordVerifier Tests")
+class PasswordVerifierTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private PasswordVerifier verifier;
+
+  /** Encoder whose checks block until released, standing in for slow hashing. */
+  private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return "{test}" + rawPassword;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return encode(rawPassword).equals(encodedPassword);
+    }
+  };
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    verifier.destroy();
+  }
+
+  private PasswordVerifier verifier(int threads, int queue, long timeoutMs) {
+    LoginProperties properties = new LoginProperties();
+    properties.setVerifyThreads(threads);
+    properties.setVerifyQueueCapacity(queue);
+    properties.setVerifyTimeoutMs(timeoutMs);
+    verifier = new PasswordVerifier(blockingEncoder, properties);
+    return verifier;
+  }
+
+  @Test
+  @DisplayName("Should check passwords on the pool")
+  void testMatches() {
+    verifier(1, 1, 1000);
+    release.countDown();
+
+    assertTrue(verifier.matches("secret", "{test}secret"));
+    assertFalse(verifier.matches("wrong", "{test}secret"));
+    assertFalse(verifier.matches("secret", null));
+  }
+
+  @Test
+  @DisplayName("Should reject logins once the pool and queue are full")
+  void testRejectsWhenSaturated() throws Exception {
+    verifier(1, 1, 5000);
+    CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+        () -> verifier.matches("a", "{test}a"));
+    CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+        () -> verifier.matches("b", "{test}b"));
+    // Wait until one check occupies the thread and one the queue slot
+    for (int i = 0; i < 100 && verifier.inFlight() < 2; i++) {
+      Thread.sleep(10);
+    }
+
+    assertThrows(LoginThrottledException.class, () -> verifier.matches("c", "{test}c"));
+
+    release.countDown();
+    assertTrue(running.get(5, TimeUnit.SECONDS));
+    assertTrue(queued.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  @DisplayName("Should give up on a check that waits longer than the timeout")
+  void testTimeout() {
+    verifier(1, 1, 50);
+
+    assertThrows(LoginThrottledException.class, () -> verifier.matches("a", "{test}a"));
+  }
+}
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -139,4 +140,23 @@ class CurrencyTest {
         assertFalse(Currency.isValidCode(null));
         assertFalse(Currency.isValidCode("JPY"));
     }
+
+    @Test
+    @DisplayName("toCad should pass CAD through rounded to the cent")
+    void toCadShouldPassCadThrough() {
+        assertEquals(new BigDecimal("100.00"), Currency.CAD.toCad(new BigDecimal("100"), new BigDecimal("9")));
+    }
+
+    @Test
+    @DisplayName("toCad should multiply foreign amounts by the rate and round half up")
+    void toCadShouldApplyRate() {
+        assertEquals(new BigDecimal("13.66"), Currency.USD.toCad(new BigDecimal("10.00"), new BigDecimal("1.365500")));
+    }
+
+    @Test
+    @DisplayName("toCad should return null without an amount or a foreign rate")
+    void toCadShouldReturnNullWhenUnknown() {
+        assertNull(Currency.USD.toCad(null, new BigDecimal("1.3")));
+        assertNull(Currency.EUR.toCad(new BigDecimal("10"), null));
+    }
 }
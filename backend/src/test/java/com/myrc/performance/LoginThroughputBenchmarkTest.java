@@ -0,0 +1,170 @@
+/*
+ * myRC - Login Throughput Benchmark
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Measures app-account login throughput and latency under a login storm.
+ */
+package com.myrc.performance;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.myrc.dto.CreateUserRequest;
+import com.myrc.service.UserService;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Benchmark of {@code POST /users/authenticate} under concurrent logins.
+ *
+ * <p>Creates a pool of app-account users, then has every client log in
+ * repeatedly with a mix of correct and wrong passwords (1 in 10 wrong) for
+ * a fixed duration. Reports successful logins per second, p50/p99 latency
+ * and how many logins were answered 429 by the bounded verification pool.
+ * Vary {@code -Dapp.security.login.verify-threads},
+ * {@code verify-queue-capacity} and {@code bcrypt-strength} to size the
+ * pool for a deployment.</p>
+ *
+ * <p>Disabled by default. Run with:
+ * <pre>
+ * mvn test -Dtest=LoginThroughputBenchmarkTest -Dmyrc.benchmark=true \
+ *     [-Dmyrc.benchmark.login.clients=200] [-Dmyrc.benchmark.login.seconds=20] \
+ *     [-Dmyrc.benchmark.login.users=50]
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "myrc.benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Login Throughput Benchmark")
+class LoginThroughputBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("myrc.benchmark.login.clients", 200);
+    private static final int SECONDS = Integer.getInteger("myrc.benchmark.login.seconds", 20);
+    private static final int USERS = Integer.getInteger("myrc.benchmark.login.users", 50);
+    private static final int WARMUP_SECONDS = 5;
+    private static final String PASSWORD = "benchmark-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("Should report login throughput, latency and throttled logins")
+    void measureLoginStorm() throws Exception {
+        List<String> usernames = createUsers();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+        run(client, usernames, WARMUP_SECONDS, new ArrayList<>(), new AtomicLong(), new AtomicLong(),
+                new AtomicLong());
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong throttled = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        run(client, usernames, SECONDS, latencies, succeeded, throttled, errors);
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("%n%d clients, %d users, %ds, %d processors%n",
+                CLIENTS, USERS, SECONDS, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%12s %10s %10s %10s %8s%n", "logins/s", "p50 ms", "p99 ms", "429s", "errors");
+        System.out.printf("%12.1f %10.1f %10.1f %10d %8d%n",
+                succeeded.get() / (double) SECONDS,
+                percentile(sorted, 0.50) / 1_000_000.0,
+                percentile(sorted, 0.99) / 1_000_000.0,
+                throttled.get(), errors.get());
+        assertTrue(succeeded.get() > 0, "No login succeeded");
+    }
+
+    private List<String> createUsers() {
+        List<String> usernames = new ArrayList<>();
+        String prefix = "bench" + System.nanoTime() % 100000 + "_";
+        for (int i = 0; i < USERS; i++) {
+            CreateUserRequest request = new CreateUserRequest();
+            request.setUsername(prefix + i);
+            request.setEmail(prefix + i + "@example.com");
+            request.setPassword(PASSWORD);
+            request.setAuthProvider("LOCAL");
+            request.setRoles(Set.of("USER"));
+            usernames.add(userService.createUser(request).getUsername());
+        }
+        return usernames;
+    }
+
+    private void run(HttpClient client, List<String> usernames, int seconds, List<Long> latencies,
+            AtomicLong succeeded, AtomicLong throttled, AtomicLong errors) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int clientId = c;
+                futures.add(clients.submit(() -> {
+                    int attempt = 0;
+                    while (System.nanoTime() < deadline) {
+                        String username = usernames.get((clientId + attempt) % usernames.size());
+                        // Every tenth attempt is wrong, but not often enough to lock anyone out
+                        String password = attempt % 10 == 9 ? "wrong" : PASSWORD;
+                        attempt++;
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                        + "/api/users/authenticate?username=" + username + "&password=" + password))
+                                .POST(HttpRequest.BodyPublishers.noBody())
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 200) {
+                                succeeded.incrementAndGet();
+                                latencies.add(System.nanoTime() - start);
+                            } else if (status == 429) {
+                                throttled.incrementAndGet();
+                            } else if (status != 401) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static long percentile(List<Long> sorted, double fraction) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(fraction * sorted.size()) - 1));
+    }
+}
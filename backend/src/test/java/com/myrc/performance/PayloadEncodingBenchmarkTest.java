@@ -0,0 +1,181 @@
+/*
+ * myRC - Payload Encoding Benchmark
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Compares bytes on the wire and serialization CPU of JSON, CBOR and Smile,
+ * with and without gzip, for an FY-wide spending list.
+ */
+package com.myrc.performance;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.myrc.dto.SpendingInvoiceDTO;
+import com.myrc.dto.SpendingItemDTO;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmark of the response encodings offered by the API.
+ *
+ * <p>Serializes a synthetic fiscal-year spending list (items with invoices)
+ * with the same Jackson setup as the message converters and reports, per
+ * encoding, the raw and gzipped size and the average encode/decode time.
+ * Gzip is level 5 to match the nginx configuration.</p>
+ *
+ * <p>Disabled by default. Run with:
+ * <pre>
+ * mvn test -Dtest=PayloadEncodingBenchmarkTest -Dmyrc.benchmark=true \
+ *     [-Dmyrc.benchmark.items=5000] [-Dmyrc.benchmark.iterations=50]
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "myrc.benchmark", matches = "true")
+@DisplayName("Payload Encoding Benchmark")
+class PayloadEncodingBenchmarkTest {
+
+    private static final int ITEMS = Integer.getInteger("myrc.benchmark.items", 5000);
+    private static final int INVOICES_PER_ITEM = 3;
+    private static final int ITERATIONS = Integer.getInteger("myrc.benchmark.iterations", 50);
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int GZIP_LEVEL = 5;
+
+    @Test
+    @DisplayName("Should report size and CPU for JSON, CBOR and Smile")
+    void compareEncodings() throws Exception {
+        List<SpendingItemDTO> items = sampleItems();
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", new Jackson2ObjectMapperBuilder().build());
+        mappers.put("cbor", new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build());
+        mappers.put("smile", new Jackson2ObjectMapperBuilder().factory(new SmileFactory()).build());
+
+        System.out.printf("%n%d spending items, %d invoices each, %d iterations%n",
+                ITEMS, INVOICES_PER_ITEM, ITERATIONS);
+        System.out.printf("%-6s %12s %12s %12s %12s %12s%n",
+                "format", "bytes", "gzip bytes", "encode ms", "decode ms", "gzip ms");
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            Result result = measure(entry.getValue(), items);
+            results.put(entry.getKey(), result);
+            System.out.println(result.format(entry.getKey()));
+        }
+
+        long json = results.get("json").bytes();
+        assertTrue(results.get("cbor").bytes() < json, "CBOR should be smaller than JSON");
+        assertTrue(results.get("smile").bytes() < json, "Smile should be smaller than JSON");
+    }
+
+    private Result measure(ObjectMapper mapper, List<SpendingItemDTO> items) throws Exception {
+        CollectionType type = mapper.getTypeFactory().constructCollectionType(List.class, SpendingItemDTO.class);
+        byte[] encoded = mapper.writeValueAsBytes(items);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(items), type);
+            gzip(encoded);
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        long gzipNanos = 0;
+        int gzipped = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            encoded = mapper.writeValueAsBytes(items);
+            encodeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            mapper.readValue(encoded, type);
+            decodeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            gzipped = gzip(encoded);
+            gzipNanos += System.nanoTime() - start;
+        }
+        return new Result(encoded.length, gzipped, millis(encodeNanos), millis(decodeNanos), millis(gzipNanos));
+    }
+
+    private static double millis(long totalNanos) {
+        return totalNanos / (double) ITERATIONS / 1_000_000.0;
+    }
+
+    private static int gzip(byte[] data) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes) {
+            {
+                def.setLevel(GZIP_LEVEL);
+            }
+        }) {
+            out.write(data);
+        }
+        return bytes.size();
+    }
+
+    private static List<SpendingItemDTO> sampleItems() {
+        List<SpendingItemDTO> items = new ArrayList<>(ITEMS);
+        for (int i = 1; i <= ITEMS; i++) {
+            SpendingItemDTO item = new SpendingItemDTO();
+            item.setId((long) i);
+            item.setName("Spending item " + i);
+            item.setDescription("Replacement equipment and licences for team " + (i % 40));
+            item.setVendor("Vendor " + (i % 120));
+            item.setReferenceNumber("REF-" + (100000 + i));
+            item.setAmount(BigDecimal.valueOf(i * 137L, 2));
+            item.setEcoAmount(BigDecimal.valueOf(i * 11L, 2));
+            item.setStatus(i % 3 == 0 ? "PAID" : "COMMITTED");
+            item.setCurrency(i % 10 == 0 ? "USD" : "CAD");
+            item.setExchangeRate(i % 10 == 0 ? new BigDecimal("1.3650") : null);
+            item.setCategoryId((long) (i % 12));
+            item.setCategoryName("Category " + (i % 12));
+            item.setFiscalYearId(3L);
+            item.setFiscalYearName("FY 2026-2027");
+            item.setResponsibilityCentreId(1L);
+            item.setResponsibilityCentreName("Operations");
+            item.setCreatedAt(LocalDateTime.of(2026, 4, 1, 9, 30).plusMinutes(i));
+            item.setUpdatedAt(LocalDateTime.of(2026, 6, 1, 14, 0).plusMinutes(i));
+            item.setActive(true);
+            List<SpendingInvoiceDTO> invoices = new ArrayList<>();
+            for (int j = 1; j <= INVOICES_PER_ITEM; j++) {
+                SpendingInvoiceDTO invoice = new SpendingInvoiceDTO();
+                invoice.setId((long) i * INVOICES_PER_ITEM + j);
+                invoice.setDateReceived(LocalDate.of(2026, 5, 1).plusDays(i % 300));
+                invoice.setAmount(BigDecimal.valueOf(i * 45L + j, 2));
+                invoice.setCurrency("CAD");
+                invoice.setComments("Partial delivery " + j);
+                invoices.add(invoice);
+            }
+            item.setInvoices(invoices);
+            item.setInvoiceCount(invoices.size());
+            items.add(item);
+        }
+        return items;
+    }
+
+    private record Result(long bytes, long gzipBytes, double encodeMillis, double decodeMillis,
+                          double gzipMillis) {
+        String format(String format) {
+            return String.format("%-6s %12d %12d %12.2f %12.2f %12.2f",
+                    format, bytes, gzipBytes, encodeMillis, decodeMillis, gzipMillis);
+        }
+    }
+}
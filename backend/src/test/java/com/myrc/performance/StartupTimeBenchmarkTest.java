@@ -0,0 +1,151 @@
+/*
+ * myRC - Startup Time Benchmark
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Measures time from JVM launch to the first successful /health response,
+ * with and without the fast-start profile.
+ */
+package com.myrc.performance;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.myrc.BoxOfficeApplication;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Benchmark of application startup time.
+ *
+ * <p>Each run launches a fresh JVM on H2 (so class loading, JIT and CDS are
+ * measured as in a pod restart) and polls {@code GET /api/health} until it
+ * answers 200. The {@code baseline} and {@code fast-start} variants run from
+ * the test classpath; with {@code -Dmyrc.benchmark.startup.jar} a packaged
+ * jar is measured as well, e.g. the extracted jar of
+ * {@code mvn -Pfast-start package} with its CDS archive and AOT classes.
+ * Server output goes to {@code target/startup-benchmark.log}.</p>
+ *
+ * <p>Disabled by default. Run with:
+ * <pre>
+ * mvn test -Dtest=StartupTimeBenchmarkTest -Dmyrc.benchmark=true \
+ *     [-Dmyrc.benchmark.startup.runs=5] \
+ *     [-Dmyrc.benchmark.startup.jar=target/fast-start/backend-1.0.0.jar \
+ *      -Dmyrc.benchmark.startup.jvm-args="-XX:SharedArchiveFile=target/fast-start/application.jsa -Dspring.aot.enabled=true"]
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "myrc.benchmark", matches = "true")
+@DisplayName("Startup Time Benchmark")
+class StartupTimeBenchmarkTest {
+
+    private static final int RUNS = Integer.getInteger("myrc.benchmark.startup.runs", 3);
+    private static final String JAR = System.getProperty("myrc.benchmark.startup.jar", "");
+    private static final String JVM_ARGS = System.getProperty("myrc.benchmark.startup.jvm-args", "");
+    private static final Duration TIMEOUT = Duration.ofSeconds(180);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(25);
+
+    @Test
+    @DisplayName("Should report time to first successful /health")
+    void measureStartup() throws Exception {
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        String classpath = System.getProperty("java.class.path");
+        variants.put("baseline", List.of("-cp", classpath, BoxOfficeApplication.class.getName(),
+                "--spring.profiles.active=test"));
+        // test last, so its H2 settings win over fast-start's
+        variants.put("fast-start", List.of("-cp", classpath, BoxOfficeApplication.class.getName(),
+                "--spring.profiles.active=fast-start,test"));
+        if (!JAR.isBlank()) {
+            List<String> command = new ArrayList<>();
+            if (!JVM_ARGS.isBlank()) {
+                command.addAll(Arrays.asList(JVM_ARGS.trim().split("\\s+")));
+            }
+            command.addAll(List.of("-jar", JAR, "--spring.profiles.active=fast-start,test"));
+            variants.put("jar", command);
+        }
+
+        System.out.printf("%n%d runs per variant, time from launch to first 200 on /api/health%n", RUNS);
+        System.out.printf("%-12s %10s %10s %10s%n", "variant", "min ms", "median ms", "max ms");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            List<Long> millis = new ArrayList<>();
+            for (int run = 0; run < RUNS; run++) {
+                millis.add(timeToHealthy(variant.getKey() + "-" + run, variant.getValue()));
+            }
+            Collections.sort(millis);
+            System.out.printf("%-12s %10d %10d %10d%n", variant.getKey(),
+                    millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1));
+        }
+    }
+
+    private long timeToHealthy(String name, List<String> arguments) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(arguments);
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:mem:startup-" + name
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE");
+        command.add("--logging.level.com.myrc=WARN");
+
+        File log = new File("target/startup-benchmark.log");
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/health"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(log))
+                .start();
+        try {
+            long deadline = start + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertTrue(process.isAlive(), name + " exited during startup, see " + log);
+                try {
+                    if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new AssertionError(name + " not healthy within " + TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
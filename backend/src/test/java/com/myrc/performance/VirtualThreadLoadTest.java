@@ -0,0 +1,189 @@
+/*
+ * myRC - Virtual Thread Load Test
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ *
+ * Description:
+ * Compares request throughput and p99 latency between platform-thread
+ * and virtual-thread request handling.
+ */
+package com.myrc.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.myrc.BoxOfficeApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Load test comparing platform and virtual request threads.
+ *
+ * <p>Boots the application twice on H2 and drives a synthetic endpoint that
+ * holds a pooled connection for a short query and then blocks on simulated
+ * directory/file I/O without a connection, which is the shape of most myRC
+ * requests. With platform threads throughput is capped by Tomcat's
+ * {@code max-threads}; with virtual threads it is capped by the connection
+ * permits instead.</p>
+ *
+ * <p>Disabled by default. Run with:
+ * <pre>
+ * mvn test -Dtest=VirtualThreadLoadTest -Dmyrc.loadtest=true \
+ *     [-Dmyrc.loadtest.clients=800] [-Dmyrc.loadtest.seconds=20] \
+ *     [-Dmyrc.loadtest.db-millis=2] [-Dmyrc.loadtest.io-millis=100]
+ * </pre>
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@Tag("load")
+@EnabledIfSystemProperty(named = "myrc.loadtest", matches = "true")
+@DisplayName("Virtual Thread Load Test")
+class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("myrc.loadtest.clients", 800);
+    private static final int SECONDS = Integer.getInteger("myrc.loadtest.seconds", 20);
+    private static final int WARMUP_SECONDS = 5;
+    static final int DB_MILLIS = Integer.getInteger("myrc.loadtest.db-millis", 2);
+    static final int IO_MILLIS = Integer.getInteger("myrc.loadtest.io-millis", 100);
+
+    @Test
+    @DisplayName("Should report throughput and p99 latency for platform and virtual threads")
+    void compareThroughputAndLatency() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n%d clients, %ds, %dms DB + %dms I/O per request%n",
+                CLIENTS, SECONDS, DB_MILLIS, IO_MILLIS);
+        System.out.printf("%-10s %12s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "errors");
+        System.out.println(platform.format("platform"));
+        System.out.println(virtual.format("virtual"));
+
+        assertEquals(0, virtual.errors(), "virtual-thread run had failed requests");
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                BoxOfficeApplication.class, LoadEndpoint.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--spring.datasource.hikari.maximum-pool-size=10",
+                        "--server.tomcat.threads.max=200",
+                        "--logging.level.com.myrc=WARN")) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            return drive(URI.create("http://localhost:" + port + "/api/loadtest/io"));
+        }
+    }
+
+    private Result drive(URI uri) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long measureStart = System.nanoTime() + Duration.ofSeconds(WARMUP_SECONDS).toNanos();
+        long end = measureStart + Duration.ofSeconds(SECONDS).toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    while (System.nanoTime() < end) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response =
+                                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200 && start >= measureStart) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            if (start >= measureStart) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                        if (start >= measureStart) {
+                            latencies.add(System.nanoTime() - start);
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+        }
+
+        List<Long> all = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            all.addAll(future.get());
+        }
+        Collections.sort(all);
+        return new Result(all.size() / (double) SECONDS, percentile(all, 0.50), percentile(all, 0.99),
+                errors.get());
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(p * sorted.size()) - 1);
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, long errors) {
+        String format(String mode) {
+            return String.format("%-10s %12.1f %10.1f %10.1f %8d", mode, throughput, p50Millis, p99Millis, errors);
+        }
+    }
+
+    /**
+     * Synthetic endpoint: a short query on a pooled connection followed by
+     * blocking I/O that does not hold the connection.
+     */
+    @RestController
+    static class LoadEndpoint {
+
+        private final DataSource dataSource;
+
+        LoadEndpoint(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @GetMapping("/loadtest/io")
+        String io() throws Exception {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT 1")) {
+                rs.next();
+                Thread.sleep(DB_MILLIS);
+            }
+            Thread.sleep(IO_MILLIS);
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * myRC - CSV Tabular Writer Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CsvTabularWriter.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@DisplayName("CsvTabularWriter Tests")
+class CsvTabularWriterTest {
+
+  private static final List<ReportColumn> COLUMNS = List.of(
+      ReportColumn.text("Name"), ReportColumn.number("Amount"), ReportColumn.date("Date"),
+      ReportColumn.timestamp("Created"), ReportColumn.bool("Done"));
+
+  private static String write(Object[]... rows) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TabularWriter writer = new CsvTabularWriter(out);
+    writer.start("Test", COLUMNS);
+    for (Object[] row : rows) {
+      writer.row(row);
+    }
+    writer.finish();
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("Writes a BOM, the header and typed values with CRLF line ends")
+  void writesTypedValues() throws IOException {
+    String csv = write(new Object[] {"Laptops", new BigDecimal("1234.50"), LocalDate.of(2025, 4, 1),
+        LocalDateTime.of(2025, 4, 1, 9, 30, 5), true});
+
+    assertEquals("\uFEFFName,Amount,Date,Created,Done\r\n"
+        + "Laptops,1234.50,2025-04-01,2025-04-01 09:30:05,true\r\n", csv);
+  }
+
+  @Test
+  @DisplayName("Leaves null values empty")
+  void writesNullsAsEmpty() throws IOException {
+    String csv = write(new Object[] {null, null, null, null, null});
+
+    assertTrue(csv.endsWith("\r\n,,,,\r\n"));
+  }
+
+  @Test
+  @DisplayName("Quotes delimiters, quotes and line breaks")
+  void quotesSpecialCharacters() throws IOException {
+    String csv = write(new Object[] {"Desk, \"large\"\nand chair", null, null, null, null});
+
+    assertTrue(csv.endsWith("\r\n\"Desk, \"\"large\"\"\nand chair\",,,,\r\n"));
+  }
+
+  @Test
+  @DisplayName("Neutralizes text that a spreadsheet would read as a formula")
+  void neutralizesFormulas() throws IOException {
+    String csv = write(new Object[] {"=HYPERLINK(\"x\")", new BigDecimal("-5"), null, null, null});
+
+    assertTrue(csv.endsWith("\r\n\"'=HYPERLINK(\"\"x\"\")\",-5,,,\r\n"));
+    assertEquals("'@user", CsvTabularWriter.neutralize("@user"));
+    assertEquals("plain", CsvTabularWriter.neutralize("plain"));
+  }
+}
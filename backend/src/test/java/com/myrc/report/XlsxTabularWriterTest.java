@@ -0,0 +1,119 @@
+/*
+ * myRC - XLSX Tabular Writer Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Unit tests for XlsxTabularWriter.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@DisplayName("XlsxTabularWriter Tests")
+class XlsxTabularWriterTest {
+
+  private static final List<ReportColumn> COLUMNS = List.of(
+      ReportColumn.text("Name"), ReportColumn.number("Amount"), ReportColumn.date("Date"),
+      ReportColumn.timestamp("Created"), ReportColumn.bool("Done"));
+
+  private static Map<String, String> write(String title, Object[]... rows) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TabularWriter writer = new XlsxTabularWriter(out);
+    writer.start(title, COLUMNS);
+    for (Object[] row : rows) {
+      writer.row(row);
+    }
+    writer.finish();
+
+    Map<String, String> parts = new LinkedHashMap<>();
+    try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+        parts.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+    return parts;
+  }
+
+  private static Document parse(String xml) throws Exception {
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setNamespaceAware(true);
+    return factory.newDocumentBuilder()
+        .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  @DisplayName("Writes every package part as well-formed XML")
+  void writesPackage() throws Exception {
+    Map<String, String> parts = write("Spending");
+
+    assertEquals(List.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+        "xl/_rels/workbook.xml.rels", "xl/styles.xml", "xl/worksheets/sheet1.xml"),
+        List.copyOf(parts.keySet()));
+    for (String xml : parts.values()) {
+      assertNotNull(parse(xml));
+    }
+    assertTrue(parts.get("xl/workbook.xml").contains("<sheet name=\"Spending\""));
+  }
+
+  @Test
+  @DisplayName("Writes typed cells, keeping empty cells in place")
+  void writesTypedCells() throws Exception {
+    Map<String, String> parts = write("Test",
+        new Object[] {"A & <B>", new BigDecimal("12.50"), LocalDate.of(2025, 4, 1),
+            LocalDateTime.of(2025, 4, 1, 12, 0), false},
+        new Object[] {null, new BigDecimal("3"), null, null, null});
+
+    Document sheet = parse(parts.get("xl/worksheets/sheet1.xml"));
+    NodeList rows = sheet.getElementsByTagNameNS("*", "row");
+    assertEquals(3, rows.getLength());
+
+    NodeList cells = ((Element) rows.item(1)).getElementsByTagNameNS("*", "c");
+    assertEquals(5, cells.getLength());
+    assertEquals("A & <B>", cells.item(0).getTextContent());
+    assertEquals("12.50", cells.item(1).getTextContent());
+    assertEquals("45748", cells.item(2).getTextContent());
+    assertEquals("45748.5", cells.item(3).getTextContent());
+    assertEquals("b", ((Element) cells.item(4)).getAttribute("t"));
+    assertEquals("0", cells.item(4).getTextContent());
+
+    NodeList sparse = ((Element) rows.item(2)).getElementsByTagNameNS("*", "c");
+    assertEquals(5, sparse.getLength());
+    assertEquals("3", sparse.item(1).getTextContent());
+  }
+
+  @Test
+  @DisplayName("Makes sheet names valid and drops characters XML cannot hold")
+  void sanitizesText() {
+    assertEquals("Procurement  History", XlsxTabularWriter.sheetName("Procurement/[History]"));
+    assertEquals(31, XlsxTabularWriter.sheetName("x".repeat(40)).length());
+    assertEquals("Report", XlsxTabularWriter.sheetName(" "));
+
+    StringBuilder escaped = new StringBuilder();
+    XlsxTabularWriter.escape("a\u0001b\"c", escaped);
+    assertEquals("ab&quot;c", escaped.toString());
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * myRC - Keyset Query Support Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.myrc.dto.ItemListQuery;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the keyset cursor and list query parameters.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@DisplayName("KeysetQuerySupport Tests")
+class KeysetQuerySupportTest {
+
+    @Test
+    @DisplayName("Cursor round-trips typed values")
+    void cursorRoundTrips() {
+        KeysetQuerySupport.Cursor amount =
+                new KeysetQuerySupport.Cursor("amount", true, 42L, new BigDecimal("1234.50"));
+        KeysetQuerySupport.Cursor decoded = KeysetQuerySupport.Cursor.decode(
+                amount.encode(), "amount", true, BigDecimal.class);
+        assertEquals(42L, decoded.id());
+        assertEquals(new BigDecimal("1234.50"), decoded.value());
+
+        LocalDateTime created = LocalDateTime.of(2026, 4, 1, 9, 30, 15);
+        KeysetQuerySupport.Cursor date = new KeysetQuerySupport.Cursor("createdAt", false, 7L, created);
+        assertEquals(created, KeysetQuerySupport.Cursor.decode(
+                date.encode(), "createdAt", false, LocalDateTime.class).value());
+    }
+
+    @Test
+    @DisplayName("Cursor keeps null values and separators inside text")
+    void cursorKeepsNullsAndSeparators() {
+        KeysetQuerySupport.Cursor nullVendor = new KeysetQuerySupport.Cursor("vendor", false, 3L, null);
+        assertNull(KeysetQuerySupport.Cursor.decode(
+                nullVendor.encode(), "vendor", false, String.class).value());
+
+        KeysetQuerySupport.Cursor piped = new KeysetQuerySupport.Cursor("name", false, 3L, "A|B");
+        String encoded = piped.encode();
+        assertFalse(encoded.contains("=") || encoded.contains("+") || encoded.contains("/"));
+        assertEquals("A|B", KeysetQuerySupport.Cursor.decode(encoded, "name", false, String.class).value());
+    }
+
+    @Test
+    @DisplayName("Cursor is rejected for a different sort or direction")
+    void cursorRejectsOtherSort() {
+        String encoded = new KeysetQuerySupport.Cursor("name", false, 3L, "Alpha").encode();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetQuerySupport.Cursor.decode(encoded, "vendor", false, String.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetQuerySupport.Cursor.decode(encoded, "name", true, String.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetQuerySupport.Cursor.decode("not a cursor!", "name", false, String.class));
+    }
+
+    @Test
+    @DisplayName("List query detects paging parameters and bounds the limit")
+    void listQueryDefaults() {
+        ItemListQuery query = new ItemListQuery();
+        assertFalse(query.isListQuery());
+        assertEquals(ItemListQuery.DEFAULT_LIMIT, query.getEffectiveLimit());
+        assertFalse(query.isDescending());
+
+        query.setLimit(100000);
+        query.setDirection("DESC");
+        assertTrue(query.isListQuery());
+        assertEquals(ItemListQuery.MAX_LIMIT, query.getEffectiveLimit());
+        assertTrue(query.isDescending());
+
+        query.setDirection("sideways");
+        assertThrows(IllegalArgumentException.class, query::isDescending);
+        query.setLimit(0);
+        assertThrows(IllegalArgumentException.class, query::getEffectiveLimit);
+    }
+}
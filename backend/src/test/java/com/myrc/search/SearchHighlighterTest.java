@@ -0,0 +1,57 @@
+/*
+ * myRC - Search Highlighter Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SearchHighlighter.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@DisplayName("SearchHighlighter Tests")
+class SearchHighlighterTest {
+
+  @Test
+  @DisplayName("Marks every occurrence regardless of case")
+  void marksEveryOccurrence() {
+    assertEquals("<mark>Dell</mark> laptops from <mark>DELL</mark>",
+        SearchHighlighter.highlight("Dell laptops from DELL", "dell", 160));
+  }
+
+  @Test
+  @DisplayName("Escapes HTML in the text")
+  void escapesHtml() {
+    assertEquals("&lt;b&gt;<mark>R&amp;D</mark>&lt;/b&gt; &quot;lab&quot;",
+        SearchHighlighter.highlight("<b>R&D</b> \"lab\"", "r&d", 160));
+  }
+
+  @Test
+  @DisplayName("Cuts long text around the first occurrence")
+  void cutsAroundFirstOccurrence() {
+    String text = "a".repeat(100) + "needle" + "b".repeat(100);
+
+    String snippet = SearchHighlighter.highlight(text, "needle", 20);
+
+    assertTrue(snippet.startsWith("…"));
+    assertTrue(snippet.endsWith("…"));
+    assertTrue(snippet.contains("<mark>needle</mark>"));
+    assertEquals(20 + 2 + "<mark></mark>".length(), snippet.length());
+  }
+
+  @Test
+  @DisplayName("Shows the start of the text for fuzzy matches")
+  void showsStartForFuzzyMatches() {
+    assertEquals("Microsoft licences…",
+        SearchHighlighter.highlight("Microsoft licences for the lab", "microsfot", 18));
+    assertEquals("", SearchHighlighter.highlight(null, "x", 10));
+  }
+}
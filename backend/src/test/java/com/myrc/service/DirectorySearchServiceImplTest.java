@@ -50,7 +50,7 @@ class DirectorySearchServiceImplTest {
     void setUp() {
         ldapProperties = new LdapProperties();
         ldapProperties.setEnabled(false);
-        service = new DirectorySearchServiceImpl(userRepository, ldapProperties, null);
+        service = new DirectorySearchServiceImpl(userRepository, ldapProperties, null, null);
     }
 
     /**
@@ -297,7 +297,7 @@ class DirectorySearchServiceImplTest {
         @DisplayName("should return empty list when LDAP is enabled but context source is null")
         void shouldReturnEmptyListWhenContextSourceIsNull() {
             ldapProperties.setEnabled(true);
-            service = new DirectorySearchServiceImpl(userRepository, ldapProperties, null);
+            service = new DirectorySearchServiceImpl(userRepository, ldapProperties, null, null);
 
             List<DirectorySearchService.SearchResult> results = service.searchGroups("test", 10);
 
@@ -341,7 +341,7 @@ class DirectorySearchServiceImplTest {
         @DisplayName("should return empty list when LDAP is enabled but context source is null")
         void shouldReturnEmptyListWhenContextSourceIsNull() {
             ldapProperties.setEnabled(true);
-            service = new DirectorySearchServiceImpl(userRepository, ldapProperties, null);
+            service = new DirectorySearchServiceImpl(userRepository, ldapProperties, null, null);
 
             List<DirectorySearchService.SearchResult> results = service.searchDistributionLists("test", 10);
 
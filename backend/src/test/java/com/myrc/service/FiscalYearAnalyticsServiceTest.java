@@ -0,0 +1,224 @@
+/*
+ * myRC - Fiscal Year Analytics Service Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.myrc.config.AnalyticsProperties;
+import com.myrc.dto.FiscalYearComparisonDTO;
+import com.myrc.dto.FiscalYearComparisonDTO.ComparisonRow;
+import com.myrc.dto.FiscalYearComparisonDTO.FiscalYearSummary;
+import com.myrc.dto.FiscalYearComparisonDTO.MonthlyBurn;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.FiscalYear;
+import com.myrc.repository.AllocationTotalRepository;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.SpendingEventRepository;
+import com.myrc.repository.SpendingInvoiceRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for FiscalYearAnalyticsServiceImpl.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiscalYearAnalyticsService Tests")
+class FiscalYearAnalyticsServiceTest {
+
+  private static final List<Long> IDS = List.of(10L, 20L);
+
+  @Mock
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Mock
+  private RCPermissionService permissionService;
+
+  @Mock
+  private MoneyRepository moneyRepository;
+
+  @Mock
+  private AllocationTotalRepository allocationTotalRepository;
+
+  @Mock
+  private SpendingInvoiceRepository invoiceRepository;
+
+  @Mock
+  private SpendingEventRepository spendingEventRepository;
+
+  private FiscalYearAnalyticsServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    service = new FiscalYearAnalyticsServiceImpl(fiscalYearRepository, permissionService,
+        moneyRepository, allocationTotalRepository, invoiceRepository, spendingEventRepository, new AnalyticsProperties());
+    lenient().when(permissionService.hasAccess(1L, "testuser")).thenReturn(true);
+    lenient().when(fiscalYearRepository.findByResponsibilityCentreId(1L))
+        .thenReturn(List.of(fiscalYear(10L, "FY 2024-2025"), fiscalYear(20L, "FY 2025-2026 (copy)")));
+  }
+
+  private static FiscalYear fiscalYear(Long id, String name) {
+    FiscalYear fy = new FiscalYear();
+    fy.setId(id);
+    fy.setName(name);
+    return fy;
+  }
+
+  private static List<Object[]> rows(Object[]... rows) {
+    return new ArrayList<>(Arrays.asList(rows));
+  }
+
+  private static BigDecimal amount(String value) {
+    return new BigDecimal(value);
+  }
+
+  @Test
+  @DisplayName("Matches monies by code and categories by name across fiscal years with deltas")
+  void matchesAcrossFiscalYears() {
+    when(moneyRepository.findSummaryRowsByFiscalYearIdIn(IDS)).thenReturn(rows(
+        new Object[] {10L, 100L, "AB", "A-Base"},
+        new Object[] {20L, 200L, "ab ", "A-Base"}));
+    when(allocationTotalRepository.sumByFiscalYearKindAndMoney(IDS)).thenReturn(rows(
+        new Object[] {10L, AllocationKind.FUNDING, 100L, amount("1000"), amount("500")},
+        new Object[] {20L, AllocationKind.FUNDING, 200L, amount("1200"), amount("500")},
+        new Object[] {10L, AllocationKind.SPENDING, 100L, amount("300"), amount("100")},
+        new Object[] {20L, AllocationKind.SPENDING, 200L, amount("250"), amount("0")},
+        new Object[] {20L, AllocationKind.TRAVEL, 200L, amount("0"), amount("999")}));
+    when(allocationTotalRepository.sumByFiscalYearKindAndCategory(IDS)).thenReturn(rows(
+        new Object[] {10L, AllocationKind.FUNDING, null, amount("1000"), amount("500")},
+        new Object[] {20L, AllocationKind.FUNDING, null, amount("1200"), amount("500")},
+        new Object[] {10L, AllocationKind.SPENDING, "Hardware", amount("300"), amount("100")},
+        new Object[] {20L, AllocationKind.SPENDING, "hardware ", amount("200"), amount("0")},
+        new Object[] {20L, AllocationKind.SPENDING, "Software", amount("50"), amount("0")},
+        new Object[] {20L, AllocationKind.TRAINING, null, amount("0"), amount("999")}));
+
+    FiscalYearComparisonDTO comparison = service.compare(1L, List.of(10L, 20L, 10L), "testuser");
+
+    assertEquals(List.of(10L, 20L), comparison.getFiscalYears().stream()
+        .map(FiscalYearSummary::getFiscalYearId).toList());
+    FiscalYearSummary second = comparison.getFiscalYears().get(1);
+    assertEquals(amount("1700"), second.getFunding());
+    assertEquals(amount("200"), second.getFundingDelta());
+    assertEquals(amount("-150"), second.getSpendingDelta());
+    assertNull(comparison.getFiscalYears().get(0).getFundingDelta());
+
+    assertEquals(1, comparison.getMonies().size());
+    ComparisonRow money = comparison.getMonies().get(0);
+    assertEquals("AB", money.getKey());
+    assertEquals(amount("-150"), money.getValues().get(1).getSpendingDelta());
+
+    assertEquals(List.of("hardware", "software", ""), comparison.getCategories().stream()
+        .map(ComparisonRow::getKey).toList());
+    ComparisonRow software = comparison.getCategories().get(1);
+    assertEquals(BigDecimal.ZERO, software.getValues().get(0).getSpending());
+    assertEquals(amount("50"), software.getValues().get(1).getSpendingDelta());
+    assertNull(comparison.getCategories().get(2).getLabel());
+  }
+
+  @Test
+  @DisplayName("Builds monthly burn from invoices and events with running totals")
+  void buildsMonthlyBurn() {
+    when(invoiceRepository.sumByFiscalYearAndMonth(IDS)).thenReturn(rows(
+        new Object[] {10L, 2024, 6, amount("25")},
+        new Object[] {10L, 2024, 5, amount("40")}));
+    when(spendingEventRepository.sumUninvoicedByFiscalYearAndMonth(IDS,
+        FiscalYearAnalyticsServiceImpl.SPENT_EVENTS)).thenReturn(rows(
+        new Object[] {10L, 2024, 6, amount("80")}));
+
+    FiscalYearComparisonDTO comparison = service.compare(1L, IDS, "testuser");
+
+    List<MonthlyBurn> burn = comparison.getFiscalYears().get(0).getMonthlyBurn();
+    assertEquals(List.of("2024-05", "2024-06"), burn.stream().map(MonthlyBurn::getMonth).toList());
+    assertEquals(amount("105"), burn.get(1).getTotal());
+    assertEquals(amount("145"), burn.get(1).getCumulative());
+    assertEquals(amount("145"), comparison.getFiscalYears().get(0).getBurned());
+    assertTrue(comparison.getFiscalYears().get(1).getMonthlyBurn().isEmpty());
+    assertEquals(LocalDate.of(2024, 4, 1), comparison.getFiscalYears().get(0).getPeriodStart());
+    assertEquals(LocalDate.of(2025, 3, 31), comparison.getFiscalYears().get(0).getPeriodEnd());
+  }
+
+  @Test
+  @DisplayName("Forecasts the year end from the average burn of the elapsed months")
+  void forecastsYearEnd() {
+    FiscalYearSummary summary = new FiscalYearSummary(10L, "FY 2024-2025");
+    summary.setPeriodStart(LocalDate.of(2024, 4, 1));
+    summary.setFunding(amount("2000"));
+    MonthlyBurn april = new MonthlyBurn("2024-04");
+    april.setTotal(amount("100"));
+    MonthlyBurn june = new MonthlyBurn("2024-06");
+    june.setTotal(amount("200"));
+    MonthlyBurn july = new MonthlyBurn("2024-07");
+    july.setTotal(amount("999"));
+    summary.getMonthlyBurn().addAll(List.of(april, june, july));
+    summary.setBurned(amount("1299"));
+
+    FiscalYearAnalyticsServiceImpl.forecast(summary, LocalDate.of(2024, 6, 15));
+
+    assertEquals(3, summary.getMonthsElapsed());
+    assertEquals(amount("100.00"), summary.getAverageMonthlyBurn());
+    assertEquals(0, amount("1200").compareTo(summary.getForecastYearEnd()));
+    assertEquals(0, amount("800").compareTo(summary.getForecastBalance()));
+
+    FiscalYearAnalyticsServiceImpl.forecast(summary, LocalDate.of(2025, 9, 1));
+    assertEquals(12, summary.getMonthsElapsed());
+    assertEquals(amount("1299"), summary.getForecastYearEnd());
+  }
+
+  @Test
+  @DisplayName("Makes no forecast before the period starts or without a period")
+  void noForecastWithoutStartedPeriod() {
+    FiscalYearSummary summary = new FiscalYearSummary(10L, "Next year");
+    FiscalYearAnalyticsServiceImpl.forecast(summary, LocalDate.of(2024, 6, 15));
+    assertNull(summary.getForecastYearEnd());
+
+    summary.setPeriodStart(LocalDate.of(2025, 4, 1));
+    FiscalYearAnalyticsServiceImpl.forecast(summary, LocalDate.of(2024, 6, 15));
+    assertNull(summary.getForecastYearEnd());
+    assertEquals(0, summary.getMonthsElapsed());
+  }
+
+  @Test
+  @DisplayName("Takes the period start from the first year in the fiscal year name")
+  void parsesPeriodStart() {
+    assertEquals(LocalDate.of(2025, 4, 1), FiscalYearAnalyticsServiceImpl.periodStart("FY 2025-2026", 4));
+    assertEquals(LocalDate.of(2026, 1, 1), FiscalYearAnalyticsServiceImpl.periodStart("Budget 2026", 1));
+    assertNull(FiscalYearAnalyticsServiceImpl.periodStart("FY Search 12345678", 4));
+    assertNull(FiscalYearAnalyticsServiceImpl.periodStart(null, 4));
+  }
+
+  @Test
+  @DisplayName("Rejects fewer than two distinct fiscal years")
+  void rejectsSingleFiscalYear() {
+    assertThrows(InvalidListQueryException.class,
+        () -> service.compare(1L, List.of(10L, 10L), "testuser"));
+    verifyNoInteractions(moneyRepository);
+  }
+
+  @Test
+  @DisplayName("Rejects fiscal years of another RC and users without access")
+  void rejectsForeignFiscalYearsAndDeniedUsers() {
+    assertThrows(IllegalArgumentException.class,
+        () -> service.compare(1L, List.of(10L, 30L), "testuser"));
+    assertThrows(IllegalArgumentException.class,
+        () -> service.compare(1L, IDS, "stranger"));
+    verifyNoInteractions(moneyRepository);
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * myRC - Fiscal Year Change Service Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.myrc.config.SyncProperties;
+import com.myrc.dto.FiscalYearChangesDTO;
+import com.myrc.dto.SpendingItemDTO;
+import com.myrc.model.ChangeEntityType;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.FiscalYearChange;
+import com.myrc.model.FiscalYearChangeCounter;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.repository.FiscalYearChangeCounterRepository;
+import com.myrc.repository.FiscalYearChangeRepository;
+import com.myrc.repository.FiscalYearRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for FiscalYearChangeServiceImpl.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiscalYearChangeService Tests")
+class FiscalYearChangeServiceTest {
+
+  @Mock
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Mock
+  private FiscalYearChangeRepository changeRepository;
+
+  @Mock
+  private FiscalYearChangeCounterRepository counterRepository;
+
+  @Mock
+  private RCPermissionService permissionService;
+
+  @Mock
+  private FundingItemService fundingItemService;
+
+  @Mock
+  private SpendingItemService spendingItemService;
+
+  @Mock
+  private ProcurementItemService procurementItemService;
+
+  @Mock
+  private TrainingItemService trainingItemService;
+
+  @Mock
+  private TravelItemService travelItemService;
+
+  private SyncProperties syncProperties;
+  private FiscalYearChangeServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    syncProperties = new SyncProperties();
+    service = new FiscalYearChangeServiceImpl(fiscalYearRepository, changeRepository,
+        counterRepository, permissionService, fundingItemService, spendingItemService,
+        procurementItemService, trainingItemService, travelItemService, syncProperties);
+
+    ResponsibilityCentre rc = new ResponsibilityCentre();
+    rc.setId(1L);
+    FiscalYear fy = new FiscalYear();
+    fy.setId(1L);
+    fy.setResponsibilityCentre(rc);
+    lenient().when(fiscalYearRepository.findById(1L)).thenReturn(Optional.of(fy));
+    lenient().when(permissionService.hasAccess(1L, "testuser")).thenReturn(true);
+    lenient().when(counterRepository.findById(1L))
+        .thenReturn(Optional.of(new FiscalYearChangeCounter(1L, 10L, 4L)));
+  }
+
+  private static FiscalYearChange change(long seq, long id, FiscalYearChange.ChangeType type) {
+    FiscalYearChange change = new FiscalYearChange();
+    change.setFiscalYearId(1L);
+    change.setSeq(seq);
+    change.setEntityType(ChangeEntityType.SPENDING_ITEM);
+    change.setEntityId(id);
+    change.setEntityVersion(seq);
+    change.setChangeType(type);
+    return change;
+  }
+
+  private static SpendingItemDTO spendingItem(Long id) {
+    SpendingItemDTO dto = new SpendingItemDTO();
+    dto.setId(id);
+    return dto;
+  }
+
+  @Test
+  @DisplayName("Requires a resync when no watermark is given")
+  void resyncWithoutWatermark() {
+    FiscalYearChangesDTO result = service.getChangesSince(1L, null, "testuser");
+
+    assertTrue(result.isResyncRequired());
+    assertEquals(10L, result.getVersion());
+    verifyNoInteractions(changeRepository);
+  }
+
+  @Test
+  @DisplayName("Requires a resync when the watermark was pruned or is ahead")
+  void resyncOutsideRetainedWindow() {
+    assertTrue(service.getChangesSince(1L, 3L, "testuser").isResyncRequired());
+    assertTrue(service.getChangesSince(1L, 11L, "testuser").isResyncRequired());
+    verifyNoInteractions(changeRepository);
+  }
+
+  @Test
+  @DisplayName("Returns nothing when the client is up to date")
+  void upToDate() {
+    FiscalYearChangesDTO result = service.getChangesSince(1L, 10L, "testuser");
+
+    assertFalse(result.isResyncRequired());
+    assertTrue(result.getChanges().isEmpty());
+    verifyNoInteractions(changeRepository);
+  }
+
+  @Test
+  @DisplayName("Returns the latest state per item, reporting vanished items as deleted")
+  void collapsesWindow() {
+    when(changeRepository.findInWindow(1L, 5L, 10L)).thenReturn(List.of(
+        change(6, 100L, FiscalYearChange.ChangeType.UPSERT),
+        change(7, 101L, FiscalYearChange.ChangeType.UPSERT),
+        change(8, 102L, FiscalYearChange.ChangeType.UPSERT),
+        change(9, 101L, FiscalYearChange.ChangeType.DELETE)));
+    when(spendingItemService.getSpendingItemsByIds(eq(1L), eq(List.of(100L, 102L)), eq("testuser")))
+        .thenReturn(List.of(spendingItem(100L)));
+
+    FiscalYearChangesDTO result = service.getChangesSince(1L, 5L, "testuser");
+
+    assertFalse(result.isResyncRequired());
+    assertEquals(10L, result.getVersion());
+    FiscalYearChangesDTO.CollectionChanges spending = result.getChanges().get("spending-items");
+    assertNotNull(spending);
+    assertEquals(1, spending.getUpserted().size());
+    assertEquals(List.of(101L, 102L), spending.getDeleted().stream().sorted().toList());
+  }
+
+  @Test
+  @DisplayName("Requires a resync when too many items changed")
+  void resyncWhenTooManyChanges() {
+    syncProperties.setMaxChanges(1);
+    when(changeRepository.findInWindow(1L, 5L, 10L)).thenReturn(List.of(
+        change(6, 100L, FiscalYearChange.ChangeType.UPSERT),
+        change(7, 101L, FiscalYearChange.ChangeType.UPSERT)));
+
+    assertTrue(service.getChangesSince(1L, 5L, "testuser").isResyncRequired());
+    verifyNoInteractions(spendingItemService);
+  }
+
+  @Test
+  @DisplayName("Rejects users without access to the responsibility centre")
+  void deniesAccess() {
+    assertThrows(IllegalArgumentException.class,
+        () -> service.getChangesSince(1L, 5L, "intruder"));
+  }
+}
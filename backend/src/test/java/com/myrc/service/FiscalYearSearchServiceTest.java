@@ -0,0 +1,115 @@
+/*
+ * myRC - Fiscal Year Search Service Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.myrc.dto.SearchResultsDTO;
+import com.myrc.model.FiscalYear;
+import com.myrc.model.ResponsibilityCentre;
+import com.myrc.repository.FiscalYearRepository;
+import com.myrc.repository.InvalidListQueryException;
+import com.myrc.search.FiscalYearSearchEngine;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for FiscalYearSearchServiceImpl.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiscalYearSearchService Tests")
+class FiscalYearSearchServiceTest {
+
+  @Mock
+  private FiscalYearRepository fiscalYearRepository;
+
+  @Mock
+  private RCPermissionService permissionService;
+
+  @Mock
+  private FiscalYearSearchEngine searchEngine;
+
+  private FiscalYearSearchServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    service = new FiscalYearSearchServiceImpl(fiscalYearRepository, permissionService, searchEngine);
+
+    ResponsibilityCentre rc = new ResponsibilityCentre();
+    rc.setId(1L);
+    FiscalYear fy = new FiscalYear();
+    fy.setId(1L);
+    fy.setResponsibilityCentre(rc);
+    lenient().when(fiscalYearRepository.findById(1L)).thenReturn(Optional.of(fy));
+    lenient().when(permissionService.hasAccess(1L, "testuser")).thenReturn(true);
+  }
+
+  @Test
+  @DisplayName("Returns highlighted hits of the requested page")
+  void returnsHighlightedPage() {
+    when(searchEngine.search(1L, "dell", Set.of("procurement", "spending"), 20, 10))
+        .thenReturn(new FiscalYearSearchEngine.Result(List.of(
+            new FiscalYearSearchEngine.Hit("procurement", 5L, "Laptops", "vendor", "Dell Canada", 0.855)),
+            21));
+
+    SearchResultsDTO results = service.search(1L, "  dell ", "Procurement, spending", 2, 10, "testuser");
+
+    assertEquals("dell", results.getQuery());
+    assertEquals(21, results.getTotal());
+    assertEquals(1, results.getResults().size());
+    assertEquals("procurement", results.getResults().get(0).getType());
+    assertEquals(5L, results.getResults().get(0).getId());
+    assertEquals("<mark>Dell</mark> Canada", results.getResults().get(0).getSnippet());
+  }
+
+  @Test
+  @DisplayName("Searches all types and caps the page size")
+  void searchesAllTypesWithCappedSize() {
+    when(searchEngine.search(eq(1L), eq("gpu"), eq(Set.of()), eq(0),
+        eq(FiscalYearSearchService.MAX_PAGE_SIZE)))
+        .thenReturn(new FiscalYearSearchEngine.Result(List.of(), 0));
+
+    SearchResultsDTO results = service.search(1L, "gpu", null, 0, 1000, "testuser");
+
+    assertEquals(FiscalYearSearchService.MAX_PAGE_SIZE, results.getSize());
+    assertTrue(results.getResults().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Rejects invalid terms, types and pages")
+  void rejectsInvalidRequests() {
+    assertThrows(InvalidListQueryException.class,
+        () -> service.search(1L, "a", null, 0, 20, "testuser"));
+    assertThrows(InvalidListQueryException.class,
+        () -> service.search(1L, "laptop", "widgets", 0, 20, "testuser"));
+    assertThrows(InvalidListQueryException.class,
+        () -> service.search(1L, "laptop", null, -1, 20, "testuser"));
+    verifyNoInteractions(searchEngine);
+  }
+
+  @Test
+  @DisplayName("Denies users without access before searching")
+  void deniesWithoutAccess() {
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+        () -> service.search(1L, "laptop", null, 0, 20, "intruder"));
+
+    assertFalse(e instanceof InvalidListQueryException);
+    verifyNoInteractions(searchEngine);
+  }
+}
@@ -17,6 +17,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.myrc.cache.FiscalYearStateCache;
+import com.myrc.cache.NameCache;
 import com.myrc.dto.FiscalYearDTO;
 import com.myrc.model.FiscalYear;
 import com.myrc.model.RCAccess;
@@ -82,6 +84,12 @@ class FiscalYearServiceTest {
   @Mock
   private FiscalYearCloneService fiscalYearCloneService;
 
+  @Mock
+  private NameCache nameCache;
+
+  @Mock
+  private FiscalYearStateCache fiscalYearStateCache;
+
   @InjectMocks
   private FiscalYearServiceImpl fiscalYearService;
 
@@ -0,0 +1,216 @@
+/*
+ * myRC - Portfolio Service Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.myrc.cache.FiscalYearTotalsCache;
+import com.myrc.config.PortfolioProperties;
+import com.myrc.dto.PortfolioDTO;
+import com.myrc.dto.PortfolioDTO.FiscalYearTotals;
+import com.myrc.dto.PortfolioDTO.MoneyTotals;
+import com.myrc.model.AllocationKind;
+import com.myrc.model.RCAccess.AccessLevel;
+import com.myrc.repository.AllocationTotalRepository;
+import com.myrc.repository.MoneyRepository;
+import com.myrc.repository.ProcurementItemRepository;
+import com.myrc.repository.ResponsibilityCentreRepository;
+import com.myrc.sync.ChangeStreamHub;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for PortfolioServiceImpl.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortfolioService Tests")
+class PortfolioServiceTest {
+
+  @Mock
+  private RCPermissionService permissionService;
+
+  @Mock
+  private ResponsibilityCentreRepository rcRepository;
+
+  @Mock
+  private MoneyRepository moneyRepository;
+
+  @Mock
+  private AllocationTotalRepository allocationTotalRepository;
+
+  @Mock
+  private ProcurementItemRepository procurementItemRepository;
+
+  @Mock
+  private ChangeStreamHub changeStreamHub;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private Consumer<Long> changeListener;
+  private PortfolioServiceImpl portfolioService;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    PortfolioProperties properties = new PortfolioProperties();
+    properties.setAggregationThreads(2);
+    properties.setTimeBudgetMs(300);
+    FiscalYearTotalsCache cache = new FiscalYearTotalsCache(properties, changeStreamHub);
+    ArgumentCaptor<Consumer<Long>> listener = ArgumentCaptor.forClass(Consumer.class);
+    verify(changeStreamHub).addChangeListener(listener.capture());
+    changeListener = listener.getValue();
+
+    portfolioService = new PortfolioServiceImpl(permissionService, rcRepository, moneyRepository,
+        allocationTotalRepository, procurementItemRepository, cache, transactionManager, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    portfolioService.destroy();
+  }
+
+  private static List<Object[]> rows(Object[]... rows) {
+    return new ArrayList<>(List.of(rows));
+  }
+
+  private void givenTwoRcs() {
+    when(permissionService.getAccessibleRCs(eq("manager"), any()))
+        .thenReturn(Map.of(1L, AccessLevel.OWNER, 2L, AccessLevel.READ_ONLY));
+    when(rcRepository.findFiscalYearRowsByIdIn(anyCollection())).thenReturn(rows(
+        new Object[] {1L, "Alpha", 10L, "FY 2025", true},
+        new Object[] {1L, "Alpha", 11L, "FY 2026", true},
+        new Object[] {2L, "Beta", 20L, "FY 2026", false}));
+  }
+
+  @Test
+  @DisplayName("Should return an empty portfolio without queries when no RC is accessible")
+  void testNoAccessibleRcs() {
+    when(permissionService.getAccessibleRCs(eq("nobody"), any())).thenReturn(Map.of());
+
+    PortfolioDTO portfolio = portfolioService.getPortfolio("nobody", List.of());
+
+    assertTrue(portfolio.getResponsibilityCentres().isEmpty());
+    assertTrue(portfolio.isComplete());
+    verifyNoInteractions(rcRepository, moneyRepository);
+  }
+
+  @Test
+  @DisplayName("Should aggregate each RC's fiscal years once and serve repeats from the cache")
+  void testAggregatesAndCaches() {
+    givenTwoRcs();
+    // Lenient: the other RC's task calls the same queries with its own fiscal years
+    lenient().when(moneyRepository.findSummaryRowsByFiscalYearIdIn(List.of(10L, 11L))).thenReturn(rows(
+        new Object[] {10L, 100L, "AB", "A-Base"},
+        new Object[] {11L, 110L, "AB", "A-Base"}));
+    lenient().when(allocationTotalRepository.sumByFiscalYearKindAndMoney(List.of(10L, 11L))).thenReturn(rows(
+        new Object[] {10L, AllocationKind.FUNDING, 100L, new BigDecimal("1000"), new BigDecimal("500")},
+        new Object[] {10L, AllocationKind.SPENDING, 100L, new BigDecimal("200"), new BigDecimal("50")},
+        new Object[] {10L, AllocationKind.TRAINING, 100L, BigDecimal.ZERO, new BigDecimal("30")}));
+    lenient().when(procurementItemRepository.sumCommittedByFiscalYear(List.of(10L, 11L))).thenReturn(rows(
+        new Object[] {11L, new BigDecimal("75")}));
+
+    PortfolioDTO portfolio = portfolioService.getPortfolio("manager", List.of());
+
+    assertTrue(portfolio.isComplete());
+    assertEquals(2, portfolio.getResponsibilityCentres().size());
+    PortfolioDTO.RcPortfolio alpha = portfolio.getResponsibilityCentres().get(0);
+    assertEquals("OWNER", alpha.getAccessLevel());
+    FiscalYearTotals fy10 = alpha.getFiscalYears().get(0).getTotals();
+    assertEquals(new BigDecimal("1500"), fy10.getFunding());
+    assertEquals(new BigDecimal("250"), fy10.getSpending());
+    assertEquals(new BigDecimal("30"), fy10.getTraining());
+    MoneyTotals money = fy10.getMonies().get(0);
+    assertEquals("AB", money.getCode());
+    assertEquals(new BigDecimal("200"), money.getSpendingCap());
+    assertEquals(new BigDecimal("75"), alpha.getFiscalYears().get(1).getTotals().getProcurementCommitted());
+    assertNotNull(portfolio.getResponsibilityCentres().get(1).getFiscalYears().get(0).getTotals());
+
+    portfolioService.getPortfolio("manager", List.of());
+
+    verify(moneyRepository, times(1)).findSummaryRowsByFiscalYearIdIn(List.of(10L, 11L));
+    verify(moneyRepository, times(1)).findSummaryRowsByFiscalYearIdIn(List.of(20L));
+  }
+
+  @Test
+  @DisplayName("Should aggregate in a read-write transaction so cached totals come from the primary")
+  void testAggregatesOnPrimary() {
+    portfolioService.aggregate(List.of(10L, 11L));
+
+    verify(transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()));
+    verify(transactionManager).commit(any());
+  }
+
+  @Test
+  @DisplayName("Should recompute only a fiscal year whose change feed advanced")
+  void testChangeEvictsFiscalYear() {
+    givenTwoRcs();
+
+    portfolioService.getPortfolio("manager", List.of());
+    changeListener.accept(11L);
+    portfolioService.getPortfolio("manager", List.of());
+
+    verify(moneyRepository, times(1)).findSummaryRowsByFiscalYearIdIn(List.of(10L, 11L));
+    verify(moneyRepository, times(1)).findSummaryRowsByFiscalYearIdIn(List.of(11L));
+    verify(moneyRepository, times(1)).findSummaryRowsByFiscalYearIdIn(List.of(20L));
+  }
+
+  @Test
+  @DisplayName("Should report RCs not aggregated within the time budget and cache them once done")
+  void testTimeBudget() throws Exception {
+    givenTwoRcs();
+    CountDownLatch finished = new CountDownLatch(1);
+    lenient().when(moneyRepository.findSummaryRowsByFiscalYearIdIn(List.of(20L))).thenAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return rows();
+    });
+    lenient().when(procurementItemRepository.sumCommittedByFiscalYear(List.of(20L))).thenAnswer(invocation -> {
+      finished.countDown();
+      return rows();
+    });
+
+    PortfolioDTO portfolio = portfolioService.getPortfolio("manager", List.of());
+
+    assertFalse(portfolio.isComplete());
+    assertEquals(List.of(2L), portfolio.getIncompleteRcIds());
+    assertNull(portfolio.getResponsibilityCentres().get(1).getFiscalYears().get(0).getTotals());
+    assertNotNull(portfolio.getResponsibilityCentres().get(0).getFiscalYears().get(0).getTotals());
+
+    release.countDown();
+    assertTrue(finished.await(5, TimeUnit.SECONDS));
+    // The running task stores its result just after its last query
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    do {
+      portfolio = portfolioService.getPortfolio("manager", List.of());
+    } while (!portfolio.isComplete() && System.nanoTime() < deadline);
+    assertTrue(portfolio.isComplete());
+    verify(moneyRepository, times(1)).findSummaryRowsByFiscalYearIdIn(List.of(20L));
+  }
+}
@@ -13,6 +13,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.myrc.currency.CurrencyConverter;
+import com.myrc.currency.ExchangeRateCache;
 import com.myrc.dto.ProcurementItemDTO;
 import com.myrc.model.FiscalYear;
 import com.myrc.model.ProcurementItem;
@@ -88,6 +90,9 @@ class ProcurementItemServiceTest {
   @Mock
   private RCPermissionService permissionService;
 
+  @Mock
+  private ExchangeRateCache exchangeRateCache;
+
   private ProcurementItemServiceImpl service;
   private User testUser;
   private User ownerUser;
@@ -109,7 +114,8 @@ class ProcurementItemServiceTest {
         categoryRepository,
         spendingItemRepository,
         spendingCategoryRepository,
-        permissionService
+        permissionService,
+        new CurrencyConverter(exchangeRateCache)
     );
 
     ownerUser = new User();
@@ -13,6 +13,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.myrc.cache.CacheInvalidationBus;
+import com.myrc.cache.RCAccessMatrix;
+import com.myrc.config.CacheProperties;
+import com.myrc.config.LdapSecurityConfig;
+import com.myrc.config.ReplicaProperties;
 import com.myrc.dto.RCAccessDTO;
 import com.myrc.model.RCAccess;
 import com.myrc.model.RCAccess.AccessLevel;
@@ -22,10 +27,13 @@ import com.myrc.model.User;
 import com.myrc.repository.RCAccessRepository;
 import com.myrc.repository.ResponsibilityCentreRepository;
 import com.myrc.repository.UserRepository;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -33,6 +41,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Unit tests for RCPermissionServiceImpl.
@@ -59,6 +70,14 @@ class RCPermissionServiceTest {
   @Mock
   private UserService userService;
 
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  /** Rows the access matrix is built from: [rcId, username] and [rcId, username, identifier, level]. */
+  private final List<Object[]> ownerRows = new ArrayList<>();
+  private final List<Object[]> accessRows = new ArrayList<>();
+
+  private RCAccessMatrix accessMatrix;
   private RCPermissionServiceImpl permissionService;
   private User testUser;
   private User ownerUser;
@@ -67,7 +86,13 @@ class RCPermissionServiceTest {
 
   @BeforeEach
   void setUp() {
-    permissionService = new RCPermissionServiceImpl(accessRepository, rcRepository, userRepository, directorySearchService, userService);
+    accessMatrix = new RCAccessMatrix(accessRepository, rcRepository,
+        new CacheInvalidationBus(new CacheProperties(), null, null), transactionManager,
+        new ReplicaProperties());
+    lenient().when(rcRepository.findOwnerUsernames()).thenReturn(ownerRows);
+    lenient().when(accessRepository.findAccessMatrixRows()).thenReturn(accessRows);
+    permissionService = new RCPermissionServiceImpl(accessRepository, rcRepository, userRepository,
+        directorySearchService, userService, accessMatrix);
 
     ownerUser = new User();
     ownerUser.setId(1L);
@@ -93,6 +118,20 @@ class RCPermissionServiceTest {
     testAccess.setPrincipalIdentifier("testuser");
     testAccess.setPrincipalType(PrincipalType.USER);
     testAccess.setAccessLevel(AccessLevel.READ_WRITE);
+
+    ownerRows.add(new Object[] {1L, "owner"});
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  /**
+   * Grant access on the test RC in the access matrix.
+   */
+  private void grant(String username, String principalIdentifier, AccessLevel level) {
+    accessRows.add(new Object[] {1L, username, principalIdentifier, level});
   }
 
   @Test
@@ -108,12 +147,8 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return permissions when user is owner")
     void shouldReturnPermissionsWhenOwner() {
-      // isOwner() first calls rcRepository.findById
       when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      // isOwner() then calls userRepository.findByUsername
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
-      // Owner is RC owner, so isOwner returns true without checking access table
-      // Then getPermissionsForRC calls findByResponsibilityCentre
+      // Owner is RC owner, so the access matrix reports OWNER
       when(accessRepository.findByResponsibilityCentre(testRC)).thenReturn(Arrays.asList(testAccess));
 
       List<RCAccessDTO> result = permissionService.getPermissionsForRC(1L, "owner");
@@ -135,12 +170,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should throw SecurityException when user has no ownership")
     void shouldThrowSecurityExceptionWhenUserNotOwner() {
-      User randomUser = new User();
-      randomUser.setId(99L);
-      randomUser.setUsername("random");
-
       when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("random")).thenReturn(Optional.of(randomUser));
 
       assertThrows(SecurityException.class, () ->
           permissionService.getPermissionsForRC(1L, "random"));
@@ -180,7 +210,7 @@ class RCPermissionServiceTest {
     @DisplayName("Should throw SecurityException when requester is not owner")
     void shouldThrowSecurityExceptionWhenRequesterNotOwner() {
       when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       assertThrows(SecurityException.class, () ->
           permissionService.grantUserAccess(1L, "someuser", AccessLevel.READ_WRITE, "testuser"));
@@ -339,7 +369,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should grant group access when requester is owner")
     void shouldGrantGroupAccessWhenOwner() {
-      // isOwner() checks - owner is RC owner so no access table check needed
+      // Owner is RC owner in the access matrix; the user is looked up as the grantor
       when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
       when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
       // grantGroupAccess checks if group already has access
@@ -363,7 +393,7 @@ class RCPermissionServiceTest {
     @DisplayName("Should throw SecurityException when requester is not owner")
     void shouldThrowSecurityExceptionWhenRequesterNotOwner() {
       when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       assertThrows(SecurityException.class, () ->
           permissionService.grantGroupAccess(1L, "CN=TestGroup", "Test Group",
@@ -389,7 +419,6 @@ class RCPermissionServiceTest {
       existingGroupAccess.setAccessLevel(AccessLevel.READ_WRITE);
 
       when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
       when(accessRepository.findByResponsibilityCentreAndPrincipalIdentifierAndPrincipalType(
           eq(testRC), eq("CN=TestGroup"), eq(PrincipalType.GROUP)))
           .thenReturn(Optional.of(existingGroupAccess));
@@ -414,7 +443,6 @@ class RCPermissionServiceTest {
       existingGroupAccess.setAccessLevel(AccessLevel.READ_ONLY);
 
       when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
       when(accessRepository.findByResponsibilityCentreAndPrincipalIdentifierAndPrincipalType(
           eq(testRC), eq("CN=TestGroup"), eq(PrincipalType.GROUP)))
           .thenReturn(Optional.of(existingGroupAccess));
@@ -439,7 +467,6 @@ class RCPermissionServiceTest {
       existingDlAccess.setAccessLevel(AccessLevel.READ_WRITE);
 
       when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
       when(accessRepository.findByResponsibilityCentreAndPrincipalIdentifierAndPrincipalType(
           eq(testRC), eq("DL-Finance@corp.local"), eq(PrincipalType.DISTRIBUTION_LIST)))
           .thenReturn(Optional.of(existingDlAccess));
@@ -462,8 +489,6 @@ class RCPermissionServiceTest {
     @DisplayName("Should update permission when requester is owner")
     void shouldUpdatePermissionWhenOwner() {
       when(accessRepository.findById(1L)).thenReturn(Optional.of(testAccess));
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
       when(accessRepository.save(any(RCAccess.class))).thenReturn(testAccess);
 
       RCAccessDTO result = permissionService.updatePermission(1L, AccessLevel.READ_ONLY, "owner");
@@ -476,8 +501,7 @@ class RCPermissionServiceTest {
     @DisplayName("Should throw SecurityException when requester is not owner")
     void shouldThrowSecurityExceptionWhenRequesterNotOwner() {
       when(accessRepository.findById(1L)).thenReturn(Optional.of(testAccess));
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       assertThrows(SecurityException.class, () ->
           permissionService.updatePermission(1L, AccessLevel.READ_ONLY, "testuser"));
@@ -501,8 +525,6 @@ class RCPermissionServiceTest {
     @DisplayName("Should revoke access when requester is owner")
     void shouldRevokeAccessWhenOwner() {
       when(accessRepository.findById(1L)).thenReturn(Optional.of(testAccess));
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
       doNothing().when(accessRepository).deleteAccessById(1L);
 
       assertDoesNotThrow(() -> permissionService.revokeAccess(1L, "owner"));
@@ -513,8 +535,7 @@ class RCPermissionServiceTest {
     @DisplayName("Should throw SecurityException when requester is not owner")
     void shouldThrowSecurityExceptionWhenRequesterNotOwner() {
       when(accessRepository.findById(1L)).thenReturn(Optional.of(testAccess));
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       assertThrows(SecurityException.class, () ->
           permissionService.revokeAccess(1L, "testuser"));
@@ -537,9 +558,6 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return true when user is RC owner")
     void shouldReturnTrueWhenRCOwner() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
-
       boolean result = permissionService.isOwner(1L, "owner");
 
       assertTrue(result);
@@ -548,19 +566,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return true when user has explicit OWNER access")
     void shouldReturnTrueWhenExplicitOwnerAccess() {
-      User anotherOwner = new User();
-      anotherOwner.setId(3L);
-      anotherOwner.setUsername("anotherowner");
-
-      RCAccess ownerAccess = new RCAccess();
-      ownerAccess.setResponsibilityCentre(testRC);
-      ownerAccess.setUser(anotherOwner);
-      ownerAccess.setAccessLevel(AccessLevel.OWNER);
-
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("anotherowner")).thenReturn(Optional.of(anotherOwner));
-      when(accessRepository.findAllAccessForUserInRC(eq(testRC), eq(anotherOwner), any()))
-          .thenReturn(List.of(ownerAccess));
+      grant("anotherowner", "anotherowner", AccessLevel.OWNER);
 
       boolean result = permissionService.isOwner(1L, "anotherowner");
 
@@ -570,10 +576,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return false when user has non-owner access")
     void shouldReturnFalseWhenNonOwnerAccess() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-      when(accessRepository.findAllAccessForUserInRC(eq(testRC), eq(testUser), any()))
-          .thenReturn(List.of(testAccess)); // READ_WRITE access
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       boolean result = permissionService.isOwner(1L, "testuser");
 
@@ -583,8 +586,6 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return false when RC not found")
     void shouldReturnFalseWhenRCNotFound() {
-      when(rcRepository.findById(999L)).thenReturn(Optional.empty());
-
       boolean result = permissionService.isOwner(999L, "owner");
 
       assertFalse(result);
@@ -593,11 +594,6 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return false when user not found in local DB or as principalIdentifier")
     void shouldReturnFalseWhenUserNotFound() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
-      when(accessRepository.findByPrincipalIdentifierIn(any()))
-          .thenReturn(Collections.emptyList());
-
       boolean result = permissionService.isOwner(1L, "nonexistent");
 
       assertFalse(result);
@@ -606,16 +602,8 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return true when LDAP user has OWNER access via principalIdentifier")
     void shouldReturnTrueWhenLdapUserHasOwnerAccessByIdentifier() {
-      RCAccess ldapOwnerAccess = new RCAccess();
-      ldapOwnerAccess.setResponsibilityCentre(testRC);
-      ldapOwnerAccess.setPrincipalIdentifier("ldapowner");
-      ldapOwnerAccess.setPrincipalType(PrincipalType.USER);
-      ldapOwnerAccess.setAccessLevel(AccessLevel.OWNER);
-
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("ldapowner")).thenReturn(Optional.empty());
-      when(accessRepository.findByPrincipalIdentifierIn(any()))
-          .thenReturn(List.of(ldapOwnerAccess));
+      // Directory user without a local record: the grant has no linked username
+      grant(null, "ldapowner", AccessLevel.OWNER);
 
       boolean result = permissionService.isOwner(1L, "ldapowner");
 
@@ -625,18 +613,10 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return true when user has OWNER access via group")
     void shouldReturnTrueWhenGroupHasOwnerAccess() {
-      RCAccess groupOwnerAccess = new RCAccess();
-      groupOwnerAccess.setResponsibilityCentre(testRC);
-      groupOwnerAccess.setPrincipalIdentifier("cn=admins,ou=groups,dc=example,dc=com");
-      groupOwnerAccess.setPrincipalType(PrincipalType.GROUP);
-      groupOwnerAccess.setAccessLevel(AccessLevel.OWNER);
-
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("ldapuser")).thenReturn(Optional.empty());
-      // SecurityContext has no auth in test, so group DNs are empty.
-      // But username is still added as an identifier.
-      when(accessRepository.findByPrincipalIdentifierIn(any()))
-          .thenReturn(List.of(groupOwnerAccess));
+      String groupDn = "cn=admins,ou=groups,dc=example,dc=com";
+      grant(null, groupDn, AccessLevel.OWNER);
+      SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(
+          "ldapuser", null, LdapSecurityConfig.LDAP_GROUP_DN_PREFIX + groupDn));
 
       boolean result = permissionService.isOwner(1L, "ldapuser");
 
@@ -651,10 +631,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return true when user has READ_WRITE access")
     void shouldReturnTrueWhenReadWriteAccess() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-      when(accessRepository.findAllAccessForUserInRC(eq(testRC), eq(testUser), any()))
-          .thenReturn(Arrays.asList(testAccess)); // READ_WRITE access
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       boolean result = permissionService.canEditContent(1L, "testuser", Collections.emptyList());
 
@@ -664,10 +641,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return true when user is owner")
     void shouldReturnTrueWhenOwner() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
       // Owner via RC.owner, not via explicit access
-
       boolean result = permissionService.canEditContent(1L, "owner", Collections.emptyList());
 
       assertTrue(result);
@@ -676,15 +650,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return false when user has READ_ONLY access")
     void shouldReturnFalseWhenReadOnlyAccess() {
-      RCAccess readOnlyAccess = new RCAccess();
-      readOnlyAccess.setResponsibilityCentre(testRC);
-      readOnlyAccess.setUser(testUser);
-      readOnlyAccess.setAccessLevel(AccessLevel.READ_ONLY);
-
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-      when(accessRepository.findAllAccessForUserInRC(eq(testRC), eq(testUser), any()))
-          .thenReturn(Arrays.asList(readOnlyAccess));
+      grant("testuser", "testuser", AccessLevel.READ_ONLY);
 
       boolean result = permissionService.canEditContent(1L, "testuser", Collections.emptyList());
 
@@ -694,14 +660,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return false when user has no access")
     void shouldReturnFalseWhenNoAccess() {
-      User noAccessUser = new User();
-      noAccessUser.setId(99L);
-      noAccessUser.setUsername("noaccess");
-
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("noaccess")).thenReturn(Optional.of(noAccessUser));
-      when(accessRepository.findAllAccessForUserInRC(eq(testRC), eq(noAccessUser), any()))
-          .thenReturn(Collections.emptyList());
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       boolean result = permissionService.canEditContent(1L, "noaccess", Collections.emptyList());
 
@@ -716,9 +675,6 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return OWNER when user is RC owner")
     void shouldReturnOwnerWhenRCOwner() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
-
       Optional<AccessLevel> result = permissionService.getEffectiveAccessLevel(1L, "owner", Collections.emptyList());
 
       assertTrue(result.isPresent());
@@ -728,10 +684,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return access level from direct user access")
     void shouldReturnDirectUserAccessLevel() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-      when(accessRepository.findAllAccessForUserInRC(eq(testRC), eq(testUser), any()))
-          .thenReturn(Arrays.asList(testAccess)); // READ_WRITE
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       Optional<AccessLevel> result = permissionService.getEffectiveAccessLevel(1L, "testuser", Collections.emptyList());
 
@@ -742,18 +695,10 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return highest access level from multiple accesses")
     void shouldReturnHighestAccessLevelFromGroups() {
-      RCAccess readOnlyAccess = new RCAccess();
-      readOnlyAccess.setAccessLevel(AccessLevel.READ_ONLY);
-
-      RCAccess readWriteAccess = new RCAccess();
-      readWriteAccess.setAccessLevel(AccessLevel.READ_WRITE);
-
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-      when(accessRepository.findAllAccessForUserInRC(eq(testRC), eq(testUser), any()))
-          .thenReturn(Arrays.asList(readOnlyAccess, readWriteAccess));
+      grant("testuser", "testuser", AccessLevel.READ_ONLY);
+      grant(null, "cn=finance", AccessLevel.READ_WRITE);
 
-      Optional<AccessLevel> result = permissionService.getEffectiveAccessLevel(1L, "testuser", Collections.emptyList());
+      Optional<AccessLevel> result = permissionService.getEffectiveAccessLevel(1L, "testuser", List.of("cn=finance"));
 
       assertTrue(result.isPresent());
       assertEquals(AccessLevel.READ_WRITE, result.get());
@@ -762,14 +707,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return empty when user has no access")
     void shouldReturnEmptyWhenNoAccess() {
-      User noAccessUser = new User();
-      noAccessUser.setId(99L);
-      noAccessUser.setUsername("noaccess");
-
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("noaccess")).thenReturn(Optional.of(noAccessUser));
-      when(accessRepository.findAllAccessForUserInRC(eq(testRC), eq(noAccessUser), any()))
-          .thenReturn(Collections.emptyList());
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       Optional<AccessLevel> result = permissionService.getEffectiveAccessLevel(1L, "noaccess", Collections.emptyList());
 
@@ -779,8 +717,6 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return empty when RC not found")
     void shouldReturnEmptyWhenRCNotFound() {
-      when(rcRepository.findById(999L)).thenReturn(Optional.empty());
-
       Optional<AccessLevel> result = permissionService.getEffectiveAccessLevel(999L, "owner", Collections.emptyList());
 
       assertFalse(result.isPresent());
@@ -789,17 +725,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return access level for LDAP user not in local DB")
     void shouldReturnAccessLevelForLdapUserNotInLocalDb() {
-      RCAccess ldapUserAccess = new RCAccess();
-      ldapUserAccess.setResponsibilityCentre(testRC);
-      ldapUserAccess.setPrincipalIdentifier("ldapuser");
-      ldapUserAccess.setPrincipalType(PrincipalType.USER);
-      ldapUserAccess.setAccessLevel(AccessLevel.READ_WRITE);
-
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("ldapuser")).thenReturn(Optional.empty());
-      when(accessRepository.findByPrincipalIdentifierIn(argThat(list ->
-          list.contains("ldapuser"))))
-          .thenReturn(List.of(ldapUserAccess));
+      grant(null, "ldapuser", AccessLevel.READ_WRITE);
 
       Optional<AccessLevel> result = permissionService.getEffectiveAccessLevel(1L, "ldapuser", Collections.emptyList());
 
@@ -810,11 +736,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return empty when LDAP user has no access")
     void shouldReturnEmptyWhenLdapUserHasNoAccess() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("ldapnoaccess")).thenReturn(Optional.empty());
-      when(accessRepository.findByPrincipalIdentifierIn(argThat(list ->
-          list.contains("ldapnoaccess"))))
-          .thenReturn(Collections.emptyList());
+      grant(null, "ldapuser", AccessLevel.READ_WRITE);
 
       Optional<AccessLevel> result = permissionService.getEffectiveAccessLevel(1L, "ldapnoaccess", Collections.emptyList());
 
@@ -829,9 +751,6 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return true when user is owner")
     void shouldReturnTrueWhenOwner() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("owner")).thenReturn(Optional.of(ownerUser));
-
       boolean result = permissionService.canManageRC(1L, "owner");
 
       assertTrue(result);
@@ -840,10 +759,7 @@ class RCPermissionServiceTest {
     @Test
     @DisplayName("Should return false when user is not owner")
     void shouldReturnFalseWhenNotOwner() {
-      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
-      when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-      when(accessRepository.findAllAccessForUserInRC(eq(testRC), eq(testUser), any()))
-          .thenReturn(List.of(testAccess)); // READ_WRITE access
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
 
       boolean result = permissionService.canManageRC(1L, "testuser");
 
@@ -851,6 +767,39 @@ class RCPermissionServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("hasAccess Tests")
+  class HasAccessTests {
+
+    @Test
+    @DisplayName("Should grant access from the matrix without loading the RC")
+    void shouldReturnTrueWhenGranted() {
+      grant("testuser", "testuser", AccessLevel.READ_ONLY);
+
+      assertTrue(permissionService.hasAccess(1L, "testuser"));
+      verify(rcRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should allow every user on the Demo RC")
+    void shouldReturnTrueForDemoRC() {
+      ResponsibilityCentre demoRC = new ResponsibilityCentre();
+      demoRC.setId(100L);
+      demoRC.setName("Demo");
+      when(rcRepository.findById(100L)).thenReturn(Optional.of(demoRC));
+
+      assertTrue(permissionService.hasAccess(100L, "testuser"));
+    }
+
+    @Test
+    @DisplayName("Should deny users without a grant")
+    void shouldReturnFalseWithoutAccess() {
+      when(rcRepository.findById(1L)).thenReturn(Optional.of(testRC));
+
+      assertFalse(permissionService.hasAccess(1L, "testuser"));
+    }
+  }
+
   @Nested
   @DisplayName("relinquishOwnership Tests")
   class RelinquishOwnershipTests {
@@ -1031,4 +980,54 @@ class RCPermissionServiceTest {
       verify(rcRepository).save(testRC);
     }
   }
+
+  @Nested
+  @DisplayName("Batch access Tests")
+  class BatchAccessTests {
+
+    @Test
+    @DisplayName("Should combine owned, granted and group RCs")
+    void shouldListAccessibleRcs() {
+      ownerRows.add(new Object[] {3L, "testuser"});
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
+      accessRows.add(new Object[] {2L, null, "cn=finance", AccessLevel.READ_ONLY});
+
+      Map<Long, AccessLevel> result =
+          permissionService.getAccessibleRCs("testuser", List.of("cn=finance"));
+
+      assertEquals(Map.of(1L, AccessLevel.READ_WRITE, 2L, AccessLevel.READ_ONLY, 3L, AccessLevel.OWNER),
+          result);
+    }
+
+    @Test
+    @DisplayName("Should answer batch checks from the matrix with no query per RC")
+    void shouldAnswerBatchChecksFromMatrix() {
+      accessRows.add(new Object[] {2L, "testuser", "testuser", AccessLevel.READ_ONLY});
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
+
+      assertEquals(Map.of(1L, AccessLevel.READ_WRITE, 2L, AccessLevel.READ_ONLY),
+          permissionService.getEffectiveAccessLevels(List.of(1L, 2L, 3L), "testuser", Collections.emptyList()));
+      assertFalse(permissionService.canEditContentInAll(List.of(1L, 2L), "testuser", Collections.emptyList()));
+      assertTrue(permissionService.canEditContentInAll(List.of(1L), "testuser", Collections.emptyList()));
+      verify(rcRepository, times(1)).findOwnerUsernames();
+      verify(accessRepository, times(1)).findAccessMatrixRows();
+      verify(rcRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should re-read the RC's grants after revoking access")
+    void shouldRefreshAfterRevoke() {
+      grant("testuser", "testuser", AccessLevel.READ_WRITE);
+      when(accessRepository.findById(1L)).thenReturn(Optional.of(testAccess));
+      assertTrue(permissionService.hasWriteAccess(1L, "testuser"));
+
+      when(rcRepository.findOwnerUsernamesByIdIn(List.of(1L))).thenReturn(List.<Object[]>of(new Object[] {1L, "owner"}));
+      when(accessRepository.findAccessMatrixRowsByRcIds(List.of(1L))).thenReturn(List.of());
+      permissionService.revokeAccess(1L, "owner");
+
+      verify(accessRepository).deleteAccessById(1L);
+      assertFalse(permissionService.hasWriteAccess(1L, "testuser"));
+      assertTrue(permissionService.isOwner(1L, "owner"));
+    }
+  }
 }
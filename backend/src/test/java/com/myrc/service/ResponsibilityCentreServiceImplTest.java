@@ -13,6 +13,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.myrc.cache.FiscalYearStateCache;
+import com.myrc.cache.NameCache;
+import com.myrc.cache.RCAccessMatrix;
 import com.myrc.dto.ResponsibilityCentreDTO;
 import com.myrc.model.RCAccess;
 import com.myrc.model.ResponsibilityCentre;
@@ -118,6 +121,15 @@ class ResponsibilityCentreServiceImplTest {
   @Mock
   private AuditService auditService;
 
+  @Mock
+  private NameCache nameCache;
+
+  @Mock
+  private FiscalYearStateCache fiscalYearStateCache;
+
+  @Mock
+  private RCAccessMatrix accessMatrix;
+
   private ResponsibilityCentreServiceImpl service;
 
   private User testUser;
@@ -145,7 +157,10 @@ class ResponsibilityCentreServiceImplTest {
         procurementEventRepository,
         procurementEventFileRepository,
         fiscalYearCloneService,
-        auditService
+        auditService,
+        nameCache,
+        fiscalYearStateCache,
+        accessMatrix
     );
 
     // Use reflection to set the entityManager field with a no-op implementation
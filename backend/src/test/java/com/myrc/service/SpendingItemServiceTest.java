@@ -37,6 +37,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.myrc.currency.CurrencyConverter;
+import com.myrc.currency.ExchangeRateCache;
 import com.myrc.dto.SpendingItemDTO;
 import com.myrc.dto.SpendingMoneyAllocationDTO;
 import com.myrc.model.Category;
@@ -102,6 +104,9 @@ class SpendingItemServiceTest {
   @Mock
   private RCPermissionService permissionService;
 
+  @Mock
+  private ExchangeRateCache exchangeRateCache;
+
   private SpendingItemServiceImpl spendingItemService;
 
   private User testUser;
@@ -125,7 +130,8 @@ class SpendingItemServiceTest {
         allocationRepository,
         spendingEventRepository,
         procurementEventRepository,
-        permissionService
+        permissionService,
+        new CurrencyConverter(exchangeRateCache)
     );
 
     // Setup test user
@@ -0,0 +1,175 @@
+/*
+ * myRC - Low-Write Session Repository Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+
+/**
+ * Unit tests for LowWriteSessionRepository.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LowWriteSessionRepository Tests")
+class LowWriteSessionRepositoryTest {
+
+  private static final Duration WINDOW = Duration.ofSeconds(60);
+
+  @Mock
+  private FindByIndexNameSessionRepository<MapSession> delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private LowWriteSessionRepository<MapSession> repository;
+  private MapSession stored;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    repository = new LowWriteSessionRepository<>(delegate, WINDOW, meterRegistry);
+    stored = new MapSession("session-1");
+    stored.setAttribute("roles", new ArrayList<>(List.of("USER")));
+  }
+
+  private LowWriteSessionRepository.TrackedSession<MapSession> load() {
+    when(delegate.findById("session-1")).thenReturn(stored);
+    return repository.findById("session-1");
+  }
+
+  @Test
+  @DisplayName("Should always save a new session")
+  void testNewSessionSaved() {
+    when(delegate.createSession()).thenReturn(new MapSession("new"));
+
+    LowWriteSessionRepository.TrackedSession<MapSession> session = repository.createSession();
+    repository.save(session);
+
+    verify(delegate).save(any(MapSession.class));
+    assertEquals(1.0, meterRegistry.get("myrc.session.saves").tag("result", "written").counter().count());
+  }
+
+  @Test
+  @DisplayName("Should skip saving a last-access change inside the window")
+  void testTouchInsideWindowSkipped() {
+    Instant storedAccess = stored.getLastAccessedTime();
+    LowWriteSessionRepository.TrackedSession<MapSession> session = load();
+
+    session.setLastAccessedTime(storedAccess.plusSeconds(30));
+    repository.save(session);
+
+    verify(delegate, never()).save(stored);
+    assertEquals(storedAccess.plusSeconds(30), session.getLastAccessedTime());
+    assertEquals(storedAccess, stored.getLastAccessedTime());
+    assertEquals(1.0, meterRegistry.get("myrc.session.saves").tag("result", "skipped").counter().count());
+    assertEquals(0.0, meterRegistry.get("myrc.session.writes.per.request").summary().totalAmount());
+  }
+
+  @Test
+  @DisplayName("Should write the last-access time once the window has passed")
+  void testTouchAfterWindowSaved() {
+    Instant storedAccess = stored.getLastAccessedTime();
+    LowWriteSessionRepository.TrackedSession<MapSession> session = load();
+
+    session.setLastAccessedTime(storedAccess.plusSeconds(61));
+    repository.save(session);
+
+    verify(delegate).save(stored);
+    assertEquals(storedAccess.plusSeconds(61), stored.getLastAccessedTime());
+
+    // The next touch is measured from the time just written
+    session.setLastAccessedTime(storedAccess.plusSeconds(90));
+    repository.save(session);
+    verify(delegate, times(1)).save(stored);
+  }
+
+  @Test
+  @DisplayName("Should not rewrite an attribute set to an equal value")
+  void testEqualAttributeSkipped() {
+    LowWriteSessionRepository.TrackedSession<MapSession> session = load();
+
+    session.setAttribute("roles", new ArrayList<>(List.of("USER")));
+    session.removeAttribute("missing");
+    repository.save(session);
+
+    verify(delegate, never()).save(stored);
+  }
+
+  @Test
+  @DisplayName("Should write changed attributes without touching the last-access time")
+  void testChangedAttributeSaved() {
+    Instant storedAccess = stored.getLastAccessedTime();
+    LowWriteSessionRepository.TrackedSession<MapSession> session = load();
+
+    session.setLastAccessedTime(storedAccess.plusSeconds(10));
+    session.setAttribute("roles", List.of("USER", "ADMIN"));
+    repository.save(session);
+
+    verify(delegate).save(stored);
+    assertEquals(List.of("USER", "ADMIN"), stored.getAttribute("roles"));
+    assertEquals(storedAccess, stored.getLastAccessedTime());
+    assertEquals(1.0, meterRegistry.get("myrc.session.writes.per.request").summary().totalAmount());
+  }
+
+  @Test
+  @DisplayName("Should rewrite an attribute set again as the same, possibly mutated, instance")
+  void testSameInstanceSaved() {
+    LowWriteSessionRepository.TrackedSession<MapSession> session = load();
+
+    List<String> roles = session.getAttribute("roles");
+    roles.add("ADMIN");
+    session.setAttribute("roles", roles);
+    repository.save(session);
+
+    verify(delegate).save(stored);
+  }
+
+  @Test
+  @DisplayName("Should carry the current last-access time when the id changes")
+  void testChangeSessionIdFlushesLastAccess() {
+    Instant storedAccess = stored.getLastAccessedTime();
+    LowWriteSessionRepository.TrackedSession<MapSession> session = load();
+
+    session.setLastAccessedTime(storedAccess.plusSeconds(5));
+    session.changeSessionId();
+    repository.save(session);
+
+    verify(delegate).save(stored);
+    assertEquals(storedAccess.plusSeconds(5), stored.getLastAccessedTime());
+  }
+
+  @Test
+  @DisplayName("Should expire from the real last-access time")
+  void testExpiryUsesLocalLastAccess() {
+    stored.setLastAccessedTime(Instant.now().minus(Duration.ofMinutes(31)));
+    LowWriteSessionRepository.TrackedSession<MapSession> session = load();
+    assertTrue(session.isExpired());
+
+    session.setLastAccessedTime(Instant.now());
+    assertFalse(session.isExpired());
+  }
+}
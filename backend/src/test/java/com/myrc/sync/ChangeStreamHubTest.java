@@ -0,0 +1,118 @@
+/*
+ * myRC - Change Stream Hub Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.myrc.config.SyncProperties;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Unit tests for ChangeStreamHub.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeStreamHub Tests")
+class ChangeStreamHubTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private SyncProperties properties;
+  private ChangeStreamHub hub;
+
+  @BeforeEach
+  void setUp() {
+    properties = new SyncProperties();
+    hub = new ChangeStreamHub(jdbcTemplate, properties);
+    lenient().when(jdbcTemplate.query(eq(ChangeStreamHub.COUNTER_SQL), any(RowMapper.class), eq(1L)))
+        .thenReturn(List.of(new long[] {10L, 2L}));
+  }
+
+  @AfterEach
+  void tearDown() {
+    hub.shutdown();
+  }
+
+  @Test
+  @DisplayName("Counts subscribers and enforces the per-replica limit")
+  void enforcesSubscriberLimit() {
+    properties.getPush().setMaxSubscribers(1);
+
+    assertNotNull(hub.subscribe(1L, null));
+    assertEquals(1, hub.getSubscriberCount());
+    assertThrows(IllegalStateException.class, () -> hub.subscribe(1L, null));
+    assertEquals(1, hub.getSubscriberCount());
+  }
+
+  @Test
+  @DisplayName("Replays retained changes after the client's last sequence")
+  void replaysFromLastSequence() {
+    hub.subscribe(1L, 7L);
+
+    verify(jdbcTemplate).query(eq(ChangeStreamHub.FETCH_SQL), any(RowMapper.class),
+        eq(1L), eq(7L), eq(10L));
+  }
+
+  @Test
+  @DisplayName("Does not replay when the last sequence was pruned")
+  void noReplayWhenPruned() {
+    hub.subscribe(1L, 1L);
+
+    verify(jdbcTemplate, never()).query(eq(ChangeStreamHub.FETCH_SQL), any(RowMapper.class),
+        any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Resyncs instead of replaying more changes than a subscriber may queue")
+  void noReplayBeyondQueueLimit() {
+    when(jdbcTemplate.query(eq(ChangeStreamHub.COUNTER_SQL), any(RowMapper.class), eq(4L)))
+        .thenReturn(List.of(new long[] {10L + ChangeStreamHub.MAX_PENDING_EVENTS, 2L}));
+
+    hub.subscribe(4L, 10L);
+
+    verify(jdbcTemplate, never()).query(eq(ChangeStreamHub.FETCH_SQL), any(RowMapper.class),
+        any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Ignores notifications for fiscal years without subscribers")
+  void ignoresUnwatchedFiscalYears() {
+    hub.deliver(2L, 5L);
+
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  @DisplayName("Notifies change listeners even without subscribers")
+  void notifiesChangeListeners() {
+    List<Long> changed = new ArrayList<>();
+    hub.addChangeListener(id -> {
+      throw new IllegalStateException("listener failure");
+    });
+    hub.addChangeListener(changed::add);
+
+    hub.deliver(2L, 5L);
+    hub.close(3L);
+
+    assertEquals(List.of(2L, 3L), changed);
+  }
+}
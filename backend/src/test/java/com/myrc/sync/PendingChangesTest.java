@@ -0,0 +1,99 @@
+/*
+ * myRC - Pending Changes Tests
+ * Copyright (c) 2026 myRC Team
+ * Licensed under MIT License
+ */
+package com.myrc.sync;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.myrc.model.ChangeEntityType;
+import com.myrc.model.FiscalYearChange.ChangeType;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for PendingChanges.
+ *
+ * @author myRC Team
+ * @version 1.0.0
+ * @since 2026-10-18
+ */
+@DisplayName("PendingChanges Tests")
+class PendingChangesTest {
+
+  private static PendingChange change(Long fyId, Long id, Long version, ChangeType type) {
+    return new PendingChange(fyId, ChangeEntityType.SPENDING_ITEM, id, version, type);
+  }
+
+  @Test
+  @DisplayName("Collapses repeated changes of an item to the highest version")
+  void collapsesToHighestVersion() {
+    PendingChanges changes = new PendingChanges();
+    changes.add(change(1L, 10L, 3L, ChangeType.UPSERT));
+    changes.add(change(1L, 10L, 2L, ChangeType.UPSERT));
+
+    assertEquals(1, changes.all().size());
+    assertEquals(3L, changes.all().iterator().next().entityVersion());
+  }
+
+  @Test
+  @DisplayName("A delete is never replaced by a later upsert")
+  void deleteWins() {
+    PendingChanges changes = new PendingChanges();
+    changes.add(change(1L, 10L, 3L, ChangeType.DELETE));
+    changes.add(change(1L, 10L, 4L, ChangeType.UPSERT));
+
+    assertEquals(ChangeType.DELETE, changes.all().iterator().next().changeType());
+  }
+
+  @Test
+  @DisplayName("Groups by fiscal year in ascending order and drops purged fiscal years")
+  void groupsByFiscalYear() {
+    PendingChanges changes = new PendingChanges();
+    changes.add(change(3L, 30L, 0L, ChangeType.UPSERT));
+    changes.add(change(1L, 10L, 0L, ChangeType.UPSERT));
+    changes.add(change(2L, 20L, 0L, ChangeType.UPSERT));
+    changes.purge(2L);
+
+    Map<Long, List<PendingChange>> grouped = changes.byFiscalYear();
+    assertEquals(List.of(1L, 3L), List.copyOf(grouped.keySet()));
+    assertFalse(changes.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Is not empty when only a fiscal year purge is pending")
+  void purgeOnlyIsNotEmpty() {
+    PendingChanges changes = new PendingChanges();
+    assertTrue(changes.isEmpty());
+    changes.purge(5L);
+    assertFalse(changes.isEmpty());
+    assertTrue(changes.byFiscalYear().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Touches the item's collection and skips purged fiscal years")
+  void touchesCollections() {
+    PendingChanges changes = new PendingChanges();
+    changes.add(change(1L, 10L, 0L, ChangeType.UPSERT));
+    changes.touch(2L, CollectionVersions.FISCAL_YEAR);
+    changes.purge(2L);
+
+    Map<Long, Set<String>> touched = changes.getTouchedCollections();
+    assertEquals(Set.of(1L), touched.keySet());
+    assertTrue(touched.get(1L).contains("spending-items"));
+  }
+
+  @Test
+  @DisplayName("An item change touches the monies and categories lists")
+  void itemChangeTouchesReferenceCollections() {
+    PendingChanges changes = new PendingChanges();
+    changes.add(change(1L, 10L, 0L, ChangeType.DELETE));
+
+    assertEquals(Set.of("categories", "monies", "spending-categories", "spending-items"),
+        changes.getTouchedCollections().get(1L));
+  }
+}
@@ -0,0 +1,10 @@
+-- Tables that only exist in the Flyway migrations. The rest of the test
+-- schema is generated from the entities; this script runs after it.
+
+-- V7: per fiscal year collection version stamps, read and bumped with plain SQL
+CREATE TABLE IF NOT EXISTS fy_collection_versions (
+    fiscal_year_id BIGINT NOT NULL,
+    collection VARCHAR(48) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (fiscal_year_id, collection)
+);
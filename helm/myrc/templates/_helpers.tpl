@@ -77,6 +77,14 @@ Database selector labels
 app.kubernetes.io/component: database
 {{- end }}
 
+{{/*
+Database replica selector labels
+*/}}
+{{- define "myrc.database.replicaSelectorLabels" -}}
+{{ include "myrc.selectorLabels" . }}
+app.kubernetes.io/component: database-replica
+{{- end }}
+
 {{/*
 Service account name
 */}}
@@ -128,6 +136,17 @@ JDBC URL
 jdbc:postgresql://{{ include "myrc.databaseHost" . }}:{{ include "myrc.databasePort" . }}/{{ include "myrc.databaseName" . }}
 {{- end }}
 
+{{/*
+JDBC URL of the read replica, empty when no replica is configured
+*/}}
+{{- define "myrc.replicaJdbcUrl" -}}
+{{- if and .Values.postgresql.enabled .Values.postgresql.replica.enabled }}
+{{- printf "jdbc:postgresql://%s-postgres-replica:5432/%s" (include "myrc.fullname" .) (include "myrc.databaseName" .) }}
+{{- else if and (not .Values.postgresql.enabled) .Values.externalDatabase.replicaHost }}
+{{- printf "jdbc:postgresql://%s:%v/%s" .Values.externalDatabase.replicaHost .Values.externalDatabase.port (include "myrc.databaseName" .) }}
+{{- end }}
+{{- end }}
+
 {{/*
 Database secret name
 */}}